@@ -37,6 +37,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ModifiableObservableListBase;
 import org.eclipse.xtext.xbase.lib.Pure;
 
+import org.arakhne.afc.math.geometry.BoundingVolumeHierarchy;
 import org.arakhne.afc.math.geometry.MathFXAttributeNames;
 import org.arakhne.afc.math.geometry.d2.afp.MultiShape2afp;
 import org.arakhne.afc.vmutil.asserts.AssertMessages;
@@ -47,6 +48,9 @@ import org.arakhne.afc.vmutil.asserts.AssertMessages;
  *
  * <p>Caution: The multishape does not detect the bound change of the stored shapes.
  *
+ * <p>When the multishape contains many shapes, the queries use a bounding-volume hierarchy on the
+ * inner shapes. This hierarchy is built on demand, and it is reset on each change of the elements property.
+ *
  * @param <T> the type of the shapes inside the multishape.
  * @author $Author: tpiotrow$
  * @author $Author: sgalland$
@@ -63,6 +67,8 @@ public class MultiShape2dfx<T extends Shape2dfx<?>> extends AbstractShape2dfx<Mu
 
 	private ListProperty<T> elements;
 
+	private transient BoundingVolumeHierarchy spatialIndex;
+
 	/**
 	 * Construct an empty multishape.
 	 */
@@ -103,10 +109,25 @@ public class MultiShape2dfx<T extends Shape2dfx<?>> extends AbstractShape2dfx<Mu
 	public ListProperty<T> elementsProperty() {
 		if (this.elements == null) {
 			this.elements = new SimpleListProperty<>(this, MathFXAttributeNames.ELEMENTS, new InternalObservableList<>());
+			this.elements.addListener((InvalidationListener) it -> this.spatialIndex = null);
 		}
 		return this.elements;
 	}
 
+	@Pure
+	@Override
+	public BoundingVolumeHierarchy getSpatialIndex() {
+		if (this.spatialIndex == null && getBackendDataList().size() >= BoundingVolumeHierarchy.MIN_INDEXED_SIZE) {
+			this.spatialIndex = createSpatialIndex();
+		}
+		return this.spatialIndex;
+	}
+
+	@Override
+	public void onBackendDataChange() {
+		this.spatialIndex = null;
+	}
+
 	@Override
 	public ObjectProperty<Rectangle2dfx> boundingBoxProperty() {
 		if (this.boundingBox == null) {
@@ -141,6 +162,7 @@ public class MultiShape2dfx<T extends Shape2dfx<?>> extends AbstractShape2dfx<Mu
 			}
 		}
 		clone.boundingBox = null;
+		clone.spatialIndex = null;
 		return clone;
 	}
 
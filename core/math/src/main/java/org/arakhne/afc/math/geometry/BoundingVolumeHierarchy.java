@@ -0,0 +1,369 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Bounding-volume hierarchy on axis-aligned boxes.
+ *
+ * <p>This hierarchy indexes a fixed set of boxes, that are identified by their positions in the
+ * set. It is a binary tree: the boxes are split at the median of their centers along the axis of
+ * the largest spread, until a node contains at most {@link #LEAF_SIZE} boxes.
+ * The bounds of the nodes are stored in a primitive array.
+ *
+ * <p>The hierarchy is not updated when the indexed boxes are changed; it must be built again.
+ * It is used by the multishapes for pruning their inner shapes in the geometric queries.
+ *
+ * <p>The bounds of the boxes, and the bounds given to the queries, are given in the order:
+ * minimal coordinates, then maximal coordinates, e.g. {@code minx, miny, maxx, maxy}
+ * in 2D, or {@code minx, miny, minz, maxx, maxy, maxz} in 3D.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public final class BoundingVolumeHierarchy {
+
+	/** Minimal number of shapes for which the multishapes build a hierarchy.
+	 * Under this number, the inner shapes are tested one by one.
+	 */
+	public static final int MIN_INDEXED_SIZE = 16;
+
+	/** Maximal number of boxes in a leaf.
+	 */
+	public static final int LEAF_SIZE = 4;
+
+	private final int dimension;
+
+	private final int count;
+
+	private final double[] bounds;
+
+	private final int[] order;
+
+	private final double[] nodeBounds;
+
+	private final int[] nodeStart;
+
+	private final int[] nodeEnd;
+
+	/** Index of the left child of each node; the right child follows it. It is negative for the leaves.
+	 */
+	private final int[] nodeChild;
+
+	private int nodeCount;
+
+	/** Build the hierarchy on the given boxes.
+	 *
+	 * @param dimension the number of dimensions of the boxes.
+	 * @param bounds the bounds of the boxes, {@code 2 * dimension} values per box.
+	 * @param count the number of boxes.
+	 */
+	public BoundingVolumeHierarchy(int dimension, double[] bounds, int count) {
+		assert dimension > 0 : AssertMessages.invalidValue(0);
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter(2);
+		assert bounds != null && bounds.length >= count * 2 * dimension
+				: AssertMessages.tooSmallArrayParameter(1, bounds == null ? 0 : bounds.length, count * 2 * dimension);
+		this.dimension = dimension;
+		this.count = count;
+		this.bounds = bounds;
+		this.order = new int[count];
+		for (int i = 0; i < count; ++i) {
+			this.order[i] = i;
+		}
+		final int maxNodes = Math.max(1, 2 * count);
+		this.nodeBounds = new double[maxNodes * 2 * dimension];
+		this.nodeStart = new int[maxNodes];
+		this.nodeEnd = new int[maxNodes];
+		this.nodeChild = new int[maxNodes];
+		this.nodeCount = 1;
+		build(0, 0, count);
+	}
+
+	/** Replies the number of dimensions of the boxes.
+	 *
+	 * @return the number of dimensions.
+	 */
+	@Pure
+	public int getDimension() {
+		return this.dimension;
+	}
+
+	/** Replies the number of indexed boxes.
+	 *
+	 * @return the number of boxes.
+	 */
+	@Pure
+	public int size() {
+		return this.count;
+	}
+
+	/** Replies the number of nodes in the hierarchy.
+	 *
+	 * @return the number of nodes.
+	 */
+	@Pure
+	public int getNodeCount() {
+		return this.nodeCount;
+	}
+
+	private void build(int node, int start, int end) {
+		final int dim = this.dimension;
+		final int nodeOffset = node * 2 * dim;
+		// Compute the bounds of the node, and the spread of the centers
+		final double[] centerMin = new double[dim];
+		final double[] centerMax = new double[dim];
+		Arrays.fill(this.nodeBounds, nodeOffset, nodeOffset + dim, Double.POSITIVE_INFINITY);
+		Arrays.fill(this.nodeBounds, nodeOffset + dim, nodeOffset + 2 * dim, Double.NEGATIVE_INFINITY);
+		Arrays.fill(centerMin, Double.POSITIVE_INFINITY);
+		Arrays.fill(centerMax, Double.NEGATIVE_INFINITY);
+		for (int i = start; i < end; ++i) {
+			final int offset = this.order[i] * 2 * dim;
+			for (int axis = 0; axis < dim; ++axis) {
+				final double min = this.bounds[offset + axis];
+				final double max = this.bounds[offset + dim + axis];
+				this.nodeBounds[nodeOffset + axis] = Math.min(this.nodeBounds[nodeOffset + axis], min);
+				this.nodeBounds[nodeOffset + dim + axis] = Math.max(this.nodeBounds[nodeOffset + dim + axis], max);
+				final double center = min + max;
+				centerMin[axis] = Math.min(centerMin[axis], center);
+				centerMax[axis] = Math.max(centerMax[axis], center);
+			}
+		}
+		this.nodeStart[node] = start;
+		this.nodeEnd[node] = end;
+		if (end - start <= LEAF_SIZE) {
+			this.nodeChild[node] = -1;
+			return;
+		}
+		int splitAxis = 0;
+		for (int axis = 1; axis < dim; ++axis) {
+			if (centerMax[axis] - centerMin[axis] > centerMax[splitAxis] - centerMin[splitAxis]) {
+				splitAxis = axis;
+			}
+		}
+		final int middle = (start + end) >>> 1;
+		select(splitAxis, start, end - 1, middle);
+		final int left = this.nodeCount;
+		this.nodeCount += 2;
+		this.nodeChild[node] = left;
+		build(left, start, middle);
+		build(left + 1, middle, end);
+	}
+
+	private double centerKey(int index, int axis) {
+		final int offset = index * 2 * this.dimension;
+		return this.bounds[offset + axis] + this.bounds[offset + this.dimension + axis];
+	}
+
+	/** Partially sort the range of {@link #order} for putting the element of rank {@code rank} at its place,
+	 * the lower elements before it, and the greater elements after it.
+	 */
+	private void select(int axis, int left, int right, int rank) {
+		final int[] ord = this.order;
+		int lo = left;
+		int hi = right;
+		while (hi > lo) {
+			final double pivot = centerKey(ord[(lo + hi) >>> 1], axis);
+			int i = lo;
+			int j = hi;
+			while (i <= j) {
+				while (centerKey(ord[i], axis) < pivot) {
+					++i;
+				}
+				while (centerKey(ord[j], axis) > pivot) {
+					--j;
+				}
+				if (i <= j) {
+					final int tmp = ord[i];
+					ord[i] = ord[j];
+					ord[j] = tmp;
+					++i;
+					--j;
+				}
+			}
+			if (rank <= j) {
+				hi = j;
+			} else if (rank >= i) {
+				lo = i;
+			} else {
+				return;
+			}
+		}
+	}
+
+	private boolean intersects(double[] array, int offset, double[] query) {
+		final int dim = this.dimension;
+		for (int axis = 0; axis < dim; ++axis) {
+			if (array[offset + dim + axis] < query[axis] || array[offset + axis] > query[dim + axis]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private double distanceSquared(double[] array, int offset, double[] query) {
+		final int dim = this.dimension;
+		double distance = 0.;
+		for (int axis = 0; axis < dim; ++axis) {
+			final double gap = Math.max(0., Math.max(query[axis] - array[offset + dim + axis],
+					array[offset + axis] - query[dim + axis]));
+			distance += gap * gap;
+		}
+		return distance;
+	}
+
+	/** Replies the positions of the boxes that are intersecting the given box.
+	 * The boxes that are touching the given box are considered as intersecting.
+	 *
+	 * @param query the bounds of the box, {@code 2 * dimension} values.
+	 * @return the positions of the boxes, sorted in increasing order.
+	 */
+	@Pure
+	public int[] getIndexesInBounds(double... query) {
+		assert query != null && query.length >= 2 * this.dimension
+				: AssertMessages.tooSmallArrayParameter(query == null ? 0 : query.length, 2 * this.dimension);
+		if (this.count == 0) {
+			return new int[0];
+		}
+		final int[] buffer = new int[this.count];
+		final int size = collect(0, query, buffer, 0);
+		final int[] result = Arrays.copyOf(buffer, size);
+		Arrays.sort(result);
+		return result;
+	}
+
+	private int collect(int node, double[] query, int[] buffer, int size) {
+		final int dim2 = 2 * this.dimension;
+		if (!intersects(this.nodeBounds, node * dim2, query)) {
+			return size;
+		}
+		final int child = this.nodeChild[node];
+		if (child >= 0) {
+			return collect(child + 1, query, buffer, collect(child, query, buffer, size));
+		}
+		int nsize = size;
+		for (int i = this.nodeStart[node]; i < this.nodeEnd[node]; ++i) {
+			final int index = this.order[i];
+			if (intersects(this.bounds, index * dim2, query)) {
+				buffer[nsize++] = index;
+			}
+		}
+		return nsize;
+	}
+
+	/** Replies the position of the box that minimizes the given distance function.
+	 *
+	 * <p>The distance function must reply a value that is greater than or equal to the square
+	 * distance between the given query box and the box at the given position. It is invoked only for the
+	 * boxes that may be the nearest. If several boxes have the same distance, the lowest position
+	 * is replied.
+	 *
+	 * @param distance the function that computes the square distance from the position of a box.
+	 * @param query the bounds of the box that is enclosing the queried object, {@code 2 * dimension} values.
+	 * @return the position of the nearest box, or {@code -1} if there is no box, or if all the distances are
+	 *     not finite.
+	 */
+	@Pure
+	public int findNearest(IntToDoubleFunction distance, double... query) {
+		assert distance != null : AssertMessages.notNullParameter(0);
+		assert query != null && query.length >= 2 * this.dimension
+				: AssertMessages.tooSmallArrayParameter(1, query == null ? 0 : query.length, 2 * this.dimension);
+		if (this.count == 0) {
+			return -1;
+		}
+		final NearestSearch search = new NearestSearch(distance, query);
+		searchNearest(0, search);
+		return search.index;
+	}
+
+	private void searchNearest(int node, NearestSearch search) {
+		final int dim2 = 2 * this.dimension;
+		final int child = this.nodeChild[node];
+		if (child >= 0) {
+			final double left = distanceSquared(this.nodeBounds, child * dim2, search.query);
+			final double right = distanceSquared(this.nodeBounds, (child + 1) * dim2, search.query);
+			// Explore the nearest child first for pruning the other
+			if (right < left) {
+				if (right <= search.distance) {
+					searchNearest(child + 1, search);
+				}
+				if (left <= search.distance) {
+					searchNearest(child, search);
+				}
+			} else {
+				if (left <= search.distance) {
+					searchNearest(child, search);
+				}
+				if (right <= search.distance) {
+					searchNearest(child + 1, search);
+				}
+			}
+			return;
+		}
+		for (int i = this.nodeStart[node]; i < this.nodeEnd[node]; ++i) {
+			final int index = this.order[i];
+			if (distanceSquared(this.bounds, index * dim2, search.query) <= search.distance) {
+				final double dist = search.function.applyAsDouble(index);
+				if (dist < search.distance || (dist == search.distance && index < search.index)) {
+					search.distance = dist;
+					search.index = index;
+				}
+			}
+		}
+	}
+
+	/** State of the search of the nearest box.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class NearestSearch {
+
+		final IntToDoubleFunction function;
+
+		final double[] query;
+
+		double distance = Double.POSITIVE_INFINITY;
+
+		int index = -1;
+
+		/**
+		 * @param function the distance function.
+		 * @param query the bounds of the query.
+		 */
+		NearestSearch(IntToDoubleFunction function, double[] query) {
+			this.function = function;
+			this.query = query;
+		}
+
+	}
+
+}
@@ -56,4 +56,30 @@ public enum PathElementType {
 	 */
 	CLOSE;
 
+	private static final PathElementType[] VALUES = values();
+
+	/** Replies the compact code of this type.
+	 *
+	 * <p>The code is the ordinal of the type. It is used by the paths for storing
+	 * the types of their elements into arrays of primitive values.
+	 *
+	 * @return the code of this type.
+	 * @since 14.0
+	 * @see #fromCode(byte)
+	 */
+	public byte code() {
+		return (byte) ordinal();
+	}
+
+	/** Replies the type that corresponds to the given compact code.
+	 *
+	 * @param code the code of the type.
+	 * @return the type.
+	 * @since 14.0
+	 * @see #code()
+	 */
+	public static PathElementType fromCode(byte code) {
+		return VALUES[code];
+	}
+
 }
@@ -871,6 +871,38 @@ public interface Vector2D<RV extends Vector2D<? super RV, ? super RP>, RP extend
 		sub(v);
 	}
 
+	/** Scale this vector: {@code this *= factor}.
+	 *
+	 * <p>This function is an implementation of the operator for
+	 * the languages that defined or based on the
+	 * <a href="https://www.eclipse.org/Xtext/">Xtext framework</a>.
+	 *
+	 * <p>Contrary to {@link #operator_multiply(double)}, this operator does not allocate a new vector.
+	 *
+	 * @param factor the scaling factor.
+	 * @see #scale(double)
+	 */
+	@XtextOperator("*=")
+	default void operator_multiplyAssign(double factor) {
+		scale(factor);
+	}
+
+	/** Divide this vector by the given factor: {@code this /= factor}.
+	 *
+	 * <p>This function is an implementation of the operator for
+	 * the languages that defined or based on the
+	 * <a href="https://www.eclipse.org/Xtext/">Xtext framework</a>.
+	 *
+	 * <p>Contrary to {@link #operator_divide(double)}, this operator does not allocate a new vector.
+	 *
+	 * @param factor the division factor.
+	 * @see #scale(double)
+	 */
+	@XtextOperator("/=")
+	default void operator_divideAssign(double factor) {
+		scale(1. / factor);
+	}
+
 	/** Dot product: {@code this * v}.
 	 *
 	 * <p>This function is an implementation of the operator for
@@ -40,13 +40,13 @@ class ClosestPointPathShadow2afp {
 
     private final PathIterator2afp<?> pathIterator;
 
-    private final Point2D<?, ?> otherShapeClosestPoint = new InnerComputationPoint2afp();
+    private final Point2D<?, ?> otherShapeClosestPoint;
 
-    private final Point2D<?, ?> shadowShapeClosestPoint = new InnerComputationPoint2afp();
+    private final Point2D<?, ?> shadowShapeClosestPoint;
 
-    private final Point2D<?, ?> temporaryPoint1 = new InnerComputationPoint2afp();
+    private final Point2D<?, ?> temporaryPoint1;
 
-    private final Point2D<?, ?> temporaryPoint2 = new InnerComputationPoint2afp();
+    private final Point2D<?, ?> temporaryPoint2;
 
     private double minDistance = Double.POSITIVE_INFINITY;
 
@@ -71,11 +71,19 @@ class ClosestPointPathShadow2afp {
     /** Construct new path shadow.
      * @param pathIterator the iterator on the path that is constituting the shadow.
      * @param bounds the bounds of the shadow.
+     * @param scratch the scratch context from which the temporary points are taken. The shadow
+     *     must not be used after the closing of the current scope of this context.
      */
-    ClosestPointPathShadow2afp(PathIterator2afp<?> pathIterator, Rectangle2afp<?, ?, ?, ?, ?, ?> bounds) {
+    ClosestPointPathShadow2afp(PathIterator2afp<?> pathIterator, Rectangle2afp<?, ?, ?, ?, ?, ?> bounds,
+            InnerComputationScratch2afp scratch) {
         assert pathIterator != null : AssertMessages.notNullParameter(0);
         assert bounds != null : AssertMessages.notNullParameter(1);
+        assert scratch != null : AssertMessages.notNullParameter(2);
         this.pathIterator = pathIterator;
+        this.otherShapeClosestPoint = scratch.point();
+        this.shadowShapeClosestPoint = scratch.point();
+        this.temporaryPoint1 = scratch.point();
+        this.temporaryPoint2 = scratch.point();
         this.boundingMinX = bounds.getMinX();
         this.boundingMinY = bounds.getMinY();
         this.boundingMaxY = bounds.getMaxY();
@@ -136,7 +136,6 @@ public interface Ellipse2afp<
         final double translateY;
         double pointX;
         double pointY;
-        final double[] data;
 
         // The basic algorithm assumes ew >= eh => swap coordinates.
         if (ew >= eh) {
@@ -156,32 +155,13 @@ public interface Ellipse2afp<
         }
 
         // The basic algorithm work only for the positive quadrant => switch the coordinates if necessary.
-        if (pointX < 0.) {
-            if (pointY < 0.) {
-                data = PrivateAPI.computeClosestPointOnSolidEllipseInPositiveQuadrant(
-                        -pointX, -pointY,
-                        e0, e1, false);
-                pointY = -data[1];
-            } else {
-                data = PrivateAPI.computeClosestPointOnSolidEllipseInPositiveQuadrant(
-                        -pointX, pointY,
-                        e0, e1, false);
-                pointY = data[1];
-            }
-            pointX = -data[0];
-        } else {
-            if (pointY < 0.) {
-                data = PrivateAPI.computeClosestPointOnSolidEllipseInPositiveQuadrant(
-                        pointX, -pointY,
-                        e0, e1, false);
-                pointY = -data[1];
-            } else {
-                data = PrivateAPI.computeClosestPointOnSolidEllipseInPositiveQuadrant(
-                        pointX, pointY,
-                        e0, e1, false);
-                pointY = data[1];
-            }
-            pointX = data[0];
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> data = scratch.point();
+            PrivateAPI.computeClosestPointOnSolidEllipseInPositiveQuadrant(
+                    Math.abs(pointX), Math.abs(pointY),
+                    e0, e1, false, data);
+            pointX = pointX < 0. ? -data.getX() : data.getX();
+            pointY = pointY < 0. ? -data.getY() : data.getY();
         }
 
         // Revert translation and swaping of coordinates
@@ -239,7 +219,6 @@ public interface Ellipse2afp<
         final double translateY;
         double pointX;
         double pointY;
-        final double[] data;
 
         // The basic algorithm assumes ew >= eh => swap coordinates.
         if (ew >= eh) {
@@ -259,32 +238,13 @@ public interface Ellipse2afp<
         }
 
         // The basic algorithm work only for the positive quadrant => switch the coordinates if necessary.
-        if (pointX < 0.) {
-            if (pointY < 0.) {
-                data = PrivateAPI.computeClosestPointOnShallowEllipseInPositiveQuadrant(
-                        -pointX, -pointY,
-                        e0, e1, false);
-                pointY = -data[1];
-            } else {
-                data = PrivateAPI.computeClosestPointOnShallowEllipseInPositiveQuadrant(
-                        -pointX, pointY,
-                        e0, e1, false);
-                pointY = data[1];
-            }
-            pointX = -data[0];
-        } else {
-            if (pointY < 0.) {
-                data = PrivateAPI.computeClosestPointOnShallowEllipseInPositiveQuadrant(
-                        pointX, -pointY,
-                        e0, e1, false);
-                pointY = -data[1];
-            } else {
-                data = PrivateAPI.computeClosestPointOnShallowEllipseInPositiveQuadrant(
-                        pointX, pointY,
-                        e0, e1, false);
-                pointY = data[1];
-            }
-            pointX = data[0];
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> data = scratch.point();
+            PrivateAPI.computeClosestPointOnShallowEllipseInPositiveQuadrant(
+                    Math.abs(pointX), Math.abs(pointY),
+                    e0, e1, false, data);
+            pointX = pointX < 0. ? -data.getX() : data.getX();
+            pointY = pointY < 0. ? -data.getY() : data.getY();
         }
 
         // Revert translation and swaping of coordinates
@@ -496,11 +456,13 @@ public interface Ellipse2afp<
         assert ewidth >= 0. : AssertMessages.positiveOrZeroParameter(2);
         assert eheight >= 0. : AssertMessages.positiveOrZeroParameter(3);
         assert cradius >= 0. : AssertMessages.positiveOrZeroParameter(6);
-        final Point2D<?, ?> p = new InnerComputationPoint2afp();
-        findsClosestPointSolidEllipsePoint(cx, cy, ex, ey, ewidth, eheight, p);
-        final double dx = p.getX() - cx;
-        final double dy = p.getY() - cy;
-        return (dx * dx + dy * dy) < (cradius * cradius);
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> p = scratch.point();
+            findsClosestPointSolidEllipsePoint(cx, cy, ex, ey, ewidth, eheight, p);
+            final double dx = p.getX() - cx;
+            final double dy = p.getY() - cy;
+            return (dx * dx + dy * dy) < (cradius * cradius);
+        }
     }
 
     /** Replies if an ellipse and a line are intersecting.
@@ -1399,6 +1361,38 @@ public interface Ellipse2afp<
                 double px, double py,
                 double horizontalRadius, double verticalRadius,
                 boolean computeDistance) {
+            final Point2D<?, ?> closest = new InnerComputationPoint2afp();
+            final double distance = computeClosestPointOnShallowEllipseInPositiveQuadrant(
+                    px, py, horizontalRadius, verticalRadius, computeDistance, closest);
+            if (computeDistance) {
+                return new double[] {closest.getX(),  closest.getY(), distance};
+            }
+            return new double[] {closest.getX(),  closest.getY()};
+        }
+
+        /** Compute the closest point to a shallow ellipse centered on (0, 0) and in the positive quadrant.
+         * The coordinates of the point must be positive.
+         *
+         * <p>The mathematrical definition of the algorithm is explained in:
+         * <a href="./doc-files/DistancePointEllipseEllipsoid.pdf">DistancePointEllipseEllipsoid.pdf</a>
+         * (source: <a href="http://www.geometrictools.com/">geometrictools.com</a>).
+         *
+         * @param px the x coordinate of the point. It must be positive or nul.
+         * @param py the y coordinate of the point. It must be positive or nul.
+         * @param horizontalRadius the horizontal radius.
+         * @param verticalRadius the vertical radius.
+         * @param computeDistance indicates if the distance musst be computed and replied.
+         * @param closest the closest point.
+         * @return the distance to the closest point if <code>computeDistance</code> if <code>true</code>.
+         *     Otherwise, <code>0</code>.
+         * @since 14.0
+         */
+        @Unefficient
+        public static double computeClosestPointOnShallowEllipseInPositiveQuadrant(
+                double px, double py,
+                double horizontalRadius, double verticalRadius,
+                boolean computeDistance, Point2D<?, ?> closest) {
+            assert closest != null : AssertMessages.notNullParameter(5);
             assert px >= 0 : AssertMessages.positiveOrZeroParameter(0);
             assert py >= 0 : AssertMessages.positiveOrZeroParameter(1);
             assert horizontalRadius >= 0 : AssertMessages.positiveOrZeroParameter(2);
@@ -1456,10 +1450,8 @@ public interface Ellipse2afp<
                     }
                 }
             }
-            if (computeDistance) {
-                return new double[] {closeX,  closeY, distance};
-            }
-            return new double[] {closeX,  closeY};
+            closest.set(closeX, closeY);
+            return distance;
         }
 
         /** Compute the closest point to a solid ellipse centered on (0, 0) and in the positive quadrant.
@@ -1483,6 +1475,39 @@ public interface Ellipse2afp<
                 double px, double py,
                 double horizontalRadius, double verticalRadius,
                 boolean computeDistance) {
+            final Point2D<?, ?> closest = new InnerComputationPoint2afp();
+            final double distance = computeClosestPointOnSolidEllipseInPositiveQuadrant(
+                    px, py, horizontalRadius, verticalRadius, computeDistance, closest);
+            if (computeDistance) {
+                return new double[] {closest.getX(),  closest.getY(), distance};
+            }
+            return new double[] {closest.getX(),  closest.getY()};
+        }
+
+        /** Compute the closest point to a solid ellipse centered on (0, 0) and in the positive quadrant.
+         * The coordinates of the point must be positive.
+         *
+         * <p>The mathematrical definition of the algorithm is explained in:
+         * <a href="./doc-files/DistancePointEllipseEllipsoid.pdf">DistancePointEllipseEllipsoid.pdf</a>
+         * (source: <a href="http://www.geometrictools.com/">geometrictools.com</a>).
+         *
+         * @param px the x coordinate of the point. It must be positive or nul.
+         * @param py the y coordinate of the point. It must be positive or nul.
+         * @param horizontalRadius the horizontal radius.
+         * @param verticalRadius the vertical radius.
+         * @param computeDistance indicates if the distance musst be computed and replied.
+         * @param closest the closest point.
+         * @return the distance to the closest point if <code>computeDistance</code> if <code>true</code>.
+         *     Otherwise, <code>0</code>.
+         * @since 14.0
+         */
+        @Unefficient
+        @SuppressWarnings("checkstyle:nestedifdepth")
+        public static double computeClosestPointOnSolidEllipseInPositiveQuadrant(
+                double px, double py,
+                double horizontalRadius, double verticalRadius,
+                boolean computeDistance, Point2D<?, ?> closest) {
+            assert closest != null : AssertMessages.notNullParameter(5);
             assert px >= 0 : AssertMessages.positiveOrZeroParameter(0);
             assert py >= 0 : AssertMessages.positiveOrZeroParameter(1);
             assert horizontalRadius >= 0 : AssertMessages.positiveOrZeroParameter(2);
@@ -1549,10 +1574,8 @@ public interface Ellipse2afp<
                     }
                 }
             }
-            if (computeDistance) {
-                return new double[] {closeX,  closeY, distance};
-            }
-            return new double[] {closeX,  closeY};
+            closest.set(closeX, closeY);
+            return distance;
         }
 
         @Unefficient
@@ -0,0 +1,263 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Flattened geometry of a path.
+ *
+ * <p>This object stores the elements that are replied by a flattening path iterator.
+ * It is immutable, and it is used by the path implementations for caching the
+ * approximation of their curves.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public final class FlattenedPath2afp {
+
+	/** The flatness that was used for building this flattened path.
+	 */
+	final double flatness;
+
+	/** Indicates if the flattened path is a polyline.
+	 */
+	final boolean isPolyline;
+
+	/** Indicates if the flattened path is a polygon.
+	 */
+	final boolean isPolygon;
+
+	/** Indicates if the flattened path has multiple parts.
+	 */
+	final boolean isMultiParts;
+
+	/** The types of the elements.
+	 */
+	final byte[] types;
+
+	/** The coordinates of the ending points of the elements, two by two.
+	 */
+	final double[] coords;
+
+	/** Store the elements that are replied by the given iterator.
+	 *
+	 * @param iterator the flattening iterator. It must reply only move, line and close elements.
+	 * @param flatness the flatness that is used by the iterator.
+	 */
+	public FlattenedPath2afp(PathIterator2afp<?> iterator, double flatness) {
+		assert iterator != null : AssertMessages.notNullParameter(0);
+		this.flatness = flatness;
+		this.isPolyline = iterator.isPolyline();
+		this.isPolygon = iterator.isPolygon();
+		this.isMultiParts = iterator.isMultiParts();
+		byte[] tps = new byte[Path2afp.GROW_SIZE];
+		double[] pts = new double[Path2afp.GROW_SIZE * 2];
+		final double[] buffer = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+		int size = 0;
+		while (iterator.hasNext()) {
+			final PathElementType type = iterator.next(buffer);
+			assert type == PathElementType.MOVE_TO || type == PathElementType.LINE_TO
+					|| type == PathElementType.CLOSE : AssertMessages.invalidValue(0);
+			if (size >= tps.length) {
+				tps = Arrays.copyOf(tps, tps.length * 2);
+				pts = Arrays.copyOf(pts, tps.length * 2);
+			}
+			tps[size] = type.code();
+			pts[size * 2] = buffer[0];
+			pts[size * 2 + 1] = buffer[1];
+			++size;
+		}
+		this.types = Arrays.copyOf(tps, size);
+		this.coords = Arrays.copyOf(pts, size * 2);
+	}
+
+	/** Replies the flatness that was used for building this flattened path.
+	 *
+	 * @return the flatness.
+	 */
+	@Pure
+	public double getFlatness() {
+		return this.flatness;
+	}
+
+	/** Replies the number of elements in this flattened path.
+	 *
+	 * @return the number of elements.
+	 */
+	@Pure
+	public int size() {
+		return this.types.length;
+	}
+
+	/** Replies an iterator on the elements of this flattened path.
+	 *
+	 * @param <T> the type of the path elements.
+	 * @param factory the factory of path elements.
+	 * @param windingRule the winding rule of the path.
+	 * @return the iterator.
+	 */
+	@Pure
+	public <T extends PathElement2afp> PathIterator2afp<T> getPathIterator(
+			GeomFactory2afp<T, ?, ?, ?> factory, PathWindingRule windingRule) {
+		assert factory != null : AssertMessages.notNullParameter(0);
+		assert windingRule != null : AssertMessages.notNullParameter(1);
+		return new FlattenedPathIterator<>(this, factory, windingRule);
+	}
+
+	/** Iterator on the elements of a flattened path.
+	 *
+	 * @param <T> the type of the path elements.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class FlattenedPathIterator<T extends PathElement2afp> implements PathIterator2afp<T> {
+
+		private final FlattenedPath2afp path;
+
+		private final GeomFactory2afp<T, ?, ?, ?> factory;
+
+		private final PathWindingRule windingRule;
+
+		private int index;
+
+		private double lastX;
+
+		private double lastY;
+
+		/**
+		 * @param path the iterated path.
+		 * @param factory the factory of path elements.
+		 * @param windingRule the winding rule.
+		 */
+		FlattenedPathIterator(FlattenedPath2afp path, GeomFactory2afp<T, ?, ?, ?> factory, PathWindingRule windingRule) {
+			this.path = path;
+			this.factory = factory;
+			this.windingRule = windingRule;
+		}
+
+		@Override
+		public PathIterator2afp<T> restartIterations() {
+			return new FlattenedPathIterator<>(this.path, this.factory, this.windingRule);
+		}
+
+		@Pure
+		@Override
+		public boolean hasNext() {
+			return this.index < this.path.types.length;
+		}
+
+		@Override
+		public T next() {
+			if (this.index >= this.path.types.length) {
+				throw new NoSuchElementException();
+			}
+			final PathElementType type = PathElementType.fromCode(this.path.types[this.index]);
+			final double x = this.path.coords[this.index * 2];
+			final double y = this.path.coords[this.index * 2 + 1];
+			++this.index;
+			final T element;
+			switch (type) {
+			case MOVE_TO:
+				element = this.factory.newMovePathElement(x, y);
+				break;
+			case CLOSE:
+				element = this.factory.newClosePathElement(this.lastX, this.lastY, x, y);
+				break;
+			//$CASES-OMITTED$
+			default:
+				element = this.factory.newLinePathElement(this.lastX, this.lastY, x, y);
+			}
+			this.lastX = x;
+			this.lastY = y;
+			return element;
+		}
+
+		@Override
+		public PathElementType next(double[] coords) {
+			assert coords != null && coords.length >= CURSOR_ARRAY_SIZE
+					: AssertMessages.tooSmallArrayParameter(coords == null ? 0 : coords.length, CURSOR_ARRAY_SIZE);
+			if (this.index >= this.path.types.length) {
+				throw new NoSuchElementException();
+			}
+			this.lastX = this.path.coords[this.index * 2];
+			this.lastY = this.path.coords[this.index * 2 + 1];
+			coords[0] = this.lastX;
+			coords[1] = this.lastY;
+			return PathElementType.fromCode(this.path.types[this.index++]);
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Pure
+		@Override
+		public PathWindingRule getWindingRule() {
+			return this.windingRule;
+		}
+
+		@Pure
+		@Override
+		public boolean isPolyline() {
+			return this.path.isPolyline;
+		}
+
+		@Pure
+		@Override
+		public boolean isCurved() {
+			return false;
+		}
+
+		@Pure
+		@Override
+		public boolean isPolygon() {
+			return this.path.isPolygon;
+		}
+
+		@Pure
+		@Override
+		public boolean isMultiParts() {
+			return this.path.isMultiParts;
+		}
+
+		@Pure
+		@Override
+		public GeomFactory2afp<T, ?, ?, ?> getGeomFactory() {
+			return this.factory;
+		}
+
+	}
+
+}
@@ -23,11 +23,13 @@ package org.arakhne.afc.math.geometry.d2.afp;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.math.MathConstants;
 import org.arakhne.afc.math.Unefficient;
+import org.arakhne.afc.math.geometry.BoundingVolumeHierarchy;
 import org.arakhne.afc.math.geometry.PathWindingRule;
 import org.arakhne.afc.math.geometry.d2.MultiShape2D;
 import org.arakhne.afc.math.geometry.d2.Point2D;
@@ -69,7 +71,7 @@ public interface MultiShape2afp<
 	default boolean intersects(Ellipse2afp<?, ?, ?, ?, ?, ?> ellipse) {
 		assert ellipse != null : AssertMessages.notNullParameter();
 		if (ellipse.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(ellipse)) {
 				if (shape.intersects(ellipse)) {
 					return true;
 				}
@@ -83,7 +85,7 @@ public interface MultiShape2afp<
 	default boolean intersects(Circle2afp<?, ?, ?, ?, ?, ?> circle) {
 		assert circle != null : AssertMessages.notNullParameter();
 		if (circle.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(circle)) {
 				if (shape.intersects(circle)) {
 					return true;
 				}
@@ -97,7 +99,7 @@ public interface MultiShape2afp<
 	default boolean intersects(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
 		assert rectangle != null : AssertMessages.notNullParameter();
 		if (rectangle.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(rectangle)) {
 				if (shape.intersects(rectangle)) {
 					return true;
 				}
@@ -111,7 +113,7 @@ public interface MultiShape2afp<
 	default boolean intersects(Segment2afp<?, ?, ?, ?, ?, ?> segment) {
 		assert segment != null : AssertMessages.notNullParameter();
 		if (segment.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(segment)) {
 				if (shape.intersects(segment)) {
 					return true;
 				}
@@ -125,7 +127,7 @@ public interface MultiShape2afp<
 	default boolean intersects(Triangle2afp<?, ?, ?, ?, ?, ?> triangle) {
 		assert triangle != null : AssertMessages.notNullParameter();
 		if (triangle.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(triangle)) {
 				if (shape.intersects(triangle)) {
 					return true;
 				}
@@ -138,7 +140,18 @@ public interface MultiShape2afp<
 	@Override
 	default boolean intersects(PathIterator2afp<?> iterator) {
 		if (toBoundingBox().intersects(iterator)) {
-			for (final CT shape : getBackendDataList()) {
+			final List<CT> candidates;
+			if (getSpatialIndex() == null) {
+				candidates = getBackendDataList();
+			} else {
+				// The control points are enclosing the filled area of the path
+				final B box = getGeomFactory().newBox();
+				if (!Path2afp.calculatesControlPointBoundingBox(iterator.restartIterations(), box)) {
+					return false;
+				}
+				candidates = getBackendDataInBounds(box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY());
+			}
+			for (final CT shape : candidates) {
 				if (shape.intersects(iterator.restartIterations())) {
 					return true;
 				}
@@ -152,7 +165,7 @@ public interface MultiShape2afp<
 	default boolean intersects(OrientedRectangle2afp<?, ?, ?, ?, ?, ?> orientedRectangle) {
 		assert orientedRectangle != null : AssertMessages.notNullParameter();
 		if (orientedRectangle.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(orientedRectangle)) {
 				if (shape.intersects(orientedRectangle)) {
 					return true;
 				}
@@ -166,7 +179,7 @@ public interface MultiShape2afp<
 	default boolean intersects(Parallelogram2afp<?, ?, ?, ?, ?, ?> parallelogram) {
 		assert parallelogram != null : AssertMessages.notNullParameter();
 		if (parallelogram.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(parallelogram)) {
 				if (shape.intersects(parallelogram)) {
 					return true;
 				}
@@ -180,7 +193,7 @@ public interface MultiShape2afp<
 	default boolean intersects(RoundRectangle2afp<?, ?, ?, ?, ?, ?> roundRectangle) {
 		assert roundRectangle != null : AssertMessages.notNullParameter();
 		if (roundRectangle.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(roundRectangle)) {
 				if (shape.intersects(roundRectangle)) {
 					return true;
 				}
@@ -195,8 +208,8 @@ public interface MultiShape2afp<
 	default boolean intersects(MultiShape2afp<?, ?, ?, ?, ?, ?, ?> multishape) {
 		assert multishape != null : AssertMessages.notNullParameter();
 		if (multishape.toBoundingBox().intersects(toBoundingBox())) {
-			for (final CT shape1 : getBackendDataList()) {
-				for (final Shape2afp<?, ?, ?, ?, ?, ?> shape2 : multishape.getBackendDataList()) {
+			for (final Shape2afp<?, ?, ?, ?, ?, ?> shape2 : multishape.getBackendDataList()) {
+				for (final CT shape1 : getBackendDataInBounds(shape2)) {
 					if (shape1.intersects(shape2)) {
 						return true;
 					}
@@ -210,7 +223,7 @@ public interface MultiShape2afp<
 	@Override
 	default boolean contains(double x, double y) {
 		if (toBoundingBox().contains(x, y)) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(x, y, x, y)) {
 				if (shape.contains(x, y)) {
 					return true;
 				}
@@ -224,7 +237,7 @@ public interface MultiShape2afp<
 	default boolean contains(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
 		assert rectangle != null : AssertMessages.notNullParameter();
 		if (rectangle.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(rectangle)) {
 				if (shape.contains(rectangle)) {
 					return true;
 				}
@@ -258,7 +271,7 @@ public interface MultiShape2afp<
 	default CT getFirstShapeIntersecting(ST shape) {
 		assert shape != null : AssertMessages.notNullParameter();
 		if (shape.intersects(toBoundingBox())) {
-			for (final CT innerShape : getBackendDataList()) {
+			for (final CT innerShape : getBackendDataInBounds(shape)) {
 				if (innerShape.intersects(shape)) {
 					return innerShape;
 				}
@@ -274,7 +287,7 @@ public interface MultiShape2afp<
 		assert shape != null : AssertMessages.notNullParameter();
 		final List<CT> list = new ArrayList<>();
 		if (shape.intersects(toBoundingBox())) {
-			for (final CT subshape : getBackendDataList()) {
+			for (final CT subshape : getBackendDataInBounds(shape)) {
 				if (subshape.intersects(shape)) {
 					list.add(subshape);
 				}
@@ -283,6 +296,229 @@ public interface MultiShape2afp<
 		return list;
 	}
 
+	@Pure
+	@Override
+	default CT getFirstShapeContaining(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		if (toBoundingBox().contains(point)) {
+			final double x = point.getX();
+			final double y = point.getY();
+			for (final CT shape : getBackendDataInBounds(x, y, x, y)) {
+				if (shape.contains(point)) {
+					return shape;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Pure
+	@Override
+	default List<CT> getShapesContaining(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final List<CT> list = new ArrayList<>();
+		if (toBoundingBox().contains(point)) {
+			final double x = point.getX();
+			final double y = point.getY();
+			for (final CT shape : getBackendDataInBounds(x, y, x, y)) {
+				if (shape.contains(point)) {
+					list.add(shape);
+				}
+			}
+		}
+		return list;
+	}
+
+	/** Replies the spatial index on the inner shapes of this multishape.
+	 *
+	 * <p>The index is used by the queries on this multishape for ignoring the inner shapes
+	 * with bounding boxes that are too far from the queried objects.
+	 * The default implementation replies <code>null</code>; the implementations of the multishape
+	 * may build the index with {@link #createSpatialIndex()} and store it until the inner shapes are changed.
+	 *
+	 * @return the index on the inner shapes, or <code>null</code> if the inner shapes are tested one by one.
+	 * @since 14.0
+	 */
+	@Pure
+	default BoundingVolumeHierarchy getSpatialIndex() {
+		return null;
+	}
+
+	/** Create a spatial index on the current bounding boxes of the inner shapes.
+	 *
+	 * @return the index on the inner shapes.
+	 * @since 14.0
+	 * @see #getSpatialIndex()
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:magicnumber")
+	default BoundingVolumeHierarchy createSpatialIndex() {
+		final List<CT> shapes = getBackendDataList();
+		final double[] bounds = new double[shapes.size() * 4];
+		final B box = getGeomFactory().newBox();
+		int i = 0;
+		for (final CT shape : shapes) {
+			shape.toBoundingBox(box);
+			bounds[i++] = box.getMinX();
+			bounds[i++] = box.getMinY();
+			bounds[i++] = box.getMaxX();
+			bounds[i++] = box.getMaxY();
+		}
+		return new BoundingVolumeHierarchy(2, bounds, shapes.size());
+	}
+
+	/** Replies the inner shapes with bounding boxes that may intersect the given rectangle.
+	 *
+	 * <p>The shapes are replied in the order of {@link #getBackendDataList()}. If there is no
+	 * {@link #getSpatialIndex() spatial index}, all the inner shapes are replied.
+	 *
+	 * @param minx the lower x coordinate of the rectangle.
+	 * @param miny the lower y coordinate of the rectangle.
+	 * @param maxx the upper x coordinate of the rectangle.
+	 * @param maxy the upper y coordinate of the rectangle.
+	 * @return the candidate shapes.
+	 * @since 14.0
+	 */
+	@Pure
+	default List<CT> getBackendDataInBounds(double minx, double miny, double maxx, double maxy) {
+		final List<CT> shapes = getBackendDataList();
+		final BoundingVolumeHierarchy index = getSpatialIndex();
+		if (index == null) {
+			return shapes;
+		}
+		final int[] indexes = index.getIndexesInBounds(minx, miny, maxx, maxy);
+		final List<CT> candidates = new ArrayList<>(indexes.length);
+		for (final int idx : indexes) {
+			candidates.add(shapes.get(idx));
+		}
+		return candidates;
+	}
+
+	/** Replies the inner shapes with bounding boxes that may intersect the bounding box of the given shape.
+	 *
+	 * <p>The shapes are replied in the order of {@link #getBackendDataList()}. If there is no
+	 * {@link #getSpatialIndex() spatial index}, all the inner shapes are replied.
+	 *
+	 * @param shape the shape.
+	 * @return the candidate shapes.
+	 * @since 14.0
+	 */
+	@Pure
+	default List<CT> getBackendDataInBounds(Shape2afp<?, ?, ?, ?, ?, ?> shape) {
+		if (getSpatialIndex() == null) {
+			return getBackendDataList();
+		}
+		final Rectangle2afp<?, ?, ?, ?, ?, ?> box = shape.toBoundingBox();
+		return getBackendDataInBounds(box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY());
+	}
+
+	/** Replies the inner shape that is minimizing the given distance to a shape.
+	 *
+	 * <p>The distance function must reply a square distance between the given shape and a point
+	 * of the inner shape. If a {@link #getSpatialIndex() spatial index} is available, the distance
+	 * function is not invoked for the inner shapes with bounding boxes that are farther than the nearest
+	 * inner shape. If several inner shapes are at the same distance, the first of them is replied.
+	 *
+	 * @param shape the shape.
+	 * @param distance the square distance function.
+	 * @return the nearest inner shape, or <code>null</code> if there is no inner shape.
+	 * @since 14.0
+	 */
+	@Pure
+	default CT getNearestBackendData(Shape2afp<?, ?, ?, ?, ?, ?> shape, ToDoubleFunction<? super CT> distance) {
+		if (getSpatialIndex() == null) {
+			// The bounds are not used without spatial index
+			return getNearestBackendData(0, 0, 0, 0, distance);
+		}
+		final Rectangle2afp<?, ?, ?, ?, ?, ?> box = shape.toBoundingBox();
+		return getNearestBackendData(box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY(), distance);
+	}
+
+	/** Replies the inner shape that is minimizing the given distance to a rectangle.
+	 *
+	 * <p>The distance function must reply a value that is greater than or equal to the square distance
+	 * between the given rectangle and the inner shape. If a {@link #getSpatialIndex() spatial index} is
+	 * available, the distance function is not invoked for the inner shapes with bounding boxes that are
+	 * farther than the nearest inner shape. If several inner shapes are at the same distance, the first
+	 * of them is replied.
+	 *
+	 * @param minx the lower x coordinate of the rectangle.
+	 * @param miny the lower y coordinate of the rectangle.
+	 * @param maxx the upper x coordinate of the rectangle.
+	 * @param maxy the upper y coordinate of the rectangle.
+	 * @param distance the square distance function.
+	 * @return the nearest inner shape, or <code>null</code> if there is no inner shape.
+	 * @since 14.0
+	 */
+	@Pure
+	default CT getNearestBackendData(double minx, double miny, double maxx, double maxy,
+			ToDoubleFunction<? super CT> distance) {
+		final List<CT> shapes = getBackendDataList();
+		final BoundingVolumeHierarchy index = getSpatialIndex();
+		if (index == null) {
+			double min = Double.POSITIVE_INFINITY;
+			CT nearest = null;
+			for (final CT innerShape : shapes) {
+				final double dist = distance.applyAsDouble(innerShape);
+				if (dist < min) {
+					min = dist;
+					nearest = innerShape;
+				}
+			}
+			return nearest;
+		}
+		final int nearest = index.findNearest(it -> distance.applyAsDouble(shapes.get(it)), minx, miny, maxx, maxy);
+		return nearest < 0 ? null : shapes.get(nearest);
+	}
+
+	@Pure
+	@Override
+	default P getClosestPointTo(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final double x = point.getX();
+		final double y = point.getY();
+		final CT nearest = getNearestBackendData(x, y, x, y, it -> it.getDistanceSquared(point));
+		return nearest == null ? null : nearest.getClosestPointTo(point);
+	}
+
+	@Pure
+	@Override
+	default double getDistanceSquared(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final double x = point.getX();
+		final double y = point.getY();
+		final CT nearest = getNearestBackendData(x, y, x, y, it -> it.getDistanceSquared(point));
+		return nearest == null ? Double.POSITIVE_INFINITY : nearest.getDistanceSquared(point);
+	}
+
+	@Pure
+	@Override
+	default double getDistanceL1(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final double x = point.getX();
+		final double y = point.getY();
+		// The L1 distance is never lower than the euclidian distance
+		final CT nearest = getNearestBackendData(x, y, x, y, it -> {
+			final double dist = it.getDistanceL1(point);
+			return dist * dist;
+		});
+		return nearest == null ? Double.POSITIVE_INFINITY : nearest.getDistanceL1(point);
+	}
+
+	@Pure
+	@Override
+	default double getDistanceLinf(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final double x = point.getX();
+		final double y = point.getY();
+		// The euclidian distance is never greater than the L-infinite distance multiplied by sqrt(2)
+		final CT nearest = getNearestBackendData(x, y, x, y, it -> {
+			final double dist = it.getDistanceLinf(point);
+			return 2. * dist * dist;
+		});
+		return nearest == null ? Double.POSITIVE_INFINITY : nearest.getDistanceLinf(point);
+	}
+
 	@Pure
 	@Override
 	default void toBoundingBox(B box) {
@@ -325,17 +561,10 @@ public interface MultiShape2afp<
     @Override
 	default P getClosestPointTo(Circle2afp<?, ?, ?, ?, ?, ?> circle) {
 		assert circle != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(circle);
-			dist = circle.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT nearest = getNearestBackendData(circle, it -> circle.getDistanceSquared(it.getClosestPointTo(circle)));
+		if (nearest != null) {
+			closest.set(nearest.getClosestPointTo(circle));
 		}
 		return closest;
 	}
@@ -343,17 +572,10 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(Segment2afp<?, ?, ?, ?, ?, ?> segment) {
 		assert segment != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(segment);
-			dist = segment.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT nearest = getNearestBackendData(segment, it -> segment.getDistanceSquared(it.getClosestPointTo(segment)));
+		if (nearest != null) {
+			closest.set(nearest.getClosestPointTo(segment));
 		}
 		return closest;
 	}
@@ -361,17 +583,10 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
 		assert rectangle != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(rectangle);
-			dist = rectangle.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT nearest = getNearestBackendData(rectangle, it -> rectangle.getDistanceSquared(it.getClosestPointTo(rectangle)));
+		if (nearest != null) {
+			closest.set(nearest.getClosestPointTo(rectangle));
 		}
 		return closest;
 	}
@@ -379,17 +594,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(RoundRectangle2afp<?, ?, ?, ?, ?, ?> roundRectangle) {
 		assert roundRectangle != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(roundRectangle);
-			dist = roundRectangle.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT nearest = getNearestBackendData(roundRectangle,
+				it -> roundRectangle.getDistanceSquared(it.getClosestPointTo(roundRectangle)));
+		if (nearest != null) {
+			closest.set(nearest.getClosestPointTo(roundRectangle));
 		}
 		return closest;
 	}
@@ -397,17 +606,10 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(Ellipse2afp<?, ?, ?, ?, ?, ?> ellipse) {
 		assert ellipse != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(ellipse);
-			dist = ellipse.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT nearest = getNearestBackendData(ellipse, it -> ellipse.getDistanceSquared(it.getClosestPointTo(ellipse)));
+		if (nearest != null) {
+			closest.set(nearest.getClosestPointTo(ellipse));
 		}
 		return closest;
 	}
@@ -415,17 +617,10 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(Triangle2afp<?, ?, ?, ?, ?, ?> triangle) {
 		assert triangle != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(triangle);
-			dist = triangle.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT nearest = getNearestBackendData(triangle, it -> triangle.getDistanceSquared(it.getClosestPointTo(triangle)));
+		if (nearest != null) {
+			closest.set(nearest.getClosestPointTo(triangle));
 		}
 		return closest;
 	}
@@ -433,17 +628,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(OrientedRectangle2afp<?, ?, ?, ?, ?, ?> orientedRectangle) {
 		assert orientedRectangle != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(orientedRectangle);
-			dist = orientedRectangle.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT nearest = getNearestBackendData(orientedRectangle,
+				it -> orientedRectangle.getDistanceSquared(it.getClosestPointTo(orientedRectangle)));
+		if (nearest != null) {
+			closest.set(nearest.getClosestPointTo(orientedRectangle));
 		}
 		return closest;
 	}
@@ -451,17 +640,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(Parallelogram2afp<?, ?, ?, ?, ?, ?> parallelogram) {
 		assert parallelogram != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(parallelogram);
-			dist = parallelogram.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT nearest = getNearestBackendData(parallelogram,
+				it -> parallelogram.getDistanceSquared(it.getClosestPointTo(parallelogram)));
+		if (nearest != null) {
+			closest.set(nearest.getClosestPointTo(parallelogram));
 		}
 		return closest;
 	}
@@ -469,17 +652,10 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(Path2afp<?, ?, ?, ?, ?, ?> path) {
 		assert path != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(path);
-			dist = path.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT nearest = getNearestBackendData(path, it -> path.getDistanceSquared(it.getClosestPointTo(path)));
+		if (nearest != null) {
+			closest.set(nearest.getClosestPointTo(path));
 		}
 		return closest;
 	}
@@ -487,17 +663,11 @@ public interface MultiShape2afp<
 	@Override
 	default P getClosestPointTo(MultiShape2afp<?, ?, ?, ?, ?, ?, ?> multishape) {
 		assert multishape != null : AssertMessages.notNullParameter();
-		double min = Double.POSITIVE_INFINITY;
 		final P closest = getGeomFactory().newPoint();
-		P point;
-		double dist;
-		for (final CT innerShape : getBackendDataList()) {
-			point = innerShape.getClosestPointTo(multishape);
-			dist = multishape.getDistanceSquared(point);
-			if (dist < min) {
-				min = dist;
-				closest.set(point);
-			}
+		final CT nearest = getNearestBackendData(multishape,
+				it -> multishape.getDistanceSquared(it.getClosestPointTo(multishape)));
+		if (nearest != null) {
+			closest.set(nearest.getClosestPointTo(multishape));
 		}
 		return closest;
 	}
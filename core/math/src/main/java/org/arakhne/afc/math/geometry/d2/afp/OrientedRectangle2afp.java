@@ -673,20 +673,22 @@ public interface OrientedRectangle2afp<
         assert axis2Extent >= 0 : AssertMessages.positiveOrZeroParameter(5);
         assert Vector2D.isUnitVector(axis1X, axis1Y) : AssertMessages.normalizedParameters(2, 3);
         assert circleRadius >= 0 : AssertMessages.positiveOrZeroParameter(8);
-        final Point2D<?, ?> closest = new InnerComputationPoint2afp();
-        findsClosestFarthestPointsPointOrientedRectangle(
-                circleX, circleY,
-                centerX, centerY,
-                axis1X, axis1Y, axis1Extent,
-                axis2Extent,
-                closest, null);
-        // Circle and oriented rectangle intersect if the (squared) distance from sphere
-        // center to point p is less than the (squared) sphere radius
-        final double squaredRadius = circleRadius * circleRadius;
-
-        return Point2D.getDistanceSquaredPointPoint(
-                circleX, circleY,
-                closest.getX(), closest.getY()) <= squaredRadius;
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> closest = scratch.point();
+            findsClosestFarthestPointsPointOrientedRectangle(
+                    circleX, circleY,
+                    centerX, centerY,
+                    axis1X, axis1Y, axis1Extent,
+                    axis2Extent,
+                    closest, null);
+            // Circle and oriented rectangle intersect if the (squared) distance from sphere
+            // center to point p is less than the (squared) sphere radius
+            final double squaredRadius = circleRadius * circleRadius;
+
+            return Point2D.getDistanceSquaredPointPoint(
+                    circleX, circleY,
+                    closest.getX(), closest.getY()) <= squaredRadius;
+        }
     }
 
     /** Replies if the specified rectangles intersect.
@@ -1151,58 +1153,64 @@ public interface OrientedRectangle2afp<
     @Override
     default void setFromPointCloud(Iterable<? extends Point2D<?, ?>> pointCloud) {
         assert pointCloud != null : AssertMessages.notNullParameter();
-        final Vector2D<?, ?> r = new InnerComputationVector2afp();
-        Parallelogram2afp.calculatesOrthogonalAxes(pointCloud, r, null);
-        final Point2D<?, ?> center = new InnerComputationPoint2afp();
-        final Vector2D<?, ?> extents = new InnerComputationVector2afp();
-        OrientedRectangle2afp.calculatesCenterPointAxisExtents(pointCloud, r, center, extents);
-        set(center.getX(), center.getY(),
-                r.getX(), r.getY(), extents.getX(),
-                extents.getY());
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Vector2D<?, ?> r = scratch.vector();
+            Parallelogram2afp.calculatesOrthogonalAxes(pointCloud, r, null);
+            final Point2D<?, ?> center = scratch.point();
+            final Vector2D<?, ?> extents = scratch.vector();
+            OrientedRectangle2afp.calculatesCenterPointAxisExtents(pointCloud, r, center, extents);
+            set(center.getX(), center.getY(),
+                    r.getX(), r.getY(), extents.getX(),
+                    extents.getY());
+        }
     }
 
     @Pure
     @Override
     default double getDistanceSquared(Point2D<?, ?> pt) {
         assert pt != null : AssertMessages.notNullParameter();
-        final Point2D<?, ?> closest = new InnerComputationPoint2afp();
-        findsClosestFarthestPointsPointOrientedRectangle(
-                pt.getX(), pt.getY(),
-                getCenterX(), getCenterY(),
-                getFirstAxisX(), getFirstAxisY(), getFirstAxisExtent(),
-                getSecondAxisExtent(),
-                closest,
-                null);
-        return closest.getDistanceSquared(pt);
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> closest = scratch.point();
+            findsClosestFarthestPointsPointOrientedRectangle(
+                    pt.getX(), pt.getY(),
+                    getCenterX(), getCenterY(),
+                    getFirstAxisX(), getFirstAxisY(), getFirstAxisExtent(),
+                    getSecondAxisExtent(),
+                    closest, null);
+            return closest.getDistanceSquared(pt);
+        }
     }
 
     @Pure
     @Override
     default double getDistanceL1(Point2D<?, ?> pt) {
         assert pt != null : AssertMessages.notNullParameter();
-        final Point2D<?, ?> closest = new InnerComputationPoint2afp();
-        findsClosestFarthestPointsPointOrientedRectangle(
-                pt.getX(), pt.getY(),
-                getCenterX(), getCenterY(),
-                getFirstAxisX(), getFirstAxisY(), getFirstAxisExtent(),
-                getSecondAxisExtent(),
-                closest,
-                null);
-        return closest.getDistanceL1(pt);
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> closest = scratch.point();
+            findsClosestFarthestPointsPointOrientedRectangle(
+                    pt.getX(), pt.getY(),
+                    getCenterX(), getCenterY(),
+                    getFirstAxisX(), getFirstAxisY(), getFirstAxisExtent(),
+                    getSecondAxisExtent(),
+                    closest, null);
+            return closest.getDistanceL1(pt);
+        }
     }
 
     @Pure
     @Override
     default double getDistanceLinf(Point2D<?, ?> pt) {
         assert pt != null : AssertMessages.notNullParameter();
-        final Point2D<?, ?> closest = new InnerComputationPoint2afp();
-        findsClosestFarthestPointsPointOrientedRectangle(
-                pt.getX(), pt.getY(),
-                getCenterX(), getCenterY(),
-                getFirstAxisX(), getFirstAxisY(), getFirstAxisExtent(),
-                getSecondAxisExtent(),
-                closest, null);
-        return closest.getDistanceLinf(pt);
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> closest = scratch.point();
+            findsClosestFarthestPointsPointOrientedRectangle(
+                    pt.getX(), pt.getY(),
+                    getCenterX(), getCenterY(),
+                    getFirstAxisX(), getFirstAxisY(), getFirstAxisExtent(),
+                    getSecondAxisExtent(),
+                    closest, null);
+            return closest.getDistanceLinf(pt);
+        }
     }
 
     @Override
@@ -1353,32 +1361,33 @@ public interface OrientedRectangle2afp<
     @Pure
     @Override
     default void toBoundingBox(B box) {
-        final Point2D<?, ?> minCorner = new InnerComputationPoint2afp(getCenterX(), getCenterY());
-        final Point2D<?, ?> maxCorner = new InnerComputationPoint2afp(getCenterX(), getCenterY());
-
+        final double cx = getCenterX();
+        final double cy = getCenterY();
         final double srx = getFirstAxisX() * getFirstAxisExtent();
         final double sry = getFirstAxisY() * getFirstAxisExtent();
         final double ssx = getSecondAxisX() * getSecondAxisExtent();
         final double ssy = getSecondAxisY() * getSecondAxisExtent();
 
+        final double dx;
+        final double dy;
         if (getFirstAxisX() >= 0.) {
             if (getFirstAxisY() >= 0.) {
-                minCorner.add(-srx + ssx, -sry - ssy);
-                maxCorner.sub(-srx + ssx, -sry - ssy);
+                dx = -srx + ssx;
+                dy = -sry - ssy;
             } else {
-                minCorner.add(-srx - ssx, sry - ssy);
-                maxCorner.sub(-srx - ssx, sry - ssy);
+                dx = -srx - ssx;
+                dy = sry - ssy;
             }
         } else {
             if (getFirstAxisY() >= 0.) {
-                minCorner.add(srx + ssx, -sry + ssy);
-                maxCorner.sub(srx + ssx, -sry + ssy);
+                dx = srx + ssx;
+                dy = -sry + ssy;
             } else {
-                minCorner.add(srx - ssx, sry + ssy);
-                maxCorner.sub(srx - ssx, sry + ssy);
+                dx = srx - ssx;
+                dy = sry + ssy;
             }
         }
-        box.setFromCorners(minCorner, maxCorner);
+        box.setFromCorners(cx + dx, cy + dy, cx - dx, cy - dy);
     }
 
     @Pure
@@ -1489,10 +1498,12 @@ public interface OrientedRectangle2afp<
 
     @Override
     default void rotate(double angle) {
-        final Vector2D<?, ?> axis1 = getFirstAxis();
-        final Vector2D<?, ?> newAxis = new InnerComputationVector2afp();
-        newAxis.turn(angle, axis1);
-        setFirstAxis(newAxis.getX(), newAxis.getY());
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Vector2D<?, ?> newAxis = scratch.vector();
+            newAxis.set(getFirstAxisX(), getFirstAxisY());
+            newAxis.turn(angle);
+            setFirstAxis(newAxis.getX(), newAxis.getY());
+        }
     }
 
     /** Abstract iterator on the path elements of the oriented rectangle.
@@ -917,20 +917,22 @@ public interface Parallelogram2afp<
         assert Vector2D.isUnitVector(axis1X, axis1Y) : AssertMessages.normalizedParameters(2, 3);
         assert Vector2D.isUnitVector(axis2X, axis2Y) : AssertMessages.normalizedParameters(5, 6);
         assert circleRadius >= 0 : AssertMessages.positiveOrZeroParameter(10);
-        final Point2D<?, ?> closest = new InnerComputationPoint2afp();
-        findsClosestPointPointParallelogram(
-                circleX, circleY,
-                centerX, centerY,
-                axis1X, axis1Y, axis1Extent,
-                axis2X, axis2Y, axis2Extent,
-                closest);
-        // Circle and parallelogram intersect if the (squared) distance from sphere
-        // center to point p is less than the (squared) sphere radius
-        final double squaredRadius = circleRadius * circleRadius;
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> closest = scratch.point();
+            findsClosestPointPointParallelogram(
+                    circleX, circleY,
+                    centerX, centerY,
+                    axis1X, axis1Y, axis1Extent,
+                    axis2X, axis2Y, axis2Extent,
+                    closest);
+            // Circle and parallelogram intersect if the (squared) distance from sphere
+            // center to point p is less than the (squared) sphere radius
+            final double squaredRadius = circleRadius * circleRadius;
 
-        return Point2D.getDistanceSquaredPointPoint(
-                circleX, circleY,
-                closest.getX(), closest.getY()) <= squaredRadius;
+            return Point2D.getDistanceSquaredPointPoint(
+                    circleX, circleY,
+                    closest.getX(), closest.getY()) <= squaredRadius;
+        }
     }
 
     /** Replies if the parallelogram intersects the given ellipse.
@@ -1625,15 +1627,17 @@ public interface Parallelogram2afp<
      */
     default void setFromPointCloud(Iterable<? extends Point2D<?, ?>> pointCloud) {
         assert pointCloud != null : AssertMessages.notNullParameter();
-        final Vector2D<?, ?> r = new InnerComputationVector2afp();
-        final Vector2D<?, ?> s = new InnerComputationVector2afp();
-        calculatesOrthogonalAxes(pointCloud, r, s);
-        final Point2D<?, ?> center = new InnerComputationPoint2afp();
-        final Vector2D<?, ?> extents = new InnerComputationVector2afp();
-        Parallelogram2afp.calculatesCenterPointAxisExtents(pointCloud, r, s, center, extents);
-        set(center.getX(), center.getY(),
-                r.getX(), r.getY(), extents.getX(),
-                s.getX(), s.getY(), extents.getY());
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Vector2D<?, ?> r = scratch.vector();
+            final Vector2D<?, ?> s = scratch.vector();
+            calculatesOrthogonalAxes(pointCloud, r, s);
+            final Point2D<?, ?> center = scratch.point();
+            final Vector2D<?, ?> extents = scratch.vector();
+            Parallelogram2afp.calculatesCenterPointAxisExtents(pointCloud, r, s, center, extents);
+            set(center.getX(), center.getY(),
+                    r.getX(), r.getY(), extents.getX(),
+                    s.getX(), s.getY(), extents.getY());
+        }
     }
 
     /** Set the oriented rectangle from a could of points.
@@ -1650,14 +1654,16 @@ public interface Parallelogram2afp<
     default double getDistanceSquared(Point2D<?, ?> pt) {
         assert pt != null : AssertMessages.notNullParameter();
         // Only for internal usage.
-        final Point2D<?, ?> closest = new InnerComputationPoint2afp();
-        findsClosestPointPointParallelogram(
-                pt.getX(), pt.getY(),
-                getCenterX(), getCenterY(),
-                getFirstAxisX(), getFirstAxisY(), getFirstAxisExtent(),
-                getSecondAxisX(), getSecondAxisY(), getSecondAxisExtent(),
-                closest);
-        return closest.getDistanceSquared(pt);
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> closest = scratch.point();
+            findsClosestPointPointParallelogram(
+                    pt.getX(), pt.getY(),
+                    getCenterX(), getCenterY(),
+                    getFirstAxisX(), getFirstAxisY(), getFirstAxisExtent(),
+                    getSecondAxisX(), getSecondAxisY(), getSecondAxisExtent(),
+                    closest);
+            return closest.getDistanceSquared(pt);
+        }
     }
 
     @Pure
@@ -1665,14 +1671,16 @@ public interface Parallelogram2afp<
     default double getDistanceL1(Point2D<?, ?> pt) {
         assert pt != null : AssertMessages.notNullParameter();
         // Only for internal usage.
-        final Point2D<?, ?> closest = new InnerComputationPoint2afp();
-        findsClosestPointPointParallelogram(
-                pt.getX(), pt.getY(),
-                getCenterX(), getCenterY(),
-                getFirstAxisX(), getFirstAxisY(), getFirstAxisExtent(),
-                getSecondAxisX(), getSecondAxisY(), getSecondAxisExtent(),
-                closest);
-        return closest.getDistanceL1(pt);
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> closest = scratch.point();
+            findsClosestPointPointParallelogram(
+                    pt.getX(), pt.getY(),
+                    getCenterX(), getCenterY(),
+                    getFirstAxisX(), getFirstAxisY(), getFirstAxisExtent(),
+                    getSecondAxisX(), getSecondAxisY(), getSecondAxisExtent(),
+                    closest);
+            return closest.getDistanceL1(pt);
+        }
     }
 
     @Pure
@@ -1680,14 +1688,16 @@ public interface Parallelogram2afp<
     default double getDistanceLinf(Point2D<?, ?> pt) {
         assert pt != null : AssertMessages.notNullParameter();
         // Only for internal usage.
-        final Point2D<?, ?> closest = new InnerComputationPoint2afp();
-        findsClosestPointPointParallelogram(
-                pt.getX(), pt.getY(),
-                getCenterX(), getCenterY(),
-                getFirstAxisX(), getFirstAxisY(), getFirstAxisExtent(),
-                getSecondAxisX(), getSecondAxisY(), getSecondAxisExtent(),
-                closest);
-        return closest.getDistanceLinf(pt);
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> closest = scratch.point();
+            findsClosestPointPointParallelogram(
+                    pt.getX(), pt.getY(),
+                    getCenterX(), getCenterY(),
+                    getFirstAxisX(), getFirstAxisY(), getFirstAxisExtent(),
+                    getSecondAxisX(), getSecondAxisY(), getSecondAxisExtent(),
+                    closest);
+            return closest.getDistanceLinf(pt);
+        }
     }
 
     @Override
@@ -1700,14 +1710,16 @@ public interface Parallelogram2afp<
      * @param angle the angle of rotation.
      */
     default void rotate(double angle) {
-        final Vector2D<?, ?> axis1 = getFirstAxis();
-        final Vector2D<?, ?> newAxis1 = new InnerComputationVector2afp();
-        newAxis1.turn(angle, axis1);
-        setFirstAxis(newAxis1);
-        final Vector2D<?, ?> axis2 = getSecondAxis();
-        final Vector2D<?, ?> newAxis2 = new InnerComputationVector2afp();
-        newAxis2.turn(angle, axis2);
-        setSecondAxis(newAxis2);
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Vector2D<?, ?> newAxis1 = scratch.vector();
+            newAxis1.set(getFirstAxisX(), getFirstAxisY());
+            newAxis1.turn(angle);
+            setFirstAxis(newAxis1);
+            final Vector2D<?, ?> newAxis2 = scratch.vector();
+            newAxis2.set(getSecondAxisX(), getSecondAxisY());
+            newAxis2.turn(angle);
+            setSecondAxis(newAxis2);
+        }
     }
 
     @Pure
@@ -1857,32 +1869,34 @@ public interface Parallelogram2afp<
         final Point2D<?, ?> minCorner;
         final Point2D<?, ?> maxCorner;
 
-        minCorner = new InnerComputationPoint2afp(getCenterX(), getCenterY());
-        maxCorner = new InnerComputationPoint2afp(getCenterX(), getCenterY());
-
-        final double srx = getFirstAxisX() * getFirstAxisExtent();
-        final double sry = getFirstAxisY() * getFirstAxisExtent();
-        final double ssx = getSecondAxisX() * getSecondAxisExtent();
-        final double ssy = getSecondAxisY() * getSecondAxisExtent();
-
-        if (getFirstAxisX() >= 0.) {
-            if (getFirstAxisY() >= 0.) {
-                minCorner.add(-srx + ssx, -sry - ssy);
-                maxCorner.sub(-srx + ssx, -sry - ssy);
-            } else {
-                minCorner.add(-srx - ssx, sry - ssy);
-                maxCorner.sub(-srx - ssx, sry - ssy);
-            }
-        } else {
-            if (getFirstAxisY() >= 0.) {
-                minCorner.add(srx + ssx, -sry + ssy);
-                maxCorner.sub(srx + ssx, -sry + ssy);
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            minCorner = scratch.point(getCenterX(), getCenterY());
+            maxCorner = scratch.point(getCenterX(), getCenterY());
+
+            final double srx = getFirstAxisX() * getFirstAxisExtent();
+            final double sry = getFirstAxisY() * getFirstAxisExtent();
+            final double ssx = getSecondAxisX() * getSecondAxisExtent();
+            final double ssy = getSecondAxisY() * getSecondAxisExtent();
+
+            if (getFirstAxisX() >= 0.) {
+                if (getFirstAxisY() >= 0.) {
+                    minCorner.add(-srx + ssx, -sry - ssy);
+                    maxCorner.sub(-srx + ssx, -sry - ssy);
+                } else {
+                    minCorner.add(-srx - ssx, sry - ssy);
+                    maxCorner.sub(-srx - ssx, sry - ssy);
+                }
             } else {
-                minCorner.add(srx - ssx, sry + ssy);
-                maxCorner.sub(srx - ssx, sry + ssy);
+                if (getFirstAxisY() >= 0.) {
+                    minCorner.add(srx + ssx, -sry + ssy);
+                    maxCorner.sub(srx + ssx, -sry + ssy);
+                } else {
+                    minCorner.add(srx - ssx, sry + ssy);
+                    maxCorner.sub(srx - ssx, sry + ssy);
+                }
             }
+            box.setFromCorners(minCorner, maxCorner);
         }
-        box.setFromCorners(minCorner, maxCorner);
     }
 
     @Pure
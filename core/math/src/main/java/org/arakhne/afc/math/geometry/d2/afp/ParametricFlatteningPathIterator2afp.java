@@ -0,0 +1,370 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.NoSuchElementException;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** A path iterator that is flattening the path with a parametric subdivision of the curves.
+ *
+ * <p>Each curve is split into {@code n} segments of the same parametric length. The value of
+ * {@code n} is computed from the bound of the second derivative of the curve: the distance between
+ * a curve and the chord of a parametric interval of length {@code h} is at most
+ * {@code h*h/8*max|B''(t)|}. The points are computed with forward differencing.
+ *
+ * @param <T> the type of the path elements.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+@SuppressWarnings("checkstyle:magicnumber")
+public class ParametricFlatteningPathIterator2afp<T extends PathElement2afp> implements PathIterator2afp<T> {
+
+	/** The source iterator.
+	 */
+	private final PathIterator2afp<T> pathIterator;
+
+	/** The flatness.
+	 */
+	private final double flatness;
+
+	/** Maximum number of recursion levels, given to the constructor.
+	 */
+	private final int limit;
+
+	/** Maximum number of segments for a curve.
+	 */
+	private final int maxSegments;
+
+	/** The coordinates of the element that is read from the source iterator.
+	 */
+	private final double[] buffer = new double[CURSOR_ARRAY_SIZE];
+
+	/** The coordinates of the points to reply.
+	 */
+	private double[] points = new double[Path2afp.GROW_SIZE];
+
+	/** The number of coordinates in {@link #points}.
+	 */
+	private int pointCount;
+
+	/** The index of the next coordinate to reply in {@link #points}.
+	 */
+	private int pointIndex;
+
+	/** The type of the elements to reply.
+	 */
+	private PathElementType type;
+
+	/** The ending x of the last element that is read from the source iterator.
+	 */
+	private double currentX;
+
+	/** The ending y of the last element that is read from the source iterator.
+	 */
+	private double currentY;
+
+	/** The x of the last move element.
+	 */
+	private double moveX;
+
+	/** The y of the last move element.
+	 */
+	private double moveY;
+
+	/** The x of the last point replied by next.
+	 */
+	private double lastNextX;
+
+	/** The y of the last point replied by next.
+	 */
+	private double lastNextY;
+
+	/** True when iteration is done.
+	 */
+	private boolean done;
+
+	/**
+	 * @param pathIterator is the path iterator that may be used to initialize the path.
+	 * @param flatness the maximum allowable distance between the curve and the flattened curve.
+	 * @param limit the maximum number of recursive subdivisions that the equivalent
+	 *     flattening path iterator would do; the number of segments for a curve is
+	 *     at most {@code 2^limit}.
+	 */
+	public ParametricFlatteningPathIterator2afp(PathIterator2afp<T> pathIterator, double flatness, int limit) {
+		assert pathIterator != null : AssertMessages.notNullParameter(0);
+		assert flatness >= 0. : AssertMessages.positiveOrZeroParameter(1);
+		assert limit >= 0 && limit < Integer.SIZE - 2 : AssertMessages.invalidValue(2);
+		this.pathIterator = pathIterator;
+		this.flatness = flatness;
+		this.limit = limit;
+		this.maxSegments = 1 << limit;
+		searchNext();
+	}
+
+	@Override
+	public PathIterator2afp<T> restartIterations() {
+		return new ParametricFlatteningPathIterator2afp<>(
+				this.pathIterator.restartIterations(), this.flatness, this.limit);
+	}
+
+	private void searchNext() {
+		if (this.pointIndex < this.pointCount) {
+			return;
+		}
+		this.pointIndex = 0;
+		if (!this.pathIterator.hasNext()) {
+			this.pointCount = 0;
+			this.done = true;
+			return;
+		}
+		final double[] buf = this.buffer;
+		this.type = this.pathIterator.next(buf);
+		switch (this.type) {
+		case MOVE_TO:
+			this.moveX = buf[0];
+			this.moveY = buf[1];
+			setPoint(buf[0], buf[1]);
+			break;
+		case LINE_TO:
+			setPoint(buf[0], buf[1]);
+			break;
+		case CLOSE:
+			setPoint(this.moveX, this.moveY);
+			break;
+		case QUAD_TO:
+			flattenQuad(this.currentX, this.currentY, buf[0], buf[1], buf[2], buf[3]);
+			this.type = PathElementType.LINE_TO;
+			break;
+		case CURVE_TO:
+			flattenCurve(this.currentX, this.currentY, buf[0], buf[1], buf[2], buf[3], buf[4], buf[5]);
+			this.type = PathElementType.LINE_TO;
+			break;
+		case ARC_TO:
+		default:
+			throw new IllegalStateException();
+		}
+	}
+
+	private void setPoint(double x, double y) {
+		this.points[0] = x;
+		this.points[1] = y;
+		this.pointCount = 2;
+		this.currentX = x;
+		this.currentY = y;
+	}
+
+	/** Compute the number of segments from the given estimate.
+	 *
+	 * @param estimate the estimated number of segments.
+	 * @return the number of segments.
+	 */
+	private int getSegmentCount(double estimate) {
+		// Test written for catching the NaN and infinite values
+		if (!(estimate < this.maxSegments)) {
+			return this.maxSegments;
+		}
+		return Math.max(1, (int) Math.ceil(estimate));
+	}
+
+	private void ensurePointCapacity(int size) {
+		if (size > this.points.length) {
+			this.points = new double[Math.max(size, this.points.length * 2)];
+		}
+	}
+
+	@SuppressWarnings("checkstyle:parameternumber")
+	private void flattenQuad(double x0, double y0, double x1, double y1, double x2, double y2) {
+		final double ax = x0 - 2 * x1 + x2;
+		final double ay = y0 - 2 * y1 + y2;
+		// |B''| = 2|a|, and the error is at most h^2/8*|B''|
+		final int n = getSegmentCount(Math.sqrt(Math.sqrt(ax * ax + ay * ay) / (4. * this.flatness)));
+		ensurePointCapacity(n * 2);
+		final double h = 1. / n;
+		final double h2 = h * h;
+		double fx = x0;
+		double fy = y0;
+		double dfx = ax * h2 + 2 * (x1 - x0) * h;
+		double dfy = ay * h2 + 2 * (y1 - y0) * h;
+		final double ddfx = 2 * ax * h2;
+		final double ddfy = 2 * ay * h2;
+		final double[] pts = this.points;
+		for (int i = 0; i < (n - 1) * 2; i += 2) {
+			fx += dfx;
+			fy += dfy;
+			dfx += ddfx;
+			dfy += ddfy;
+			pts[i] = fx;
+			pts[i + 1] = fy;
+		}
+		// The last point is exactly the end of the curve
+		pts[n * 2 - 2] = x2;
+		pts[n * 2 - 1] = y2;
+		this.pointCount = n * 2;
+		this.currentX = x2;
+		this.currentY = y2;
+	}
+
+	@SuppressWarnings("checkstyle:parameternumber")
+	private void flattenCurve(double x0, double y0, double x1, double y1, double x2, double y2, double x3, double y3) {
+		final double d0x = x0 - 2 * x1 + x2;
+		final double d0y = y0 - 2 * y1 + y2;
+		final double d1x = x1 - 2 * x2 + x3;
+		final double d1y = y1 - 2 * y2 + y3;
+		// |B''| <= 6*max(|d0|, |d1|), and the error is at most h^2/8*|B''|
+		final double max = Math.sqrt(Math.max(d0x * d0x + d0y * d0y, d1x * d1x + d1y * d1y));
+		final int n = getSegmentCount(Math.sqrt(3. * max / (4. * this.flatness)));
+		ensurePointCapacity(n * 2);
+		final double ax = x3 - x0 + 3 * (x1 - x2);
+		final double ay = y3 - y0 + 3 * (y1 - y2);
+		final double bx = 3 * d0x;
+		final double by = 3 * d0y;
+		final double cx = 3 * (x1 - x0);
+		final double cy = 3 * (y1 - y0);
+		final double h = 1. / n;
+		final double h2 = h * h;
+		final double h3 = h2 * h;
+		double fx = x0;
+		double fy = y0;
+		double dfx = ax * h3 + bx * h2 + cx * h;
+		double dfy = ay * h3 + by * h2 + cy * h;
+		double ddfx = 6 * ax * h3 + 2 * bx * h2;
+		double ddfy = 6 * ay * h3 + 2 * by * h2;
+		final double dddfx = 6 * ax * h3;
+		final double dddfy = 6 * ay * h3;
+		final double[] pts = this.points;
+		for (int i = 0; i < (n - 1) * 2; i += 2) {
+			fx += dfx;
+			fy += dfy;
+			dfx += ddfx;
+			dfy += ddfy;
+			ddfx += dddfx;
+			ddfy += dddfy;
+			pts[i] = fx;
+			pts[i + 1] = fy;
+		}
+		// The last point is exactly the end of the curve
+		pts[n * 2 - 2] = x3;
+		pts[n * 2 - 1] = y3;
+		this.pointCount = n * 2;
+		this.currentX = x3;
+		this.currentY = y3;
+	}
+
+	@Pure
+	@Override
+	public boolean hasNext() {
+		return !this.done;
+	}
+
+	@Override
+	public T next() {
+		if (this.done) {
+			throw new NoSuchElementException();
+		}
+		final PathElementType elementType = this.type;
+		final double x = this.points[this.pointIndex];
+		final double y = this.points[this.pointIndex + 1];
+		this.pointIndex += 2;
+		final T element;
+		switch (elementType) {
+		case MOVE_TO:
+			element = getGeomFactory().newMovePathElement(x, y);
+			break;
+		case CLOSE:
+			element = getGeomFactory().newClosePathElement(this.lastNextX, this.lastNextY, x, y);
+			break;
+		//$CASES-OMITTED$
+		default:
+			element = getGeomFactory().newLinePathElement(this.lastNextX, this.lastNextY, x, y);
+		}
+		this.lastNextX = x;
+		this.lastNextY = y;
+		searchNext();
+		return element;
+	}
+
+	@Override
+	public PathElementType next(double[] coords) {
+		assert coords != null && coords.length >= CURSOR_ARRAY_SIZE
+				: AssertMessages.tooSmallArrayParameter(coords == null ? 0 : coords.length, CURSOR_ARRAY_SIZE);
+		if (this.done) {
+			throw new NoSuchElementException();
+		}
+		final PathElementType elementType = this.type;
+		this.lastNextX = this.points[this.pointIndex];
+		this.lastNextY = this.points[this.pointIndex + 1];
+		this.pointIndex += 2;
+		coords[0] = this.lastNextX;
+		coords[1] = this.lastNextY;
+		searchNext();
+		return elementType;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Pure
+	@Override
+	public PathWindingRule getWindingRule() {
+		return this.pathIterator.getWindingRule();
+	}
+
+	@Pure
+	@Override
+	public boolean isPolyline() {
+		return this.pathIterator.isPolyline() || (!this.pathIterator.isMultiParts() && !this.pathIterator.isPolygon());
+	}
+
+	@Pure
+	@Override
+	public boolean isCurved() {
+		return false;
+	}
+
+	@Pure
+	@Override
+	public boolean isPolygon() {
+		return this.pathIterator.isPolygon();
+	}
+
+	@Pure
+	@Override
+	public boolean isMultiParts() {
+		return this.pathIterator.isMultiParts();
+	}
+
+	@Pure
+	@Override
+	public GeomFactory2afp<T, ?, ?, ?> getGeomFactory() {
+		return this.pathIterator.getGeomFactory();
+	}
+
+}
@@ -110,32 +110,32 @@ public interface Path2afp<
         if (!iterator.hasNext()) {
             return 0;
         }
-        PathElement2afp pathElement1 = iterator.next();
-        if (pathElement1.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
         final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path2afp<?, ?, ?, ?, ?, ?> subPath;
-        double curx = pathElement1.getToX();
+        double curx = coords[0];
         double movx = curx;
-        double cury = pathElement1.getToY();
+        double cury = coords[1];
         double movy = cury;
         int numCrossings = crossings;
         double endx;
         double endy;
         while (numCrossings != MathConstants.SHAPE_INTERSECTS
                 && iterator.hasNext()) {
-            pathElement1 = iterator.next();
-            switch (pathElement1.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
-                movx = pathElement1.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = pathElement1.getToY();
+                movy = coords[1];
                 cury = movy;
                 break;
             case LINE_TO:
-                endx = pathElement1.getToX();
-                endy = pathElement1.getToY();
+                endx = coords[0];
+                endy = coords[1];
                 numCrossings = shadow.computeCrossings(numCrossings, curx, cury, endx, endy);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
@@ -144,45 +144,11 @@ public interface Path2afp<
                 cury = endy;
                 break;
             case QUAD_TO:
-                endx = pathElement1.getToX();
-                endy = pathElement1.getToY();
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.quadTo(
-                        pathElement1.getCtrlX1(), pathElement1.getCtrlY1(), endx, endy);
-                numCrossings = calculatesCrossingsPathIteratorPathShadow(
-                        numCrossings, subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        shadow, CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case CURVE_TO:
-                endx = pathElement1.getToX();
-                endy = pathElement1.getToY();
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.curveTo(pathElement1.getCtrlX1(), pathElement1.getCtrlY1(),
-                        pathElement1.getCtrlX2(), pathElement1.getCtrlY2(), endx, endy);
-                numCrossings = calculatesCrossingsPathIteratorPathShadow(
-                        numCrossings, subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        shadow, CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case ARC_TO:
-                endx = pathElement1.getToX();
-                endy = pathElement1.getToY();
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.arcTo(endx, endy, pathElement1.getRadiusX(), pathElement1.getRadiusY(),
-                        pathElement1.getRotationX(), pathElement1.getLargeArcFlag(),
-                        pathElement1.getSweepFlag());
+                subPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, coords);
+                endx = subPath.getCurrentX();
+                endy = subPath.getCurrentY();
                 numCrossings = calculatesCrossingsPathIteratorPathShadow(
                         numCrossings, subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
                         shadow, CrossingComputationType.STANDARD);
@@ -334,65 +300,65 @@ public interface Path2afp<
         if (!pi.hasNext() || !shape.hasNext()) {
             return false;
         }
-        final Rectangle2afp<?, ?, ?, ?, ?, ?> box = pi.getGeomFactory().newBox();
-        calculatesDrawableElementBoundingBox(shape.restartIterations(), box);
-        final ClosestPointPathShadow2afp shadow = new ClosestPointPathShadow2afp(shape.restartIterations(), box);
-        int crossings = 0;
-        double curx = pathElement1.getToX();
-        double movx = curx;
-        double cury = pathElement1.getToY();
-        double movy = cury;
-        double endx;
-        double endy;
-        while (pi.hasNext()) {
-            pathElement1 = pi.next();
-            switch (pathElement1.getType()) {
-            case MOVE_TO:
-                movx = pathElement1.getToX();
-                curx = movx;
-                movy = pathElement1.getToY();
-                cury = movy;
-                break;
-            case LINE_TO:
-                endx = pathElement1.getToX();
-                endy = pathElement1.getToY();
-                crossings = shadow.computeCrossings(crossings, curx, cury, endx, endy);
-                if (crossings == MathConstants.SHAPE_INTERSECTS) {
-                    result.set(shadow.getClosestPointInOtherShape());
-                    return true;
-                }
-                curx = endx;
-                cury = endy;
-                break;
-            case CLOSE:
-                if (curx != movx || cury != movy) {
-                    crossings = shadow.computeCrossings(crossings, curx, cury, movx, movy);
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Rectangle2afp<?, ?, ?, ?, ?, ?> box = scratch.box(pi.getGeomFactory());
+            calculatesDrawableElementBoundingBox(shape.restartIterations(), box);
+            final ClosestPointPathShadow2afp shadow = new ClosestPointPathShadow2afp(shape.restartIterations(), box, scratch);
+            int crossings = 0;
+            double curx = pathElement1.getToX();
+            double movx = curx;
+            double cury = pathElement1.getToY();
+            double movy = cury;
+            while (pi.hasNext()) {
+                pathElement1 = pi.next();
+                switch (pathElement1.getType()) {
+                case MOVE_TO:
+                    movx = pathElement1.getToX();
+                    curx = movx;
+                    movy = pathElement1.getToY();
+                    cury = movy;
+                    break;
+                case LINE_TO:
+                    final double endx = pathElement1.getToX();
+                    final double endy = pathElement1.getToY();
+                    crossings = shadow.computeCrossings(crossings, curx, cury, endx, endy);
                     if (crossings == MathConstants.SHAPE_INTERSECTS) {
                         result.set(shadow.getClosestPointInOtherShape());
                         return true;
                     }
+                    curx = endx;
+                    cury = endy;
+                    break;
+                case CLOSE:
+                    if (curx != movx || cury != movy) {
+                        crossings = shadow.computeCrossings(crossings, curx, cury, movx, movy);
+                        if (crossings == MathConstants.SHAPE_INTERSECTS) {
+                            result.set(shadow.getClosestPointInOtherShape());
+                            return true;
+                        }
+                    }
+                    curx = movx;
+                    cury = movy;
+                    break;
+                case QUAD_TO:
+                case CURVE_TO:
+                case ARC_TO:
+                default:
+                    throw new IllegalArgumentException();
                 }
-                curx = movx;
-                cury = movy;
-                break;
-            case QUAD_TO:
-            case CURVE_TO:
-            case ARC_TO:
-            default:
-                throw new IllegalArgumentException();
             }
-        }
-        if (curx == movx && cury == movy) {
-            assert crossings != MathConstants.SHAPE_INTERSECTS;
-            final int mask = pi.getWindingRule() == PathWindingRule.NON_ZERO ? -1 : 2;
-            if ((crossings & mask) != 0) {
-                // Second path is inside the first shape
-                result.set(shadow.getClosestPointInShadowShape());
-                return true;
+            if (curx == movx && cury == movy) {
+                assert crossings != MathConstants.SHAPE_INTERSECTS;
+                final int mask = pi.getWindingRule() == PathWindingRule.NON_ZERO ? -1 : 2;
+                if ((crossings & mask) != 0) {
+                    // Second path is inside the first shape
+                    result.set(shadow.getClosestPointInShadowShape());
+                    return true;
+                }
             }
+            result.set(shadow.getClosestPointInOtherShape());
+            return true;
         }
-        result.set(shadow.getClosestPointInOtherShape());
-        return true;
     }
 
     /**
@@ -590,29 +556,30 @@ public interface Path2afp<
         assert !pi.isCurved() : AssertMessages.invalidTrueValue(0, "isCurved"); //$NON-NLS-1$
         assert result != null : AssertMessages.notNullParameter(3);
         double bestDist = Double.NEGATIVE_INFINITY;
-        PathElement2afp pe;
-        final Point2D<?, ?> point = new InnerComputationPoint2afp();
-        while (pi.hasNext()) {
-            pe = pi.next();
-            switch (pe.getType()) {
-            case MOVE_TO:
-                break;
-            case LINE_TO:
-            case CLOSE:
-                Segment2afp.findsFarthestPointSegmentPoint(
-                        pe.getFromX(), pe.getFromY(), pe.getToX(), pe.getToY(),
-                        x, y, point);
-                final double d = Point2D.getDistanceSquaredPointPoint(x, y, point.getX(), point.getY());
-                if (d > bestDist) {
-                    bestDist = d;
-                    result.set(point.getX(), point.getY());
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> point = scratch.point();
+            while (pi.hasNext()) {
+                final PathElement2afp pe = pi.next();
+                switch (pe.getType()) {
+                case MOVE_TO:
+                    break;
+                case LINE_TO:
+                case CLOSE:
+                    Segment2afp.findsFarthestPointSegmentPoint(
+                            pe.getFromX(), pe.getFromY(), pe.getToX(), pe.getToY(),
+                            x, y, point);
+                    final double d = Point2D.getDistanceSquaredPointPoint(x, y, point.getX(), point.getY());
+                    if (d > bestDist) {
+                        bestDist = d;
+                        result.set(point.getX(), point.getY());
+                    }
+                    break;
+                case QUAD_TO:
+                case CURVE_TO:
+                case ARC_TO:
+                default:
+                    throw new IllegalStateException(pe.getType().toString());
                 }
-                break;
-            case QUAD_TO:
-            case CURVE_TO:
-            case ARC_TO:
-            default:
-                throw new IllegalStateException(pe.getType().toString());
             }
         }
     }
@@ -727,32 +694,31 @@ public interface Path2afp<
         if (!iterator.hasNext()) {
             return 0;
         }
-        PathElement2afp element;
-        element = iterator.next();
-        if (element.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
         final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path2afp<?, ?, ?, ?, ?, ?> subPath;
-        double movx = element.getToX();
-        double movy = element.getToY();
+        double movx = coords[0];
+        double movy = coords[1];
         double curx = movx;
         double cury = movy;
         double endx;
         double endy;
         int numCrossings = crossings;
         while (iterator.hasNext()) {
-            element = iterator.next();
-            switch (element.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
-                movx = element.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = element.getToY();
+                movy = coords[1];
                 cury = movy;
                 break;
             case LINE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
+                endx = coords[0];
+                endy = coords[1];
                 if (endx == px && endy == py) {
                     return MathConstants.SHAPE_INTERSECTS;
                 }
@@ -764,63 +730,14 @@ public interface Path2afp<
                 cury = endy;
                 break;
             case QUAD_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                if (endx == px && endy == py) {
-                    return MathConstants.SHAPE_INTERSECTS;
-                }
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.quadTo(
-                        element.getCtrlX1(), element.getCtrlY1(),
-                        endx, endy);
-                numCrossings = calculatesCrossingsPathIteratorPointShadow(
-                        numCrossings,
-                        subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        px, py,
-                        CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case CURVE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                if (endx == px && endy == py) {
-                    return MathConstants.SHAPE_INTERSECTS;
-                }
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.curveTo(
-                        element.getCtrlX1(), element.getCtrlY1(),
-                        element.getCtrlX2(), element.getCtrlY2(),
-                        endx, endy);
-                numCrossings = calculatesCrossingsPathIteratorPointShadow(
-                        numCrossings,
-                        subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        px, py,
-                        CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case ARC_TO:
-                endx = element.getToX();
-                endy = element.getToY();
+                subPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, coords);
+                endx = subPath.getCurrentX();
+                endy = subPath.getCurrentY();
                 if (endx == px && endy == py) {
                     return MathConstants.SHAPE_INTERSECTS;
                 }
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.arcTo(
-                        endx, endy,
-                        element.getRadiusX(), element.getRadiusY(),
-                        element.getRotationX(), element.getLargeArcFlag(),
-                        element.getSweepFlag());
                 numCrossings = calculatesCrossingsPathIteratorPointShadow(
                         numCrossings,
                         subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
@@ -874,6 +791,41 @@ public interface Path2afp<
         return numCrossings;
     }
 
+    /** Create a path that contains the curved element that is described by the given coordinates.
+     *
+     * @param factory the factory of the path.
+     * @param rule the winding rule of the path.
+     * @param type the type of the curved element.
+     * @param fromx the x coordinate of the starting point of the element.
+     * @param fromy the y coordinate of the starting point of the element.
+     * @param coords the coordinates of the element with the layout of {@link PathIterator2afp#next(double[])}.
+     * @return the path.
+     * @since 14.0
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    static Path2afp<?, ?, ?, ?, ?, ?> newSubPath(GeomFactory2afp<?, ?, ?, ?> factory, PathWindingRule rule,
+            PathElementType type, double fromx, double fromy, double[] coords) {
+        final Path2afp<?, ?, ?, ?, ?, ?> subPath = factory.newPath(rule);
+        subPath.moveTo(fromx, fromy);
+        switch (type) {
+        case QUAD_TO:
+            subPath.quadTo(coords[0], coords[1], coords[2], coords[3]);
+            break;
+        case CURVE_TO:
+            subPath.curveTo(coords[0], coords[1], coords[2], coords[3], coords[4], coords[5]);
+            break;
+        case ARC_TO:
+            subPath.arcTo(coords[0], coords[1], coords[2], coords[3], coords[4], coords[5] != 0., coords[6] != 0.);
+            break;
+        case MOVE_TO:
+        case LINE_TO:
+        case CLOSE:
+        default:
+            throw new IllegalArgumentException();
+        }
+        return subPath;
+    }
+
     /**
      * @deprecated since 13.0, see {@link #calculatesCrossingsPathIteratorEllipseShadow(int,
      *     PathIterator2afp, double, double, double, double, CrossingComputationType)}
@@ -910,34 +862,32 @@ public interface Path2afp<
         if (!iterator.hasNext()) {
             return 0;
         }
-        PathElement2afp element;
-
-        element = iterator.next();
-        if (element.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
         final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path2afp<?, ?, ?, ?, ?, ?> localPath;
-        double movx = element.getToX();
-        double movy = element.getToY();
+        double movx = coords[0];
+        double movy = coords[1];
         double curx = movx;
         double cury = movy;
         double endx;
         double endy;
         int numCrosses = crossings;
         while (numCrosses != MathConstants.SHAPE_INTERSECTS && iterator.hasNext()) {
-            element = iterator.next();
-            switch (element.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
-                movx = element.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = element.getToY();
+                movy = coords[1];
                 cury = movy;
                 break;
             case LINE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
+                endx = coords[0];
+                endy = coords[1];
                 numCrosses = Segment2afp.calculatesCrossingsEllipseShadowSegment(
                         numCrosses,
                         ex, ey, ew, eh,
@@ -950,56 +900,11 @@ public interface Path2afp<
                 cury = endy;
                 break;
             case QUAD_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.quadTo(
-                        element.getCtrlX1(), element.getCtrlY1(),
-                        endx, endy);
-                numCrosses = calculatesCrossingsPathIteratorEllipseShadow(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        ex, ey, ew, eh,
-                        CrossingComputationType.STANDARD);
-                if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrosses;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case CURVE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.curveTo(
-                        element.getCtrlX1(), element.getCtrlY1(),
-                        element.getCtrlX2(), element.getCtrlY2(),
-                        endx, endy);
-                numCrosses = calculatesCrossingsPathIteratorEllipseShadow(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        ex, ey, ew, eh,
-                        CrossingComputationType.STANDARD);
-                if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrosses;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case ARC_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.arcTo(
-                        endx, endy,
-                        element.getRadiusX(), element.getRadiusY(),
-                        element.getRotationX(), element.getLargeArcFlag(),
-                        element.getSweepFlag());
+                localPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, coords);
+                endx = localPath.getCurrentX();
+                endy = localPath.getCurrentY();
                 numCrosses = calculatesCrossingsPathIteratorEllipseShadow(
                         numCrosses,
                         localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
@@ -1095,14 +1000,14 @@ public interface Path2afp<
         if (!iterator.hasNext()) {
             return 0;
         }
-        PathElement2afp pathElement = iterator.next();
-        if (pathElement.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
         final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
-        double curx = pathElement.getToX();
+        double curx = coords[0];
         double movx = curx;
-        double cury = pathElement.getToY();
+        double cury = coords[1];
         double movy = cury;
         int numCrossings = crossings;
         Path2afp<?, ?, ?, ?, ?, ?> localPath;
@@ -1110,19 +1015,19 @@ public interface Path2afp<
         double endy;
         while (numCrossings != MathConstants.SHAPE_INTERSECTS
                 && iterator.hasNext()) {
-            pathElement = iterator.next();
-            switch (pathElement.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
                 // Count should always be a multiple of 2 here.
                 // assert (crossings & 1 != 0);
-                movx = pathElement.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = pathElement.getToY();
+                movy = coords[1];
                 cury = movy;
                 break;
             case LINE_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
+                endx = coords[0];
+                endy = coords[1];
                 numCrossings = Segment2afp.calculatesCrossingsRoundRectangleShadowSegment(numCrossings,
                         x1, y1, x2, y2, arcWidth, arcHeight,
                         curx, cury,
@@ -1134,57 +1039,11 @@ public interface Path2afp<
                 cury = endy;
                 break;
             case QUAD_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.quadTo(
-                        pathElement.getCtrlX1(), pathElement.getCtrlY1(),
-                        endx, endy);
-                numCrossings = calculatesCrossingsPathIteratorRoundRectangleShadow(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2, arcWidth, arcHeight,
-                        CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case CURVE_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.curveTo(
-                        pathElement.getCtrlX1(), pathElement.getCtrlY1(),
-                        pathElement.getCtrlX2(), pathElement.getCtrlY2(),
-                        endx, endy);
-                numCrossings = calculatesCrossingsPathIteratorRoundRectangleShadow(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2, arcWidth, arcHeight,
-                        CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case ARC_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.arcTo(
-                        endx, endy,
-                        pathElement.getRadiusX(), pathElement.getRadiusY(),
-                        pathElement.getRotationX(), pathElement.getLargeArcFlag(),
-                        pathElement.getSweepFlag());
+                localPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, coords);
+                endx = localPath.getCurrentX();
+                endy = localPath.getCurrentY();
                 numCrossings = calculatesCrossingsPathIteratorRoundRectangleShadow(
                         numCrossings,
                         localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
@@ -1271,32 +1130,31 @@ public interface Path2afp<
         if (!iterator.hasNext()) {
             return 0;
         }
-        PathElement2afp element;
-        element = iterator.next();
-        if (element.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
         final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path2afp<?, ?, ?, ?, ?, ?> localPath;
-        double movx = element.getToX();
-        double movy = element.getToY();
+        double movx = coords[0];
+        double movy = coords[1];
         double curx = movx;
         double cury = movy;
         double endx;
         double endy;
         int numCrosses = crossings;
         while (iterator.hasNext()) {
-            element = iterator.next();
-            switch (element.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
-                movx = element.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = element.getToY();
+                movy = coords[1];
                 cury = movy;
                 break;
             case LINE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
+                endx = coords[0];
+                endy = coords[1];
                 numCrosses = Segment2afp.calculatesCrossingsCircleShadowSegment(
                         numCrosses,
                         cx, cy, radius,
@@ -1309,57 +1167,11 @@ public interface Path2afp<
                 cury = endy;
                 break;
             case QUAD_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(element.getFromX(), element.getFromY());
-                localPath.quadTo(
-                        element.getCtrlX1(), element.getCtrlY1(),
-                        endx, endy);
-                numCrosses = calculatesCrossingsPathIteratorCircleShadow(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        cx, cy, radius,
-                        CrossingComputationType.STANDARD);
-                if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrosses;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case CURVE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(element.getFromX(), element.getFromY());
-                localPath.curveTo(
-                        element.getCtrlX1(), element.getCtrlY1(),
-                        element.getCtrlX2(), element.getCtrlY2(),
-                        endx, endy);
-                numCrosses = calculatesCrossingsPathIteratorCircleShadow(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        cx, cy, radius,
-                        CrossingComputationType.STANDARD);
-                if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrosses;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case ARC_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(element.getFromX(), element.getFromY());
-                localPath.arcTo(
-                        endx, endy,
-                        element.getRadiusX(), element.getRadiusY(),
-                        element.getRotationX(), element.getLargeArcFlag(),
-                        element.getSweepFlag());
+                localPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, coords);
+                endx = localPath.getCurrentX();
+                endy = localPath.getCurrentY();
                 numCrosses = calculatesCrossingsPathIteratorCircleShadow(
                         numCrosses,
                         localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
@@ -1444,32 +1256,31 @@ public interface Path2afp<
         if (!iterator.hasNext() || crossings == MathConstants.SHAPE_INTERSECTS) {
             return crossings;
         }
-        PathElement2afp element;
-        element = iterator.next();
-        if (element.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
         final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path2afp<?, ?, ?, ?, ?, ?> localPath;
-        double movx = element.getToX();
-        double movy = element.getToY();
+        double movx = coords[0];
+        double movy = coords[1];
         double curx = movx;
         double cury = movy;
         double endx;
         double endy;
         int numCrosses = crossings;
         while (numCrosses != MathConstants.SHAPE_INTERSECTS && iterator.hasNext()) {
-            element = iterator.next();
-            switch (element.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
-                movx = element.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = element.getToY();
+                movy = coords[1];
                 cury = movy;
                 break;
             case LINE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
+                endx = coords[0];
+                endy = coords[1];
                 numCrosses = Segment2afp.calculatesCrossingsSegmentShadowSegment(
                         numCrosses,
                         x1, y1, x2, y2,
@@ -1482,57 +1293,11 @@ public interface Path2afp<
                 cury = endy;
                 break;
             case QUAD_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.quadTo(
-                        element.getCtrlX1(), element.getCtrlY1(),
-                        endx, endy);
-                numCrosses = calculatesCrossingsPathIteratorSegmentShadow(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2,
-                        CrossingComputationType.STANDARD);
-                if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrosses;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case CURVE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.curveTo(
-                        element.getCtrlX1(), element.getCtrlY1(),
-                        element.getCtrlX2(), element.getCtrlY2(),
-                        endx, endy);
-                numCrosses = calculatesCrossingsPathIteratorSegmentShadow(
-                        numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2,
-                        CrossingComputationType.STANDARD);
-                if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrosses;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case ARC_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.arcTo(
-                        endx, endy,
-                        element.getRadiusX(), element.getRadiusY(),
-                        element.getRotationX(), element.getLargeArcFlag(),
-                        element.getSweepFlag());
+                localPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, coords);
+                endx = localPath.getCurrentX();
+                endy = localPath.getCurrentY();
                 numCrosses = calculatesCrossingsPathIteratorSegmentShadow(
                         numCrosses,
                         localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
@@ -1625,34 +1390,34 @@ public interface Path2afp<
         if (!iterator.hasNext()) {
             return 0;
         }
-        PathElement2afp pathElement = iterator.next();
-        if (pathElement.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
         final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path2afp<?, ?, ?, ?, ?, ?> localPath;
-        double curx = pathElement.getToX();
+        double curx = coords[0];
         double movx = curx;
-        double cury = pathElement.getToY();
+        double cury = coords[1];
         double movy = cury;
         int numCrossings = crossings;
         double endx;
         double endy;
         while (numCrossings != MathConstants.SHAPE_INTERSECTS
                 && iterator.hasNext()) {
-            pathElement = iterator.next();
-            switch (pathElement.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
                 // Count should always be a multiple of 2 here.
                 // assert (crossings & 1 != 0);
-                movx = pathElement.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = pathElement.getToY();
+                movy = coords[1];
                 cury = movy;
                 break;
             case LINE_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
+                endx = coords[0];
+                endy = coords[1];
                 numCrossings = Segment2afp.calculatesCrossingsRectangleShadowSegment(
                         numCrossings,
                         rxmin, rymin,
@@ -1666,59 +1431,11 @@ public interface Path2afp<
                 cury = endy;
                 break;
             case QUAD_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.quadTo(
-                        pathElement.getCtrlX1(), pathElement.getCtrlY1(),
-                        endx, endy);
-                numCrossings = calculatesCrossingsPathIteratorRectangleShadow(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        rxmin, rymin,
-                        rxmax, rymax,
-                        CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case CURVE_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.curveTo(
-                        pathElement.getCtrlX1(), pathElement.getCtrlY1(),
-                        pathElement.getCtrlX2(), pathElement.getCtrlY2(),
-                        endx, endy);
-                numCrossings = calculatesCrossingsPathIteratorRectangleShadow(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        rxmin, rymin,
-                        rxmax, rymax,
-                        CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case ARC_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.arcTo(
-                        endx, endy,
-                        pathElement.getRadiusX(), pathElement.getRadiusY(),
-                        pathElement.getRotationX(), pathElement.getLargeArcFlag(),
-                        pathElement.getSweepFlag());
+                localPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, coords);
+                endx = localPath.getCurrentX();
+                endy = localPath.getCurrentY();
                 numCrossings = calculatesCrossingsPathIteratorRectangleShadow(
                         numCrossings,
                         localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
@@ -1818,36 +1535,35 @@ public interface Path2afp<
             return 0;
         }
 
-        PathElement2afp pathElement = iterator.next();
-
-        if (pathElement.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
         final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path2afp<?, ?, ?, ?, ?, ?> localPath;
-        double curx = pathElement.getToX();
+        double curx = coords[0];
         double movx = curx;
-        double cury = pathElement.getToY();
+        double cury = coords[1];
         double movy = cury;
         int numCrossings = crossings;
         double endx;
         double endy;
         while (numCrossings != MathConstants.SHAPE_INTERSECTS
                 && iterator.hasNext()) {
-            pathElement = iterator.next();
-            switch (pathElement.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
                 // Count should always be a multiple of 2 here.
                 // assert (crossings & 1 != 0);
-                movx = pathElement.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = pathElement.getToY();
+                movy = coords[1];
                 cury = movy;
                 break;
             case LINE_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
+                endx = coords[0];
+                endy = coords[1];
                 numCrossings = Segment2afp.calculatesCrossingsTriangleShadowSegment(numCrossings,
                         x1, y1, x2, y2, x3, y3,
                         curx, cury,
@@ -1859,57 +1575,11 @@ public interface Path2afp<
                 cury = endy;
                 break;
             case QUAD_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.quadTo(
-                        pathElement.getCtrlX1(), pathElement.getCtrlY1(),
-                        endx, endy);
-                numCrossings = calculatesCrossingsPathIteratorTriangleShadow(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2, x3, y3,
-                        CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case CURVE_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.curveTo(
-                        pathElement.getCtrlX1(), pathElement.getCtrlY1(),
-                        pathElement.getCtrlX2(), pathElement.getCtrlY2(),
-                        endx, endy);
-                numCrossings = calculatesCrossingsPathIteratorTriangleShadow(
-                        numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        x1, y1, x2, y2, x3, y3,
-                        CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                break;
             case ARC_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury);
-                localPath.arcTo(
-                        endx, endy,
-                        pathElement.getRadiusX(), pathElement.getRadiusY(),
-                        pathElement.getRotationX(), pathElement.getLargeArcFlag(),
-                        pathElement.getSweepFlag());
+                localPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, coords);
+                endx = localPath.getCurrentX();
+                endy = localPath.getCurrentY();
                 numCrossings = calculatesCrossingsPathIteratorTriangleShadow(
                         numCrossings,
                         localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
@@ -1981,129 +1651,63 @@ public interface Path2afp<
      * @return <code>true</code> if a drawable element was found.
      * @see #calculatesControlPointBoundingBox(PathIterator2afp, Rectangle2afp)
      */
-    @SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity"})
     static boolean calculatesDrawableElementBoundingBox(PathIterator2afp<?> iterator, Rectangle2afp<?, ?, ?, ?, ?, ?> box) {
         assert iterator != null : AssertMessages.notNullParameter(0);
         assert box != null : AssertMessages.notNullParameter(1);
         final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
+        final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
         boolean foundOneLine = false;
         double xmin = Double.POSITIVE_INFINITY;
         double ymin = Double.POSITIVE_INFINITY;
         double xmax = Double.NEGATIVE_INFINITY;
         double ymax = Double.NEGATIVE_INFINITY;
-        PathElement2afp element;
+        double curx = 0.;
+        double cury = 0.;
+        double movx = 0.;
+        double movy = 0.;
         Path2afp<?, ?, ?, ?, ?, ?> subPath;
-        Rectangle2afp<?, ?, ?, ?, ?, ?> subBox;
+        Rectangle2afp<?, ?, ?, ?, ?, ?> subBox = null;
         while (iterator.hasNext()) {
-            element = iterator.next();
-            switch (element.getType()) {
+            final PathElementType type = iterator.next(coords);
+            switch (type) {
             case LINE_TO:
-                if (element.getFromX() < xmin) {
-                    xmin = element.getFromX();
-                }
-                if (element.getFromY() < ymin) {
-                    ymin = element.getFromY();
-                }
-                if (element.getFromX() > xmax) {
-                    xmax = element.getFromX();
-                }
-                if (element.getFromY() > ymax) {
-                    ymax = element.getFromY();
-                }
-                if (element.getToX() < xmin) {
-                    xmin = element.getToX();
-                }
-                if (element.getToY() < ymin) {
-                    ymin = element.getToY();
-                }
-                if (element.getToX() > xmax) {
-                    xmax = element.getToX();
-                }
-                if (element.getToY() > ymax) {
-                    ymax = element.getToY();
-                }
+                xmin = Math.min(xmin, Math.min(curx, coords[0]));
+                ymin = Math.min(ymin, Math.min(cury, coords[1]));
+                xmax = Math.max(xmax, Math.max(curx, coords[0]));
+                ymax = Math.max(ymax, Math.max(cury, coords[1]));
+                curx = coords[0];
+                cury = coords[1];
                 foundOneLine = true;
                 break;
             case CURVE_TO:
-                subPath = factory.newPath(iterator.getWindingRule());
-                subBox = factory.newBox();
-                subPath.moveTo(element.getFromX(), element.getFromY());
-                subPath.curveTo(
-                        element.getCtrlX1(), element.getCtrlY1(),
-                        element.getCtrlX2(), element.getCtrlY2(),
-                        element.getToX(), element.getToY());
-                if (calculatesDrawableElementBoundingBox(
-                        subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        subBox)) {
-                    if (subBox.getMinX() < xmin) {
-                        xmin = subBox.getMinX();
-                    }
-                    if (subBox.getMinY() < ymin) {
-                        ymin = subBox.getMinY();
-                    }
-                    if (subBox.getMaxX() > xmax) {
-                        xmax = subBox.getMaxX();
-                    }
-                    if (subBox.getMaxY() > ymax) {
-                        ymax = subBox.getMaxY();
-                    }
-                    foundOneLine = true;
-                }
-                break;
             case ARC_TO:
-                subPath = factory.newPath(iterator.getWindingRule());
-                subBox = factory.newBox();
-                subPath.moveTo(element.getFromX(), element.getFromY());
-                subPath.arcTo(
-                        element.getToX(), element.getToY(),
-                        element.getRadiusX(), element.getRadiusY(),
-                        element.getRotationX(), element.getLargeArcFlag(),
-                        element.getSweepFlag());
-                if (calculatesDrawableElementBoundingBox(
-                        subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        subBox)) {
-                    if (subBox.getMinX() < xmin) {
-                        xmin = subBox.getMinX();
-                    }
-                    if (subBox.getMinY() < ymin) {
-                        ymin = subBox.getMinY();
-                    }
-                    if (subBox.getMaxX() > xmax) {
-                        xmax = subBox.getMaxX();
-                    }
-                    if (subBox.getMaxY() > ymax) {
-                        ymax = subBox.getMaxY();
-                    }
-                    foundOneLine = true;
-                }
-                break;
             case QUAD_TO:
-                subPath = factory.newPath(iterator.getWindingRule());
-                subBox = factory.newBox();
-                subPath.moveTo(element.getFromX(), element.getFromY());
-                subPath.quadTo(
-                        element.getCtrlX1(), element.getCtrlY1(),
-                        element.getToX(), element.getToY());
+                subPath = newSubPath(factory, iterator.getWindingRule(), type, curx, cury, coords);
+                if (subBox == null) {
+                    subBox = factory.newBox();
+                }
                 if (calculatesDrawableElementBoundingBox(
                         subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
                         subBox)) {
-                    if (subBox.getMinX() < xmin) {
-                        xmin = subBox.getMinX();
-                    }
-                    if (subBox.getMinY() < ymin) {
-                        ymin = subBox.getMinY();
-                    }
-                    if (subBox.getMaxX() > xmax) {
-                        xmax = subBox.getMaxX();
-                    }
-                    if (subBox.getMaxY() > ymax) {
-                        ymax = subBox.getMaxY();
-                    }
+                    xmin = Math.min(xmin, subBox.getMinX());
+                    ymin = Math.min(ymin, subBox.getMinY());
+                    xmax = Math.max(xmax, subBox.getMaxX());
+                    ymax = Math.max(ymax, subBox.getMaxY());
                     foundOneLine = true;
                 }
+                curx = subPath.getCurrentX();
+                cury = subPath.getCurrentY();
                 break;
             case MOVE_TO:
+                movx = coords[0];
+                movy = coords[1];
+                curx = movx;
+                cury = movy;
+                break;
             case CLOSE:
+                curx = movx;
+                cury = movy;
+                break;
             default:
             }
         }
@@ -2135,7 +1739,8 @@ public interface Path2afp<
      * @return <code>true</code> if a control point was found.
      * @see #calculatesDrawableElementBoundingBox(PathIterator2afp, Rectangle2afp)
      */
-    @SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity"})
+    @SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity",
+        "checkstyle:magicnumber"})
     static boolean calculatesControlPointBoundingBox(PathIterator2afp<?> iterator, Rectangle2afp<?, ?, ?, ?, ?, ?> box) {
         assert iterator != null : AssertMessages.notNullParameter(0);
         assert box != null : AssertMessages.notNullParameter(1);
@@ -2144,158 +1749,51 @@ public interface Path2afp<
         double ymin = Double.POSITIVE_INFINITY;
         double xmax = Double.NEGATIVE_INFINITY;
         double ymax = Double.NEGATIVE_INFINITY;
-        PathElement2afp element;
+        final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+        double curx = 0.;
+        double cury = 0.;
+        double movx = 0.;
+        double movy = 0.;
         while (iterator.hasNext()) {
-            element = iterator.next();
-            switch (element.getType()) {
+            final PathElementType type = iterator.next(coords);
+            final int count;
+            switch (type) {
             case LINE_TO:
-                if (element.getFromX() < xmin) {
-                    xmin = element.getFromX();
-                }
-                if (element.getFromY() < ymin) {
-                    ymin = element.getFromY();
-                }
-                if (element.getFromX() > xmax) {
-                    xmax = element.getFromX();
-                }
-                if (element.getFromY() > ymax) {
-                    ymax = element.getFromY();
-                }
-                if (element.getToX() < xmin) {
-                    xmin = element.getToX();
-                }
-                if (element.getToY() < ymin) {
-                    ymin = element.getToY();
-                }
-                if (element.getToX() > xmax) {
-                    xmax = element.getToX();
-                }
-                if (element.getToY() > ymax) {
-                    ymax = element.getToY();
-                }
-                foundOneControlPoint = true;
-                break;
-            case CURVE_TO:
-                if (element.getFromX() < xmin) {
-                    xmin = element.getFromX();
-                }
-                if (element.getFromY() < ymin) {
-                    ymin = element.getFromY();
-                }
-                if (element.getFromX() > xmax) {
-                    xmax = element.getFromX();
-                }
-                if (element.getFromY() > ymax) {
-                    ymax = element.getFromY();
-                }
-                if (element.getCtrlX1() < xmin) {
-                    xmin = element.getCtrlX1();
-                }
-                if (element.getCtrlY1() < ymin) {
-                    ymin = element.getCtrlY1();
-                }
-                if (element.getCtrlX1() > xmax) {
-                    xmax = element.getCtrlX1();
-                }
-                if (element.getCtrlY1() > ymax) {
-                    ymax = element.getCtrlY1();
-                }
-                if (element.getCtrlX2() < xmin) {
-                    xmin = element.getCtrlX2();
-                }
-                if (element.getCtrlY2() < ymin) {
-                    ymin = element.getCtrlY2();
-                }
-                if (element.getCtrlX2() > xmax) {
-                    xmax = element.getCtrlX2();
-                }
-                if (element.getCtrlY2() > ymax) {
-                    ymax = element.getCtrlY2();
-                }
-                if (element.getToX() < xmin) {
-                    xmin = element.getToX();
-                }
-                if (element.getToY() < ymin) {
-                    ymin = element.getToY();
-                }
-                if (element.getToX() > xmax) {
-                    xmax = element.getToX();
-                }
-                if (element.getToY() > ymax) {
-                    ymax = element.getToY();
-                }
-                foundOneControlPoint = true;
+            case ARC_TO:
+                count = 2;
                 break;
             case QUAD_TO:
-                if (element.getFromX() < xmin) {
-                    xmin = element.getFromX();
-                }
-                if (element.getFromY() < ymin) {
-                    ymin = element.getFromY();
-                }
-                if (element.getFromX() > xmax) {
-                    xmax = element.getFromX();
-                }
-                if (element.getFromY() > ymax) {
-                    ymax = element.getFromY();
-                }
-                if (element.getCtrlX1() < xmin) {
-                    xmin = element.getCtrlX1();
-                }
-                if (element.getCtrlY1() < ymin) {
-                    ymin = element.getCtrlY1();
-                }
-                if (element.getCtrlX1() > xmax) {
-                    xmax = element.getCtrlX1();
-                }
-                if (element.getCtrlY1() > ymax) {
-                    ymax = element.getCtrlY1();
-                }
-                if (element.getToX() < xmin) {
-                    xmin = element.getToX();
-                }
-                if (element.getToY() < ymin) {
-                    ymin = element.getToY();
-                }
-                if (element.getToX() > xmax) {
-                    xmax = element.getToX();
-                }
-                if (element.getToY() > ymax) {
-                    ymax = element.getToY();
-                }
-                foundOneControlPoint = true;
+                count = 4;
                 break;
-            case ARC_TO:
-                if (element.getFromX() < xmin) {
-                    xmin = element.getFromX();
-                }
-                if (element.getFromY() < ymin) {
-                    ymin = element.getFromY();
-                }
-                if (element.getFromX() > xmax) {
-                    xmax = element.getFromX();
-                }
-                if (element.getFromY() > ymax) {
-                    ymax = element.getFromY();
-                }
-                if (element.getToX() < xmin) {
-                    xmin = element.getToX();
-                }
-                if (element.getToY() < ymin) {
-                    ymin = element.getToY();
-                }
-                if (element.getToX() > xmax) {
-                    xmax = element.getToX();
-                }
-                if (element.getToY() > ymax) {
-                    ymax = element.getToY();
-                }
-                foundOneControlPoint = true;
+            case CURVE_TO:
+                count = 6;
                 break;
             case MOVE_TO:
+                movx = coords[0];
+                movy = coords[1];
+                curx = movx;
+                cury = movy;
+                continue;
             case CLOSE:
+                curx = movx;
+                cury = movy;
+                continue;
             default:
+                continue;
+            }
+            xmin = Math.min(xmin, curx);
+            ymin = Math.min(ymin, cury);
+            xmax = Math.max(xmax, curx);
+            ymax = Math.max(ymax, cury);
+            for (int i = 0; i < count; i += 2) {
+                xmin = Math.min(xmin, coords[i]);
+                ymin = Math.min(ymin, coords[i + 1]);
+                xmax = Math.max(xmax, coords[i]);
+                ymax = Math.max(ymax, coords[i + 1]);
             }
+            curx = coords[count - 2];
+            cury = coords[count - 1];
+            foundOneControlPoint = true;
         }
         if (foundOneControlPoint) {
             box.setFromCorners(xmin, ymin, xmax, ymax);
@@ -2320,76 +1818,41 @@ public interface Path2afp<
      */
     static double calculatesPathLength(PathIterator2afp<?> iterator) {
         assert iterator != null : AssertMessages.notNullParameter();
-        PathElement2afp pathElement = iterator.next();
-        if (pathElement.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
         // only for internal use
         final GeomFactory2afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path2afp<?, ?, ?, ?, ?, ?> subPath;
-        double curx = pathElement.getToX();
+        double curx = coords[0];
         double movx = curx;
-        double cury = pathElement.getToY();
+        double cury = coords[1];
         double movy = cury;
         double length = 0;
-        double endx;
-        double endy;
         while (iterator.hasNext()) {
-            pathElement = iterator.next();
-            switch (pathElement.getType()) {
+            final PathElementType type = iterator.next(coords);
+            switch (type) {
             case MOVE_TO:
-                movx = pathElement.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = pathElement.getToY();
+                movy = coords[1];
                 cury = movy;
                 break;
             case LINE_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
                 length += Point2D.getDistancePointPoint(
                         curx, cury,
-                        endx, endy);
-                curx = endx;
-                cury = endy;
+                        coords[0], coords[1]);
+                curx = coords[0];
+                cury = coords[1];
                 break;
             case QUAD_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.quadTo(
-                        pathElement.getCtrlX1(), pathElement.getCtrlY1(),
-                        endx, endy);
-                length += calculatesPathLength(subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO));
-                curx = endx;
-                cury = endy;
-                break;
             case CURVE_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.curveTo(
-                        pathElement.getCtrlX1(), pathElement.getCtrlY1(),
-                        pathElement.getCtrlX2(), pathElement.getCtrlY2(),
-                        endx, endy);
-                length += calculatesPathLength(subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO));
-                curx = endx;
-                cury = endy;
-                break;
             case ARC_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury);
-                subPath.arcTo(
-                        endx, endy,
-                        pathElement.getRadiusX(), pathElement.getRadiusY(),
-                        pathElement.getRotationX(), pathElement.getLargeArcFlag(),
-                        pathElement.getSweepFlag());
+                subPath = newSubPath(factory, iterator.getWindingRule(), type, curx, cury, coords);
                 length += calculatesPathLength(subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO));
-                curx = endx;
-                cury = endy;
+                curx = subPath.getCurrentX();
+                cury = subPath.getCurrentY();
                 break;
             case CLOSE:
                 if (curx != movx || cury != movy) {
@@ -3070,10 +2533,36 @@ public interface Path2afp<
      */
     @Pure
     default PathIterator2afp<IE> getFlatteningPathIterator() {
-        return new FlatteningPathIterator<>(
-                getPathIterator(null),
-                MathConstants.SPLINE_APPROXIMATION_RATIO,
-                Path2afp.DEFAULT_FLATTENING_LIMIT);
+        return getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO);
+    }
+
+    /** Replies an iterator on the path elements that is approximating the curves
+     * with a parametric subdivision.
+     *
+     * <p>Only {@link PathElementType#MOVE_TO},
+     * {@link PathElementType#LINE_TO}, and
+     * {@link PathElementType#CLOSE} types are returned by the iterator.
+     *
+     * <p>Each curve is split into segments of the same parametric length, and the points
+     * are computed with forward differencing. The number of segments is computed from the
+     * second derivative of the curve, in order to guarantee that the distance between any point
+     * of the curve and the approximating segments is lower than or equal to the flatness.
+     * This iterator is faster than {@link #getPathIterator(Transform2D, double)}, but it may
+     * reply more segments.
+     *
+     * <p>The iterator for this class is not multi-threaded safe.
+     *
+     * @param transform is an optional affine Transform2D to be applied to the
+     *     coordinates as they are returned in the iteration, or <code>null</code> if
+     *     untransformed coordinates are desired.
+     * @param flatness is the maximum distance that the line segments used to approximate
+     *     the curved segments are allowed to deviate from any point on the original curve.
+     * @return an iterator on the path elements.
+     * @since 14.0
+     */
+    @Pure
+    default PathIterator2afp<IE> getParametricFlatteningPathIterator(Transform2D transform, double flatness) {
+        return new ParametricFlatteningPathIterator2afp<>(getPathIterator(transform), flatness, DEFAULT_FLATTENING_LIMIT);
     }
 
     /** Replies the x coordinate of the last point in the path.
@@ -3313,6 +2802,47 @@ public interface Path2afp<
             return element;
         }
 
+        @Override
+        @SuppressWarnings("checkstyle:magicnumber")
+        public PathElementType next(double[] coords) {
+            assert coords != null && coords.length >= CURSOR_ARRAY_SIZE
+                    : AssertMessages.tooSmallArrayParameter(coords == null ? 0 : coords.length, CURSOR_ARRAY_SIZE);
+            final Path2afp<?, ?, T, ?, ?, ?> path = getPath();
+            if (this.typeIndex >= path.getPathElementCount()) {
+                throw new NoSuchElementException();
+            }
+            final PathElementType type = path.getPathElementTypeAt(this.typeIndex);
+            switch (type) {
+            case MOVE_TO:
+            case LINE_TO:
+            case QUAD_TO:
+            case CURVE_TO:
+                final int count = type == PathElementType.QUAD_TO ? 4 : (type == PathElementType.CURVE_TO ? 6 : 2);
+                if ((this.coordIndex + count) > (path.size() * 2)) {
+                    throw new NoSuchElementException();
+                }
+                for (int i = 0; i < count; ++i) {
+                    coords[i] = path.getCoordAt(this.coordIndex++);
+                }
+                if (type == PathElementType.MOVE_TO) {
+                    this.movex = coords[0];
+                    this.movey = coords[1];
+                }
+                this.p2.set(coords[count - 2], coords[count - 1]);
+                break;
+            case CLOSE:
+                coords[0] = this.movex;
+                coords[1] = this.movey;
+                this.p2.set(this.movex, this.movey);
+                break;
+            case ARC_TO:
+            default:
+                throw new IllegalStateException();
+            }
+            ++this.typeIndex;
+            return type;
+        }
+
     }
 
     /** A path iterator that transforms the coordinates.
@@ -3447,6 +2977,51 @@ public interface Path2afp<
             return element;
         }
 
+        @Override
+        @SuppressWarnings("checkstyle:magicnumber")
+        public PathElementType next(double[] coords) {
+            assert coords != null && coords.length >= CURSOR_ARRAY_SIZE
+                    : AssertMessages.tooSmallArrayParameter(coords == null ? 0 : coords.length, CURSOR_ARRAY_SIZE);
+            final Path2afp<?, ?, T, ?, ?, ?> path = getPath();
+            if (this.typeIndex >= path.getPathElementCount()) {
+                throw new NoSuchElementException();
+            }
+            final PathElementType type = path.getPathElementTypeAt(this.typeIndex++);
+            final int count;
+            switch (type) {
+            case MOVE_TO:
+                this.movex = path.getCoordAt(this.coordIndex++);
+                this.movey = path.getCoordAt(this.coordIndex++);
+                transform(coords, 0, this.movex, this.movey);
+                count = 2;
+                break;
+            case CLOSE:
+                transform(coords, 0, this.movex, this.movey);
+                count = 2;
+                break;
+            case LINE_TO:
+            case QUAD_TO:
+            case CURVE_TO:
+                count = type == PathElementType.LINE_TO ? 2 : (type == PathElementType.QUAD_TO ? 4 : 6);
+                for (int i = 0; i < count; i += 2) {
+                    transform(coords, i, path.getCoordAt(this.coordIndex++), path.getCoordAt(this.coordIndex++));
+                }
+                break;
+            case ARC_TO:
+            default:
+                throw new IllegalStateException();
+            }
+            this.p2.set(coords[count - 2], coords[count - 1]);
+            return type;
+        }
+
+        private void transform(double[] coords, int index, double x, double y) {
+            this.ptmp1.set(x, y);
+            this.transform.transform(this.ptmp1);
+            coords[index] = this.ptmp1.getX();
+            coords[index + 1] = this.ptmp1.getY();
+        }
+
     }
 
     /** A path iterator that is flattening the path.
@@ -3778,9 +3353,7 @@ public interface Path2afp<
                     this.done = true;
                     return;
                 }
-                final T pathElement = this.pathIterator.next();
-                this.holdType = pathElement.getType();
-                pathElement.toArray(this.hold);
+                this.holdType = this.pathIterator.next(this.hold);
                 this.levelIndex = 0;
                 this.levels[0] = 0;
             }
@@ -3933,6 +3506,30 @@ public interface Path2afp<
             return element;
         }
 
+        @Override
+        public PathElementType next(double[] coords) {
+            assert coords != null && coords.length >= CURSOR_ARRAY_SIZE
+                    : AssertMessages.tooSmallArrayParameter(coords == null ? 0 : coords.length, CURSOR_ARRAY_SIZE);
+            if (this.done) {
+                throw new NoSuchElementException();
+            }
+            final PathElementType type = this.holdType;
+            final PathElementType replied;
+            if (type != PathElementType.CLOSE) {
+                this.lastNextX = this.hold[this.holdIndex + 0];
+                this.lastNextY = this.hold[this.holdIndex + 1];
+                replied = type == PathElementType.MOVE_TO ? type : PathElementType.LINE_TO;
+            } else {
+                this.lastNextX = this.moveX;
+                this.lastNextY = this.moveY;
+                replied = type;
+            }
+            coords[0] = this.lastNextX;
+            coords[1] = this.lastNextY;
+            searchNext();
+            return replied;
+        }
+
         @Override
         public void remove() {
             throw new UnsupportedOperationException();
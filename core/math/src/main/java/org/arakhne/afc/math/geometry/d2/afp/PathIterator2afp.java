@@ -20,6 +20,7 @@
 
 package org.arakhne.afc.math.geometry.d2.afp;
 
+import org.arakhne.afc.math.geometry.PathElementType;
 import org.arakhne.afc.math.geometry.d2.PathIterator2D;
 
 
@@ -34,10 +35,51 @@ import org.arakhne.afc.math.geometry.d2.PathIterator2D;
  */
 public interface PathIterator2afp<T extends PathElement2afp> extends PathIterator2D<T>, Cloneable {
 
+	/** Minimal size of the arrays that are given to {@link #next(double[])}.
+	 *
+	 * @since 14.0
+	 */
+	int CURSOR_ARRAY_SIZE = 7;
+
 	@Override
 	GeomFactory2afp<T, ?, ?, ?> getGeomFactory();
 
 	@Override
 	PathIterator2afp<T> restartIterations();
 
+	/** Move to the next path element and copy its coordinates into the given array,
+	 * without creating a path element.
+	 *
+	 * <p>The starting point of the element is not copied. The layout of the array is:<ul>
+	 * <li>{@link PathElementType#MOVE_TO}, {@link PathElementType#LINE_TO}, {@link PathElementType#CLOSE}:
+	 *     toX, toY;</li>
+	 * <li>{@link PathElementType#QUAD_TO}: ctrlX, ctrlY, toX, toY;</li>
+	 * <li>{@link PathElementType#CURVE_TO}: ctrlX1, ctrlY1, ctrlX2, ctrlY2, toX, toY;</li>
+	 * <li>{@link PathElementType#ARC_TO}: toX, toY, radiusX, radiusY, rotationX, and <code>1</code>
+	 *     or <code>0</code> for the large-arc flag and for the sweep flag.</li>
+	 * </ul>
+	 *
+	 * <p>The default implementation copies the element that is replied by {@link #next()}.
+	 *
+	 * @param coords the array that receives the coordinates. Its size must be at least {@link #CURSOR_ARRAY_SIZE}.
+	 * @return the type of the path element.
+	 * @since 14.0
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	default PathElementType next(double[] coords) {
+		final T element = next();
+		final PathElementType type = element.getType();
+		element.toArray(coords);
+		if (type == PathElementType.ARC_TO) {
+			coords[0] = element.getToX();
+			coords[1] = element.getToY();
+			coords[2] = element.getRadiusX();
+			coords[3] = element.getRadiusY();
+			coords[4] = element.getRotationX();
+			coords[5] = element.getLargeArcFlag() ? 1 : 0;
+			coords[6] = element.getSweepFlag() ? 1 : 0;
+		}
+		return type;
+	}
+
 }
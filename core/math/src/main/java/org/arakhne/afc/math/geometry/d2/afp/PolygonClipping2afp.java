@@ -0,0 +1,1294 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.math.geometry.d2.ai.Path2ai;
+import org.arakhne.afc.math.geometry.d2.ai.PathElement2ai;
+import org.arakhne.afc.math.geometry.d2.ai.PathIterator2ai;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Boolean operations and offsetting of the polygons that are described by paths.
+ *
+ * <p>The paths are flattened with {@link MathConstants#SPLINE_APPROXIMATION_RATIO}, and each of their
+ * subpaths is considered as a closed polygon. The {@link PathWindingRule winding rule} of each path
+ * is used for deciding which points are inside it. The boolean operation is computed in four passes
+ * on primitive arrays:
+ * <ol>
+ * <li>the edges of the two paths are split at their intersection points, which are found with a sweep
+ *     line on the bounding boxes of the edges;</li>
+ * <li>the coincident pieces of edges are merged, and the number of times each path is turning along
+ *     a piece is summed;</li>
+ * <li>the winding numbers of the two paths on both sides of each piece are computed with a ray that
+ *     is cast on an index of horizontal or vertical bands. The winding rules and the operation are
+ *     applied on these winding numbers: a piece is on the border of the result when the
+ *     result is inside on one side of the piece and outside on the other side;</li>
+ * <li>the pieces of the border are linked into closed polygons, and the aligned points are removed.</li>
+ * </ol>
+ * The memory usage is linear in the number of edges and of intersection points.
+ *
+ * <p>The polygons of the result have the inside of the result on their left side, i.e. the outer
+ * borders are counterclockwise and the holes are clockwise in a frame with the y axis pointing up.
+ * The result may be filled with any winding rule.
+ *
+ * <p>The offsetting of a path by a positive distance is the union of the path and of the points that
+ * are at most at this distance of its border. The offsetting by a negative distance is the difference
+ * between the path and these points. The polygons of the path are first normalized with a union; each
+ * normalized polygon is moved to its outer side, or to its inner side, by the distance. The joins of the
+ * moved edges are rounded on the convex corners, and are passing through the original point on the
+ * concave corners. The result is the set of the points that have a positive winding number with these
+ * moved polygons. The rounded joins are approximated with {@link MathConstants#SPLINE_APPROXIMATION_RATIO}.
+ *
+ * <p>The intersection points are computed with floating-point numbers. Points that are closer than
+ * a tolerance relative to the magnitude of the coordinates are considered as equal.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public final class PolygonClipping2afp {
+
+	/** Tolerance on the distances, relatively to the magnitude of the coordinates.
+	 */
+	private static final double RELATIVE_EPSILON = 1e-10;
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+
+	private static final int SEGMENTS_PER_BAND = 4;
+
+	private static final int BAND_REPLICATION = 8;
+
+	private static final int MAX_ARC_SEGMENTS = 256;
+
+	private static final byte FIRST = 0;
+
+	private static final byte SECOND = 1;
+
+	private PolygonClipping2afp() {
+		//
+	}
+
+	/** Compute a boolean operation on two paths.
+	 *
+	 * <p>The result path is cleared before the polygons of the result are added into it.
+	 * It may be one of the two operands.
+	 *
+	 * @param first the first operand.
+	 * @param second the second operand.
+	 * @param operation the boolean operation.
+	 * @param result the path to fill with the result.
+	 */
+	public static void clip(Path2afp<?, ?, ?, ?, ?, ?> first, Path2afp<?, ?, ?, ?, ?, ?> second,
+			Operation operation, Path2afp<?, ?, ?, ?, ?, ?> result) {
+		assert first != null : AssertMessages.notNullParameter(0);
+		assert second != null : AssertMessages.notNullParameter(1);
+		assert operation != null : AssertMessages.notNullParameter(2);
+		assert result != null : AssertMessages.notNullParameter(3);
+		final Edges edges = new Edges();
+		edges.addPath(first.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), FIRST);
+		edges.addPath(second.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), SECOND);
+		final Polygons polygons = computeBorder(edges, operation, first.getWindingRule(), second.getWindingRule());
+		polygons.write(result);
+	}
+
+	/** Compute a boolean operation on two paths with integer coordinates.
+	 *
+	 * <p>The result path is cleared before the polygons of the result are added into it.
+	 * It may be one of the two operands. The coordinates of the result are rounded to the nearest
+	 * integers.
+	 *
+	 * @param first the first operand.
+	 * @param second the second operand.
+	 * @param operation the boolean operation.
+	 * @param result the path to fill with the result.
+	 */
+	public static void clip(Path2ai<?, ?, ?, ?, ?, ?> first, Path2ai<?, ?, ?, ?, ?, ?> second,
+			Operation operation, Path2ai<?, ?, ?, ?, ?, ?> result) {
+		assert first != null : AssertMessages.notNullParameter(0);
+		assert second != null : AssertMessages.notNullParameter(1);
+		assert operation != null : AssertMessages.notNullParameter(2);
+		assert result != null : AssertMessages.notNullParameter(3);
+		final Edges edges = new Edges();
+		edges.addPath(first.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), FIRST);
+		edges.addPath(second.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), SECOND);
+		final Polygons polygons = computeBorder(edges, operation, first.getWindingRule(), second.getWindingRule());
+		polygons.write(result);
+	}
+
+	/** Compute the offsetting of a path.
+	 *
+	 * <p>The result path is cleared before the polygons of the result are added into it.
+	 * It may be the offset path.
+	 *
+	 * @param path the path to offset.
+	 * @param distance the offsetting distance. If it is positive, the path is enlarged; if it is
+	 *     negative, the path is shrunk.
+	 * @param result the path to fill with the result.
+	 */
+	public static void offset(Path2afp<?, ?, ?, ?, ?, ?> path, double distance, Path2afp<?, ?, ?, ?, ?, ?> result) {
+		assert path != null : AssertMessages.notNullParameter(0);
+		assert result != null : AssertMessages.notNullParameter(2);
+		final Edges edges = new Edges();
+		edges.addPath(path.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), FIRST);
+		final Polygons polygons = computeOffset(edges, distance, path.getWindingRule());
+		polygons.write(result);
+	}
+
+	/** Compute the offsetting of a path with integer coordinates.
+	 *
+	 * <p>The result path is cleared before the polygons of the result are added into it.
+	 * It may be the offset path. The coordinates of the result are rounded to the nearest
+	 * integers.
+	 *
+	 * @param path the path to offset.
+	 * @param distance the offsetting distance. If it is positive, the path is enlarged; if it is
+	 *     negative, the path is shrunk.
+	 * @param result the path to fill with the result.
+	 */
+	public static void offset(Path2ai<?, ?, ?, ?, ?, ?> path, double distance, Path2ai<?, ?, ?, ?, ?, ?> result) {
+		assert path != null : AssertMessages.notNullParameter(0);
+		assert result != null : AssertMessages.notNullParameter(2);
+		final Edges edges = new Edges();
+		edges.addPath(path.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), FIRST);
+		final Polygons polygons = computeOffset(edges, distance, path.getWindingRule());
+		polygons.write(result);
+	}
+
+	private static Polygons computeOffset(Edges edges, double distance, PathWindingRule rule) {
+		// The polygons are normalized: they are not intersecting, and their inside is on their left
+		final Polygons polygons = computeBorder(edges, Operation.UNION, rule, PathWindingRule.NON_ZERO);
+		if (distance == 0) {
+			return polygons;
+		}
+		final Edges offsetEdges = new Edges();
+		polygons.addOffsetPolygons(offsetEdges, distance);
+		return computeBorder(offsetEdges, Operation.UNION, null, PathWindingRule.NON_ZERO);
+	}
+
+	/** Compute the border of the result of the given operation.
+	 *
+	 * @param edges the edges of the two operands.
+	 * @param operation the operation.
+	 * @param firstRule the winding rule of the first operand.
+	 * @param secondRule the winding rule of the second operand.
+	 * @return the polygons of the border.
+	 */
+	private static Polygons computeBorder(Edges edges, Operation operation, PathWindingRule firstRule,
+			PathWindingRule secondRule) {
+		final double tolerance = RELATIVE_EPSILON * Math.max(1, edges.magnitude);
+		final Edges pieces = snapPoints(splitEdges(edges, tolerance), tolerance);
+		final Groups groups = new Groups(pieces);
+		final Edges border = new Edges();
+		final BandIndex verticalIndex = new BandIndex(groups.y0, groups.y1, groups.size);
+		final BandIndex horizontalIndex = new BandIndex(groups.x0, groups.x1, groups.size);
+		for (int g = 0; g < groups.size; ++g) {
+			final double x0 = groups.x0[g];
+			final double y0 = groups.y0[g];
+			final double x1 = groups.x1[g];
+			final double y1 = groups.y1[g];
+			final int[] windings;
+			final int sign;
+			// The ray is the most perpendicular to the group, so that it is not running along the
+			// groups that are almost collinear to it
+			if (Math.abs(y1 - y0) > Math.abs(x1 - x0)) {
+				// The right side is reached by a horizontal ray to the right
+				windings = groups.castHorizontalRay(verticalIndex, g);
+				sign = y1 > y0 ? 1 : -1;
+			} else {
+				// The group is going to the right: its left side is reached by a vertical ray to the top
+				windings = groups.castVerticalRay(horizontalIndex, g);
+				sign = -1;
+			}
+			final boolean inside1 = operation.evaluate(
+					isInside(firstRule, windings[0]), isInside(secondRule, windings[1]));
+			final boolean inside2 = operation.evaluate(
+					isInside(firstRule, windings[0] + sign * groups.firstWindings[g]),
+					isInside(secondRule, windings[1] + sign * groups.secondWindings[g]));
+			if (inside1 != inside2) {
+				// inside1 is the side of the ray, i.e. the right side for upward groups, and
+				// the left side for downward and horizontal groups
+				if (inside2 == (sign > 0)) {
+					border.add(x0, y0, x1, y1, FIRST);
+				} else {
+					border.add(x1, y1, x0, y0, FIRST);
+				}
+			}
+		}
+		return new Polygons(border);
+	}
+
+	@Pure
+	private static boolean isInside(PathWindingRule rule, int winding) {
+		if (rule == null) {
+			return winding > 0;
+		}
+		if (rule == PathWindingRule.EVEN_ODD) {
+			return (winding & 1) != 0;
+		}
+		return winding != 0;
+	}
+
+	/** Split the edges at their intersection points.
+	 */
+	private static Edges splitEdges(Edges edges, double tolerance) {
+		final int count = edges.size;
+		final Edges splits = new Edges();
+		sweepIntersections(edges, tolerance, splits);
+		// The split points of each edge are sorted by using a compressed representation:
+		// the split points of the edge i are between offsets[i] and offsets[i + 1].
+		final int[] offsets = new int[count + 1];
+		for (int s = 0; s < splits.size; ++s) {
+			++offsets[splits.operands[s] + 1];
+		}
+		for (int i = 0; i < count; ++i) {
+			offsets[i + 1] += offsets[i];
+		}
+		final int[] cursors = Arrays.copyOf(offsets, count);
+		final int[] order = new int[splits.size];
+		for (int s = 0; s < splits.size; ++s) {
+			order[cursors[splits.operands[s]]++] = s;
+		}
+		final Edges pieces = new Edges();
+		for (int i = 0; i < count; ++i) {
+			sort(order, offsets[i], offsets[i + 1] - 1, splits.x1);
+			double px = edges.x0[i];
+			double py = edges.y0[i];
+			for (int k = offsets[i]; k < offsets[i + 1]; ++k) {
+				final int s = order[k];
+				pieces.add(px, py, splits.x0[s], splits.y0[s], edges.operands[i]);
+				px = splits.x0[s];
+				py = splits.y0[s];
+			}
+			pieces.add(px, py, edges.x1[i], edges.y1[i], edges.operands[i]);
+		}
+		return pieces;
+	}
+
+	/** Add the split points of the edges that are closer than the tolerance.
+	 *
+	 * <p>The edges are swept from left to right, as in
+	 * {@link SegmentArrays2afp#findsIntersectingSegmentPairsSweepLine(double[], double[], double[], double[], int)}.
+	 * Their bounding boxes are enlarged by the tolerance, so that the edges that are almost
+	 * coincident are tested even if they are not intersecting exactly.
+	 */
+	private static void sweepIntersections(Edges edges, double tolerance, Edges splits) {
+		final int count = edges.size;
+		final double[] minx = new double[count];
+		final double[] miny = new double[count];
+		final double[] maxx = new double[count];
+		final double[] maxy = new double[count];
+		final int[] order = new int[count];
+		for (int i = 0; i < count; ++i) {
+			minx[i] = Math.min(edges.x0[i], edges.x1[i]) - tolerance;
+			miny[i] = Math.min(edges.y0[i], edges.y1[i]) - tolerance;
+			maxx[i] = Math.max(edges.x0[i], edges.x1[i]) + tolerance;
+			maxy[i] = Math.max(edges.y0[i], edges.y1[i]) + tolerance;
+			order[i] = i;
+		}
+		sort(order, 0, count - 1, minx);
+		final double tolerance2 = tolerance * tolerance;
+		final int[] active = new int[count];
+		int activeCount = 0;
+		for (int k = 0; k < count; ++k) {
+			final int edge = order[k];
+			int nb = 0;
+			for (int m = 0; m < activeCount; ++m) {
+				final int other = active[m];
+				// Remove the edges that are on the left of the sweep line
+				if (maxx[other] >= minx[edge]) {
+					active[nb++] = other;
+					if (maxy[other] >= miny[edge] && miny[other] <= maxy[edge]) {
+						addIntersections(edges, Math.min(edge, other), Math.max(edge, other), tolerance2, splits);
+					}
+				}
+			}
+			active[nb++] = edge;
+			activeCount = nb;
+		}
+	}
+
+	/** Merge the ends of the pieces that are closer than the tolerance, and remove the empty pieces.
+	 *
+	 * <p>The intersection points of lines that are almost concurrent are not equal because of the rounding
+	 * errors. They are merged, so that the pieces are linked by their ends.
+	 * The ends are put into a grid of cells with the size of the tolerance. The ends that are close are in
+	 * the same cell or in adjacent cells; they are merged with a union-find structure.
+	 */
+	private static Edges snapPoints(Edges pieces, double tolerance) {
+		final int count = 2 * pieces.size;
+		final double[] xs = new double[count];
+		final double[] ys = new double[count];
+		final double[] cellXs = new double[count];
+		final double[] cellYs = new double[count];
+		final int[] order = new int[count];
+		final int[] roots = new int[count];
+		for (int i = 0; i < pieces.size; ++i) {
+			xs[2 * i] = pieces.x0[i];
+			ys[2 * i] = pieces.y0[i];
+			xs[2 * i + 1] = pieces.x1[i];
+			ys[2 * i + 1] = pieces.y1[i];
+		}
+		for (int i = 0; i < count; ++i) {
+			cellXs[i] = Math.floor(xs[i] / tolerance);
+			cellYs[i] = Math.floor(ys[i] / tolerance);
+			order[i] = i;
+			roots[i] = i;
+		}
+		sort(order, 0, count - 1, cellXs, cellYs);
+		final double tolerance2 = tolerance * tolerance;
+		for (int k = 0; k < count; ++k) {
+			final int point = order[k];
+			for (double cellX = cellXs[point] - 1; cellX <= cellXs[point] + 1; ++cellX) {
+				for (double cellY = cellYs[point] - 1; cellY <= cellYs[point] + 1; ++cellY) {
+					for (int m = lowerBound(order, cellXs, cellYs, cellX, cellY); m < count
+							&& cellXs[order[m]] == cellX && cellYs[order[m]] == cellY; ++m) {
+						final int other = order[m];
+						final double dx = xs[other] - xs[point];
+						final double dy = ys[other] - ys[point];
+						if (dx * dx + dy * dy <= tolerance2) {
+							final int root1 = findRoot(roots, point);
+							final int root2 = findRoot(roots, other);
+							roots[Math.max(root1, root2)] = Math.min(root1, root2);
+						}
+					}
+				}
+			}
+		}
+		final Edges snapped = new Edges();
+		for (int i = 0; i < pieces.size; ++i) {
+			final int root0 = findRoot(roots, 2 * i);
+			final int root1 = findRoot(roots, 2 * i + 1);
+			snapped.add(xs[root0], ys[root0], xs[root1], ys[root1], pieces.operands[i]);
+		}
+		return snapped;
+	}
+
+	private static int findRoot(int[] roots, int point) {
+		int current = point;
+		while (roots[current] != current) {
+			roots[current] = roots[roots[current]];
+			current = roots[current];
+		}
+		return current;
+	}
+
+	/** Replies the position of the first index in the given order that has keys greater than or equal to
+	 * the given keys.
+	 *
+	 * @param order the indexes, sorted according to their keys.
+	 * @param keys1 the first keys of the indexes.
+	 * @param keys2 the second keys of the indexes.
+	 * @param key1 the first searched key.
+	 * @param key2 the second searched key.
+	 * @return the position in {@code order}.
+	 */
+	@Pure
+	static int lowerBound(int[] order, double[] keys1, double[] keys2, double key1, double key2) {
+		int lo = 0;
+		int hi = order.length;
+		while (lo < hi) {
+			final int mid = (lo + hi) >>> 1;
+			final int index = order[mid];
+			if (keys1[index] < key1 || (keys1[index] == key1 && keys2[index] < key2)) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/** Add the points where the two given edges must be split.
+	 *
+	 * <p>The split points are stored into {@code splits}: {@code x0} and {@code y0} are the coordinates of
+	 * the point, {@code x1} is the position of the point on the edge, and {@code operands} contains the index
+	 * of the edge.
+	 */
+	private static void addIntersections(Edges edges, int edge1, int edge2, double tolerance, Edges splits) {
+		boolean touching = splitAtPoint(edges, edge1, edges.x0[edge2], edges.y0[edge2], tolerance, splits);
+		touching |= splitAtPoint(edges, edge1, edges.x1[edge2], edges.y1[edge2], tolerance, splits);
+		touching |= splitAtPoint(edges, edge2, edges.x0[edge1], edges.y0[edge1], tolerance, splits);
+		touching |= splitAtPoint(edges, edge2, edges.x1[edge1], edges.y1[edge1], tolerance, splits);
+		if (!touching) {
+			final double rx = edges.x1[edge1] - edges.x0[edge1];
+			final double ry = edges.y1[edge1] - edges.y0[edge1];
+			final double sx = edges.x1[edge2] - edges.x0[edge2];
+			final double sy = edges.y1[edge2] - edges.y0[edge2];
+			final double denominator = rx * sy - ry * sx;
+			if (denominator != 0) {
+				final double qx = edges.x0[edge2] - edges.x0[edge1];
+				final double qy = edges.y0[edge2] - edges.y0[edge1];
+				final double t = (qx * sy - qy * sx) / denominator;
+				final double u = (qx * ry - qy * rx) / denominator;
+				if (t > 0 && t < 1 && u > 0 && u < 1) {
+					final double px = edges.x0[edge1] + t * rx;
+					final double py = edges.y0[edge1] + t * ry;
+					splits.addSplit(edge1, px, py, t);
+					splits.addSplit(edge2, px, py, u);
+				}
+			}
+		}
+	}
+
+	/** Split the given edge at the given point if the point is on the edge.
+	 *
+	 * @return {@code true} if the point is on the edge, including its ends.
+	 */
+	private static boolean splitAtPoint(Edges edges, int edge, double px, double py, double tolerance, Edges splits) {
+		final double x0 = edges.x0[edge];
+		final double y0 = edges.y0[edge];
+		final double x1 = edges.x1[edge];
+		final double y1 = edges.y1[edge];
+		if (Segment2afp.calculatesDistanceSquaredSegmentPoint(x0, y0, x1, y1, px, py) > tolerance) {
+			return false;
+		}
+		final double dx0 = px - x0;
+		final double dy0 = py - y0;
+		final double dx1 = px - x1;
+		final double dy1 = py - y1;
+		if (dx0 * dx0 + dy0 * dy0 > tolerance && dx1 * dx1 + dy1 * dy1 > tolerance) {
+			final double rx = x1 - x0;
+			final double ry = y1 - y0;
+			splits.addSplit(edge, px, py, (dx0 * rx + dy0 * ry) / (rx * rx + ry * ry));
+		}
+		return true;
+	}
+
+	/** Sort the given indexes according to the given keys, in lexicographic order.
+	 *
+	 * @param indexes the indexes to sort.
+	 * @param left the position of the first index to sort.
+	 * @param right the position of the last index to sort.
+	 * @param keys the keys of the indexes.
+	 */
+	static void sort(int[] indexes, int left, int right, double[]... keys) {
+		int lo = left;
+		int hi = right;
+		while (hi - lo > INSERTION_SORT_THRESHOLD) {
+			final int pivot = indexes[(lo + hi) >>> 1];
+			int i = lo;
+			int j = hi;
+			while (i <= j) {
+				while (compare(indexes[i], pivot, keys) < 0) {
+					++i;
+				}
+				while (compare(indexes[j], pivot, keys) > 0) {
+					--j;
+				}
+				if (i <= j) {
+					final int tmp = indexes[i];
+					indexes[i] = indexes[j];
+					indexes[j] = tmp;
+					++i;
+					--j;
+				}
+			}
+			// Recursion on the smallest part for bounding the stack depth
+			if (j - lo < hi - i) {
+				sort(indexes, lo, j, keys);
+				lo = i;
+			} else {
+				sort(indexes, i, hi, keys);
+				hi = j;
+			}
+		}
+		for (int i = lo + 1; i <= hi; ++i) {
+			final int index = indexes[i];
+			int j = i - 1;
+			while (j >= lo && compare(indexes[j], index, keys) > 0) {
+				indexes[j + 1] = indexes[j];
+				--j;
+			}
+			indexes[j + 1] = index;
+		}
+	}
+
+	/** Compare the keys of two indexes in lexicographic order.
+	 *
+	 * @param index1 the first index.
+	 * @param index2 the second index.
+	 * @param keys the keys of the indexes.
+	 * @return a negative value, zero or a positive value if the first keys are lower than, equal to,
+	 *     or greater than the second keys.
+	 */
+	@Pure
+	static int compare(int index1, int index2, double[][] keys) {
+		for (final double[] key : keys) {
+			if (key[index1] < key[index2]) {
+				return -1;
+			}
+			if (key[index1] > key[index2]) {
+				return 1;
+			}
+		}
+		return 0;
+	}
+
+	/** Boolean operation on two polygons.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	public enum Operation {
+
+		/** The points that are inside the first or the second polygon.
+		 */
+		UNION,
+
+		/** The points that are inside the first and the second polygons.
+		 */
+		INTERSECTION,
+
+		/** The points that are inside the first polygon and outside the second polygon.
+		 */
+		DIFFERENCE,
+
+		/** The points that are inside only one of the two polygons.
+		 */
+		EXCLUSIVE_OR;
+
+		/** Replies if a point is inside the result of the operation.
+		 *
+		 * @param first indicates if the point is inside the first polygon.
+		 * @param second indicates if the point is inside the second polygon.
+		 * @return {@code true} if the point is inside the result.
+		 */
+		@Pure
+		public boolean evaluate(boolean first, boolean second) {
+			switch (this) {
+			case UNION:
+				return first || second;
+			case INTERSECTION:
+				return first && second;
+			case DIFFERENCE:
+				return first && !second;
+			case EXCLUSIVE_OR:
+				return first != second;
+			default:
+				throw new IllegalStateException();
+			}
+		}
+
+	}
+
+	/** Growable list of edges.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class Edges {
+
+		/** Horizontal positions of the first points.
+		 */
+		double[] x0 = new double[DEFAULT_CAPACITY];
+
+		/** Vertical positions of the first points.
+		 */
+		double[] y0 = new double[DEFAULT_CAPACITY];
+
+		/** Horizontal positions of the second points.
+		 */
+		double[] x1 = new double[DEFAULT_CAPACITY];
+
+		/** Vertical positions of the second points.
+		 */
+		double[] y1 = new double[DEFAULT_CAPACITY];
+
+		/** Operands of the edges.
+		 */
+		int[] operands = new int[DEFAULT_CAPACITY];
+
+		/** Number of edges.
+		 */
+		int size;
+
+		/** Greatest absolute value of the coordinates.
+		 */
+		double magnitude;
+
+		private boolean opened;
+
+		private double startX;
+
+		private double startY;
+
+		private double currentX;
+
+		private double currentY;
+
+		/** Construct an empty list.
+		 */
+		Edges() {
+			//
+		}
+
+		private void ensureCapacity(int capacity) {
+			if (capacity > this.x0.length) {
+				final int newCapacity = Math.max(capacity, this.x0.length * 2);
+				this.x0 = Arrays.copyOf(this.x0, newCapacity);
+				this.y0 = Arrays.copyOf(this.y0, newCapacity);
+				this.x1 = Arrays.copyOf(this.x1, newCapacity);
+				this.y1 = Arrays.copyOf(this.y1, newCapacity);
+				this.operands = Arrays.copyOf(this.operands, newCapacity);
+			}
+		}
+
+		/** Add an edge if it is not empty.
+		 *
+		 * @param ax horizontal position of the first point.
+		 * @param ay vertical position of the first point.
+		 * @param bx horizontal position of the second point.
+		 * @param by vertical position of the second point.
+		 * @param operand the operand of the edge.
+		 */
+		void add(double ax, double ay, double bx, double by, int operand) {
+			if (ax != bx || ay != by) {
+				ensureCapacity(this.size + 1);
+				this.x0[this.size] = ax;
+				this.y0[this.size] = ay;
+				this.x1[this.size] = bx;
+				this.y1[this.size] = by;
+				this.operands[this.size] = operand;
+				this.magnitude = Math.max(this.magnitude,
+						Math.max(Math.max(Math.abs(ax), Math.abs(ay)), Math.max(Math.abs(bx), Math.abs(by))));
+				++this.size;
+			}
+		}
+
+		/** Add a split point.
+		 *
+		 * @param edge the index of the split edge.
+		 * @param x horizontal position of the split point.
+		 * @param y vertical position of the split point.
+		 * @param position the position of the split point on the edge.
+		 */
+		void addSplit(int edge, double x, double y, double position) {
+			ensureCapacity(this.size + 1);
+			this.x0[this.size] = x;
+			this.y0[this.size] = y;
+			this.x1[this.size] = position;
+			this.operands[this.size] = edge;
+			++this.size;
+		}
+
+		/** Add the polygons of the given path.
+		 *
+		 * @param iterator the iterator on the flattened path.
+		 * @param operand the operand of the path.
+		 */
+		void addPath(PathIterator2afp<?> iterator, int operand) {
+			while (iterator.hasNext()) {
+				final PathElement2afp element = iterator.next();
+				if (element.getType() == PathElementType.MOVE_TO) {
+					moveTo(element.getToX(), element.getToY(), operand);
+				} else if (element.getType() == PathElementType.CLOSE) {
+					closePolygon(operand);
+				} else {
+					lineTo(element.getToX(), element.getToY(), operand);
+				}
+			}
+			closePolygon(operand);
+		}
+
+		/** Add the polygons of the given path.
+		 *
+		 * @param iterator the iterator on the flattened path.
+		 * @param operand the operand of the path.
+		 */
+		void addPath(PathIterator2ai<?> iterator, int operand) {
+			while (iterator.hasNext()) {
+				final PathElement2ai element = iterator.next();
+				if (element.getType() == PathElementType.MOVE_TO) {
+					moveTo(element.getToX(), element.getToY(), operand);
+				} else if (element.getType() == PathElementType.CLOSE) {
+					closePolygon(operand);
+				} else {
+					lineTo(element.getToX(), element.getToY(), operand);
+				}
+			}
+			closePolygon(operand);
+		}
+
+		/** Start a new polygon.
+		 *
+		 * @param x horizontal position of the first point.
+		 * @param y vertical position of the first point.
+		 * @param operand the operand of the polygon.
+		 */
+		void moveTo(double x, double y, int operand) {
+			closePolygon(operand);
+			this.startX = x;
+			this.startY = y;
+			this.currentX = x;
+			this.currentY = y;
+		}
+
+		/** Add an edge to the current polygon.
+		 *
+		 * @param x horizontal position of the next point.
+		 * @param y vertical position of the next point.
+		 * @param operand the operand of the polygon.
+		 */
+		void lineTo(double x, double y, int operand) {
+			this.opened = true;
+			add(this.currentX, this.currentY, x, y, operand);
+			this.currentX = x;
+			this.currentY = y;
+		}
+
+		/** Close the current polygon.
+		 *
+		 * @param operand the operand of the polygon.
+		 */
+		void closePolygon(int operand) {
+			if (this.opened) {
+				lineTo(this.startX, this.startY, operand);
+				this.opened = false;
+			}
+		}
+
+	}
+
+	/** Coincident pieces of edges, with the sums of the turns of the operands along them.
+	 *
+	 * <p>The pieces are oriented from their lowest point to their highest point, in lexicographic
+	 * order. A piece that is in the other direction is turning negatively along the group.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class Groups {
+
+		/** Horizontal positions of the first points.
+		 */
+		final double[] x0;
+
+		/** Vertical positions of the first points.
+		 */
+		final double[] y0;
+
+		/** Horizontal positions of the second points.
+		 */
+		final double[] x1;
+
+		/** Vertical positions of the second points.
+		 */
+		final double[] y1;
+
+		/** Sums of the turns of the first operand.
+		 */
+		final int[] firstWindings;
+
+		/** Sums of the turns of the second operand.
+		 */
+		final int[] secondWindings;
+
+		/** Number of groups.
+		 */
+		int size;
+
+		/** Build the groups of the given pieces.
+		 *
+		 * @param pieces the pieces, which are reoriented by this function.
+		 */
+		Groups(Edges pieces) {
+			final int count = pieces.size;
+			final boolean[] reversed = orient(pieces);
+			final int[] order = new int[count];
+			for (int i = 0; i < count; ++i) {
+				order[i] = i;
+			}
+			final double[][] keys = {pieces.x0, pieces.y0, pieces.x1, pieces.y1};
+			sort(order, 0, count - 1, keys);
+			this.x0 = new double[count];
+			this.y0 = new double[count];
+			this.x1 = new double[count];
+			this.y1 = new double[count];
+			this.firstWindings = new int[count];
+			this.secondWindings = new int[count];
+			int k = 0;
+			while (k < count) {
+				final int piece = order[k];
+				int first = 0;
+				int second = 0;
+				int end = k;
+				while (end < count && compare(order[end], piece, keys) == 0) {
+					final int other = order[end];
+					final int turn = reversed[other] ? -1 : 1;
+					if (pieces.operands[other] == FIRST) {
+						first += turn;
+					} else {
+						second += turn;
+					}
+					++end;
+				}
+				if (first != 0 || second != 0) {
+					this.x0[this.size] = pieces.x0[piece];
+					this.y0[this.size] = pieces.y0[piece];
+					this.x1[this.size] = pieces.x1[piece];
+					this.y1[this.size] = pieces.y1[piece];
+					this.firstWindings[this.size] = first;
+					this.secondWindings[this.size] = second;
+					++this.size;
+				}
+				k = end;
+			}
+		}
+
+		/** Orient the pieces from their lowest point to their highest point.
+		 *
+		 * @param pieces the pieces to orient.
+		 * @return the flags that indicate the reversed pieces.
+		 */
+		private static boolean[] orient(Edges pieces) {
+			final boolean[] reversed = new boolean[pieces.size];
+			for (int i = 0; i < pieces.size; ++i) {
+				if (pieces.x0[i] > pieces.x1[i] || (pieces.x0[i] == pieces.x1[i] && pieces.y0[i] > pieces.y1[i])) {
+					reversed[i] = true;
+					double tmp = pieces.x0[i];
+					pieces.x0[i] = pieces.x1[i];
+					pieces.x1[i] = tmp;
+					tmp = pieces.y0[i];
+					pieces.y0[i] = pieces.y1[i];
+					pieces.y1[i] = tmp;
+				}
+			}
+			return reversed;
+		}
+
+		/** Replies the winding numbers of the operands on the right of the middle of the given
+		 * non-horizontal group.
+		 *
+		 * @param index the index of the vertical bands.
+		 * @param group the group.
+		 * @return the winding numbers of the two operands.
+		 */
+		int[] castHorizontalRay(BandIndex index, int group) {
+			final double mx = (this.x0[group] + this.x1[group]) / 2;
+			final double my = (this.y0[group] + this.y1[group]) / 2;
+			final int[] windings = new int[2];
+			final int band = index.getBand(my);
+			for (int k = index.starts[band]; k < index.starts[band + 1]; ++k) {
+				final int other = index.items[k];
+				final double oy0 = this.y0[other];
+				final double oy1 = this.y1[other];
+				if (other != group && ((oy0 <= my && my < oy1) || (oy1 <= my && my < oy0))) {
+					final double ox0 = this.x0[other];
+					final double x = ox0 + (my - oy0) * (this.x1[other] - ox0) / (oy1 - oy0);
+					if (x > mx) {
+						final int sign = oy1 > oy0 ? 1 : -1;
+						windings[0] += sign * this.firstWindings[other];
+						windings[1] += sign * this.secondWindings[other];
+					}
+				}
+			}
+			return windings;
+		}
+
+		/** Replies the winding numbers of the operands above the middle of the given
+		 * non-vertical group.
+		 *
+		 * @param index the index of the horizontal bands.
+		 * @param group the group.
+		 * @return the winding numbers of the two operands.
+		 */
+		int[] castVerticalRay(BandIndex index, int group) {
+			final double mx = (this.x0[group] + this.x1[group]) / 2;
+			final double my = (this.y0[group] + this.y1[group]) / 2;
+			final int[] windings = new int[2];
+			final int band = index.getBand(mx);
+			for (int k = index.starts[band]; k < index.starts[band + 1]; ++k) {
+				final int other = index.items[k];
+				final double ox0 = this.x0[other];
+				final double ox1 = this.x1[other];
+				if (other != group && ((ox0 <= mx && mx < ox1) || (ox1 <= mx && mx < ox0))) {
+					final double oy0 = this.y0[other];
+					final double y = oy0 + (mx - ox0) * (this.y1[other] - oy0) / (ox1 - ox0);
+					if (y > my) {
+						final int sign = ox1 < ox0 ? 1 : -1;
+						windings[0] += sign * this.firstWindings[other];
+						windings[1] += sign * this.secondWindings[other];
+					}
+				}
+			}
+			return windings;
+		}
+
+	}
+
+	/** Index of the groups by bands along one axis. The groups that have no extent along
+	 * the axis are not indexed.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class BandIndex {
+
+		/** Position of the first item of each band, and number of items at the end.
+		 */
+		final int[] starts;
+
+		/** Indexes of the groups in the bands.
+		 */
+		final int[] items;
+
+		private final int bandCount;
+
+		private final double min;
+
+		private final double factor;
+
+		/** Build the index.
+		 *
+		 * @param c0 the first coordinates of the groups along the axis.
+		 * @param c1 the second coordinates of the groups along the axis.
+		 * @param count the number of groups.
+		 */
+		@SuppressWarnings("checkstyle:npathcomplexity")
+		BandIndex(double[] c0, double[] c1, int count) {
+			double lower = Double.POSITIVE_INFINITY;
+			double upper = Double.NEGATIVE_INFINITY;
+			double extents = 0;
+			int members = 0;
+			for (int i = 0; i < count; ++i) {
+				if (c0[i] != c1[i]) {
+					lower = Math.min(lower, Math.min(c0[i], c1[i]));
+					upper = Math.max(upper, Math.max(c0[i], c1[i]));
+					extents += Math.abs(c1[i] - c0[i]);
+					++members;
+				}
+			}
+			// The number of bands is bounded, so that the number of items is at most
+			// BAND_REPLICATION + 1 times the number of groups
+			if (members > 0) {
+				this.bandCount = (int) Math.max(1, Math.min(members / SEGMENTS_PER_BAND,
+						Math.floor(BAND_REPLICATION * (upper - lower) * members / extents)));
+			} else {
+				this.bandCount = 1;
+			}
+			this.min = lower;
+			this.factor = upper > lower ? this.bandCount / (upper - lower) : 0;
+			this.starts = new int[this.bandCount + 1];
+			for (int i = 0; i < count; ++i) {
+				if (c0[i] != c1[i]) {
+					final int end = getBand(Math.max(c0[i], c1[i]));
+					for (int band = getBand(Math.min(c0[i], c1[i])); band <= end; ++band) {
+						++this.starts[band + 1];
+					}
+				}
+			}
+			for (int band = 0; band < this.bandCount; ++band) {
+				this.starts[band + 1] += this.starts[band];
+			}
+			this.items = new int[this.starts[this.bandCount]];
+			final int[] cursors = Arrays.copyOf(this.starts, this.bandCount);
+			for (int i = 0; i < count; ++i) {
+				if (c0[i] != c1[i]) {
+					final int end = getBand(Math.max(c0[i], c1[i]));
+					for (int band = getBand(Math.min(c0[i], c1[i])); band <= end; ++band) {
+						this.items[cursors[band]++] = i;
+					}
+				}
+			}
+		}
+
+		/** Replies the band of the given coordinate.
+		 *
+		 * @param coordinate the coordinate.
+		 * @return the band.
+		 */
+		@Pure
+		int getBand(double coordinate) {
+			final int band = (int) ((coordinate - this.min) * this.factor);
+			return Math.max(0, Math.min(this.bandCount - 1, band));
+		}
+
+	}
+
+	/** Closed polygons that are built by linking the edges of a border.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class Polygons {
+
+		private double[] xs = new double[DEFAULT_CAPACITY];
+
+		private double[] ys = new double[DEFAULT_CAPACITY];
+
+		private int[] ends = new int[DEFAULT_CAPACITY];
+
+		private int size;
+
+		private int polygonCount;
+
+		/** Link the edges of the given border.
+		 *
+		 * @param border the edges of the border.
+		 */
+		Polygons(Edges border) {
+			final int count = border.size;
+			final int[] order = new int[count];
+			for (int i = 0; i < count; ++i) {
+				order[i] = i;
+			}
+			sort(order, 0, count - 1, border.x0, border.y0);
+			final boolean[] used = new boolean[count];
+			for (int k = 0; k < count; ++k) {
+				int edge = order[k];
+				if (!used[edge]) {
+					final int start = this.size;
+					while (edge >= 0) {
+						used[edge] = true;
+						addPoint(start, border.x0[edge], border.y0[edge]);
+						edge = findNext(border, order, used, edge);
+					}
+					endPolygon(start);
+				}
+			}
+		}
+
+		/** Replies the unused edge that is starting at the end of the given edge, or {@code -1}.
+		 *
+		 * <p>When several edges are starting at the same point, the edge with the greatest turn to the left
+		 * is replied. Since the inside is on the left of the edges, the polygons that are touching
+		 * at a point are not merged into a single polygon that is crossing itself.
+		 */
+		@Pure
+		private static int findNext(Edges border, int[] order, boolean[] used, int edge) {
+			final double x = border.x1[edge];
+			final double y = border.y1[edge];
+			final double dx = x - border.x0[edge];
+			final double dy = y - border.y0[edge];
+			int next = -1;
+			double nextAngle = Double.NEGATIVE_INFINITY;
+			for (int k = lowerBound(order, border.x0, border.y0, x, y); k < order.length; ++k) {
+				final int candidate = order[k];
+				if (border.x0[candidate] != x || border.y0[candidate] != y) {
+					break;
+				}
+				if (!used[candidate]) {
+					final double cx = border.x1[candidate] - x;
+					final double cy = border.y1[candidate] - y;
+					final double angle = Math.atan2(dx * cy - dy * cx, dx * cx + dy * cy);
+					if (angle > nextAngle) {
+						next = candidate;
+						nextAngle = angle;
+					}
+				}
+			}
+			return next;
+		}
+
+		/** Add a point to the current polygon, and remove the previous point if it is aligned
+		 * between its neighbors.
+		 */
+		private void addPoint(int start, double x, double y) {
+			if (this.size + 1 > this.xs.length) {
+				this.xs = Arrays.copyOf(this.xs, this.xs.length * 2);
+				this.ys = Arrays.copyOf(this.ys, this.ys.length * 2);
+			}
+			this.xs[this.size] = x;
+			this.ys[this.size] = y;
+			++this.size;
+			while (this.size - start >= 3 && isAligned(this.size - 3, this.size - 2, this.size - 1)) {
+				this.xs[this.size - 2] = this.xs[this.size - 1];
+				this.ys[this.size - 2] = this.ys[this.size - 1];
+				--this.size;
+			}
+		}
+
+		private void endPolygon(int start) {
+			int first = start;
+			boolean changed = true;
+			while (changed && this.size - first >= 3) {
+				changed = false;
+				if (isAligned(this.size - 2, this.size - 1, first)) {
+					--this.size;
+					changed = true;
+				} else if (isAligned(this.size - 1, first, first + 1)) {
+					++first;
+					changed = true;
+				}
+			}
+			if (this.size - first >= 3) {
+				if (first > start) {
+					System.arraycopy(this.xs, first, this.xs, start, this.size - first);
+					System.arraycopy(this.ys, first, this.ys, start, this.size - first);
+					this.size -= first - start;
+				}
+				if (this.polygonCount >= this.ends.length) {
+					this.ends = Arrays.copyOf(this.ends, this.ends.length * 2);
+				}
+				this.ends[this.polygonCount++] = this.size;
+			} else {
+				this.size = start;
+			}
+		}
+
+		/** Replies if the point at index {@code middle} is between the two others on a line.
+		 */
+		@Pure
+		private boolean isAligned(int first, int middle, int last) {
+			final double ux = this.xs[middle] - this.xs[first];
+			final double uy = this.ys[middle] - this.ys[first];
+			final double vx = this.xs[last] - this.xs[middle];
+			final double vy = this.ys[last] - this.ys[middle];
+			return ux * vy - uy * vx == 0 && ux * vx + uy * vy > 0;
+		}
+
+		/** Add the polygons that are moved by the given distance to their outer side, or to their inner
+		 * side, as the first operand.
+		 *
+		 * @param edges the list to fill.
+		 * @param distance the distance. If it is positive, the polygons are moved to their right side,
+		 *     i.e. outside; if it is negative, they are moved to their left side.
+		 */
+		void addOffsetPolygons(Edges edges, double distance) {
+			final double radius = Math.abs(distance);
+			final double flatness = MathConstants.SPLINE_APPROXIMATION_RATIO;
+			final double arcStep = flatness < radius ? 2 * Math.acos(1 - flatness / radius) : MathConstants.DEMI_PI;
+			int start = 0;
+			for (int p = 0; p < this.polygonCount; ++p) {
+				final int end = this.ends[p];
+				final int count = end - start;
+				// Offset vectors of the edges; the edge i is from the point i to the point i + 1
+				final double[] ox = new double[count];
+				final double[] oy = new double[count];
+				for (int i = 0; i < count; ++i) {
+					final int next = start + (i + 1) % count;
+					final double dx = this.xs[next] - this.xs[start + i];
+					final double dy = this.ys[next] - this.ys[start + i];
+					final double length = Math.hypot(dx, dy);
+					ox[i] = dy / length * distance;
+					oy[i] = -dx / length * distance;
+				}
+				for (int i = 0; i < count; ++i) {
+					final int previous = (i + count - 1) % count;
+					final double vx = this.xs[start + i];
+					final double vy = this.ys[start + i];
+					final double sx = vx + ox[previous];
+					final double sy = vy + oy[previous];
+					if (i == 0) {
+						edges.moveTo(sx, sy, FIRST);
+					} else {
+						edges.lineTo(sx, sy, FIRST);
+					}
+					final double cross = ox[previous] * oy[i] - oy[previous] * ox[i];
+					if (cross * distance > 0) {
+						// Convex corner on the side of the offset
+						final double sweep = Math.atan2(cross, ox[previous] * ox[i] + oy[previous] * oy[i]);
+						final int segments = Math.min(MAX_ARC_SEGMENTS, (int) Math.ceil(Math.abs(sweep) / arcStep));
+						final double startAngle = Math.atan2(oy[previous], ox[previous]);
+						for (int k = 1; k < segments; ++k) {
+							final double angle = startAngle + sweep * k / segments;
+							edges.lineTo(vx + Math.cos(angle) * radius, vy + Math.sin(angle) * radius, FIRST);
+						}
+					} else if (cross != 0) {
+						// Concave corner
+						edges.lineTo(vx, vy, FIRST);
+					}
+					edges.lineTo(vx + ox[i], vy + oy[i], FIRST);
+				}
+				edges.closePolygon(FIRST);
+				start = end;
+			}
+		}
+
+		/** Write the polygons into the given path.
+		 *
+		 * @param path the path to fill.
+		 */
+		void write(Path2afp<?, ?, ?, ?, ?, ?> path) {
+			path.clear();
+			int start = 0;
+			for (int p = 0; p < this.polygonCount; ++p) {
+				path.moveTo(this.xs[start], this.ys[start]);
+				for (int i = start + 1; i < this.ends[p]; ++i) {
+					path.lineTo(this.xs[i], this.ys[i]);
+				}
+				path.closePath();
+				start = this.ends[p];
+			}
+		}
+
+		/** Write the polygons into the given path, with rounded coordinates.
+		 *
+		 * @param path the path to fill.
+		 */
+		void write(Path2ai<?, ?, ?, ?, ?, ?> path) {
+			path.clear();
+			int start = 0;
+			for (int p = 0; p < this.polygonCount; ++p) {
+				final int[] xi = new int[this.ends[p] - start];
+				final int[] yi = new int[xi.length];
+				int count = 0;
+				for (int i = start; i < this.ends[p]; ++i) {
+					final int x = (int) Math.round(this.xs[i]);
+					final int y = (int) Math.round(this.ys[i]);
+					if (count == 0 || x != xi[count - 1] || y != yi[count - 1]) {
+						xi[count] = x;
+						yi[count] = y;
+						++count;
+					}
+				}
+				if (count > 1 && xi[0] == xi[count - 1] && yi[0] == yi[count - 1]) {
+					--count;
+				}
+				if (count >= 3) {
+					path.moveTo(xi[0], yi[0]);
+					for (int i = 1; i < count; ++i) {
+						path.lineTo(xi[i], yi[i]);
+					}
+					path.closePath();
+				}
+				start = this.ends[p];
+			}
+		}
+
+	}
+
+}
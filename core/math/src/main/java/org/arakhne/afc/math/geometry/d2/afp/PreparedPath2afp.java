@@ -0,0 +1,615 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.math.MathUtil;
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.math.geometry.d2.Point2D;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+import org.arakhne.afc.vmutil.locale.Locale;
+
+/** Path that is prepared for repeated containment, intersection and distance queries.
+ *
+ * <p>The path is flattened once with {@link MathConstants#SPLINE_APPROXIMATION_RATIO}, and its
+ * line segments are stored into a primitive array. The segments are indexed by a grid of horizontal
+ * bands: each band contains the segments that are overlapping its vertical range. A query
+ * is evaluated on the segments of the bands that are covered by the query, instead of on all the
+ * segments of the path.
+ *
+ * <p>The queries reply the same results as the functions of {@link Path2afp}, i.e.
+ * {@link Path2afp#contains(double, double)}, {@link Path2afp#intersects(Rectangle2afp)} and
+ * {@link Path2afp#getDistanceSquared(Point2D)}. They follow the same crossing-number logic and
+ * the same {@link PathWindingRule winding rule}.
+ *
+ * <p>The prepared path is a snapshot of the path: if the path is changed, a new prepared path
+ * must be created. The queries do not change the state of the prepared path; they may be run
+ * concurrently.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public class PreparedPath2afp {
+
+	/** Average number of segments per band of the index.
+	 */
+	public static final int SEGMENTS_PER_BAND = 4;
+
+	private static final int SEGMENT_SIZE = 4;
+
+	private static final byte MOVE = 0;
+
+	private static final byte LINE = 1;
+
+	private static final byte CLOSE = 2;
+
+	private final Path2afp<?, ?, ?, ?, ?, ?> path;
+
+	private final PathWindingRule windingRule;
+
+	/** Coordinates of the segments: x0, y0, x1, y1.
+	 */
+	private double[] segments;
+
+	/** Kinds of the segments: {@link #MOVE}, {@link #LINE} or {@link #CLOSE}.
+	 * A move is a segment of length zero that is only used for the distance computation.
+	 */
+	private byte[] kinds;
+
+	/** Indexes of the rings of the segments. A ring is ended by a move or a close.
+	 */
+	private int[] rings;
+
+	/** Indexes of the sections of the segments. A section is ended by a close.
+	 */
+	private int[] sections;
+
+	private int segmentCount;
+
+	/** Number of segments that are not moves.
+	 */
+	private int lineCount;
+
+	/** Indicates if the rings are ended by a close.
+	 */
+	private boolean[] closedRings;
+
+	/** Indicates if the sections are ended by a close.
+	 */
+	private boolean[] closedSections;
+
+	private int ringCount;
+
+	private int sectionCount;
+
+	private boolean open;
+
+	private double minX = Double.POSITIVE_INFINITY;
+
+	private double minY = Double.POSITIVE_INFINITY;
+
+	private double maxX = Double.NEGATIVE_INFINITY;
+
+	private double maxY = Double.NEGATIVE_INFINITY;
+
+	private final int bandCount;
+
+	private final double bandHeight;
+
+	/** Index of the first segment of each band in {@link #bandSegments}; the last value is the size.
+	 */
+	private final int[] bandStarts;
+
+	/** Segments of the bands.
+	 */
+	private final int[] bandSegments;
+
+	/** Prepare the given path.
+	 *
+	 * @param path the path to prepare.
+	 */
+	public PreparedPath2afp(Path2afp<?, ?, ?, ?, ?, ?> path) {
+		assert path != null : AssertMessages.notNullParameter();
+		this.path = path;
+		this.windingRule = path.getWindingRule();
+		this.segments = new double[SEGMENT_SIZE * Math.max(1, path.size())];
+		this.kinds = new byte[Math.max(1, path.size())];
+		this.rings = new int[this.kinds.length];
+		this.sections = new int[this.kinds.length];
+		this.closedRings = new boolean[1];
+		this.closedSections = new boolean[1];
+		flatten(path.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO));
+		this.bandCount = Math.max(1, this.segmentCount / SEGMENTS_PER_BAND);
+		this.bandHeight = this.segmentCount == 0 ? 0. : (this.maxY - this.minY) / this.bandCount;
+		this.bandStarts = new int[this.bandCount + 1];
+		for (int i = 0; i < this.segmentCount; ++i) {
+			final int first = getFirstBand(i);
+			final int last = getLastBand(i);
+			for (int j = first; j <= last; ++j) {
+				++this.bandStarts[j + 1];
+			}
+		}
+		for (int j = 0; j < this.bandCount; ++j) {
+			this.bandStarts[j + 1] += this.bandStarts[j];
+		}
+		this.bandSegments = new int[this.bandStarts[this.bandCount]];
+		final int[] fill = Arrays.copyOf(this.bandStarts, this.bandCount);
+		for (int i = 0; i < this.segmentCount; ++i) {
+			final int first = getFirstBand(i);
+			final int last = getLastBand(i);
+			for (int j = first; j <= last; ++j) {
+				this.bandSegments[fill[j]++] = i;
+			}
+		}
+	}
+
+	private void flatten(PathIterator2afp<?> iterator) {
+		if (!iterator.hasNext()) {
+			return;
+		}
+		final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+		if (iterator.next(coords) != PathElementType.MOVE_TO) {
+			throw new IllegalArgumentException(Locale.getString(Path2afp.class, "E1")); //$NON-NLS-1$
+		}
+		double movx = coords[0];
+		double movy = coords[1];
+		double curx = movx;
+		double cury = movy;
+		int ring = 0;
+		int section = 0;
+		addSegment(MOVE, ring, section, movx, movy, movx, movy);
+		while (iterator.hasNext()) {
+			switch (iterator.next(coords)) {
+			case MOVE_TO:
+				++ring;
+				movx = coords[0];
+				movy = coords[1];
+				curx = movx;
+				cury = movy;
+				addSegment(MOVE, ring, section, movx, movy, movx, movy);
+				break;
+			case LINE_TO:
+				addSegment(LINE, ring, section, curx, cury, coords[0], coords[1]);
+				curx = coords[0];
+				cury = coords[1];
+				break;
+			case CLOSE:
+				if (curx != movx || cury != movy) {
+					addSegment(CLOSE, ring, section, curx, cury, movx, movy);
+				}
+				this.closedRings = ensureSize(this.closedRings, ring + 1);
+				this.closedRings[ring] = true;
+				this.closedSections = ensureSize(this.closedSections, section + 1);
+				this.closedSections[section] = true;
+				++ring;
+				++section;
+				curx = movx;
+				cury = movy;
+				break;
+			case QUAD_TO:
+			case CURVE_TO:
+			case ARC_TO:
+			default:
+				throw new IllegalStateException();
+			}
+		}
+		this.ringCount = ring + 1;
+		this.sectionCount = section + 1;
+		this.closedRings = ensureSize(this.closedRings, this.ringCount);
+		this.closedSections = ensureSize(this.closedSections, this.sectionCount);
+		this.open = curx != movx || cury != movy;
+	}
+
+	private static boolean[] ensureSize(boolean[] array, int size) {
+		if (array.length < size) {
+			return Arrays.copyOf(array, Math.max(size, array.length * 2));
+		}
+		return array;
+	}
+
+	@SuppressWarnings("checkstyle:parameternumber")
+	private void addSegment(byte kind, int ring, int section, double x0, double y0, double x1, double y1) {
+		if (this.segmentCount >= this.kinds.length) {
+			final int capacity = this.kinds.length * 2;
+			this.segments = Arrays.copyOf(this.segments, capacity * SEGMENT_SIZE);
+			this.kinds = Arrays.copyOf(this.kinds, capacity);
+			this.rings = Arrays.copyOf(this.rings, capacity);
+			this.sections = Arrays.copyOf(this.sections, capacity);
+		}
+		final int idx = this.segmentCount * SEGMENT_SIZE;
+		this.segments[idx] = x0;
+		this.segments[idx + 1] = y0;
+		this.segments[idx + 2] = x1;
+		this.segments[idx + 3] = y1;
+		this.kinds[this.segmentCount] = kind;
+		this.rings[this.segmentCount] = ring;
+		this.sections[this.segmentCount] = section;
+		++this.segmentCount;
+		if (kind != MOVE) {
+			++this.lineCount;
+		}
+		this.minX = Math.min(this.minX, Math.min(x0, x1));
+		this.minY = Math.min(this.minY, Math.min(y0, y1));
+		this.maxX = Math.max(this.maxX, Math.max(x0, x1));
+		this.maxY = Math.max(this.maxY, Math.max(y0, y1));
+	}
+
+	/** Replies the lower border of the given band. The first band has no lower border.
+	 */
+	private double getBandBorder(int band) {
+		return this.minY + band * this.bandHeight;
+	}
+
+	/** Replies the band that contains the given coordinate, approximated by a division.
+	 */
+	private int estimateBand(double y) {
+		if (this.bandHeight <= 0.) {
+			return 0;
+		}
+		return MathUtil.clamp((int) ((y - this.minY) / this.bandHeight), 0, this.bandCount - 1);
+	}
+
+	/** Replies the first band that overlaps the vertical range of the given segment.
+	 * The band {@code k} is overlapping the segment if its minimal y is lower than or equal to
+	 * the border of the band {@code k + 1}.
+	 */
+	private int getFirstBand(int segment) {
+		final double y = Math.min(this.segments[segment * SEGMENT_SIZE + 1], this.segments[segment * SEGMENT_SIZE + 3]);
+		int band = estimateBand(y);
+		while (band > 0 && y <= getBandBorder(band)) {
+			--band;
+		}
+		while (band < this.bandCount - 1 && y > getBandBorder(band + 1)) {
+			++band;
+		}
+		return band;
+	}
+
+	/** Replies the last band that overlaps the vertical range of the given segment.
+	 * The band {@code k} is overlapping the segment if its maximal y is greater than or equal to
+	 * the border of the band {@code k}.
+	 */
+	private int getLastBand(int segment) {
+		final double y = Math.max(this.segments[segment * SEGMENT_SIZE + 1], this.segments[segment * SEGMENT_SIZE + 3]);
+		int band = estimateBand(y);
+		while (band < this.bandCount - 1 && y >= getBandBorder(band + 1)) {
+			++band;
+		}
+		while (band > 0 && y < getBandBorder(band)) {
+			--band;
+		}
+		return band;
+	}
+
+	/** Replies a band that contains all the segments that are overlapping the given coordinate.
+	 */
+	private int getBand(double y) {
+		int band = estimateBand(y);
+		while (band > 0 && y < getBandBorder(band)) {
+			--band;
+		}
+		while (band < this.bandCount - 1 && y > getBandBorder(band + 1)) {
+			++band;
+		}
+		return band;
+	}
+
+	/** Replies the prepared path.
+	 *
+	 * @return the path.
+	 */
+	@Pure
+	public Path2afp<?, ?, ?, ?, ?, ?> getPath() {
+		return this.path;
+	}
+
+	/** Replies the winding rule that is used by the queries.
+	 *
+	 * @return the winding rule of the path when it was prepared.
+	 */
+	@Pure
+	public PathWindingRule getWindingRule() {
+		return this.windingRule;
+	}
+
+	/** Replies the number of line segments in the flattened path.
+	 *
+	 * @return the number of line segments.
+	 */
+	@Pure
+	public int getSegmentCount() {
+		return this.lineCount;
+	}
+
+	/** Replies if the prepared path has no point.
+	 *
+	 * @return {@code true} if the path has no point.
+	 */
+	@Pure
+	public boolean isEmpty() {
+		return this.segmentCount == 0;
+	}
+
+	/** Replies the bounds of the flattened path.
+	 *
+	 * @param box the rectangle to set with the bounds.
+	 */
+	public void toBoundingBox(Rectangle2afp<?, ?, ?, ?, ?, ?> box) {
+		assert box != null : AssertMessages.notNullParameter();
+		if (this.segmentCount == 0) {
+			box.clear();
+		} else {
+			box.setFromCorners(this.minX, this.minY, this.maxX, this.maxY);
+		}
+	}
+
+	/** Replies if the given point is inside the path.
+	 *
+	 * @param point the point.
+	 * @return {@code true} if the point is inside the path.
+	 * @see Path2afp#contains(Point2D)
+	 */
+	@Pure
+	public boolean contains(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		return contains(point.getX(), point.getY());
+	}
+
+	/** Replies if the given point is inside the path.
+	 *
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 * @return {@code true} if the point is inside the path.
+	 * @see Path2afp#contains(double, double)
+	 */
+	@Pure
+	public boolean contains(double x, double y) {
+		if (this.segmentCount == 0 || y < this.minY || y > this.maxY || x > this.maxX) {
+			return false;
+		}
+		final int band = getBand(y);
+		int crossings = 0;
+		for (int i = this.bandStarts[band]; i < this.bandStarts[band + 1]; ++i) {
+			final int segment = this.bandSegments[i];
+			if (this.kinds[segment] != MOVE) {
+				final int idx = segment * SEGMENT_SIZE;
+				final double x0 = this.segments[idx];
+				final double y0 = this.segments[idx + 1];
+				final double x1 = this.segments[idx + 2];
+				final double y1 = this.segments[idx + 3];
+				if (x1 == x && y1 == y) {
+					crossings = MathConstants.SHAPE_INTERSECTS;
+					break;
+				}
+				crossings += Segment2afp.calculatesCrossingsPointShadowSegment(x, y, x0, y0, x1, y1);
+			}
+		}
+		if (crossings != MathConstants.SHAPE_INTERSECTS && this.open) {
+			// Same as CrossingComputationType.SIMPLE_INTERSECTION_WHEN_NOT_POLYGON
+			crossings = 0;
+		}
+		final int mask = this.windingRule == PathWindingRule.NON_ZERO ? -1 : 1;
+		return (crossings & mask) != 0;
+	}
+
+	/** Replies if the given rectangle is intersecting the path.
+	 *
+	 * @param rectangle the rectangle.
+	 * @return {@code true} if the rectangle is intersecting the path.
+	 * @see Path2afp#intersects(Rectangle2afp)
+	 */
+	@Pure
+	@SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity"})
+	public boolean intersects(Rectangle2afp<?, ?, ?, ?, ?, ?> rectangle) {
+		assert rectangle != null : AssertMessages.notNullParameter();
+		if (rectangle.isEmpty() || this.segmentCount == 0) {
+			return false;
+		}
+		final double rxmin = rectangle.getMinX();
+		final double rymin = rectangle.getMinY();
+		final double rxmax = rectangle.getMaxX();
+		final double rymax = rectangle.getMaxY();
+		if (rymax < this.minY || rymin > this.maxY || rxmin > this.maxX) {
+			return false;
+		}
+		// The crossings are accumulated per section, because the path iteration stops
+		// at the first close element after which the crossings are not zero.
+		final int[] crossings = new int[this.sectionCount];
+		final int firstBand = getBand(rymin);
+		final int lastBand = getBand(rymax);
+		for (int band = firstBand; band <= lastBand; ++band) {
+			for (int i = this.bandStarts[band]; i < this.bandStarts[band + 1]; ++i) {
+				final int segment = this.bandSegments[i];
+				final int section = this.sections[segment];
+				if (this.kinds[segment] != MOVE && crossings[section] != MathConstants.SHAPE_INTERSECTS
+						&& (band == firstBand || getFirstBand(segment) == band)) {
+					final int idx = segment * SEGMENT_SIZE;
+					final int n = Segment2afp.calculatesCrossingsRectangleShadowSegment(0,
+							rxmin, rymin, rxmax, rymax,
+							this.segments[idx], this.segments[idx + 1],
+							this.segments[idx + 2], this.segments[idx + 3]);
+					if (n == MathConstants.SHAPE_INTERSECTS) {
+						crossings[section] = n;
+					} else {
+						crossings[section] += n;
+					}
+				}
+			}
+		}
+		int total = 0;
+		boolean stopped = false;
+		for (int section = 0; !stopped && section < this.sectionCount; ++section) {
+			if (crossings[section] == MathConstants.SHAPE_INTERSECTS) {
+				return true;
+			}
+			total += crossings[section];
+			stopped = this.closedSections[section] && total != 0;
+		}
+		if (!stopped && this.open) {
+			// Same as CrossingComputationType.SIMPLE_INTERSECTION_WHEN_NOT_POLYGON
+			total = 0;
+		}
+		final int mask = this.windingRule == PathWindingRule.NON_ZERO ? -1 : 2;
+		return (total & mask) != 0;
+	}
+
+	/** Replies the squared distance between the path and the given point.
+	 *
+	 * @param point the point.
+	 * @return the squared distance.
+	 * @see Path2afp#getDistanceSquared(Point2D)
+	 */
+	@Pure
+	public double getDistanceSquared(Point2D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		return getDistanceSquared(point.getX(), point.getY());
+	}
+
+	/** Replies the squared distance between the path and the given point.
+	 *
+	 * <p>The distance is zero if the point is inside a closed ring of the path.
+	 * Otherwise, it is the distance to the nearest segment of the path. The bands are
+	 * explored from the band of the point, until the vertical distance to the next band
+	 * is greater than the best found distance.
+	 *
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 * @return the squared distance.
+	 * @see Path2afp#getDistanceSquared(Point2D)
+	 */
+	@Pure
+	public double getDistanceSquared(double x, double y) {
+		if (isInsideClosedRing(x, y)) {
+			return 0.;
+		}
+		final double[] best = {Double.POSITIVE_INFINITY, 0., 0.};
+		final int band = getBand(y);
+		findClosestPoint(band, x, y, best);
+		int below = band - 1;
+		int above = band + 1;
+		while (below >= 0 || above < this.bandCount) {
+			final double gapBelow = below >= 0 ? getGap(y - getBandBorder(below + 1), y) : Double.POSITIVE_INFINITY;
+			final double gapAbove = above < this.bandCount ? getGap(getBandBorder(above) - y, y) : Double.POSITIVE_INFINITY;
+			if (gapBelow <= gapAbove) {
+				if (gapBelow * gapBelow > best[0]) {
+					break;
+				}
+				findClosestPoint(below, x, y, best);
+				--below;
+			} else {
+				if (gapAbove * gapAbove > best[0]) {
+					break;
+				}
+				findClosestPoint(above, x, y, best);
+				++above;
+			}
+		}
+		// Same computation as Point2D.getDistanceSquared(Point2D) on the closest point
+		return Point2D.getDistanceSquaredPointPoint(best[1], best[2], x, y);
+	}
+
+	/** Replies a lower bound of the distance that is associated to the given vertical gap.
+	 * The gap is reduced for absorbing the rounding errors on the coordinates of the closest points.
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	private static double getGap(double gap, double y) {
+		if (gap <= 0.) {
+			return 0.;
+		}
+		return Math.max(0., gap - 4. * Math.ulp(Math.abs(gap) + Math.abs(y)));
+	}
+
+	/** Replies if the given point is inside a ring that is ended by a close element.
+	 * The crossings are reset at each move and close elements, as in
+	 * {@link Path2afp#findsClosestPointPathIteratorPoint(PathIterator2afp, double, double, Point2D)}.
+	 */
+	private boolean isInsideClosedRing(double x, double y) {
+		if (this.segmentCount == 0 || y < this.minY || y > this.maxY || x > this.maxX) {
+			return false;
+		}
+		final int mask = this.windingRule == PathWindingRule.NON_ZERO ? -1 : 1;
+		final int band = getBand(y);
+		// The segments of a band are sorted by index, so that the rings are enumerated in order.
+		int ring = -1;
+		int crossings = 0;
+		for (int i = this.bandStarts[band]; i < this.bandStarts[band + 1]; ++i) {
+			final int segment = this.bandSegments[i];
+			if (this.rings[segment] != ring) {
+				if (ring >= 0 && this.closedRings[ring] && (crossings & mask) != 0) {
+					return true;
+				}
+				ring = this.rings[segment];
+				crossings = 0;
+			}
+			if (this.kinds[segment] != MOVE) {
+				final int idx = segment * SEGMENT_SIZE;
+				crossings += Segment2afp.calculatesCrossingsPointShadowSegment(x, y,
+						this.segments[idx], this.segments[idx + 1],
+						this.segments[idx + 2], this.segments[idx + 3]);
+			}
+		}
+		return ring >= 0 && this.closedRings[ring] && (crossings & mask) != 0;
+	}
+
+	/** Update the closest point with the segments of the given band.
+	 *
+	 * @param band the band.
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 * @param best the squared distance, x and y coordinates of the best candidate.
+	 */
+	private void findClosestPoint(int band, double x, double y, double[] best) {
+		for (int i = this.bandStarts[band]; i < this.bandStarts[band + 1]; ++i) {
+			final int segment = this.bandSegments[i];
+			final int idx = segment * SEGMENT_SIZE;
+			final double x0 = this.segments[idx];
+			final double y0 = this.segments[idx + 1];
+			final double candidateX;
+			final double candidateY;
+			if (this.kinds[segment] == MOVE) {
+				candidateX = x0;
+				candidateY = y0;
+			} else {
+				final double x1 = this.segments[idx + 2];
+				final double y1 = this.segments[idx + 3];
+				double factor = Segment2afp.findsProjectedPointPointLine(x, y, x0, y0, x1, y1);
+				factor = MathUtil.clamp(factor, 0, 1);
+				candidateX = x0 + (x1 - x0) * factor;
+				candidateY = y0 + (y1 - y0) * factor;
+			}
+			final double d = Point2D.getDistanceSquaredPointPoint(x, y, candidateX, candidateY);
+			if (d < best[0]) {
+				best[0] = d;
+				best[1] = candidateX;
+				best[2] = candidateY;
+			}
+		}
+	}
+
+}
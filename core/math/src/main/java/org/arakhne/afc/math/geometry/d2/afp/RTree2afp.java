@@ -0,0 +1,891 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d2.Point2D;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** R-tree that is indexing 2D shapes according to their bounding boxes.
+ *
+ * <p>The bounding boxes of the entries of a node are stored in a primitive array of the node.
+ * The bounding box of a shape is computed when the shape is added into the tree. If the geometry of
+ * the shape changes, {@link #update(Shape2afp)} must be invoked.
+ *
+ * <p>When a collection of shapes is added into an empty tree, the tree is built with the
+ * Sort-Tile-Recursive (STR) algorithm: the shapes are sorted along the x axis, grouped into vertical
+ * slices, and each slice is sorted along the y axis for packing the nodes. Otherwise, the shapes are
+ * inserted one by one into the node that needs the least enlargement, and the full nodes are split
+ * along the axis of the largest spread of the entries.
+ *
+ * <p>The queries are filtered with the bounding boxes, and refined with the exact intersection
+ * or distance functions of the shapes.
+ *
+ * @param <T> the type of the shapes in the tree.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public class RTree2afp<T extends Shape2afp<?, ?, ?, ?, ?, ?>> {
+
+	/** Default maximal count of entries in a node.
+	 */
+	public static final int DEFAULT_NODE_CAPACITY = 16;
+
+	private static final int BOX_SIZE = 4;
+
+	private static final int MINX = 0;
+
+	private static final int MINY = 1;
+
+	private static final int MAXX = 2;
+
+	private static final int MAXY = 3;
+
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+
+	private static final double MIN_FILL_FACTOR = .4;
+
+	private final int nodeCapacity;
+
+	private final int minNodeSize;
+
+	private final Map<T, Node> leaves = new IdentityHashMap<>();
+
+	private Node root;
+
+	/** Construct an empty tree with the default node capacity.
+	 */
+	public RTree2afp() {
+		this(DEFAULT_NODE_CAPACITY);
+	}
+
+	/** Construct an empty tree.
+	 *
+	 * @param nodeCapacity the maximal count of entries in a node. It must be greater than or equal to 2.
+	 */
+	public RTree2afp(int nodeCapacity) {
+		assert nodeCapacity >= 2 : AssertMessages.invalidValue(0);
+		this.nodeCapacity = nodeCapacity;
+		this.minNodeSize = Math.max(1, (int) (nodeCapacity * MIN_FILL_FACTOR));
+		this.root = new Node(true, nodeCapacity);
+	}
+
+	/** Construct a tree with the default node capacity, and bulk load the given shapes.
+	 *
+	 * @param shapes the shapes to put in the tree.
+	 */
+	public RTree2afp(Collection<? extends T> shapes) {
+		this(DEFAULT_NODE_CAPACITY, shapes);
+	}
+
+	/** Construct a tree and bulk load the given shapes.
+	 *
+	 * @param nodeCapacity the maximal count of entries in a node. It must be greater than or equal to 2.
+	 * @param shapes the shapes to put in the tree.
+	 */
+	public RTree2afp(int nodeCapacity, Collection<? extends T> shapes) {
+		this(nodeCapacity);
+		addAll(shapes);
+	}
+
+	/** Replies the maximal count of entries in a node.
+	 *
+	 * @return the capacity of the nodes.
+	 */
+	@Pure
+	public int getNodeCapacity() {
+		return this.nodeCapacity;
+	}
+
+	/** Replies the number of shapes in the tree.
+	 *
+	 * @return the number of shapes.
+	 */
+	@Pure
+	public int size() {
+		return this.leaves.size();
+	}
+
+	/** Replies if the tree contains no shape.
+	 *
+	 * @return <code>true</code> if the tree is empty.
+	 */
+	@Pure
+	public boolean isEmpty() {
+		return this.leaves.isEmpty();
+	}
+
+	/** Replies if the given shape is inside the tree.
+	 *
+	 * @param shape the shape.
+	 * @return <code>true</code> if the shape is inside the tree.
+	 */
+	@Pure
+	public boolean contains(T shape) {
+		return this.leaves.containsKey(shape);
+	}
+
+	/** Replies the height of the tree, i.e. the number of node levels.
+	 *
+	 * @return the height of the tree.
+	 */
+	@Pure
+	public int getHeight() {
+		int height = 1;
+		Node node = this.root;
+		while (!node.leaf) {
+			node = (Node) node.entries[0];
+			++height;
+		}
+		return height;
+	}
+
+	/** Remove all the shapes from the tree.
+	 */
+	public void clear() {
+		this.leaves.clear();
+		this.root = new Node(true, this.nodeCapacity);
+	}
+
+	/** Add a shape into the tree.
+	 *
+	 * @param shape the shape to add.
+	 * @return <code>true</code> if the shape was added, <code>false</code> if it is already inside the tree.
+	 */
+	public boolean add(T shape) {
+		assert shape != null : AssertMessages.notNullParameter();
+		if (this.leaves.containsKey(shape)) {
+			return false;
+		}
+		insert(shape, shape.toBoundingBox());
+		return true;
+	}
+
+	/** Add the shapes into the tree.
+	 *
+	 * <p>If the tree is empty, it is built with the Sort-Tile-Recursive algorithm.
+	 * Otherwise, the shapes are inserted one by one.
+	 *
+	 * @param shapes the shapes to add.
+	 */
+	public void addAll(Collection<? extends T> shapes) {
+		assert shapes != null : AssertMessages.notNullParameter();
+		if (isEmpty()) {
+			bulkLoad(shapes);
+		} else {
+			for (final T shape : shapes) {
+				add(shape);
+			}
+		}
+	}
+
+	/** Remove a shape from the tree.
+	 *
+	 * @param shape the shape to remove.
+	 * @return <code>true</code> if the shape was removed, <code>false</code> if it is not inside the tree.
+	 */
+	public boolean remove(T shape) {
+		final Node leaf = this.leaves.remove(shape);
+		if (leaf == null) {
+			return false;
+		}
+		leaf.removeAt(leaf.indexOf(shape));
+		condense(leaf);
+		return true;
+	}
+
+	/** Update the location of the given shape in the tree after a change of its geometry.
+	 *
+	 * @param shape the shape that has changed.
+	 * @return <code>true</code> if the shape is inside the tree, <code>false</code> otherwise.
+	 */
+	public boolean update(T shape) {
+		final Node leaf = this.leaves.get(shape);
+		if (leaf == null) {
+			return false;
+		}
+		final Rectangle2afp<?, ?, ?, ?, ?, ?> box = shape.toBoundingBox();
+		final int offset = leaf.indexOf(shape) * BOX_SIZE;
+		final double[] bounds = leaf.bounds;
+		if (bounds[offset + MINX] != box.getMinX() || bounds[offset + MINY] != box.getMinY()
+				|| bounds[offset + MAXX] != box.getMaxX() || bounds[offset + MAXY] != box.getMaxY()) {
+			remove(shape);
+			insert(shape, box);
+		}
+		return true;
+	}
+
+	/** Replies the shapes that are intersecting the given shape.
+	 *
+	 * @param shape the shape.
+	 * @return the shapes, or an empty list.
+	 */
+	@Pure
+	public List<T> getShapesIntersecting(Shape2afp<?, ?, ?, ?, ?, ?> shape) {
+		assert shape != null : AssertMessages.notNullParameter();
+		final Rectangle2afp<?, ?, ?, ?, ?, ?> box = shape.toBoundingBox();
+		final List<T> result = new ArrayList<>();
+		collectIntersecting(this.root, box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY(), shape, result);
+		return result;
+	}
+
+	/** Replies the shapes with bounding boxes that are intersecting the given rectangle.
+	 *
+	 * <p>The shapes are not tested against the rectangle; only their bounding boxes are tested.
+	 *
+	 * @param minx the lower x coordinate of the rectangle.
+	 * @param miny the lower y coordinate of the rectangle.
+	 * @param maxx the upper x coordinate of the rectangle.
+	 * @param maxy the upper y coordinate of the rectangle.
+	 * @return the shapes, or an empty list.
+	 */
+	@Pure
+	public List<T> getShapesInBounds(double minx, double miny, double maxx, double maxy) {
+		final List<T> result = new ArrayList<>();
+		collectIntersecting(this.root, minx, miny, maxx, maxy, null, result);
+		return result;
+	}
+
+	/** Replies the first shape that is intersecting the given shape.
+	 *
+	 * @param shape the shape.
+	 * @return the shape, or <code>null</code> if no shape intersecting the given shape.
+	 */
+	@Pure
+	public T getFirstShapeIntersecting(Shape2afp<?, ?, ?, ?, ?, ?> shape) {
+		assert shape != null : AssertMessages.notNullParameter();
+		final Rectangle2afp<?, ?, ?, ?, ?, ?> box = shape.toBoundingBox();
+		return findIntersecting(this.root, box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY(), shape);
+	}
+
+	/** Replies the shape that is the nearest to the given point.
+	 *
+	 * @param point the point.
+	 * @return the nearest shape, or <code>null</code> if the tree is empty.
+	 */
+	@Pure
+	public T getNearestShape(Point2D<?, ?> point) {
+		final List<T> nearest = getNearestShapes(point, 1);
+		return nearest.isEmpty() ? null : nearest.get(0);
+	}
+
+	/** Replies the shapes that are the nearest to the given point.
+	 *
+	 * <p>The search is a best-first traversal of the tree: the nodes are explored according
+	 * to the distance between their bounding boxes and the point.
+	 *
+	 * @param point the point.
+	 * @param count the maximal number of shapes to reply.
+	 * @return the nearest shapes, sorted by increasing distances.
+	 */
+	@Pure
+	@SuppressWarnings("unchecked")
+	public List<T> getNearestShapes(Point2D<?, ?> point, int count) {
+		assert point != null : AssertMessages.notNullParameter();
+		final List<T> result = new ArrayList<>(Math.max(0, count));
+		final double x = point.getX();
+		final double y = point.getY();
+		final PriorityQueue<Candidate> queue = new PriorityQueue<>();
+		queue.add(new Candidate(this.root, 0., false));
+		while (result.size() < count && !queue.isEmpty()) {
+			final Candidate candidate = queue.poll();
+			if (candidate.shape) {
+				result.add((T) candidate.entry);
+			} else {
+				final Node node = (Node) candidate.entry;
+				for (int i = 0; i < node.size; ++i) {
+					final Object entry = node.entries[i];
+					if (node.leaf) {
+						queue.add(new Candidate(entry, ((T) entry).getDistanceSquared(point), true));
+					} else {
+						queue.add(new Candidate(entry, boxDistanceSquared(node.bounds, i * BOX_SIZE, x, y), false));
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void collectIntersecting(Node node, double minx, double miny, double maxx, double maxy,
+			Shape2afp<?, ?, ?, ?, ?, ?> shape, List<T> result) {
+		final double[] bounds = node.bounds;
+		for (int i = 0, j = 0; i < node.size; ++i, j += BOX_SIZE) {
+			if (bounds[j + MAXX] >= minx && bounds[j + MINX] <= maxx && bounds[j + MAXY] >= miny && bounds[j + MINY] <= maxy) {
+				final Object entry = node.entries[i];
+				if (!node.leaf) {
+					collectIntersecting((Node) entry, minx, miny, maxx, maxy, shape, result);
+				} else if (shape == null || ((T) entry).intersects(shape)) {
+					result.add((T) entry);
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private T findIntersecting(Node node, double minx, double miny, double maxx, double maxy,
+			Shape2afp<?, ?, ?, ?, ?, ?> shape) {
+		final double[] bounds = node.bounds;
+		for (int i = 0, j = 0; i < node.size; ++i, j += BOX_SIZE) {
+			if (bounds[j + MAXX] >= minx && bounds[j + MINX] <= maxx && bounds[j + MAXY] >= miny && bounds[j + MINY] <= maxy) {
+				final Object entry = node.entries[i];
+				if (!node.leaf) {
+					final T found = findIntersecting((Node) entry, minx, miny, maxx, maxy, shape);
+					if (found != null) {
+						return found;
+					}
+				} else if (((T) entry).intersects(shape)) {
+					return (T) entry;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static double boxDistanceSquared(double[] bounds, int offset, double x, double y) {
+		final double dx;
+		if (x < bounds[offset + MINX]) {
+			dx = bounds[offset + MINX] - x;
+		} else if (x > bounds[offset + MAXX]) {
+			dx = x - bounds[offset + MAXX];
+		} else {
+			dx = 0.;
+		}
+		final double dy;
+		if (y < bounds[offset + MINY]) {
+			dy = bounds[offset + MINY] - y;
+		} else if (y > bounds[offset + MAXY]) {
+			dy = y - bounds[offset + MAXY];
+		} else {
+			dy = 0.;
+		}
+		return dx * dx + dy * dy;
+	}
+
+	private void insert(T shape, Rectangle2afp<?, ?, ?, ?, ?, ?> box) {
+		final double minx = box.getMinX();
+		final double miny = box.getMinY();
+		final double maxx = box.getMaxX();
+		final double maxy = box.getMaxY();
+		Node node = this.root;
+		while (!node.leaf) {
+			node = (Node) node.entries[node.chooseSubtree(minx, miny, maxx, maxy)];
+		}
+		node.add(minx, miny, maxx, maxy, shape);
+		this.leaves.put(shape, node);
+		adjust(node);
+	}
+
+	/** Split the overflowing nodes and update the bounding boxes from the given node to the root.
+	 *
+	 * @param node the modified node.
+	 */
+	private void adjust(Node node) {
+		Node current = node;
+		while (current != null) {
+			Node sibling = null;
+			if (current.size > this.nodeCapacity) {
+				sibling = split(current);
+			}
+			final Node parent = current.parent;
+			if (parent == null) {
+				if (sibling != null) {
+					final Node newRoot = new Node(false, this.nodeCapacity);
+					newRoot.addNode(current);
+					newRoot.addNode(sibling);
+					this.root = newRoot;
+				}
+			} else {
+				parent.updateBounds(parent.indexOf(current));
+				if (sibling != null) {
+					parent.addNode(sibling);
+				}
+			}
+			current = parent;
+		}
+	}
+
+	/** Move the half of the entries of the given node into a new node.
+	 * The entries are sorted along the axis of the largest spread of their centers.
+	 *
+	 * @param node the node to split.
+	 * @return the new node.
+	 */
+	@SuppressWarnings("unchecked")
+	private Node split(Node node) {
+		final int size = node.size;
+		final double[] bounds = node.bounds;
+		final Object[] entries = node.entries;
+		double minx = Double.POSITIVE_INFINITY;
+		double miny = Double.POSITIVE_INFINITY;
+		double maxx = Double.NEGATIVE_INFINITY;
+		double maxy = Double.NEGATIVE_INFINITY;
+		final double[] centers = new double[size * 2];
+		for (int i = 0, j = 0; i < size; ++i, j += BOX_SIZE) {
+			final double cx = bounds[j + MINX] + bounds[j + MAXX];
+			final double cy = bounds[j + MINY] + bounds[j + MAXY];
+			centers[i] = cx;
+			centers[i + size] = cy;
+			minx = Math.min(minx, cx);
+			maxx = Math.max(maxx, cx);
+			miny = Math.min(miny, cy);
+			maxy = Math.max(maxy, cy);
+		}
+		final int axisOffset = (maxx - minx) >= (maxy - miny) ? 0 : size;
+		final int[] order = new int[size];
+		for (int i = 0; i < size; ++i) {
+			order[i] = i + axisOffset;
+		}
+		sort(order, centers, 0, size);
+		final double[] oldBounds = bounds.clone();
+		final Object[] oldEntries = entries.clone();
+		final int half = size / 2;
+		final Node sibling = new Node(node.leaf, this.nodeCapacity);
+		node.size = 0;
+		for (int i = 0; i < size; ++i) {
+			final int index = order[i] - axisOffset;
+			final int offset = index * BOX_SIZE;
+			final Node target = i < half ? node : sibling;
+			final Object entry = oldEntries[index];
+			target.add(oldBounds[offset + MINX], oldBounds[offset + MINY], oldBounds[offset + MAXX],
+					oldBounds[offset + MAXY], entry);
+			if (target.leaf) {
+				this.leaves.put((T) entry, target);
+			} else {
+				((Node) entry).parent = target;
+			}
+		}
+		for (int i = node.size; i < oldEntries.length; ++i) {
+			entries[i] = null;
+		}
+		return sibling;
+	}
+
+	/** Remove the underfull nodes from the given node to the root, and insert again their shapes.
+	 *
+	 * @param node the modified node.
+	 */
+	private void condense(Node node) {
+		List<T> orphans = null;
+		Node current = node;
+		Node parent = current.parent;
+		while (parent != null) {
+			if (current.size < this.minNodeSize) {
+				parent.removeAt(parent.indexOf(current));
+				if (orphans == null) {
+					orphans = new ArrayList<>();
+				}
+				collectShapes(current, orphans);
+			} else {
+				parent.updateBounds(parent.indexOf(current));
+			}
+			current = parent;
+			parent = current.parent;
+		}
+		while (!this.root.leaf && this.root.size == 1) {
+			this.root = (Node) this.root.entries[0];
+			this.root.parent = null;
+		}
+		if (!this.root.leaf && this.root.size == 0) {
+			this.root = new Node(true, this.nodeCapacity);
+		}
+		if (orphans != null) {
+			for (final T orphan : orphans) {
+				this.leaves.remove(orphan);
+			}
+			for (final T orphan : orphans) {
+				insert(orphan, orphan.toBoundingBox());
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> void collectShapes(Node node, List<T> shapes) {
+		for (int i = 0; i < node.size; ++i) {
+			if (node.leaf) {
+				shapes.add((T) node.entries[i]);
+			} else {
+				collectShapes((Node) node.entries[i], shapes);
+			}
+		}
+	}
+
+	/** Build the tree with the Sort-Tile-Recursive algorithm.
+	 *
+	 * @param shapes the shapes to put in the empty tree.
+	 */
+	@SuppressWarnings("unchecked")
+	private void bulkLoad(Collection<? extends T> shapes) {
+		final int size = shapes.size();
+		Object[] entries = new Object[size];
+		double[] boxes = new double[size * BOX_SIZE];
+		int count = 0;
+		for (final T shape : shapes) {
+			if (!this.leaves.containsKey(shape)) {
+				final Rectangle2afp<?, ?, ?, ?, ?, ?> box = shape.toBoundingBox();
+				final int offset = count * BOX_SIZE;
+				boxes[offset + MINX] = box.getMinX();
+				boxes[offset + MINY] = box.getMinY();
+				boxes[offset + MAXX] = box.getMaxX();
+				boxes[offset + MAXY] = box.getMaxY();
+				entries[count] = shape;
+				// Register the shape for ignoring the duplicates
+				this.leaves.put(shape, this.root);
+				++count;
+			}
+		}
+		if (count == 0) {
+			return;
+		}
+		boolean leaf = true;
+		do {
+			final Node[] nodes = pack(entries, boxes, count, leaf);
+			if (leaf) {
+				for (final Node node : nodes) {
+					for (int i = 0; i < node.size; ++i) {
+						this.leaves.put((T) node.entries[i], node);
+					}
+				}
+			}
+			count = nodes.length;
+			entries = nodes;
+			boxes = new double[count * BOX_SIZE];
+			for (int i = 0; i < count; ++i) {
+				nodes[i].computeBounds(boxes, i * BOX_SIZE);
+			}
+			leaf = false;
+		} while (count > 1);
+		this.root = (Node) entries[0];
+	}
+
+	/** Pack the given entries into nodes with the Sort-Tile-Recursive algorithm.
+	 *
+	 * @param entries the entries to pack.
+	 * @param boxes the bounding boxes of the entries.
+	 * @param count the number of entries.
+	 * @param leaf indicates if the entries are shapes.
+	 * @return the nodes.
+	 */
+	private Node[] pack(Object[] entries, double[] boxes, int count, boolean leaf) {
+		final int capacity = this.nodeCapacity;
+		final int nodeCount = (count + capacity - 1) / capacity;
+		final int sliceCount = (int) Math.ceil(Math.sqrt(nodeCount));
+		final int sliceSize = sliceCount * capacity;
+		final double[] centers = new double[count * 2];
+		final int[] order = new int[count];
+		for (int i = 0, j = 0; i < count; ++i, j += BOX_SIZE) {
+			centers[i] = boxes[j + MINX] + boxes[j + MAXX];
+			centers[i + count] = boxes[j + MINY] + boxes[j + MAXY];
+			order[i] = i;
+		}
+		sort(order, centers, 0, count);
+		final Node[] nodes = new Node[nodeCount];
+		int nodeIndex = 0;
+		for (int start = 0; start < count; start += sliceSize) {
+			final int end = Math.min(count, start + sliceSize);
+			// Sort the slice along the y axis
+			for (int i = start; i < end; ++i) {
+				order[i] += count;
+			}
+			sort(order, centers, start, end);
+			for (int first = start; first < end; first += capacity) {
+				final Node node = new Node(leaf, capacity);
+				final int last = Math.min(end, first + capacity);
+				for (int i = first; i < last; ++i) {
+					final int index = order[i] - count;
+					final int offset = index * BOX_SIZE;
+					node.add(boxes[offset + MINX], boxes[offset + MINY], boxes[offset + MAXX], boxes[offset + MAXY],
+							entries[index]);
+					if (!leaf) {
+						((Node) entries[index]).parent = node;
+					}
+				}
+				nodes[nodeIndex] = node;
+				++nodeIndex;
+			}
+		}
+		return nodes;
+	}
+
+	/** Sort the given range of indexes according to the keys that are associated to the indexes.
+	 *
+	 * @param indexes the indexes to sort.
+	 * @param keys the keys of the indexes.
+	 * @param from the first index of the range, inclusive.
+	 * @param to the last index of the range, exclusive.
+	 */
+	private static void sort(int[] indexes, double[] keys, int from, int to) {
+		int low = from;
+		int high = to;
+		while (high - low > INSERTION_SORT_THRESHOLD) {
+			final double pivot = keys[indexes[(low + high) >>> 1]];
+			int i = low;
+			int j = high - 1;
+			while (i <= j) {
+				while (keys[indexes[i]] < pivot) {
+					++i;
+				}
+				while (keys[indexes[j]] > pivot) {
+					--j;
+				}
+				if (i <= j) {
+					final int tmp = indexes[i];
+					indexes[i] = indexes[j];
+					indexes[j] = tmp;
+					++i;
+					--j;
+				}
+			}
+			// Recurse on the smallest part for bounding the stack depth
+			if (j - low < high - i) {
+				sort(indexes, keys, low, j + 1);
+				low = i;
+			} else {
+				sort(indexes, keys, i, high);
+				high = j + 1;
+			}
+		}
+		for (int i = low + 1; i < high; ++i) {
+			final int index = indexes[i];
+			final double key = keys[index];
+			int j = i - 1;
+			while (j >= low && keys[indexes[j]] > key) {
+				indexes[j + 1] = indexes[j];
+				--j;
+			}
+			indexes[j + 1] = index;
+		}
+	}
+
+	/** Node of the R-tree.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class Node {
+
+		/** Indicates if the entries are shapes.
+		 */
+		final boolean leaf;
+
+		/** Bounding boxes of the entries: minx, miny, maxx, maxy for each entry.
+		 */
+		final double[] bounds;
+
+		/** Entries of the node. There is one more slot than the node capacity for the overflow before split.
+		 */
+		final Object[] entries;
+
+		/** Number of entries.
+		 */
+		int size;
+
+		/** Parent node.
+		 */
+		Node parent;
+
+		/** Construct a node.
+		 *
+		 * @param leaf indicates if the entries are shapes.
+		 * @param capacity the capacity of the node.
+		 */
+		Node(boolean leaf, int capacity) {
+			this.leaf = leaf;
+			this.bounds = new double[(capacity + 1) * BOX_SIZE];
+			this.entries = new Object[capacity + 1];
+		}
+
+		/** Add an entry.
+		 *
+		 * @param minx the lower x coordinate of the entry.
+		 * @param miny the lower y coordinate of the entry.
+		 * @param maxx the upper x coordinate of the entry.
+		 * @param maxy the upper y coordinate of the entry.
+		 * @param entry the entry.
+		 */
+		void add(double minx, double miny, double maxx, double maxy, Object entry) {
+			final int offset = this.size * BOX_SIZE;
+			this.bounds[offset + MINX] = minx;
+			this.bounds[offset + MINY] = miny;
+			this.bounds[offset + MAXX] = maxx;
+			this.bounds[offset + MAXY] = maxy;
+			this.entries[this.size] = entry;
+			++this.size;
+		}
+
+		/** Add a child node.
+		 *
+		 * @param child the child.
+		 */
+		void addNode(Node child) {
+			this.entries[this.size] = child;
+			child.computeBounds(this.bounds, this.size * BOX_SIZE);
+			child.parent = this;
+			++this.size;
+		}
+
+		/** Replies the index of the given entry.
+		 *
+		 * @param entry the entry.
+		 * @return the index.
+		 */
+		int indexOf(Object entry) {
+			for (int i = 0; i < this.size; ++i) {
+				if (this.entries[i] == entry) {
+					return i;
+				}
+			}
+			throw new IllegalStateException();
+		}
+
+		/** Remove the entry at the given index. The last entry is moved at the index.
+		 *
+		 * @param index the index.
+		 */
+		void removeAt(int index) {
+			--this.size;
+			if (index < this.size) {
+				System.arraycopy(this.bounds, this.size * BOX_SIZE, this.bounds, index * BOX_SIZE, BOX_SIZE);
+				this.entries[index] = this.entries[this.size];
+			}
+			this.entries[this.size] = null;
+		}
+
+		/** Update the bounding box of the child node at the given index.
+		 *
+		 * @param index the index.
+		 */
+		void updateBounds(int index) {
+			((Node) this.entries[index]).computeBounds(this.bounds, index * BOX_SIZE);
+		}
+
+		/** Compute the bounding box of the entries.
+		 *
+		 * @param box the array to fill.
+		 * @param offset the index of the first coordinate in the array.
+		 */
+		void computeBounds(double[] box, int offset) {
+			double minx = Double.POSITIVE_INFINITY;
+			double miny = Double.POSITIVE_INFINITY;
+			double maxx = Double.NEGATIVE_INFINITY;
+			double maxy = Double.NEGATIVE_INFINITY;
+			for (int i = 0, j = 0; i < this.size; ++i, j += BOX_SIZE) {
+				minx = Math.min(minx, this.bounds[j + MINX]);
+				miny = Math.min(miny, this.bounds[j + MINY]);
+				maxx = Math.max(maxx, this.bounds[j + MAXX]);
+				maxy = Math.max(maxy, this.bounds[j + MAXY]);
+			}
+			box[offset + MINX] = minx;
+			box[offset + MINY] = miny;
+			box[offset + MAXX] = maxx;
+			box[offset + MAXY] = maxy;
+		}
+
+		/** Replies the index of the entry that needs the least enlargement for including the given box.
+		 *
+		 * @param minx the lower x coordinate of the box.
+		 * @param miny the lower y coordinate of the box.
+		 * @param maxx the upper x coordinate of the box.
+		 * @param maxy the upper y coordinate of the box.
+		 * @return the index of the entry.
+		 */
+		int chooseSubtree(double minx, double miny, double maxx, double maxy) {
+			int best = 0;
+			double bestEnlargement = Double.POSITIVE_INFINITY;
+			double bestArea = Double.POSITIVE_INFINITY;
+			for (int i = 0, j = 0; i < this.size; ++i, j += BOX_SIZE) {
+				final double area = (this.bounds[j + MAXX] - this.bounds[j + MINX])
+						* (this.bounds[j + MAXY] - this.bounds[j + MINY]);
+				final double union = (Math.max(maxx, this.bounds[j + MAXX]) - Math.min(minx, this.bounds[j + MINX]))
+						* (Math.max(maxy, this.bounds[j + MAXY]) - Math.min(miny, this.bounds[j + MINY]));
+				final double enlargement = union - area;
+				if (enlargement < bestEnlargement || (enlargement == bestEnlargement && area < bestArea)) {
+					best = i;
+					bestEnlargement = enlargement;
+					bestArea = area;
+				}
+			}
+			return best;
+		}
+
+	}
+
+	/** Candidate of the nearest neighbour search.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class Candidate implements Comparable<Candidate> {
+
+		/** The node or the shape.
+		 */
+		final Object entry;
+
+		/** The squared distance to the entry.
+		 */
+		final double distance;
+
+		/** Indicates if the entry is a shape.
+		 */
+		final boolean shape;
+
+		/** Construct a candidate.
+		 *
+		 * @param entry the node or the shape.
+		 * @param distance the squared distance to the entry.
+		 * @param shape indicates if the entry is a shape.
+		 */
+		Candidate(Object entry, double distance, boolean shape) {
+			this.entry = entry;
+			this.distance = distance;
+			this.shape = shape;
+		}
+
+		@Override
+		public int compareTo(Candidate candidate) {
+			final int cmp = Double.compare(this.distance, candidate.distance);
+			if (cmp != 0) {
+				return cmp;
+			}
+			// The shapes are replied before the nodes at the same distance
+			return Boolean.compare(candidate.shape, this.shape);
+		}
+
+	}
+
+}
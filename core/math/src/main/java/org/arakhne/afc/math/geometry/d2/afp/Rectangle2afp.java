@@ -28,6 +28,7 @@ import org.arakhne.afc.math.MathConstants;
 import org.arakhne.afc.math.MathUtil;
 import org.arakhne.afc.math.Unefficient;
 import org.arakhne.afc.math.geometry.CrossingComputationType;
+import org.arakhne.afc.math.geometry.PathElementType;
 import org.arakhne.afc.math.geometry.PathWindingRule;
 import org.arakhne.afc.math.geometry.d2.Point2D;
 import org.arakhne.afc.math.geometry.d2.Transform2D;
@@ -1574,6 +1575,22 @@ public interface Rectangle2afp<
             return new RectanglePathIterator<>(this.rectangle);
         }
 
+        /** Replies the type of the path element at the given index in the iterations.
+         *
+         * @param index the index of the element, from 0 to 4.
+         * @return the type of the element.
+         */
+        static PathElementType getElementType(int index) {
+            switch (index) {
+            case 0:
+                return PathElementType.MOVE_TO;
+            case 4:
+                return PathElementType.CLOSE;
+            default:
+                return PathElementType.LINE_TO;
+            }
+        }
+
         @Pure
         @Override
         public boolean hasNext() {
@@ -1609,6 +1626,20 @@ public interface Rectangle2afp<
             }
         }
 
+        @Override
+        public PathElementType next(double[] coords) {
+            assert coords != null && coords.length >= CURSOR_ARRAY_SIZE
+                    : AssertMessages.tooSmallArrayParameter(coords == null ? 0 : coords.length, CURSOR_ARRAY_SIZE);
+            final int idx = this.index;
+            if (idx > 4) {
+                throw new NoSuchElementException();
+            }
+            ++this.index;
+            coords[0] = (idx == 1 || idx == 2) ? this.x2 : this.x1;
+            coords[1] = (idx == 2 || idx == 3) ? this.y2 : this.y1;
+            return getElementType(idx);
+        }
+
         @Override
         public void remove() {
             throw new UnsupportedOperationException();
@@ -1756,6 +1787,24 @@ public interface Rectangle2afp<
             }
         }
 
+        @Override
+        public PathElementType next(double[] coords) {
+            assert coords != null && coords.length >= CURSOR_ARRAY_SIZE
+                    : AssertMessages.tooSmallArrayParameter(coords == null ? 0 : coords.length, CURSOR_ARRAY_SIZE);
+            final int idx = this.index;
+            if (idx > 4) {
+                throw new NoSuchElementException();
+            }
+            ++this.index;
+            this.p2.set(
+                    (idx == 1 || idx == 2) ? this.x2 : this.x1,
+                    (idx == 2 || idx == 3) ? this.y2 : this.y1);
+            this.transform.transform(this.p2);
+            coords[0] = this.p2.getX();
+            coords[1] = this.p2.getY();
+            return RectanglePathIterator.getElementType(idx);
+        }
+
         @Override
         public void remove() {
             throw new UnsupportedOperationException();
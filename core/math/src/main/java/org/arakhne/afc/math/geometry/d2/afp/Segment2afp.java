@@ -29,6 +29,7 @@ import org.arakhne.afc.math.MathConstants;
 import org.arakhne.afc.math.MathUtil;
 import org.arakhne.afc.math.Unefficient;
 import org.arakhne.afc.math.geometry.CrossingComputationType;
+import org.arakhne.afc.math.geometry.PathElementType;
 import org.arakhne.afc.math.geometry.PathWindingRule;
 import org.arakhne.afc.math.geometry.d2.Point2D;
 import org.arakhne.afc.math.geometry.d2.Shape2D;
@@ -179,6 +180,30 @@ public interface Segment2afp<
             }
         }
 
+        @Override
+        public PathElementType next(double[] coords) {
+            assert coords != null && coords.length >= CURSOR_ARRAY_SIZE
+                    : AssertMessages.tooSmallArrayParameter(coords == null ? 0 : coords.length, CURSOR_ARRAY_SIZE);
+            if (this.index > 1) {
+                throw new NoSuchElementException();
+            }
+            final PathElementType type;
+            if (this.index == 0) {
+                this.p2.set(this.x1, this.y1);
+                type = PathElementType.MOVE_TO;
+            } else {
+                this.p2.set(this.x2, this.y2);
+                type = PathElementType.LINE_TO;
+            }
+            ++this.index;
+            if (this.transform != null) {
+                this.transform.transform(this.p2);
+            }
+            coords[0] = this.p2.getX();
+            coords[1] = this.p2.getY();
+            return type;
+        }
+
         @Override
         public void remove() {
             throw new UnsupportedOperationException();
@@ -409,33 +434,35 @@ public interface Segment2afp<
         final double rmaxy = ry + rheight;
         final int code1 = MathUtil.getCohenSutherlandCode(sx1, sy1, rx, ry, rmaxx, rmaxy);
         final int code2 = MathUtil.getCohenSutherlandCode(sx2, sy2, rx, ry, rmaxx, rmaxy);
-        final Point2D<?, ?> tmp1 = new InnerComputationPoint2afp();
-        final Point2D<?, ?> tmp2 = new InnerComputationPoint2afp();
-        final int zone = Rectangle2afp.reducesCohenSutherlandZoneRectangleSegment(
-                rx, ry, rmaxx, rmaxy,
-                sx1, sy1, sx2, sy2,
-                code1, code2,
-                tmp1, tmp2);
-        if ((zone & MathConstants.COHEN_SUTHERLAND_LEFT) != 0) {
-            findsClosestPointSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    rx, ry, rx, rmaxy, result);
-        } else if ((zone & MathConstants.COHEN_SUTHERLAND_RIGHT) != 0) {
-            findsClosestPointSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    rmaxx, ry, rmaxx, rmaxy, result);
-        } else if ((zone & MathConstants.COHEN_SUTHERLAND_BOTTOM) != 0) {
-            findsClosestPointSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    rx, ry, rmaxx, ry, result);
-        } else if ((zone & MathConstants.COHEN_SUTHERLAND_TOP) != 0) {
-            findsClosestPointSegmentSegment(
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> tmp1 = scratch.point();
+            final Point2D<?, ?> tmp2 = scratch.point();
+            final int zone = Rectangle2afp.reducesCohenSutherlandZoneRectangleSegment(
+                    rx, ry, rmaxx, rmaxy,
                     sx1, sy1, sx2, sy2,
-                    rx, rmaxy, rmaxx, rmaxy, result);
-        } else {
-            findsClosestPointSegmentPoint(
-                    tmp1.getX(), tmp1.getY(), tmp2.getX(), tmp2.getY(),
-                    (rx + rmaxx) / 2., (ry + rmaxy) / 2., result);
+                    code1, code2,
+                    tmp1, tmp2);
+            if ((zone & MathConstants.COHEN_SUTHERLAND_LEFT) != 0) {
+                findsClosestPointSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rx, ry, rx, rmaxy, result);
+            } else if ((zone & MathConstants.COHEN_SUTHERLAND_RIGHT) != 0) {
+                findsClosestPointSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rmaxx, ry, rmaxx, rmaxy, result);
+            } else if ((zone & MathConstants.COHEN_SUTHERLAND_BOTTOM) != 0) {
+                findsClosestPointSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rx, ry, rmaxx, ry, result);
+            } else if ((zone & MathConstants.COHEN_SUTHERLAND_TOP) != 0) {
+                findsClosestPointSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rx, rmaxy, rmaxx, rmaxy, result);
+            } else {
+                findsClosestPointSegmentPoint(
+                        tmp1.getX(), tmp1.getY(), tmp2.getX(), tmp2.getY(),
+                        (rx + rmaxx) / 2., (ry + rmaxy) / 2., result);
+            }
         }
     }
 
@@ -1817,43 +1844,45 @@ public interface Segment2afp<
         final double rmaxy = ry + rheight;
         final int code1 = MathUtil.getCohenSutherlandCode(sx1, sy1, rx, ry, rmaxx, rmaxy);
         final int code2 = MathUtil.getCohenSutherlandCode(sx2, sy2, rx, ry, rmaxx, rmaxy);
-        final Point2D<?, ?> tmp1 = new InnerComputationPoint2afp();
-        final Point2D<?, ?> tmp2 = new InnerComputationPoint2afp();
-        final int zone;
-        if (code1 != code2) {
-            zone = Rectangle2afp.reducesCohenSutherlandZoneRectangleSegment(
-                    rx, ry, rmaxx, rmaxy,
-                    sx1, sy1, sx2, sy2,
-                    code1, code2,
-                    tmp1, tmp2);
-        } else {
-            zone = code1;
-            tmp1.set(sx1, sy1);
-            tmp2.set(sx2, sy2);
-        }
-        if ((zone & MathConstants.COHEN_SUTHERLAND_LEFT) != 0) {
-            findsFarthestPointSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    rx, ry, rx, rmaxy, result);
-        } else if ((zone & MathConstants.COHEN_SUTHERLAND_RIGHT) != 0) {
-            findsFarthestPointSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    rmaxx, ry, rmaxx, rmaxy, result);
-        } else if ((zone & MathConstants.COHEN_SUTHERLAND_BOTTOM) != 0) {
-            findsFarthestPointSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    rx, ry, rmaxx, ry, result);
-        } else if ((zone & MathConstants.COHEN_SUTHERLAND_TOP) != 0) {
-            findsFarthestPointSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    rx, rmaxy, rmaxx, rmaxy, result);
-        } else {
-            final double dist1 = Point2D.getDistanceSquaredPointPoint(tmp1.getX(), tmp1.getY(), sx1, sy1);
-            final double dist2 = Point2D.getDistanceSquaredPointPoint(tmp2.getX(), tmp2.getY(), sx2, sy2);
-            if (dist1 >= dist2) {
-                result.set(sx1, sy1);
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> tmp1 = scratch.point();
+            final Point2D<?, ?> tmp2 = scratch.point();
+            final int zone;
+            if (code1 != code2) {
+                zone = Rectangle2afp.reducesCohenSutherlandZoneRectangleSegment(
+                        rx, ry, rmaxx, rmaxy,
+                        sx1, sy1, sx2, sy2,
+                        code1, code2,
+                        tmp1, tmp2);
+            } else {
+                zone = code1;
+                tmp1.set(sx1, sy1);
+                tmp2.set(sx2, sy2);
+            }
+            if ((zone & MathConstants.COHEN_SUTHERLAND_LEFT) != 0) {
+                findsFarthestPointSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rx, ry, rx, rmaxy, result);
+            } else if ((zone & MathConstants.COHEN_SUTHERLAND_RIGHT) != 0) {
+                findsFarthestPointSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rmaxx, ry, rmaxx, rmaxy, result);
+            } else if ((zone & MathConstants.COHEN_SUTHERLAND_BOTTOM) != 0) {
+                findsFarthestPointSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rx, ry, rmaxx, ry, result);
+            } else if ((zone & MathConstants.COHEN_SUTHERLAND_TOP) != 0) {
+                findsFarthestPointSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rx, rmaxy, rmaxx, rmaxy, result);
             } else {
-                result.set(sx2, sy2);
+                final double dist1 = Point2D.getDistanceSquaredPointPoint(tmp1.getX(), tmp1.getY(), sx1, sy1);
+                final double dist2 = Point2D.getDistanceSquaredPointPoint(tmp2.getX(), tmp2.getY(), sx2, sy2);
+                if (dist1 >= dist2) {
+                    result.set(sx1, sy1);
+                } else {
+                    result.set(sx2, sy2);
+                }
             }
         }
     }
@@ -3207,46 +3236,48 @@ public interface Segment2afp<
         final double y2 = Parallelogram2afp.findsVectorProjectionSAxisVector(rx, ry, sx, sy, sx2, sy2);
         final int code1 = MathUtil.getCohenSutherlandCode(x1, y1, -extent1, -extent2, extent1, extent2);
         final int code2 = MathUtil.getCohenSutherlandCode(x2, y2, -extent1, -extent2, extent1, extent2);
-        final Point2D<?, ?> tmp1 = new InnerComputationPoint2afp();
-        final Point2D<?, ?> tmp2 = new InnerComputationPoint2afp();
-        final int zone = Rectangle2afp.reducesCohenSutherlandZoneRectangleSegment(
-                -extent1, -extent2, extent1, extent2,
-                x1, y1, x2, y2,
-                code1, code2,
-                tmp1, tmp2);
-        if ((zone & MathConstants.COHEN_SUTHERLAND_LEFT) != 0) {
-            findsClosestPointSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    -rx * extent1 + sx * extent2, -ry * extent1 + sy * extent2,
-                    -rx * extent1 - sx * extent2, -ry * extent1 - sy * extent2,
-                    point);
-        } else if ((zone & MathConstants.COHEN_SUTHERLAND_RIGHT) != 0) {
-            findsClosestPointSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    rx * extent1 + sx * extent2, ry * extent1 + sy * extent2,
-                    rx * extent1 - sx * extent2, ry * extent1 - sy * extent2,
-                    point);
-        } else if ((zone & MathConstants.COHEN_SUTHERLAND_BOTTOM) != 0) {
-            findsClosestPointSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    -rx * extent1 - sx * extent2, -ry * extent1 - sy * extent2,
-                    rx * extent1 - sx * extent2, ry * extent1 - sy * extent2,
-                    point);
-        } else if ((zone & MathConstants.COHEN_SUTHERLAND_TOP) != 0) {
-            findsClosestPointSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    -rx * extent1 + sx * extent2, -ry * extent1 + sy * extent2,
-                    rx * extent1 + sx * extent2, ry * extent1 + sy * extent2,
-                    point);
-        } else {
-            findsClosestPointSegmentPoint(
-                    tmp1.getX(), tmp1.getY(), tmp2.getX(), tmp2.getY(),
-                    0, 0,
-                    point);
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> tmp1 = scratch.point();
+            final Point2D<?, ?> tmp2 = scratch.point();
+            final int zone = Rectangle2afp.reducesCohenSutherlandZoneRectangleSegment(
+                    -extent1, -extent2, extent1, extent2,
+                    x1, y1, x2, y2,
+                    code1, code2,
+                    tmp1, tmp2);
+            if ((zone & MathConstants.COHEN_SUTHERLAND_LEFT) != 0) {
+                findsClosestPointSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        -rx * extent1 + sx * extent2, -ry * extent1 + sy * extent2,
+                        -rx * extent1 - sx * extent2, -ry * extent1 - sy * extent2,
+                        point);
+            } else if ((zone & MathConstants.COHEN_SUTHERLAND_RIGHT) != 0) {
+                findsClosestPointSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rx * extent1 + sx * extent2, ry * extent1 + sy * extent2,
+                        rx * extent1 - sx * extent2, ry * extent1 - sy * extent2,
+                        point);
+            } else if ((zone & MathConstants.COHEN_SUTHERLAND_BOTTOM) != 0) {
+                findsClosestPointSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        -rx * extent1 - sx * extent2, -ry * extent1 - sy * extent2,
+                        rx * extent1 - sx * extent2, ry * extent1 - sy * extent2,
+                        point);
+            } else if ((zone & MathConstants.COHEN_SUTHERLAND_TOP) != 0) {
+                findsClosestPointSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        -rx * extent1 + sx * extent2, -ry * extent1 + sy * extent2,
+                        rx * extent1 + sx * extent2, ry * extent1 + sy * extent2,
+                        point);
+            } else {
+                findsClosestPointSegmentPoint(
+                        tmp1.getX(), tmp1.getY(), tmp2.getX(), tmp2.getY(),
+                        0, 0,
+                        point);
+            }
+            // Invert change of basis
+            point.add(cx, cy);
+            return point;
         }
-        // Invert change of basis
-        point.add(cx, cy);
-        return point;
     }
 
     @Override
@@ -3678,13 +3709,15 @@ public interface Segment2afp<
      */
     default void transform(Transform2D transform) {
         assert transform != null : AssertMessages.notNullParameter();
-        final Point2D<?, ?> p = new InnerComputationPoint2afp(getX1(), getY1());
-        transform.transform(p);
-        final double x1 = p.getX();
-        final double y1 = p.getY();
-        p.set(getX2(), getY2());
-        transform.transform(p);
-        set(x1, y1, p.getX(), p.getY());
+        try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+            final Point2D<?, ?> p = scratch.point(getX1(), getY1());
+            transform.transform(p);
+            final double x1 = p.getX();
+            final double y1 = p.getY();
+            p.set(getX2(), getY2());
+            transform.transform(p);
+            set(x1, y1, p.getX(), p.getY());
+        }
     }
 
     @Override
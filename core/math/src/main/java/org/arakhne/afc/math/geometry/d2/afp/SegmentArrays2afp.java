@@ -0,0 +1,485 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.math.MathUtil;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Batch versions of the functions of {@link Segment2afp} on segments and points
+ * that are stored into arrays of coordinates.
+ *
+ * <p>The coordinates are given as a structure of arrays: one array for each coordinate,
+ * e.g. {@code x1[i]}, {@code y1[i]}, {@code x2[i]} and {@code y2[i]} for the segment at index {@code i}.
+ * Only the first {@code count} elements of the arrays are considered.
+ *
+ * <p>The loops of the functions have no call and a minimal number of branches, so that the
+ * just-in-time compiler is able to vectorize them. The results of the distance functions may differ from
+ * the results of the scalar functions by a rounding error.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see Segment2afp
+ */
+public final class SegmentArrays2afp {
+
+	private static final int INSERTION_SORT_THRESHOLD = 16;
+
+	private SegmentArrays2afp() {
+		//
+	}
+
+	/** Compute the square distances between the given points and a segment.
+	 *
+	 * @param x1 horizontal position of the first point of the segment.
+	 * @param y1 vertical position of the first point of the segment.
+	 * @param x2 horizontal position of the second point of the segment.
+	 * @param y2 vertical position of the second point of the segment.
+	 * @param px horizontal positions of the points.
+	 * @param py vertical positions of the points.
+	 * @param count the number of points.
+	 * @param distances the array that receives the square distances.
+	 * @see Segment2afp#calculatesDistanceSquaredSegmentPoint(double, double, double, double, double, double)
+	 */
+	@SuppressWarnings("checkstyle:parameternumber")
+	public static void calculatesDistanceSquaredSegmentPoints(double x1, double y1, double x2, double y2,
+			double[] px, double[] py, int count, double[] distances) {
+		assert px != null && px.length >= count : AssertMessages.tooSmallArrayParameter(px == null ? 0 : px.length, count);
+		assert py != null && py.length >= count : AssertMessages.tooSmallArrayParameter(py == null ? 0 : py.length, count);
+		assert distances != null && distances.length >= count
+				: AssertMessages.tooSmallArrayParameter(distances == null ? 0 : distances.length, count);
+		final double x21 = x2 - x1;
+		final double y21 = y2 - y1;
+		final double denominator = x21 * x21 + y21 * y21;
+		// The inverse is zero for a degenerated segment, so that the ratio is always zero.
+		final double inverse = denominator == 0. ? 0. : 1. / denominator;
+		for (int i = 0; i < count; ++i) {
+			final double xp1 = px[i] - x1;
+			final double yp1 = py[i] - y1;
+			final double ratio = Math.min(1., Math.max(0., (xp1 * x21 + yp1 * y21) * inverse));
+			final double dx = xp1 - ratio * x21;
+			final double dy = yp1 - ratio * y21;
+			distances[i] = dx * dx + dy * dy;
+		}
+	}
+
+	/** Compute the square distances between the given segments and a point.
+	 *
+	 * @param x1 horizontal positions of the first points of the segments.
+	 * @param y1 vertical positions of the first points of the segments.
+	 * @param x2 horizontal positions of the second points of the segments.
+	 * @param y2 vertical positions of the second points of the segments.
+	 * @param count the number of segments.
+	 * @param px horizontal position of the point.
+	 * @param py vertical position of the point.
+	 * @param distances the array that receives the square distances.
+	 * @see Segment2afp#calculatesDistanceSquaredSegmentPoint(double, double, double, double, double, double)
+	 */
+	@SuppressWarnings("checkstyle:parameternumber")
+	public static void calculatesDistanceSquaredSegmentsPoint(double[] x1, double[] y1, double[] x2, double[] y2, int count,
+			double px, double py, double[] distances) {
+		assert checkSegmentArrays(x1, y1, x2, y2, count);
+		assert distances != null && distances.length >= count
+				: AssertMessages.tooSmallArrayParameter(distances == null ? 0 : distances.length, count);
+		for (int i = 0; i < count; ++i) {
+			final double x21 = x2[i] - x1[i];
+			final double y21 = y2[i] - y1[i];
+			final double xp1 = px - x1[i];
+			final double yp1 = py - y1[i];
+			final double denominator = x21 * x21 + y21 * y21;
+			final double ratio = denominator == 0. ? 0.
+					: Math.min(1., Math.max(0., (xp1 * x21 + yp1 * y21) / denominator));
+			final double dx = xp1 - ratio * x21;
+			final double dy = yp1 - ratio * y21;
+			distances[i] = dx * dx + dy * dy;
+		}
+	}
+
+	/** Replies the index of the segment that is the nearest to the given point.
+	 *
+	 * @param x1 horizontal positions of the first points of the segments.
+	 * @param y1 vertical positions of the first points of the segments.
+	 * @param x2 horizontal positions of the second points of the segments.
+	 * @param y2 vertical positions of the second points of the segments.
+	 * @param count the number of segments.
+	 * @param px horizontal position of the point.
+	 * @param py vertical position of the point.
+	 * @return the index of the nearest segment, or {@code -1} if there is no segment.
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:parameternumber")
+	public static int findsNearestSegmentPoint(double[] x1, double[] y1, double[] x2, double[] y2, int count,
+			double px, double py) {
+		assert checkSegmentArrays(x1, y1, x2, y2, count);
+		int nearest = -1;
+		double best = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < count; ++i) {
+			final double x21 = x2[i] - x1[i];
+			final double y21 = y2[i] - y1[i];
+			final double xp1 = px - x1[i];
+			final double yp1 = py - y1[i];
+			final double denominator = x21 * x21 + y21 * y21;
+			final double ratio = denominator == 0. ? 0.
+					: Math.min(1., Math.max(0., (xp1 * x21 + yp1 * y21) / denominator));
+			final double dx = xp1 - ratio * x21;
+			final double dy = yp1 - ratio * y21;
+			final double distance = dx * dx + dy * dy;
+			if (distance < best) {
+				best = distance;
+				nearest = i;
+			}
+		}
+		return nearest;
+	}
+
+	/** Replies on which sides of a line the given points are located.
+	 *
+	 * @param x1 the X coordinate of the start point of the line.
+	 * @param y1 the Y coordinate of the start point of the line.
+	 * @param x2 the X coordinate of the end point of the line.
+	 * @param y2 the Y coordinate of the end point of the line.
+	 * @param px horizontal positions of the points.
+	 * @param py vertical positions of the points.
+	 * @param count the number of points.
+	 * @param epsilon approximate epsilon.
+	 * @param sides the array that receives the sides, i.e. {@code -1}, {@code 0} or {@code 1}.
+	 * @see Segment2afp#findsSideLinePoint(double, double, double, double, double, double, double)
+	 */
+	@SuppressWarnings({"checkstyle:parameternumber", "checkstyle:cyclomaticcomplexity"})
+	public static void findsSideLinePoints(double x1, double y1, double x2, double y2,
+			double[] px, double[] py, int count, double epsilon, int[] sides) {
+		assert px != null && px.length >= count : AssertMessages.tooSmallArrayParameter(px == null ? 0 : px.length, count);
+		assert py != null && py.length >= count : AssertMessages.tooSmallArrayParameter(py == null ? 0 : py.length, count);
+		assert sides != null && sides.length >= count
+				: AssertMessages.tooSmallArrayParameter(sides == null ? 0 : sides.length, count);
+		final double x21 = x2 - x1;
+		final double y21 = y2 - y1;
+		if (Double.isNaN(epsilon)) {
+			for (int i = 0; i < count; ++i) {
+				double side = (px[i] - x1) * y21 - (py[i] - y1) * x21;
+				if (side != 0. && MathUtil.isEpsilonZero(side, epsilon)) {
+					side = 0.;
+				}
+				sides[i] = (side < 0) ? -1 : ((side > 0) ? 1 : 0);
+			}
+		} else {
+			for (int i = 0; i < count; ++i) {
+				final double side = (px[i] - x1) * y21 - (py[i] - y1) * x21;
+				sides[i] = (side < -epsilon) ? -1 : ((side > epsilon) ? 1 : 0);
+			}
+		}
+	}
+
+	/** Accumulate the number of times the given segments cross the shadow extending to the right of
+	 * the rectangle.
+	 *
+	 * @param crossings is the initial value for the number of crossings.
+	 * @param rxmin is the first corner of the rectangle.
+	 * @param rymin is the first corner of the rectangle.
+	 * @param rxmax is the second corner of the rectangle.
+	 * @param rymax is the second corner of the rectangle.
+	 * @param x1 horizontal positions of the first points of the segments.
+	 * @param y1 vertical positions of the first points of the segments.
+	 * @param x2 horizontal positions of the second points of the segments.
+	 * @param y2 vertical positions of the second points of the segments.
+	 * @param count the number of segments.
+	 * @return the crossings, or {@link MathConstants#SHAPE_INTERSECTS}.
+	 * @see Segment2afp#calculatesCrossingsRectangleShadowSegment(int, double, double, double, double, double,
+	 *     double, double, double)
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:parameternumber")
+	public static int calculatesCrossingsRectangleShadowSegments(int crossings,
+			double rxmin, double rymin, double rxmax, double rymax,
+			double[] x1, double[] y1, double[] x2, double[] y2, int count) {
+		assert checkSegmentArrays(x1, y1, x2, y2, count);
+		int numCrossings = crossings;
+		for (int i = 0; i < count && numCrossings != MathConstants.SHAPE_INTERSECTS; ++i) {
+			final double sy1 = y1[i];
+			final double sy2 = y2[i];
+			final double sx1 = x1[i];
+			final double sx2 = x2[i];
+			// Quick rejection of the segments that are outside the shadow; they do not change the crossings.
+			if ((sy1 < rymax || sy2 < rymax) && (sy1 > rymin || sy2 > rymin) && (sx1 > rxmin || sx2 > rxmin)) {
+				numCrossings = Segment2afp.calculatesCrossingsRectangleShadowSegment(numCrossings,
+						rxmin, rymin, rxmax, rymax, sx1, sy1, sx2, sy2);
+			}
+		}
+		return numCrossings;
+	}
+
+	/** Replies which of the given segments are intersecting a segment.
+	 * The ends of the segments are considered as intersecting.
+	 *
+	 * @param x1 horizontal positions of the first points of the segments.
+	 * @param y1 vertical positions of the first points of the segments.
+	 * @param x2 horizontal positions of the second points of the segments.
+	 * @param y2 vertical positions of the second points of the segments.
+	 * @param count the number of segments.
+	 * @param sx1 horizontal position of the first point of the segment to test.
+	 * @param sy1 vertical position of the first point of the segment to test.
+	 * @param sx2 horizontal position of the second point of the segment to test.
+	 * @param sy2 vertical position of the second point of the segment to test.
+	 * @param intersections the array that receives the intersection flags.
+	 * @return the number of intersecting segments.
+	 * @see Segment2afp#intersectsSegmentSegmentWithEnds(double, double, double, double, double, double, double, double)
+	 */
+	@SuppressWarnings("checkstyle:parameternumber")
+	public static int intersectsSegmentsSegmentWithEnds(double[] x1, double[] y1, double[] x2, double[] y2, int count,
+			double sx1, double sy1, double sx2, double sy2, boolean[] intersections) {
+		assert checkSegmentArrays(x1, y1, x2, y2, count);
+		assert intersections != null && intersections.length >= count
+				: AssertMessages.tooSmallArrayParameter(intersections == null ? 0 : intersections.length, count);
+		final double minx = Math.min(sx1, sx2);
+		final double miny = Math.min(sy1, sy2);
+		final double maxx = Math.max(sx1, sx2);
+		final double maxy = Math.max(sy1, sy2);
+		// First pass without call: bounding box filtering
+		for (int i = 0; i < count; ++i) {
+			intersections[i] = Math.max(x1[i], x2[i]) >= minx && Math.min(x1[i], x2[i]) <= maxx
+					&& Math.max(y1[i], y2[i]) >= miny && Math.min(y1[i], y2[i]) <= maxy;
+		}
+		// Second pass: exact test on the candidates
+		int nb = 0;
+		for (int i = 0; i < count; ++i) {
+			if (intersections[i]) {
+				intersections[i] = Segment2afp.intersectsSegmentSegmentWithEnds(x1[i], y1[i], x2[i], y2[i], sx1, sy1, sx2, sy2);
+				if (intersections[i]) {
+					++nb;
+				}
+			}
+		}
+		return nb;
+	}
+
+	/** Replies all the pairs of intersecting segments in the given set, by testing all the pairs.
+	 * The ends of the segments are considered as intersecting.
+	 *
+	 * <p>The complexity of this function is quadratic. For large sets of segments, see
+	 * {@link #findsIntersectingSegmentPairsSweepLine(double[], double[], double[], double[], int)}.
+	 *
+	 * @param x1 horizontal positions of the first points of the segments.
+	 * @param y1 vertical positions of the first points of the segments.
+	 * @param x2 horizontal positions of the second points of the segments.
+	 * @param y2 vertical positions of the second points of the segments.
+	 * @param count the number of segments.
+	 * @return the indexes of the intersecting segments, two by two: {@code i0, j0, i1, j1, ...}
+	 *     with {@code ik < jk}. The pairs are sorted in lexicographic order.
+	 */
+	@Pure
+	public static int[] findsIntersectingSegmentPairs(double[] x1, double[] y1, double[] x2, double[] y2, int count) {
+		assert checkSegmentArrays(x1, y1, x2, y2, count);
+		final double[] minx = new double[count];
+		final double[] miny = new double[count];
+		final double[] maxx = new double[count];
+		final double[] maxy = new double[count];
+		computeBounds(x1, y1, x2, y2, count, minx, miny, maxx, maxy);
+		final boolean[] candidates = new boolean[count];
+		final PairList pairs = new PairList();
+		for (int i = 0; i < count - 1; ++i) {
+			final double bminx = minx[i];
+			final double bminy = miny[i];
+			final double bmaxx = maxx[i];
+			final double bmaxy = maxy[i];
+			for (int j = i + 1; j < count; ++j) {
+				candidates[j] = maxx[j] >= bminx && minx[j] <= bmaxx && maxy[j] >= bminy && miny[j] <= bmaxy;
+			}
+			for (int j = i + 1; j < count; ++j) {
+				if (candidates[j] && Segment2afp.intersectsSegmentSegmentWithEnds(
+						x1[i], y1[i], x2[i], y2[i], x1[j], y1[j], x2[j], y2[j])) {
+					pairs.add(i, j);
+				}
+			}
+		}
+		return pairs.toArray();
+	}
+
+	/** Replies all the pairs of intersecting segments in the given set, with a sweep line.
+	 * The ends of the segments are considered as intersecting.
+	 *
+	 * <p>The segments are sorted according to the minimal x coordinates of their bounding boxes.
+	 * A vertical line sweeps the plane from left to right, and maintains the list of the segments
+	 * that it crosses. A segment is tested only against the segments of this list that overlap it
+	 * vertically. The complexity is {@code O(n log n + k)}, where {@code k} is the number of
+	 * pairs of segments with overlapping horizontal ranges.
+	 *
+	 * @param x1 horizontal positions of the first points of the segments.
+	 * @param y1 vertical positions of the first points of the segments.
+	 * @param x2 horizontal positions of the second points of the segments.
+	 * @param y2 vertical positions of the second points of the segments.
+	 * @param count the number of segments.
+	 * @return the indexes of the intersecting segments, two by two: {@code i0, j0, i1, j1, ...}
+	 *     with {@code ik < jk}. The order of the pairs is unspecified.
+	 */
+	@Pure
+	public static int[] findsIntersectingSegmentPairsSweepLine(double[] x1, double[] y1, double[] x2, double[] y2,
+			int count) {
+		assert checkSegmentArrays(x1, y1, x2, y2, count);
+		final double[] minx = new double[count];
+		final double[] miny = new double[count];
+		final double[] maxx = new double[count];
+		final double[] maxy = new double[count];
+		computeBounds(x1, y1, x2, y2, count, minx, miny, maxx, maxy);
+		final int[] order = new int[count];
+		for (int i = 0; i < count; ++i) {
+			order[i] = i;
+		}
+		sort(order, minx, 0, count - 1);
+		final int[] active = new int[count];
+		int activeCount = 0;
+		final PairList pairs = new PairList();
+		for (int k = 0; k < count; ++k) {
+			final int i = order[k];
+			final double sweep = minx[i];
+			int nb = 0;
+			for (int a = 0; a < activeCount; ++a) {
+				final int j = active[a];
+				// Remove the segments that are on the left of the sweep line
+				if (maxx[j] >= sweep) {
+					active[nb++] = j;
+					if (maxy[j] >= miny[i] && miny[j] <= maxy[i] && Segment2afp.intersectsSegmentSegmentWithEnds(
+							x1[i], y1[i], x2[i], y2[i], x1[j], y1[j], x2[j], y2[j])) {
+						pairs.add(Math.min(i, j), Math.max(i, j));
+					}
+				}
+			}
+			active[nb++] = i;
+			activeCount = nb;
+		}
+		return pairs.toArray();
+	}
+
+	@SuppressWarnings("checkstyle:parameternumber")
+	private static void computeBounds(double[] x1, double[] y1, double[] x2, double[] y2, int count,
+			double[] minx, double[] miny, double[] maxx, double[] maxy) {
+		for (int i = 0; i < count; ++i) {
+			minx[i] = Math.min(x1[i], x2[i]);
+			miny[i] = Math.min(y1[i], y2[i]);
+			maxx[i] = Math.max(x1[i], x2[i]);
+			maxy[i] = Math.max(y1[i], y2[i]);
+		}
+	}
+
+	private static boolean checkSegmentArrays(double[] x1, double[] y1, double[] x2, double[] y2, int count) {
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter();
+		assert x1 != null && x1.length >= count : AssertMessages.tooSmallArrayParameter(x1 == null ? 0 : x1.length, count);
+		assert y1 != null && y1.length >= count : AssertMessages.tooSmallArrayParameter(y1 == null ? 0 : y1.length, count);
+		assert x2 != null && x2.length >= count : AssertMessages.tooSmallArrayParameter(x2 == null ? 0 : x2.length, count);
+		assert y2 != null && y2.length >= count : AssertMessages.tooSmallArrayParameter(y2 == null ? 0 : y2.length, count);
+		return true;
+	}
+
+	/** Sort the given indexes according to the given keys.
+	 */
+	private static void sort(int[] indexes, double[] keys, int left, int right) {
+		int lo = left;
+		int hi = right;
+		while (hi - lo > INSERTION_SORT_THRESHOLD) {
+			final double pivot = keys[indexes[(lo + hi) >>> 1]];
+			int i = lo;
+			int j = hi;
+			while (i <= j) {
+				while (keys[indexes[i]] < pivot) {
+					++i;
+				}
+				while (keys[indexes[j]] > pivot) {
+					--j;
+				}
+				if (i <= j) {
+					final int tmp = indexes[i];
+					indexes[i] = indexes[j];
+					indexes[j] = tmp;
+					++i;
+					--j;
+				}
+			}
+			// Recursion on the smallest part for bounding the stack depth
+			if (j - lo < hi - i) {
+				sort(indexes, keys, lo, j);
+				lo = i;
+			} else {
+				sort(indexes, keys, i, hi);
+				hi = j;
+			}
+		}
+		for (int i = lo + 1; i <= hi; ++i) {
+			final int index = indexes[i];
+			final double key = keys[index];
+			int j = i - 1;
+			while (j >= lo && keys[indexes[j]] > key) {
+				indexes[j + 1] = indexes[j];
+				--j;
+			}
+			indexes[j + 1] = index;
+		}
+	}
+
+	/** Growable list of pairs of indexes.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class PairList {
+
+		private int[] values = new int[INSERTION_SORT_THRESHOLD];
+
+		private int size;
+
+		/** Construct an empty list.
+		 */
+		PairList() {
+			//
+		}
+
+		/** Add a pair.
+		 *
+		 * @param first the first index.
+		 * @param second the second index.
+		 */
+		void add(int first, int second) {
+			if (this.size + 2 > this.values.length) {
+				this.values = Arrays.copyOf(this.values, this.values.length * 2);
+			}
+			this.values[this.size++] = first;
+			this.values[this.size++] = second;
+		}
+
+		/** Replies the pairs.
+		 *
+		 * @return the pairs.
+		 */
+		int[] toArray() {
+			return Arrays.copyOf(this.values, this.size);
+		}
+
+	}
+
+}
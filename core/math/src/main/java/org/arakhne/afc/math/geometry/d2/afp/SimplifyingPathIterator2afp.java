@@ -0,0 +1,373 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import java.util.NoSuchElementException;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** A path iterator that is simplifying the polylines of a flattened path while they are iterated.
+ *
+ * <p>The points are read one by one from the source iterator, and only the current state of the
+ * simplification is stored: the memory usage does not depend on the size of the path. This
+ * iterator implements the sleeve-fitting algorithm: from the last replied point, named the anchor,
+ * the directions of the lines that are at most at the tolerance distance of each read point form a
+ * cone; the read points are skipped as long as the intersection of their cones is not empty.
+ * When a point is outside the cone, the last point that was inside it is replied and becomes the
+ * new anchor.
+ *
+ * <p>Each skipped point is at most at the tolerance distance of the line of the replied segment
+ * that is replacing it. The first and the last points of each subpath are always replied.
+ *
+ * <p>The source iterator must not contain curves; a flattened iterator, as replied by
+ * {@link Path2afp#getPathIterator(double)}, could be used.
+ *
+ * @param <T> the type of the path elements.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public class SimplifyingPathIterator2afp<T extends PathElement2afp> implements PathIterator2afp<T> {
+
+	private static final int QUEUE_SIZE = 4;
+
+	/** The source iterator.
+	 */
+	private final PathIterator2afp<T> pathIterator;
+
+	/** The maximal distance between a skipped point and the simplified path.
+	 */
+	private final double tolerance;
+
+	/** The coordinates of the element that is read from the source iterator.
+	 */
+	private final double[] buffer = new double[CURSOR_ARRAY_SIZE];
+
+	/** The types of the elements to reply.
+	 */
+	private final PathElementType[] queueTypes = new PathElementType[QUEUE_SIZE];
+
+	/** The x coordinates of the elements to reply.
+	 */
+	private final double[] queueXs = new double[QUEUE_SIZE];
+
+	/** The y coordinates of the elements to reply.
+	 */
+	private final double[] queueYs = new double[QUEUE_SIZE];
+
+	/** The index of the next element to reply in the queue.
+	 */
+	private int queueIndex;
+
+	/** The number of elements in the queue.
+	 */
+	private int queueSize;
+
+	/** Indicates if a subpath is started.
+	 */
+	private boolean inSubpath;
+
+	private double moveX;
+
+	private double moveY;
+
+	private double anchorX;
+
+	private double anchorY;
+
+	/** The last point that is inside the cone, and that is not replied yet.
+	 */
+	private boolean hasCandidate;
+
+	private double candidateX;
+
+	private double candidateY;
+
+	/** The last read point.
+	 */
+	private double lastX;
+
+	private double lastY;
+
+	/** Indicates if the cone is computed; it is not computed as long as the read points are
+	 * at most at the tolerance distance of the anchor.
+	 */
+	private boolean hasCone;
+
+	/** The direction that is the reference of the angles of the cone.
+	 */
+	private double referenceAngle;
+
+	/** The lower angle of the cone, relatively to the reference direction.
+	 */
+	private double lowerAngle;
+
+	/** The upper angle of the cone, relatively to the reference direction.
+	 */
+	private double upperAngle;
+
+	/** The x of the last point replied by next.
+	 */
+	private double lastNextX;
+
+	/** The y of the last point replied by next.
+	 */
+	private double lastNextY;
+
+	/**
+	 * @param pathIterator is the path iterator to simplify. It must not contain curves.
+	 * @param tolerance the maximal distance between a skipped point and the simplified path.
+	 */
+	public SimplifyingPathIterator2afp(PathIterator2afp<T> pathIterator, double tolerance) {
+		assert pathIterator != null : AssertMessages.notNullParameter(0);
+		assert tolerance >= 0. : AssertMessages.positiveOrZeroParameter(1);
+		this.pathIterator = pathIterator;
+		this.tolerance = tolerance;
+		searchNext();
+	}
+
+	@Override
+	public PathIterator2afp<T> restartIterations() {
+		return new SimplifyingPathIterator2afp<>(this.pathIterator.restartIterations(), this.tolerance);
+	}
+
+	/** Read the source iterator until an element could be replied.
+	 */
+	private void searchNext() {
+		if (this.queueIndex < this.queueSize) {
+			return;
+		}
+		this.queueIndex = 0;
+		this.queueSize = 0;
+		final double[] buf = this.buffer;
+		while (this.queueSize == 0 && this.pathIterator.hasNext()) {
+			switch (this.pathIterator.next(buf)) {
+			case MOVE_TO:
+				endSubpath();
+				this.inSubpath = true;
+				this.moveX = buf[0];
+				this.moveY = buf[1];
+				startSegment(buf[0], buf[1]);
+				this.lastX = buf[0];
+				this.lastY = buf[1];
+				push(PathElementType.MOVE_TO, buf[0], buf[1]);
+				break;
+			case LINE_TO:
+				addPoint(buf[0], buf[1]);
+				break;
+			case CLOSE:
+				endSubpath();
+				push(PathElementType.CLOSE, this.moveX, this.moveY);
+				break;
+			case QUAD_TO:
+			case CURVE_TO:
+			case ARC_TO:
+			default:
+				throw new IllegalStateException();
+			}
+		}
+		if (this.queueSize == 0) {
+			endSubpath();
+		}
+	}
+
+	private void push(PathElementType type, double x, double y) {
+		this.queueTypes[this.queueSize] = type;
+		this.queueXs[this.queueSize] = x;
+		this.queueYs[this.queueSize] = y;
+		++this.queueSize;
+	}
+
+	private void startSegment(double x, double y) {
+		this.anchorX = x;
+		this.anchorY = y;
+		this.hasCandidate = false;
+		this.hasCone = false;
+	}
+
+	/** Reply the pending points of the current subpath, and close it.
+	 */
+	private void endSubpath() {
+		if (this.inSubpath) {
+			if (this.hasCandidate) {
+				push(PathElementType.LINE_TO, this.candidateX, this.candidateY);
+			}
+			if (this.lastX != (this.hasCandidate ? this.candidateX : this.anchorX)
+					|| this.lastY != (this.hasCandidate ? this.candidateY : this.anchorY)) {
+				push(PathElementType.LINE_TO, this.lastX, this.lastY);
+			}
+			this.inSubpath = false;
+		}
+	}
+
+	private void addPoint(double x, double y) {
+		if (!this.inSubpath) {
+			// A line after a close, or without a previous move, starts from the last move point
+			this.inSubpath = true;
+			startSegment(this.moveX, this.moveY);
+			push(PathElementType.MOVE_TO, this.moveX, this.moveY);
+		}
+		this.lastX = x;
+		this.lastY = y;
+		while (true) {
+			final double dx = x - this.anchorX;
+			final double dy = y - this.anchorY;
+			final double distance = Math.hypot(dx, dy);
+			if (distance <= this.tolerance) {
+				// The point is near the anchor: it is near to any line from the anchor. It could
+				// replace the candidate only if the cone is not computed yet.
+				if (!this.hasCone) {
+					this.hasCandidate = true;
+					this.candidateX = x;
+					this.candidateY = y;
+				}
+				return;
+			}
+			final double angle = Math.atan2(dy, dx);
+			final double aperture = Math.asin(this.tolerance / distance);
+			if (!this.hasCone) {
+				this.hasCone = true;
+				this.referenceAngle = angle;
+				this.lowerAngle = -aperture;
+				this.upperAngle = aperture;
+				this.hasCandidate = true;
+				this.candidateX = x;
+				this.candidateY = y;
+				return;
+			}
+			double relative = angle - this.referenceAngle;
+			if (relative > Math.PI) {
+				relative -= 2 * Math.PI;
+			} else if (relative <= -Math.PI) {
+				relative += 2 * Math.PI;
+			}
+			if (relative >= this.lowerAngle && relative <= this.upperAngle) {
+				this.lowerAngle = Math.max(this.lowerAngle, relative - aperture);
+				this.upperAngle = Math.min(this.upperAngle, relative + aperture);
+				this.hasCandidate = true;
+				this.candidateX = x;
+				this.candidateY = y;
+				return;
+			}
+			// The point is outside the cone: the candidate is replied and becomes the anchor
+			push(PathElementType.LINE_TO, this.candidateX, this.candidateY);
+			startSegment(this.candidateX, this.candidateY);
+		}
+	}
+
+	@Pure
+	@Override
+	public boolean hasNext() {
+		return this.queueIndex < this.queueSize;
+	}
+
+	@Override
+	public T next() {
+		if (this.queueIndex >= this.queueSize) {
+			throw new NoSuchElementException();
+		}
+		final PathElementType elementType = this.queueTypes[this.queueIndex];
+		final double x = this.queueXs[this.queueIndex];
+		final double y = this.queueYs[this.queueIndex];
+		++this.queueIndex;
+		final T element;
+		switch (elementType) {
+		case MOVE_TO:
+			element = getGeomFactory().newMovePathElement(x, y);
+			break;
+		case CLOSE:
+			element = getGeomFactory().newClosePathElement(this.lastNextX, this.lastNextY, x, y);
+			break;
+		//$CASES-OMITTED$
+		default:
+			element = getGeomFactory().newLinePathElement(this.lastNextX, this.lastNextY, x, y);
+		}
+		this.lastNextX = x;
+		this.lastNextY = y;
+		searchNext();
+		return element;
+	}
+
+	@Override
+	public PathElementType next(double[] coords) {
+		assert coords != null && coords.length >= CURSOR_ARRAY_SIZE
+				: AssertMessages.tooSmallArrayParameter(coords == null ? 0 : coords.length, CURSOR_ARRAY_SIZE);
+		if (this.queueIndex >= this.queueSize) {
+			throw new NoSuchElementException();
+		}
+		final PathElementType elementType = this.queueTypes[this.queueIndex];
+		this.lastNextX = this.queueXs[this.queueIndex];
+		this.lastNextY = this.queueYs[this.queueIndex];
+		++this.queueIndex;
+		coords[0] = this.lastNextX;
+		coords[1] = this.lastNextY;
+		searchNext();
+		return elementType;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	@Pure
+	@Override
+	public PathWindingRule getWindingRule() {
+		return this.pathIterator.getWindingRule();
+	}
+
+	@Pure
+	@Override
+	public boolean isPolyline() {
+		return this.pathIterator.isPolyline();
+	}
+
+	@Pure
+	@Override
+	public boolean isCurved() {
+		return false;
+	}
+
+	@Pure
+	@Override
+	public boolean isPolygon() {
+		return this.pathIterator.isPolygon();
+	}
+
+	@Pure
+	@Override
+	public boolean isMultiParts() {
+		return this.pathIterator.isMultiParts();
+	}
+
+	@Pure
+	@Override
+	public GeomFactory2afp<T, ?, ?, ?> getGeomFactory() {
+		return this.pathIterator.getGeomFactory();
+	}
+
+}
@@ -507,9 +507,11 @@ public interface Circle2ai<
     static boolean intersectsCircleCircle(int x1, int y1, int radius1, int x2, int y2, int radius2) {
         assert radius1 >= 0 : AssertMessages.positiveOrZeroParameter(2);
         assert radius2 >= 0 : AssertMessages.positiveOrZeroParameter(5);
-        final Point2D<?, ?> point = new InnerComputationPoint2ai();
-        findsClosestPointCirclePoint(x1, y1, radius1, x2, y2, point);
-        return containsCirclePoint(x2, y2, radius2, point.ix(), point.iy());
+        try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+            final Point2D<?, ?> point = scratch.point();
+            findsClosestPointCirclePoint(x1, y1, radius1, x2, y2, point);
+            return containsCirclePoint(x2, y2, radius2, point.ix(), point.iy());
+        }
     }
 
     /** Replies if a circle and a rectangle are intersecting.
@@ -527,9 +529,11 @@ public interface Circle2ai<
     @Pure
     static boolean intersectsCircleRectangle(int x1, int y1, int radius, int x2, int y2, int x3, int y3) {
         assert radius >= 0 : AssertMessages.positiveOrZeroParameter(2);
-        final Point2D<?, ?> point = new InnerComputationPoint2ai();
-        Rectangle2ai.findsClosestPointRectanglePoint(x2, y2, x3, y3, x1, y1, point);
-        return containsCirclePoint(x1, y1, radius, point.ix(), point.iy());
+        try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+            final Point2D<?, ?> point = scratch.point();
+            Rectangle2ai.findsClosestPointRectanglePoint(x2, y2, x3, y3, x1, y1, point);
+            return containsCirclePoint(x1, y1, radius, point.ix(), point.iy());
+        }
     }
 
     /** Replies if a circle and a segment are intersecting.
@@ -547,9 +551,11 @@ public interface Circle2ai<
     @Pure
     static boolean intersectsCircleSegment(int x1, int y1, int radius, int x2, int y2, int x3, int y3) {
         assert radius >= 0 : AssertMessages.positiveOrZeroParameter(2);
-        final Point2D<?, ?> point = new InnerComputationPoint2ai();
-        Segment2ai.findsClosestPointSegmentPoint(x2, y2, x3, y3, x1, y1, point);
-        return containsCirclePoint(x1, y1, radius, point.ix(), point.iy());
+        try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+            final Point2D<?, ?> point = scratch.point();
+            Segment2ai.findsClosestPointSegmentPoint(x2, y2, x3, y3, x1, y1, point);
+            return containsCirclePoint(x1, y1, radius, point.ix(), point.iy());
+        }
     }
 
     /** Replies the points of the circle perimeters starting by the first octant.
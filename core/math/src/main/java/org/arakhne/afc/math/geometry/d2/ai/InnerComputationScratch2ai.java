@@ -0,0 +1,233 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.ai;
+
+/** Thread-confined pool of the temporary objects that are used by the internal computations.
+ *
+ * <p>Each thread owns one scratch context. A computation opens a scope with {@link #open()}, takes
+ * its temporary points, vectors and Bresenham iterators from the context, and closes the scope when the temporaries
+ * are no more used. All the objects that were taken within a scope are given back to the pool when
+ * the scope is closed. The scopes are nested, and they must be closed in the reverse order of their
+ * opening; it is ensured by the try-with-resources statement:
+ * <pre><code>
+ * try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+ *     final Point2D&lt;?, ?&gt; tmp = scratch.point();
+ *     ...
+ * }
+ * </code></pre>
+ *
+ * <p>The pool has a fixed capacity. When it is exhausted, new objects are allocated and
+ * forgotten at the end of the scope.
+ *
+ * <p>The objects that are replied by the context must not escape from the scope in which
+ * they are taken.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+final class InnerComputationScratch2ai implements AutoCloseable {
+
+	/** Maximal number of pooled points.
+	 */
+	static final int POINT_CAPACITY = 32;
+
+	/** Maximal number of pooled vectors.
+	 */
+	static final int VECTOR_CAPACITY = 16;
+
+	/** Maximal number of pooled Bresenham iterators.
+	 */
+	static final int BRESENHAM_CAPACITY = 4;
+
+	/** Maximal number of nested scopes that are recorded.
+	 */
+	static final int SCOPE_CAPACITY = 16;
+
+	private static final ThreadLocal<InnerComputationScratch2ai> SCRATCHES =
+			ThreadLocal.withInitial(InnerComputationScratch2ai::new);
+
+	private final InnerComputationPoint2ai[] points = new InnerComputationPoint2ai[POINT_CAPACITY];
+
+	private final InnerComputationVector2ai[] vectors = new InnerComputationVector2ai[VECTOR_CAPACITY];
+
+	private final Segment2ai.BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai>[] bresenhams =
+			newBresenhamArray(BRESENHAM_CAPACITY);
+
+	private final int[] scopes = new int[SCOPE_CAPACITY * 3];
+
+	private int pointCount;
+
+	private int vectorCount;
+
+	private int bresenhamCount;
+
+	private int depth;
+
+	private long allocationCount;
+
+	private InnerComputationScratch2ai() {
+		//
+	}
+
+	/** Open a scope in the scratch context of the current thread.
+	 *
+	 * @return the scratch context of the current thread.
+	 */
+	static InnerComputationScratch2ai open() {
+		final InnerComputationScratch2ai scratch = SCRATCHES.get();
+		scratch.enter();
+		return scratch;
+	}
+
+	private void enter() {
+		if (this.depth < SCOPE_CAPACITY) {
+			final int index = this.depth * 3;
+			this.scopes[index] = this.pointCount;
+			this.scopes[index + 1] = this.vectorCount;
+			this.scopes[index + 2] = this.bresenhamCount;
+		}
+		++this.depth;
+	}
+
+	/** Close the last opened scope and give back to the pool the objects that were taken within it.
+	 *
+	 * <p>The scopes that are nested deeper than {@link #SCOPE_CAPACITY} do not give back their objects;
+	 * they are given back by the enclosing recorded scope.
+	 */
+	@Override
+	public void close() {
+		assert this.depth > 0;
+		--this.depth;
+		if (this.depth < SCOPE_CAPACITY) {
+			final int index = this.depth * 3;
+			this.pointCount = this.scopes[index];
+			this.vectorCount = this.scopes[index + 1];
+			this.bresenhamCount = this.scopes[index + 2];
+		}
+	}
+
+	/** Replies a temporary point that is set to the origin.
+	 *
+	 * @return the point.
+	 */
+	InnerComputationPoint2ai point() {
+		assert this.depth > 0;
+		InnerComputationPoint2ai point;
+		if (this.pointCount < POINT_CAPACITY) {
+			point = this.points[this.pointCount];
+			if (point == null) {
+				point = new InnerComputationPoint2ai();
+				this.points[this.pointCount] = point;
+				++this.allocationCount;
+			} else {
+				point.set(0, 0);
+			}
+			++this.pointCount;
+		} else {
+			point = new InnerComputationPoint2ai();
+			++this.allocationCount;
+		}
+		return point;
+	}
+
+	/** Replies a temporary point that is set to the given coordinates.
+	 *
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 * @return the point.
+	 */
+	InnerComputationPoint2ai point(int x, int y) {
+		final InnerComputationPoint2ai point = point();
+		point.set(x, y);
+		return point;
+	}
+
+	/** Replies a temporary vector that is set to zero.
+	 *
+	 * @return the vector.
+	 */
+	InnerComputationVector2ai vector() {
+		assert this.depth > 0;
+		InnerComputationVector2ai vector;
+		if (this.vectorCount < VECTOR_CAPACITY) {
+			vector = this.vectors[this.vectorCount];
+			if (vector == null) {
+				vector = new InnerComputationVector2ai();
+				this.vectors[this.vectorCount] = vector;
+				++this.allocationCount;
+			} else {
+				vector.set(0, 0);
+			}
+			++this.vectorCount;
+		} else {
+			vector = new InnerComputationVector2ai();
+			++this.allocationCount;
+		}
+		return vector;
+	}
+
+	/** Replies a temporary iterator on the points of the given Bresenham line.
+	 *
+	 * @param x0 is the x-coordinate of the first point of the Bresenham line.
+	 * @param y0 is the y-coordinate of the first point of the Bresenham line.
+	 * @param x1 is the x-coordinate of the last point of the Bresenham line.
+	 * @param y1 is the y-coordinate of the last point of the Bresenham line.
+	 * @return the iterator.
+	 */
+	Segment2ai.BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> bresenham(
+			int x0, int y0, int x1, int y1) {
+		assert this.depth > 0;
+		Segment2ai.BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> iterator;
+		if (this.bresenhamCount < BRESENHAM_CAPACITY) {
+			iterator = this.bresenhams[this.bresenhamCount];
+			if (iterator == null) {
+				iterator = new Segment2ai.BresenhamLineIterator<>(InnerComputationGeomFactory.SINGLETON, x0, y0, x1, y1);
+				this.bresenhams[this.bresenhamCount] = iterator;
+				++this.allocationCount;
+			} else {
+				iterator.reset(x0, y0, x1, y1);
+			}
+			++this.bresenhamCount;
+		} else {
+			iterator = new Segment2ai.BresenhamLineIterator<>(InnerComputationGeomFactory.SINGLETON, x0, y0, x1, y1);
+			++this.allocationCount;
+		}
+		return iterator;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Segment2ai.BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai>[] newBresenhamArray(
+			int size) {
+		return new Segment2ai.BresenhamLineIterator[size];
+	}
+
+	/** Replies the number of objects that were allocated by this context since its creation.
+	 *
+	 * @return the number of allocations.
+	 */
+	long getAllocationCount() {
+		return this.allocationCount;
+	}
+
+}
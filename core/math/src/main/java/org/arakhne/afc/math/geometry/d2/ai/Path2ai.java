@@ -2000,53 +2000,56 @@ public interface Path2ai<
         int bestManhatanDist = Integer.MIN_VALUE;
         int bestLinfinvDist = Integer.MIN_VALUE;
         PathElement2ai pe;
-        final Point2D<?, ?> point = new InnerComputationPoint2ai();
-
-        while (pi.hasNext()) {
-            pe = pi.next();
-
-            final boolean foundCandidate;
-            final int candidateX;
-            final int candidateY;
-
-            switch (pe.getType()) {
-            case MOVE_TO:
-                foundCandidate = true;
-                candidateX = pe.getToX();
-                candidateY = pe.getToY();
-                break;
-            case LINE_TO:
-            case CLOSE:
-                Segment2ai.findsFarthestPointSegmentPoint(
-                        pe.getFromX(), pe.getFromY(), pe.getToX(), pe.getToY(),
-                        x, y, point);
-                foundCandidate = true;
-                candidateX = point.ix();
-                candidateY = point.iy();
-                break;
-            case QUAD_TO:
-            case CURVE_TO:
-            case ARC_TO:
-            default:
-                throw new IllegalStateException(
-                        pe.getType() == null ? null : pe.getType().toString());
-            }
-
-            if (foundCandidate) {
-                final int dx = Math.abs(x - candidateX);
-                final int dy = Math.abs(y - candidateY);
-                final int manhatanDist = dx + dy;
-                final int linfinvDist = Math.min(dx, dy);
-                if ((manhatanDist > bestManhatanDist) || (manhatanDist == bestManhatanDist && linfinvDist < bestLinfinvDist)) {
-                    bestManhatanDist = manhatanDist;
-                    bestLinfinvDist = linfinvDist;
-                    bestX = candidateX;
-                    bestY = candidateY;
+        try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+            final Point2D<?, ?> point = scratch.point();
+
+            while (pi.hasNext()) {
+                pe = pi.next();
+
+                final boolean foundCandidate;
+                final int candidateX;
+                final int candidateY;
+
+                switch (pe.getType()) {
+                case MOVE_TO:
+                    foundCandidate = true;
+                    candidateX = pe.getToX();
+                    candidateY = pe.getToY();
+                    break;
+                case LINE_TO:
+                case CLOSE:
+                    Segment2ai.findsFarthestPointSegmentPoint(
+                            pe.getFromX(), pe.getFromY(), pe.getToX(), pe.getToY(),
+                            x, y, point);
+                    foundCandidate = true;
+                    candidateX = point.ix();
+                    candidateY = point.iy();
+                    break;
+                case QUAD_TO:
+                case CURVE_TO:
+                case ARC_TO:
+                default:
+                    throw new IllegalStateException(
+                            pe.getType() == null ? null : pe.getType().toString());
+                }
+
+                if (foundCandidate) {
+                    final int dx = Math.abs(x - candidateX);
+                    final int dy = Math.abs(y - candidateY);
+                    final int manhatanDist = dx + dy;
+                    final int linfinvDist = Math.min(dx, dy);
+                    if ((manhatanDist > bestManhatanDist)
+                            || (manhatanDist == bestManhatanDist && linfinvDist < bestLinfinvDist)) {
+                        bestManhatanDist = manhatanDist;
+                        bestLinfinvDist = linfinvDist;
+                        bestX = candidateX;
+                        bestY = candidateY;
+                    }
                 }
             }
-        }
 
-        result.set(bestX, bestY);
+            result.set(bestX, bestY);
+        }
     }
 
     /** Replies the point on the path that is farthest to the given point.
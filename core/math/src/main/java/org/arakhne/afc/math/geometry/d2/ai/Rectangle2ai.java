@@ -123,58 +123,60 @@ public interface Rectangle2ai<
         final int sy2 = y4;
 
         // Only for internal use
-        final Point2D<?, ?> pts = new InnerComputationPoint2ai();
-        final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> iterator =
-                new BresenhamLineIterator<>(
-                        InnerComputationGeomFactory.SINGLETON, sx1, sy1, sx2, sy2);
-
-        while (iterator.hasNext() && c1 != MathConstants.COHEN_SUTHERLAND_INSIDE
-                && c2 != MathConstants.COHEN_SUTHERLAND_INSIDE && (c1 & c2) == 0) {
-            if ((c1 & MathConstants.COHEN_SUTHERLAND_TOP) != 0) {
-                do {
-                    iterator.next(pts);
-                    sy1 = pts.iy();
-                }
-                while (iterator.hasNext() && sy1 != y2);
-                if (sy1 != y2) {
-                    return false;
-                }
-                sx1 = pts.ix();
-            } else if ((c1 & MathConstants.COHEN_SUTHERLAND_BOTTOM) != 0) {
-                do {
-                    iterator.next(pts);
-                    sy1 = pts.iy();
-                }
-                while (iterator.hasNext() && sy1 != y1);
-                if (sy1 != y1) {
-                    return false;
-                }
-                sx1 = pts.ix();
-            } else if ((c1 & MathConstants.COHEN_SUTHERLAND_RIGHT) != 0) {
-                do {
-                    iterator.next(pts);
+        try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+            final Point2D<?, ?> pts = scratch.point();
+            final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> iterator =
+                    new BresenhamLineIterator<>(
+                            InnerComputationGeomFactory.SINGLETON, sx1, sy1, sx2, sy2);
+
+            while (iterator.hasNext() && c1 != MathConstants.COHEN_SUTHERLAND_INSIDE
+                    && c2 != MathConstants.COHEN_SUTHERLAND_INSIDE && (c1 & c2) == 0) {
+                if ((c1 & MathConstants.COHEN_SUTHERLAND_TOP) != 0) {
+                    do {
+                        iterator.next(pts);
+                        sy1 = pts.iy();
+                    }
+                    while (iterator.hasNext() && sy1 != y2);
+                    if (sy1 != y2) {
+                        return false;
+                    }
                     sx1 = pts.ix();
-                }
-                while (iterator.hasNext() && sx1 != x2);
-                if (sx1 != x2) {
-                    return false;
-                }
-                sy1 = pts.iy();
-            } else {
-                do {
-                    iterator.next(pts);
+                } else if ((c1 & MathConstants.COHEN_SUTHERLAND_BOTTOM) != 0) {
+                    do {
+                        iterator.next(pts);
+                        sy1 = pts.iy();
+                    }
+                    while (iterator.hasNext() && sy1 != y1);
+                    if (sy1 != y1) {
+                        return false;
+                    }
                     sx1 = pts.ix();
+                } else if ((c1 & MathConstants.COHEN_SUTHERLAND_RIGHT) != 0) {
+                    do {
+                        iterator.next(pts);
+                        sx1 = pts.ix();
+                    }
+                    while (iterator.hasNext() && sx1 != x2);
+                    if (sx1 != x2) {
+                        return false;
+                    }
+                    sy1 = pts.iy();
+                } else {
+                    do {
+                        iterator.next(pts);
+                        sx1 = pts.ix();
+                    }
+                    while (iterator.hasNext() && sx1 != x1);
+                    if (sx1 != x1) {
+                        return false;
+                    }
+                    sy1 = pts.iy();
                 }
-                while (iterator.hasNext() && sx1 != x1);
-                if (sx1 != x1) {
-                    return false;
-                }
-                sy1 = pts.iy();
+                c1 = MathUtil.getCohenSutherlandCode(sx1, sy1, x1, y1, x2, y2);
             }
-            c1 = MathUtil.getCohenSutherlandCode(sx1, sy1, x1, y1, x2, y2);
-        }
 
-        return c1 == MathConstants.COHEN_SUTHERLAND_INSIDE || c2 == MathConstants.COHEN_SUTHERLAND_INSIDE;
+            return c1 == MathConstants.COHEN_SUTHERLAND_INSIDE || c2 == MathConstants.COHEN_SUTHERLAND_INSIDE;
+        }
     }
 
     /** Compute the point on the first rectangle that is the closest to the second rectangle.
@@ -284,47 +286,49 @@ public interface Rectangle2ai<
         assert rmaxy >= ry : AssertMessages.lowerEqualParameters(1, ry, 3, rmaxy);
         final int code1 = MathUtil.getCohenSutherlandCode(sx1, sy1, rx, ry, rmaxx, rmaxy);
         final int code2 = MathUtil.getCohenSutherlandCode(sx2, sy2, rx, ry, rmaxx, rmaxy);
-        final Point2D<?, ?> tmp1 = new InnerComputationPoint2ai();
-        final int zone = Rectangle2ai.reducesCohenSutherlandZoneRectangleSegment(
-                rx, ry, rmaxx, rmaxy,
-                sx1, sy1, sx2, sy2,
-                code1, code2,
-                tmp1, null);
-        final double closex;
-        final double closey;
-        if ((zone & MathConstants.COHEN_SUTHERLAND_LEFT) != 0) {
-            closex = rx;
-            if (sx1 >= sx2) {
-                closey = MathUtil.clamp(sy1, ry, rmaxy);
-            } else {
-                closey = MathUtil.clamp(sy2, ry, rmaxy);
-            }
-        } else if ((zone & MathConstants.COHEN_SUTHERLAND_RIGHT) != 0) {
-            closex = rmaxx;
-            if (sx1 <= sx2) {
-                closey = MathUtil.clamp(sy1, ry, rmaxy);
-            } else {
-                closey = MathUtil.clamp(sy2, ry, rmaxy);
-            }
-        } else if ((zone & MathConstants.COHEN_SUTHERLAND_BOTTOM) != 0) {
-            closey = ry;
-            if (sy1 >= sy2) {
-                closex = MathUtil.clamp(sx1, rx, rmaxx);
-            } else {
-                closex = MathUtil.clamp(sx2, rx, rmaxx);
-            }
-        } else if ((zone & MathConstants.COHEN_SUTHERLAND_TOP) != 0) {
-            closey = rmaxy;
-            if (sy1 <= sy2) {
-                closex = MathUtil.clamp(sx1, rx, rmaxx);
+        try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+            final Point2D<?, ?> tmp1 = scratch.point();
+            final int zone = Rectangle2ai.reducesCohenSutherlandZoneRectangleSegment(
+                    rx, ry, rmaxx, rmaxy,
+                    sx1, sy1, sx2, sy2,
+                    code1, code2,
+                    tmp1, null);
+            final double closex;
+            final double closey;
+            if ((zone & MathConstants.COHEN_SUTHERLAND_LEFT) != 0) {
+                closex = rx;
+                if (sx1 >= sx2) {
+                    closey = MathUtil.clamp(sy1, ry, rmaxy);
+                } else {
+                    closey = MathUtil.clamp(sy2, ry, rmaxy);
+                }
+            } else if ((zone & MathConstants.COHEN_SUTHERLAND_RIGHT) != 0) {
+                closex = rmaxx;
+                if (sx1 <= sx2) {
+                    closey = MathUtil.clamp(sy1, ry, rmaxy);
+                } else {
+                    closey = MathUtil.clamp(sy2, ry, rmaxy);
+                }
+            } else if ((zone & MathConstants.COHEN_SUTHERLAND_BOTTOM) != 0) {
+                closey = ry;
+                if (sy1 >= sy2) {
+                    closex = MathUtil.clamp(sx1, rx, rmaxx);
+                } else {
+                    closex = MathUtil.clamp(sx2, rx, rmaxx);
+                }
+            } else if ((zone & MathConstants.COHEN_SUTHERLAND_TOP) != 0) {
+                closey = rmaxy;
+                if (sy1 <= sy2) {
+                    closex = MathUtil.clamp(sx1, rx, rmaxx);
+                } else {
+                    closex = MathUtil.clamp(sx2, rx, rmaxx);
+                }
             } else {
-                closex = MathUtil.clamp(sx2, rx, rmaxx);
+                closex = tmp1.getX();
+                closey = tmp1.getY();
             }
-        } else {
-            closex = tmp1.getX();
-            closey = tmp1.getY();
+            closest.set(closex, closey);
         }
-        closest.set(closex, closey);
     }
 
     /** Compute the closest point on the rectangle from the given point.
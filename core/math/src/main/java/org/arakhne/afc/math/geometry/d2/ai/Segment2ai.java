@@ -111,23 +111,24 @@ public interface Segment2ai<
         int minDist = Integer.MAX_VALUE;
         result.set(ax, ay);
         // Only for internal use
-        final InnerComputationPoint2ai cp = new InnerComputationPoint2ai();
-        final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> iterator =
-                new BresenhamLineIterator<>(
-                        InnerComputationGeomFactory.SINGLETON, ax, ay, bx, by);
-        while (iterator.hasNext()) {
-            iterator.next(cp);
-            final int a = Math.abs(px - cp.ix());
-            final int b = Math.abs(py - cp.iy());
-            final int d = a * a + b * b;
-            if (d == 0) {
-                // We are sure that the closest point was found
-                result.set(cp);
-                return;
-            }
-            if (d < minDist) {
-                minDist = d;
-                result.set(cp);
+        try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+            final InnerComputationPoint2ai cp = scratch.point();
+            final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> iterator =
+                    scratch.bresenham(ax, ay, bx, by);
+            while (iterator.hasNext()) {
+                iterator.next(cp);
+                final int a = Math.abs(px - cp.ix());
+                final int b = Math.abs(py - cp.iy());
+                final int d = a * a + b * b;
+                if (d == 0) {
+                    // We are sure that the closest point was found
+                    result.set(cp);
+                    return;
+                }
+                if (d < minDist) {
+                    minDist = d;
+                    result.set(cp);
+                }
             }
         }
     }
@@ -175,39 +176,41 @@ public interface Segment2ai<
         final int rmaxy = ry + rheight;
         final int code1 = MathUtil.getCohenSutherlandCode(sx1, sy1, rx, ry, rmaxx, rmaxy);
         final int code2 = MathUtil.getCohenSutherlandCode(sx2, sy2, rx, ry, rmaxx, rmaxy);
-        final Point2D<?, ?> tmp1 = new InnerComputationPoint2ai();
-        final Point2D<?, ?> tmp2 = new InnerComputationPoint2ai();
-        final int zone = Rectangle2ai.reducesCohenSutherlandZoneRectangleSegment(
-                rx, ry, rmaxx, rmaxy,
-                sx1, sy1, sx2, sy2,
-                code1, code2,
-                tmp1, tmp2);
-        if ((zone & MathConstants.COHEN_SUTHERLAND_LEFT) != 0) {
-            return findsClosestPointsSegmentSegment(
+        try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+            final Point2D<?, ?> tmp1 = scratch.point();
+            final Point2D<?, ?> tmp2 = scratch.point();
+            final int zone = Rectangle2ai.reducesCohenSutherlandZoneRectangleSegment(
+                    rx, ry, rmaxx, rmaxy,
                     sx1, sy1, sx2, sy2,
-                    rx, ry, rx, rmaxy, result, null);
-        }
-        if ((zone & MathConstants.COHEN_SUTHERLAND_RIGHT) != 0) {
-            return findsClosestPointsSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    rmaxx, ry, rmaxx, rmaxy, result, null);
-        }
-        if ((zone & MathConstants.COHEN_SUTHERLAND_BOTTOM) != 0) {
-            return findsClosestPointsSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    rx, ry, rmaxx, ry, result, null);
-        }
-        if ((zone & MathConstants.COHEN_SUTHERLAND_TOP) != 0) {
-            return findsClosestPointsSegmentSegment(
-                    sx1, sy1, sx2, sy2,
-                    rx, rmaxy, rmaxx, rmaxy, result, null);
-        }
-        if (result != null) {
-            findsClosestPointSegmentPoint(
-                    tmp1.ix(), tmp1.iy(), tmp2.ix(), tmp2.iy(),
-                    (rx + rmaxx) / 2, (ry + rmaxy) / 2, result);
+                    code1, code2,
+                    tmp1, tmp2);
+            if ((zone & MathConstants.COHEN_SUTHERLAND_LEFT) != 0) {
+                return findsClosestPointsSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rx, ry, rx, rmaxy, result, null);
+            }
+            if ((zone & MathConstants.COHEN_SUTHERLAND_RIGHT) != 0) {
+                return findsClosestPointsSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rmaxx, ry, rmaxx, rmaxy, result, null);
+            }
+            if ((zone & MathConstants.COHEN_SUTHERLAND_BOTTOM) != 0) {
+                return findsClosestPointsSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rx, ry, rmaxx, ry, result, null);
+            }
+            if ((zone & MathConstants.COHEN_SUTHERLAND_TOP) != 0) {
+                return findsClosestPointsSegmentSegment(
+                        sx1, sy1, sx2, sy2,
+                        rx, rmaxy, rmaxx, rmaxy, result, null);
+            }
+            if (result != null) {
+                findsClosestPointSegmentPoint(
+                        tmp1.ix(), tmp1.iy(), tmp2.ix(), tmp2.iy(),
+                        (rx + rmaxx) / 2, (ry + rmaxy) / 2, result);
+            }
+            return 0;
         }
-        return 0;
     }
 
     /** Replies the point on the first segment that is closest to the second segment.
@@ -302,37 +305,39 @@ public interface Segment2ai<
             int s1x1, int s1y1, int s1x2, int s1y2,
             int s2x1, int s2y1, int s2x2, int s2y2,
             Point2D<?, ?> resultOnFirstSegment, Point2D<?, ?> resultOnSecondSegment) {
-        final Point2D<?, ?> c1 = new InnerComputationPoint2ai();
-        final Point2D<?, ?> c2 = new InnerComputationPoint2ai();
-        Segment2afp.findsClosestPointSegmentSegment(s1x1, s1y1, s1x2, s1y2, s2x1, s2y1, s2x2, s2y2, c1, c2);
-        final int a = c1.ix();
-        final int b = c1.iy();
-        final int c = c2.ix();
-        final int d = c2.iy();
-        findsClosestPointSegmentPoint(s1x1, s1y1, s1x2, s1y2, c, d, c1);
-        findsClosestPointSegmentPoint(s2x1, s2y1, s2x2, s2y2, a, b, c2);
-        if (resultOnFirstSegment != null) {
-            resultOnFirstSegment.set(c1);
-        }
-        if (resultOnSecondSegment != null) {
-            resultOnSecondSegment.set(c2);
-        }
+        try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+            final Point2D<?, ?> c1 = scratch.point();
+            final Point2D<?, ?> c2 = scratch.point();
+            Segment2afp.findsClosestPointSegmentSegment(s1x1, s1y1, s1x2, s1y2, s2x1, s2y1, s2x2, s2y2, c1, c2);
+            final int a = c1.ix();
+            final int b = c1.iy();
+            final int c = c2.ix();
+            final int d = c2.iy();
+            findsClosestPointSegmentPoint(s1x1, s1y1, s1x2, s1y2, c, d, c1);
+            findsClosestPointSegmentPoint(s2x1, s2y1, s2x2, s2y2, a, b, c2);
+            if (resultOnFirstSegment != null) {
+                resultOnFirstSegment.set(c1);
+            }
+            if (resultOnSecondSegment != null) {
+                resultOnSecondSegment.set(c2);
+            }
 
-        final double distance = c1.getDistanceSquared(c2);
+            final double distance = c1.getDistanceSquared(c2);
 
-        if (distance > 0. && distance <= 1.) {
-            final int side1 = findsSideLinePoint(s1x1, s1y1, s1x2, s1y2, s2x1, s2y1);
-            final int side2 = findsSideLinePoint(s1x1, s1y1, s1x2, s1y2, s2x2, s2y2);
-            final int side3 = findsSideLinePoint(s2x1, s2y1, s2x2, s2y2, s1x1, s1y1);
-            final int side4 = findsSideLinePoint(s2x1, s2y1, s2x2, s2y2, s1x2, s1y2);
-            if (side1 == -side2 && side3 == -side4) {
-                // Segment are intersecting
-                return 0;
+            if (distance > 0. && distance <= 1.) {
+                final int side1 = findsSideLinePoint(s1x1, s1y1, s1x2, s1y2, s2x1, s2y1);
+                final int side2 = findsSideLinePoint(s1x1, s1y1, s1x2, s1y2, s2x2, s2y2);
+                final int side3 = findsSideLinePoint(s2x1, s2y1, s2x2, s2y2, s1x1, s1y1);
+                final int side4 = findsSideLinePoint(s2x1, s2y1, s2x2, s2y2, s1x2, s1y2);
+                if (side1 == -side2 && side3 == -side4) {
+                    // Segment are intersecting
+                    return 0;
+                }
             }
-        }
 
-        // General case
-        return distance;
+            // General case
+            return distance;
+        }
     }
 
     /** Replies the farthest point on a segment to a point.
@@ -853,96 +858,100 @@ public interface Segment2ai<
 
             // Otherwise calculate the y intercepts and see where
             // they fall with respect to the rectangle
-            final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> iterator;
-            final int ymaxline;
-            if (y0 <= y1) {
-                iterator = new BresenhamLineIterator<>(
-                        InnerComputationGeomFactory.SINGLETON, x0, y0, x1, y1);
-                ymaxline = y1;
-            } else {
-                iterator = new BresenhamLineIterator<>(
-                        InnerComputationGeomFactory.SINGLETON, x1, y1, x0, y0);
-                ymaxline = y0;
-            }
-            final InnerComputationPoint2ai p = new InnerComputationPoint2ai();
-            Integer xintercept1 = null;
-            Integer xintercept2 = null;
-            boolean cont = true;
-            while (iterator.hasNext() && cont) {
-                iterator.next(p);
-                if (p.iy() == rymin && (xintercept1 == null || xintercept1.intValue() > p.ix())) {
-                    xintercept1 = Integer.valueOf(p.ix());
+            try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+                final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> iterator;
+                final int ymaxline;
+                if (y0 <= y1) {
+                    iterator = scratch.bresenham(x0, y0, x1, y1);
+                    ymaxline = y1;
+                } else {
+                    iterator = scratch.bresenham(x1, y1, x0, y0);
+                    ymaxline = y0;
                 }
-                if (p.iy() == rymax && (xintercept2 == null || xintercept2.intValue() > p.ix())) {
-                    xintercept2 = Integer.valueOf(p.ix());
+                final InnerComputationPoint2ai p = scratch.point();
+                boolean hasIntercept1 = false;
+                int xintercept1 = 0;
+                boolean hasIntercept2 = false;
+                int xintercept2 = 0;
+                boolean cont = true;
+                while (iterator.hasNext() && cont) {
+                    iterator.next(p);
+                    if (p.iy() == rymin && (!hasIntercept1 || xintercept1 > p.ix())) {
+                        hasIntercept1 = true;
+                        xintercept1 = p.ix();
+                    }
+                    if (p.iy() == rymax && (!hasIntercept2 || xintercept2 > p.ix())) {
+                        hasIntercept2 = true;
+                        xintercept2 = p.ix();
+                    }
+                    cont = p.iy() <= ymaxline;
                 }
-                cont = p.iy() <= ymaxline;
-            }
 
-            if (xintercept1 != null && xintercept2 != null) {
-                if (xintercept1.intValue() < rxmin && xintercept2.intValue() < rxmin) {
-                    // the intersection points are entirely on the left
-                } else if (xintercept1.intValue() > rxmax && xintercept2.intValue() > rxmax) {
-                    // the intersection points are entirely on the right
-                    if (y0 < y1) {
-                        // y-increasing line segment...
-                        // We know that y0 < rymax and y1 > rymin
-                        if (y0 <= rymin) {
-                            ++numCrosses;
-                        }
-                        if (y1 >= rymax) {
-                            ++numCrosses;
-                        }
-                    } else if (y1 < y0) {
-                        // y-decreasing line segment...
-                        // We know that y1 < rymax and y0 > rymin
-                        if (y1 <= rymin) {
-                            --numCrosses;
-                        }
-                        if (y0 >= rymax) {
-                            --numCrosses;
+                if (hasIntercept1 && hasIntercept2) {
+                    if (xintercept1 < rxmin && xintercept2 < rxmin) {
+                        // the intersection points are entirely on the left
+                    } else if (xintercept1 > rxmax && xintercept2 > rxmax) {
+                        // the intersection points are entirely on the right
+                        if (y0 < y1) {
+                            // y-increasing line segment...
+                            // We know that y0 < rymax and y1 > rymin
+                            if (y0 <= rymin) {
+                                ++numCrosses;
+                            }
+                            if (y1 >= rymax) {
+                                ++numCrosses;
+                            }
+                        } else if (y1 < y0) {
+                            // y-decreasing line segment...
+                            // We know that y1 < rymax and y0 > rymin
+                            if (y1 <= rymin) {
+                                --numCrosses;
+                            }
+                            if (y0 >= rymax) {
+                                --numCrosses;
+                            }
                         }
+                    } else {
+                        return MathConstants.SHAPE_INTERSECTS;
                     }
-                } else {
-                    return MathConstants.SHAPE_INTERSECTS;
-                }
-            } else if (xintercept1 != null) {
-                // Only the top line of the rectangle is intersecting the segment
-                if (xintercept1.intValue() < rxmin) {
-                    // the intersection point is at entirely on the left
-                } else if (xintercept1.intValue() > rxmax) {
-                    if (y0 < y1) {
-                        // y-increasing line segment...
-                        // We know that y0 < rymax and y1 > rymin
-                        if (y0 <= rymin) {
-                            ++numCrosses;
+                } else if (hasIntercept1) {
+                    // Only the top line of the rectangle is intersecting the segment
+                    if (xintercept1 < rxmin) {
+                        // the intersection point is at entirely on the left
+                    } else if (xintercept1 > rxmax) {
+                        if (y0 < y1) {
+                            // y-increasing line segment...
+                            // We know that y0 < rymax and y1 > rymin
+                            if (y0 <= rymin) {
+                                ++numCrosses;
+                            }
+                        } else if (y1 < y0 && y1 <= rymin) {
+                            // y-decreasing line segment...
+                            // We know that y1 < rymax and y0 > rymin
+                            --numCrosses;
                         }
-                    } else if (y1 < y0 && y1 <= rymin) {
-                        // y-decreasing line segment...
-                        // We know that y1 < rymax and y0 > rymin
-                        --numCrosses;
+                    } else {
+                        return MathConstants.SHAPE_INTERSECTS;
                     }
-                } else {
-                    return MathConstants.SHAPE_INTERSECTS;
-                }
-            } else if (xintercept2 != null) {
-                // Only the bottom line of the rectangle is intersecting the segment
-                if (xintercept2.intValue() < rxmin) {
-                    // the intersection point is at entirely on the left
-                } else if (xintercept2.intValue() > rxmax) {
-                    if (y0 < y1) {
-                        // y-increasing line segment...
-                        // We know that y0 < rymax and y1 > rymin
-                        if (y0 <= rymax) {
-                            ++numCrosses;
+                } else if (hasIntercept2) {
+                    // Only the bottom line of the rectangle is intersecting the segment
+                    if (xintercept2 < rxmin) {
+                        // the intersection point is at entirely on the left
+                    } else if (xintercept2 > rxmax) {
+                        if (y0 < y1) {
+                            // y-increasing line segment...
+                            // We know that y0 < rymax and y1 > rymin
+                            if (y0 <= rymax) {
+                                ++numCrosses;
+                            }
+                        } else if (y1 < y0 && y1 <= rymax) {
+                            // y-decreasing line segment...
+                            // We know that y1 < rymax and y0 > rymin
+                            --numCrosses;
                         }
-                    } else if (y1 < y0 && y1 <= rymax) {
-                        // y-decreasing line segment...
-                        // We know that y1 < rymax and y0 > rymin
-                        --numCrosses;
+                    } else {
+                        return MathConstants.SHAPE_INTERSECTS;
                     }
-                } else {
-                    return MathConstants.SHAPE_INTERSECTS;
                 }
             }
         }
@@ -1159,45 +1168,45 @@ public interface Segment2ai<
 
         // General case: try to detect crossing
 
-        final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> iterator =
-                new BresenhamLineIterator<>(
-                        InnerComputationGeomFactory.SINGLETON, x0, y0, x1, y1);
-
         // Only for internal use.
-        final Point2D<?, ?> p = new InnerComputationPoint2ai();
-        while (iterator.hasNext()) {
-            iterator.next(p);
-            if (p.iy() == py) {
-                if (p.ix() == px) {
-                    return MathConstants.SHAPE_INTERSECTS;
-                }
-                if (p.ix() > px) {
-                    // Found an intersection
-                    int numCrosses = crossing;
-                    if (y0 <= y1) {
-                        if (y0 < py && enableTopBorder) {
-                            ++numCrosses;
-                        }
-                        if (y1 > py && enableBottomBorder) {
-                            ++numCrosses;
-                        }
-                    } else {
-                        if (y0 > py && enableBottomBorder) {
-                            --numCrosses;
+        try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+            final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> iterator =
+                    scratch.bresenham(x0, y0, x1, y1);
+            final Point2D<?, ?> p = scratch.point();
+            while (iterator.hasNext()) {
+                iterator.next(p);
+                if (p.iy() == py) {
+                    if (p.ix() == px) {
+                        return MathConstants.SHAPE_INTERSECTS;
+                    }
+                    if (p.ix() > px) {
+                        // Found an intersection
+                        int numCrosses = crossing;
+                        if (y0 <= y1) {
+                            if (y0 < py && enableTopBorder) {
+                                ++numCrosses;
+                            }
+                            if (y1 > py && enableBottomBorder) {
+                                ++numCrosses;
+                            }
+                        } else {
+                            if (y0 > py && enableBottomBorder) {
+                                --numCrosses;
+                            }
+                            if (y1 < py && enableTopBorder) {
+                                --numCrosses;
+                            }
                         }
-                        if (y1 < py && enableTopBorder) {
-                            --numCrosses;
+                        if (xCoordinate != null) {
+                            xCoordinate.set(Integer.valueOf(p.ix()));
                         }
+                        return numCrosses;
                     }
-                    if (xCoordinate != null) {
-                        xCoordinate.set(Integer.valueOf(p.ix()));
-                    }
-                    return numCrosses;
                 }
             }
-        }
 
-        return crossing;
+            return crossing;
+        }
     }
 
     /** Replies if two segments are intersecting.
@@ -1312,97 +1321,95 @@ public interface Segment2ai<
             "checkstyle:npathcomplexity"})
     static int findsIntersectionTypeSegmentSegment(int x1, int y1, int x2, int y2, int x3, int y3, int x4, int y4,
             boolean enableThirdPoint, boolean enableFourthPoint, Point2D<?, ?> intersectionPoint) {
-        final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> it1;
-        if (x1 < x2) {
-            it1 = new BresenhamLineIterator<>(
-                    InnerComputationGeomFactory.SINGLETON, x1, y1, x2, y2);
-        } else {
-            it1 = new BresenhamLineIterator<>(
-                    InnerComputationGeomFactory.SINGLETON, x2, y2, x1, y1);
-        }
-        final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> it2;
-        if (x3 < x4) {
-            it2 = new BresenhamLineIterator<>(
-                    InnerComputationGeomFactory.SINGLETON, x3, y3, x4, y4);
-        } else {
-            it2 = new BresenhamLineIterator<>(
-                    InnerComputationGeomFactory.SINGLETON, x4, y4, x3, y3);
-        }
+        // Only for internal use
+        try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+            final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> it1;
+            if (x1 < x2) {
+                it1 = scratch.bresenham(x1, y1, x2, y2);
+            } else {
+                it1 = scratch.bresenham(x2, y2, x1, y1);
+            }
+            final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> it2;
+            if (x3 < x4) {
+                it2 = scratch.bresenham(x3, y3, x4, y4);
+            } else {
+                it2 = scratch.bresenham(x4, y4, x3, y3);
+            }
 
-        if (it1.hasNext() && it2.hasNext()) {
-            // Only for internal use
-            final Point2D<?, ?> p1 = new InnerComputationPoint2ai();
-            // Only for internal use
-            final Point2D<?, ?> p2 = new InnerComputationPoint2ai();
+            if (it1.hasNext() && it2.hasNext()) {
+                final Point2D<?, ?> p1 = scratch.point();
+                // Only for internal use
+                final Point2D<?, ?> p2 = scratch.point();
 
-            boolean isFirstPointOfSecondSegment = true;
+                boolean isFirstPointOfSecondSegment = true;
 
-            it1.next(p1);
-            it2.next(p2);
+                it1.next(p1);
+                it2.next(p2);
 
-            do {
+                do {
 
-                if (p1.ix() < p2.ix()) {
-                    while (it1.hasNext() && p1.ix() < p2.ix()) {
+                    if (p1.ix() < p2.ix()) {
+                        while (it1.hasNext() && p1.ix() < p2.ix()) {
+                            it1.next(p1);
+                        }
+                    } else if (p2.ix() < p1.ix()) {
+                        while (it2.hasNext() && p2.ix() < p1.ix()) {
+                            it2.next(p2);
+                            isFirstPointOfSecondSegment = false;
+                        }
+                    }
+
+                    final int x = p1.ix();
+                    int min1 = p1.iy();
+                    int max1 = p1.iy();
+                    int min2 = isFirstPointOfSecondSegment && !enableThirdPoint ? Integer.MAX_VALUE : p2.iy();
+                    int max2 = isFirstPointOfSecondSegment && !enableThirdPoint ? Integer.MIN_VALUE : p2.iy();
+
+                    while (it1.hasNext()) {
                         it1.next(p1);
+                        if (p1.ix() == x) {
+                            if (p1.iy() < min1) {
+                                min1 = p1.iy();
+                            }
+                            if (p1.iy() > max1) {
+                                max1 = p1.iy();
+                            }
+                        } else {
+                            break;
+                        }
                     }
-                } else if (p2.ix() < p1.ix()) {
-                    while (it2.hasNext() && p2.ix() < p1.ix()) {
+
+                    while (it2.hasNext()) {
                         it2.next(p2);
                         isFirstPointOfSecondSegment = false;
-                    }
-                }
-
-                final int x = p1.ix();
-                int min1 = p1.iy();
-                int max1 = p1.iy();
-                int min2 = isFirstPointOfSecondSegment && !enableThirdPoint ? Integer.MAX_VALUE : p2.iy();
-                int max2 = isFirstPointOfSecondSegment && !enableThirdPoint ? Integer.MIN_VALUE : p2.iy();
-
-                while (it1.hasNext()) {
-                    it1.next(p1);
-                    if (p1.ix() == x) {
-                        if (p1.iy() < min1) {
-                            min1 = p1.iy();
+                        if (p2.ix() == x) {
+                            if (p2.iy() < min2) {
+                                min2 = p2.iy();
+                            }
+                            if (p2.iy() > max2) {
+                                max2 = p2.iy();
+                            }
+                        } else {
+                            break;
                         }
-                        if (p1.iy() > max1) {
-                            max1 = p1.iy();
-                        }
-                    } else {
-                        break;
                     }
-                }
 
-                while (it2.hasNext()) {
-                    it2.next(p2);
-                    isFirstPointOfSecondSegment = false;
-                    if (p2.ix() == x) {
-                        if (p2.iy() < min2) {
-                            min2 = p2.iy();
-                        }
-                        if (p2.iy() > max2) {
-                            max2 = p2.iy();
+                    if (max2 >= min1 && max1 >= min2) {
+                        if (intersectionPoint != null) {
+                            intersectionPoint.set(x, Math.max(min1, min2));
                         }
-                    } else {
-                        break;
+                        return !isFirstPointOfSecondSegment && (it2.hasNext()) ? 1 : 2;
                     }
                 }
+                while (it1.hasNext() && it2.hasNext());
 
-                if (max2 >= min1 && max1 >= min2) {
+                if (enableFourthPoint && p1.equals(p2)) {
                     if (intersectionPoint != null) {
-                        intersectionPoint.set(x, Math.max(min1, min2));
+                        intersectionPoint.set(p1);
                     }
                     return !isFirstPointOfSecondSegment && (it2.hasNext()) ? 1 : 2;
                 }
             }
-            while (it1.hasNext() && it2.hasNext());
-
-            if (enableFourthPoint && p1.equals(p2)) {
-                if (intersectionPoint != null) {
-                    intersectionPoint.set(p1);
-                }
-                return !isFirstPointOfSecondSegment && (it2.hasNext()) ? 1 : 2;
-            }
         }
 
         return 0;
@@ -1634,21 +1641,23 @@ public interface Segment2ai<
             }
 
             int minDist = Integer.MAX_VALUE;
-            final Point2D<?, ?> p = new InnerComputationPoint2ai();
-            final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> iterator =
-                    new BresenhamLineIterator<>(InnerComputationGeomFactory.SINGLETON, ax, ay, bx, by);
-            while (iterator.hasNext()) {
-                iterator.next(p);
-                final int a = Math.abs(x - p.ix());
-                final int b = Math.abs(y - p.iy());
-                final int d = a * a + b * b;
-                if (d == 0) {
-                    return true;
-                }
-                if (d > minDist) {
-                    return false;
+            try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+                final Point2D<?, ?> p = scratch.point();
+                final BresenhamLineIterator<InnerComputationPoint2ai, InnerComputationVector2ai> iterator =
+                        scratch.bresenham(ax, ay, bx, by);
+                while (iterator.hasNext()) {
+                    iterator.next(p);
+                    final int a = Math.abs(x - p.ix());
+                    final int b = Math.abs(y - p.iy());
+                    final int d = a * a + b * b;
+                    if (d == 0) {
+                        return true;
+                    }
+                    if (d > minDist) {
+                        return false;
+                    }
+                    minDist = d;
                 }
-                minDist = d;
             }
         }
         return false;
@@ -1940,17 +1949,17 @@ public interface Segment2ai<
 
         private final GeomFactory2D<V, P> factory;
 
-        private final boolean steep;
+        private boolean steep;
 
-        private final int ystep;
+        private int ystep;
 
-        private final int xstep;
+        private int xstep;
 
-        private final int deltax;
+        private int deltax;
 
-        private final int deltay;
+        private int deltay;
 
-        private final int x1;
+        private int x1;
 
         private int y;
 
@@ -1968,6 +1977,18 @@ public interface Segment2ai<
         public BresenhamLineIterator(GeomFactory2D<V, P> factory, int x0, int y0, int x1, int y1) {
             assert factory != null : AssertMessages.notNullParameter(0);
             this.factory = factory;
+            reset(x0, y0, x1, y1);
+        }
+
+        /** Restart the iterations on another Bresenham line.
+         *
+         * @param x0 is the x-coordinate of the first point of the Bresenham line.
+         * @param y0 is the y-coordinate of the first point of the Bresenham line.
+         * @param x1 is the x-coordinate of the last point of the Bresenham line.
+         * @param y1 is the y-coordinate of the last point of the Bresenham line.
+         * @since 14.0
+         */
+        public void reset(int x0, int y0, int x1, int y1) {
             int localx0 = x0;
             int localy0 = y0;
             int localx1 = x1;
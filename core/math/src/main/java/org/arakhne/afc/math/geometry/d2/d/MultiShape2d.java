@@ -27,6 +27,7 @@ import java.util.List;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
+import org.arakhne.afc.math.geometry.BoundingVolumeHierarchy;
 import org.arakhne.afc.math.geometry.d2.afp.MultiShape2afp;
 import org.arakhne.afc.vmutil.asserts.AssertMessages;
 
@@ -36,6 +37,9 @@ import org.arakhne.afc.vmutil.asserts.AssertMessages;
  *
  * <p>Caution: The multishape does not detect the bound change of the stored shapes.
  *
+ * <p>When the multishape contains many shapes, the queries use a bounding-volume hierarchy on the
+ * inner shapes. This hierarchy is built on demand, and it is reset on each change of the inner shapes.
+ *
  * @param <T> the type of the shapes inside the multishape.
  * @author $Author: tpiotrow$
  * @author $Author: sgalland$
@@ -53,6 +57,8 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 
 	private Rectangle2d bounds;
 
+	private transient BoundingVolumeHierarchy spatialIndex;
+
 	/**
 	 * Construct an empty multishape.
 	 */
@@ -93,6 +99,7 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 		if (this.bounds != null) {
 			clone.bounds = this.bounds.clone();
 		}
+		clone.spatialIndex = null;
 		return clone;
 	}
 
@@ -105,6 +112,7 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 	@Override
 	public void onBackendDataChange() {
 		this.bounds = null;
+		this.spatialIndex = null;
 		fireGeometryChange();
 	}
 
@@ -112,6 +120,7 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 	 */
 	protected void onContentGeometryChange() {
 		this.bounds = null;
+		this.spatialIndex = null;
 		fireGeometryChange();
 	}
 
@@ -121,6 +130,15 @@ public class MultiShape2d<T extends Shape2d<?>> extends AbstractShape2d<MultiSha
 		return this.elements;
 	}
 
+	@Pure
+	@Override
+	public BoundingVolumeHierarchy getSpatialIndex() {
+		if (this.spatialIndex == null && this.elements.size() >= BoundingVolumeHierarchy.MIN_INDEXED_SIZE) {
+			this.spatialIndex = createSpatialIndex();
+		}
+		return this.spatialIndex;
+	}
+
 	@Pure
 	@Override
 	public Rectangle2d toBoundingBox() {
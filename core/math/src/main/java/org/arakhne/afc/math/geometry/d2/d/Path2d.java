@@ -31,6 +31,7 @@ import org.arakhne.afc.math.geometry.PathElementType;
 import org.arakhne.afc.math.geometry.PathWindingRule;
 import org.arakhne.afc.math.geometry.d2.Point2D;
 import org.arakhne.afc.math.geometry.d2.Transform2D;
+import org.arakhne.afc.math.geometry.d2.afp.FlattenedPath2afp;
 import org.arakhne.afc.math.geometry.d2.afp.InnerComputationPoint2afp;
 import org.arakhne.afc.math.geometry.d2.afp.Path2afp;
 import org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp;
@@ -51,11 +52,11 @@ public class Path2d
 		extends AbstractShape2d<Path2d>
 		implements Path2afp<Shape2d<?>, Path2d, PathElement2d, Point2d, Vector2d, Rectangle2d> {
 
-	private static final long serialVersionUID = 4567950736238157802L;
+	private static final long serialVersionUID = 1687396252578360966L;
 
-	/** Array of types.
+	/** Array of types, encoded with {@link PathElementType#code()}.
 	 */
-	private PathElementType[] types;
+	private byte[] types;
 
 	/** Array of coords.
 	 */
@@ -113,6 +114,11 @@ public class Path2d
 	 */
 	private Double length;
 
+	/** Buffer for the approximation of the curves of the path.
+	 * It is reset on each change of the geometry.
+	 */
+	private transient SoftReference<FlattenedPath2afp> flattenedPath;
+
 	/** Construct an empty path.
 	 */
 	public Path2d() {
@@ -131,11 +137,26 @@ public class Path2d
 	 */
 	public Path2d(PathWindingRule windingRule) {
 		assert windingRule != null : AssertMessages.notNullParameter();
-		this.types = new PathElementType[GROW_SIZE];
+		this.types = new byte[GROW_SIZE];
 		this.coords = new double[GROW_SIZE];
 		this.windingRule = windingRule;
 	}
 
+	/** Create an empty path with the given path winding rule, and with buffers
+	 * that are able to contain the given number of points without reallocation.
+	 *
+	 * @param windingRule the path winding rule.
+	 * @param pointCapacity the number of points that could be added without reallocating the buffers.
+	 * @since 14.0
+	 */
+	public Path2d(PathWindingRule windingRule, int pointCapacity) {
+		assert windingRule != null : AssertMessages.notNullParameter(0);
+		assert pointCapacity >= 0 : AssertMessages.positiveOrZeroParameter(1);
+		this.types = new byte[Math.max(1, pointCapacity)];
+		this.coords = new double[Math.max(2, pointCapacity * 2)];
+		this.windingRule = windingRule;
+	}
+
 	/** Create an empty path with the given path winding rule, and by copying the given elements.
 	 * @param windingRule the path winding rule.
 	 * @param iterator the iterator that provides the elements to copy.
@@ -143,7 +164,7 @@ public class Path2d
 	public Path2d(PathWindingRule windingRule, Iterator<PathElement2d> iterator) {
 		assert windingRule != null : AssertMessages.notNullParameter(0);
 		assert iterator != null : AssertMessages.notNullParameter(1);
-		this.types = new PathElementType[GROW_SIZE];
+		this.types = new byte[GROW_SIZE];
 		this.coords = new double[GROW_SIZE];
 		this.windingRule = windingRule;
 		add(iterator);
@@ -160,14 +181,30 @@ public class Path2d
 		if (needMove && this.numTypes == 0) {
 			throw new IllegalStateException(Locale.getString("E1")); //$NON-NLS-1$
 		}
-		if (this.types.length == this.numTypes) {
-			this.types = Arrays.copyOf(this.types, this.types.length + GROW_SIZE);
+		ensureBufferCapacity(this.numTypes + 1, this.numCoords + nbSlots);
+	}
+
+	/** Ensures that the buffers can contain at least the given numbers of types and coordinates.
+	 * The buffers grow geometrically in order to obtain an amortized constant cost for the additions.
+	 *
+	 * @param typeCount the minimal number of types.
+	 * @param coordCount the minimal number of coordinates.
+	 */
+	private void ensureBufferCapacity(int typeCount, int coordCount) {
+		if (typeCount > this.types.length) {
+			this.types = Arrays.copyOf(this.types, newBufferCapacity(this.types.length, typeCount));
 		}
-		while ((this.numCoords + nbSlots) >= this.coords.length) {
-			this.coords = Arrays.copyOf(this.coords, this.coords.length + GROW_SIZE);
+		if (coordCount > this.coords.length) {
+			this.coords = Arrays.copyOf(this.coords, newBufferCapacity(this.coords.length, coordCount));
 		}
 	}
 
+	private static int newBufferCapacity(int currentCapacity, int minCapacity) {
+		final int capacity = currentCapacity + Math.max(GROW_SIZE, currentCapacity >> 1);
+		// Overflow-conscious code
+		return capacity - minCapacity < 0 ? minCapacity : capacity;
+	}
+
 	@Pure
 	@Override
 	public boolean containsControlPoint(Point2D<?, ?> pt) {
@@ -184,7 +221,7 @@ public class Path2d
 
 	@Override
 	public void clear() {
-		this.types = new PathElementType[GROW_SIZE];
+		this.types = new byte[GROW_SIZE];
 		this.coords = new double[GROW_SIZE];
 		this.windingRule = PathWindingRule.NON_ZERO;
 		this.numCoords = 0;
@@ -215,8 +252,12 @@ public class Path2d
 		int bits = 1;
 		bits = 31 * bits + Integer.hashCode(this.numCoords);
 		bits = 31 * bits + Integer.hashCode(this.numTypes);
-		bits = 31 * bits + Arrays.hashCode(this.coords);
-		bits = 31 * bits + Arrays.hashCode(this.types);
+		for (int i = 0; i < this.numCoords; ++i) {
+			bits = 31 * bits + Double.hashCode(this.coords[i]);
+		}
+		for (int i = 0; i < this.numTypes; ++i) {
+			bits = 31 * bits + this.types[i];
+		}
 		bits = 31 * bits + this.windingRule.hashCode();
 		return bits ^ (bits >> 31);
 	}
@@ -298,6 +339,32 @@ public class Path2d
 		box.set(bb);
 	}
 
+	@Override
+	protected synchronized void fireGeometryChange() {
+		this.flattenedPath = null;
+		super.fireGeometryChange();
+	}
+
+	/** {@inheritDoc}
+	 *
+	 * <p>The approximation of the curves is cached for the last given flatness.
+	 */
+	@Pure
+	@Override
+	public PathIterator2afp<PathElement2d> getPathIterator(double flatness) {
+		if (!isCurved()) {
+			return new FlatteningPathIterator<>(getPathIterator(null), flatness, DEFAULT_FLATTENING_LIMIT);
+		}
+		FlattenedPath2afp flattened = this.flattenedPath == null ? null : this.flattenedPath.get();
+		if (flattened == null || flattened.getFlatness() != flatness) {
+			flattened = new FlattenedPath2afp(
+					new FlatteningPathIterator<>(getPathIterator(null), flatness, DEFAULT_FLATTENING_LIMIT),
+					flatness);
+			this.flattenedPath = new SoftReference<>(flattened);
+		}
+		return flattened.getPathIterator(getGeomFactory(), this.windingRule);
+	}
+
 	@Override
 	public PathWindingRule getWindingRule() {
 		return this.windingRule;
@@ -306,12 +373,12 @@ public class Path2d
 	@Override
 	public boolean isPolyline() {
 		if (this.isPolyline == null) {
-			final PathIterator2afp<PathElement2d> pi = getPathIterator();
 			boolean first = true;
 			boolean hasOneLine = false;
-			while (this.isPolyline == null && pi.hasNext()) {
-				final PathElement2d pe = pi.next();
-				final PathElementType t = pe.getType();
+			int i = 0;
+			while (this.isPolyline == null && i < this.numTypes) {
+				final PathElementType t = PathElementType.fromCode(this.types[i]);
+				++i;
 				if (first) {
 					if (t != PathElementType.MOVE_TO) {
 						this.isPolyline = Boolean.FALSE;
@@ -335,10 +402,10 @@ public class Path2d
 	public boolean isCurved() {
 		if (this.isCurved == null) {
 			this.isCurved = Boolean.FALSE;
-			final PathIterator2afp<PathElement2d> pi = getPathIterator();
-			while (this.isCurved == Boolean.FALSE && pi.hasNext()) {
-				final PathElement2d pe = pi.next();
-				final PathElementType t = pe.getType();
+			int i = 0;
+			while (this.isCurved == Boolean.FALSE && i < this.numTypes) {
+				final PathElementType t = PathElementType.fromCode(this.types[i]);
+				++i;
 				if (t == PathElementType.CURVE_TO || t == PathElementType.QUAD_TO) {
 					this.isCurved = Boolean.TRUE;
 				}
@@ -351,11 +418,11 @@ public class Path2d
 	public boolean isMultiParts() {
 		if (this.isMultipart == null) {
 			this.isMultipart = Boolean.FALSE;
-			final PathIterator2afp<PathElement2d> pi = getPathIterator();
 			boolean foundOne = false;
-			while (this.isMultipart == Boolean.FALSE && pi.hasNext()) {
-				final PathElement2d pe = pi.next();
-				final PathElementType t = pe.getType();
+			int i = 0;
+			while (this.isMultipart == Boolean.FALSE && i < this.numTypes) {
+				final PathElementType t = PathElementType.fromCode(this.types[i]);
+				++i;
 				if (t == PathElementType.MOVE_TO) {
 					if (foundOne) {
 						this.isMultipart = Boolean.TRUE;
@@ -371,12 +438,12 @@ public class Path2d
 	@Override
 	public boolean isPolygon() {
 		if (this.isPolygon == null) {
-			final PathIterator2afp<PathElement2d> pi = getPathIterator();
 			boolean first = true;
 			boolean lastIsClose = false;
-			while (this.isPolygon == null && pi.hasNext()) {
-				final PathElement2d pe = pi.next();
-				final PathElementType t = pe.getType();
+			int i = 0;
+			while (this.isPolygon == null && i < this.numTypes) {
+				final PathElementType t = PathElementType.fromCode(this.types[i]);
+				++i;
 				lastIsClose = false;
 				if (first) {
 					if (t != PathElementType.MOVE_TO) {
@@ -400,10 +467,10 @@ public class Path2d
 	@Override
 	public void closePath() {
 		if (this.numTypes <= 0
-				|| (this.types[this.numTypes - 1] != PathElementType.CLOSE
-				&& this.types[this.numTypes - 1] != PathElementType.MOVE_TO)) {
+				|| (this.types[this.numTypes - 1] != PathElementType.CLOSE.code()
+				&& this.types[this.numTypes - 1] != PathElementType.MOVE_TO.code())) {
 			ensureSlots(true, 0);
-			this.types[this.numTypes++] = PathElementType.CLOSE;
+			this.types[this.numTypes++] = PathElementType.CLOSE.code();
 			this.isPolyline = false;
 			this.isPolygon = null;
 			fireGeometryChange();
@@ -548,7 +615,7 @@ public class Path2d
 	@SuppressWarnings("checkstyle:magicnumber")
 	public void removeLast() {
 		if (this.numTypes > 0) {
-			switch (this.types[this.numTypes - 1]) {
+			switch (PathElementType.fromCode(this.types[this.numTypes - 1])) {
 			case CLOSE:
 				// no coord to remove
 				this.isPolygon = null;
@@ -597,12 +664,12 @@ public class Path2d
 		if (this.isMultipart != null && this.isMultipart != Boolean.TRUE) {
 			this.isMultipart = null;
 		}
-		if (this.numTypes > 0 && this.types[this.numTypes - 1] == PathElementType.MOVE_TO) {
+		if (this.numTypes > 0 && this.types[this.numTypes - 1] == PathElementType.MOVE_TO.code()) {
 			this.coords[this.numCoords - 2] = x;
 			this.coords[this.numCoords - 1] = y;
 		} else {
 			ensureSlots(false, 2);
-			this.types[this.numTypes++] = PathElementType.MOVE_TO;
+			this.types[this.numTypes++] = PathElementType.MOVE_TO.code();
 			this.coords[this.numCoords++] = x;
 			this.coords[this.numCoords++] = y;
 		}
@@ -615,7 +682,7 @@ public class Path2d
 	@Override
 	public void lineTo(double x, double y) {
 		ensureSlots(true, 2);
-		this.types[this.numTypes++] = PathElementType.LINE_TO;
+		this.types[this.numTypes++] = PathElementType.LINE_TO.code();
 		this.coords[this.numCoords++] = x;
 		this.coords[this.numCoords++] = y;
 		this.isEmpty = null;
@@ -632,7 +699,7 @@ public class Path2d
 	@SuppressWarnings("checkstyle:magicnumber")
 	public void quadTo(double x1, double y1, double x2, double y2) {
 		ensureSlots(true, 4);
-		this.types[this.numTypes++] = PathElementType.QUAD_TO;
+		this.types[this.numTypes++] = PathElementType.QUAD_TO.code();
 		this.coords[this.numCoords++] = x1;
 		this.coords[this.numCoords++] = y1;
 		this.coords[this.numCoords++] = x2;
@@ -650,7 +717,7 @@ public class Path2d
 	@SuppressWarnings("checkstyle:magicnumber")
 	public void curveTo(double x1, double y1, double x2, double y2, double x3, double y3) {
 		ensureSlots(true, 6);
-		this.types[this.numTypes++] = PathElementType.CURVE_TO;
+		this.types[this.numTypes++] = PathElementType.CURVE_TO.code();
 		this.coords[this.numCoords++] = x1;
 		this.coords[this.numCoords++] = y1;
 		this.coords[this.numCoords++] = x2;
@@ -697,7 +764,7 @@ public class Path2d
 			"checkstyle:cyclomaticcomplexity"})
 	public boolean remove(double x, double y) {
 		for (int i = 0, j = 0; i < this.numCoords && j < this.numTypes;) {
-			switch (this.types[j]) {
+			switch (PathElementType.fromCode(this.types[j])) {
 			case MOVE_TO:
 				this.isMultipart = null;
 				//$FALL-THROUGH$
@@ -705,8 +772,8 @@ public class Path2d
 				if (x == this.coords[i] && y == this.coords[i + 1]) {
 					this.numCoords -= 2;
 					--this.numTypes;
-					System.arraycopy(this.coords, i + 2, this.coords, i, this.numCoords);
-					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
+					System.arraycopy(this.coords, i + 2, this.coords, i, this.numCoords - i);
+					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes - j);
 					this.isEmpty = null;
 					this.length = null;
 					this.graphicalBounds = null;
@@ -723,8 +790,8 @@ public class Path2d
 						|| (x == this.coords[i + 4] && y == this.coords[i + 5])) {
 					this.numCoords -= 6;
 					--this.numTypes;
-					System.arraycopy(this.coords, i + 6, this.coords, i, this.numCoords);
-					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
+					System.arraycopy(this.coords, i + 6, this.coords, i, this.numCoords - i);
+					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes - j);
 					this.isEmpty = null;
 					this.isPolyline = null;
 					this.length = null;
@@ -741,8 +808,8 @@ public class Path2d
 						|| (x == this.coords[i + 2] && y == this.coords[i + 3])) {
 					this.numCoords -= 4;
 					--this.numTypes;
-					System.arraycopy(this.coords, i + 4, this.coords, i, this.numCoords);
-					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
+					System.arraycopy(this.coords, i + 4, this.coords, i, this.numCoords - i);
+					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes - j);
 					this.isEmpty = null;
 					this.isPolyline = null;
 					this.length = null;
@@ -781,7 +848,7 @@ public class Path2d
 	@Override
 	@Pure
 	public PathElementType getPathElementTypeAt(int index) {
-		return this.types[index];
+		return PathElementType.fromCode(this.types[index]);
 	}
 
 	@Override
@@ -793,4 +860,77 @@ public class Path2d
 		return this.length.doubleValue();
 	}
 
+	/** Ensures that this path can contain at least the given number of points
+	 * without reallocating its internal buffers.
+	 *
+	 * <p>The buffers are sized for a polyline, i.e. one path element per point.
+	 * They grow geometrically when they are full, so that pre-sizing is
+	 * an optimization, not a requirement.
+	 *
+	 * @param pointCount the number of points.
+	 * @since 14.0
+	 * @see #trimToSize()
+	 */
+	public void ensureCapacity(int pointCount) {
+		assert pointCount >= 0 : AssertMessages.positiveOrZeroParameter();
+		ensureBufferCapacity(pointCount, pointCount * 2);
+	}
+
+	/** Trims the capacity of the internal buffers of this path to the current
+	 * number of path elements and coordinates.
+	 *
+	 * @since 14.0
+	 * @see #ensureCapacity(int)
+	 */
+	public void trimToSize() {
+		if (this.types.length > this.numTypes) {
+			this.types = Arrays.copyOf(this.types, this.numTypes);
+		}
+		if (this.coords.length > this.numCoords) {
+			this.coords = Arrays.copyOf(this.coords, this.numCoords);
+		}
+	}
+
+	/** Add a polyline to this path.
+	 *
+	 * <p>The first point of the polyline starts a new sub-path, as with {@link #moveTo(double, double)}.
+	 * The other points are linked with line segments, as with {@link #lineTo(double, double)}.
+	 * The coordinates are copied in one bulk operation, and the geometry change
+	 * is notified only once.
+	 *
+	 * @param coordinates the coordinates of the points, in the order x, y, x, y....
+	 * @param offset the index of the first coordinate of the polyline in the array.
+	 * @param count the number of points in the polyline.
+	 * @since 14.0
+	 */
+	public void addPolyline(double[] coordinates, int offset, int count) {
+		assert coordinates != null : AssertMessages.notNullParameter(0);
+		assert offset >= 0 : AssertMessages.positiveOrZeroParameter(1);
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter(2);
+		assert offset + count * 2 <= coordinates.length
+				: AssertMessages.tooSmallArrayParameter(0, coordinates.length, offset + count * 2);
+		if (count > 0) {
+			if (this.numTypes > 0 && this.types[this.numTypes - 1] == PathElementType.MOVE_TO.code()) {
+				// Replace the last move-to, as moveTo() does
+				--this.numTypes;
+				this.numCoords -= 2;
+			}
+			final int nbCoords = count * 2;
+			ensureBufferCapacity(this.numTypes + count, this.numCoords + nbCoords);
+			this.types[this.numTypes] = PathElementType.MOVE_TO.code();
+			Arrays.fill(this.types, this.numTypes + 1, this.numTypes + count, PathElementType.LINE_TO.code());
+			this.numTypes += count;
+			System.arraycopy(coordinates, offset, this.coords, this.numCoords, nbCoords);
+			this.numCoords += nbCoords;
+			this.isEmpty = null;
+			this.isPolyline = null;
+			this.isPolygon = null;
+			this.isMultipart = null;
+			this.graphicalBounds = null;
+			this.logicalBounds = null;
+			this.length = null;
+			fireGeometryChange();
+		}
+	}
+
 }
@@ -0,0 +1,416 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.d;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.math.geometry.d2.Point2D;
+import org.arakhne.afc.math.geometry.d2.afp.Segment2afp;
+import org.arakhne.afc.math.geometry.d2.afp.SimplifyingPathIterator2afp;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Algorithms for reducing the number of points of a polyline.
+ *
+ * <p>The points are given as a collection, e.g. the one replied by {@link Path2d#toCollection()}, and
+ * they are considered as the points of an open polyline. The algorithms are working on primitive
+ * arrays, and they are replying new paths:
+ * <ul>
+ * <li>{@link #convexHull(Collection)} computes the convex hull with the monotone chain
+ *     algorithm of Andrew;</li>
+ * <li>{@link #simplifyDouglasPeucker(Collection, double)} keeps the points that are
+ *     farther than a distance from the simplified polyline;</li>
+ * <li>{@link #simplifyVisvalingamWhyatt(Collection, double)} removes the points that are
+ *     forming the triangles with the smallest areas.</li>
+ * </ul>
+ *
+ * <p>A path could also be simplified while it is iterated, without storing all its points, with
+ * {@link SimplifyingPathIterator2afp}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public final class PathSimplification2d {
+
+	private PathSimplification2d() {
+		//
+	}
+
+	/** Compute the convex hull of the given points with the monotone chain algorithm.
+	 *
+	 * <p>The points are sorted, and the lower and upper hulls are built from the sorted points.
+	 * The complexity is {@code O(n log n)}. The points that are on the edges of the hull are not
+	 * in the result.
+	 *
+	 * @param points the points.
+	 * @return the convex hull, as a counterclockwise polygon. If there are less than three points
+	 *     that are not aligned, the path is an open polyline.
+	 */
+	public static Path2d convexHull(Collection<? extends Point2D<?, ?>> points) {
+		assert points != null : AssertMessages.notNullParameter();
+		final int count = points.size();
+		final double[] xs = new double[count];
+		final double[] ys = new double[count];
+		copy(points, xs, ys);
+		final Integer[] order = new Integer[count];
+		for (int i = 0; i < count; ++i) {
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.<Integer>comparingDouble(it -> xs[it]).thenComparingDouble(it -> ys[it]));
+		// The lower hull contains at most count points, and the upper hull adds at most count - 1 points.
+		// With the rounding errors, nearly aligned points may be kept in both hulls.
+		final int[] hull = new int[2 * count];
+		int size = 0;
+		for (int i = 0; i < count; ++i) {
+			size = addHullPoint(hull, size, 1, order[i], xs, ys);
+		}
+		final int lowerSize = size;
+		for (int i = count - 2; i >= 0; --i) {
+			size = addHullPoint(hull, size, lowerSize, order[i], xs, ys);
+		}
+		final Path2d path = new Path2d(PathWindingRule.NON_ZERO, size);
+		if (size > 0) {
+			// The last point of the upper hull is the first point of the lower hull
+			final int last = size > 1 ? size - 1 : size;
+			path.moveTo(xs[hull[0]], ys[hull[0]]);
+			for (int i = 1; i < last; ++i) {
+				path.lineTo(xs[hull[i]], ys[hull[i]]);
+			}
+			if (last > 2) {
+				path.closePath();
+			}
+		}
+		return path;
+	}
+
+	/** Add a point to the hull, after removing the points that are not making a left turn with it.
+	 *
+	 * @param hull the indexes of the points in the hull.
+	 * @param size the number of points in the hull.
+	 * @param minSize the number of points in the hull that cannot be removed.
+	 * @param point the index of the point to add.
+	 * @param xs the x coordinates of the points.
+	 * @param ys the y coordinates of the points.
+	 * @return the new number of points in the hull.
+	 */
+	private static int addHullPoint(int[] hull, int size, int minSize, int point, double[] xs, double[] ys) {
+		int newSize = size;
+		while (newSize > minSize) {
+			final int first = hull[newSize - 2];
+			final int second = hull[newSize - 1];
+			final double cross = (xs[second] - xs[first]) * (ys[point] - ys[first])
+					- (ys[second] - ys[first]) * (xs[point] - xs[first]);
+			if (cross > 0) {
+				break;
+			}
+			--newSize;
+		}
+		hull[newSize] = point;
+		return newSize + 1;
+	}
+
+	/** Simplify the polyline with the Douglas-Peucker algorithm.
+	 *
+	 * <p>The first and the last points are kept. The point that is the farthest from the segment
+	 * between them is kept if its distance is greater than the tolerance, and the two parts of the
+	 * polyline are simplified in the same way. The parts to simplify are stored in an array
+	 * instead of the call stack. The complexity is {@code O(n log n)} in average, and
+	 * {@code O(n^2)} in the worst case.
+	 *
+	 * @param points the points of the polyline.
+	 * @param tolerance the maximal distance between a removed point and the simplified polyline.
+	 * @return the simplified polyline.
+	 */
+	public static Path2d simplifyDouglasPeucker(Collection<? extends Point2D<?, ?>> points, double tolerance) {
+		assert points != null : AssertMessages.notNullParameter(0);
+		assert tolerance >= 0. : AssertMessages.positiveOrZeroParameter(1);
+		final int count = points.size();
+		final double[] xs = new double[count];
+		final double[] ys = new double[count];
+		copy(points, xs, ys);
+		final boolean[] kept = new boolean[count];
+		if (count > 0) {
+			kept[0] = true;
+			kept[count - 1] = true;
+		}
+		final double tolerance2 = tolerance * tolerance;
+		// Each part is stored with the indexes of its first and last points
+		final int[] parts = new int[Math.max(2, 2 * count)];
+		int partCount = 0;
+		if (count > 2) {
+			parts[0] = 0;
+			parts[1] = count - 1;
+			partCount = 1;
+		}
+		while (partCount > 0) {
+			--partCount;
+			final int first = parts[2 * partCount];
+			final int last = parts[2 * partCount + 1];
+			double maxDistance = tolerance2;
+			int farthest = -1;
+			for (int i = first + 1; i < last; ++i) {
+				final double distance = Segment2afp.calculatesDistanceSquaredSegmentPoint(
+						xs[first], ys[first], xs[last], ys[last], xs[i], ys[i]);
+				if (distance > maxDistance) {
+					maxDistance = distance;
+					farthest = i;
+				}
+			}
+			if (farthest >= 0) {
+				kept[farthest] = true;
+				if (farthest - first > 1) {
+					parts[2 * partCount] = first;
+					parts[2 * partCount + 1] = farthest;
+					++partCount;
+				}
+				if (last - farthest > 1) {
+					parts[2 * partCount] = farthest;
+					parts[2 * partCount + 1] = last;
+					++partCount;
+				}
+			}
+		}
+		return createPolyline(xs, ys, kept);
+	}
+
+	/** Simplify the polyline with the Visvalingam-Whyatt algorithm.
+	 *
+	 * <p>The area of the triangle that is formed by each point and its two neighbors is computed.
+	 * The point with the smallest area is removed, and the areas of its neighbors are updated,
+	 * until the smallest area is greater than or equal to the given area. The area of a point
+	 * is never lower than the area of the last removed point, so that the points are removed in
+	 * order of importance. The areas are stored in a binary heap; the complexity is
+	 * {@code O(n log n)}. The first and the last points are kept.
+	 *
+	 * @param points the points of the polyline.
+	 * @param minArea the minimal area of the triangle of a point that is kept.
+	 * @return the simplified polyline.
+	 */
+	public static Path2d simplifyVisvalingamWhyatt(Collection<? extends Point2D<?, ?>> points, double minArea) {
+		assert points != null : AssertMessages.notNullParameter(0);
+		assert minArea >= 0. : AssertMessages.positiveOrZeroParameter(1);
+		final int count = points.size();
+		final double[] xs = new double[count];
+		final double[] ys = new double[count];
+		copy(points, xs, ys);
+		final AreaHeap heap = new AreaHeap(count);
+		for (int i = 1; i < count - 1; ++i) {
+			heap.add(i, computeArea(xs, ys, i - 1, i, i + 1));
+		}
+		final boolean[] kept = new boolean[count];
+		Arrays.fill(kept, true);
+		while (heap.size() > 0 && heap.getMinArea() < minArea) {
+			final double area = heap.getMinArea();
+			final int point = heap.removeMin();
+			kept[point] = false;
+			final int previous = heap.previous[point];
+			final int next = heap.next[point];
+			heap.next[previous] = next;
+			heap.previous[next] = previous;
+			if (previous > 0) {
+				heap.update(previous, Math.max(area, computeArea(xs, ys, heap.previous[previous], previous, next)));
+			}
+			if (next < count - 1) {
+				heap.update(next, Math.max(area, computeArea(xs, ys, previous, next, heap.next[next])));
+			}
+		}
+		return createPolyline(xs, ys, kept);
+	}
+
+	private static double computeArea(double[] xs, double[] ys, int first, int middle, int last) {
+		return Math.abs((xs[middle] - xs[first]) * (ys[last] - ys[first])
+				- (ys[middle] - ys[first]) * (xs[last] - xs[first])) / 2.;
+	}
+
+	private static void copy(Collection<? extends Point2D<?, ?>> points, double[] xs, double[] ys) {
+		int i = 0;
+		for (final Point2D<?, ?> point : points) {
+			xs[i] = point.getX();
+			ys[i] = point.getY();
+			++i;
+		}
+	}
+
+	private static Path2d createPolyline(double[] xs, double[] ys, boolean[] kept) {
+		final Path2d path = new Path2d(PathWindingRule.NON_ZERO, xs.length);
+		boolean first = true;
+		for (int i = 0; i < xs.length; ++i) {
+			if (kept[i]) {
+				if (first) {
+					path.moveTo(xs[i], ys[i]);
+					first = false;
+				} else {
+					path.lineTo(xs[i], ys[i]);
+				}
+			}
+		}
+		return path;
+	}
+
+	/** Binary heap of the points of a polyline, sorted by the areas of their triangles.
+	 *
+	 * <p>The heap is also storing the links between the points that are not removed.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class AreaHeap {
+
+		/** Index of the previous point of each point.
+		 */
+		final int[] previous;
+
+		/** Index of the next point of each point.
+		 */
+		final int[] next;
+
+		private final double[] areas;
+
+		private final int[] heap;
+
+		/** Position of each point in the heap, or {@code -1}.
+		 */
+		private final int[] positions;
+
+		private int size;
+
+		/** Construct an empty heap.
+		 *
+		 * @param count the number of points of the polyline.
+		 */
+		AreaHeap(int count) {
+			this.previous = new int[count];
+			this.next = new int[count];
+			this.areas = new double[count];
+			this.heap = new int[count];
+			this.positions = new int[count];
+			for (int i = 0; i < count; ++i) {
+				this.previous[i] = i - 1;
+				this.next[i] = i + 1;
+				this.positions[i] = -1;
+			}
+		}
+
+		/** Replies the number of points in the heap.
+		 *
+		 * @return the number of points.
+		 */
+		int size() {
+			return this.size;
+		}
+
+		/** Add a point in the heap.
+		 *
+		 * @param point the index of the point.
+		 * @param area the area of the point.
+		 */
+		void add(int point, double area) {
+			this.areas[point] = area;
+			this.heap[this.size] = point;
+			this.positions[point] = this.size;
+			++this.size;
+			siftUp(this.size - 1);
+		}
+
+		/** Replies the smallest area.
+		 *
+		 * @return the smallest area.
+		 */
+		double getMinArea() {
+			return this.areas[this.heap[0]];
+		}
+
+		/** Remove the point with the smallest area.
+		 *
+		 * @return the index of the removed point.
+		 */
+		int removeMin() {
+			final int point = this.heap[0];
+			--this.size;
+			this.positions[point] = -1;
+			if (this.size > 0) {
+				move(this.heap[this.size], 0);
+				siftDown(0);
+			}
+			return point;
+		}
+
+		/** Change the area of a point in the heap.
+		 *
+		 * @param point the index of the point.
+		 * @param area the new area of the point.
+		 */
+		void update(int point, double area) {
+			this.areas[point] = area;
+			final int position = this.positions[point];
+			siftUp(position);
+			siftDown(this.positions[point]);
+		}
+
+		private void move(int point, int position) {
+			this.heap[position] = point;
+			this.positions[point] = position;
+		}
+
+		private void siftUp(int position) {
+			final int point = this.heap[position];
+			int pos = position;
+			while (pos > 0) {
+				final int parent = (pos - 1) >>> 1;
+				if (this.areas[this.heap[parent]] <= this.areas[point]) {
+					break;
+				}
+				move(this.heap[parent], pos);
+				pos = parent;
+			}
+			move(point, pos);
+		}
+
+		private void siftDown(int position) {
+			final int point = this.heap[position];
+			final int half = this.size >>> 1;
+			int pos = position;
+			while (pos < half) {
+				int child = (pos << 1) + 1;
+				final int right = child + 1;
+				if (right < this.size && this.areas[this.heap[right]] < this.areas[this.heap[child]]) {
+					child = right;
+				}
+				if (this.areas[point] <= this.areas[this.heap[child]]) {
+					break;
+				}
+				move(this.heap[child], pos);
+				pos = child;
+			}
+			move(point, pos);
+		}
+
+	}
+
+}
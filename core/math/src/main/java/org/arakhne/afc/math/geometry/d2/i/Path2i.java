@@ -49,11 +49,11 @@ import org.arakhne.afc.vmutil.locale.Locale;
 public class Path2i extends AbstractShape2i<Path2i>
 		implements Path2ai<Shape2i<?>, Path2i, PathElement2i, Point2i, Vector2i, Rectangle2i> {
 
-	private static final long serialVersionUID = 2542453596839860853L;
+	private static final long serialVersionUID = 4660483222549262586L;
 
-	/** Array of types.
+	/** Array of types, encoded with {@link PathElementType#code()}.
 	 */
-	private PathElementType[] types;
+	private byte[] types;
 
 	/** Array of coords.
 	 */
@@ -125,11 +125,26 @@ public class Path2i extends AbstractShape2i<Path2i>
 	 */
 	public Path2i(PathWindingRule windingRule) {
 		assert windingRule != null : AssertMessages.notNullParameter();
-		this.types = new PathElementType[GROW_SIZE];
+		this.types = new byte[GROW_SIZE];
 		this.coords = new int[GROW_SIZE];
 		this.windingRule = windingRule;
 	}
 
+	/** Create an empty path with the given path winding rule, and with buffers
+	 * that are able to contain the given number of points without reallocation.
+	 *
+	 * @param windingRule the path winding rule.
+	 * @param pointCapacity the number of points that could be added without reallocating the buffers.
+	 * @since 14.0
+	 */
+	public Path2i(PathWindingRule windingRule, int pointCapacity) {
+		assert windingRule != null : AssertMessages.notNullParameter(0);
+		assert pointCapacity >= 0 : AssertMessages.positiveOrZeroParameter(1);
+		this.types = new byte[Math.max(1, pointCapacity)];
+		this.coords = new int[Math.max(2, pointCapacity * 2)];
+		this.windingRule = windingRule;
+	}
+
 	/** Construct a path with the given path winding rule and by copying the given elements.
 	 * @param windingRule the path winding rule.
 	 * @param iterator the iterator that provides the elements to copy.
@@ -137,7 +152,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 	public Path2i(PathWindingRule windingRule, Iterator<PathElement2i> iterator) {
 		assert windingRule != null : AssertMessages.notNullParameter(0);
 		assert iterator != null : AssertMessages.notNullParameter(1);
-		this.types = new PathElementType[GROW_SIZE];
+		this.types = new byte[GROW_SIZE];
 		this.coords = new int[GROW_SIZE];
 		this.windingRule = windingRule;
 		add(iterator);
@@ -180,14 +195,30 @@ public class Path2i extends AbstractShape2i<Path2i>
 		if (needMove && this.numTypes == 0) {
 			throw new IllegalStateException(Locale.getString("E1")); //$NON-NLS-1$
 		}
-		if (this.types.length == this.numTypes) {
-			this.types = Arrays.copyOf(this.types, this.types.length + GROW_SIZE);
+		ensureBufferCapacity(this.numTypes + 1, this.numCoords + nbSlots);
+	}
+
+	/** Ensures that the buffers can contain at least the given numbers of types and coordinates.
+	 * The buffers grow geometrically in order to obtain an amortized constant cost for the additions.
+	 *
+	 * @param typeCount the minimal number of types.
+	 * @param coordCount the minimal number of coordinates.
+	 */
+	private void ensureBufferCapacity(int typeCount, int coordCount) {
+		if (typeCount > this.types.length) {
+			this.types = Arrays.copyOf(this.types, newBufferCapacity(this.types.length, typeCount));
 		}
-		while ((this.numCoords + nbSlots) >= this.coords.length) {
-			this.coords = Arrays.copyOf(this.coords, this.coords.length + GROW_SIZE);
+		if (coordCount > this.coords.length) {
+			this.coords = Arrays.copyOf(this.coords, newBufferCapacity(this.coords.length, coordCount));
 		}
 	}
 
+	private static int newBufferCapacity(int currentCapacity, int minCapacity) {
+		final int capacity = currentCapacity + Math.max(GROW_SIZE, currentCapacity >> 1);
+		// Overflow-conscious code
+		return capacity - minCapacity < 0 ? minCapacity : capacity;
+	}
+
 	@Pure
 	@Override
 	public boolean containsControlPoint(Point2D<?, ?> pt) {
@@ -206,7 +237,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 
 	@Override
 	public void clear() {
-		this.types = new PathElementType[GROW_SIZE];
+		this.types = new byte[GROW_SIZE];
 		this.coords = new int[GROW_SIZE];
 		this.windingRule = PathWindingRule.NON_ZERO;
 		this.numCoords = 0;
@@ -236,8 +267,12 @@ public class Path2i extends AbstractShape2i<Path2i>
 		int bits = 1;
 		bits = 31 * bits + Integer.hashCode(this.numCoords);
 		bits = 31 * bits + Integer.hashCode(this.numTypes);
-		bits = 31 * bits + Arrays.hashCode(this.coords);
-		bits = 31 * bits + Arrays.hashCode(this.types);
+		for (int i = 0; i < this.numCoords; ++i) {
+			bits = 31 * bits + this.coords[i];
+		}
+		for (int i = 0; i < this.numTypes; ++i) {
+			bits = 31 * bits + this.types[i];
+		}
 		bits = 31 * bits + this.windingRule.hashCode();
 		return bits ^ (bits >> 31);
 	}
@@ -428,10 +463,10 @@ public class Path2i extends AbstractShape2i<Path2i>
 	@Override
 	public void closePath() {
 		if (this.numTypes <= 0
-				|| (this.types[this.numTypes - 1] != PathElementType.CLOSE
-				&& this.types[this.numTypes - 1] != PathElementType.MOVE_TO)) {
+				|| (this.types[this.numTypes - 1] != PathElementType.CLOSE.code()
+				&& this.types[this.numTypes - 1] != PathElementType.MOVE_TO.code())) {
 			ensureSlots(true, 0);
-			this.types[this.numTypes++] = PathElementType.CLOSE;
+			this.types[this.numTypes++] = PathElementType.CLOSE.code();
 			this.isPolyline = false;
 			this.isPolygon = null;
 			fireGeometryChange();
@@ -571,7 +606,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 	@Override
 	public void removeLast() {
 		if (this.numTypes > 0) {
-			switch (this.types[this.numTypes - 1]) {
+			switch (PathElementType.fromCode(this.types[this.numTypes - 1])) {
 			case CLOSE:
 				// no coord to remove
 				this.isPolygon = null;
@@ -619,12 +654,12 @@ public class Path2i extends AbstractShape2i<Path2i>
 		if (this.isMultipart != null && this.isMultipart != Boolean.TRUE) {
 			this.isMultipart = null;
 		}
-		if (this.numTypes > 0 && this.types[this.numTypes - 1] == PathElementType.MOVE_TO) {
+		if (this.numTypes > 0 && this.types[this.numTypes - 1] == PathElementType.MOVE_TO.code()) {
 			this.coords[this.numCoords - 2] = x;
 			this.coords[this.numCoords - 1] = y;
 		} else {
 			ensureSlots(false, 2);
-			this.types[this.numTypes++] = PathElementType.MOVE_TO;
+			this.types[this.numTypes++] = PathElementType.MOVE_TO.code();
 			this.coords[this.numCoords++] = x;
 			this.coords[this.numCoords++] = y;
 		}
@@ -636,7 +671,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 	@Override
 	public void lineTo(int x, int y) {
 		ensureSlots(true, 2);
-		this.types[this.numTypes++] = PathElementType.LINE_TO;
+		this.types[this.numTypes++] = PathElementType.LINE_TO.code();
 		this.coords[this.numCoords++] = x;
 		this.coords[this.numCoords++] = y;
 		this.isEmpty = null;
@@ -651,7 +686,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 	@Override
 	public void quadTo(int x1, int y1, int x2, int y2) {
 		ensureSlots(true, 4);
-		this.types[this.numTypes++] = PathElementType.QUAD_TO;
+		this.types[this.numTypes++] = PathElementType.QUAD_TO.code();
 		this.coords[this.numCoords++] = x1;
 		this.coords[this.numCoords++] = y1;
 		this.coords[this.numCoords++] = x2;
@@ -667,7 +702,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 	@Override
 	public void curveTo(int x1, int y1, int x2, int y2, int x3, int y3) {
 		ensureSlots(true, 6);
-		this.types[this.numTypes++] = PathElementType.CURVE_TO;
+		this.types[this.numTypes++] = PathElementType.CURVE_TO.code();
 		this.coords[this.numCoords++] = x1;
 		this.coords[this.numCoords++] = y1;
 		this.coords[this.numCoords++] = x2;
@@ -711,7 +746,7 @@ public class Path2i extends AbstractShape2i<Path2i>
 	@SuppressWarnings({"checkstyle:fallthrough", "checkstyle:cyclomaticcomplexity"})
 	public boolean remove(int x, int y) {
 		for (int i = 0, j = 0; i < this.numCoords && j < this.numTypes;) {
-			switch (this.types[j]) {
+			switch (PathElementType.fromCode(this.types[j])) {
 			case MOVE_TO:
 				this.isMultipart = null;
 				//$FALL-THROUGH$
@@ -719,8 +754,8 @@ public class Path2i extends AbstractShape2i<Path2i>
 				if (x == this.coords[i] && y == this.coords[i + 1]) {
 					this.numCoords -= 2;
 					--this.numTypes;
-					System.arraycopy(this.coords, i + 2, this.coords, i, this.numCoords);
-					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
+					System.arraycopy(this.coords, i + 2, this.coords, i, this.numCoords - i);
+					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes - j);
 					this.isEmpty = null;
 					fireGeometryChange();
 					return true;
@@ -734,8 +769,8 @@ public class Path2i extends AbstractShape2i<Path2i>
 						|| (x == this.coords[i + 4] && y == this.coords[i + 5])) {
 					this.numCoords -= 6;
 					--this.numTypes;
-					System.arraycopy(this.coords, i + 6, this.coords, i, this.numCoords);
-					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
+					System.arraycopy(this.coords, i + 6, this.coords, i, this.numCoords - i);
+					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes - j);
 					this.isEmpty = null;
 					this.isPolyline = null;
 					fireGeometryChange();
@@ -749,8 +784,8 @@ public class Path2i extends AbstractShape2i<Path2i>
 						|| (x == this.coords[i + 2] && y == this.coords[i + 3])) {
 					this.numCoords -= 4;
 					--this.numTypes;
-					System.arraycopy(this.coords, i + 4, this.coords, i, this.numCoords);
-					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
+					System.arraycopy(this.coords, i + 4, this.coords, i, this.numCoords - i);
+					System.arraycopy(this.types, j + 1, this.types, j, this.numTypes - j);
 					this.isEmpty = null;
 					this.isPolyline = null;
 					fireGeometryChange();
@@ -787,7 +822,79 @@ public class Path2i extends AbstractShape2i<Path2i>
 	@Override
 	@Pure
 	public PathElementType getPathElementTypeAt(int index) {
-		return this.types[index];
+		return PathElementType.fromCode(this.types[index]);
+	}
+
+	/** Ensures that this path can contain at least the given number of points
+	 * without reallocating its internal buffers.
+	 *
+	 * <p>The buffers are sized for a polyline, i.e. one path element per point.
+	 * They grow geometrically when they are full, so that pre-sizing is
+	 * an optimization, not a requirement.
+	 *
+	 * @param pointCount the number of points.
+	 * @since 14.0
+	 * @see #trimToSize()
+	 */
+	public void ensureCapacity(int pointCount) {
+		assert pointCount >= 0 : AssertMessages.positiveOrZeroParameter();
+		ensureBufferCapacity(pointCount, pointCount * 2);
+	}
+
+	/** Trims the capacity of the internal buffers of this path to the current
+	 * number of path elements and coordinates.
+	 *
+	 * @since 14.0
+	 * @see #ensureCapacity(int)
+	 */
+	public void trimToSize() {
+		if (this.types.length > this.numTypes) {
+			this.types = Arrays.copyOf(this.types, this.numTypes);
+		}
+		if (this.coords.length > this.numCoords) {
+			this.coords = Arrays.copyOf(this.coords, this.numCoords);
+		}
+	}
+
+	/** Add a polyline to this path.
+	 *
+	 * <p>The first point of the polyline starts a new sub-path, as with {@link #moveTo(int, int)}.
+	 * The other points are linked with line segments, as with {@link #lineTo(int, int)}.
+	 * The coordinates are copied in one bulk operation, and the geometry change
+	 * is notified only once.
+	 *
+	 * @param coordinates the coordinates of the points, in the order x, y, x, y....
+	 * @param offset the index of the first coordinate of the polyline in the array.
+	 * @param count the number of points in the polyline.
+	 * @since 14.0
+	 */
+	public void addPolyline(int[] coordinates, int offset, int count) {
+		assert coordinates != null : AssertMessages.notNullParameter(0);
+		assert offset >= 0 : AssertMessages.positiveOrZeroParameter(1);
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter(2);
+		assert offset + count * 2 <= coordinates.length
+				: AssertMessages.tooSmallArrayParameter(0, coordinates.length, offset + count * 2);
+		if (count > 0) {
+			if (this.numTypes > 0 && this.types[this.numTypes - 1] == PathElementType.MOVE_TO.code()) {
+				// Replace the last move-to, as moveTo() does
+				--this.numTypes;
+				this.numCoords -= 2;
+			}
+			final int nbCoords = count * 2;
+			ensureBufferCapacity(this.numTypes + count, this.numCoords + nbCoords);
+			this.types[this.numTypes] = PathElementType.MOVE_TO.code();
+			Arrays.fill(this.types, this.numTypes + 1, this.numTypes + count, PathElementType.LINE_TO.code());
+			this.numTypes += count;
+			System.arraycopy(coordinates, offset, this.coords, this.numCoords, nbCoords);
+			this.numCoords += nbCoords;
+			this.isEmpty = null;
+			this.isPolyline = null;
+			this.isPolygon = null;
+			this.isMultipart = null;
+			this.graphicalBounds = null;
+			this.logicalBounds = null;
+			fireGeometryChange();
+		}
 	}
 
 }
@@ -23,10 +23,12 @@ package org.arakhne.afc.math.geometry.d3.afp;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.ToDoubleFunction;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
 import org.arakhne.afc.math.Unefficient;
+import org.arakhne.afc.math.geometry.BoundingVolumeHierarchy;
 import org.arakhne.afc.math.geometry.PathWindingRule;
 import org.arakhne.afc.math.geometry.d3.MultiShape3D;
 import org.arakhne.afc.math.geometry.d3.Point3D;
@@ -68,7 +70,7 @@ public interface MultiShape3afp<
 	default boolean intersects(Sphere3afp<?, ?, ?, ?, ?, ?> sphere) {
 		assert sphere != null : AssertMessages.notNullParameter();
 		if (sphere.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(sphere)) {
 				if (shape.intersects(sphere)) {
 					return true;
 				}
@@ -82,7 +84,7 @@ public interface MultiShape3afp<
 	default boolean intersects(RectangularPrism3afp<?, ?, ?, ?, ?, ?> prism) {
 		assert prism != null : AssertMessages.notNullParameter();
 		if (prism.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(prism)) {
 				if (shape.intersects(prism)) {
 					return true;
 				}
@@ -96,7 +98,7 @@ public interface MultiShape3afp<
 	default boolean intersects(Segment3afp<?, ?, ?, ?, ?, ?> segment) {
 		assert segment != null : AssertMessages.notNullParameter();
 		if (segment.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(segment)) {
 				if (shape.intersects(segment)) {
 					return true;
 				}
@@ -109,7 +111,19 @@ public interface MultiShape3afp<
 	@Override
 	default boolean intersects(PathIterator3afp<?> iterator) {
 		if (toBoundingBox().intersects(iterator)) {
-			for (final CT shape : getBackendDataList()) {
+			final List<CT> candidates;
+			if (getSpatialIndex() == null) {
+				candidates = getBackendDataList();
+			} else {
+				// The control points are enclosing the filled area of the path
+				final B box = getGeomFactory().newBox();
+				if (!Path3afp.computeControlPointBoundingBox(iterator.restartIterations(), box)) {
+					return false;
+				}
+				candidates = getBackendDataInBounds(box.getMinX(), box.getMinY(), box.getMinZ(),
+						box.getMaxX(), box.getMaxY(), box.getMaxZ());
+			}
+			for (final CT shape : candidates) {
 				if (shape.intersects(iterator.restartIterations())) {
 					return true;
 				}
@@ -124,8 +138,8 @@ public interface MultiShape3afp<
 	default boolean intersects(MultiShape3afp<?, ?, ?, ?, ?, ?, ?> multishape) {
 		assert multishape != null : AssertMessages.notNullParameter();
 		if (multishape.toBoundingBox().intersects(toBoundingBox())) {
-			for (final CT shape1 : getBackendDataList()) {
-				for (final Shape3afp<?, ?, ?, ?, ?, ?> shape2 : multishape.getBackendDataList()) {
+			for (final Shape3afp<?, ?, ?, ?, ?, ?> shape2 : multishape.getBackendDataList()) {
+				for (final CT shape1 : getBackendDataInBounds(shape2)) {
 					if (shape1.intersects(shape2)) {
 						return true;
 					}
@@ -139,7 +153,7 @@ public interface MultiShape3afp<
 	@Override
 	default boolean contains(double x, double y, double z) {
 		if (toBoundingBox().contains(x, y, z)) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(x, y, z, x, y, z)) {
 				if (shape.contains(x, y, z)) {
 					return true;
 				}
@@ -153,7 +167,7 @@ public interface MultiShape3afp<
 	default boolean contains(RectangularPrism3afp<?, ?, ?, ?, ?, ?> rectangularPrism) {
 		assert rectangularPrism != null : AssertMessages.notNullParameter();
 		if (rectangularPrism.intersects(toBoundingBox())) {
-			for (final CT shape : getBackendDataList()) {
+			for (final CT shape : getBackendDataInBounds(rectangularPrism)) {
 				if (shape.contains(rectangularPrism)) {
 					return true;
 				}
@@ -187,7 +201,7 @@ public interface MultiShape3afp<
 	default CT getFirstShapeIntersecting(ST shape) {
 		assert shape != null : AssertMessages.notNullParameter();
 		if (shape.intersects(toBoundingBox())) {
-			for (final CT innerShape : getBackendDataList()) {
+			for (final CT innerShape : getBackendDataInBounds(shape)) {
 				if (innerShape.intersects(shape)) {
 					return innerShape;
 				}
@@ -203,7 +217,7 @@ public interface MultiShape3afp<
 		assert shape != null : AssertMessages.notNullParameter();
 		final List<CT> list = new ArrayList<>();
 		if (shape.intersects(toBoundingBox())) {
-			for (final CT subshape : getBackendDataList()) {
+			for (final CT subshape : getBackendDataInBounds(shape)) {
 				if (subshape.intersects(shape)) {
 					list.add(subshape);
 				}
@@ -212,6 +226,247 @@ public interface MultiShape3afp<
 		return list;
 	}
 
+	@Pure
+	@Override
+	default CT getFirstShapeContaining(Point3D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		if (toBoundingBox().contains(point)) {
+			final double x = point.getX();
+			final double y = point.getY();
+			final double z = point.getZ();
+			for (final CT shape : getBackendDataInBounds(x, y, z, x, y, z)) {
+				if (shape.contains(point)) {
+					return shape;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Pure
+	@Override
+	default List<CT> getShapesContaining(Point3D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final List<CT> list = new ArrayList<>();
+		if (toBoundingBox().contains(point)) {
+			final double x = point.getX();
+			final double y = point.getY();
+			final double z = point.getZ();
+			for (final CT shape : getBackendDataInBounds(x, y, z, x, y, z)) {
+				if (shape.contains(point)) {
+					list.add(shape);
+				}
+			}
+		}
+		return list;
+	}
+
+	/** Replies the spatial index on the inner shapes of this multishape.
+	 *
+	 * <p>The index is used by the queries on this multishape for ignoring the inner shapes
+	 * with bounding boxes that are too far from the queried objects.
+	 * The default implementation replies <code>null</code>; the implementations of the multishape
+	 * may build the index with {@link #createSpatialIndex()} and store it until the inner shapes are changed.
+	 *
+	 * @return the index on the inner shapes, or <code>null</code> if the inner shapes are tested one by one.
+	 * @since 14.0
+	 */
+	@Pure
+	default BoundingVolumeHierarchy getSpatialIndex() {
+		return null;
+	}
+
+	/** Create a spatial index on the current bounding boxes of the inner shapes.
+	 *
+	 * @return the index on the inner shapes.
+	 * @since 14.0
+	 * @see #getSpatialIndex()
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:magicnumber")
+	default BoundingVolumeHierarchy createSpatialIndex() {
+		final List<CT> shapes = getBackendDataList();
+		final double[] bounds = new double[shapes.size() * 6];
+		final B box = getGeomFactory().newBox();
+		int i = 0;
+		for (final CT shape : shapes) {
+			shape.toBoundingBox(box);
+			bounds[i++] = box.getMinX();
+			bounds[i++] = box.getMinY();
+			bounds[i++] = box.getMinZ();
+			bounds[i++] = box.getMaxX();
+			bounds[i++] = box.getMaxY();
+			bounds[i++] = box.getMaxZ();
+		}
+		return new BoundingVolumeHierarchy(3, bounds, shapes.size());
+	}
+
+	/** Replies the inner shapes with bounding boxes that may intersect the given box.
+	 *
+	 * <p>The shapes are replied in the order of {@link #getBackendDataList()}. If there is no
+	 * {@link #getSpatialIndex() spatial index}, all the inner shapes are replied.
+	 *
+	 * @param minx the lower x coordinate of the box.
+	 * @param miny the lower y coordinate of the box.
+	 * @param minz the lower z coordinate of the box.
+	 * @param maxx the upper x coordinate of the box.
+	 * @param maxy the upper y coordinate of the box.
+	 * @param maxz the upper z coordinate of the box.
+	 * @return the candidate shapes.
+	 * @since 14.0
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:parameternumber")
+	default List<CT> getBackendDataInBounds(double minx, double miny, double minz, double maxx, double maxy, double maxz) {
+		final List<CT> shapes = getBackendDataList();
+		final BoundingVolumeHierarchy index = getSpatialIndex();
+		if (index == null) {
+			return shapes;
+		}
+		final int[] indexes = index.getIndexesInBounds(minx, miny, minz, maxx, maxy, maxz);
+		final List<CT> candidates = new ArrayList<>(indexes.length);
+		for (final int idx : indexes) {
+			candidates.add(shapes.get(idx));
+		}
+		return candidates;
+	}
+
+	/** Replies the inner shapes with bounding boxes that may intersect the bounding box of the given shape.
+	 *
+	 * <p>The shapes are replied in the order of {@link #getBackendDataList()}. If there is no
+	 * {@link #getSpatialIndex() spatial index}, all the inner shapes are replied.
+	 *
+	 * @param shape the shape.
+	 * @return the candidate shapes.
+	 * @since 14.0
+	 */
+	@Pure
+	default List<CT> getBackendDataInBounds(Shape3afp<?, ?, ?, ?, ?, ?> shape) {
+		if (getSpatialIndex() == null) {
+			return getBackendDataList();
+		}
+		final RectangularPrism3afp<?, ?, ?, ?, ?, ?> box = shape.toBoundingBox();
+		return getBackendDataInBounds(box.getMinX(), box.getMinY(), box.getMinZ(),
+				box.getMaxX(), box.getMaxY(), box.getMaxZ());
+	}
+
+	/** Replies the inner shape that is minimizing the given distance to a shape.
+	 *
+	 * <p>The distance function must reply a square distance between the given shape and a point
+	 * of the inner shape. If a {@link #getSpatialIndex() spatial index} is available, the distance
+	 * function is not invoked for the inner shapes with bounding boxes that are farther than the nearest
+	 * inner shape. If several inner shapes are at the same distance, the first of them is replied.
+	 *
+	 * @param shape the shape.
+	 * @param distance the square distance function.
+	 * @return the nearest inner shape, or <code>null</code> if there is no inner shape.
+	 * @since 14.0
+	 */
+	@Pure
+	default CT getNearestBackendData(Shape3afp<?, ?, ?, ?, ?, ?> shape, ToDoubleFunction<? super CT> distance) {
+		if (getSpatialIndex() == null) {
+			// The bounds are not used without spatial index
+			return getNearestBackendData(0, 0, 0, 0, 0, 0, distance);
+		}
+		final RectangularPrism3afp<?, ?, ?, ?, ?, ?> box = shape.toBoundingBox();
+		return getNearestBackendData(box.getMinX(), box.getMinY(), box.getMinZ(),
+				box.getMaxX(), box.getMaxY(), box.getMaxZ(), distance);
+	}
+
+	/** Replies the inner shape that is minimizing the given distance to a box.
+	 *
+	 * <p>The distance function must reply a value that is greater than or equal to the square distance
+	 * between the given box and the inner shape. If a {@link #getSpatialIndex() spatial index} is
+	 * available, the distance function is not invoked for the inner shapes with bounding boxes that are
+	 * farther than the nearest inner shape. If several inner shapes are at the same distance, the first
+	 * of them is replied.
+	 *
+	 * @param minx the lower x coordinate of the box.
+	 * @param miny the lower y coordinate of the box.
+	 * @param minz the lower z coordinate of the box.
+	 * @param maxx the upper x coordinate of the box.
+	 * @param maxy the upper y coordinate of the box.
+	 * @param maxz the upper z coordinate of the box.
+	 * @param distance the square distance function.
+	 * @return the nearest inner shape, or <code>null</code> if there is no inner shape.
+	 * @since 14.0
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:parameternumber")
+	default CT getNearestBackendData(double minx, double miny, double minz, double maxx, double maxy, double maxz,
+			ToDoubleFunction<? super CT> distance) {
+		final List<CT> shapes = getBackendDataList();
+		final BoundingVolumeHierarchy index = getSpatialIndex();
+		if (index == null) {
+			double min = Double.POSITIVE_INFINITY;
+			CT nearest = null;
+			for (final CT innerShape : shapes) {
+				final double dist = distance.applyAsDouble(innerShape);
+				if (dist < min) {
+					min = dist;
+					nearest = innerShape;
+				}
+			}
+			return nearest;
+		}
+		final int nearest = index.findNearest(it -> distance.applyAsDouble(shapes.get(it)),
+				minx, miny, minz, maxx, maxy, maxz);
+		return nearest < 0 ? null : shapes.get(nearest);
+	}
+
+	@Pure
+	@Override
+	default P getClosestPointTo(Point3D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final double x = point.getX();
+		final double y = point.getY();
+		final double z = point.getZ();
+		final CT nearest = getNearestBackendData(x, y, z, x, y, z, it -> it.getDistanceSquared(point));
+		return nearest == null ? null : nearest.getClosestPointTo(point);
+	}
+
+	@Pure
+	@Override
+	default double getDistanceSquared(Point3D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final double x = point.getX();
+		final double y = point.getY();
+		final double z = point.getZ();
+		final CT nearest = getNearestBackendData(x, y, z, x, y, z, it -> it.getDistanceSquared(point));
+		return nearest == null ? Double.POSITIVE_INFINITY : nearest.getDistanceSquared(point);
+	}
+
+	@Pure
+	@Override
+	default double getDistanceL1(Point3D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final double x = point.getX();
+		final double y = point.getY();
+		final double z = point.getZ();
+		// The L1 distance is never lower than the euclidian distance
+		final CT nearest = getNearestBackendData(x, y, z, x, y, z, it -> {
+			final double dist = it.getDistanceL1(point);
+			return dist * dist;
+		});
+		return nearest == null ? Double.POSITIVE_INFINITY : nearest.getDistanceL1(point);
+	}
+
+	@Pure
+	@Override
+	@SuppressWarnings("checkstyle:magicnumber")
+	default double getDistanceLinf(Point3D<?, ?> point) {
+		assert point != null : AssertMessages.notNullParameter();
+		final double x = point.getX();
+		final double y = point.getY();
+		final double z = point.getZ();
+		// The euclidian distance is never greater than the L-infinite distance multiplied by sqrt(3)
+		final CT nearest = getNearestBackendData(x, y, z, x, y, z, it -> {
+			final double dist = it.getDistanceLinf(point);
+			return 3. * dist * dist;
+		});
+		return nearest == null ? Double.POSITIVE_INFINITY : nearest.getDistanceLinf(point);
+	}
+
 	@Pure
 	@Override
 	default void toBoundingBox(B box) {
@@ -239,17 +494,10 @@ public interface MultiShape3afp<
     @Override
     default P getClosestPointTo(Sphere3afp<?, ?, ?, ?, ?, ?> circle) {
         assert circle != null : AssertMessages.notNullParameter();
-        double min = Double.POSITIVE_INFINITY;
         final P closest = getGeomFactory().newPoint();
-        P point;
-        double dist;
-        for (final CT innerShape : getBackendDataList()) {
-            point = innerShape.getClosestPointTo(circle);
-            dist = circle.getDistanceSquared(point);
-            if (dist < min) {
-                min = dist;
-                closest.set(point);
-            }
+        final CT nearest = getNearestBackendData(circle, it -> circle.getDistanceSquared(it.getClosestPointTo(circle)));
+        if (nearest != null) {
+            closest.set(nearest.getClosestPointTo(circle));
         }
         return closest;
     }
@@ -257,17 +505,10 @@ public interface MultiShape3afp<
     @Override
     default P getClosestPointTo(Segment3afp<?, ?, ?, ?, ?, ?> segment) {
         assert segment != null : AssertMessages.notNullParameter();
-        double min = Double.POSITIVE_INFINITY;
         final P closest = getGeomFactory().newPoint();
-        P point;
-        double dist;
-        for (final CT innerShape : getBackendDataList()) {
-            point = innerShape.getClosestPointTo(segment);
-            dist = segment.getDistanceSquared(point);
-            if (dist < min) {
-                min = dist;
-                closest.set(point);
-            }
+        final CT nearest = getNearestBackendData(segment, it -> segment.getDistanceSquared(it.getClosestPointTo(segment)));
+        if (nearest != null) {
+            closest.set(nearest.getClosestPointTo(segment));
         }
         return closest;
     }
@@ -275,17 +516,10 @@ public interface MultiShape3afp<
     @Override
     default P getClosestPointTo(RectangularPrism3afp<?, ?, ?, ?, ?, ?> rectangle) {
         assert rectangle != null : AssertMessages.notNullParameter();
-        double min = Double.POSITIVE_INFINITY;
         final P closest = getGeomFactory().newPoint();
-        P point;
-        double dist;
-        for (final CT innerShape : getBackendDataList()) {
-            point = innerShape.getClosestPointTo(rectangle);
-            dist = rectangle.getDistanceSquared(point);
-            if (dist < min) {
-                min = dist;
-                closest.set(point);
-            }
+        final CT nearest = getNearestBackendData(rectangle, it -> rectangle.getDistanceSquared(it.getClosestPointTo(rectangle)));
+        if (nearest != null) {
+            closest.set(nearest.getClosestPointTo(rectangle));
         }
         return closest;
     }
@@ -293,17 +527,10 @@ public interface MultiShape3afp<
     @Override
     default P getClosestPointTo(Path3afp<?, ?, ?, ?, ?, ?> path) {
         assert path != null : AssertMessages.notNullParameter();
-        double min = Double.POSITIVE_INFINITY;
         final P closest = getGeomFactory().newPoint();
-        P point;
-        double dist;
-        for (final CT innerShape : getBackendDataList()) {
-            point = innerShape.getClosestPointTo(path);
-            dist = path.getDistanceSquared(point);
-            if (dist < min) {
-                min = dist;
-                closest.set(point);
-            }
+        final CT nearest = getNearestBackendData(path, it -> path.getDistanceSquared(it.getClosestPointTo(path)));
+        if (nearest != null) {
+            closest.set(nearest.getClosestPointTo(path));
         }
         return closest;
     }
@@ -311,17 +538,11 @@ public interface MultiShape3afp<
     @Override
     default P getClosestPointTo(MultiShape3afp<?, ?, ?, ?, ?, ?, ?> multishape) {
         assert multishape != null : AssertMessages.notNullParameter();
-        double min = Double.POSITIVE_INFINITY;
         final P closest = getGeomFactory().newPoint();
-        P point;
-        double dist;
-        for (final CT innerShape : getBackendDataList()) {
-            point = innerShape.getClosestPointTo(multishape);
-            dist = multishape.getDistanceSquared(point);
-            if (dist < min) {
-                min = dist;
-                closest.set(point);
-            }
+        final CT nearest = getNearestBackendData(multishape,
+            it -> multishape.getDistanceSquared(it.getClosestPointTo(multishape)));
+        if (nearest != null) {
+            closest.set(nearest.getClosestPointTo(multishape));
         }
         return closest;
     }
@@ -106,19 +106,18 @@ public interface Path3afp<
             return 0;
         }
 
-        PathElement3afp pathElement1 = iterator.next();
-
-        if (pathElement1.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator3afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
         final GeomFactory3afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path3afp<?, ?, ?, ?, ?, ?> subPath;
-        double movx = pathElement1.getToX();
+        double movx = coords[0];
         double curx = movx;
-        double movy = pathElement1.getToY();
+        double movy = coords[1];
         double cury = movy;
-        double movz = pathElement1.getToZ();
+        double movz = coords[2];
         double curz = movz;
         int numCrossings = crossings;
         double endx;
@@ -126,22 +125,22 @@ public interface Path3afp<
         double endz;
 
         while (numCrossings != MathConstants.SHAPE_INTERSECTS && iterator.hasNext()) {
-            pathElement1 = iterator.next();
-            switch (pathElement1.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
                 // Count should always be a multiple of 2 here.
                 // assert((crossings & 1) != 0);
-                movx = pathElement1.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = pathElement1.getToY();
+                movy = coords[1];
                 cury = movy;
-                movz = pathElement1.getToZ();
+                movz = coords[2];
                 curz = movz;
                 break;
             case LINE_TO:
-                endx = pathElement1.getToX();
-                endy = pathElement1.getToY();
-                endz = pathElement1.getToZ();
+                endx = coords[0];
+                endy = coords[1];
+                endz = coords[2];
                 numCrossings = shadow.computeCrossings(numCrossings, curx, cury, curz, endx, endy, endz);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
                     return numCrossings;
@@ -151,32 +150,11 @@ public interface Path3afp<
                 curz = endz;
                 break;
             case QUAD_TO:
-                endx = pathElement1.getToX();
-                endy = pathElement1.getToY();
-                endz = pathElement1.getToZ();
-                // only for local use.
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury, curz);
-                subPath.quadTo(pathElement1.getCtrlX1(), pathElement1.getCtrlY1(), pathElement1.getCtrlZ1(), endx, endy, endz);
-                numCrossings = computeCrossingsFromPath(numCrossings,
-                        subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), shadow,
-                        CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                curz = endz;
-                break;
             case CURVE_TO:
-                endx = pathElement1.getToX();
-                endy = pathElement1.getToY();
-                endz = pathElement1.getToZ();
-                // only for local use
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury, curz);
-                subPath.curveTo(pathElement1.getCtrlX1(), pathElement1.getCtrlY1(), pathElement1.getCtrlZ1(),
-                        pathElement1.getCtrlX2(), pathElement1.getCtrlY2(), pathElement1.getCtrlZ2(), endx, endy, endz);
+                subPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, curz, coords);
+                endx = subPath.getCurrentX();
+                endy = subPath.getCurrentY();
+                endz = subPath.getCurrentZ();
                 numCrossings = computeCrossingsFromPath(numCrossings,
                         subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), shadow,
                         CrossingComputationType.STANDARD);
@@ -682,18 +660,16 @@ public interface Path3afp<
         if (!iterator.hasNext()) {
             return 0;
         }
-        PathElement3afp element;
-
-        element = iterator.next();
-        if (element.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator3afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
         final GeomFactory3afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path3afp<?, ?, ?, ?, ?, ?> subPath;
-        double movx = element.getToX();
-        double movy = element.getToY();
-        double movz = element.getToZ();
+        double movx = coords[0];
+        double movy = coords[1];
+        double movz = coords[2];
         double curx = movx;
         double cury = movy;
         double curz = movz;
@@ -702,20 +678,20 @@ public interface Path3afp<
         double endz;
         int numCrossings = crossings;
         while (iterator.hasNext()) {
-            element = iterator.next();
-            switch (element.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
-                movx = element.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = element.getToY();
+                movy = coords[1];
                 cury = movy;
-                movz = element.getToZ();
+                movz = coords[2];
                 curz = movz;
                 break;
             case LINE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                endz = element.getToZ();
+                endx = coords[0];
+                endy = coords[1];
+                endz = coords[2];
                 if (endx == px && endy == py && endz == pz) {
                     return MathConstants.SHAPE_INTERSECTS;
                 }
@@ -725,38 +701,14 @@ public interface Path3afp<
                 curz = endz;
                 break;
             case QUAD_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                endz = element.getToZ();
-                if (endx == px && endy == py && endz == pz) {
-                    return MathConstants.SHAPE_INTERSECTS;
-                }
-                // For internal use only
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury, curz);
-                subPath.quadTo(element.getCtrlX1(), element.getCtrlY1(), element.getCtrlZ1(), endx, endy, endz);
-                numCrossings = computeCrossingsFromPoint(numCrossings,
-                        subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), px, py, pz,
-                        CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                curz = endz;
-                break;
             case CURVE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                endz = element.getToZ();
+                subPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, curz, coords);
+                endx = subPath.getCurrentX();
+                endy = subPath.getCurrentY();
+                endz = subPath.getCurrentZ();
                 if (endx == px && endy == py && endz == pz) {
                     return MathConstants.SHAPE_INTERSECTS;
                 }
-                // For internal use only
-                subPath = factory.newPath(iterator.getWindingRule());
-                subPath.moveTo(curx, cury, curz);
-                subPath.curveTo(element.getCtrlX1(), element.getCtrlY1(), element.getCtrlZ1(), element.getCtrlX2(),
-                        element.getCtrlY2(), element.getCtrlZ2(), endx, endy, endz);
                 numCrossings = computeCrossingsFromPoint(numCrossings,
                         subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), px, py, pz,
                         CrossingComputationType.STANDARD);
@@ -810,6 +762,41 @@ public interface Path3afp<
         return numCrossings;
     }
 
+    /** Create a path that contains the curved element that is described by the given coordinates.
+     *
+     * @param factory the factory of the path.
+     * @param rule the winding rule of the path.
+     * @param type the type of the curved element.
+     * @param fromx the x coordinate of the starting point of the element.
+     * @param fromy the y coordinate of the starting point of the element.
+     * @param fromz the z coordinate of the starting point of the element.
+     * @param coords the coordinates of the element with the layout of {@link PathIterator3afp#next(double[])}.
+     * @return the path.
+     * @since 14.0
+     */
+    @SuppressWarnings({"checkstyle:parameternumber", "checkstyle:magicnumber"})
+    static Path3afp<?, ?, ?, ?, ?, ?> newSubPath(GeomFactory3afp<?, ?, ?, ?> factory, PathWindingRule rule,
+            PathElementType type, double fromx, double fromy, double fromz, double[] coords) {
+        final Path3afp<?, ?, ?, ?, ?, ?> subPath = factory.newPath(rule);
+        subPath.moveTo(fromx, fromy, fromz);
+        switch (type) {
+        case QUAD_TO:
+            subPath.quadTo(coords[0], coords[1], coords[2], coords[3], coords[4], coords[5]);
+            break;
+        case CURVE_TO:
+            subPath.curveTo(coords[0], coords[1], coords[2], coords[3], coords[4], coords[5],
+                    coords[6], coords[7], coords[8]);
+            break;
+        case MOVE_TO:
+        case LINE_TO:
+        case CLOSE:
+        case ARC_TO:
+        default:
+            throw new IllegalArgumentException();
+        }
+        return subPath;
+    }
+
     /**
      * Calculates the number of times the given path crosses the given circle extending to the right.
      *
@@ -840,18 +827,16 @@ public interface Path3afp<
         if (!iterator.hasNext()) {
             return 0;
         }
-        PathElement3afp element;
-
-        element = iterator.next();
-        if (element.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator3afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
         final GeomFactory3afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path3afp<?, ?, ?, ?, ?, ?> localPath;
-        double movx = element.getToX();
-        double movy = element.getToY();
-        double movz = element.getToZ();
+        double movx = coords[0];
+        double movy = coords[1];
+        double movz = coords[2];
         double curx = movx;
         double cury = movy;
         double curz = movz;
@@ -860,20 +845,20 @@ public interface Path3afp<
         double endz;
         int numCrosses = crossings;
         while (iterator.hasNext()) {
-            element = iterator.next();
-            switch (element.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
-                movx = element.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = element.getToY();
+                movy = coords[1];
                 cury = movy;
-                movz = element.getToZ();
+                movz = coords[2];
                 curz = movz;
                 break;
             case LINE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                endz = element.getToZ();
+                endx = coords[0];
+                endy = coords[1];
+                endz = coords[2];
                 numCrosses = Segment3afp.computeCrossingsFromSphere(numCrosses, cx, cy, cz, radius, curx, cury, curz, endx, endy,
                         endz);
                 if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
@@ -884,31 +869,11 @@ public interface Path3afp<
                 curz = endz;
                 break;
             case QUAD_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                endz = element.getToZ();
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(element.getFromX(), element.getFromY(), element.getFromZ());
-                localPath.quadTo(element.getCtrlX1(), element.getCtrlY1(), element.getCtrlZ1(), endx, endy, endz);
-                numCrosses = computeCrossingsFromSphere(numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), cx, cy, cz, radius,
-                        CrossingComputationType.STANDARD);
-                if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrosses;
-                }
-                curx = endx;
-                cury = endy;
-                curz = endz;
-                break;
             case CURVE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                endz = element.getToZ();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(element.getFromX(), element.getFromY(), element.getFromZ());
-                localPath.curveTo(element.getCtrlX1(), element.getCtrlY1(), element.getCtrlZ1(), element.getCtrlX2(),
-                        element.getCtrlY2(), element.getCtrlZ2(), endx, endy, endz);
+                localPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, curz, coords);
+                endx = localPath.getCurrentX();
+                endy = localPath.getCurrentY();
+                endz = localPath.getCurrentZ();
                 numCrosses = computeCrossingsFromSphere(numCrosses,
                         localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), cx, cy, cz, radius,
                         CrossingComputationType.STANDARD);
@@ -995,18 +960,16 @@ public interface Path3afp<
         if (!iterator.hasNext() || crossings == MathConstants.SHAPE_INTERSECTS) {
             return crossings;
         }
-        PathElement3afp element;
-
-        element = iterator.next();
-        if (element.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator3afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
         final GeomFactory3afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path3afp<?, ?, ?, ?, ?, ?> localPath;
-        double movx = element.getToX();
-        double movy = element.getToY();
-        double movz = element.getToZ();
+        double movx = coords[0];
+        double movy = coords[1];
+        double movz = coords[2];
         double curx = movx;
         double cury = movy;
         double curz = movz;
@@ -1015,20 +978,20 @@ public interface Path3afp<
         double endz;
         int numCrosses = crossings;
         while (numCrosses != MathConstants.SHAPE_INTERSECTS && iterator.hasNext()) {
-            element = iterator.next();
-            switch (element.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
-                movx = element.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = element.getToY();
+                movy = coords[1];
                 cury = movy;
-                movz = element.getToZ();
+                movz = coords[2];
                 curz = movz;
                 break;
             case LINE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                endz = element.getToZ();
+                endx = coords[0];
+                endy = coords[1];
+                endz = coords[2];
                 numCrosses = Segment3afp.computeCrossingsFromSegment(numCrosses, x1, y1, z1, x2, y2, z2, curx, cury, curz, endx,
                         endy, endz);
                 if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
@@ -1039,31 +1002,11 @@ public interface Path3afp<
                 curz = endz;
                 break;
             case QUAD_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                endz = element.getToZ();
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury, curz);
-                localPath.quadTo(element.getCtrlX1(), element.getCtrlY1(), element.getCtrlZ1(), endx, endy, endz);
-                numCrosses = computeCrossingsFromSegment(numCrosses,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), x1, y1, z1, x2, y2, z2,
-                        CrossingComputationType.STANDARD);
-                if (numCrosses == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrosses;
-                }
-                curx = endx;
-                cury = endy;
-                curz = endz;
-                break;
             case CURVE_TO:
-                endx = element.getToX();
-                endy = element.getToY();
-                endz = element.getToZ();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury, curz);
-                localPath.curveTo(element.getCtrlX1(), element.getCtrlY1(), element.getCtrlZ1(), element.getCtrlX2(),
-                        element.getCtrlY2(), element.getCtrlZ2(), endx, endy, endz);
+                localPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, curz, coords);
+                endx = localPath.getCurrentX();
+                endy = localPath.getCurrentY();
+                endz = localPath.getCurrentZ();
                 numCrosses = computeCrossingsFromSegment(numCrosses,
                         localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), x1, y1, z1, x2, y2, z2,
                         CrossingComputationType.STANDARD);
@@ -1155,19 +1098,18 @@ public interface Path3afp<
             return 0;
         }
 
-        PathElement3afp pathElement = iterator.next();
-
-        if (pathElement.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator3afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
         final GeomFactory3afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path3afp<?, ?, ?, ?, ?, ?> localPath;
-        double movx = pathElement.getToX();
+        double movx = coords[0];
         double curx = movx;
-        double movy = pathElement.getToY();
+        double movy = coords[1];
         double cury = movy;
-        double movz = pathElement.getToZ();
+        double movz = coords[2];
         double curz = movz;
         int numCrossings = crossings;
 
@@ -1176,22 +1118,22 @@ public interface Path3afp<
         double endz;
 
         while (numCrossings != MathConstants.SHAPE_INTERSECTS && iterator.hasNext()) {
-            pathElement = iterator.next();
-            switch (pathElement.getType()) {
+            final PathElementType elementType = iterator.next(coords);
+            switch (elementType) {
             case MOVE_TO:
                 // Count should always be a multiple of 2 here.
                 // assert((crossings & 1) != 0);
-                movx = pathElement.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = pathElement.getToY();
+                movy = coords[1];
                 cury = movy;
-                movz = pathElement.getToZ();
+                movz = coords[2];
                 curz = movz;
                 break;
             case LINE_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                endz = pathElement.getToZ();
+                endx = coords[0];
+                endy = coords[1];
+                endz = coords[2];
                 numCrossings = Segment3afp.computeCrossingsFromRect(numCrossings, rxmin, rymin, rzmin, rxmax, rymax, rzmax, curx,
                         cury, curz, endx, endy, endz);
                 if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
@@ -1202,32 +1144,11 @@ public interface Path3afp<
                 curz = endz;
                 break;
             case QUAD_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                endz = pathElement.getToZ();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury, curz);
-                localPath.quadTo(pathElement.getCtrlX1(), pathElement.getCtrlY1(), pathElement.getCtrlZ1(), endx, endy, endz);
-                numCrossings = computeCrossingsFromRect(numCrossings,
-                        localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), rxmin, rymin, rzmin, rxmax, rymax,
-                        rzmax, CrossingComputationType.STANDARD);
-                if (numCrossings == MathConstants.SHAPE_INTERSECTS) {
-                    return numCrossings;
-                }
-                curx = endx;
-                cury = endy;
-                curz = endz;
-                break;
             case CURVE_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                endz = pathElement.getToZ();
-                // for internal use only
-                localPath = factory.newPath(iterator.getWindingRule());
-                localPath.moveTo(curx, cury, curz);
-                localPath.curveTo(pathElement.getCtrlX1(), pathElement.getCtrlY1(), pathElement.getCtrlZ1(),
-                        pathElement.getCtrlX2(), pathElement.getCtrlY2(), pathElement.getCtrlZ2(), endx, endy, endz);
+                localPath = newSubPath(factory, iterator.getWindingRule(), elementType, curx, cury, curz, coords);
+                endx = localPath.getCurrentX();
+                endy = localPath.getCurrentY();
+                endz = localPath.getCurrentZ();
                 numCrossings = computeCrossingsFromRect(numCrossings,
                         localPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO), rxmin, rymin, rzmin, rxmax, rymax,
                         rzmax, CrossingComputationType.STANDARD);
@@ -1302,6 +1223,7 @@ public interface Path3afp<
         assert iterator != null : AssertMessages.notNullParameter(0);
         assert box != null : AssertMessages.notNullParameter(1);
         final GeomFactory3afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
+        final double[] coords = new double[PathIterator3afp.CURSOR_ARRAY_SIZE];
         boolean foundOneLine = false;
         double xmin = Double.POSITIVE_INFINITY;
         double ymin = Double.POSITIVE_INFINITY;
@@ -1309,111 +1231,63 @@ public interface Path3afp<
         double xmax = Double.NEGATIVE_INFINITY;
         double ymax = Double.NEGATIVE_INFINITY;
         double zmax = Double.NEGATIVE_INFINITY;
-        PathElement3afp element;
+        double curx = 0.;
+        double cury = 0.;
+        double curz = 0.;
+        double movx = 0.;
+        double movy = 0.;
+        double movz = 0.;
         Path3afp<?, ?, ?, ?, ?, ?> subPath;
-        RectangularPrism3afp<?, ?, ?, ?, ?, ?> subBox;
+        RectangularPrism3afp<?, ?, ?, ?, ?, ?> subBox = null;
         while (iterator.hasNext()) {
-            element = iterator.next();
-            switch (element.getType()) {
+            final PathElementType type = iterator.next(coords);
+            switch (type) {
             case LINE_TO:
-                if (element.getFromX() < xmin) {
-                    xmin = element.getFromX();
-                }
-                if (element.getFromY() < ymin) {
-                    ymin = element.getFromY();
-                }
-                if (element.getFromZ() < zmin) {
-                    zmin = element.getFromZ();
-                }
-                if (element.getFromX() > xmax) {
-                    xmax = element.getFromX();
-                }
-                if (element.getFromY() > ymax) {
-                    ymax = element.getFromY();
-                }
-                if (element.getFromZ() > zmax) {
-                    zmax = element.getFromZ();
-                }
-                if (element.getToX() < xmin) {
-                    xmin = element.getToX();
-                }
-                if (element.getToY() < ymin) {
-                    ymin = element.getToY();
-                }
-                if (element.getToZ() < zmin) {
-                    zmin = element.getToZ();
-                }
-                if (element.getToX() > xmax) {
-                    xmax = element.getToX();
-                }
-                if (element.getToY() > ymax) {
-                    ymax = element.getToY();
-                }
-                if (element.getToZ() > zmax) {
-                    zmax = element.getToZ();
-                }
+                xmin = Math.min(xmin, Math.min(curx, coords[0]));
+                ymin = Math.min(ymin, Math.min(cury, coords[1]));
+                zmin = Math.min(zmin, Math.min(curz, coords[2]));
+                xmax = Math.max(xmax, Math.max(curx, coords[0]));
+                ymax = Math.max(ymax, Math.max(cury, coords[1]));
+                zmax = Math.max(zmax, Math.max(curz, coords[2]));
+                curx = coords[0];
+                cury = coords[1];
+                curz = coords[2];
                 foundOneLine = true;
                 break;
             case CURVE_TO:
-                subPath = factory.newPath(iterator.getWindingRule());
-                subBox = factory.newBox();
-                subPath.moveTo(element.getFromX(), element.getFromY(), element.getFromZ());
-                subPath.curveTo(element.getCtrlX1(), element.getCtrlY1(), element.getCtrlZ1(), element.getCtrlX2(),
-                        element.getCtrlY2(), element.getCtrlZ2(), element.getToX(), element.getToY(), element.getToZ());
-                if (computeDrawableElementBoundingBox(subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
-                        subBox)) {
-                    if (subBox.getMinX() < xmin) {
-                        xmin = subBox.getMinX();
-                    }
-                    if (subBox.getMinY() < ymin) {
-                        ymin = subBox.getMinY();
-                    }
-                    if (subBox.getMinZ() < zmin) {
-                        zmin = subBox.getMinZ();
-                    }
-                    if (subBox.getMaxX() > xmax) {
-                        xmax = subBox.getMaxX();
-                    }
-                    if (subBox.getMaxY() > ymax) {
-                        ymax = subBox.getMaxY();
-                    }
-                    if (subBox.getMaxZ() > zmax) {
-                        zmax = subBox.getMaxZ();
-                    }
-                    foundOneLine = true;
-                }
-                break;
             case QUAD_TO:
-                subPath = factory.newPath(iterator.getWindingRule());
-                subBox = factory.newBox();
-                subPath.moveTo(element.getFromX(), element.getFromY(), element.getFromZ());
-                subPath.quadTo(element.getCtrlX1(), element.getCtrlY1(), element.getCtrlZ1(), element.getToX(), element.getToY(),
-                        element.getToZ());
-                if (computeDrawableElementBoundingBox(subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
+                subPath = newSubPath(factory, iterator.getWindingRule(), type, curx, cury, curz, coords);
+                if (subBox == null) {
+                    subBox = factory.newBox();
+                }
+                if (computeDrawableElementBoundingBox(
+                        subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO),
                         subBox)) {
-                    if (subBox.getMinX() < xmin) {
-                        xmin = subBox.getMinX();
-                    }
-                    if (subBox.getMinY() < ymin) {
-                        ymin = subBox.getMinY();
-                    }
-                    if (subBox.getMinZ() < zmin) {
-                        zmin = subBox.getMinZ();
-                    }
-                    if (subBox.getMaxX() > xmax) {
-                        xmax = subBox.getMaxX();
-                    }
-                    if (subBox.getMaxY() > ymax) {
-                        ymax = subBox.getMaxY();
-                    }
-                    if (subBox.getMaxZ() > zmax) {
-                        zmax = subBox.getMaxZ();
-                    }
+                    xmin = Math.min(xmin, subBox.getMinX());
+                    ymin = Math.min(ymin, subBox.getMinY());
+                    zmin = Math.min(zmin, subBox.getMinZ());
+                    xmax = Math.max(xmax, subBox.getMaxX());
+                    ymax = Math.max(ymax, subBox.getMaxY());
+                    zmax = Math.max(zmax, subBox.getMaxZ());
                     foundOneLine = true;
                 }
+                curx = subPath.getCurrentX();
+                cury = subPath.getCurrentY();
+                curz = subPath.getCurrentZ();
                 break;
             case MOVE_TO:
+                movx = coords[0];
+                movy = coords[1];
+                movz = coords[2];
+                curx = movx;
+                cury = movy;
+                curz = movz;
+                break;
             case CLOSE:
+                curx = movx;
+                cury = movy;
+                curz = movz;
+                break;
             case ARC_TO:
             default:
             }
@@ -1441,7 +1315,7 @@ public interface Path3afp<
      * @see #computeDrawableElementBoundingBox(PathIterator3afp, RectangularPrism3afp)
      */
     @SuppressWarnings({"checkstyle:parameternumber", "checkstyle:cyclomaticcomplexity",
-            "checkstyle:npathcomplexity"})
+            "checkstyle:npathcomplexity", "checkstyle:magicnumber"})
     static boolean computeControlPointBoundingBox(PathIterator3afp<?> iterator, RectangularPrism3afp<?, ?, ?, ?, ?, ?> box) {
         assert iterator != null : AssertMessages.notNullParameter(0);
         assert box != null : AssertMessages.notNullParameter(1);
@@ -1452,186 +1326,61 @@ public interface Path3afp<
         double xmax = Double.NEGATIVE_INFINITY;
         double ymax = Double.NEGATIVE_INFINITY;
         double zmax = Double.NEGATIVE_INFINITY;
-        PathElement3afp element;
+        final double[] coords = new double[PathIterator3afp.CURSOR_ARRAY_SIZE];
+        double curx = 0.;
+        double cury = 0.;
+        double curz = 0.;
+        double movx = 0.;
+        double movy = 0.;
+        double movz = 0.;
         while (iterator.hasNext()) {
-            element = iterator.next();
-            switch (element.getType()) {
+            final PathElementType type = iterator.next(coords);
+            final int count;
+            switch (type) {
             case LINE_TO:
-                if (element.getFromX() < xmin) {
-                    xmin = element.getFromX();
-                }
-                if (element.getFromY() < ymin) {
-                    ymin = element.getFromY();
-                }
-                if (element.getFromZ() < zmin) {
-                    zmin = element.getFromZ();
-                }
-                if (element.getFromX() > xmax) {
-                    xmax = element.getFromX();
-                }
-                if (element.getFromY() > ymax) {
-                    ymax = element.getFromY();
-                }
-                if (element.getFromZ() > zmax) {
-                    zmax = element.getFromZ();
-                }
-                if (element.getToX() < xmin) {
-                    xmin = element.getToX();
-                }
-                if (element.getToY() < ymin) {
-                    ymin = element.getToY();
-                }
-                if (element.getToZ() < zmin) {
-                    zmin = element.getToZ();
-                }
-                if (element.getToX() > xmax) {
-                    xmax = element.getToX();
-                }
-                if (element.getToY() > ymax) {
-                    ymax = element.getToY();
-                }
-                if (element.getToZ() > zmax) {
-                    zmax = element.getToZ();
-                }
-                foundOneControlPoint = true;
-                break;
-            case CURVE_TO:
-                if (element.getFromX() < xmin) {
-                    xmin = element.getFromX();
-                }
-                if (element.getFromY() < ymin) {
-                    ymin = element.getFromY();
-                }
-                if (element.getFromZ() < zmin) {
-                    zmin = element.getFromZ();
-                }
-                if (element.getFromX() > xmax) {
-                    xmax = element.getFromX();
-                }
-                if (element.getFromY() > ymax) {
-                    ymax = element.getFromY();
-                }
-                if (element.getFromZ() > zmax) {
-                    zmax = element.getFromZ();
-                }
-                if (element.getCtrlX1() < xmin) {
-                    xmin = element.getCtrlX1();
-                }
-                if (element.getCtrlY1() < ymin) {
-                    ymin = element.getCtrlY1();
-                }
-                if (element.getCtrlZ1() < zmin) {
-                    zmin = element.getCtrlZ1();
-                }
-                if (element.getCtrlX1() > xmax) {
-                    xmax = element.getCtrlX1();
-                }
-                if (element.getCtrlY1() > ymax) {
-                    ymax = element.getCtrlY1();
-                }
-                if (element.getCtrlZ1() > zmax) {
-                    zmax = element.getCtrlZ1();
-                }
-                if (element.getCtrlX2() < xmin) {
-                    xmin = element.getCtrlX2();
-                }
-                if (element.getCtrlY2() < ymin) {
-                    ymin = element.getCtrlY2();
-                }
-                if (element.getCtrlZ2() < zmin) {
-                    zmin = element.getCtrlZ2();
-                }
-                if (element.getCtrlX2() > xmax) {
-                    xmax = element.getCtrlX2();
-                }
-                if (element.getCtrlY2() > ymax) {
-                    ymax = element.getCtrlY2();
-                }
-                if (element.getCtrlZ2() > zmax) {
-                    zmax = element.getCtrlZ2();
-                }
-                if (element.getToX() < xmin) {
-                    xmin = element.getToX();
-                }
-                if (element.getToY() < ymin) {
-                    ymin = element.getToY();
-                }
-                if (element.getToZ() < zmin) {
-                    zmin = element.getToZ();
-                }
-                if (element.getToX() > xmax) {
-                    xmax = element.getToX();
-                }
-                if (element.getToY() > ymax) {
-                    ymax = element.getToY();
-                }
-                if (element.getToZ() > zmax) {
-                    zmax = element.getToZ();
-                }
-                foundOneControlPoint = true;
+                count = 3;
                 break;
             case QUAD_TO:
-                if (element.getFromX() < xmin) {
-                    xmin = element.getFromX();
-                }
-                if (element.getFromY() < ymin) {
-                    ymin = element.getFromY();
-                }
-                if (element.getFromZ() < zmin) {
-                    zmin = element.getFromZ();
-                }
-                if (element.getFromX() > xmax) {
-                    xmax = element.getFromX();
-                }
-                if (element.getFromY() > ymax) {
-                    ymax = element.getFromY();
-                }
-                if (element.getFromZ() > zmax) {
-                    zmax = element.getFromZ();
-                }
-                if (element.getCtrlX1() < xmin) {
-                    xmin = element.getCtrlX1();
-                }
-                if (element.getCtrlY1() < ymin) {
-                    ymin = element.getCtrlY1();
-                }
-                if (element.getCtrlZ1() < zmin) {
-                    zmin = element.getCtrlZ1();
-                }
-                if (element.getCtrlX1() > xmax) {
-                    xmax = element.getCtrlX1();
-                }
-                if (element.getCtrlY1() > ymax) {
-                    ymax = element.getCtrlY1();
-                }
-                if (element.getCtrlZ1() > zmax) {
-                    zmax = element.getCtrlZ1();
-                }
-                if (element.getToX() < xmin) {
-                    xmin = element.getToX();
-                }
-                if (element.getToY() < ymin) {
-                    ymin = element.getToY();
-                }
-                if (element.getToZ() < zmin) {
-                    zmin = element.getToZ();
-                }
-                if (element.getToX() > xmax) {
-                    xmax = element.getToX();
-                }
-                if (element.getToY() > ymax) {
-                    ymax = element.getToY();
-                }
-                if (element.getToZ() > zmax) {
-                    zmax = element.getToZ();
-                }
-                foundOneControlPoint = true;
+                count = 6;
+                break;
+            case CURVE_TO:
+                count = 9;
                 break;
             case MOVE_TO:
+                movx = coords[0];
+                movy = coords[1];
+                movz = coords[2];
+                curx = movx;
+                cury = movy;
+                curz = movz;
+                continue;
             case CLOSE:
+                curx = movx;
+                cury = movy;
+                curz = movz;
+                continue;
             case ARC_TO:
             default:
+                continue;
+            }
+            xmin = Math.min(xmin, curx);
+            ymin = Math.min(ymin, cury);
+            zmin = Math.min(zmin, curz);
+            xmax = Math.max(xmax, curx);
+            ymax = Math.max(ymax, cury);
+            zmax = Math.max(zmax, curz);
+            for (int i = 0; i < count; i += 3) {
+                xmin = Math.min(xmin, coords[i]);
+                ymin = Math.min(ymin, coords[i + 1]);
+                zmin = Math.min(zmin, coords[i + 2]);
+                xmax = Math.max(xmax, coords[i]);
+                ymax = Math.max(ymax, coords[i + 1]);
+                zmax = Math.max(zmax, coords[i + 2]);
             }
+            curx = coords[count - 3];
+            cury = coords[count - 2];
+            curz = coords[count - 1];
+            foundOneControlPoint = true;
         }
         if (foundOneControlPoint) {
             box.setFromCorners(xmin, ymin, zmin, xmax, ymax, zmax);
@@ -1648,75 +1397,60 @@ public interface Path3afp<
      *            the iterator on the path elements.
      * @return the squared length of the path.
      */
+    @SuppressWarnings("checkstyle:magicnumber")
     static double computeLength(PathIterator3afp<?> iterator) {
         assert iterator != null : AssertMessages.notNullParameter();
-        PathElement3afp pathElement = iterator.next();
-
-        if (pathElement.getType() != PathElementType.MOVE_TO) {
+        final double[] coords = new double[PathIterator3afp.CURSOR_ARRAY_SIZE];
+        if (iterator.next(coords) != PathElementType.MOVE_TO) {
             throw new IllegalArgumentException(Locale.getString("E1")); //$NON-NLS-1$
         }
 
         // only for internal use
         final GeomFactory3afp<?, ?, ?, ?> factory = iterator.getGeomFactory();
         Path3afp<?, ?, ?, ?, ?, ?> subPath;
-        double movx = pathElement.getToX();
+        double movx = coords[0];
         double curx = movx;
-        double movy = pathElement.getToY();
+        double movy = coords[1];
         double cury =  movy;
-        double movz = pathElement.getToZ();
+        double movz = coords[2];
         double curz = movz;
 
         double length = 0;
 
-        double endx;
-        double endy;
-        double endz;
-
         while (iterator.hasNext()) {
-            pathElement = iterator.next();
-
-            switch (pathElement.getType()) {
+            switch (iterator.next(coords)) {
             case MOVE_TO:
-                movx = pathElement.getToX();
+                movx = coords[0];
                 curx = movx;
-                movy = pathElement.getToY();
+                movy = coords[1];
                 cury = movy;
-                movz = pathElement.getToZ();
+                movz = coords[2];
                 curz = movz;
                 break;
             case LINE_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                endz = pathElement.getToZ();
-                length += Point3D.getDistancePointPoint(curx, cury, curz, endx, endy, endz);
-                curx = endx;
-                cury = endy;
-                curz = endz;
+                length += Point3D.getDistancePointPoint(curx, cury, curz, coords[0], coords[1], coords[2]);
+                curx = coords[0];
+                cury = coords[1];
+                curz = coords[2];
                 break;
             case QUAD_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                endz = pathElement.getToZ();
                 subPath = factory.newPath(iterator.getWindingRule());
                 subPath.moveTo(curx, cury, curz);
-                subPath.quadTo(pathElement.getCtrlX1(), pathElement.getCtrlY1(), pathElement.getCtrlZ1(), endx, endy, endz);
+                subPath.quadTo(coords[0], coords[1], coords[2], coords[3], coords[4], coords[5]);
                 length += computeLength(subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO));
-                curx = endx;
-                cury = endy;
-                curz = endz;
+                curx = coords[3];
+                cury = coords[4];
+                curz = coords[5];
                 break;
             case CURVE_TO:
-                endx = pathElement.getToX();
-                endy = pathElement.getToY();
-                endz = pathElement.getToZ();
                 subPath = factory.newPath(iterator.getWindingRule());
                 subPath.moveTo(curx, cury, curz);
-                subPath.curveTo(pathElement.getCtrlX1(), pathElement.getCtrlY1(), pathElement.getCtrlZ1(),
-                        pathElement.getCtrlX2(), pathElement.getCtrlY2(), pathElement.getCtrlZ2(), endx, endy, endz);
+                subPath.curveTo(coords[0], coords[1], coords[2], coords[3], coords[4], coords[5],
+                        coords[6], coords[7], coords[8]);
                 length += computeLength(subPath.getPathIterator(MathConstants.SPLINE_APPROXIMATION_RATIO));
-                curx = endx;
-                cury = endy;
-                curz = endz;
+                curx = coords[6];
+                cury = coords[7];
+                curz = coords[8];
                 break;
             case CLOSE:
                 if (curx != movx || cury != movy || curz != movz) {
@@ -1729,9 +1463,7 @@ public interface Path3afp<
             case ARC_TO:
             default:
             }
-
         }
-
         return length;
     }
 
@@ -2265,7 +1997,7 @@ public interface Path3afp<
             T element = null;
             switch (path.getPathElementTypeAt(type)) {
             case MOVE_TO:
-                if ((this.coordIndex + 2) > (getPath().size() * 2)) {
+                if ((this.coordIndex + 3) > (getPath().size() * 3)) {
                     throw new NoSuchElementException();
                 }
                 this.movex = path.getCoordAt(this.coordIndex++);
@@ -2282,7 +2014,7 @@ public interface Path3afp<
                 this.p2.set(path.getCoordAt(this.coordIndex++), path.getCoordAt(this.coordIndex++),
                         path.getCoordAt(this.coordIndex++));
                 element = getGeomFactory().newLinePathElement(this.p1.getX(), this.p1.getY(), this.p1.getZ(), this.p2.getX(),
-                        this.p2.getY(), this.p1.getZ());
+                        this.p2.getY(), this.p2.getZ());
                 break;
             case QUAD_TO:
                 if ((this.coordIndex + 6) > (path.size() * 3)) {
@@ -2295,7 +2027,7 @@ public interface Path3afp<
                 this.p2.set(path.getCoordAt(this.coordIndex++), path.getCoordAt(this.coordIndex++),
                         path.getCoordAt(this.coordIndex++));
                 element = getGeomFactory().newCurvePathElement(this.p1.getX(), this.p1.getY(), this.p1.getZ(), ctrlx, ctrly,
-                        ctrlz, this.p2.getX(), this.p2.getY(), this.p1.getZ());
+                        ctrlz, this.p2.getX(), this.p2.getY(), this.p2.getZ());
                 break;
             case CURVE_TO:
                 if ((this.coordIndex + 9) > (path.size() * 3)) {
@@ -2320,6 +2052,7 @@ public interface Path3afp<
                         this.p2.getY(), this.p2.getZ());
                 break;
             case ARC_TO:
+                throw new IllegalStateException();
             default:
             }
             if (element == null) {
@@ -2331,6 +2064,49 @@ public interface Path3afp<
             return element;
         }
 
+        @Override
+        @SuppressWarnings("checkstyle:magicnumber")
+        public PathElementType next(double[] coords) {
+            assert coords != null && coords.length >= CURSOR_ARRAY_SIZE
+                    : AssertMessages.tooSmallArrayParameter(coords == null ? 0 : coords.length, CURSOR_ARRAY_SIZE);
+            final Path3afp<?, ?, T, ?, ?, ?> path = getPath();
+            if (this.typeIndex >= path.getPathElementCount()) {
+                throw new NoSuchElementException();
+            }
+            final PathElementType type = path.getPathElementTypeAt(this.typeIndex);
+            switch (type) {
+            case MOVE_TO:
+            case LINE_TO:
+            case QUAD_TO:
+            case CURVE_TO:
+                final int count = type == PathElementType.QUAD_TO ? 6 : (type == PathElementType.CURVE_TO ? 9 : 3);
+                if ((this.coordIndex + count) > (path.size() * 3)) {
+                    throw new NoSuchElementException();
+                }
+                for (int i = 0; i < count; ++i) {
+                    coords[i] = path.getCoordAt(this.coordIndex++);
+                }
+                if (type == PathElementType.MOVE_TO) {
+                    this.movex = coords[0];
+                    this.movey = coords[1];
+                    this.movez = coords[2];
+                }
+                this.p2.set(coords[count - 3], coords[count - 2], coords[count - 1]);
+                break;
+            case CLOSE:
+                coords[0] = this.movex;
+                coords[1] = this.movey;
+                coords[2] = this.movez;
+                this.p2.set(this.movex, this.movey, this.movez);
+                break;
+            case ARC_TO:
+            default:
+                throw new IllegalStateException();
+            }
+            ++this.typeIndex;
+            return type;
+        }
+
     }
 
     /**
@@ -2450,6 +2226,7 @@ public interface Path3afp<
                         this.p2.getY(), this.p2.getZ());
                 break;
             case ARC_TO:
+                throw new IllegalStateException();
             default:
             }
             if (element == null) {
@@ -2458,6 +2235,55 @@ public interface Path3afp<
             return element;
         }
 
+        @Override
+        @SuppressWarnings("checkstyle:magicnumber")
+        public PathElementType next(double[] coords) {
+            assert coords != null && coords.length >= CURSOR_ARRAY_SIZE
+                    : AssertMessages.tooSmallArrayParameter(coords == null ? 0 : coords.length, CURSOR_ARRAY_SIZE);
+            final Path3afp<?, ?, T, ?, ?, ?> path = getPath();
+            if (this.typeIndex >= path.getPathElementCount()) {
+                throw new NoSuchElementException();
+            }
+            final PathElementType type = path.getPathElementTypeAt(this.typeIndex++);
+            final int count;
+            switch (type) {
+            case MOVE_TO:
+                this.movex = path.getCoordAt(this.coordIndex++);
+                this.movey = path.getCoordAt(this.coordIndex++);
+                this.movez = path.getCoordAt(this.coordIndex++);
+                transform(coords, 0, this.movex, this.movey, this.movez);
+                count = 3;
+                break;
+            case CLOSE:
+                transform(coords, 0, this.movex, this.movey, this.movez);
+                count = 3;
+                break;
+            case LINE_TO:
+            case QUAD_TO:
+            case CURVE_TO:
+                count = type == PathElementType.LINE_TO ? 3 : (type == PathElementType.QUAD_TO ? 6 : 9);
+                for (int i = 0; i < count; i += 3) {
+                    transform(coords, i, path.getCoordAt(this.coordIndex++), path.getCoordAt(this.coordIndex++),
+                            path.getCoordAt(this.coordIndex++));
+                }
+                break;
+            case ARC_TO:
+            default:
+                throw new IllegalStateException();
+            }
+            this.p2.set(coords[count - 3], coords[count - 2], coords[count - 1]);
+            return type;
+        }
+
+        @SuppressWarnings("checkstyle:magicnumber")
+        private void transform(double[] coords, int index, double x, double y, double z) {
+            this.ptmp1.set(x, y, z);
+            this.transform.transform(this.ptmp1);
+            coords[index] = this.ptmp1.getX();
+            coords[index + 1] = this.ptmp1.getY();
+            coords[index + 2] = this.ptmp1.getZ();
+        }
+
     }
 
     /**
@@ -2803,9 +2629,7 @@ public interface Path3afp<
                     this.done = true;
                     return;
                 }
-                final T pathElement = this.pathIterator.next();
-                this.holdType = pathElement.getType();
-                pathElement.toArray(this.hold);
+                this.holdType = this.pathIterator.next(this.hold);
                 this.levelIndex = 0;
                 this.levels[0] = 0;
             }
@@ -2967,6 +2791,33 @@ public interface Path3afp<
             return element;
         }
 
+        @Override
+        public PathElementType next(double[] coords) {
+            assert coords != null && coords.length >= CURSOR_ARRAY_SIZE
+                    : AssertMessages.tooSmallArrayParameter(coords == null ? 0 : coords.length, CURSOR_ARRAY_SIZE);
+            if (this.done) {
+                throw new NoSuchElementException();
+            }
+            final PathElementType type = this.holdType;
+            final PathElementType replied;
+            if (type != PathElementType.CLOSE) {
+                this.lastNextX = this.hold[this.holdIndex + 0];
+                this.lastNextY = this.hold[this.holdIndex + 1];
+                this.lastNextZ = this.hold[this.holdIndex + 2];
+                replied = type == PathElementType.MOVE_TO ? type : PathElementType.LINE_TO;
+            } else {
+                this.lastNextX = this.moveX;
+                this.lastNextY = this.moveY;
+                this.lastNextZ = this.moveZ;
+                replied = type;
+            }
+            coords[0] = this.lastNextX;
+            coords[1] = this.lastNextY;
+            coords[2] = this.lastNextZ;
+            searchNext();
+            return replied;
+        }
+
         @Override
         public void remove() {
             throw new UnsupportedOperationException();
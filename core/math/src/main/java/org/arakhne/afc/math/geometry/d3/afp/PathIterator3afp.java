@@ -20,6 +20,7 @@
 
 package org.arakhne.afc.math.geometry.d3.afp;
 
+import org.arakhne.afc.math.geometry.PathElementType;
 import org.arakhne.afc.math.geometry.d3.PathIterator3D;
 
 
@@ -34,6 +35,12 @@ import org.arakhne.afc.math.geometry.d3.PathIterator3D;
  */
 public interface PathIterator3afp<T extends PathElement3afp> extends PathIterator3D<T>, Cloneable {
 
+	/** Minimal size of the arrays that are given to {@link #next(double[])}.
+	 *
+	 * @since 14.0
+	 */
+	int CURSOR_ARRAY_SIZE = 9;
+
 	/** Replies the factory of geometrical elements.
 	 *
 	 * @return the factory.
@@ -43,4 +50,26 @@ public interface PathIterator3afp<T extends PathElement3afp> extends PathIterato
 	@Override
 	PathIterator3afp<T> restartIterations();
 
+	/** Move to the next path element and copy its coordinates into the given array,
+	 * without creating a path element.
+	 *
+	 * <p>The starting point of the element is not copied. The layout of the array is:<ul>
+	 * <li>{@link PathElementType#MOVE_TO}, {@link PathElementType#LINE_TO}, {@link PathElementType#CLOSE}:
+	 *     toX, toY, toZ;</li>
+	 * <li>{@link PathElementType#QUAD_TO}: ctrlX, ctrlY, ctrlZ, toX, toY, toZ;</li>
+	 * <li>{@link PathElementType#CURVE_TO}: ctrlX1, ctrlY1, ctrlZ1, ctrlX2, ctrlY2, ctrlZ2, toX, toY, toZ.</li>
+	 * </ul>
+	 *
+	 * <p>The default implementation copies the element that is replied by {@link #next()}.
+	 *
+	 * @param coords the array that receives the coordinates. Its size must be at least {@link #CURSOR_ARRAY_SIZE}.
+	 * @return the type of the path element.
+	 * @since 14.0
+	 */
+	default PathElementType next(double[] coords) {
+		final T element = next();
+		element.toArray(coords);
+		return element.getType();
+	}
+
 }
@@ -1088,11 +1088,11 @@ public interface Segment3afp<
 		final double wx = s1x1 - s2x1;
 		final double wy = s1y1 - s2y1;
 		final double wz = s1z1 - s2z1;
-		final double a = Vector2D.dotProduct(ux, uy, ux, uy);
-		final double b = Vector2D.dotProduct(ux, uy, vx, vy);
-		final double c = Vector2D.dotProduct(vx, vy, vx, vy);
-		final double d = Vector2D.dotProduct(ux, uy, wx, wy);
-		final double e = Vector2D.dotProduct(vx, vy, wx, wy);
+		final double a = Vector3D.dotProduct(ux, uy, uz, ux, uy, uz);
+		final double b = Vector3D.dotProduct(ux, uy, uz, vx, vy, vz);
+		final double c = Vector3D.dotProduct(vx, vy, vz, vx, vy, vz);
+		final double d = Vector3D.dotProduct(ux, uy, uz, wx, wy, wz);
+		final double e = Vector3D.dotProduct(vx, vy, vz, wx, wy, wz);
 		final double bigD = a * c - b * b;
 		double svD = bigD;
 		double tvD = bigD;
@@ -175,6 +175,7 @@ public interface Shape3afp<
 	@Pure
 	@Unefficient
 	@Override
+	@SuppressWarnings("checkstyle:npathcomplexity")
 	default boolean intersects(Shape3D<?, ?, ?, ?, ?, ?> shape) {
 		if (shape instanceof MultiShape3afp) {
 			return intersects((MultiShape3afp<?, ?, ?, ?, ?, ?, ?>) shape);
@@ -194,6 +195,9 @@ public interface Shape3afp<
 		if (shape instanceof Segment3afp) {
 			return intersects((Segment3afp<?, ?, ?, ?, ?, ?>) shape);
 		}
+		if (shape instanceof TriangleMesh3afp) {
+			return ((TriangleMesh3afp<?, ?, ?, ?, ?, ?>) shape).intersects(this);
+		}
 		return intersects(getPathIterator());
 	}
 
@@ -276,6 +280,9 @@ public interface Shape3afp<
         if (shape instanceof Segment3afp) {
             return getDistanceSquared((Segment3afp<?, ?, ?, ?, ?, ?>) shape);
         }
+        if (shape instanceof TriangleMesh3afp) {
+            return ((TriangleMesh3afp<?, ?, ?, ?, ?, ?>) shape).getDistanceSquared(this);
+        }
         throw new IllegalArgumentException();
     }
 
@@ -0,0 +1,1190 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d3.afp;
+
+import java.util.NoSuchElementException;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.MathConstants;
+import org.arakhne.afc.math.MathUtil;
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.math.geometry.d3.Point3D;
+import org.arakhne.afc.math.geometry.d3.Shape3D;
+import org.arakhne.afc.math.geometry.d3.Transform3D;
+import org.arakhne.afc.math.geometry.d3.Vector3D;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Fonctional interface that represented an indexed triangle mesh on a plane.
+ *
+ * <p>The mesh is a set of triangles. The triangles are defined by the indexes of their three
+ * vertices in the array of the vertices of the mesh. The mesh is a surface: it does not enclose
+ * any volume, even if it is closed.
+ *
+ * <p>The geometric queries on the mesh are answered by a {@link TriangleMeshBvh3afp
+ * bounding-volume hierarchy} that is replied by {@link #getBoundingVolumeHierarchy()}.
+ *
+ * @param <ST> is the type of the general implementation.
+ * @param <IT> is the type of the implementation of this shape.
+ * @param <IE> is the type of the path elements.
+ * @param <P> is the type of the points.
+ * @param <V> is the type of the vectors.
+ * @param <B> is the type of the bounding boxes.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public interface TriangleMesh3afp<
+		ST extends Shape3afp<?, ?, IE, P, V, B>,
+		IT extends TriangleMesh3afp<?, ?, IE, P, V, B>,
+		IE extends PathElement3afp,
+		P extends Point3D<? super P, ? super V>,
+		V extends Vector3D<? super V, ? super P>,
+		B extends RectangularPrism3afp<?, ?, IE, P, V, B>>
+		extends Shape3afp<ST, IT, IE, P, V, B> {
+
+	/** Compute the intersection between a ray and a triangle.
+	 *
+	 * <p>The triangle is two-sided. A ray that is parallel to the plane of the triangle
+	 * does not intersect it.
+	 *
+	 * @param ox x coordinate of the origin of the ray.
+	 * @param oy y coordinate of the origin of the ray.
+	 * @param oz z coordinate of the origin of the ray.
+	 * @param dx x coordinate of the direction of the ray.
+	 * @param dy y coordinate of the direction of the ray.
+	 * @param dz z coordinate of the direction of the ray.
+	 * @param ax x coordinate of the first vertex of the triangle.
+	 * @param ay y coordinate of the first vertex of the triangle.
+	 * @param az z coordinate of the first vertex of the triangle.
+	 * @param bx x coordinate of the second vertex of the triangle.
+	 * @param by y coordinate of the second vertex of the triangle.
+	 * @param bz z coordinate of the second vertex of the triangle.
+	 * @param cx x coordinate of the third vertex of the triangle.
+	 * @param cy y coordinate of the third vertex of the triangle.
+	 * @param cz z coordinate of the third vertex of the triangle.
+	 * @return the factor {@code t} of the intersection point {@code o + t * d} on the line of the ray,
+	 *     or {@link Double#NaN} if the line does not cross the triangle. The factor may be negative.
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:parameternumber")
+	static double computeRayTriangleIntersectionFactor(
+			double ox, double oy, double oz, double dx, double dy, double dz,
+			double ax, double ay, double az, double bx, double by, double bz, double cx, double cy, double cz) {
+		// Moller-Trumbore algorithm
+		final double e1x = bx - ax;
+		final double e1y = by - ay;
+		final double e1z = bz - az;
+		final double e2x = cx - ax;
+		final double e2y = cy - ay;
+		final double e2z = cz - az;
+		final double px = dy * e2z - dz * e2y;
+		final double py = dz * e2x - dx * e2z;
+		final double pz = dx * e2y - dy * e2x;
+		final double det = e1x * px + e1y * py + e1z * pz;
+		if (det == 0.) {
+			return Double.NaN;
+		}
+		final double inv = 1. / det;
+		final double sx = ox - ax;
+		final double sy = oy - ay;
+		final double sz = oz - az;
+		final double u = (sx * px + sy * py + sz * pz) * inv;
+		if (u < 0. || u > 1.) {
+			return Double.NaN;
+		}
+		final double qx = sy * e1z - sz * e1y;
+		final double qy = sz * e1x - sx * e1z;
+		final double qz = sx * e1y - sy * e1x;
+		final double v = (dx * qx + dy * qy + dz * qz) * inv;
+		if (v < 0. || u + v > 1.) {
+			return Double.NaN;
+		}
+		return (e2x * qx + e2y * qy + e2z * qz) * inv;
+	}
+
+	/** Compute the point on a triangle that is the closest to the given point.
+	 *
+	 * @param ax x coordinate of the first vertex of the triangle.
+	 * @param ay y coordinate of the first vertex of the triangle.
+	 * @param az z coordinate of the first vertex of the triangle.
+	 * @param bx x coordinate of the second vertex of the triangle.
+	 * @param by y coordinate of the second vertex of the triangle.
+	 * @param bz z coordinate of the second vertex of the triangle.
+	 * @param cx x coordinate of the third vertex of the triangle.
+	 * @param cy y coordinate of the third vertex of the triangle.
+	 * @param cz z coordinate of the third vertex of the triangle.
+	 * @param px x coordinate of the point.
+	 * @param py y coordinate of the point.
+	 * @param pz z coordinate of the point.
+	 * @param result the closest point on the triangle.
+	 * @return the square distance between the point and the triangle.
+	 */
+	@Pure
+	@SuppressWarnings({"checkstyle:parameternumber", "checkstyle:magicnumber", "checkstyle:returncount",
+		"checkstyle:npathcomplexity",
+		"checkstyle:cyclomaticcomplexity", "checkstyle:booleanexpressioncomplexity"})
+	static double computeClosestPointTrianglePoint(
+			double ax, double ay, double az, double bx, double by, double bz, double cx, double cy, double cz,
+			double px, double py, double pz, Point3D<?, ?> result) {
+		assert result != null : AssertMessages.notNullParameter(12);
+		// Voronoi regions of the triangle, see Ericson, Real-Time Collision Detection, 5.1.5
+		final double abx = bx - ax;
+		final double aby = by - ay;
+		final double abz = bz - az;
+		final double acx = cx - ax;
+		final double acy = cy - ay;
+		final double acz = cz - az;
+		final double d1 = abx * (px - ax) + aby * (py - ay) + abz * (pz - az);
+		final double d2 = acx * (px - ax) + acy * (py - ay) + acz * (pz - az);
+		final double d3 = abx * (px - bx) + aby * (py - by) + abz * (pz - bz);
+		final double d4 = acx * (px - bx) + acy * (py - by) + acz * (pz - bz);
+		final double d5 = abx * (px - cx) + aby * (py - cy) + abz * (pz - cz);
+		final double d6 = acx * (px - cx) + acy * (py - cy) + acz * (pz - cz);
+		final double va = d3 * d6 - d5 * d4;
+		final double vb = d5 * d2 - d1 * d6;
+		final double vc = d1 * d4 - d3 * d2;
+		if (d1 <= 0. && d2 <= 0.) {
+			result.set(ax, ay, az);
+		} else if (d3 >= 0. && d4 <= d3) {
+			result.set(bx, by, bz);
+		} else if (d6 >= 0. && d5 <= d6) {
+			result.set(cx, cy, cz);
+		} else if (vc <= 0. && d1 >= 0. && d3 <= 0.) {
+			final double factor = d1 / (d1 - d3);
+			result.set(ax + factor * abx, ay + factor * aby, az + factor * abz);
+		} else if (vb <= 0. && d2 >= 0. && d6 <= 0.) {
+			final double factor = d2 / (d2 - d6);
+			result.set(ax + factor * acx, ay + factor * acy, az + factor * acz);
+		} else if (va <= 0. && d4 >= d3 && d5 >= d6) {
+			final double factor = (d4 - d3) / ((d4 - d3) + (d5 - d6));
+			result.set(bx + factor * (cx - bx), by + factor * (cy - by), bz + factor * (cz - bz));
+		} else {
+			final double denom = va + vb + vc;
+			if (denom == 0.) {
+				// Degenerated triangle: (va, vb, vc) are not barycentric coordinates
+				Segment3afp.computeClosestPointToPoint(bx, by, bz, cx, cy, cz, px, py, pz, result);
+			} else {
+				final double v = vb / denom;
+				final double w = vc / denom;
+				result.set(ax + abx * v + acx * w, ay + aby * v + acy * w, az + abz * v + acz * w);
+			}
+		}
+		return Point3D.getDistanceSquaredPointPoint(px, py, pz, result.getX(), result.getY(), result.getZ());
+	}
+
+	/** Replies if a triangle and a sphere are intersecting.
+	 *
+	 * @param ax x coordinate of the first vertex of the triangle.
+	 * @param ay y coordinate of the first vertex of the triangle.
+	 * @param az z coordinate of the first vertex of the triangle.
+	 * @param bx x coordinate of the second vertex of the triangle.
+	 * @param by y coordinate of the second vertex of the triangle.
+	 * @param bz z coordinate of the second vertex of the triangle.
+	 * @param cx x coordinate of the third vertex of the triangle.
+	 * @param cy y coordinate of the third vertex of the triangle.
+	 * @param cz z coordinate of the third vertex of the triangle.
+	 * @param sx x coordinate of the center of the sphere.
+	 * @param sy y coordinate of the center of the sphere.
+	 * @param sz z coordinate of the center of the sphere.
+	 * @param radius the radius of the sphere.
+	 * @return <code>true</code> if the two shapes are intersecting; otherwise <code>false</code>.
+	 */
+	@Pure
+	@SuppressWarnings({"checkstyle:parameternumber", "checkstyle:magicnumber"})
+	static boolean intersectsTriangleSphere(
+			double ax, double ay, double az, double bx, double by, double bz, double cx, double cy, double cz,
+			double sx, double sy, double sz, double radius) {
+		assert radius >= 0. : AssertMessages.positiveOrZeroParameter(12);
+		final Point3D<?, ?> closest = new InnerComputationPoint3afp();
+		return computeClosestPointTrianglePoint(ax, ay, az, bx, by, bz, cx, cy, cz, sx, sy, sz, closest)
+				<= radius * radius;
+	}
+
+	/** Replies if a triangle and an axis-aligned rectangular prism are intersecting.
+	 *
+	 * <p>This function is based on the separating axis theorem: the two shapes are disjoint if
+	 * their projections on one of the normals of the prism, the normal of the triangle, or one of the
+	 * cross products of the edges of the two shapes are disjoint.
+	 *
+	 * @param ax x coordinate of the first vertex of the triangle.
+	 * @param ay y coordinate of the first vertex of the triangle.
+	 * @param az z coordinate of the first vertex of the triangle.
+	 * @param bx x coordinate of the second vertex of the triangle.
+	 * @param by y coordinate of the second vertex of the triangle.
+	 * @param bz z coordinate of the second vertex of the triangle.
+	 * @param cx x coordinate of the third vertex of the triangle.
+	 * @param cy y coordinate of the third vertex of the triangle.
+	 * @param cz z coordinate of the third vertex of the triangle.
+	 * @param minx the minimum x coordinate of the prism.
+	 * @param miny the minimum y coordinate of the prism.
+	 * @param minz the minimum z coordinate of the prism.
+	 * @param maxx the maximum x coordinate of the prism.
+	 * @param maxy the maximum y coordinate of the prism.
+	 * @param maxz the maximum z coordinate of the prism.
+	 * @return <code>true</code> if the two shapes are intersecting; otherwise <code>false</code>.
+	 */
+	@Pure
+	@SuppressWarnings({"checkstyle:parameternumber", "checkstyle:magicnumber"})
+	static boolean intersectsTrianglePrism(
+			double ax, double ay, double az, double bx, double by, double bz, double cx, double cy, double cz,
+			double minx, double miny, double minz, double maxx, double maxy, double maxz) {
+		assert minx <= maxx : AssertMessages.lowerEqualParameters(9, minx, 12, maxx);
+		assert miny <= maxy : AssertMessages.lowerEqualParameters(10, miny, 13, maxy);
+		assert minz <= maxz : AssertMessages.lowerEqualParameters(11, minz, 14, maxz);
+		final double hx = (maxx - minx) / 2.;
+		final double hy = (maxy - miny) / 2.;
+		final double hz = (maxz - minz) / 2.;
+		final double ox = (minx + maxx) / 2.;
+		final double oy = (miny + maxy) / 2.;
+		final double oz = (minz + maxz) / 2.;
+		// Vertices relatively to the center of the prism
+		final double[] vertices = {ax - ox, ay - oy, az - oz, bx - ox, by - oy, bz - oz, cx - ox, cy - oy, cz - oz};
+		final double[] edges = {bx - ax, by - ay, bz - az, cx - bx, cy - by, cz - bz, ax - cx, ay - cy, az - cz};
+		// The 13 separating axes: 3 normals of the prism, 9 cross products, and the normal of the triangle
+		final double[] axes = new double[13 * 3];
+		axes[0] = 1.;
+		axes[4] = 1.;
+		axes[8] = 1.;
+		for (int i = 0; i < 9; i += 3) {
+			for (int k = 0; k < 3; ++k) {
+				final int offset = 9 + i * 3 + k * 3;
+				// unit_k x edge
+				axes[offset + (k + 1) % 3] = -edges[i + (k + 2) % 3];
+				axes[offset + (k + 2) % 3] = edges[i + (k + 1) % 3];
+			}
+		}
+		axes[36] = edges[1] * edges[5] - edges[2] * edges[4];
+		axes[37] = edges[2] * edges[3] - edges[0] * edges[5];
+		axes[38] = edges[0] * edges[4] - edges[1] * edges[3];
+		for (int i = 0; i < axes.length; i += 3) {
+			final double p0 = axes[i] * vertices[0] + axes[i + 1] * vertices[1] + axes[i + 2] * vertices[2];
+			final double p1 = axes[i] * vertices[3] + axes[i + 1] * vertices[4] + axes[i + 2] * vertices[5];
+			final double p2 = axes[i] * vertices[6] + axes[i + 1] * vertices[7] + axes[i + 2] * vertices[8];
+			final double r = hx * Math.abs(axes[i]) + hy * Math.abs(axes[i + 1]) + hz * Math.abs(axes[i + 2]);
+			if (MathUtil.min(p0, p1, p2) > r || MathUtil.max(p0, p1, p2) < -r) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** Compute a point that is inside a triangle and inside an axis-aligned rectangular prism.
+	 *
+	 * <p>The triangle is clipped by the six planes of the prism, and the first vertex of the
+	 * clipped polygon is replied.
+	 *
+	 * @param ax x coordinate of the first vertex of the triangle.
+	 * @param ay y coordinate of the first vertex of the triangle.
+	 * @param az z coordinate of the first vertex of the triangle.
+	 * @param bx x coordinate of the second vertex of the triangle.
+	 * @param by y coordinate of the second vertex of the triangle.
+	 * @param bz z coordinate of the second vertex of the triangle.
+	 * @param cx x coordinate of the third vertex of the triangle.
+	 * @param cy y coordinate of the third vertex of the triangle.
+	 * @param cz z coordinate of the third vertex of the triangle.
+	 * @param minx the minimum x coordinate of the prism.
+	 * @param miny the minimum y coordinate of the prism.
+	 * @param minz the minimum z coordinate of the prism.
+	 * @param maxx the maximum x coordinate of the prism.
+	 * @param maxy the maximum y coordinate of the prism.
+	 * @param maxz the maximum z coordinate of the prism.
+	 * @param result the point in the two shapes. It is not changed if the shapes are not intersecting.
+	 * @return <code>true</code> if the two shapes are intersecting; otherwise <code>false</code>.
+	 */
+	@SuppressWarnings({"checkstyle:parameternumber", "checkstyle:magicnumber"})
+	static boolean computeTrianglePrismIntersectionPoint(
+			double ax, double ay, double az, double bx, double by, double bz, double cx, double cy, double cz,
+			double minx, double miny, double minz, double maxx, double maxy, double maxz, Point3D<?, ?> result) {
+		assert result != null : AssertMessages.notNullParameter(15);
+		final double[] planes = {minx, miny, minz, maxx, maxy, maxz};
+		// A triangle that is clipped by six planes has at most nine vertices
+		double[] polygon = new double[9 * 3];
+		double[] clipped = new double[9 * 3];
+		polygon[0] = ax;
+		polygon[1] = ay;
+		polygon[2] = az;
+		polygon[3] = bx;
+		polygon[4] = by;
+		polygon[5] = bz;
+		polygon[6] = cx;
+		polygon[7] = cy;
+		polygon[8] = cz;
+		int count = 3;
+		for (int plane = 0; plane < planes.length && count > 0; ++plane) {
+			final int axis = plane % 3;
+			final double sign = plane < 3 ? 1. : -1.;
+			int size = 0;
+			for (int i = 0; i < count; ++i) {
+				final int current = i * 3;
+				final int next = ((i + 1) % count) * 3;
+				final double currentSide = sign * (polygon[current + axis] - planes[plane]);
+				final double nextSide = sign * (polygon[next + axis] - planes[plane]);
+				if (currentSide >= 0.) {
+					System.arraycopy(polygon, current, clipped, size * 3, 3);
+					++size;
+				}
+				if ((currentSide >= 0.) != (nextSide >= 0.)) {
+					final double factor = currentSide / (currentSide - nextSide);
+					for (int k = 0; k < 3; ++k) {
+						clipped[size * 3 + k] = polygon[current + k] + factor * (polygon[next + k] - polygon[current + k]);
+					}
+					// Remove the rounding error on the clipping axis
+					clipped[size * 3 + axis] = planes[plane];
+					++size;
+				}
+			}
+			final double[] tmp = polygon;
+			polygon = clipped;
+			clipped = tmp;
+			count = size;
+		}
+		if (count > 0) {
+			result.set(polygon[0], polygon[1], polygon[2]);
+			return true;
+		}
+		return false;
+	}
+
+	/** Compute the point on a triangle that is the closest to a segment.
+	 *
+	 * @param ax x coordinate of the first vertex of the triangle.
+	 * @param ay y coordinate of the first vertex of the triangle.
+	 * @param az z coordinate of the first vertex of the triangle.
+	 * @param bx x coordinate of the second vertex of the triangle.
+	 * @param by y coordinate of the second vertex of the triangle.
+	 * @param bz z coordinate of the second vertex of the triangle.
+	 * @param cx x coordinate of the third vertex of the triangle.
+	 * @param cy y coordinate of the third vertex of the triangle.
+	 * @param cz z coordinate of the third vertex of the triangle.
+	 * @param sx1 x coordinate of the first point of the segment.
+	 * @param sy1 y coordinate of the first point of the segment.
+	 * @param sz1 z coordinate of the first point of the segment.
+	 * @param sx2 x coordinate of the second point of the segment.
+	 * @param sy2 y coordinate of the second point of the segment.
+	 * @param sz2 z coordinate of the second point of the segment.
+	 * @param result the closest point on the triangle.
+	 * @return the square distance between the triangle and the segment.
+	 */
+	@SuppressWarnings({"checkstyle:parameternumber", "checkstyle:magicnumber"})
+	static double computeClosestPointTriangleSegment(
+			double ax, double ay, double az, double bx, double by, double bz, double cx, double cy, double cz,
+			double sx1, double sy1, double sz1, double sx2, double sy2, double sz2, Point3D<?, ?> result) {
+		assert result != null : AssertMessages.notNullParameter(15);
+		final double factor = computeRayTriangleIntersectionFactor(sx1, sy1, sz1, sx2 - sx1, sy2 - sy1, sz2 - sz1,
+				ax, ay, az, bx, by, bz, cx, cy, cz);
+		if (factor >= 0. && factor <= 1.) {
+			result.set(sx1 + factor * (sx2 - sx1), sy1 + factor * (sy2 - sy1), sz1 + factor * (sz2 - sz1));
+			return 0.;
+		}
+		final Point3D<?, ?> tmp = new InnerComputationPoint3afp();
+		double best = computeClosestPointTrianglePoint(ax, ay, az, bx, by, bz, cx, cy, cz, sx1, sy1, sz1, result);
+		double distance = computeClosestPointTrianglePoint(ax, ay, az, bx, by, bz, cx, cy, cz, sx2, sy2, sz2, tmp);
+		if (distance < best) {
+			best = distance;
+			result.set(tmp);
+		}
+		final double[] triangle = {ax, ay, az, bx, by, bz, cx, cy, cz};
+		for (int i = 0; i < triangle.length; i += 3) {
+			final int j = (i + 3) % triangle.length;
+			distance = Segment3afp.computeClosestPointToSegment(
+					triangle[i], triangle[i + 1], triangle[i + 2], triangle[j], triangle[j + 1], triangle[j + 2],
+					sx1, sy1, sz1, sx2, sy2, sz2, tmp);
+			if (distance < best) {
+				best = distance;
+				result.set(tmp);
+			}
+		}
+		return best;
+	}
+
+	/** Compute the point on a triangle that is the closest to an axis-aligned rectangular prism.
+	 *
+	 * <p>The distance between the two convex shapes is reached between a vertex of one shape and
+	 * the other shape, or between two edges.
+	 *
+	 * @param ax x coordinate of the first vertex of the triangle.
+	 * @param ay y coordinate of the first vertex of the triangle.
+	 * @param az z coordinate of the first vertex of the triangle.
+	 * @param bx x coordinate of the second vertex of the triangle.
+	 * @param by y coordinate of the second vertex of the triangle.
+	 * @param bz z coordinate of the second vertex of the triangle.
+	 * @param cx x coordinate of the third vertex of the triangle.
+	 * @param cy y coordinate of the third vertex of the triangle.
+	 * @param cz z coordinate of the third vertex of the triangle.
+	 * @param minx the minimum x coordinate of the prism.
+	 * @param miny the minimum y coordinate of the prism.
+	 * @param minz the minimum z coordinate of the prism.
+	 * @param maxx the maximum x coordinate of the prism.
+	 * @param maxy the maximum y coordinate of the prism.
+	 * @param maxz the maximum z coordinate of the prism.
+	 * @param result the closest point on the triangle.
+	 * @return the square distance between the triangle and the prism.
+	 */
+	@SuppressWarnings({"checkstyle:parameternumber", "checkstyle:magicnumber", "checkstyle:npathcomplexity"})
+	static double computeClosestPointTrianglePrism(
+			double ax, double ay, double az, double bx, double by, double bz, double cx, double cy, double cz,
+			double minx, double miny, double minz, double maxx, double maxy, double maxz, Point3D<?, ?> result) {
+		if (computeTrianglePrismIntersectionPoint(ax, ay, az, bx, by, bz, cx, cy, cz,
+				minx, miny, minz, maxx, maxy, maxz, result)) {
+			return 0.;
+		}
+		final double[] triangle = {ax, ay, az, bx, by, bz, cx, cy, cz};
+		final double[] prism = {minx, miny, minz, maxx, maxy, maxz};
+		final Point3D<?, ?> tmp = new InnerComputationPoint3afp();
+		double best = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < triangle.length; i += 3) {
+			RectangularPrism3afp.computeClosestPointRectanglePoint(minx, miny, minz, maxx, maxy, maxz,
+					triangle[i], triangle[i + 1], triangle[i + 2], tmp);
+			final double distance = Point3D.getDistanceSquaredPointPoint(
+					tmp.getX(), tmp.getY(), tmp.getZ(), triangle[i], triangle[i + 1], triangle[i + 2]);
+			if (distance < best) {
+				best = distance;
+				result.set(triangle[i], triangle[i + 1], triangle[i + 2]);
+			}
+		}
+		// The corner of the prism is given by the bits of its index: bit k set for the maximum on axis k
+		for (int corner = 0; corner < 8; ++corner) {
+			final double x = prism[(corner & 1) * 3];
+			final double y = prism[((corner >> 1) & 1) * 3 + 1];
+			final double z = prism[((corner >> 2) & 1) * 3 + 2];
+			double distance = computeClosestPointTrianglePoint(ax, ay, az, bx, by, bz, cx, cy, cz, x, y, z, tmp);
+			if (distance < best) {
+				best = distance;
+				result.set(tmp);
+			}
+			for (int axis = 0; axis < 3; ++axis) {
+				if ((corner & (1 << axis)) == 0) {
+					// Edge of the prism from the corner along the axis
+					final double x2 = axis == 0 ? maxx : x;
+					final double y2 = axis == 1 ? maxy : y;
+					final double z2 = axis == 2 ? maxz : z;
+					for (int i = 0; i < triangle.length; i += 3) {
+						final int j = (i + 3) % triangle.length;
+						distance = Segment3afp.computeClosestPointToSegment(
+								triangle[i], triangle[i + 1], triangle[i + 2], triangle[j], triangle[j + 1], triangle[j + 2],
+								x, y, z, x2, y2, z2, tmp);
+						if (distance < best) {
+							best = distance;
+							result.set(tmp);
+						}
+					}
+				}
+			}
+		}
+		return best;
+	}
+
+	/** Replies the number of vertices in the mesh.
+	 *
+	 * @return the number of vertices.
+	 */
+	@Pure
+	int getVertexCount();
+
+	/** Replies the x coordinate of a vertex.
+	 *
+	 * @param index the index of the vertex.
+	 * @return the x coordinate.
+	 */
+	@Pure
+	double getVertexX(int index);
+
+	/** Replies the y coordinate of a vertex.
+	 *
+	 * @param index the index of the vertex.
+	 * @return the y coordinate.
+	 */
+	@Pure
+	double getVertexY(int index);
+
+	/** Replies the z coordinate of a vertex.
+	 *
+	 * @param index the index of the vertex.
+	 * @return the z coordinate.
+	 */
+	@Pure
+	double getVertexZ(int index);
+
+	/** Replies the number of triangles in the mesh.
+	 *
+	 * @return the number of triangles.
+	 */
+	@Pure
+	int getTriangleCount();
+
+	/** Replies the index of a vertex of a triangle.
+	 *
+	 * @param triangle the index of the triangle.
+	 * @param corner the index of the vertex in the triangle, from 0 to 2.
+	 * @return the index of the vertex in the mesh.
+	 */
+	@Pure
+	int getTriangleVertex(int triangle, int corner);
+
+	/** Replies the bounding-volume hierarchy on the triangles of this mesh.
+	 *
+	 * <p>The hierarchy may be cached by the implementation until the next change of the mesh.
+	 *
+	 * @return the hierarchy.
+	 */
+	@Pure
+	TriangleMeshBvh3afp getBoundingVolumeHierarchy();
+
+	/** Change the vertices and the triangles of the mesh.
+	 *
+	 * @param vertices the coordinates of the vertices, three values per vertex.
+	 * @param indexes the indexes of the vertices of the triangles, three values per triangle.
+	 */
+	void set(double[] vertices, int[] indexes);
+
+	@Override
+	default void set(IT shape) {
+		assert shape != null : AssertMessages.notNullParameter();
+		final int vertexCount = shape.getVertexCount();
+		final double[] vertices = new double[vertexCount * 3];
+		for (int i = 0; i < vertexCount; ++i) {
+			vertices[i * 3] = shape.getVertexX(i);
+			vertices[i * 3 + 1] = shape.getVertexY(i);
+			vertices[i * 3 + 2] = shape.getVertexZ(i);
+		}
+		final int triangleCount = shape.getTriangleCount();
+		final int[] indexes = new int[triangleCount * 3];
+		for (int i = 0; i < triangleCount; ++i) {
+			for (int k = 0; k < 3; ++k) {
+				indexes[i * 3 + k] = shape.getTriangleVertex(i, k);
+			}
+		}
+		set(vertices, indexes);
+	}
+
+	@Override
+	default void clear() {
+		set(new double[0], new int[0]);
+	}
+
+	@Pure
+	@Override
+	default boolean isEmpty() {
+		return getTriangleCount() == 0;
+	}
+
+	@Pure
+	@Override
+	default boolean equalsToShape(IT shape) {
+		if (shape == null) {
+			return false;
+		}
+		if (shape == this) {
+			return true;
+		}
+		final int triangleCount = getTriangleCount();
+		if (triangleCount != shape.getTriangleCount()) {
+			return false;
+		}
+		for (int i = 0; i < triangleCount; ++i) {
+			for (int k = 0; k < 3; ++k) {
+				final int vertex1 = getTriangleVertex(i, k);
+				final int vertex2 = shape.getTriangleVertex(i, k);
+				if (getVertexX(vertex1) != shape.getVertexX(vertex2)
+						|| getVertexY(vertex1) != shape.getVertexY(vertex2)
+						|| getVertexZ(vertex1) != shape.getVertexZ(vertex2)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	default void toBoundingBox(B box) {
+		assert box != null : AssertMessages.notNullParameter();
+		final TriangleMeshBvh3afp hierarchy = getBoundingVolumeHierarchy();
+		if (hierarchy.isEmpty()) {
+			box.clear();
+		} else {
+			box.setFromCorners(hierarchy.getMinX(), hierarchy.getMinY(), hierarchy.getMinZ(),
+					hierarchy.getMaxX(), hierarchy.getMaxY(), hierarchy.getMaxZ());
+		}
+	}
+
+	@Pure
+	@Override
+	default PathIterator3afp<IE> getPathIterator(Transform3D transform) {
+		return new TriangleMeshPathIterator<>(this, transform);
+	}
+
+	/** Replies if the given point is on the surface of the mesh.
+	 *
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 * @param z z coordinate of the point.
+	 * @return <code>true</code> if the point is on a triangle of the mesh.
+	 */
+	@Pure
+	@Override
+	default boolean contains(double x, double y, double z) {
+		final Point3D<?, ?> closest = new InnerComputationPoint3afp();
+		return MathUtil.isEpsilonZero(getBoundingVolumeHierarchy().computeClosestPointToPoint(x, y, z, closest));
+	}
+
+	/** Replies if the given rectangular prism is inside the mesh.
+	 *
+	 * <p>The mesh is a surface; it does not contain any rectangular prism.
+	 *
+	 * @param rectangularPrism the rectangular prism.
+	 * @return <code>false</code>.
+	 */
+	@Pure
+	@Override
+	default boolean contains(RectangularPrism3afp<?, ?, ?, ?, ?, ?> rectangularPrism) {
+		assert rectangularPrism != null : AssertMessages.notNullParameter();
+		return false;
+	}
+
+	@Pure
+	@Override
+	default P getFarthestPointTo(Point3D<?, ?> pt) {
+		assert pt != null : AssertMessages.notNullParameter();
+		// The farthest point on a triangle is one of its vertices
+		final P point = getGeomFactory().newPoint();
+		double best = Double.NEGATIVE_INFINITY;
+		final int triangleCount = getTriangleCount();
+		for (int i = 0; i < triangleCount; ++i) {
+			for (int k = 0; k < 3; ++k) {
+				final int vertex = getTriangleVertex(i, k);
+				final double distance = Point3D.getDistanceSquaredPointPoint(
+						pt.getX(), pt.getY(), pt.getZ(), getVertexX(vertex), getVertexY(vertex), getVertexZ(vertex));
+				if (distance > best) {
+					best = distance;
+					point.set(getVertexX(vertex), getVertexY(vertex), getVertexZ(vertex));
+				}
+			}
+		}
+		return point;
+	}
+
+	@Pure
+	@Override
+	default double getDistanceL1(Point3D<?, ?> pt) {
+		assert pt != null : AssertMessages.notNullParameter();
+		return getClosestPointTo(pt).getDistanceL1(pt);
+	}
+
+	@Pure
+	@Override
+	default double getDistanceLinf(Point3D<?, ?> pt) {
+		assert pt != null : AssertMessages.notNullParameter();
+		return getClosestPointTo(pt).getDistanceLinf(pt);
+	}
+
+	@Override
+	default void translate(double dx, double dy, double dz) {
+		final int vertexCount = getVertexCount();
+		final double[] vertices = new double[vertexCount * 3];
+		for (int i = 0; i < vertexCount; ++i) {
+			vertices[i * 3] = getVertexX(i) + dx;
+			vertices[i * 3 + 1] = getVertexY(i) + dy;
+			vertices[i * 3 + 2] = getVertexZ(i) + dz;
+		}
+		final int triangleCount = getTriangleCount();
+		final int[] indexes = new int[triangleCount * 3];
+		for (int i = 0; i < triangleCount; ++i) {
+			for (int k = 0; k < 3; ++k) {
+				indexes[i * 3 + k] = getTriangleVertex(i, k);
+			}
+		}
+		set(vertices, indexes);
+	}
+
+	/** Compute the first intersection between a ray and this mesh.
+	 *
+	 * @param origin the origin of the ray.
+	 * @param direction the direction of the ray.
+	 * @param maxFactor the maximal factor of the direction from the origin, e.g. {@code 1} for
+	 *     a segment, or {@link Double#POSITIVE_INFINITY} for a ray.
+	 * @return the factor {@code t} of the first intersection point {@code origin + t * direction},
+	 *     or {@link Double#POSITIVE_INFINITY} if the ray does not intersect the mesh.
+	 */
+	@Pure
+	default double castRay(Point3D<?, ?> origin, Vector3D<?, ?> direction, double maxFactor) {
+		assert origin != null : AssertMessages.notNullParameter(0);
+		assert direction != null : AssertMessages.notNullParameter(1);
+		return getBoundingVolumeHierarchy().castRay(origin.getX(), origin.getY(), origin.getZ(),
+				direction.getX(), direction.getY(), direction.getZ(), maxFactor);
+	}
+
+	/** Replies if a ray intersects this mesh.
+	 *
+	 * <p>This function stops at the first found intersection; it is faster than
+	 * {@link #castRay(Point3D, Vector3D, double)} for the visibility tests.
+	 *
+	 * @param origin the origin of the ray.
+	 * @param direction the direction of the ray.
+	 * @param maxFactor the maximal factor of the direction from the origin, e.g. {@code 1} for
+	 *     a segment, or {@link Double#POSITIVE_INFINITY} for a ray.
+	 * @return <code>true</code> if the ray intersects the mesh.
+	 */
+	@Pure
+	default boolean intersectsRay(Point3D<?, ?> origin, Vector3D<?, ?> direction, double maxFactor) {
+		assert origin != null : AssertMessages.notNullParameter(0);
+		assert direction != null : AssertMessages.notNullParameter(1);
+		return getBoundingVolumeHierarchy().intersectsRay(origin.getX(), origin.getY(), origin.getZ(),
+				direction.getX(), direction.getY(), direction.getZ(), maxFactor);
+	}
+
+	@Pure
+	@Override
+	default boolean intersects(Shape3D<?, ?, ?, ?, ?, ?> shape) {
+		if (shape instanceof TriangleMesh3afp) {
+			return intersects((TriangleMesh3afp<?, ?, ?, ?, ?, ?>) shape);
+		}
+		return Shape3afp.super.intersects(shape);
+	}
+
+	@Pure
+	@Override
+	default boolean intersects(Sphere3afp<?, ?, ?, ?, ?, ?> sphere) {
+		assert sphere != null : AssertMessages.notNullParameter();
+		return getBoundingVolumeHierarchy().intersectsSphere(sphere.getX(), sphere.getY(), sphere.getZ(),
+				sphere.getRadius());
+	}
+
+	@Pure
+	@Override
+	default boolean intersects(RectangularPrism3afp<?, ?, ?, ?, ?, ?> prism) {
+		assert prism != null : AssertMessages.notNullParameter();
+		return getBoundingVolumeHierarchy().intersectsPrism(prism.getMinX(), prism.getMinY(), prism.getMinZ(),
+				prism.getMaxX(), prism.getMaxY(), prism.getMaxZ());
+	}
+
+	@Pure
+	@Override
+	default boolean intersects(Segment3afp<?, ?, ?, ?, ?, ?> segment) {
+		assert segment != null : AssertMessages.notNullParameter();
+		return getBoundingVolumeHierarchy().intersectsSegment(segment.getX1(), segment.getY1(), segment.getZ1(),
+				segment.getX2(), segment.getY2(), segment.getZ2());
+	}
+
+	/** Replies if the given path intersects this mesh.
+	 *
+	 * <p>The path is considered as a polyline: its curves are flattened, and
+	 * the area of a closed path is not considered.
+	 *
+	 * @param iterator the iterator on the path elements.
+	 * @return <code>true</code> if a segment of the path intersects the mesh.
+	 */
+	@Pure
+	@Override
+	default boolean intersects(PathIterator3afp<?> iterator) {
+		assert iterator != null : AssertMessages.notNullParameter();
+		final TriangleMeshBvh3afp hierarchy = getBoundingVolumeHierarchy();
+		final PathIterator3afp<?> polyline = flatten(iterator);
+		while (polyline.hasNext()) {
+			final PathElement3afp element = polyline.next();
+			if (element.getType() != PathElementType.MOVE_TO && hierarchy.intersectsSegment(
+					element.getFromX(), element.getFromY(), element.getFromZ(),
+					element.getToX(), element.getToY(), element.getToZ())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Pure
+	@Override
+	default boolean intersects(MultiShape3afp<?, ?, ?, ?, ?, ?, ?> multishape) {
+		assert multishape != null : AssertMessages.notNullParameter();
+		for (final Shape3afp<?, ?, ?, ?, ?, ?> shape : multishape.getBackendDataInBounds(this)) {
+			if (intersects(shape)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Replies if the given mesh intersects this mesh.
+	 *
+	 * <p>Two triangles are intersecting if an edge of one of them crosses the other. The meshes
+	 * are intersecting if an edge of one mesh intersects the other mesh. The coplanar overlaps
+	 * are not detected.
+	 *
+	 * @param mesh the other mesh.
+	 * @return <code>true</code> if the two meshes are intersecting.
+	 */
+	@Pure
+	default boolean intersects(TriangleMesh3afp<?, ?, ?, ?, ?, ?> mesh) {
+		assert mesh != null : AssertMessages.notNullParameter();
+		final TriangleMeshBvh3afp hierarchy1 = getBoundingVolumeHierarchy();
+		final TriangleMeshBvh3afp hierarchy2 = mesh.getBoundingVolumeHierarchy();
+		if (hierarchy1.isEmpty() || hierarchy2.isEmpty()
+				|| !hierarchy1.intersectsPrism(hierarchy2.getMinX(), hierarchy2.getMinY(), hierarchy2.getMinZ(),
+						hierarchy2.getMaxX(), hierarchy2.getMaxY(), hierarchy2.getMaxZ())) {
+			return false;
+		}
+		return hierarchy1.intersectsEdgesOf(hierarchy2) || hierarchy2.intersectsEdgesOf(hierarchy1);
+	}
+
+	@Pure
+	@Override
+	default double getDistanceSquared(Point3D<?, ?> pt) {
+		assert pt != null : AssertMessages.notNullParameter();
+		final Point3D<?, ?> closest = new InnerComputationPoint3afp();
+		return getBoundingVolumeHierarchy().computeClosestPointToPoint(pt.getX(), pt.getY(), pt.getZ(), closest);
+	}
+
+	@Pure
+	@Override
+	default double getDistanceSquared(Shape3D<?, ?, ?, ?, ?, ?> shape) {
+		if (shape instanceof TriangleMesh3afp) {
+			return getDistanceSquared((TriangleMesh3afp<?, ?, ?, ?, ?, ?>) shape);
+		}
+		return Shape3afp.super.getDistanceSquared(shape);
+	}
+
+	@Pure
+	@Override
+	default double getDistanceSquared(Sphere3afp<?, ?, ?, ?, ?, ?> sphere) {
+		assert sphere != null : AssertMessages.notNullParameter();
+		final double distance = Math.sqrt(getDistanceSquared(sphere.getCenter())) - sphere.getRadius();
+		return distance <= 0. ? 0. : distance * distance;
+	}
+
+	@Pure
+	@Override
+	default double getDistanceSquared(RectangularPrism3afp<?, ?, ?, ?, ?, ?> rectangularPrism) {
+		assert rectangularPrism != null : AssertMessages.notNullParameter();
+		final Point3D<?, ?> closest = new InnerComputationPoint3afp();
+		return getBoundingVolumeHierarchy().computeClosestPointToPrism(
+				rectangularPrism.getMinX(), rectangularPrism.getMinY(), rectangularPrism.getMinZ(),
+				rectangularPrism.getMaxX(), rectangularPrism.getMaxY(), rectangularPrism.getMaxZ(), closest);
+	}
+
+	@Pure
+	@Override
+	default double getDistanceSquared(Segment3afp<?, ?, ?, ?, ?, ?> segment) {
+		assert segment != null : AssertMessages.notNullParameter();
+		final Point3D<?, ?> closest = new InnerComputationPoint3afp();
+		return getBoundingVolumeHierarchy().computeClosestPointToSegment(
+				segment.getX1(), segment.getY1(), segment.getZ1(),
+				segment.getX2(), segment.getY2(), segment.getZ2(), closest);
+	}
+
+	@Pure
+	@Override
+	default double getDistanceSquared(Path3afp<?, ?, ?, ?, ?, ?> path) {
+		assert path != null : AssertMessages.notNullParameter();
+		final Point3D<?, ?> closest = new InnerComputationPoint3afp();
+		return computeClosestPointToPath(path.getPathIterator(), closest);
+	}
+
+	/** Replies the minimum distance between this mesh and the given mesh.
+	 *
+	 * @param mesh the other mesh.
+	 * @return the square distance between the two meshes.
+	 */
+	@Pure
+	default double getDistanceSquared(TriangleMesh3afp<?, ?, ?, ?, ?, ?> mesh) {
+		assert mesh != null : AssertMessages.notNullParameter();
+		final Point3D<?, ?> closest = new InnerComputationPoint3afp();
+		return computeClosestPointToMesh(mesh, closest);
+	}
+
+	@Pure
+	@Override
+	default P getClosestPointTo(Point3D<?, ?> pt) {
+		assert pt != null : AssertMessages.notNullParameter();
+		final P point = getGeomFactory().newPoint();
+		getBoundingVolumeHierarchy().computeClosestPointToPoint(pt.getX(), pt.getY(), pt.getZ(), point);
+		return point;
+	}
+
+	@Pure
+	@Override
+	default P getClosestPointTo(Shape3D<?, ?, ?, ?, ?, ?> shape) {
+		if (shape instanceof TriangleMesh3afp) {
+			return getClosestPointTo((TriangleMesh3afp<?, ?, ?, ?, ?, ?>) shape);
+		}
+		return Shape3afp.super.getClosestPointTo(shape);
+	}
+
+	@Pure
+	@Override
+	default P getClosestPointTo(Sphere3afp<?, ?, ?, ?, ?, ?> sphere) {
+		assert sphere != null : AssertMessages.notNullParameter();
+		return getClosestPointTo(sphere.getCenter());
+	}
+
+	@Pure
+	@Override
+	default P getClosestPointTo(RectangularPrism3afp<?, ?, ?, ?, ?, ?> rectangularPrism) {
+		assert rectangularPrism != null : AssertMessages.notNullParameter();
+		final P point = getGeomFactory().newPoint();
+		getBoundingVolumeHierarchy().computeClosestPointToPrism(
+				rectangularPrism.getMinX(), rectangularPrism.getMinY(), rectangularPrism.getMinZ(),
+				rectangularPrism.getMaxX(), rectangularPrism.getMaxY(), rectangularPrism.getMaxZ(), point);
+		return point;
+	}
+
+	@Pure
+	@Override
+	default P getClosestPointTo(Segment3afp<?, ?, ?, ?, ?, ?> segment) {
+		assert segment != null : AssertMessages.notNullParameter();
+		final P point = getGeomFactory().newPoint();
+		getBoundingVolumeHierarchy().computeClosestPointToSegment(
+				segment.getX1(), segment.getY1(), segment.getZ1(),
+				segment.getX2(), segment.getY2(), segment.getZ2(), point);
+		return point;
+	}
+
+	@Pure
+	@Override
+	default P getClosestPointTo(Path3afp<?, ?, ?, ?, ?, ?> path) {
+		assert path != null : AssertMessages.notNullParameter();
+		final P point = getGeomFactory().newPoint();
+		computeClosestPointToPath(path.getPathIterator(), point);
+		return point;
+	}
+
+	/** Replies the closest point on this mesh to the given mesh.
+	 *
+	 * @param mesh the other mesh.
+	 * @return the closest point on this mesh.
+	 */
+	@Pure
+	default P getClosestPointTo(TriangleMesh3afp<?, ?, ?, ?, ?, ?> mesh) {
+		assert mesh != null : AssertMessages.notNullParameter();
+		final P point = getGeomFactory().newPoint();
+		computeClosestPointToMesh(mesh, point);
+		return point;
+	}
+
+	/** Compute the closest point on this mesh to the given path.
+	 *
+	 * <p>The path is considered as a polyline: its curves are flattened, and
+	 * the area of a closed path is not considered.
+	 *
+	 * @param iterator the iterator on the path elements.
+	 * @param result the closest point on this mesh.
+	 * @return the square distance between the mesh and the path.
+	 */
+	default double computeClosestPointToPath(PathIterator3afp<?> iterator, Point3D<?, ?> result) {
+		assert iterator != null : AssertMessages.notNullParameter(0);
+		assert result != null : AssertMessages.notNullParameter(1);
+		final TriangleMeshBvh3afp hierarchy = getBoundingVolumeHierarchy();
+		final Point3D<?, ?> tmp = new InnerComputationPoint3afp();
+		final PathIterator3afp<?> polyline = flatten(iterator);
+		double best = Double.POSITIVE_INFINITY;
+		while (polyline.hasNext() && best > 0.) {
+			final PathElement3afp element = polyline.next();
+			final double distance;
+			if (element.getType() == PathElementType.MOVE_TO) {
+				distance = hierarchy.computeClosestPointToPoint(element.getToX(), element.getToY(), element.getToZ(), tmp);
+			} else {
+				distance = hierarchy.computeClosestPointToSegment(
+						element.getFromX(), element.getFromY(), element.getFromZ(),
+						element.getToX(), element.getToY(), element.getToZ(), tmp);
+			}
+			if (distance < best) {
+				best = distance;
+				result.set(tmp);
+			}
+		}
+		return best;
+	}
+
+	/** Compute the closest point on this mesh to the given mesh.
+	 *
+	 * <p>The distance between two triangles is reached on an edge of one of them.
+	 * The edges of the two meshes are tested against the other mesh.
+	 *
+	 * @param mesh the other mesh.
+	 * @param result the closest point on this mesh.
+	 * @return the square distance between the two meshes.
+	 */
+	default double computeClosestPointToMesh(TriangleMesh3afp<?, ?, ?, ?, ?, ?> mesh, Point3D<?, ?> result) {
+		assert mesh != null : AssertMessages.notNullParameter(0);
+		assert result != null : AssertMessages.notNullParameter(1);
+		final TriangleMeshBvh3afp hierarchy1 = getBoundingVolumeHierarchy();
+		final TriangleMeshBvh3afp hierarchy2 = mesh.getBoundingVolumeHierarchy();
+		final Point3D<?, ?> tmp = new InnerComputationPoint3afp();
+		// Edges of the other mesh against this mesh
+		double best = hierarchy1.computeClosestPointToEdgesOf(hierarchy2, result);
+		// Edges of this mesh against the other mesh
+		final int count = hierarchy1.getTriangleCount();
+		for (int i = 0; i < count && best > 0.; ++i) {
+			for (int k = 0; k < 3; ++k) {
+				final double distance = hierarchy2.computeClosestPointToSegment(
+						hierarchy1.getTriangleCoordinate(i, k, 0), hierarchy1.getTriangleCoordinate(i, k, 1),
+						hierarchy1.getTriangleCoordinate(i, k, 2), hierarchy1.getTriangleCoordinate(i, (k + 1) % 3, 0),
+						hierarchy1.getTriangleCoordinate(i, (k + 1) % 3, 1), hierarchy1.getTriangleCoordinate(i, (k + 1) % 3, 2),
+						tmp);
+				if (distance < best) {
+					best = distance;
+					// The point on this mesh is the point on the edge that is the closest to the other mesh
+					hierarchy1.computeClosestPointToPoint(tmp.getX(), tmp.getY(), tmp.getZ(), result);
+				}
+			}
+		}
+		return best;
+	}
+
+	/** Replies an iterator on the segments of the given path.
+	 *
+	 * @param <T> the type of the path elements.
+	 * @param iterator the iterator on the path.
+	 * @return the iterator on the flattened path.
+	 */
+	@Pure
+	static <T extends PathElement3afp> PathIterator3afp<T> flatten(PathIterator3afp<T> iterator) {
+		if (iterator.isCurved()) {
+			return new Path3afp.FlatteningPathIterator<>(iterator, MathConstants.SPLINE_APPROXIMATION_RATIO,
+					Path3afp.DEFAULT_FLATENING_LIMIT);
+		}
+		return iterator;
+	}
+
+	/** Iterator on the path elements of a triangle mesh.
+	 *
+	 * <p>Each triangle is replied as a closed polygon.
+	 *
+	 * @param <T> the type of the path elements.
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	class TriangleMeshPathIterator<T extends PathElement3afp> implements PathIterator3afp<T> {
+
+		private static final int ELEMENTS_PER_TRIANGLE = 4;
+
+		private final TriangleMesh3afp<?, ?, T, ?, ?, ?> mesh;
+
+		private final Transform3D transform;
+
+		private final Point3D<?, ?> previous = new InnerComputationPoint3afp();
+
+		private final Point3D<?, ?> current = new InnerComputationPoint3afp();
+
+		private final Point3D<?, ?> first = new InnerComputationPoint3afp();
+
+		private final int total;
+
+		private int index;
+
+		/**
+		 * @param mesh the iterated mesh.
+		 * @param transform the transformation, or <code>null</code>.
+		 */
+		public TriangleMeshPathIterator(TriangleMesh3afp<?, ?, T, ?, ?, ?> mesh, Transform3D transform) {
+			assert mesh != null : AssertMessages.notNullParameter();
+			this.mesh = mesh;
+			this.transform = (transform == null || transform.isIdentity()) ? null : transform;
+			this.total = mesh.getTriangleCount() * ELEMENTS_PER_TRIANGLE;
+		}
+
+		@Override
+		public PathIterator3afp<T> restartIterations() {
+			return new TriangleMeshPathIterator<>(this.mesh, this.transform);
+		}
+
+		@Pure
+		@Override
+		public boolean hasNext() {
+			return this.index < this.total;
+		}
+
+		@Override
+		public T next() {
+			if (this.index >= this.total) {
+				throw new NoSuchElementException();
+			}
+			final int triangle = this.index / ELEMENTS_PER_TRIANGLE;
+			final int corner = this.index % ELEMENTS_PER_TRIANGLE;
+			++this.index;
+			final GeomFactory3afp<T, ?, ?, ?> factory = this.mesh.getGeomFactory();
+			if (corner == ELEMENTS_PER_TRIANGLE - 1) {
+				return factory.newClosePathElement(
+						this.current.getX(), this.current.getY(), this.current.getZ(),
+						this.first.getX(), this.first.getY(), this.first.getZ());
+			}
+			final int vertex = this.mesh.getTriangleVertex(triangle, corner);
+			this.previous.set(this.current);
+			this.current.set(this.mesh.getVertexX(vertex), this.mesh.getVertexY(vertex), this.mesh.getVertexZ(vertex));
+			if (this.transform != null) {
+				this.transform.transform(this.current);
+			}
+			if (corner == 0) {
+				this.first.set(this.current);
+				return factory.newMovePathElement(this.current.getX(), this.current.getY(), this.current.getZ());
+			}
+			return factory.newLinePathElement(
+					this.previous.getX(), this.previous.getY(), this.previous.getZ(),
+					this.current.getX(), this.current.getY(), this.current.getZ());
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Pure
+		@Override
+		public PathWindingRule getWindingRule() {
+			return PathWindingRule.NON_ZERO;
+		}
+
+		@Pure
+		@Override
+		public boolean isPolyline() {
+			return false;
+		}
+
+		@Pure
+		@Override
+		public boolean isCurved() {
+			return false;
+		}
+
+		@Pure
+		@Override
+		public boolean isPolygon() {
+			return this.total == ELEMENTS_PER_TRIANGLE;
+		}
+
+		@Pure
+		@Override
+		public boolean isMultiParts() {
+			return this.total > ELEMENTS_PER_TRIANGLE;
+		}
+
+		@Override
+		public GeomFactory3afp<T, ?, ?, ?> getGeomFactory() {
+			return this.mesh.getGeomFactory();
+		}
+
+	}
+
+}
@@ -0,0 +1,1038 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d3.afp;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d3.Point3D;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Bounding-volume hierarchy on the triangles of a mesh.
+ *
+ * <p>This hierarchy is a binary tree on axis-aligned boxes. It is built with the surface area
+ * heuristic (SAH): the triangles of a node are binned along the three axes according to their
+ * centroids, and the node is split at the bin boundary that minimizes the sum of the areas of the
+ * children weighted by their numbers of triangles. A node with at most {@link #MAX_LEAF_SIZE}
+ * triangles is a leaf.
+ *
+ * <p>The coordinates of the triangles are copied in a primitive array in the order of the leaves,
+ * so that the triangles of a leaf are contiguous in memory. The bounds of the nodes are stored in
+ * another primitive array, and the right child of a node follows its left child.
+ *
+ * <p>The hierarchy is not updated when the mesh is changed; it must be built again.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see TriangleMesh3afp
+ */
+@SuppressWarnings("checkstyle:magicnumber")
+public final class TriangleMeshBvh3afp {
+
+	/** Maximal number of triangles in a leaf.
+	 */
+	public static final int MAX_LEAF_SIZE = 4;
+
+	/** Number of bins per axis that are used for evaluating the surface area heuristic.
+	 */
+	public static final int BIN_COUNT = 12;
+
+	/** Maximal depth of the nodes that are split with the surface area heuristic.
+	 * The deeper nodes are split at the median of the centroids.
+	 */
+	public static final int MAX_SAH_DEPTH = 48;
+
+	private static final int DIM = 3;
+
+	private static final int BOX_SIZE = 6;
+
+	private static final int TRIANGLE_SIZE = 9;
+
+	private static final int KIND_POINT = 0;
+
+	private static final int KIND_SEGMENT = 1;
+
+	private static final int KIND_PRISM = 2;
+
+	private final int count;
+
+	/** Coordinates of the triangles, in the order of the leaves.
+	 */
+	private final double[] triangles;
+
+	/** Index of the triangles in the mesh, in the order of the leaves.
+	 */
+	private final int[] triangleIds;
+
+	private final double[] nodeBounds;
+
+	private final int[] nodeStart;
+
+	private final int[] nodeEnd;
+
+	/** Index of the left child of each node; the right child follows it. It is negative for the leaves.
+	 */
+	private final int[] nodeChild;
+
+	private int nodeCount;
+
+	/** Build the hierarchy on the triangles of the given mesh.
+	 *
+	 * @param vertices the coordinates of the vertices, three values per vertex.
+	 * @param indexes the indexes of the vertices of the triangles, three values per triangle.
+	 */
+	public TriangleMeshBvh3afp(double[] vertices, int[] indexes) {
+		assert vertices != null : AssertMessages.notNullParameter(0);
+		assert indexes != null : AssertMessages.notNullParameter(1);
+		this.count = indexes.length / DIM;
+		final Builder builder = new Builder(vertices, indexes, this.count);
+		final int maxNodes = Math.max(1, 2 * this.count);
+		this.nodeBounds = new double[maxNodes * BOX_SIZE];
+		this.nodeStart = new int[maxNodes];
+		this.nodeEnd = new int[maxNodes];
+		this.nodeChild = new int[maxNodes];
+		this.nodeCount = 1;
+		build(builder, 0, 0, this.count, 0);
+		this.triangleIds = builder.order;
+		this.triangles = new double[this.count * TRIANGLE_SIZE];
+		for (int i = 0; i < this.count; ++i) {
+			final int triangle = this.triangleIds[i];
+			for (int k = 0; k < DIM; ++k) {
+				System.arraycopy(vertices, indexes[triangle * DIM + k] * DIM, this.triangles, i * TRIANGLE_SIZE + k * DIM, DIM);
+			}
+		}
+	}
+
+	/** Build the hierarchy on the triangles of the given mesh.
+	 *
+	 * @param vertices the coordinates of the vertices, three values per vertex.
+	 * @param indexes the indexes of the vertices of the triangles, three values per triangle.
+	 */
+	public TriangleMeshBvh3afp(float[] vertices, int[] indexes) {
+		this(toDoubles(vertices), indexes);
+	}
+
+	private static double[] toDoubles(float[] values) {
+		assert values != null : AssertMessages.notNullParameter();
+		final double[] result = new double[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			result[i] = values[i];
+		}
+		return result;
+	}
+
+	/** Replies if the hierarchy has no triangle.
+	 *
+	 * @return <code>true</code> if there is no triangle.
+	 */
+	@Pure
+	public boolean isEmpty() {
+		return this.count == 0;
+	}
+
+	/** Replies the number of triangles in the hierarchy.
+	 *
+	 * @return the number of triangles.
+	 */
+	@Pure
+	public int getTriangleCount() {
+		return this.count;
+	}
+
+	/** Replies the number of nodes in the hierarchy.
+	 *
+	 * @return the number of nodes.
+	 */
+	@Pure
+	public int getNodeCount() {
+		return this.nodeCount;
+	}
+
+	/** Replies the index in the mesh of the triangle at the given position in the hierarchy.
+	 *
+	 * @param position the position of the triangle in the order of the leaves.
+	 * @return the index of the triangle in the mesh.
+	 */
+	@Pure
+	public int getTriangleIndex(int position) {
+		return this.triangleIds[position];
+	}
+
+	/** Replies a coordinate of a vertex of the triangle at the given position in the hierarchy.
+	 *
+	 * @param position the position of the triangle in the order of the leaves.
+	 * @param corner the index of the vertex in the triangle, from 0 to 2.
+	 * @param axis the index of the coordinate, from 0 (x) to 2 (z).
+	 * @return the coordinate.
+	 */
+	@Pure
+	public double getTriangleCoordinate(int position, int corner, int axis) {
+		return this.triangles[position * TRIANGLE_SIZE + corner * DIM + axis];
+	}
+
+	/** Replies the minimum x coordinate of the triangles.
+	 *
+	 * @return the minimum x, or {@link Double#POSITIVE_INFINITY} if the hierarchy is empty.
+	 */
+	@Pure
+	public double getMinX() {
+		return this.nodeBounds[0];
+	}
+
+	/** Replies the minimum y coordinate of the triangles.
+	 *
+	 * @return the minimum y, or {@link Double#POSITIVE_INFINITY} if the hierarchy is empty.
+	 */
+	@Pure
+	public double getMinY() {
+		return this.nodeBounds[1];
+	}
+
+	/** Replies the minimum z coordinate of the triangles.
+	 *
+	 * @return the minimum z, or {@link Double#POSITIVE_INFINITY} if the hierarchy is empty.
+	 */
+	@Pure
+	public double getMinZ() {
+		return this.nodeBounds[2];
+	}
+
+	/** Replies the maximum x coordinate of the triangles.
+	 *
+	 * @return the maximum x, or {@link Double#NEGATIVE_INFINITY} if the hierarchy is empty.
+	 */
+	@Pure
+	public double getMaxX() {
+		return this.nodeBounds[DIM];
+	}
+
+	/** Replies the maximum y coordinate of the triangles.
+	 *
+	 * @return the maximum y, or {@link Double#NEGATIVE_INFINITY} if the hierarchy is empty.
+	 */
+	@Pure
+	public double getMaxY() {
+		return this.nodeBounds[4];
+	}
+
+	/** Replies the maximum z coordinate of the triangles.
+	 *
+	 * @return the maximum z, or {@link Double#NEGATIVE_INFINITY} if the hierarchy is empty.
+	 */
+	@Pure
+	public double getMaxZ() {
+		return this.nodeBounds[5];
+	}
+
+	private void build(Builder builder, int node, int start, int end, int depth) {
+		final int nodeOffset = node * BOX_SIZE;
+		final double[] centerBounds = new double[BOX_SIZE];
+		Arrays.fill(this.nodeBounds, nodeOffset, nodeOffset + DIM, Double.POSITIVE_INFINITY);
+		Arrays.fill(this.nodeBounds, nodeOffset + DIM, nodeOffset + BOX_SIZE, Double.NEGATIVE_INFINITY);
+		Arrays.fill(centerBounds, 0, DIM, Double.POSITIVE_INFINITY);
+		Arrays.fill(centerBounds, DIM, BOX_SIZE, Double.NEGATIVE_INFINITY);
+		for (int i = start; i < end; ++i) {
+			final int triangle = builder.order[i];
+			union(this.nodeBounds, nodeOffset, builder.bounds, triangle * BOX_SIZE);
+			for (int axis = 0; axis < DIM; ++axis) {
+				final double center = builder.centers[triangle * DIM + axis];
+				centerBounds[axis] = Math.min(centerBounds[axis], center);
+				centerBounds[DIM + axis] = Math.max(centerBounds[DIM + axis], center);
+			}
+		}
+		this.nodeStart[node] = start;
+		this.nodeEnd[node] = end;
+		if (end - start <= MAX_LEAF_SIZE) {
+			this.nodeChild[node] = -1;
+			return;
+		}
+		int middle = -1;
+		if (depth < MAX_SAH_DEPTH) {
+			middle = builder.partitionSah(start, end, centerBounds);
+		}
+		if (middle <= start || middle >= end) {
+			int splitAxis = 0;
+			for (int axis = 1; axis < DIM; ++axis) {
+				if (centerBounds[DIM + axis] - centerBounds[axis] > centerBounds[DIM + splitAxis] - centerBounds[splitAxis]) {
+					splitAxis = axis;
+				}
+			}
+			middle = (start + end) >>> 1;
+			// When all the centroids are equal, any partition is a median
+			if (centerBounds[DIM + splitAxis] > centerBounds[splitAxis]) {
+				builder.select(splitAxis, start, end - 1, middle);
+			}
+		}
+		final int left = this.nodeCount;
+		this.nodeCount += 2;
+		this.nodeChild[node] = left;
+		build(builder, left, start, middle, depth + 1);
+		build(builder, left + 1, middle, end, depth + 1);
+	}
+
+	/** Extends the box in the first array for enclosing the box in the second array.
+	 *
+	 * @param target the array of the extended box.
+	 * @param targetOffset the index of the extended box in the target array.
+	 * @param source the array of the enclosed box.
+	 * @param sourceOffset the index of the enclosed box in the source array.
+	 */
+	static void union(double[] target, int targetOffset, double[] source, int sourceOffset) {
+		for (int axis = 0; axis < DIM; ++axis) {
+			target[targetOffset + axis] = Math.min(target[targetOffset + axis], source[sourceOffset + axis]);
+			target[targetOffset + DIM + axis] = Math.max(target[targetOffset + DIM + axis],
+					source[sourceOffset + DIM + axis]);
+		}
+	}
+
+	/** Replies the half of the surface area of the box.
+	 *
+	 * @param box the array of the box.
+	 * @param offset the index of the box in the array.
+	 * @return the half of the surface area.
+	 */
+	static double halfArea(double[] box, int offset) {
+		final double dx = box[offset + DIM] - box[offset];
+		final double dy = box[offset + DIM + 1] - box[offset + 1];
+		final double dz = box[offset + DIM + 2] - box[offset + 2];
+		return dx * dy + dy * dz + dz * dx;
+	}
+
+	private static double distanceSquared(double[] array, int offset, double[] query) {
+		double distance = 0.;
+		for (int axis = 0; axis < DIM; ++axis) {
+			final double gap = Math.max(0., Math.max(query[axis] - array[offset + DIM + axis],
+					array[offset + axis] - query[DIM + axis]));
+			distance += gap * gap;
+		}
+		return distance;
+	}
+
+	private static boolean intersects(double[] array, int offset, double[] query) {
+		for (int axis = 0; axis < DIM; ++axis) {
+			if (array[offset + DIM + axis] < query[axis] || array[offset + axis] > query[DIM + axis]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** Compute the factor of the entry point of a ray in the box of a node.
+	 *
+	 * @return the factor, or {@link Double#POSITIVE_INFINITY} if the ray does not enter the box
+	 *     between the origin and the maximal factor of the query.
+	 */
+	private double entryFactor(int node, RayQuery query) {
+		final int offset = node * BOX_SIZE;
+		double tmin = 0.;
+		double tmax = query.factor;
+		for (int axis = 0; axis < DIM; ++axis) {
+			final double origin = query.ray[axis];
+			final double direction = query.ray[DIM + axis];
+			final double min = this.nodeBounds[offset + axis];
+			final double max = this.nodeBounds[offset + DIM + axis];
+			if (direction == 0.) {
+				if (origin < min || origin > max) {
+					return Double.POSITIVE_INFINITY;
+				}
+			} else {
+				final double t1 = (min - origin) / direction;
+				final double t2 = (max - origin) / direction;
+				tmin = Math.max(tmin, Math.min(t1, t2));
+				tmax = Math.min(tmax, Math.max(t1, t2));
+				if (tmin > tmax) {
+					return Double.POSITIVE_INFINITY;
+				}
+			}
+		}
+		return tmin;
+	}
+
+	/** Compute the first intersection between a ray and the triangles.
+	 *
+	 * @param ox x coordinate of the origin of the ray.
+	 * @param oy y coordinate of the origin of the ray.
+	 * @param oz z coordinate of the origin of the ray.
+	 * @param dx x coordinate of the direction of the ray.
+	 * @param dy y coordinate of the direction of the ray.
+	 * @param dz z coordinate of the direction of the ray.
+	 * @param maxFactor the maximal factor of the direction from the origin, e.g. {@code 1} for
+	 *     a segment, or {@link Double#POSITIVE_INFINITY} for a ray.
+	 * @return the factor {@code t} of the first intersection point {@code o + t * d},
+	 *     or {@link Double#POSITIVE_INFINITY} if the ray does not intersect a triangle.
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:parameternumber")
+	public double castRay(double ox, double oy, double oz, double dx, double dy, double dz, double maxFactor) {
+		final RayQuery query = new RayQuery(ox, oy, oz, dx, dy, dz, maxFactor, false);
+		traverseRay(query);
+		return query.position >= 0 ? query.factor : Double.POSITIVE_INFINITY;
+	}
+
+	/** Compute the first intersection between a ray and the triangles.
+	 *
+	 * @param ox x coordinate of the origin of the ray.
+	 * @param oy y coordinate of the origin of the ray.
+	 * @param oz z coordinate of the origin of the ray.
+	 * @param dx x coordinate of the direction of the ray.
+	 * @param dy y coordinate of the direction of the ray.
+	 * @param dz z coordinate of the direction of the ray.
+	 * @param maxFactor the maximal factor of the direction from the origin, e.g. {@code 1} for
+	 *     a segment, or {@link Double#POSITIVE_INFINITY} for a ray.
+	 * @param hit the first intersection point. It is not changed if there is no intersection.
+	 * @return the index in the mesh of the intersected triangle, or {@code -1} if the ray does not
+	 *     intersect a triangle.
+	 */
+	@SuppressWarnings("checkstyle:parameternumber")
+	public int castRay(double ox, double oy, double oz, double dx, double dy, double dz, double maxFactor,
+			Point3D<?, ?> hit) {
+		assert hit != null : AssertMessages.notNullParameter(7);
+		final RayQuery query = new RayQuery(ox, oy, oz, dx, dy, dz, maxFactor, false);
+		traverseRay(query);
+		if (query.position < 0) {
+			return -1;
+		}
+		hit.set(ox + query.factor * dx, oy + query.factor * dy, oz + query.factor * dz);
+		return this.triangleIds[query.position];
+	}
+
+	/** Replies if a ray intersects a triangle.
+	 *
+	 * <p>This function stops at the first found intersection.
+	 *
+	 * @param ox x coordinate of the origin of the ray.
+	 * @param oy y coordinate of the origin of the ray.
+	 * @param oz z coordinate of the origin of the ray.
+	 * @param dx x coordinate of the direction of the ray.
+	 * @param dy y coordinate of the direction of the ray.
+	 * @param dz z coordinate of the direction of the ray.
+	 * @param maxFactor the maximal factor of the direction from the origin, e.g. {@code 1} for
+	 *     a segment, or {@link Double#POSITIVE_INFINITY} for a ray.
+	 * @return <code>true</code> if the ray intersects a triangle.
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:parameternumber")
+	public boolean intersectsRay(double ox, double oy, double oz, double dx, double dy, double dz, double maxFactor) {
+		final RayQuery query = new RayQuery(ox, oy, oz, dx, dy, dz, maxFactor, true);
+		traverseRay(query);
+		return query.position >= 0;
+	}
+
+	/** Replies if a segment intersects a triangle.
+	 *
+	 * @param x1 x coordinate of the first point of the segment.
+	 * @param y1 y coordinate of the first point of the segment.
+	 * @param z1 z coordinate of the first point of the segment.
+	 * @param x2 x coordinate of the second point of the segment.
+	 * @param y2 y coordinate of the second point of the segment.
+	 * @param z2 z coordinate of the second point of the segment.
+	 * @return <code>true</code> if the segment intersects a triangle.
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:parameternumber")
+	public boolean intersectsSegment(double x1, double y1, double z1, double x2, double y2, double z2) {
+		return intersectsRay(x1, y1, z1, x2 - x1, y2 - y1, z2 - z1, 1.);
+	}
+
+	private void traverseRay(RayQuery query) {
+		if (this.count > 0 && entryFactor(0, query) != Double.POSITIVE_INFINITY) {
+			traverseRay(0, query);
+		}
+	}
+
+	private void traverseRay(int node, RayQuery query) {
+		final int child = this.nodeChild[node];
+		if (child >= 0) {
+			final double left = entryFactor(child, query);
+			final double right = entryFactor(child + 1, query);
+			// Explore the nearest child first for pruning the other
+			final int first = right < left ? child + 1 : child;
+			final double second = right < left ? left : right;
+			if (Math.min(left, right) != Double.POSITIVE_INFINITY) {
+				traverseRay(first, query);
+			}
+			if (!query.done && second != Double.POSITIVE_INFINITY && second <= query.factor) {
+				traverseRay(first == child ? child + 1 : child, query);
+			}
+			return;
+		}
+		final double[] ray = query.ray;
+		final double[] tri = this.triangles;
+		for (int i = this.nodeStart[node]; i < this.nodeEnd[node]; ++i) {
+			final int o = i * TRIANGLE_SIZE;
+			final double factor = TriangleMesh3afp.computeRayTriangleIntersectionFactor(
+					ray[0], ray[1], ray[2], ray[DIM], ray[DIM + 1], ray[DIM + 2],
+					tri[o], tri[o + 1], tri[o + 2], tri[o + DIM], tri[o + DIM + 1], tri[o + DIM + 2],
+					tri[o + 2 * DIM], tri[o + 2 * DIM + 1], tri[o + 2 * DIM + 2]);
+			if (factor >= 0. && (factor < query.factor || (factor == query.factor && query.position < 0))) {
+				query.factor = factor;
+				query.position = i;
+				if (query.anyHit) {
+					query.done = true;
+					return;
+				}
+			}
+		}
+	}
+
+	/** Replies if a sphere intersects a triangle.
+	 *
+	 * @param x x coordinate of the center of the sphere.
+	 * @param y y coordinate of the center of the sphere.
+	 * @param z z coordinate of the center of the sphere.
+	 * @param radius the radius of the sphere.
+	 * @return <code>true</code> if the sphere intersects a triangle.
+	 */
+	@Pure
+	public boolean intersectsSphere(double x, double y, double z, double radius) {
+		assert radius >= 0. : AssertMessages.positiveOrZeroParameter(3);
+		final NearestQuery query = new NearestQuery(KIND_POINT, new double[] {x, y, z, x, y, z},
+				new InnerComputationPoint3afp());
+		query.threshold = radius * radius;
+		searchNearest(query);
+		return query.position >= 0 && query.distance <= query.threshold;
+	}
+
+	/** Replies if an axis-aligned rectangular prism intersects a triangle.
+	 *
+	 * @param minx the minimum x coordinate of the prism.
+	 * @param miny the minimum y coordinate of the prism.
+	 * @param minz the minimum z coordinate of the prism.
+	 * @param maxx the maximum x coordinate of the prism.
+	 * @param maxy the maximum y coordinate of the prism.
+	 * @param maxz the maximum z coordinate of the prism.
+	 * @return <code>true</code> if the prism intersects a triangle.
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:parameternumber")
+	public boolean intersectsPrism(double minx, double miny, double minz, double maxx, double maxy, double maxz) {
+		assert minx <= maxx : AssertMessages.lowerEqualParameters(0, minx, 3, maxx);
+		assert miny <= maxy : AssertMessages.lowerEqualParameters(1, miny, 4, maxy);
+		assert minz <= maxz : AssertMessages.lowerEqualParameters(2, minz, 5, maxz);
+		if (this.count == 0) {
+			return false;
+		}
+		return intersectsPrism(0, new double[] {minx, miny, minz, maxx, maxy, maxz});
+	}
+
+	private boolean intersectsPrism(int node, double[] prism) {
+		if (!intersects(this.nodeBounds, node * BOX_SIZE, prism)) {
+			return false;
+		}
+		final int child = this.nodeChild[node];
+		if (child >= 0) {
+			return intersectsPrism(child, prism) || intersectsPrism(child + 1, prism);
+		}
+		final double[] tri = this.triangles;
+		for (int i = this.nodeStart[node]; i < this.nodeEnd[node]; ++i) {
+			final int o = i * TRIANGLE_SIZE;
+			if (TriangleMesh3afp.intersectsTrianglePrism(
+					tri[o], tri[o + 1], tri[o + 2], tri[o + DIM], tri[o + DIM + 1], tri[o + DIM + 2],
+					tri[o + 2 * DIM], tri[o + 2 * DIM + 1], tri[o + 2 * DIM + 2],
+					prism[0], prism[1], prism[2], prism[DIM], prism[DIM + 1], prism[DIM + 2])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** Replies if an edge of the triangles of the given hierarchy intersects a triangle of this hierarchy.
+	 *
+	 * @param hierarchy the other hierarchy.
+	 * @return <code>true</code> if an edge of the other hierarchy intersects this hierarchy.
+	 */
+	@Pure
+	public boolean intersectsEdgesOf(TriangleMeshBvh3afp hierarchy) {
+		assert hierarchy != null : AssertMessages.notNullParameter();
+		final double[] tri = hierarchy.triangles;
+		for (int i = 0; i < hierarchy.count; ++i) {
+			final int o = i * TRIANGLE_SIZE;
+			if (intersectsPrism(Math.min(tri[o], Math.min(tri[o + DIM], tri[o + 2 * DIM])),
+					Math.min(tri[o + 1], Math.min(tri[o + DIM + 1], tri[o + 2 * DIM + 1])),
+					Math.min(tri[o + 2], Math.min(tri[o + DIM + 2], tri[o + 2 * DIM + 2])),
+					Math.max(tri[o], Math.max(tri[o + DIM], tri[o + 2 * DIM])),
+					Math.max(tri[o + 1], Math.max(tri[o + DIM + 1], tri[o + 2 * DIM + 1])),
+					Math.max(tri[o + 2], Math.max(tri[o + DIM + 2], tri[o + 2 * DIM + 2])))) {
+				for (int k = 0; k < DIM; ++k) {
+					final int p1 = o + k * DIM;
+					final int p2 = o + ((k + 1) % DIM) * DIM;
+					if (intersectsSegment(tri[p1], tri[p1 + 1], tri[p1 + 2], tri[p2], tri[p2 + 1], tri[p2 + 2])) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	/** Compute the point on the triangles that is the closest to the given point.
+	 *
+	 * @param x x coordinate of the point.
+	 * @param y y coordinate of the point.
+	 * @param z z coordinate of the point.
+	 * @param result the closest point. It is not changed if the hierarchy is empty.
+	 * @return the square distance between the point and the triangles,
+	 *     or {@link Double#POSITIVE_INFINITY} if the hierarchy is empty.
+	 */
+	public double computeClosestPointToPoint(double x, double y, double z, Point3D<?, ?> result) {
+		assert result != null : AssertMessages.notNullParameter(3);
+		final NearestQuery query = new NearestQuery(KIND_POINT, new double[] {x, y, z, x, y, z}, result);
+		searchNearest(query);
+		return query.distance;
+	}
+
+	/** Compute the point on the triangles that is the closest to the given segment.
+	 *
+	 * @param x1 x coordinate of the first point of the segment.
+	 * @param y1 y coordinate of the first point of the segment.
+	 * @param z1 z coordinate of the first point of the segment.
+	 * @param x2 x coordinate of the second point of the segment.
+	 * @param y2 y coordinate of the second point of the segment.
+	 * @param z2 z coordinate of the second point of the segment.
+	 * @param result the closest point. It is not changed if the hierarchy is empty.
+	 * @return the square distance between the segment and the triangles,
+	 *     or {@link Double#POSITIVE_INFINITY} if the hierarchy is empty.
+	 */
+	@SuppressWarnings("checkstyle:parameternumber")
+	public double computeClosestPointToSegment(double x1, double y1, double z1, double x2, double y2, double z2,
+			Point3D<?, ?> result) {
+		assert result != null : AssertMessages.notNullParameter(6);
+		final NearestQuery query = new NearestQuery(KIND_SEGMENT, new double[] {x1, y1, z1, x2, y2, z2}, result);
+		searchNearest(query);
+		return query.distance;
+	}
+
+	/** Compute the point on the triangles that is the closest to the given axis-aligned rectangular prism.
+	 *
+	 * @param minx the minimum x coordinate of the prism.
+	 * @param miny the minimum y coordinate of the prism.
+	 * @param minz the minimum z coordinate of the prism.
+	 * @param maxx the maximum x coordinate of the prism.
+	 * @param maxy the maximum y coordinate of the prism.
+	 * @param maxz the maximum z coordinate of the prism.
+	 * @param result the closest point. It is not changed if the hierarchy is empty.
+	 * @return the square distance between the prism and the triangles,
+	 *     or {@link Double#POSITIVE_INFINITY} if the hierarchy is empty.
+	 */
+	@SuppressWarnings("checkstyle:parameternumber")
+	public double computeClosestPointToPrism(double minx, double miny, double minz, double maxx, double maxy, double maxz,
+			Point3D<?, ?> result) {
+		assert result != null : AssertMessages.notNullParameter(6);
+		assert minx <= maxx : AssertMessages.lowerEqualParameters(0, minx, 3, maxx);
+		assert miny <= maxy : AssertMessages.lowerEqualParameters(1, miny, 4, maxy);
+		assert minz <= maxz : AssertMessages.lowerEqualParameters(2, minz, 5, maxz);
+		final NearestQuery query = new NearestQuery(KIND_PRISM, new double[] {minx, miny, minz, maxx, maxy, maxz}, result);
+		searchNearest(query);
+		return query.distance;
+	}
+
+	/** Compute the point on the triangles of this hierarchy that is the closest to the edges of the triangles
+	 * of the given hierarchy.
+	 *
+	 * @param hierarchy the other hierarchy.
+	 * @param result the closest point on this hierarchy. It is not changed if a hierarchy is empty.
+	 * @return the square distance between the edges of the other hierarchy and this hierarchy,
+	 *     or {@link Double#POSITIVE_INFINITY} if a hierarchy is empty.
+	 */
+	public double computeClosestPointToEdgesOf(TriangleMeshBvh3afp hierarchy, Point3D<?, ?> result) {
+		assert hierarchy != null : AssertMessages.notNullParameter(0);
+		assert result != null : AssertMessages.notNullParameter(1);
+		final double[] tri = hierarchy.triangles;
+		final Point3D<?, ?> tmp = new InnerComputationPoint3afp();
+		double best = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < hierarchy.count && best > 0.; ++i) {
+			for (int k = 0; k < DIM; ++k) {
+				final int p1 = i * TRIANGLE_SIZE + k * DIM;
+				final int p2 = i * TRIANGLE_SIZE + ((k + 1) % DIM) * DIM;
+				final double distance = computeClosestPointToSegment(tri[p1], tri[p1 + 1], tri[p1 + 2],
+						tri[p2], tri[p2 + 1], tri[p2 + 2], tmp);
+				if (distance < best) {
+					best = distance;
+					result.set(tmp);
+				}
+			}
+		}
+		return best;
+	}
+
+	private void searchNearest(NearestQuery query) {
+		if (this.count > 0) {
+			final double[] bounds = query.bounds;
+			for (int axis = 0; axis < DIM; ++axis) {
+				if (bounds[axis] > bounds[DIM + axis]) {
+					final double tmp = bounds[axis];
+					bounds[axis] = bounds[DIM + axis];
+					bounds[DIM + axis] = tmp;
+				}
+			}
+			searchNearest(0, query);
+		}
+	}
+
+	private void searchNearest(int node, NearestQuery query) {
+		final int child = this.nodeChild[node];
+		if (child >= 0) {
+			final double left = distanceSquared(this.nodeBounds, child * BOX_SIZE, query.bounds);
+			final double right = distanceSquared(this.nodeBounds, (child + 1) * BOX_SIZE, query.bounds);
+			// Explore the nearest child first for pruning the other
+			final int first = right < left ? child + 1 : child;
+			if (Math.min(left, right) < query.distance && !query.isDone()) {
+				searchNearest(first, query);
+			}
+			if (Math.max(left, right) < query.distance && !query.isDone()) {
+				searchNearest(first == child ? child + 1 : child, query);
+			}
+			return;
+		}
+		for (int i = this.nodeStart[node]; i < this.nodeEnd[node] && !query.isDone(); ++i) {
+			final double distance = computeClosestPoint(i, query);
+			if (distance < query.distance) {
+				query.distance = distance;
+				query.position = i;
+				query.result.set(query.tmp);
+			}
+		}
+	}
+
+	private double computeClosestPoint(int position, NearestQuery query) {
+		final double[] tri = this.triangles;
+		final double[] q = query.coordinates;
+		final int o = position * TRIANGLE_SIZE;
+		switch (query.kind) {
+		case KIND_SEGMENT:
+			return TriangleMesh3afp.computeClosestPointTriangleSegment(
+					tri[o], tri[o + 1], tri[o + 2], tri[o + DIM], tri[o + DIM + 1], tri[o + DIM + 2],
+					tri[o + 2 * DIM], tri[o + 2 * DIM + 1], tri[o + 2 * DIM + 2],
+					q[0], q[1], q[2], q[DIM], q[DIM + 1], q[DIM + 2], query.tmp);
+		case KIND_PRISM:
+			return TriangleMesh3afp.computeClosestPointTrianglePrism(
+					tri[o], tri[o + 1], tri[o + 2], tri[o + DIM], tri[o + DIM + 1], tri[o + DIM + 2],
+					tri[o + 2 * DIM], tri[o + 2 * DIM + 1], tri[o + 2 * DIM + 2],
+					q[0], q[1], q[2], q[DIM], q[DIM + 1], q[DIM + 2], query.tmp);
+		case KIND_POINT:
+		default:
+			return TriangleMesh3afp.computeClosestPointTrianglePoint(
+					tri[o], tri[o + 1], tri[o + 2], tri[o + DIM], tri[o + DIM + 1], tri[o + DIM + 2],
+					tri[o + 2 * DIM], tri[o + 2 * DIM + 1], tri[o + 2 * DIM + 2],
+					q[0], q[1], q[2], query.tmp);
+		}
+	}
+
+	/** Temporary data for building the hierarchy.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class Builder {
+
+		/** Bounds of the triangles, in the order of the mesh.
+		 */
+		final double[] bounds;
+
+		/** Centroids of the triangles, in the order of the mesh.
+		 */
+		final double[] centers;
+
+		/** Indexes of the triangles, in the order of the leaves.
+		 */
+		final int[] order;
+
+		final double[] binBounds = new double[BIN_COUNT * BOX_SIZE];
+
+		final int[] binCounts = new int[BIN_COUNT];
+
+		final double[] rightAreas = new double[BIN_COUNT];
+
+		final int[] rightCounts = new int[BIN_COUNT];
+
+		final double[] costs = new double[BIN_COUNT - 1];
+
+		final double[] box = new double[BOX_SIZE];
+
+		/**
+		 * @param vertices the coordinates of the vertices.
+		 * @param indexes the indexes of the vertices of the triangles.
+		 * @param count the number of triangles.
+		 */
+		Builder(double[] vertices, int[] indexes, int count) {
+			this.bounds = new double[count * BOX_SIZE];
+			this.centers = new double[count * DIM];
+			this.order = new int[count];
+			for (int i = 0; i < count; ++i) {
+				this.order[i] = i;
+				final int boundOffset = i * BOX_SIZE;
+				Arrays.fill(this.bounds, boundOffset, boundOffset + DIM, Double.POSITIVE_INFINITY);
+				Arrays.fill(this.bounds, boundOffset + DIM, boundOffset + BOX_SIZE, Double.NEGATIVE_INFINITY);
+				for (int k = 0; k < DIM; ++k) {
+					final int vertex = indexes[i * DIM + k] * DIM;
+					for (int axis = 0; axis < DIM; ++axis) {
+						final double coordinate = vertices[vertex + axis];
+						this.bounds[boundOffset + axis] = Math.min(this.bounds[boundOffset + axis], coordinate);
+						this.bounds[boundOffset + DIM + axis] = Math.max(this.bounds[boundOffset + DIM + axis], coordinate);
+						this.centers[i * DIM + axis] += coordinate / DIM;
+					}
+				}
+			}
+		}
+
+		private int bin(int triangle, int axis, double min, double scale) {
+			final int index = (int) ((this.centers[triangle * DIM + axis] - min) * scale);
+			return Math.max(0, Math.min(BIN_COUNT - 1, index));
+		}
+
+		/** Partition the triangles of the given range at the split that minimizes the surface area heuristic.
+		 *
+		 * @param start the first triangle in {@link #order}.
+		 * @param end the index after the last triangle in {@link #order}.
+		 * @param centerBounds the bounds of the centroids of the triangles.
+		 * @return the index of the first triangle of the right child, or {@code -1} if no split was found.
+		 */
+		int partitionSah(int start, int end, double[] centerBounds) {
+			double bestCost = Double.POSITIVE_INFINITY;
+			int bestAxis = -1;
+			int bestBin = -1;
+			for (int axis = 0; axis < DIM; ++axis) {
+				final double extent = centerBounds[DIM + axis] - centerBounds[axis];
+				if (extent > 0.) {
+					final double scale = BIN_COUNT / extent;
+					fillBins(start, end, axis, centerBounds[axis], scale);
+					// The split after the bin i puts the bins 0..i in the left child
+					final double[] cost = sweepBins();
+					for (int i = 0; i < BIN_COUNT - 1; ++i) {
+						if (cost[i] < bestCost) {
+							bestCost = cost[i];
+							bestAxis = axis;
+							bestBin = i;
+						}
+					}
+				}
+			}
+			if (bestAxis < 0) {
+				return -1;
+			}
+			final double scale = BIN_COUNT / (centerBounds[DIM + bestAxis] - centerBounds[bestAxis]);
+			int i = start;
+			int j = end - 1;
+			while (i <= j) {
+				if (bin(this.order[i], bestAxis, centerBounds[bestAxis], scale) <= bestBin) {
+					++i;
+				} else {
+					final int tmp = this.order[i];
+					this.order[i] = this.order[j];
+					this.order[j] = tmp;
+					--j;
+				}
+			}
+			return i;
+		}
+
+		private void fillBins(int start, int end, int axis, double min, double scale) {
+			Arrays.fill(this.binCounts, 0);
+			for (int i = 0; i < BIN_COUNT; ++i) {
+				Arrays.fill(this.binBounds, i * BOX_SIZE, i * BOX_SIZE + DIM, Double.POSITIVE_INFINITY);
+				Arrays.fill(this.binBounds, i * BOX_SIZE + DIM, (i + 1) * BOX_SIZE, Double.NEGATIVE_INFINITY);
+			}
+			for (int i = start; i < end; ++i) {
+				final int triangle = this.order[i];
+				final int index = bin(triangle, axis, min, scale);
+				++this.binCounts[index];
+				union(this.binBounds, index * BOX_SIZE, this.bounds, triangle * BOX_SIZE);
+			}
+		}
+
+		/** Compute the costs of the splits between the bins.
+		 *
+		 * @return the costs, the cost at index {@code i} is for the split after the bin {@code i}.
+		 */
+		private double[] sweepBins() {
+			final double[] areas = this.rightAreas;
+			final double[] bbox = this.box;
+			final int[] counts = this.rightCounts;
+			Arrays.fill(bbox, 0, DIM, Double.POSITIVE_INFINITY);
+			Arrays.fill(bbox, DIM, BOX_SIZE, Double.NEGATIVE_INFINITY);
+			int rightCount = 0;
+			for (int i = BIN_COUNT - 1; i > 0; --i) {
+				union(bbox, 0, this.binBounds, i * BOX_SIZE);
+				rightCount += this.binCounts[i];
+				counts[i - 1] = rightCount;
+				areas[i - 1] = rightCount > 0 ? halfArea(bbox, 0) : 0.;
+			}
+			final double[] cost = this.costs;
+			Arrays.fill(bbox, 0, DIM, Double.POSITIVE_INFINITY);
+			Arrays.fill(bbox, DIM, BOX_SIZE, Double.NEGATIVE_INFINITY);
+			int leftCount = 0;
+			for (int i = 0; i < BIN_COUNT - 1; ++i) {
+				union(bbox, 0, this.binBounds, i * BOX_SIZE);
+				leftCount += this.binCounts[i];
+				if (leftCount == 0 || counts[i] == 0) {
+					cost[i] = Double.POSITIVE_INFINITY;
+				} else {
+					cost[i] = halfArea(bbox, 0) * leftCount + areas[i] * counts[i];
+				}
+			}
+			return cost;
+		}
+
+		private double centerKey(int index, int axis) {
+			return this.centers[index * DIM + axis];
+		}
+
+		/** Partially sort the range of {@link #order} for putting the element of rank {@code rank} at its place,
+		 * the lower elements before it, and the greater elements after it.
+		 *
+		 * @param axis the axis of the centroids to compare.
+		 * @param left the first index of the range.
+		 * @param right the last index of the range.
+		 * @param rank the rank of the element to put at its place.
+		 */
+		void select(int axis, int left, int right, int rank) {
+			final int[] ord = this.order;
+			int lo = left;
+			int hi = right;
+			while (hi > lo) {
+				final double pivot = centerKey(ord[(lo + hi) >>> 1], axis);
+				int i = lo;
+				int j = hi;
+				while (i <= j) {
+					while (centerKey(ord[i], axis) < pivot) {
+						++i;
+					}
+					while (centerKey(ord[j], axis) > pivot) {
+						--j;
+					}
+					if (i <= j) {
+						final int tmp = ord[i];
+						ord[i] = ord[j];
+						ord[j] = tmp;
+						++i;
+						--j;
+					}
+				}
+				if (rank <= j) {
+					hi = j;
+				} else if (rank >= i) {
+					lo = i;
+				} else {
+					return;
+				}
+			}
+		}
+
+	}
+
+	/** State of a ray query.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class RayQuery {
+
+		/** Origin, then direction of the ray.
+		 */
+		final double[] ray;
+
+		/** Indicates if the query stops at the first found intersection.
+		 */
+		final boolean anyHit;
+
+		/** Factor of the nearest intersection, or the maximal factor of the ray.
+		 */
+		double factor;
+
+		/** Position of the intersected triangle.
+		 */
+		int position = -1;
+
+		boolean done;
+
+		@SuppressWarnings("checkstyle:parameternumber")
+		RayQuery(double ox, double oy, double oz, double dx, double dy, double dz, double maxFactor, boolean anyHit) {
+			assert maxFactor >= 0. : AssertMessages.positiveOrZeroParameter(6);
+			this.ray = new double[] {ox, oy, oz, dx, dy, dz};
+			this.factor = maxFactor;
+			this.anyHit = anyHit;
+		}
+
+	}
+
+	/** State of the search of the closest triangle.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class NearestQuery {
+
+		/** Type of the queried object.
+		 */
+		final int kind;
+
+		/** Coordinates of the queried object.
+		 */
+		final double[] coordinates;
+
+		/** Bounds of the queried object.
+		 */
+		final double[] bounds;
+
+		final Point3D<?, ?> result;
+
+		final Point3D<?, ?> tmp = new InnerComputationPoint3afp();
+
+		/** The search stops as soon as a distance is lower than or equal to this threshold.
+		 */
+		double threshold;
+
+		double distance = Double.POSITIVE_INFINITY;
+
+		int position = -1;
+
+		/**
+		 * @param kind the type of the queried object.
+		 * @param coordinates the coordinates of the queried object.
+		 * @param result the closest point.
+		 */
+		NearestQuery(int kind, double[] coordinates, Point3D<?, ?> result) {
+			this.kind = kind;
+			this.coordinates = coordinates;
+			this.bounds = coordinates.clone();
+			this.result = result;
+		}
+
+		boolean isDone() {
+			return this.distance <= this.threshold;
+		}
+
+	}
+
+}
@@ -2145,7 +2145,7 @@ public interface Path3ai<
 			E element = null;
             switch (this.path.getPathElementTypeAt(type)) {
 			case MOVE_TO:
-                if (this.coordIndex + 2 > (this.path.size() * 2)) {
+                if (this.coordIndex + 3 > (this.path.size() * 3)) {
 					throw new NoSuchElementException();
 				}
 				this.movex = this.path.getCoordAt(this.coordIndex++);
@@ -2156,7 +2156,7 @@ public interface Path3ai<
 						this.p2.ix(), this.p2.iy(), this.p2.iz());
 				break;
 			case LINE_TO:
-                if (this.coordIndex + 2 > (this.path.size() * 2)) {
+                if (this.coordIndex + 3 > (this.path.size() * 3)) {
 					throw new NoSuchElementException();
 				}
 				this.p1.set(this.p2);
@@ -2169,7 +2169,7 @@ public interface Path3ai<
 						this.p2.ix(), this.p2.iy(), this.p2.iz());
 				break;
 			case QUAD_TO:
-                if (this.coordIndex + 4 > (this.path.size() * 2)) {
+                if (this.coordIndex + 6 > (this.path.size() * 3)) {
                     throw new NoSuchElementException();
                 }
                 this.p1.set(this.p2);
@@ -2186,7 +2186,7 @@ public interface Path3ai<
 						this.p2.ix(), this.p2.iy(), this.p2.iz());
                 break;
 			case CURVE_TO:
-                if (this.coordIndex + 6 > (this.path.size() * 2)) {
+                if (this.coordIndex + 9 > (this.path.size() * 3)) {
                     throw new NoSuchElementException();
                 }
                 this.p1.set(this.p2);
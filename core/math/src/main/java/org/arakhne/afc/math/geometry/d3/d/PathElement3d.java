@@ -350,7 +350,7 @@ public abstract class PathElement3d implements PathElement3afp {
 			assert array.length >= 3 : AssertMessages.tooSmallArrayParameter(array.length, 3);
 			array[0] = this.toX;
 			array[1] = this.toY;
-			array[2] = this.toY;
+			array[2] = this.toZ;
 		}
 
 		@Pure
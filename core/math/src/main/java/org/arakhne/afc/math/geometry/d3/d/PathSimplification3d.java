@@ -0,0 +1,347 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d3.d;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.math.geometry.d3.Point3D;
+import org.arakhne.afc.math.geometry.d3.afp.Segment3afp;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** Algorithms for reducing the number of points of a polyline.
+ *
+ * <p>The points are given as a collection, e.g. the one replied by {@link Path3d#toCollection()}, and
+ * they are considered as the points of an open polyline. The algorithms are working on primitive
+ * arrays, and they are replying new paths:
+ * <ul>
+ * <li>{@link #simplifyDouglasPeucker(Collection, double)} keeps the points that are
+ *     farther than a distance from the simplified polyline;</li>
+ * <li>{@link #simplifyVisvalingamWhyatt(Collection, double)} removes the points that are
+ *     forming the triangles with the smallest areas.</li>
+ * </ul>
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public final class PathSimplification3d {
+
+	private PathSimplification3d() {
+		//
+	}
+
+	/** Simplify the polyline with the Douglas-Peucker algorithm.
+	 *
+	 * <p>The first and the last points are kept. The point that is the farthest from the segment
+	 * between them is kept if its distance is greater than the tolerance, and the two parts of the
+	 * polyline are simplified in the same way. The parts to simplify are stored in an array
+	 * instead of the call stack. The complexity is {@code O(n log n)} in average, and
+	 * {@code O(n^2)} in the worst case.
+	 *
+	 * @param points the points of the polyline.
+	 * @param tolerance the maximal distance between a removed point and the simplified polyline.
+	 * @return the simplified polyline.
+	 */
+	public static Path3d simplifyDouglasPeucker(Collection<? extends Point3D<?, ?>> points, double tolerance) {
+		assert points != null : AssertMessages.notNullParameter(0);
+		assert tolerance >= 0. : AssertMessages.positiveOrZeroParameter(1);
+		final int count = points.size();
+		final double[] xs = new double[count];
+		final double[] ys = new double[count];
+		final double[] zs = new double[count];
+		copy(points, xs, ys, zs);
+		final boolean[] kept = new boolean[count];
+		if (count > 0) {
+			kept[0] = true;
+			kept[count - 1] = true;
+		}
+		// Each part is stored with the indexes of its first and last points
+		final int[] parts = new int[Math.max(2, 2 * count)];
+		int partCount = 0;
+		if (count > 2) {
+			parts[0] = 0;
+			parts[1] = count - 1;
+			partCount = 1;
+		}
+		while (partCount > 0) {
+			--partCount;
+			final int first = parts[2 * partCount];
+			final int last = parts[2 * partCount + 1];
+			double maxDistance = tolerance;
+			int farthest = -1;
+			for (int i = first + 1; i < last; ++i) {
+				final double distance = Segment3afp.computeDistanceSegmentPoint(
+						xs[first], ys[first], zs[first], xs[last], ys[last], zs[last], xs[i], ys[i], zs[i]);
+				if (distance > maxDistance) {
+					maxDistance = distance;
+					farthest = i;
+				}
+			}
+			if (farthest >= 0) {
+				kept[farthest] = true;
+				if (farthest - first > 1) {
+					parts[2 * partCount] = first;
+					parts[2 * partCount + 1] = farthest;
+					++partCount;
+				}
+				if (last - farthest > 1) {
+					parts[2 * partCount] = farthest;
+					parts[2 * partCount + 1] = last;
+					++partCount;
+				}
+			}
+		}
+		return createPolyline(xs, ys, zs, kept);
+	}
+
+	/** Simplify the polyline with the Visvalingam-Whyatt algorithm.
+	 *
+	 * <p>The area of the triangle that is formed by each point and its two neighbors is computed.
+	 * The point with the smallest area is removed, and the areas of its neighbors are updated,
+	 * until the smallest area is greater than or equal to the given area. The area of a point
+	 * is never lower than the area of the last removed point, so that the points are removed in
+	 * order of importance. The areas are stored in a binary heap; the complexity is
+	 * {@code O(n log n)}. The first and the last points are kept.
+	 *
+	 * @param points the points of the polyline.
+	 * @param minArea the minimal area of the triangle of a point that is kept.
+	 * @return the simplified polyline.
+	 */
+	public static Path3d simplifyVisvalingamWhyatt(Collection<? extends Point3D<?, ?>> points, double minArea) {
+		assert points != null : AssertMessages.notNullParameter(0);
+		assert minArea >= 0. : AssertMessages.positiveOrZeroParameter(1);
+		final int count = points.size();
+		final double[] xs = new double[count];
+		final double[] ys = new double[count];
+		final double[] zs = new double[count];
+		copy(points, xs, ys, zs);
+		final AreaHeap heap = new AreaHeap(count);
+		for (int i = 1; i < count - 1; ++i) {
+			heap.add(i, computeArea(xs, ys, zs, i - 1, i, i + 1));
+		}
+		final boolean[] kept = new boolean[count];
+		Arrays.fill(kept, true);
+		while (heap.size() > 0 && heap.getMinArea() < minArea) {
+			final double area = heap.getMinArea();
+			final int point = heap.removeMin();
+			kept[point] = false;
+			final int previous = heap.previous[point];
+			final int next = heap.next[point];
+			heap.next[previous] = next;
+			heap.previous[next] = previous;
+			if (previous > 0) {
+				heap.update(previous, Math.max(area, computeArea(xs, ys, zs, heap.previous[previous], previous, next)));
+			}
+			if (next < count - 1) {
+				heap.update(next, Math.max(area, computeArea(xs, ys, zs, previous, next, heap.next[next])));
+			}
+		}
+		return createPolyline(xs, ys, zs, kept);
+	}
+
+	@SuppressWarnings("checkstyle:parameternumber")
+	private static double computeArea(double[] xs, double[] ys, double[] zs, int first, int middle, int last) {
+		final double ux = xs[middle] - xs[first];
+		final double uy = ys[middle] - ys[first];
+		final double uz = zs[middle] - zs[first];
+		final double vx = xs[last] - xs[first];
+		final double vy = ys[last] - ys[first];
+		final double vz = zs[last] - zs[first];
+		final double cx = uy * vz - uz * vy;
+		final double cy = uz * vx - ux * vz;
+		final double cz = ux * vy - uy * vx;
+		return Math.sqrt(cx * cx + cy * cy + cz * cz) / 2.;
+	}
+
+	private static void copy(Collection<? extends Point3D<?, ?>> points, double[] xs, double[] ys, double[] zs) {
+		int i = 0;
+		for (final Point3D<?, ?> point : points) {
+			xs[i] = point.getX();
+			ys[i] = point.getY();
+			zs[i] = point.getZ();
+			++i;
+		}
+	}
+
+	private static Path3d createPolyline(double[] xs, double[] ys, double[] zs, boolean[] kept) {
+		final Path3d path = new Path3d(PathWindingRule.NON_ZERO, xs.length);
+		boolean first = true;
+		for (int i = 0; i < xs.length; ++i) {
+			if (kept[i]) {
+				if (first) {
+					path.moveTo(xs[i], ys[i], zs[i]);
+					first = false;
+				} else {
+					path.lineTo(xs[i], ys[i], zs[i]);
+				}
+			}
+		}
+		return path;
+	}
+
+	/** Binary heap of the points of a polyline, sorted by the areas of their triangles.
+	 *
+	 * <p>The heap is also storing the links between the points that are not removed.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class AreaHeap {
+
+		/** Index of the previous point of each point.
+		 */
+		final int[] previous;
+
+		/** Index of the next point of each point.
+		 */
+		final int[] next;
+
+		private final double[] areas;
+
+		private final int[] heap;
+
+		/** Position of each point in the heap, or {@code -1}.
+		 */
+		private final int[] positions;
+
+		private int size;
+
+		/** Construct an empty heap.
+		 *
+		 * @param count the number of points of the polyline.
+		 */
+		AreaHeap(int count) {
+			this.previous = new int[count];
+			this.next = new int[count];
+			this.areas = new double[count];
+			this.heap = new int[count];
+			this.positions = new int[count];
+			for (int i = 0; i < count; ++i) {
+				this.previous[i] = i - 1;
+				this.next[i] = i + 1;
+				this.positions[i] = -1;
+			}
+		}
+
+		/** Replies the number of points in the heap.
+		 *
+		 * @return the number of points.
+		 */
+		int size() {
+			return this.size;
+		}
+
+		/** Add a point in the heap.
+		 *
+		 * @param point the index of the point.
+		 * @param area the area of the point.
+		 */
+		void add(int point, double area) {
+			this.areas[point] = area;
+			this.heap[this.size] = point;
+			this.positions[point] = this.size;
+			++this.size;
+			siftUp(this.size - 1);
+		}
+
+		/** Replies the smallest area.
+		 *
+		 * @return the smallest area.
+		 */
+		double getMinArea() {
+			return this.areas[this.heap[0]];
+		}
+
+		/** Remove the point with the smallest area.
+		 *
+		 * @return the index of the removed point.
+		 */
+		int removeMin() {
+			final int point = this.heap[0];
+			--this.size;
+			this.positions[point] = -1;
+			if (this.size > 0) {
+				move(this.heap[this.size], 0);
+				siftDown(0);
+			}
+			return point;
+		}
+
+		/** Change the area of a point in the heap.
+		 *
+		 * @param point the index of the point.
+		 * @param area the new area of the point.
+		 */
+		void update(int point, double area) {
+			this.areas[point] = area;
+			final int position = this.positions[point];
+			siftUp(position);
+			siftDown(this.positions[point]);
+		}
+
+		private void move(int point, int position) {
+			this.heap[position] = point;
+			this.positions[point] = position;
+		}
+
+		private void siftUp(int position) {
+			final int point = this.heap[position];
+			int pos = position;
+			while (pos > 0) {
+				final int parent = (pos - 1) >>> 1;
+				if (this.areas[this.heap[parent]] <= this.areas[point]) {
+					break;
+				}
+				move(this.heap[parent], pos);
+				pos = parent;
+			}
+			move(point, pos);
+		}
+
+		private void siftDown(int position) {
+			final int point = this.heap[position];
+			final int half = this.size >>> 1;
+			int pos = position;
+			while (pos < half) {
+				int child = (pos << 1) + 1;
+				final int right = child + 1;
+				if (right < this.size && this.areas[this.heap[right]] < this.areas[this.heap[child]]) {
+					child = right;
+				}
+				if (this.areas[point] <= this.areas[this.heap[child]]) {
+					break;
+				}
+				move(this.heap[child], pos);
+				pos = child;
+			}
+			move(point, pos);
+		}
+
+	}
+
+}
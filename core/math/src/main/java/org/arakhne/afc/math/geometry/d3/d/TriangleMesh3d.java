@@ -0,0 +1,267 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d3.d;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d3.Transform3D;
+import org.arakhne.afc.math.geometry.d3.afp.TriangleMesh3afp;
+import org.arakhne.afc.math.geometry.d3.afp.TriangleMeshBvh3afp;
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/** An indexed triangle mesh with double precision floating-point numbers.
+ *
+ * <p>The coordinates of the vertices are stored in a primitive array of {@code double} or
+ * {@code float}, and the triangles are stored in a primitive array of indexes. The bounding-volume
+ * hierarchy of the mesh is built on demand, and it is discarded when the mesh is changed.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public class TriangleMesh3d extends AbstractShape3d<TriangleMesh3d>
+	implements TriangleMesh3afp<Shape3d<?>, TriangleMesh3d, PathElement3d, Point3d, Vector3d, RectangularPrism3d> {
+
+	private static final long serialVersionUID = 2817163580137254318L;
+
+	private double[] vertices;
+
+	private float[] floatVertices;
+
+	private int[] indexes;
+
+	private transient TriangleMeshBvh3afp hierarchy;
+
+	/** Construct an empty mesh.
+	 */
+	public TriangleMesh3d() {
+		this.vertices = new double[0];
+		this.indexes = new int[0];
+	}
+
+	/** Construct a mesh with the given vertices and triangles.
+	 *
+	 * @param vertices the coordinates of the vertices, three values per vertex.
+	 * @param indexes the indexes of the vertices of the triangles, three values per triangle.
+	 */
+	public TriangleMesh3d(double[] vertices, int[] indexes) {
+		set(vertices, indexes);
+	}
+
+	/** Construct a mesh with the given vertices and triangles.
+	 *
+	 * <p>The coordinates are stored with single precision.
+	 *
+	 * @param vertices the coordinates of the vertices, three values per vertex.
+	 * @param indexes the indexes of the vertices of the triangles, three values per triangle.
+	 */
+	public TriangleMesh3d(float[] vertices, int[] indexes) {
+		set(vertices, indexes);
+	}
+
+	/** Constructor by copy.
+	 *
+	 * @param mesh the mesh to copy.
+	 */
+	public TriangleMesh3d(TriangleMesh3afp<?, ?, ?, ?, ?, ?> mesh) {
+		this();
+		assert mesh != null : AssertMessages.notNullParameter();
+		final double[] coordinates = new double[mesh.getVertexCount() * 3];
+		for (int i = 0; i < mesh.getVertexCount(); ++i) {
+			coordinates[i * 3] = mesh.getVertexX(i);
+			coordinates[i * 3 + 1] = mesh.getVertexY(i);
+			coordinates[i * 3 + 2] = mesh.getVertexZ(i);
+		}
+		final int[] triangles = new int[mesh.getTriangleCount() * 3];
+		for (int i = 0; i < mesh.getTriangleCount(); ++i) {
+			for (int k = 0; k < 3; ++k) {
+				triangles[i * 3 + k] = mesh.getTriangleVertex(i, k);
+			}
+		}
+		set(coordinates, triangles);
+	}
+
+	private static boolean isValidIndexes(int vertexCount, int[] indexes) {
+		if (indexes.length % 3 != 0) {
+			return false;
+		}
+		for (final int index : indexes) {
+			if (index < 0 || index >= vertexCount) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void set(double[] vertices, int[] indexes) {
+		assert vertices != null && vertices.length % 3 == 0 : AssertMessages.invalidValue(0);
+		assert indexes != null && isValidIndexes(vertices.length / 3, indexes) : AssertMessages.invalidValue(1);
+		this.vertices = vertices.clone();
+		this.floatVertices = null;
+		this.indexes = indexes.clone();
+		this.hierarchy = null;
+		fireGeometryChange();
+	}
+
+	/** Change the vertices and the triangles of the mesh.
+	 *
+	 * <p>The coordinates are stored with single precision.
+	 *
+	 * @param vertices the coordinates of the vertices, three values per vertex.
+	 * @param indexes the indexes of the vertices of the triangles, three values per triangle.
+	 */
+	public void set(float[] vertices, int[] indexes) {
+		assert vertices != null && vertices.length % 3 == 0 : AssertMessages.invalidValue(0);
+		assert indexes != null && isValidIndexes(vertices.length / 3, indexes) : AssertMessages.invalidValue(1);
+		this.vertices = null;
+		this.floatVertices = vertices.clone();
+		this.indexes = indexes.clone();
+		this.hierarchy = null;
+		fireGeometryChange();
+	}
+
+	/** Replies if the coordinates of the vertices are stored with single precision.
+	 *
+	 * @return <code>true</code> if the coordinates are stored in an array of {@code float}.
+	 */
+	@Pure
+	public boolean isSinglePrecision() {
+		return this.floatVertices != null;
+	}
+
+	@Pure
+	@Override
+	public int getVertexCount() {
+		return (this.vertices == null ? this.floatVertices.length : this.vertices.length) / 3;
+	}
+
+	@Pure
+	@Override
+	public double getVertexX(int index) {
+		return this.vertices == null ? this.floatVertices[index * 3] : this.vertices[index * 3];
+	}
+
+	@Pure
+	@Override
+	public double getVertexY(int index) {
+		return this.vertices == null ? this.floatVertices[index * 3 + 1] : this.vertices[index * 3 + 1];
+	}
+
+	@Pure
+	@Override
+	public double getVertexZ(int index) {
+		return this.vertices == null ? this.floatVertices[index * 3 + 2] : this.vertices[index * 3 + 2];
+	}
+
+	@Pure
+	@Override
+	public int getTriangleCount() {
+		return this.indexes.length / 3;
+	}
+
+	@Pure
+	@Override
+	public int getTriangleVertex(int triangle, int corner) {
+		assert corner >= 0 && corner < 3 : AssertMessages.outsideRangeInclusiveParameter(1, corner, 0, 2);
+		return this.indexes[triangle * 3 + corner];
+	}
+
+	@Override
+	public TriangleMeshBvh3afp getBoundingVolumeHierarchy() {
+		TriangleMeshBvh3afp bvh = this.hierarchy;
+		if (bvh == null) {
+			if (this.vertices == null) {
+				bvh = new TriangleMeshBvh3afp(this.floatVertices, this.indexes);
+			} else {
+				bvh = new TriangleMeshBvh3afp(this.vertices, this.indexes);
+			}
+			this.hierarchy = bvh;
+		}
+		return bvh;
+	}
+
+	@Override
+	public void translate(double dx, double dy, double dz) {
+		if (dx != 0. || dy != 0. || dz != 0.) {
+			for (int i = 0; i < getVertexCount() * 3; i += 3) {
+				if (this.vertices == null) {
+					this.floatVertices[i] += dx;
+					this.floatVertices[i + 1] += dy;
+					this.floatVertices[i + 2] += dz;
+				} else {
+					this.vertices[i] += dx;
+					this.vertices[i + 1] += dy;
+					this.vertices[i + 2] += dz;
+				}
+			}
+			this.hierarchy = null;
+			fireGeometryChange();
+		}
+	}
+
+	@Pure
+	@Override
+	public TriangleMesh3d createTransformedShape(Transform3D transform) {
+		if (transform == null || transform.isIdentity()) {
+			return clone();
+		}
+		final Point3d point = new Point3d();
+		final double[] coordinates = new double[getVertexCount() * 3];
+		for (int i = 0; i < getVertexCount(); ++i) {
+			point.set(getVertexX(i), getVertexY(i), getVertexZ(i));
+			transform.transform(point);
+			coordinates[i * 3] = point.getX();
+			coordinates[i * 3 + 1] = point.getY();
+			coordinates[i * 3 + 2] = point.getZ();
+		}
+		return new TriangleMesh3d(coordinates, this.indexes);
+	}
+
+	@Pure
+	@Override
+	public TriangleMesh3d clone() {
+		final TriangleMesh3d clone = super.clone();
+		if (clone.vertices != null) {
+			clone.vertices = clone.vertices.clone();
+		}
+		if (clone.floatVertices != null) {
+			clone.floatVertices = clone.floatVertices.clone();
+		}
+		clone.indexes = clone.indexes.clone();
+		return clone;
+	}
+
+	@Pure
+	@Override
+	public int hashCode() {
+		int bits = 1;
+		bits = 31 * bits + Arrays.hashCode(this.vertices);
+		bits = 31 * bits + Arrays.hashCode(this.floatVertices);
+		bits = 31 * bits + Arrays.hashCode(this.indexes);
+		return bits ^ (bits >> 31);
+	}
+
+}
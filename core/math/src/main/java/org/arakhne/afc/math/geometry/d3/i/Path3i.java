@@ -49,11 +49,11 @@ import org.arakhne.afc.vmutil.locale.Locale;
 public class Path3i extends AbstractShape3i<Path3i>
         implements Path3ai<Shape3i<?>, Path3i, PathElement3i, Point3i, Vector3i, RectangularPrism3i> {
 
-	private static final long serialVersionUID = 2542453596839860853L;
+	private static final long serialVersionUID = 8918376846810567891L;
 
-	/** Array of types.
+	/** Array of types, encoded with {@link PathElementType#code()}.
 	 */
-	private PathElementType[] types;
+	private byte[] types;
 
 	/** Array of coords.
 	 */
@@ -125,11 +125,26 @@ public class Path3i extends AbstractShape3i<Path3i>
      */
 	public Path3i(PathWindingRule windingRule) {
 		assert windingRule != null : AssertMessages.notNullParameter();
-		this.types = new PathElementType[GROW_SIZE];
+		this.types = new byte[GROW_SIZE];
 		this.coords = new int[GROW_SIZE];
 		this.windingRule = windingRule;
 	}
 
+	/** Create an empty path with the given path winding rule, and with buffers
+	 * that are able to contain the given number of points without reallocation.
+	 *
+	 * @param windingRule the path winding rule.
+	 * @param pointCapacity the number of points that could be added without reallocating the buffers.
+	 * @since 14.0
+	 */
+	public Path3i(PathWindingRule windingRule, int pointCapacity) {
+		assert windingRule != null : AssertMessages.notNullParameter(0);
+		assert pointCapacity >= 0 : AssertMessages.positiveOrZeroParameter(1);
+		this.types = new byte[Math.max(1, pointCapacity)];
+		this.coords = new int[Math.max(3, pointCapacity * 3)];
+		this.windingRule = windingRule;
+	}
+
 	/** Construct a path with the given path winding rule and by copying the given elements.
      * @param windingRule the path winding rule.
      * @param iterator the iterator that provides the elements to copy.
@@ -137,7 +152,7 @@ public class Path3i extends AbstractShape3i<Path3i>
 	public Path3i(PathWindingRule windingRule, Iterator<PathElement3i> iterator) {
 		assert windingRule != null : AssertMessages.notNullParameter(0);
 		assert iterator != null : AssertMessages.notNullParameter(1);
-		this.types = new PathElementType[GROW_SIZE];
+		this.types = new byte[GROW_SIZE];
 		this.coords = new int[GROW_SIZE];
 		this.windingRule = windingRule;
 		add(iterator);
@@ -188,14 +203,30 @@ public class Path3i extends AbstractShape3i<Path3i>
 		if (needMove && this.numTypes == 0) {
 			throw new IllegalStateException(Locale.getString("E1")); //$NON-NLS-1$
 		}
-		if (this.types.length == this.numTypes) {
-			this.types = Arrays.copyOf(this.types, this.types.length + GROW_SIZE);
+		ensureBufferCapacity(this.numTypes + 1, this.numCoords + nbSlots);
+	}
+
+	/** Ensures that the buffers can contain at least the given numbers of types and coordinates.
+	 * The buffers grow geometrically in order to obtain an amortized constant cost for the additions.
+	 *
+	 * @param typeCount the minimal number of types.
+	 * @param coordCount the minimal number of coordinates.
+	 */
+	private void ensureBufferCapacity(int typeCount, int coordCount) {
+		if (typeCount > this.types.length) {
+			this.types = Arrays.copyOf(this.types, newBufferCapacity(this.types.length, typeCount));
 		}
-		while ((this.numCoords + nbSlots) >= this.coords.length) {
-			this.coords = Arrays.copyOf(this.coords, this.coords.length + GROW_SIZE);
+		if (coordCount > this.coords.length) {
+			this.coords = Arrays.copyOf(this.coords, newBufferCapacity(this.coords.length, coordCount));
 		}
 	}
 
+	private static int newBufferCapacity(int currentCapacity, int minCapacity) {
+		final int capacity = currentCapacity + Math.max(GROW_SIZE, currentCapacity >> 1);
+		// Overflow-conscious code
+		return capacity - minCapacity < 0 ? minCapacity : capacity;
+	}
+
 	@Pure
 	@Override
 	public boolean containsControlPoint(Point3D<?, ?> point) {
@@ -216,7 +247,7 @@ public class Path3i extends AbstractShape3i<Path3i>
 
 	@Override
 	public void clear() {
-		this.types = new PathElementType[GROW_SIZE];
+		this.types = new byte[GROW_SIZE];
 		this.coords = new int[GROW_SIZE];
 		this.windingRule = PathWindingRule.NON_ZERO;
 		this.numCoords = 0;
@@ -246,8 +277,12 @@ public class Path3i extends AbstractShape3i<Path3i>
 		int bits = 1;
 		bits = 31 * bits + this.numCoords;
 		bits = 31 * bits + this.numTypes;
-		bits = 31 * bits + Arrays.hashCode(this.coords);
-		bits = 31 * bits + Arrays.hashCode(this.types);
+		for (int i = 0; i < this.numCoords; ++i) {
+			bits = 31 * bits + this.coords[i];
+		}
+		for (int i = 0; i < this.numTypes; ++i) {
+			bits = 31 * bits + this.types[i];
+		}
 		bits = 31 * bits + this.windingRule.ordinal();
 		return bits ^ (bits >> 31);
 	}
@@ -448,10 +483,10 @@ public class Path3i extends AbstractShape3i<Path3i>
 
 	@Override
 	public void closePath() {
-        if (this.numTypes <= 0 || (this.types[this.numTypes - 1] != PathElementType.CLOSE
-                && this.types[this.numTypes - 1] != PathElementType.MOVE_TO)) {
+        if (this.numTypes <= 0 || (this.types[this.numTypes - 1] != PathElementType.CLOSE.code()
+                && this.types[this.numTypes - 1] != PathElementType.MOVE_TO.code())) {
 			ensureSlots(true, 0);
-			this.types[this.numTypes++] = PathElementType.CLOSE;
+			this.types[this.numTypes++] = PathElementType.CLOSE.code();
 			this.isPolyline = false;
 			this.isPolygon = null;
 			fireGeometryChange();
@@ -600,7 +635,7 @@ public class Path3i extends AbstractShape3i<Path3i>
 	@Override
 	public void removeLast() {
         if (this.numTypes > 0) {
-            switch (this.types[this.numTypes - 1]) {
+            switch (PathElementType.fromCode(this.types[this.numTypes - 1])) {
 			case CLOSE:
 				// no coord to remove
 				this.isPolygon = null;
@@ -648,13 +683,13 @@ public class Path3i extends AbstractShape3i<Path3i>
 		if (this.isMultipart != null && this.isMultipart != Boolean.TRUE) {
 			this.isMultipart = null;
 		}
-        if (this.numTypes > 0 && this.types[this.numTypes - 1] == PathElementType.MOVE_TO) {
+        if (this.numTypes > 0 && this.types[this.numTypes - 1] == PathElementType.MOVE_TO.code()) {
             this.coords[this.numCoords - 3] = x;
             this.coords[this.numCoords - 2] = y;
             this.coords[this.numCoords - 1] = z;
 		} else {
 			ensureSlots(false, 3);
-			this.types[this.numTypes++] = PathElementType.MOVE_TO;
+			this.types[this.numTypes++] = PathElementType.MOVE_TO.code();
 			this.coords[this.numCoords++] = x;
 			this.coords[this.numCoords++] = y;
 			this.coords[this.numCoords++] = z;
@@ -667,7 +702,7 @@ public class Path3i extends AbstractShape3i<Path3i>
 	@Override
 	public void lineTo(int x, int y, int z) {
 		ensureSlots(true, 3);
-		this.types[this.numTypes++] = PathElementType.LINE_TO;
+		this.types[this.numTypes++] = PathElementType.LINE_TO.code();
 		this.coords[this.numCoords++] = x;
 		this.coords[this.numCoords++] = y;
 		this.coords[this.numCoords++] = z;
@@ -683,7 +718,7 @@ public class Path3i extends AbstractShape3i<Path3i>
 	@Override
 	public void quadTo(int x1, int y1, int z1, int x2, int y2, int z2) {
 		ensureSlots(true, 6);
-		this.types[this.numTypes++] = PathElementType.QUAD_TO;
+		this.types[this.numTypes++] = PathElementType.QUAD_TO.code();
 		this.coords[this.numCoords++] = x1;
 		this.coords[this.numCoords++] = y1;
 		this.coords[this.numCoords++] = z1;
@@ -702,7 +737,7 @@ public class Path3i extends AbstractShape3i<Path3i>
 	@SuppressWarnings("checkstyle:parameternumber")
 	public void curveTo(int x1, int y1, int z1, int x2, int y2, int z2, int x3, int y3, int z3) {
 		ensureSlots(true, 9);
-		this.types[this.numTypes++] = PathElementType.CURVE_TO;
+		this.types[this.numTypes++] = PathElementType.CURVE_TO.code();
 		this.coords[this.numCoords++] = x1;
 		this.coords[this.numCoords++] = y1;
 		this.coords[this.numCoords++] = z1;
@@ -750,7 +785,7 @@ public class Path3i extends AbstractShape3i<Path3i>
 	@SuppressWarnings({"checkstyle:fallthrough", "checkstyle:cyclomaticcomplexity", "checkstyle:booleanexpressioncomplexity"})
 	public boolean remove(int x, int y, int z) {
         for (int i = 0, j = 0; i < this.numCoords && j < this.numTypes;) {
-            switch (this.types[j]) {
+            switch (PathElementType.fromCode(this.types[j])) {
 			case MOVE_TO:
 				this.isMultipart = null;
 				//$FALL-THROUGH$
@@ -758,8 +793,8 @@ public class Path3i extends AbstractShape3i<Path3i>
                 if (x == this.coords[i] && y == this.coords[i + 1] && z == this.coords[i + 2]) {
 					this.numCoords -= 3;
 					--this.numTypes;
-                    System.arraycopy(this.coords, i + 3, this.coords, i, this.numCoords);
-                    System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
+                    System.arraycopy(this.coords, i + 3, this.coords, i, this.numCoords - i);
+                    System.arraycopy(this.types, j + 1, this.types, j, this.numTypes - j);
 					this.isEmpty = null;
 					fireGeometryChange();
 					return true;
@@ -773,8 +808,8 @@ public class Path3i extends AbstractShape3i<Path3i>
                         || (x == this.coords[i + 6] && y == this.coords[i + 7] && z == this.coords[i + 8])) {
 					this.numCoords -= 9;
 					--this.numTypes;
-                    System.arraycopy(this.coords, i + 9, this.coords, i, this.numCoords);
-                    System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
+                    System.arraycopy(this.coords, i + 9, this.coords, i, this.numCoords - i);
+                    System.arraycopy(this.types, j + 1, this.types, j, this.numTypes - j);
 					this.isEmpty = null;
 					this.isPolyline = null;
 					fireGeometryChange();
@@ -788,8 +823,8 @@ public class Path3i extends AbstractShape3i<Path3i>
                         || (x == this.coords[i + 3] && y == this.coords[i + 4] && z == this.coords[i + 5])) {
 					this.numCoords -= 6;
 					--this.numTypes;
-                    System.arraycopy(this.coords, i + 6, this.coords, i, this.numCoords);
-                    System.arraycopy(this.types, j + 1, this.types, j, this.numTypes);
+                    System.arraycopy(this.coords, i + 6, this.coords, i, this.numCoords - i);
+                    System.arraycopy(this.types, j + 1, this.types, j, this.numTypes - j);
 					this.isEmpty = null;
 					this.isPolyline = null;
 					fireGeometryChange();
@@ -825,7 +860,79 @@ public class Path3i extends AbstractShape3i<Path3i>
 	@Override
 	@Pure
 	public PathElementType getPathElementTypeAt(int index) {
-		return this.types[index];
+		return PathElementType.fromCode(this.types[index]);
+	}
+
+	/** Ensures that this path can contain at least the given number of points
+	 * without reallocating its internal buffers.
+	 *
+	 * <p>The buffers are sized for a polyline, i.e. one path element per point.
+	 * They grow geometrically when they are full, so that pre-sizing is
+	 * an optimization, not a requirement.
+	 *
+	 * @param pointCount the number of points.
+	 * @since 14.0
+	 * @see #trimToSize()
+	 */
+	public void ensureCapacity(int pointCount) {
+		assert pointCount >= 0 : AssertMessages.positiveOrZeroParameter();
+		ensureBufferCapacity(pointCount, pointCount * 3);
+	}
+
+	/** Trims the capacity of the internal buffers of this path to the current
+	 * number of path elements and coordinates.
+	 *
+	 * @since 14.0
+	 * @see #ensureCapacity(int)
+	 */
+	public void trimToSize() {
+		if (this.types.length > this.numTypes) {
+			this.types = Arrays.copyOf(this.types, this.numTypes);
+		}
+		if (this.coords.length > this.numCoords) {
+			this.coords = Arrays.copyOf(this.coords, this.numCoords);
+		}
+	}
+
+	/** Add a polyline to this path.
+	 *
+	 * <p>The first point of the polyline starts a new sub-path, as with {@link #moveTo(int, int, int)}.
+	 * The other points are linked with line segments, as with {@link #lineTo(int, int, int)}.
+	 * The coordinates are copied in one bulk operation, and the geometry change
+	 * is notified only once.
+	 *
+	 * @param coordinates the coordinates of the points, in the order x, y, z, x, y, z....
+	 * @param offset the index of the first coordinate of the polyline in the array.
+	 * @param count the number of points in the polyline.
+	 * @since 14.0
+	 */
+	public void addPolyline(int[] coordinates, int offset, int count) {
+		assert coordinates != null : AssertMessages.notNullParameter(0);
+		assert offset >= 0 : AssertMessages.positiveOrZeroParameter(1);
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter(2);
+		assert offset + count * 3 <= coordinates.length
+				: AssertMessages.tooSmallArrayParameter(0, coordinates.length, offset + count * 3);
+		if (count > 0) {
+			if (this.numTypes > 0 && this.types[this.numTypes - 1] == PathElementType.MOVE_TO.code()) {
+				// Replace the last move-to, as moveTo() does
+				--this.numTypes;
+				this.numCoords -= 3;
+			}
+			final int nbCoords = count * 3;
+			ensureBufferCapacity(this.numTypes + count, this.numCoords + nbCoords);
+			this.types[this.numTypes] = PathElementType.MOVE_TO.code();
+			Arrays.fill(this.types, this.numTypes + 1, this.numTypes + count, PathElementType.LINE_TO.code());
+			this.numTypes += count;
+			System.arraycopy(coordinates, offset, this.coords, this.numCoords, nbCoords);
+			this.numCoords += nbCoords;
+			this.isEmpty = null;
+			this.isPolyline = null;
+			this.isPolygon = null;
+			this.isMultipart = null;
+			this.graphicalBounds = null;
+			this.logicalBounds = null;
+			fireGeometryChange();
+		}
 	}
 
 }
@@ -20,8 +20,9 @@
 
 package org.arakhne.afc.math.graph;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Deque;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -40,7 +41,7 @@ import org.eclipse.xtext.xbase.lib.Pure;
 public class BreadthFirstGraphCourseModel<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
 		implements GraphCourseModel<ST, PT> {
 
-	private final LinkedList<GraphIterationElement<ST, PT>> list = new LinkedList<>();
+	private final Deque<GraphIterationElement<ST, PT>> list = new ArrayDeque<>();
 
 	/** Replies if this model restitutes the elements in a reverse order.
 	 *
@@ -89,4 +90,9 @@ public class BreadthFirstGraphCourseModel<ST extends GraphSegment<ST, PT>, PT ex
 		this.list.removeAll(elements);
 	}
 
+	@Override
+	public void clear() {
+		this.list.clear();
+	}
+
 }
@@ -90,4 +90,9 @@ public class DepthFirstGraphCourseModel<ST extends GraphSegment<ST, PT>, PT exte
 		this.stack.removeAll(elements);
 	}
 
+	@Override
+	public void clear() {
+		this.stack.clear();
+	}
+
 }
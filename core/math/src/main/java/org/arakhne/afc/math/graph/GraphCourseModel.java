@@ -82,4 +82,16 @@ public interface GraphCourseModel<ST extends GraphSegment<ST, PT>, PT extends Gr
 	 */
 	void removeIterationElements(Collection<GraphIterationElement<ST, PT>> elements);
 
+	/** Remove all the iteration elements.
+	 *
+	 * <p>The model keeps its internal buffers in order to be reused for another course.
+	 *
+	 * @since 14.0
+	 */
+	default void clear() {
+		while (!isEmpty()) {
+			removeNextIterationElement();
+		}
+	}
+
 }
@@ -44,11 +44,11 @@ public class GraphIterationElement<ST extends GraphSegment<ST, PT>, PT extends G
 
 	/** Current segment in the iteration.
 	 */
-	final ST currentSegment;
+	ST currentSegment;
 
 	/** Connection point between the previous segment and the current segment.
 	 */
-	final PT connectionPoint;
+	PT connectionPoint;
 
 	/** Distance that was consumed for reaching the connection point.
 	 */
@@ -66,7 +66,7 @@ public class GraphIterationElement<ST extends GraphSegment<ST, PT>, PT extends G
 
 	/** Distance amount which was not consumed.
 	 */
-	final double distanceToConsume;
+	double distanceToConsume;
 
 	/** Indicates if this element was replied by the iterator.
 	 */
@@ -80,6 +80,21 @@ public class GraphIterationElement<ST extends GraphSegment<ST, PT>, PT extends G
 	 * @param distanceToConsume1 is the distance to consume including this segment length.
 	 */
 	GraphIterationElement(ST previousSegment1, ST segment, PT point, double distanceToReach1, double distanceToConsume1) {
+		set(previousSegment1, segment, point, distanceToReach1, distanceToConsume1);
+	}
+
+	/** Change the description of this element.
+	 *
+	 * <p>This function permits to recycle the element instances, e.g. by the {@link ReusableGraphIterator}.
+	 *
+	 * @param previousSegment1 is the previous element that permits to reach this object during an iteration
+	 * @param segment is the current segment
+	 * @param point is the point on which the iteration arrived on the current segment.
+	 * @param distanceToReach1 is the distance that is already consumed to reach the segment.
+	 * @param distanceToConsume1 is the distance to consume including this segment length.
+	 * @since 14.0
+	 */
+	final void set(ST previousSegment1, ST segment, PT point, double distanceToReach1, double distanceToConsume1) {
 		assert segment != null;
 		assert point != null;
 		this.previousSegment = previousSegment1;
@@ -93,6 +108,7 @@ public class GraphIterationElement<ST extends GraphSegment<ST, PT>, PT extends G
 		this.lastReachableSegment = this.culDeSac;
 
 		this.distanceToConsume = distanceToConsume1;
+		this.replied = false;
 	}
 
 	/** Replies the segment from which the iterator arrived on the current segment.
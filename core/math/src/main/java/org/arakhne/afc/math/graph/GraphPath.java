@@ -20,7 +20,9 @@
 
 package org.arakhne.afc.math.graph;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -34,6 +36,12 @@ import org.arakhne.afc.vmutil.ReflectionUtil;
 /**
  * This class describes a path inside a graph.
  *
+ * <p>By default, the segments are stored into a linked list. A path could be created with an
+ * array storage (see {@link #GraphPath(boolean)}), which provides constant-time access to the
+ * segments by their indexes, and a cache of the cumulative lengths of the segments, which permits
+ * to retreive the segment at a given curvilinear distance in a logarithmic time
+ * (see {@link #getSegmentIndexAt(double)}).
+ *
  * @param <GP> is the type of the graph graph itself.
  * @param <PT> is the type of node in the graph
  * @param <ST> is the type of edge in the graph
@@ -49,7 +57,20 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 
 	/** Package access to avoid comiplation error.
 	 */
-	List<ST> segmentList = new LinkedList<>();
+	List<ST> segmentList;
+
+	/** Cumulative lengths of the segments, only for the array storage.
+	 * Package access to avoid compilation error.
+	 * The value at index {@code i} is the distance from the start of the path
+	 * to the start of the segment at index {@code i}.
+	 */
+	double[] cumulativeLengths;
+
+	private final boolean arrayStorage;
+
+	/** Version of the segment list for which the cumulative lengths were computed.
+	 */
+	private int cumulativeLengthVersion;
 
 	private PT startingPoint;
 
@@ -62,6 +83,18 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 	/** Construct a path.
 	 */
 	public GraphPath() {
+		this(false);
+	}
+
+	/** Construct a path.
+	 *
+	 * @param arrayStorage1 is <code>true</code> for storing the segments into an array,
+	 *     and <code>false</code> for storing them into a linked list.
+	 * @since 14.0
+	 */
+	public GraphPath(boolean arrayStorage1) {
+		this.arrayStorage = arrayStorage1;
+		this.segmentList = newSegmentList(arrayStorage1);
 		this.isReversable = true;
 	}
 
@@ -70,12 +103,43 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 	 * @param startingPoint1 is the segment's point indicating the direction.
 	 */
 	public GraphPath(ST segment, PT startingPoint1) {
+		this(segment, startingPoint1, false);
+	}
+
+	/**
+	 * @param segment is the segment from which to start.
+	 * @param startingPoint1 is the segment's point indicating the direction.
+	 * @param arrayStorage1 is <code>true</code> for storing the segments into an array,
+	 *     and <code>false</code> for storing them into a linked list.
+	 * @since 14.0
+	 */
+	public GraphPath(ST segment, PT startingPoint1, boolean arrayStorage1) {
+		this.arrayStorage = arrayStorage1;
+		this.segmentList = newSegmentList(arrayStorage1);
 		this.segmentList.add(segment);
 		this.startingPoint = startingPoint1;
 		this.endingPoint = segment.getOtherSidePoint(startingPoint1);
 		this.isReversable = false;
 	}
 
+	private static <ST> List<ST> newSegmentList(boolean arrayStorage) {
+		if (arrayStorage) {
+			return new SegmentArrayList<>();
+		}
+		return new LinkedList<>();
+	}
+
+	/** Replies if the segments are stored into an array.
+	 *
+	 * @return <code>true</code> if the segments are stored into an array,
+	 *     <code>false</code> if they are stored into a linked list.
+	 * @since 14.0
+	 */
+	@Pure
+	public boolean isArrayStorage() {
+		return this.arrayStorage;
+	}
+
 	/** Replies if this first segment could be reversed
 	 * when the second segment is inserted to fit the
 	 * order of the insertions.
@@ -572,8 +636,9 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 			if (inclusive) {
 				++limit;
 			}
+			final Iterator<ST> iterator = this.segmentList.iterator();
 			for (int i = 0; i < limit; ++i) {
-				segment = this.segmentList.remove(0);
+				segment = iterator.next();
 				this.length -= segment.getLength();
 				if (this.length < 0) {
 					this.length = 0;
@@ -581,6 +646,8 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 				startPoint = segment.getOtherSidePoint(startPoint);
 				changed = true;
 			}
+			// Bulk removal for avoiding to shift the array storage many times
+			this.segmentList.subList(0, limit).clear();
 			if (changed) {
 				if (this.segmentList.isEmpty()) {
 					this.startingPoint = null;
@@ -752,8 +819,8 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 					startPoint = segment.getOtherSidePoint(startPoint);
 				}
 				this.endingPoint = startPoint;
-				for (int i = segmentCount - 1; i >= limit; --i) {
-					this.segmentList.remove(i);
+				if (limit < segmentCount) {
+					this.segmentList.subList(limit, segmentCount).clear();
 					changed = true;
 				}
 			}
@@ -1048,10 +1115,16 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 		return this.segmentList.listIterator(index);
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>The replied list is unmodifiable because the changes of the segments must
+	 * be done through the functions of the path for keeping its ends and its length
+	 * up-to-date.
+	 */
 	@Pure
 	@Override
 	public List<ST> subList(int fromIndex, int toIndex) {
-		return this.segmentList.subList(fromIndex, toIndex);
+		return Collections.unmodifiableList(this.segmentList.subList(fromIndex, toIndex));
 	}
 
 	@Pure
@@ -1066,13 +1139,7 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 		final PT p = this.startingPoint;
 		this.startingPoint = this.endingPoint;
 		this.endingPoint = p;
-		final int middle = this.segmentList.size() / 2;
-		ST segment;
-		for (int i = 0, j = this.segmentList.size() - 1; i < middle; ++i, --j) {
-			segment = this.segmentList.get(i);
-			this.segmentList.set(i, this.segmentList.get(j));
-			this.segmentList.set(j, segment);
-		}
+		Collections.reverse(this.segmentList);
 	}
 
 	@Pure
@@ -1081,8 +1148,9 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 	public GP clone() {
 		try {
 			final GP clone = (GP) super.clone();
-			clone.segmentList = new LinkedList<>();
+			clone.segmentList = newSegmentList(this.arrayStorage);
 			clone.segmentList.addAll(this.segmentList);
+			clone.cumulativeLengths = null;
 			return clone;
 		} catch (CloneNotSupportedException e) {
 			throw new Error(e);
@@ -1244,6 +1312,124 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 		return this.length;
 	}
 
+	/** Replies the cumulative lengths of the segments, and compute them if the path has changed.
+	 *
+	 * @return the cumulative lengths, or <code>null</code> if the segments are not stored into an array.
+	 */
+	private double[] getCumulativeLengths() {
+		if (!this.arrayStorage) {
+			return null;
+		}
+		final SegmentArrayList<ST> list = (SegmentArrayList<ST>) this.segmentList;
+		final int version = list.getVersion();
+		final int size = list.size();
+		if (this.cumulativeLengths == null || this.cumulativeLengthVersion != version) {
+			if (this.cumulativeLengths == null || this.cumulativeLengths.length <= size) {
+				this.cumulativeLengths = new double[size + 1 + (size >> 1)];
+			}
+			double sum = 0;
+			for (int i = 0; i < size; ++i) {
+				this.cumulativeLengths[i] = sum;
+				sum += list.get(i).getLength();
+			}
+			this.cumulativeLengths[size] = sum;
+			this.cumulativeLengthVersion = version;
+		}
+		return this.cumulativeLengths;
+	}
+
+	/** Replies the distance from the start of the path to the start of the segment at the given index.
+	 *
+	 * <p>The distance is computed in a constant time if the segments are stored into an array,
+	 * and the path was not changed since the last query; otherwise in a linear time.
+	 *
+	 * @param index is the index of the segment. If it is equal to the size of the path,
+	 *     the total length of the segments is replied.
+	 * @return the distance to the start of the segment.
+	 * @throws IndexOutOfBoundsException if the index is invalid.
+	 * @since 14.0
+	 */
+	public double getDistanceToSegment(int index) {
+		final int size = this.segmentList.size();
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException();
+		}
+		final double[] cumulative = getCumulativeLengths();
+		if (cumulative != null) {
+			return cumulative[index];
+		}
+		double sum = 0;
+		final Iterator<ST> iterator = this.segmentList.iterator();
+		for (int i = 0; i < index; ++i) {
+			sum += iterator.next().getLength();
+		}
+		return sum;
+	}
+
+	/** Replies the index of the segment at the given curvilinear distance from the start of the path.
+	 *
+	 * <p>The index is computed in a logarithmic time if the segments are stored into an array,
+	 * and the path was not changed since the last query; otherwise in a linear time.
+	 *
+	 * @param distance is the distance from the start of the path.
+	 * @return the index of the segment that is covering the distance, or <code>-1</code> if the
+	 *     distance is outside the path. When the distance is at the junction of two segments,
+	 *     the index of the second segment is replied.
+	 * @since 14.0
+	 */
+	public int getSegmentIndexAt(double distance) {
+		final int size = this.segmentList.size();
+		if (size == 0 || distance < 0.) {
+			return -1;
+		}
+		final double[] cumulative = getCumulativeLengths();
+		if (cumulative != null) {
+			if (distance > cumulative[size]) {
+				return -1;
+			}
+			// Search for the last segment starting before the distance
+			int low = 0;
+			int high = size - 1;
+			while (low < high) {
+				final int mid = (low + high + 1) >>> 1;
+				if (cumulative[mid] <= distance) {
+					low = mid;
+				} else {
+					high = mid - 1;
+				}
+			}
+			return low;
+		}
+		return getSegmentIndexAtBySequentialSearch(distance);
+	}
+
+	private int getSegmentIndexAtBySequentialSearch(double distance) {
+		double sum = 0;
+		int index = 0;
+		final int last = this.segmentList.size() - 1;
+		for (final ST segment : this.segmentList) {
+			sum += segment.getLength();
+			if (distance < sum || (index == last && distance <= sum)) {
+				return index;
+			}
+			++index;
+		}
+		return -1;
+	}
+
+	/** Replies the segment at the given curvilinear distance from the start of the path.
+	 *
+	 * @param distance is the distance from the start of the path.
+	 * @return the segment that is covering the distance, or <code>null</code> if the
+	 *     distance is outside the path.
+	 * @since 14.0
+	 * @see #getSegmentIndexAt(double)
+	 */
+	public ST getSegmentAt(double distance) {
+		final int index = getSegmentIndexAt(distance);
+		return index < 0 ? null : this.segmentList.get(index);
+	}
+
 	/**
 	 * Iterable on points.
 	 *
@@ -1318,4 +1504,44 @@ public class GraphPath<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment
 
 	}
 
+	/**
+	 * Array storage of the segments that is counting the changes of its content,
+	 * including the replacements of elements.
+	 *
+	 * @param <ST> is the type of edge in the graph
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class SegmentArrayList<ST> extends ArrayList<ST> {
+
+		private static final long serialVersionUID = -3413390765829003475L;
+
+		private int replacementCount;
+
+		/** Construct the list.
+		 */
+		SegmentArrayList() {
+			//
+		}
+
+		/** Replies a number that is changing each time the content of the list is changed.
+		 *
+		 * @return the version of the list content.
+		 */
+		@Pure
+		int getVersion() {
+			return this.modCount + this.replacementCount;
+		}
+
+		@Override
+		public ST set(int index, ST element) {
+			++this.replacementCount;
+			return super.set(index, element);
+		}
+
+	}
+
 }
@@ -0,0 +1,378 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/**
+ * This class is an iterator on a graph that could be reused for many courses.
+ *
+ * <p>This iterator has the same behaviour as the {@link GraphIterator}, but it is designed
+ * for being restarted many times with {@link #reset(GraphSegment, GraphPoint, double, double)}
+ * without allocating memory once it is warmed up:<ul>
+ * <li>the {@link GraphIterationElement iteration elements} are pooled and recycled;</li>
+ * <li>the visited segments are stored into open-addressing hash tables, in place of
+ *     a sorted set;</li>
+ * <li>the buffer of the following segments and the buffers of the course model are
+ *     cleared and reused by each course.</li>
+ * </ul>
+ *
+ * <p>Because the iteration elements are recycled, the element replied by {@link #nextElement()}
+ * is valid until the next call to {@link #nextElement()}, {@link #next()} or
+ * {@link #reset(GraphSegment, GraphPoint, double, double)}.
+ *
+ * <p>The {@code allowManyReplies} and {@code assumeOrientedSegments} parameters have the same
+ * meaning as for the {@link GraphIterator}.
+ *
+ * @param <PT> is the type of node in the graph
+ * @param <ST> is the type of edge in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see GraphIterator
+ */
+public class ReusableGraphIterator<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
+		implements Iterator<ST> {
+
+	private final boolean allowManyReplies;
+
+	private final boolean assumeOrientedSegments;
+
+	private final GraphCourseModel<ST, PT> courseModel;
+
+	/** Visited segments, or visited segments that are entered by their begin points when
+	 * the segments are oriented.
+	 */
+	private final VisitedSegmentSet visited;
+
+	/** Visited segments that are entered by their end points when the segments are oriented.
+	 */
+	private final VisitedSegmentSet visitedFromEnd;
+
+	private final List<GraphIterationElement<ST, PT>> nextSegments = new ArrayList<>();
+
+	private final Deque<GraphIterationElement<ST, PT>> pool = new ArrayDeque<>();
+
+	private GraphIterationElement<ST, PT> current;
+
+	/** Construct an iterator that is following a breadth-first course.
+	 * The iterator is empty until the first call to {@link #reset(GraphSegment, GraphPoint)}.
+	 *
+	 * @param allowManyReplies1 may be <code>true</code> to allow to reply many times
+	 *     the same segment, otherwhise <code>false</code>.
+	 * @param assumeOrientedSegments1 may be <code>true</code> to assume that the same segment has two different
+	 *     instances for graph iteration: the first instance is associated the first point of the segment and the second
+	 *     instance is associated to the last point of the segment. If this parameter is <code>false</code> to assume that
+	 *     the end points of a segment are not distinguished.
+	 */
+	public ReusableGraphIterator(boolean allowManyReplies1, boolean assumeOrientedSegments1) {
+		this(null, allowManyReplies1, assumeOrientedSegments1);
+	}
+
+	/** Construct an iterator.
+	 * The iterator is empty until the first call to {@link #reset(GraphSegment, GraphPoint)}.
+	 *
+	 * @param courseModel1 is the course model to use. If <code>null</code>, the
+	 *     {@link BreadthFirstGraphCourseModel breadth-first course} is used.
+	 * @param allowManyReplies1 may be <code>true</code> to allow to reply many times
+	 *     the same segment, otherwhise <code>false</code>.
+	 * @param assumeOrientedSegments1 may be <code>true</code> to assume that the same segment has two different
+	 *     instances for graph iteration: the first instance is associated the first point of the segment and the second
+	 *     instance is associated to the last point of the segment. If this parameter is <code>false</code> to assume that
+	 *     the end points of a segment are not distinguished.
+	 */
+	public ReusableGraphIterator(GraphCourseModel<ST, PT> courseModel1, boolean allowManyReplies1,
+			boolean assumeOrientedSegments1) {
+		this.courseModel = courseModel1 == null ? new BreadthFirstGraphCourseModel<>() : courseModel1;
+		this.allowManyReplies = allowManyReplies1;
+		this.assumeOrientedSegments = assumeOrientedSegments1;
+		if (allowManyReplies1) {
+			this.visited = null;
+			this.visitedFromEnd = null;
+		} else {
+			this.visited = new VisitedSegmentSet();
+			this.visitedFromEnd = assumeOrientedSegments1 ? new VisitedSegmentSet() : null;
+		}
+	}
+
+	/** Restart the iterations from the given segment without depth limit.
+	 *
+	 * @param segment is the segment from which to start.
+	 * @param point is the segment's point indicating the direction.
+	 */
+	public void reset(ST segment, PT point) {
+		reset(segment, point, 0., Double.POSITIVE_INFINITY);
+	}
+
+	/** Restart the iterations from the given segment.
+	 *
+	 * <p>The iterator does not go into the segments that are beyond the given depth. The depth
+	 * is counted from the given starting position, as for the {@link DepthGraphIterator}.
+	 *
+	 * @param segment is the segment from which to start.
+	 * @param point is the segment's point indicating the direction.
+	 * @param positionFromStartingPoint is the starting position on the segment from the {@code point}.
+	 * @param depth is the maximal depth to reach, or {@link Double#POSITIVE_INFINITY} for
+	 *     an unlimited depth.
+	 */
+	public void reset(ST segment, PT point, double positionFromStartingPoint, double depth) {
+		assert segment != null;
+		assert point != null;
+		clear();
+		final double startingDistance = getStartingDistance(positionFromStartingPoint, segment);
+		final GraphIterationElement<ST, PT> firstElement = newIterationElement(
+				null, segment, point, -startingDistance, depth + startingDistance);
+		this.courseModel.addIterationElement(firstElement);
+		markVisited(firstElement);
+	}
+
+	@Pure
+	private static double getStartingDistance(double positionFromStartingPoint, GraphSegment<?, ?> segment) {
+		final double totalLength = segment.getLength();
+		if (positionFromStartingPoint > totalLength) {
+			return totalLength;
+		}
+		if (positionFromStartingPoint < 0.) {
+			return 0;
+		}
+		return positionFromStartingPoint;
+	}
+
+	/** Stop the current course and recycle the iteration elements.
+	 */
+	public void clear() {
+		releaseCurrent();
+		while (!this.courseModel.isEmpty()) {
+			release(this.courseModel.removeNextIterationElement());
+		}
+		if (this.visited != null) {
+			this.visited.clear();
+		}
+		if (this.visitedFromEnd != null) {
+			this.visitedFromEnd.clear();
+		}
+	}
+
+	/** Replies the course model used by this iterator.
+	 *
+	 * @return the course model.
+	 */
+	@Pure
+	public GraphCourseModel<ST, PT> getCourseModel() {
+		return this.courseModel;
+	}
+
+	/** Replies if this iterator is assumed that a segment may be replied many times.
+	 *
+	 * @return <code>true</code> if this iterator allows cycles, otherwise <code>false</code>
+	 */
+	@Pure
+	public final boolean isManySegmentReplyEnabled() {
+		return this.allowManyReplies;
+	}
+
+	/** Replies if this iterator is assumed oriented segments or not.
+	 *
+	 * @return <code>true</code> if this iterator assumes oriented segments, otherwise <code>false</code>
+	 */
+	@Pure
+	public final boolean isOrientedSegmentSupportEnabled() {
+		return this.assumeOrientedSegments;
+	}
+
+	@Pure
+	@Override
+	public boolean hasNext() {
+		return !this.courseModel.isEmpty();
+	}
+
+	@Override
+	public final ST next() {
+		return nextElement().getSegment();
+	}
+
+	/** Replies the next segment.
+	 *
+	 * <p>The replied element is recycled by the next call to this function.
+	 *
+	 * @return the next segment
+	 */
+	public final GraphIterationElement<ST, PT> nextElement() {
+		releaseCurrent();
+		final GraphIterationElement<ST, PT> theElement = this.courseModel.removeNextIterationElement();
+		if (theElement == null) {
+			throw new NoSuchElementException();
+		}
+		fillNextSegments(true, theElement);
+		boolean hasFollowingSegments = false;
+		final int size = this.nextSegments.size();
+		final boolean reversed = this.courseModel.isReversedRestitution();
+		for (int i = 0; i < size; ++i) {
+			final GraphIterationElement<ST, PT> elt = this.nextSegments.get(reversed ? size - 1 - i : i);
+			if (canGotoIntoElement(elt)) {
+				hasFollowingSegments = true;
+				this.courseModel.addIterationElement(elt);
+				markVisited(elt);
+			} else {
+				release(elt);
+			}
+		}
+		this.nextSegments.clear();
+
+		theElement.setTerminalSegment(!hasFollowingSegments);
+		theElement.replied = true;
+		this.current = theElement;
+		return theElement;
+	}
+
+	/** Replies if the specified element could be added into the list of futher elements.
+	 *
+	 * @param element the element to test.
+	 * @return <code>true</code> if the given element is addable into the associated list.
+	 */
+	@Pure
+	protected boolean canGotoIntoElement(GraphIterationElement<ST, PT> element) {
+		return element.distanceToConsume > 0.;
+	}
+
+	/** Ignore the elements after the specified element.
+	 *
+	 * @param element the reference element.
+	 */
+	public void ignoreElementsAfter(GraphIterationElement<ST, PT> element) {
+		fillNextSegments(false, element);
+		this.courseModel.removeIterationElements(this.nextSegments);
+		for (final GraphIterationElement<ST, PT> elt : this.nextSegments) {
+			release(elt);
+		}
+		this.nextSegments.clear();
+	}
+
+	/** Ignore the elements after the last replied element.
+	 */
+	public void ignoreElementsAfter() {
+		if (this.current == null) {
+			throw new NoSuchElementException();
+		}
+		ignoreElementsAfter(this.current);
+	}
+
+	@Override
+	public void remove() {
+		if (this.current == null) {
+			throw new NoSuchElementException();
+		}
+		ignoreElementsAfter(this.current);
+		if (this.visited != null) {
+			getVisitedSet(this.current).remove(this.current.getSegment());
+		}
+	}
+
+	/** Fill the buffer of the next segments.
+	 *
+	 * @param avoidVisitedSegments is <code>true</code> to avoid to reply already visited segments,
+	 *     otherwise <code>false</code>
+	 * @param element is the element from which the next segments must be replied.
+	 */
+	private void fillNextSegments(boolean avoidVisitedSegments, GraphIterationElement<ST, PT> element) {
+		assert this.nextSegments.isEmpty();
+		final ST segment = element.getSegment();
+		final PT pts = segment.getOtherSidePoint(element.getPoint());
+		if (pts == null) {
+			throw new NoSuchElementException();
+		}
+		final double distanceToReach = element.getDistanceToReachSegment() + segment.getLength();
+		final double restToConsume = element.distanceToConsume - segment.getLength();
+		final boolean filter = avoidVisitedSegments && !this.allowManyReplies;
+		for (final ST theSegment : pts.getConnectedSegmentsStartingFrom(segment)) {
+			if (!theSegment.equals(segment) && (!filter || !isVisited(theSegment, pts))) {
+				this.nextSegments.add(newIterationElement(segment, theSegment, pts, distanceToReach, restToConsume));
+			}
+		}
+	}
+
+	@Pure
+	private VisitedSegmentSet getVisitedSet(GraphIterationElement<ST, PT> element) {
+		return getVisitedSet(element.getSegment(), element.getPoint());
+	}
+
+	@Pure
+	private VisitedSegmentSet getVisitedSet(ST segment, PT point) {
+		if (this.visitedFromEnd != null && point.equals(segment.getEndPoint())
+				&& !point.equals(segment.getBeginPoint())) {
+			return this.visitedFromEnd;
+		}
+		return this.visited;
+	}
+
+	@Pure
+	private boolean isVisited(ST segment, PT point) {
+		return getVisitedSet(segment, point).contains(segment);
+	}
+
+	private void markVisited(GraphIterationElement<ST, PT> element) {
+		if (this.visited != null) {
+			getVisitedSet(element).add(element.getSegment());
+		}
+	}
+
+	/** Replies an iteration element, from the pool if possible.
+	 *
+	 * @param previousSegment is the previous element that permits to reach this object during an iteration
+	 * @param segment is the current segment
+	 * @param point is the point on which the iteration arrived on the current segment.
+	 * @param distanceToReach is the distance that is already consumed to reach the segment.
+	 * @param distanceToConsume is the rest of distance to consume including the segment.
+	 * @return a graph iteration element.
+	 */
+	private GraphIterationElement<ST, PT> newIterationElement(ST previousSegment, ST segment, PT point,
+			double distanceToReach, double distanceToConsume) {
+		final GraphIterationElement<ST, PT> element = this.pool.poll();
+		if (element == null) {
+			return new GraphIterationElement<>(previousSegment, segment, point, distanceToReach, distanceToConsume);
+		}
+		element.set(previousSegment, segment, point, distanceToReach, distanceToConsume);
+		return element;
+	}
+
+	private void release(GraphIterationElement<ST, PT> element) {
+		if (element != null) {
+			this.pool.push(element);
+		}
+	}
+
+	private void releaseCurrent() {
+		if (this.current != null) {
+			release(this.current);
+			this.current = null;
+		}
+	}
+
+}
@@ -20,9 +20,9 @@
 
 package org.arakhne.afc.math.graph;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -41,7 +41,10 @@ import org.eclipse.xtext.xbase.lib.Pure;
 public class ShortestSegmentFirstGraphCourseModel<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
 		implements GraphCourseModel<ST, PT> {
 
-	private final LinkedList<GraphIterationElement<ST, PT>> list = new LinkedList<>();
+	/** Elements sorted by decreasing distances. The next element is the last in the list,
+	 * which permits to remove it without shifting the buffer.
+	 */
+	private final List<GraphIterationElement<ST, PT>> list = new ArrayList<>();
 
 	/** Replies if this model restitutes the elements in a reverse order.
 	 *
@@ -60,33 +63,27 @@ public class ShortestSegmentFirstGraphCourseModel<ST extends GraphSegment<ST, PT
 
 	@Override
 	public void addIterationElement(GraphIterationElement<ST, PT> element) {
-		// Search for the insertion index
-		final Iterator<GraphIterationElement<ST, PT>> iterator = this.list.iterator();
-		final double d1 = element.getDistanceToReachSegment() + element.getSegment().getLength();
-		int index = 0;
-
-		while (iterator.hasNext()) {
-			final GraphIterationElement<ST, PT> e = iterator.next();
-			if (e != null) {
-				final double d2 = e.getDistanceToReachSegment() + e.getSegment().getLength();
-				if (d1 <= d2) {
-					// Stop looping
-					break;
-				}
+		// Search for the insertion index: the new element is replied before the elements with
+		// the same distance, as the first element with a distance lower than the new distance.
+		final double d1 = getDistance(element);
+		int low = 0;
+		int high = this.list.size() - 1;
+		while (low <= high) {
+			final int mid = (low + high) >>> 1;
+			if (getDistance(this.list.get(mid)) < d1) {
+				high = mid - 1;
+			} else {
+				low = mid + 1;
 			}
-			++index;
-		}
-
-		// Bounds the index
-		if (index < 0) {
-			index = 0;
-		}
-		if (index > this.list.size()) {
-			index = this.list.size();
 		}
 
 		// Insert the element at the computed index
-		this.list.add(index, element);
+		this.list.add(low, element);
+	}
+
+	@Pure
+	private static double getDistance(GraphIterationElement<?, ?> element) {
+		return element.getDistanceToReachSegment() + element.getSegment().getLength();
 	}
 
 	@Pure
@@ -100,7 +97,7 @@ public class ShortestSegmentFirstGraphCourseModel<ST extends GraphSegment<ST, PT
 		if (this.list.isEmpty()) {
 			return null;
 		}
-		return this.list.getFirst();
+		return this.list.get(this.list.size() - 1);
 	}
 
 	@Override
@@ -108,7 +105,7 @@ public class ShortestSegmentFirstGraphCourseModel<ST extends GraphSegment<ST, PT
 		if (this.list.isEmpty()) {
 			return null;
 		}
-		return this.list.removeFirst();
+		return this.list.remove(this.list.size() - 1);
 	}
 
 	@Override
@@ -116,4 +113,9 @@ public class ShortestSegmentFirstGraphCourseModel<ST extends GraphSegment<ST, PT
 		this.list.removeAll(elements);
 	}
 
+	@Override
+	public void clear() {
+		this.list.clear();
+	}
+
 }
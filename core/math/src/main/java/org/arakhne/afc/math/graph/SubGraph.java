@@ -21,10 +21,16 @@
 package org.arakhne.afc.math.graph;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.function.Function;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -61,6 +67,10 @@ public class SubGraph<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT,
 
 	private final Collection<ST> segments;
 
+	/** Hashed index of the segments in {@link #segments}, for constant-time membership tests.
+	 */
+	private final Set<ST> segmentIndex = Collections.newSetFromMap(new WeakHashMap<>());
+
 	private int pointNumber;
 
 	private WeakReference<Graph<ST, PT>> parentGraph;
@@ -77,6 +87,7 @@ public class SubGraph<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT,
 			GraphIterationElementComparator<ST, PT> orientedIterator,
 			GraphIterationElementComparator<ST, PT> notOrientedIterator) {
 		this.segments = segments1;
+		this.segmentIndex.addAll(segments1);
 		this.pointNumber = pointNumber1;
 		assert orientedIterator != null;
 		this.iterationOrientedElementComparator = orientedIterator;
@@ -152,6 +163,7 @@ public class SubGraph<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT,
 
 		this.parentGraph = new WeakReference<>(iterator.getGraph());
 		this.segments.clear();
+		this.segmentIndex.clear();
 		this.pointNumber = 0;
 		this.terminalPoints.clear();
 
@@ -166,27 +178,12 @@ public class SubGraph<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT,
 			}
 
 			this.segments.add(segment);
+			this.segmentIndex.add(segment);
 			if (listener != null) {
 				listener.segmentAdded(this, element);
 			}
 
-			// Register terminal points
-			point = segment.getOtherSidePoint(point);
-			final ComparableWeakReference<PT> ref = new ComparableWeakReference<>(point);
-			if (element.isTerminalSegment()) {
-				if (!reachedPoints.contains(ref)) {
-					this.terminalPoints.add(ref);
-					if (listener != null) {
-						listener.terminalPointReached(this, point, segment);
-					}
-				}
-			} else {
-				this.terminalPoints.remove(ref);
-				reachedPoints.add(ref);
-				if (listener != null) {
-					listener.nonTerminalPointReached(this, point, segment);
-				}
-			}
+			registerPoint(element, reachedPoints, listener);
 		}
 
 		if (firstPoint != null) {
@@ -201,6 +198,161 @@ public class SubGraph<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT,
 		reachedPoints.clear();
 	}
 
+	/** Update this subgraph from the specified graph.
+	 *
+	 * <p>This function is an incremental version of {@link #build(GraphIterator, SubGraphBuildListener)}:
+	 * the segments that are still reached by the iterator are kept, the newly reached segments
+	 * are added, and the segments that are not reached anymore are removed. The listener is notified
+	 * only about these changes. The terminal points and the number of points are the same as
+	 * after a complete build, but the order of the segments in this subgraph may be different.
+	 *
+	 * <p>This function is typically invoked each time the starting point or the depth
+	 * of a {@link Graph#depthIterator(GraphSegment, double, double, GraphPoint, boolean, boolean)
+	 * depth iterator} has changed.
+	 *
+	 * @param iterator is the iterator on the graph.
+	 * @param listener is the listener invoked each time a segment was added to or removed from
+	 *     the subgraph, or <code>null</code>.
+	 * @since 14.0
+	 */
+	public final void update(GraphIterator<ST, PT> iterator, SubGraphBuildListener<ST, PT> listener) {
+		assert iterator != null;
+		final Set<ST> reachedSegments = new HashSet<>();
+		final Set<ComparableWeakReference<PT>> reachedPoints = new TreeSet<>();
+		final List<GraphIterationElement<ST, PT>> addedElements = new ArrayList<>();
+		PT firstPoint = null;
+
+		this.parentGraph = new WeakReference<>(iterator.getGraph());
+		this.terminalPoints.clear();
+
+		while (iterator.hasNext()) {
+			final GraphIterationElement<ST, PT> element = iterator.nextElement();
+			final ST segment = element.getSegment();
+
+			// First reached segment
+			if (firstPoint == null) {
+				firstPoint = element.getPoint();
+			}
+
+			if (reachedSegments.add(segment) && !this.segmentIndex.contains(segment)) {
+				addedElements.add(element);
+			}
+
+			registerPoint(element, reachedPoints, null);
+		}
+
+		if (firstPoint != null) {
+			final ComparableWeakReference<PT> ref = new ComparableWeakReference<>(firstPoint);
+			if (!reachedPoints.contains(ref)) {
+				this.terminalPoints.add(ref);
+			}
+		}
+
+		this.pointNumber = this.terminalPoints.size() + reachedPoints.size();
+
+		// The segments that are still reached are all in the index; the others must be evicted
+		final int keptSegments = reachedSegments.size() - addedElements.size();
+		if (keptSegments < this.segmentIndex.size()) {
+			evictSegments(reachedSegments, listener);
+		}
+		addSegments(addedElements, listener);
+	}
+
+	/** Register the point that is reached by the given element as a terminal or a non-terminal point.
+	 *
+	 * @param element the reached element.
+	 * @param reachedPoints the non-terminal points that were already reached.
+	 * @param listener the listener to notify, or <code>null</code>.
+	 */
+	private void registerPoint(GraphIterationElement<ST, PT> element, Set<ComparableWeakReference<PT>> reachedPoints,
+			SubGraphBuildListener<ST, PT> listener) {
+		final ST segment = element.getSegment();
+		final PT point = segment.getOtherSidePoint(element.getPoint());
+		final ComparableWeakReference<PT> ref = new ComparableWeakReference<>(point);
+		if (element.isTerminalSegment()) {
+			if (!reachedPoints.contains(ref)) {
+				this.terminalPoints.add(ref);
+				if (listener != null) {
+					listener.terminalPointReached(this, point, segment);
+				}
+			}
+		} else {
+			this.terminalPoints.remove(ref);
+			reachedPoints.add(ref);
+			if (listener != null) {
+				listener.nonTerminalPointReached(this, point, segment);
+			}
+		}
+	}
+
+	private void evictSegments(Set<ST> reachedSegments, SubGraphBuildListener<ST, PT> listener) {
+		final List<ST> evictedSegments = new ArrayList<>();
+		this.segments.removeIf(segment -> {
+			if (reachedSegments.contains(segment)) {
+				return false;
+			}
+			evictedSegments.add(segment);
+			return true;
+		});
+		for (final ST segment : evictedSegments) {
+			this.segmentIndex.remove(segment);
+			if (listener != null) {
+				listener.segmentRemoved(this, segment);
+			}
+		}
+	}
+
+	private void addSegments(List<GraphIterationElement<ST, PT>> elements, SubGraphBuildListener<ST, PT> listener) {
+		for (final GraphIterationElement<ST, PT> element : elements) {
+			this.segments.add(element.getSegment());
+			this.segmentIndex.add(element.getSegment());
+			if (listener != null) {
+				fireSegmentAdded(listener, element, isTerminalPoint(
+						element.getSegment().getOtherSidePoint(element.getPoint())));
+			}
+		}
+	}
+
+	private void fireSegmentAdded(SubGraphBuildListener<ST, PT> listener, GraphIterationElement<ST, PT> element,
+			boolean isTerminal) {
+		final ST segment = element.getSegment();
+		final PT point = segment.getOtherSidePoint(element.getPoint());
+		listener.segmentAdded(this, element);
+		if (isTerminal) {
+			listener.terminalPointReached(this, point, segment);
+		} else {
+			listener.nonTerminalPointReached(this, point, segment);
+		}
+	}
+
+	/** Update the given subgraphs in parallel.
+	 *
+	 * <p>Each subgraph is {@link #update(GraphIterator, SubGraphBuildListener) updated}
+	 * with the iterator that is replied by the given function. When a subgraph is empty,
+	 * the update is equivalent to a complete {@link #build(GraphIterator, SubGraphBuildListener) build}.
+	 * The subgraphs must be different, and the graph on which the iterators are
+	 * running must support concurrent read accesses. The listener may be invoked
+	 * by several threads at the same time.
+	 *
+	 * @param <ST> is the type of edge in the graph
+	 * @param <PT> is the type of node in the graph
+	 * @param <S> is the type of the subgraphs.
+	 * @param subgraphs are the subgraphs to update.
+	 * @param iteratorProvider replies the iterator on the graph to use for the given subgraph.
+	 * @param listener is the listener invoked each time a segment was added to or removed from
+	 *     a subgraph, or <code>null</code>.
+	 * @since 14.0
+	 */
+	public static <ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>, S extends SubGraph<ST, PT, ?>>
+			void updateAll(Collection<S> subgraphs,
+			Function<? super S, ? extends GraphIterator<ST, PT>> iteratorProvider,
+			SubGraphBuildListener<ST, PT> listener) {
+		assert subgraphs != null && iteratorProvider != null;
+		subgraphs.parallelStream().forEach(subgraph -> {
+			subgraph.update(iteratorProvider.apply(subgraph), listener);
+		});
+	}
+
 	/** Replies if the given point is a terminal point.
 	 *
 	 * @param point the point to test.
@@ -234,7 +386,7 @@ public class SubGraph<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT,
 	}
 
 	private ST filterSegment(ST segment) {
-		if (this.segments.contains(segment)) {
+		if (this.segmentIndex.contains(segment)) {
 			return segment;
 		}
 		return null;
@@ -253,7 +405,7 @@ public class SubGraph<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT,
 	@Pure
 	@Override
 	public boolean contains(Object obj) {
-		return this.segments.contains(obj);
+		return this.segmentIndex.contains(obj);
 	}
 
 	@Pure
@@ -21,7 +21,8 @@
 package org.arakhne.afc.math.graph;
 
 /** This interface is a listener invoked by the subgraph builder
- * each time a new subgraph segment was reached.
+ * each time a new subgraph segment was reached, or when a segment
+ * was removed from the subgraph.
  *
  * @param <PT> is the type of node in the graph
  * @param <ST> is the type of edge in the graph
@@ -68,4 +69,15 @@ public interface SubGraphBuildListener<ST extends GraphSegment<ST, PT>, PT exten
 		//
 	}
 
+	/** Invoked when a segment was removed from a subgraph during an
+	 * {@link SubGraph#update(GraphIterator, SubGraphBuildListener) update}.
+	 *
+	 * @param graph is the subgraph under update.
+	 * @param segment is the removed segment.
+	 * @since 14.0
+	 */
+	default void segmentRemoved(SubGraph<ST, PT, ?> graph, ST segment) {
+		//
+	}
+
 }
@@ -0,0 +1,173 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/** Set of visited segments that is implemented with an open-addressing hash table.
+ *
+ * <p>The segments are compared with {@link Object#equals(Object)}. Clearing the set
+ * keeps the hash table, so that this set does not allocate memory when it is
+ * reused for an iteration that is not larger than the previous ones.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+final class VisitedSegmentSet {
+
+	private static final int DEFAULT_CAPACITY = 32;
+
+	private static final int HASH_SPREAD = 0x9E3779B9;
+
+	private static final int HASH_SHIFT = 16;
+
+	private Object[] table = new Object[DEFAULT_CAPACITY];
+
+	private int size;
+
+	/** Replies the number of segments in the set.
+	 *
+	 * @return the number of segments.
+	 */
+	@Pure
+	public int size() {
+		return this.size;
+	}
+
+	/** Replies if the given segment is inside the set.
+	 *
+	 * @param segment the segment.
+	 * @return <code>true</code> if the segment is in the set.
+	 */
+	@Pure
+	public boolean contains(Object segment) {
+		return indexOf(segment) >= 0;
+	}
+
+	/** Add the given segment.
+	 *
+	 * @param segment the segment.
+	 * @return <code>true</code> if the segment was added, <code>false</code> if
+	 *     it is already in the set.
+	 */
+	public boolean add(Object segment) {
+		assert segment != null;
+		final int mask = this.table.length - 1;
+		int idx = hash(segment) & mask;
+		Object candidate = this.table[idx];
+		while (candidate != null) {
+			if (candidate.equals(segment)) {
+				return false;
+			}
+			idx = (idx + 1) & mask;
+			candidate = this.table[idx];
+		}
+		this.table[idx] = segment;
+		++this.size;
+		// Keep the load factor under 1/2
+		if ((this.size << 1) > this.table.length) {
+			rehash(this.table.length << 1);
+		}
+		return true;
+	}
+
+	/** Remove the given segment.
+	 *
+	 * @param segment the segment.
+	 * @return <code>true</code> if the segment was removed.
+	 */
+	public boolean remove(Object segment) {
+		int idx = indexOf(segment);
+		if (idx < 0) {
+			return false;
+		}
+		// Backward shift deletion for keeping the probe sequences consistent
+		final int mask = this.table.length - 1;
+		int next = (idx + 1) & mask;
+		Object candidate = this.table[next];
+		while (candidate != null) {
+			final int home = hash(candidate) & mask;
+			if (((next - home) & mask) >= ((next - idx) & mask)) {
+				this.table[idx] = candidate;
+				idx = next;
+			}
+			next = (next + 1) & mask;
+			candidate = this.table[next];
+		}
+		this.table[idx] = null;
+		--this.size;
+		return true;
+	}
+
+	/** Remove all the segments without releasing the hash table.
+	 */
+	public void clear() {
+		if (this.size > 0) {
+			Arrays.fill(this.table, null);
+			this.size = 0;
+		}
+	}
+
+	@Pure
+	private int indexOf(Object segment) {
+		if (segment == null) {
+			return -1;
+		}
+		final int mask = this.table.length - 1;
+		int idx = hash(segment) & mask;
+		Object candidate = this.table[idx];
+		while (candidate != null) {
+			if (candidate.equals(segment)) {
+				return idx;
+			}
+			idx = (idx + 1) & mask;
+			candidate = this.table[idx];
+		}
+		return -1;
+	}
+
+	@Pure
+	private static int hash(Object segment) {
+		final int hash = segment.hashCode() * HASH_SPREAD;
+		return hash ^ (hash >>> HASH_SHIFT);
+	}
+
+	private void rehash(int capacity) {
+		final Object[] old = this.table;
+		this.table = new Object[capacity];
+		final int mask = capacity - 1;
+		for (final Object segment : old) {
+			if (segment != null) {
+				int idx = hash(segment) & mask;
+				while (this.table[idx] != null) {
+					idx = (idx + 1) & mask;
+				}
+				this.table[idx] = segment;
+			}
+		}
+	}
+
+}
@@ -27,6 +27,7 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -67,6 +68,8 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 
 	private boolean enableClosedNodeReopening = true;
 
+	private boolean enableIndexedSearch;
+
 	/**
 	 * @param heuristic is the heuristic to use by the A* algorithm.
 	 * @param pathFactory1 is the factory to create new paths.
@@ -176,6 +179,39 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 		return this.enableClosedNodeReopening;
 	}
 
+	/** Change the flag that permits to use indexed structures for the open and close lists.
+	 *
+	 * <p>When this flag is enabled, the open list is an indexed binary heap that
+	 * supports the decrease of the node costs, and the close list is a hash table
+	 * on the graph points. The found paths are the same as the ones found with
+	 * the sorted lists, but each step of the algorithm runs in a logarithmic time
+	 * instead of a linear time.
+	 *
+	 * <p>The graph points must provide an implementation of {@link Object#hashCode()}
+	 * that is consistent with {@link Object#equals(Object)}.
+	 * The lists given to the {@link AStarListener listeners} are read-only views
+	 * of the indexed structures: the open list is not sorted by cost.
+	 *
+	 * @param enableIndexedSearch1 is <code>true</code> to use the indexed structures;
+	 *     <code>false</code> to use the sorted lists.
+	 * @since 14.0
+	 */
+	public void setIndexedSearchEnabled(boolean enableIndexedSearch1) {
+		this.enableIndexedSearch = enableIndexedSearch1;
+	}
+
+	/** Replies the flag that permits to use indexed structures for the open and close lists.
+	 *
+	 * @return <code>true</code> if the open list is an indexed heap and the close list
+	 *     is a hash table; <code>false</code> if both are sorted lists.
+	 * @since 14.0
+	 * @see #setIndexedSearchEnabled(boolean)
+	 */
+	@Pure
+	public boolean isIndexedSearchEnabled() {
+		return this.enableIndexedSearch;
+	}
+
 	/** Set the path factory used by the A* algorithm.
 	 *
 	 * @param factory is the new factory.
@@ -365,32 +401,70 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	 * @param segment is the first connection to follow.
 	 * @return the path instance.
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Pure
 	protected GP newPath(PT startPoint, ST segment) {
-		if (this.pathFactory != null) {
-			return this.pathFactory.newPath(startPoint, segment);
+		return newPath(this.pathFactory, startPoint, segment);
+	}
+
+	/** Add the given segment into the given path.
+	 *
+	 * <p>By default this function invokes the path factory
+	 * passed as parameter of the constructor.
+	 *
+	 * @param path is the path to build.
+	 * @param segment is the segment to add.
+	 * @return <code>true</code> if the segment was added;
+	 *     otherwise <code>false</code>.
+	 */
+	protected boolean addToPath(GP path, ST segment) {
+		return addToPath(this.pathFactory, path, segment);
+	}
+
+	/** Create a path with the given factory, or a {@link GraphPath} if there is no factory.
+	 *
+	 * <p>This function is shared by the path finders of this package.
+	 *
+	 * @param <GP> is the type of the graph path.
+	 * @param <ST> is the type of edge in the graph
+	 * @param <PT> is the type of node in the graph
+	 * @param factory the path factory, or <code>null</code>.
+	 * @param startPoint is the first point in the path.
+	 * @param segment is the first connection to follow.
+	 * @return the path instance.
+	 * @since 14.0
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Pure
+	static <GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> GP newPath(
+			AStarPathFactory<GP, ST, PT> factory, PT startPoint, ST segment) {
+		if (factory != null) {
+			return factory.newPath(startPoint, segment);
 		}
 		try {
 			return (GP) new GraphPath(segment, startPoint);
 		} catch (Throwable e) {
-			throw new IllegalStateException(Locale.getString("E2"), e); //$NON-NLS-1$
+			throw new IllegalStateException(Locale.getString(AStar.class, "E2"), e); //$NON-NLS-1$
 		}
 	}
 
-	/** Add the given segment into the given path.
+	/** Add the given segment into the given path with the given factory.
 	 *
-	 * <p>By default this function invokes the path factory
-	 * passed as parameter of the constructor.
+	 * <p>This function is shared by the path finders of this package.
 	 *
+	 * @param <GP> is the type of the graph path.
+	 * @param <ST> is the type of edge in the graph
+	 * @param <PT> is the type of node in the graph
+	 * @param factory the path factory, or <code>null</code>.
 	 * @param path is the path to build.
 	 * @param segment is the segment to add.
 	 * @return <code>true</code> if the segment was added;
 	 *     otherwise <code>false</code>.
+	 * @since 14.0
 	 */
-	protected boolean addToPath(GP path, ST segment) {
-		if (this.pathFactory != null) {
-			return this.pathFactory.addToPath(path, segment);
+	static <GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> boolean addToPath(
+			AStarPathFactory<GP, ST, PT> factory, GP path, ST segment) {
+		if (factory != null) {
+			return factory.addToPath(path, segment);
 		}
 		assert path != null;
 		assert segment != null;
@@ -431,12 +505,23 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	 * @return the found path, or <code>null</code> if none found.
 	 */
 	protected GP solve(AStarNode<ST, PT> startPoint, PT endPoint) {
-		final List<AStarNode<ST, PT>> closeList;
-
 		fireAlgorithmStart(startPoint, endPoint);
 
+		if (isIndexedSearchEnabled()) {
+			// Run A*
+			final AStarCloseSet<ST, PT> closeSet = findPathIndexed(startPoint, endPoint);
+			if (closeSet.isEmpty()) {
+				return null;
+			}
+
+			fireAlgorithmEnd(closeSet);
+
+			// Create the path
+			return createPath(startPoint, endPoint, closeSet::removeNode);
+		}
+
 		// Run A*
-		closeList = findPath(startPoint, endPoint);
+		final List<AStarNode<ST, PT>> closeList = findPath(startPoint, endPoint);
 		if (closeList == null || closeList.isEmpty()) {
 			return null;
 		}
@@ -599,6 +684,105 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 		return closeList;
 	}
 
+	/** Run the A* algorithm with indexed open and close lists, and tries to find
+	 * a path from the startPoint to the endPoint.
+	 *
+	 * <p>This function has the same behavior as {@link #findPath(AStarNode, GraphPoint)},
+	 * except that the open list is an indexed binary heap, and the close list
+	 * is a hash table.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param endPoint is the point to reach.
+	 * @return the close list of the A* algorithm.
+	 * @see #setIndexedSearchEnabled(boolean)
+	 */
+	@Pure
+	AStarCloseSet<ST, PT> findPathIndexed(AStarNode<ST, PT> startPoint, PT endPoint) {
+		final AStarOpenHeap<ST, PT, AStarNode<ST, PT>> openList = new AStarOpenHeap<>(new OpenComparator<ST, PT>());
+		final AStarCloseSet<ST, PT> closeList = new AStarCloseSet<>();
+
+		openList.push(startPoint);
+		fireNodeOpened(startPoint, openList);
+
+		AStarNode<ST, PT> candidate;
+		AStarNode<ST, PT> ocandidate;
+		PT reachableNode;
+		PT node;
+		double gCost;
+		boolean foundTarget = false;
+
+		while (!foundTarget && !openList.isEmpty()) {
+
+			ocandidate = openList.poll();
+			fireNodeConsumed(ocandidate, openList);
+
+			candidate = translateCandidate(endPoint, ocandidate);
+			foundTarget = candidate == null;
+
+			if (!foundTarget) {
+				assert candidate != null;
+				node = candidate.getGraphPoint();
+				// Update the nodes that are reachable from the current candidate.
+				for (final ST segment : candidate.getGraphSegments()) {
+					reachableNode = segment.getOtherSidePoint(node);
+					if (reachableNode != null && !reachableNode.equals(node)) {
+						gCost = candidate.getCost()
+								+ computeCostFor(node)
+								+ computeCostFor(segment);
+						updateIndexedLists(openList, closeList, reachableNode, endPoint, segment, gCost);
+					}
+				}
+			}
+
+			// Refresh the close list
+			closeList.put(ocandidate);
+			fireNodeClosed(ocandidate, closeList);
+		}
+
+		return closeList;
+	}
+
+	/** Update the indexed open and close lists with the given reachable node.
+	 *
+	 * @param openList the open list.
+	 * @param closeList the close list.
+	 * @param reachableNode the reached node.
+	 * @param endPoint the point to reach.
+	 * @param segment the segment that permits to reach the node.
+	 * @param gCost the cost to reach the node.
+	 */
+	private void updateIndexedLists(AStarOpenHeap<ST, PT, AStarNode<ST, PT>> openList, AStarCloseSet<ST, PT> closeList,
+			PT reachableNode, PT endPoint, ST segment, double gCost) {
+		final double h1 = estimate(reachableNode, endPoint);
+
+		// Reopen node if better cost
+		AStarNode<ST, PT> reachedCandidate = (isClosedNodeReopeningEnabled())
+				? closeList.getNode(reachableNode) : null;
+		if (reachedCandidate != null) {
+			if (gCost < reachedCandidate.getCost()) {
+				closeList.removeNode(reachableNode);
+				final AStarNode<ST, PT> nn = node(reachableNode, gCost, h1, segment);
+				openList.push(nn);
+				fireNodeOpened(nn, openList);
+			}
+		} else {
+			reachedCandidate = openList.getNode(reachableNode);
+			if (reachedCandidate != null) {
+				// Rearrange open list if better cost
+				if ((gCost + h1) < reachedCandidate.getPathCost()) {
+					final AStarNode<ST, PT> nn = node(reachableNode, gCost, h1, segment);
+					openList.update(nn);
+					fireNodeReopened(nn, openList);
+				}
+			} else {
+				// Node was neither treated nor seen, add it
+				final AStarNode<ST, PT> nn = node(reachableNode, gCost, h1, segment);
+				openList.push(nn);
+				fireNodeOpened(nn, openList);
+			}
+		}
+	}
+
 	/** Create the path from the given close list.
 	 *
 	 * @param startPoint is the starting point.
@@ -608,18 +792,36 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	 */
 	@Pure
 	GP createPath(AStarNode<ST, PT> startPoint, PT endPoint, List<AStarNode<ST, PT>> closeList) {
-		int idx;
+		final CloseComparator<ST, PT> cComparator = new CloseComparator<>();
+		return createPath(startPoint, endPoint, point -> {
+			final AStarNode<ST, PT> node = newAStarNode(point, Double.NaN, Double.NaN, null);
+			final int idx = ListUtil.indexOf(closeList, cComparator, node);
+			if (idx >= 0) {
+				return closeList.remove(idx);
+			}
+			return null;
+		});
+	}
+
+	/** Create the path from the close list.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param endPoint is the ending point.
+	 * @param closeListExtractor is the function that removes from the close list, and replies,
+	 *     the node associated to a graph point. It replies <code>null</code> when the
+	 *     graph point is not in the close list.
+	 * @return the path, or <code>null</code> if no path found.
+	 */
+	private GP createPath(AStarNode<ST, PT> startPoint, PT endPoint,
+			Function<PT, AStarNode<ST, PT>> closeListExtractor) {
 		ST segment;
 		PT point;
 		AStarNode<ST, PT> node;
 		GP path = null;
-		final CloseComparator<ST, PT> cComparator = new CloseComparator<>();
 
-		node = newAStarNode(endPoint, Double.NaN, Double.NaN, null);
-		idx = ListUtil.indexOf(closeList, cComparator, node);
+		node = closeListExtractor.apply(endPoint);
 
-		if (idx >= 0) {
-			node = closeList.remove(idx);
+		if (node != null) {
 			point = node.getGraphPoint();
 			segment = node.getArrivalConnection();
 			if (point != null && segment != null) {
@@ -627,10 +829,8 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 				pathSegments.add(segment);
 				do {
 					point = segment.getOtherSidePoint(point);
-					node = newAStarNode(point, Double.NaN, Double.NaN, null);
-					idx = ListUtil.indexOf(closeList, cComparator, node);
-					if (idx >= 0) {
-						node = closeList.remove(idx);
+					node = closeListExtractor.apply(point);
+					if (node != null) {
 						segment = node.getArrivalConnection();
 						if (segment != null) {
 							pathSegments.add(segment);
@@ -664,6 +864,35 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 		return path;
 	}
 
+	/** Replies the segments that are traversable from the given point, without
+	 * considering the segment from which the point is reached.
+	 *
+	 * @param <ST> is the type of edge in the graph
+	 * @param <PT> is the type of node in the graph
+	 * @param point the point.
+	 * @param tool the tool for retreiving the orientation of the segments, or <code>null</code>
+	 *     if all the segments connected to the point are traversable.
+	 * @return the traversable segments.
+	 * @since 14.0
+	 */
+	@Pure
+	static <ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> List<ST> getTraversableSegments(
+			PT point, AStarSegmentOrientation<ST, PT> tool) {
+		final List<ST> segments = new ArrayList<>(point.getConnectedSegmentCount());
+		if (tool != null) {
+			for (final GraphPointConnection<PT, ST> connection : point.getConnections()) {
+				if (tool.isTraversable(null, connection)) {
+					segments.add(connection.getGraphSegment());
+				}
+			}
+		} else {
+			for (final ST segment : point.getConnectedSegments()) {
+				segments.add(segment);
+			}
+		}
+		return segments;
+	}
+
 	/** Invoked to replace a segment before adding it to the shortest path.
 	 *
 	 * <p>* By default, this function invoked the {@link AStarSegmentReplacer}
@@ -985,7 +1214,8 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 
 	}
 
-	/**
+	/** Path factory that creates the paths by reflection.
+	 *
 	 * @param <GP> is the type of the graph graph itself.
 	 * @param <PT> is the type of node in the graph
 	 * @param <ST> is the type of edge in the graph
@@ -995,7 +1225,7 @@ public class AStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST,
 	 * @mavenartifactid $ArtifactId$
 	 * @since 13.0
 	 */
-	private static class AStarReflectionPathFactory<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST, PT>,
+	static class AStarReflectionPathFactory<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST, PT>,
 			PT extends GraphPoint<PT, ST>> implements AStarPathFactory<GP, ST, PT> {
 
 		private final Class<? extends GP> type;
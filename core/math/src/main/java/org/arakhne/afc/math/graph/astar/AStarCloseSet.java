@@ -0,0 +1,121 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** Close list of the {@link AStar A* algorithm} that is indexed by a hash table.
+ *
+ * <p>Each graph point has at most one node in the set. The list view of this set
+ * replies the nodes in an unspecified order. It is read-only.
+ *
+ * @param <ST> is the type of edge in the graph
+ * @param <PT> is the type of node in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+final class AStarCloseSet<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>>
+		extends AbstractList<AStarNode<ST, PT>> {
+
+	private final List<AStarNode<ST, PT>> nodes = new ArrayList<>();
+
+	private final Map<PT, Integer> indexes = new HashMap<>();
+
+	/** Construct an empty set.
+	 */
+	AStarCloseSet() {
+		//
+	}
+
+	@Pure
+	@Override
+	public AStarNode<ST, PT> get(int index) {
+		return this.nodes.get(index);
+	}
+
+	@Pure
+	@Override
+	public int size() {
+		return this.nodes.size();
+	}
+
+	/** Replies the node associated to the given graph point.
+	 *
+	 * @param point the graph point.
+	 * @return the node, or <code>null</code> if the point is not in the set.
+	 */
+	@Pure
+	public AStarNode<ST, PT> getNode(PT point) {
+		final Integer index = this.indexes.get(point);
+		return index == null ? null : this.nodes.get(index.intValue());
+	}
+
+	/** Add the given node in the set. If a node is already associated to
+	 * the same graph point, it is replaced by the given node.
+	 *
+	 * @param node the node to add.
+	 */
+	public void put(AStarNode<ST, PT> node) {
+		assert node != null;
+		final Integer index = this.indexes.get(node.getGraphPoint());
+		if (index == null) {
+			this.indexes.put(node.getGraphPoint(), Integer.valueOf(this.nodes.size()));
+			this.nodes.add(node);
+		} else {
+			this.nodes.set(index.intValue(), node);
+		}
+	}
+
+	/** Remove and replies the node associated to the given graph point.
+	 *
+	 * @param point the graph point.
+	 * @return the removed node, or <code>null</code> if the point is not in the set.
+	 */
+	public AStarNode<ST, PT> removeNode(PT point) {
+		final Integer index = this.indexes.remove(point);
+		if (index == null) {
+			return null;
+		}
+		final int idx = index.intValue();
+		final AStarNode<ST, PT> node = this.nodes.get(idx);
+		final int last = this.nodes.size() - 1;
+		if (idx < last) {
+			final AStarNode<ST, PT> moved = this.nodes.get(last);
+			this.nodes.set(idx, moved);
+			this.indexes.put(moved.getGraphPoint(), index);
+		}
+		this.nodes.remove(last);
+		return node;
+	}
+
+}
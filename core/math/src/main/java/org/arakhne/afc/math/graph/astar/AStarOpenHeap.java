@@ -0,0 +1,224 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** Open list of the {@link AStar A* algorithm} that is implemented with
+ * an indexed binary heap.
+ *
+ * <p>Each graph point has at most one record in the heap. The record of a
+ * graph point is retreived with a hash table, which permits to decrease the
+ * key of a node in a logarithmic time.
+ *
+ * <p>The list view of this heap replies the nodes in the order of the heap array,
+ * not in the order of the path costs. It is read-only.
+ *
+ * @param <ST> is the type of edge in the graph
+ * @param <PT> is the type of node in the graph
+ * @param <N> is the type of the A* nodes in the heap
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+final class AStarOpenHeap<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>,
+		N extends AStarNode<ST, PT>> extends AbstractList<N> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final Comparator<? super N> comparator;
+
+	private final Map<PT, Entry<N>> entries = new HashMap<>();
+
+	private Entry<N>[] heap;
+
+	private int size;
+
+	/** Construct an empty heap.
+	 *
+	 * @param comparator the comparator of the A* nodes.
+	 */
+	AStarOpenHeap(Comparator<? super N> comparator) {
+		assert comparator != null;
+		this.comparator = comparator;
+		this.heap = newEntryArray(DEFAULT_CAPACITY);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <N> Entry<N>[] newEntryArray(int size) {
+		return new Entry[size];
+	}
+
+	@Pure
+	@Override
+	public N get(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.heap[index].node;
+	}
+
+	@Pure
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	/** Replies the node associated to the given graph point.
+	 *
+	 * @param point the graph point.
+	 * @return the node, or <code>null</code> if the point is not in the heap.
+	 */
+	@Pure
+	public N getNode(PT point) {
+		final Entry<N> entry = this.entries.get(point);
+		return entry == null ? null : entry.node;
+	}
+
+	/** Add the given node in the heap.
+	 *
+	 * @param node the node to add. Its graph point must not be already in the heap.
+	 */
+	public void push(N node) {
+		assert node != null;
+		final Entry<N> entry = new Entry<>(node, this.size);
+		final Entry<N> old = this.entries.put(node.getGraphPoint(), entry);
+		assert old == null;
+		if (this.size >= this.heap.length) {
+			this.heap = Arrays.copyOf(this.heap, this.heap.length * 2);
+		}
+		this.heap[this.size] = entry;
+		++this.size;
+		siftUp(entry.index);
+	}
+
+	/** Replace the node that is associated to the same graph point as the given node,
+	 * and move it in the heap according to its new cost.
+	 *
+	 * @param node the new node.
+	 */
+	public void update(N node) {
+		assert node != null;
+		final Entry<N> entry = this.entries.get(node.getGraphPoint());
+		assert entry != null;
+		entry.node = node;
+		siftUp(entry.index);
+		siftDown(entry.index);
+	}
+
+	/** Remove and replies the node with the lowest cost.
+	 *
+	 * @return the node with the lowest cost.
+	 */
+	public N poll() {
+		if (this.size == 0) {
+			throw new NoSuchElementException();
+		}
+		final Entry<N> first = this.heap[0];
+		--this.size;
+		if (this.size > 0) {
+			move(this.heap[this.size], 0);
+			siftDown(0);
+		}
+		this.heap[this.size] = null;
+		this.entries.remove(first.node.getGraphPoint());
+		return first.node;
+	}
+
+	private void move(Entry<N> entry, int index) {
+		this.heap[index] = entry;
+		entry.index = index;
+	}
+
+	private void siftUp(int index) {
+		final Entry<N> entry = this.heap[index];
+		int idx = index;
+		while (idx > 0) {
+			final int parent = (idx - 1) >>> 1;
+			final Entry<N> parentEntry = this.heap[parent];
+			if (this.comparator.compare(entry.node, parentEntry.node) >= 0) {
+				break;
+			}
+			move(parentEntry, idx);
+			idx = parent;
+		}
+		move(entry, idx);
+	}
+
+	private void siftDown(int index) {
+		final Entry<N> entry = this.heap[index];
+		final int half = this.size >>> 1;
+		int idx = index;
+		while (idx < half) {
+			int child = (idx << 1) + 1;
+			final int right = child + 1;
+			if (right < this.size && this.comparator.compare(this.heap[right].node, this.heap[child].node) < 0) {
+				child = right;
+			}
+			final Entry<N> childEntry = this.heap[child];
+			if (this.comparator.compare(entry.node, childEntry.node) <= 0) {
+				break;
+			}
+			move(childEntry, idx);
+			idx = child;
+		}
+		move(entry, idx);
+	}
+
+	/** Record of a node in the heap.
+	 *
+	 * @param <N> is the type of the A* nodes
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class Entry<N> {
+
+		N node;
+
+		int index;
+
+		/**
+		 * @param node the node.
+		 * @param index the index of the node in the heap.
+		 */
+		Entry(N node, int index) {
+			this.node = node;
+			this.index = index;
+		}
+
+	}
+
+}
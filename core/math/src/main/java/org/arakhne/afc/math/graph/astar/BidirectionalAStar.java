@@ -0,0 +1,608 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.Graph;
+import org.arakhne.afc.math.graph.GraphPath;
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+import org.arakhne.afc.vmutil.locale.Locale;
+
+/** This class provides an implementation of the bidirectional
+ * A* algorithm.
+ *
+ * <p>Two searches are run alternatively: a forward search from the starting point,
+ * and a backward search from the target point. The algorithm stops when
+ * the shortest path that passes through a point reached by the two searches
+ * cannot be improved anymore.
+ *
+ * <p>The nodes are sorted with the average potential
+ * {@code p(n) = (h(n, target) - h(start, n)) / 2} for the forward search,
+ * and {@code -p(n)} for the backward search, where {@code h} is the
+ * {@link AStarHeuristic heuristic}. These potentials keep the two searches
+ * consistent when the heuristic is consistent, ie. when the heuristic never
+ * overestimates the cost of a segment. Otherwise the replied path may not be
+ * the shortest one.
+ *
+ * <p>The backward search needs the segments that permit to reach each point.
+ * They are computed from the graph at the first search, and kept until
+ * {@link #clearSegmentIndex()} is invoked. This function must be invoked
+ * each time the graph has changed.
+ *
+ * <p>Because the backward search does not know from which segment a point
+ * is reached, the {@link AStarSegmentOrientation segment orientation tool}
+ * is always invoked with a <code>null</code> entry segment.
+ *
+ * @param <GP> is the type of the graph graph itself.
+ * @param <PT> is the type of node in the graph
+ * @param <ST> is the type of edge in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see AStar
+ * @see BidirectionalDijkstra
+ */
+public class BidirectionalAStar<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST, PT>,
+		PT extends GraphPoint<PT, ST>> {
+
+	private final Graph<ST, PT> graph;
+
+	private AStarHeuristic<? super PT> heuristic;
+
+	private AStarPathFactory<GP, ST, PT> pathFactory;
+
+	private AStarSegmentOrientation<ST, PT> segmentOrientation;
+
+	private AStarCostComputer<? super ST, ? super PT> costComputer;
+
+	private Map<PT, List<ST>> forwardSegments;
+
+	private Map<PT, List<ST>> backwardSegments;
+
+	/**
+	 * @param graph is the graph in which the paths are searched.
+	 * @param heuristic is the heuristic to use by the A* algorithm.
+	 * @param pathFactory is the factory to create new paths.
+	 */
+	public BidirectionalAStar(Graph<ST, PT> graph, AStarHeuristic<? super PT> heuristic,
+			AStarPathFactory<GP, ST, PT> pathFactory) {
+		assert graph != null;
+		this.graph = graph;
+		this.heuristic = heuristic;
+		this.pathFactory = pathFactory;
+	}
+
+	/**
+	 * @param graph is the graph in which the paths are searched.
+	 * @param heuristic is the heuristic to use by the A* algorithm.
+	 * @param pathType is the type of the path to create.
+	 */
+	public BidirectionalAStar(Graph<ST, PT> graph, AStarHeuristic<? super PT> heuristic, Class<? extends GP> pathType) {
+		this(graph, heuristic, new AStar.AStarReflectionPathFactory<>(pathType));
+	}
+
+	/** Replies the graph in which the paths are searched.
+	 *
+	 * @return the graph.
+	 */
+	@Pure
+	public Graph<ST, PT> getGraph() {
+		return this.graph;
+	}
+
+	/** Set the path factory used by the algorithm.
+	 *
+	 * @param factory is the new factory.
+	 * @return the old factory
+	 * @see #setPathType(Class)
+	 */
+	public AStarPathFactory<GP, ST, PT> setPathFactory(AStarPathFactory<GP, ST, PT> factory) {
+		final AStarPathFactory<GP, ST, PT> old = this.pathFactory;
+		this.pathFactory = factory;
+		return old;
+	}
+
+	/** Set the path factory used by the algorithm.
+	 *
+	 * @param type is the type of path to instance with a reflection-based factory.
+	 * @return the old factory
+	 * @see #setPathFactory(AStarPathFactory)
+	 */
+	public AStarPathFactory<GP, ST, PT> setPathType(Class<? extends GP> type) {
+		final AStarPathFactory<GP, ST, PT> old = this.pathFactory;
+		this.pathFactory = new AStar.AStarReflectionPathFactory<>(type);
+		return old;
+	}
+
+	/** Replies the path factory used by the algorithm.
+	 *
+	 * @return the factory
+	 */
+	@Pure
+	public AStarPathFactory<GP, ST, PT> getPathFactory() {
+		return this.pathFactory;
+	}
+
+	/** Set the evaluation heuristic used by the algorithm.
+	 *
+	 * @param heuristic is the evaluation heuristic.
+	 * @return the old heurisstic.
+	 */
+	public AStarHeuristic<? super PT> setEvaluationHeuristic(AStarHeuristic<? super PT> heuristic) {
+		final AStarHeuristic<? super PT> old = this.heuristic;
+		this.heuristic = heuristic;
+		return old;
+	}
+
+	/** Replies the evaluation heuristic used by the algorithm.
+	 *
+	 * @return the heurisstic.
+	 */
+	@Pure
+	public AStarHeuristic<? super PT> getEvaluationHeuristic() {
+		return this.heuristic;
+	}
+
+	/** Set the tool that permits to retreive the orinetation of the segments.
+	 *
+	 * <p>The index of the segments is cleared.
+	 *
+	 * @param tool the tool for retreiving the orientation of the segments.
+	 * @return the old tool.
+	 * @see #clearSegmentIndex()
+	 */
+	public AStarSegmentOrientation<ST, PT> setSegmentOrientationTool(AStarSegmentOrientation<ST, PT> tool) {
+		final AStarSegmentOrientation<ST, PT> old = this.segmentOrientation;
+		this.segmentOrientation = tool;
+		clearSegmentIndex();
+		return old;
+	}
+
+	/** Replies the tool that permits to retreive the orinetation of the segments.
+	 *
+	 * @return the tool.
+	 */
+	@Pure
+	public AStarSegmentOrientation<ST, PT> getSegmentOrientationTool() {
+		return this.segmentOrientation;
+	}
+
+	/** Set the tool that permits to compute the costs of the nodes and the edges.
+	 *
+	 * @param costComputer is the object that permits to compute the costs.
+	 * @return the old cost computer.
+	 */
+	public AStarCostComputer<? super ST, ? super PT> setCostComputer(AStarCostComputer<? super ST, ? super PT> costComputer) {
+		final AStarCostComputer<? super ST, ? super PT> old = this.costComputer;
+		this.costComputer = costComputer;
+		return old;
+	}
+
+	/** Replies the tool that permits to compute the costs of the nodes and edges.
+	 *
+	 * @return the cost computer
+	 */
+	@Pure
+	public AStarCostComputer<? super ST, ? super PT> getCostComputer() {
+		return this.costComputer;
+	}
+
+	/** Clear the index of the traversable segments.
+	 *
+	 * <p>The index is rebuilt from the graph at the next search.
+	 * This function must be invoked when the graph has changed.
+	 */
+	public void clearSegmentIndex() {
+		this.forwardSegments = null;
+		this.backwardSegments = null;
+	}
+
+	/** Evaluate the distance between two points in the graph.
+	 *
+	 * <p>By default, this function uses the heuristic passed as parameter
+	 * of the constructor.
+	 *
+	 * @param p1 the first point.
+	 * @param p2 the second point.
+	 * @return the evaluated distance between {@code p1} and {@code p2}.
+	 */
+	@Pure
+	protected double estimate(PT p1, PT p2) {
+		assert p1 != null && p2 != null;
+		if (this.heuristic == null) {
+			throw new IllegalStateException(Locale.getString(AStar.class, "E1")); //$NON-NLS-1$
+		}
+		return this.heuristic.evaluate(p1, p2);
+	}
+
+	/** Compute and replies the cost to traverse the given graph point.
+	 *
+	 * @param pt the point.
+	 * @return the cost to traverse the point.
+	 */
+	@Pure
+	protected double computeCostFor(PT pt) {
+		if (this.costComputer != null) {
+			return this.costComputer.computeCostFor(pt);
+		}
+		return 0;
+	}
+
+	/** Compute and replies the cost to traverse the given graph segment.
+	 *
+	 * @param segment the segment.
+	 * @return the cost to traverse the segment.
+	 */
+	@Pure
+	protected double computeCostFor(ST segment) {
+		if (this.costComputer != null) {
+			return this.costComputer.computeCostFor(segment);
+		}
+		return segment.getLength();
+	}
+
+	/** Create an empty path.
+	 *
+	 * <p>By default this function invokes the path factory
+	 * passed as parameter of the constructor.
+	 *
+	 * @param startPoint is the first point in the path.
+	 * @param segment is the first connection to follow.
+	 * @return the path instance.
+	 */
+	@Pure
+	protected GP newPath(PT startPoint, ST segment) {
+		return AStar.newPath(this.pathFactory, startPoint, segment);
+	}
+
+	/** Add the given segment into the given path.
+	 *
+	 * <p>By default this function invokes the path factory
+	 * passed as parameter of the constructor.
+	 *
+	 * @param path is the path to build.
+	 * @param segment is the segment to add.
+	 * @return <code>true</code> if the segment was added;
+	 *     otherwise <code>false</code>.
+	 */
+	protected boolean addToPath(GP path, ST segment) {
+		return AStar.addToPath(this.pathFactory, path, segment);
+	}
+
+	/** Build the index of the traversable segments if it does not exist.
+	 */
+	private void ensureSegmentIndex() {
+		if (this.forwardSegments == null || this.backwardSegments == null) {
+			final Set<PT> points = new HashSet<>();
+			for (final ST segment : this.graph) {
+				points.add(segment.getBeginPoint());
+				points.add(segment.getEndPoint());
+			}
+			final Map<PT, List<ST>> forward = new HashMap<>();
+			final Map<PT, List<ST>> backward = new HashMap<>();
+			for (final PT point : points) {
+				final List<ST> segments = AStar.getTraversableSegments(point, getSegmentOrientationTool());
+				forward.put(point, segments);
+				for (final ST segment : segments) {
+					final PT other = segment.getOtherSidePoint(point);
+					if (other != null && !other.equals(point)) {
+						backward.computeIfAbsent(other, it -> new ArrayList<>()).add(segment);
+					}
+				}
+			}
+			this.forwardSegments = forward;
+			this.backwardSegments = backward;
+		}
+	}
+
+	/** Run the bidirectional algorithm.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param endPoint is the point to reach.
+	 * @return the found path, or <code>null</code> if none found.
+	 */
+	public GP solve(PT startPoint, PT endPoint) {
+		assert startPoint != null && endPoint != null;
+		if (startPoint.equals(endPoint)) {
+			return null;
+		}
+
+		ensureSegmentIndex();
+
+		final Search forward = new Search(true, startPoint, endPoint, this.forwardSegments);
+		final Search backward = new Search(false, startPoint, endPoint, this.backwardSegments);
+
+		double best = Double.POSITIVE_INFINITY;
+		PT meetingPoint = null;
+
+		while (!forward.openList.isEmpty() && !backward.openList.isEmpty()
+				&& forward.openList.get(0).getPathCost() + backward.openList.get(0).getPathCost() < best) {
+			final Search current;
+			final Search opposite;
+			if (forward.openList.size() <= backward.openList.size()) {
+				current = forward;
+				opposite = backward;
+			} else {
+				current = backward;
+				opposite = forward;
+			}
+
+			final Label candidate = current.openList.poll();
+			candidate.settled = true;
+			final PT node = candidate.getGraphPoint();
+			for (final ST segment : candidate.getGraphSegments()) {
+				final PT reachableNode = segment.getOtherSidePoint(node);
+				if (reachableNode != null && !reachableNode.equals(node)) {
+					final Label reached = current.relax(candidate, reachableNode, segment);
+					if (reached != null) {
+						final Label oppositeLabel = opposite.labels.get(reachableNode);
+						if (oppositeLabel != null) {
+							final double cost = reached.getCost() + oppositeLabel.getCost();
+							if (cost < best) {
+								best = cost;
+								meetingPoint = reachableNode;
+							}
+						}
+					}
+				}
+			}
+		}
+
+		if (meetingPoint == null) {
+			return null;
+		}
+		return createPath(startPoint, meetingPoint, forward, backward);
+	}
+
+	/** Create the path that is passing through the meeting point of the two searches.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param meetingPoint is the point reached by the two searches.
+	 * @param forward is the forward search.
+	 * @param backward is the backward search.
+	 * @return the path, or <code>null</code> if no path found.
+	 */
+	private GP createPath(PT startPoint, PT meetingPoint, Search forward, Search backward) {
+		final LinkedList<ST> pathSegments = new LinkedList<>();
+
+		PT point = meetingPoint;
+		ST segment = forward.labels.get(point).getArrivalConnection();
+		while (segment != null) {
+			pathSegments.addFirst(segment);
+			point = segment.getOtherSidePoint(point);
+			segment = forward.labels.get(point).getArrivalConnection();
+		}
+
+		point = meetingPoint;
+		segment = backward.labels.get(point).getArrivalConnection();
+		while (segment != null) {
+			pathSegments.addLast(segment);
+			point = segment.getOtherSidePoint(point);
+			segment = backward.labels.get(point).getArrivalConnection();
+		}
+
+		final Iterator<ST> iterator = pathSegments.iterator();
+		if (!iterator.hasNext()) {
+			return null;
+		}
+		final GP path = newPath(startPoint, iterator.next());
+		while (iterator.hasNext()) {
+			addToPath(path, iterator.next());
+		}
+		return path;
+	}
+
+	/** State of one of the two searches.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private class Search {
+
+		final Map<PT, Label> labels = new HashMap<>();
+
+		final AStarOpenHeap<ST, PT, Label> openList = new AStarOpenHeap<>(new AStar.OpenComparator<ST, PT>());
+
+		private final boolean isForward;
+
+		private final PT startPoint;
+
+		private final PT endPoint;
+
+		private final Map<PT, List<ST>> segments;
+
+		/**
+		 * @param isForward indicates if the search is the forward search.
+		 * @param startPoint the starting point of the forward search.
+		 * @param endPoint the starting point of the backward search.
+		 * @param segments the segments that are traversable from each point in the direction of the search.
+		 */
+		Search(boolean isForward, PT startPoint, PT endPoint, Map<PT, List<ST>> segments) {
+			this.isForward = isForward;
+			this.startPoint = startPoint;
+			this.endPoint = endPoint;
+			this.segments = segments;
+			final PT origin = isForward ? startPoint : endPoint;
+			final Label label = new Label(origin, getSegments(origin), 0, potential(origin));
+			this.labels.put(origin, label);
+			this.openList.push(label);
+		}
+
+		private List<ST> getSegments(PT point) {
+			final List<ST> list = this.segments.get(point);
+			if (list == null) {
+				return Collections.emptyList();
+			}
+			return list;
+		}
+
+		/** Compute the potential of the given point.
+		 *
+		 * <p>The potential for the forward search is the average of the forward and backward
+		 * estimations. The potential for the backward search is its opposite.
+		 *
+		 * @param point the point.
+		 * @return the potential.
+		 */
+		private double potential(PT point) {
+			final double potential = (estimate(point, this.endPoint) - estimate(this.startPoint, point)) / 2.;
+			return this.isForward ? potential : -potential;
+		}
+
+		/** Update the label of the reachable node.
+		 *
+		 * @param candidate the label of the node from which the segment is traversed.
+		 * @param reachableNode the reached node.
+		 * @param segment the traversed segment.
+		 * @return the label of the reached node if it was created or its cost was improved;
+		 *     otherwise <code>null</code>.
+		 */
+		Label relax(Label candidate, PT reachableNode, ST segment) {
+			final PT tail = this.isForward ? candidate.getGraphPoint() : reachableNode;
+			final double gCost = candidate.getCost() + computeCostFor(tail) + computeCostFor(segment);
+			Label label = this.labels.get(reachableNode);
+			if (label == null) {
+				label = new Label(reachableNode, getSegments(reachableNode), gCost, potential(reachableNode));
+				label.setArrivalConnection(segment);
+				this.labels.put(reachableNode, label);
+				this.openList.push(label);
+				return label;
+			}
+			if (!label.settled && gCost < label.getCost()) {
+				label.setCost(gCost);
+				label.setArrivalConnection(segment);
+				this.openList.update(label);
+				return label;
+			}
+			return null;
+		}
+
+	}
+
+	/** Label of a node in one of the two searches.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private final class Label implements AStarNode<ST, PT> {
+
+		boolean settled;
+
+		private final PT point;
+
+		private final Iterable<ST> segments;
+
+		private ST arrival;
+
+		private double cost;
+
+		private double potential;
+
+		/**
+		 * @param point the labelled point.
+		 * @param segments the segments that are traversable from the point in the direction of the search.
+		 * @param cost the cost to reach the point.
+		 * @param potential the potential of the point.
+		 */
+		Label(PT point, Iterable<ST> segments, double cost, double potential) {
+			this.point = point;
+			this.segments = segments;
+			this.cost = cost;
+			this.potential = potential;
+		}
+
+		@Pure
+		@Override
+		public PT getGraphPoint() {
+			return this.point;
+		}
+
+		@Pure
+		@Override
+		public Iterable<ST> getGraphSegments() {
+			return this.segments;
+		}
+
+		@Pure
+		@Override
+		public ST getArrivalConnection() {
+			return this.arrival;
+		}
+
+		@Override
+		public ST setArrivalConnection(ST connection) {
+			this.arrival = connection;
+			return this.arrival;
+		}
+
+		@Pure
+		@Override
+		public double getCost() {
+			return this.cost;
+		}
+
+		@Override
+		public double setCost(double cost) {
+			this.cost = cost;
+			return this.cost;
+		}
+
+		@Pure
+		@Override
+		public double getEstimatedCost() {
+			return this.potential;
+		}
+
+		@Override
+		public double setEstimatedCost(double cost) {
+			this.potential = cost;
+			return this.potential;
+		}
+
+		@Pure
+		@Override
+		public double getPathCost() {
+			return this.cost + this.potential;
+		}
+
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.Graph;
+import org.arakhne.afc.math.graph.GraphPath;
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** This class provides an implementation of the bidirectional
+ * Dijkstra algorithm.
+ *
+ * <p>It is the {@link BidirectionalAStar bidirectional A* algorithm} without
+ * heuristic: the two searches are sorted by the costs to reach the nodes only.
+ *
+ * @param <GP> is the type of the graph graph itself.
+ * @param <PT> is the type of node in the graph
+ * @param <ST> is the type of edge in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see BidirectionalAStar
+ */
+public class BidirectionalDijkstra<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST, PT>,
+		PT extends GraphPoint<PT, ST>> extends BidirectionalAStar<GP, ST, PT> {
+
+	/**
+	 * @param graph is the graph in which the paths are searched.
+	 * @param pathFactory is the factory to create new paths.
+	 */
+	public BidirectionalDijkstra(Graph<ST, PT> graph, AStarPathFactory<GP, ST, PT> pathFactory) {
+		super(graph, null, pathFactory);
+	}
+
+	/**
+	 * @param graph is the graph in which the paths are searched.
+	 * @param pathType is the type of the path to create.
+	 */
+	public BidirectionalDijkstra(Graph<ST, PT> graph, Class<? extends GP> pathType) {
+		super(graph, null, pathType);
+	}
+
+	/** {@inheritDoc}
+	 *
+	 * <p>The Dijkstra algorithm does not use any heuristic. This function replies zero.
+	 */
+	@Pure
+	@Override
+	protected double estimate(PT p1, PT p2) {
+		return 0;
+	}
+
+}
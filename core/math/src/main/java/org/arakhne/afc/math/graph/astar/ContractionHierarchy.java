@@ -0,0 +1,228 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.Graph;
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** Contraction hierarchy of a graph.
+ *
+ * <p>A contraction hierarchy is the result of a preprocessing of the graph that
+ * permits to answer to the shortest path queries faster than the {@link AStar A* algorithm}.
+ * The nodes of the graph are ordered by importance, and contracted one by one: when
+ * a node is contracted, shortcut edges are added between its neighbors for preserving
+ * the shortest paths that are passing through it. The queries are answered
+ * by a {@link ContractionHierarchyQuery bidirectional search} that follows
+ * only the edges to the more important nodes.
+ *
+ * <p>The cost of an edge is the cost of its starting point plus the cost of its segment,
+ * as computed by the {@link AStarCostComputer cost computer}. The costs must be positive.
+ *
+ * <p>The hierarchy is immutable. It must be rebuilt each time the graph has changed.
+ * Because the contraction does not know from which segment a point is reached, the
+ * {@link AStarSegmentOrientation segment orientation tool} is invoked with a
+ * <code>null</code> entry segment.
+ *
+ * @param <ST> is the type of edge in the graph
+ * @param <PT> is the type of node in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see ContractionHierarchyQuery
+ */
+public class ContractionHierarchy<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> {
+
+	/** Default maximal number of nodes that are settled by a witness search
+	 * during the contraction.
+	 */
+	public static final int DEFAULT_WITNESS_SEARCH_LIMIT = 500;
+
+	/** Source nodes of the edges.
+	 */
+	final int[] sources;
+
+	/** Target nodes of the edges.
+	 */
+	final int[] targets;
+
+	/** Costs of the edges.
+	 */
+	final double[] costs;
+
+	/** Indexes of the graph segments of the edges, or {@code -1} for the shortcuts.
+	 */
+	final int[] segmentIndexes;
+
+	/** First edges that are replaced by the shortcuts.
+	 */
+	final int[] firstChildren;
+
+	/** Second edges that are replaced by the shortcuts.
+	 */
+	final int[] secondChildren;
+
+	/** Offsets of the upward adjacency lists of the nodes.
+	 */
+	final int[] upwardOffsets;
+
+	/** Upward adjacency lists, ie. the edges to higher-ranked nodes.
+	 */
+	final int[] upwardEdges;
+
+	/** Offsets of the downward adjacency lists of the nodes.
+	 */
+	final int[] downwardOffsets;
+
+	/** Downward adjacency lists, ie. the edges from higher-ranked nodes.
+	 */
+	final int[] downwardEdges;
+
+	private final GraphArcIndex<ST, PT> arcs;
+
+	private final int[] ranks;
+
+	private final int originalEdgeCount;
+
+	/** Build the contraction hierarchy of the given graph with the default costs,
+	 * ie. the lengths of the segments, and without orientation tool.
+	 *
+	 * @param graph is the graph to contract.
+	 */
+	public ContractionHierarchy(Graph<ST, PT> graph) {
+		this(graph, null, null, DEFAULT_WITNESS_SEARCH_LIMIT);
+	}
+
+	/** Build the contraction hierarchy of the given graph.
+	 *
+	 * @param graph is the graph to contract.
+	 * @param costComputer is the computer of the costs, or <code>null</code> for using the lengths of the segments.
+	 * @param orientationTool is the tool that indicates the traversable segments, or <code>null</code>
+	 *     if all the connected segments are traversable.
+	 * @param witnessSearchLimit is the maximal number of nodes that are settled by a witness search.
+	 *     A low value makes the preprocessing faster but adds more shortcuts.
+	 */
+	public ContractionHierarchy(Graph<ST, PT> graph, AStarCostComputer<? super ST, ? super PT> costComputer,
+			AStarSegmentOrientation<ST, PT> orientationTool, int witnessSearchLimit) {
+		assert graph != null;
+		assert witnessSearchLimit > 0;
+		this.arcs = new GraphArcIndex<ST, PT>(graph, costComputer, orientationTool);
+		final ContractionHierarchyBuilder builder = new ContractionHierarchyBuilder(
+				this.arcs.getPointCount(), witnessSearchLimit);
+		for (int point = 0; point < this.arcs.getPointCount(); ++point) {
+			for (int arc = this.arcs.offsets[point]; arc < this.arcs.offsets[point + 1]; ++arc) {
+				builder.addEdge(point, this.arcs.targets[arc], this.arcs.costs[arc], arc, -1, -1);
+			}
+		}
+		this.originalEdgeCount = builder.edgeCount;
+
+		builder.build();
+
+		this.sources = builder.sources;
+		this.targets = builder.targets;
+		this.costs = builder.costs;
+		this.segmentIndexes = builder.segments;
+		this.firstChildren = builder.firstChildren;
+		this.secondChildren = builder.secondChildren;
+		this.ranks = builder.ranks;
+		this.upwardOffsets = builder.upwardOffsets;
+		this.upwardEdges = builder.upwardEdges;
+		this.downwardOffsets = builder.downwardOffsets;
+		this.downwardEdges = builder.downwardEdges;
+	}
+
+	/** Replies the number of points in the hierarchy.
+	 *
+	 * @return the number of points.
+	 */
+	@Pure
+	public int getPointCount() {
+		return this.arcs.getPointCount();
+	}
+
+	/** Replies the number of edges in the hierarchy, including the shortcuts.
+	 *
+	 * @return the number of edges.
+	 */
+	@Pure
+	public int getEdgeCount() {
+		return this.sources.length;
+	}
+
+	/** Replies the number of shortcuts that were added by the contraction.
+	 *
+	 * @return the number of shortcuts.
+	 */
+	@Pure
+	public int getShortcutCount() {
+		return this.sources.length - this.originalEdgeCount;
+	}
+
+	/** Replies the rank of the given point in the hierarchy.
+	 * The points with the lowest ranks were contracted first.
+	 *
+	 * @param point the point.
+	 * @return the rank of the point, or {@code -1} if the point is not in the hierarchy.
+	 */
+	@Pure
+	public int getRank(PT point) {
+		final int index = indexOf(point);
+		if (index < 0) {
+			return -1;
+		}
+		return this.ranks[index];
+	}
+
+	/** Replies the index of the given point.
+	 *
+	 * @param point the point.
+	 * @return the index, or {@code -1} if the point is not in the hierarchy.
+	 */
+	@Pure
+	int indexOf(PT point) {
+		return this.arcs.indexOf(point);
+	}
+
+	/** Replies the point at the given index.
+	 *
+	 * @param index the index.
+	 * @return the point.
+	 */
+	@Pure
+	PT getPoint(int index) {
+		return this.arcs.getPoint(index);
+	}
+
+	/** Replies the graph segment that corresponds to the given original edge.
+	 *
+	 * @param edge the index of an edge that is not a shortcut.
+	 * @return the segment.
+	 */
+	@Pure
+	ST getSegment(int edge) {
+		return this.arcs.getSegment(this.segmentIndexes[edge]);
+	}
+
+}
@@ -0,0 +1,362 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.Arrays;
+
+/** Builder of the {@link ContractionHierarchy contraction hierarchies}.
+ *
+ * <p>The nodes are contracted one by one in the order of their edge differences,
+ * ie. the number of shortcuts that are added minus the number of edges that are
+ * removed by the contraction. The order is lazily updated. A shortcut is added
+ * between two neighbors of the contracted node when a bounded Dijkstra search,
+ * named witness search, does not find a path that is shorter or equal without
+ * passing through the contracted node.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+final class ContractionHierarchyBuilder {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** Number of edges.
+	 */
+	int edgeCount;
+
+	/** Source nodes of the edges.
+	 */
+	int[] sources = new int[DEFAULT_CAPACITY];
+
+	/** Target nodes of the edges.
+	 */
+	int[] targets = new int[DEFAULT_CAPACITY];
+
+	/** Costs of the edges.
+	 */
+	double[] costs = new double[DEFAULT_CAPACITY];
+
+	/** Indexes of the graph segments of the edges, or {@code -1} for the shortcuts.
+	 */
+	int[] segments = new int[DEFAULT_CAPACITY];
+
+	/** First edges that are replaced by the shortcuts.
+	 */
+	int[] firstChildren = new int[DEFAULT_CAPACITY];
+
+	/** Second edges that are replaced by the shortcuts.
+	 */
+	int[] secondChildren = new int[DEFAULT_CAPACITY];
+
+	/** Ranks of the nodes in the contraction order.
+	 */
+	final int[] ranks;
+
+	/** Offsets of the upward adjacency lists of the nodes.
+	 */
+	int[] upwardOffsets;
+
+	/** Upward adjacency lists, ie. the edges to higher-ranked nodes.
+	 */
+	int[] upwardEdges;
+
+	/** Offsets of the downward adjacency lists of the nodes.
+	 */
+	int[] downwardOffsets;
+
+	/** Downward adjacency lists, ie. the edges from higher-ranked nodes.
+	 */
+	int[] downwardEdges;
+
+	private final int nodeCount;
+
+	private final int witnessSearchLimit;
+
+	private final int[][] outEdges;
+
+	private final int[] outSizes;
+
+	private final int[][] inEdges;
+
+	private final int[] inSizes;
+
+	private final boolean[] contracted;
+
+	private final int[] contractedNeighbors;
+
+	private final double[] witnessCosts;
+
+	private final int[] witnessStamps;
+
+	private final PrimitiveNodeHeap order;
+
+	private final PrimitiveNodeHeap witnessHeap;
+
+	private int witnessStamp;
+
+	/** Construct a builder.
+	 *
+	 * @param nodeCount the number of nodes in the graph.
+	 * @param witnessSearchLimit the maximal number of nodes that are settled by a witness search.
+	 */
+	ContractionHierarchyBuilder(int nodeCount, int witnessSearchLimit) {
+		this.nodeCount = nodeCount;
+		this.witnessSearchLimit = witnessSearchLimit;
+		this.ranks = new int[nodeCount];
+		this.outEdges = new int[nodeCount][];
+		this.outSizes = new int[nodeCount];
+		this.inEdges = new int[nodeCount][];
+		this.inSizes = new int[nodeCount];
+		this.contracted = new boolean[nodeCount];
+		this.contractedNeighbors = new int[nodeCount];
+		this.witnessCosts = new double[nodeCount];
+		this.witnessStamps = new int[nodeCount];
+		this.order = new PrimitiveNodeHeap(nodeCount);
+		this.witnessHeap = new PrimitiveNodeHeap(nodeCount);
+	}
+
+	/** Add an edge.
+	 *
+	 * @param source the source node.
+	 * @param target the target node.
+	 * @param cost the cost of the edge.
+	 * @param segment the index of the graph segment, or {@code -1} for a shortcut.
+	 * @param firstChild the first edge that is replaced by the shortcut, or {@code -1}.
+	 * @param secondChild the second edge that is replaced by the shortcut, or {@code -1}.
+	 * @return the index of the edge.
+	 */
+	int addEdge(int source, int target, double cost, int segment, int firstChild, int secondChild) {
+		assert source != target;
+		final int edge = this.edgeCount;
+		if (edge >= this.sources.length) {
+			final int capacity = this.sources.length * 2;
+			this.sources = Arrays.copyOf(this.sources, capacity);
+			this.targets = Arrays.copyOf(this.targets, capacity);
+			this.costs = Arrays.copyOf(this.costs, capacity);
+			this.segments = Arrays.copyOf(this.segments, capacity);
+			this.firstChildren = Arrays.copyOf(this.firstChildren, capacity);
+			this.secondChildren = Arrays.copyOf(this.secondChildren, capacity);
+		}
+		this.sources[edge] = source;
+		this.targets[edge] = target;
+		this.costs[edge] = cost;
+		this.segments[edge] = segment;
+		this.firstChildren[edge] = firstChild;
+		this.secondChildren[edge] = secondChild;
+		++this.edgeCount;
+		this.outEdges[source] = append(this.outEdges[source], this.outSizes[source], edge);
+		++this.outSizes[source];
+		this.inEdges[target] = append(this.inEdges[target], this.inSizes[target], edge);
+		++this.inSizes[target];
+		return edge;
+	}
+
+	private static int[] append(int[] array, int size, int value) {
+		int[] result = array;
+		if (result == null) {
+			result = new int[2];
+		} else if (size >= result.length) {
+			result = Arrays.copyOf(result, size * 2);
+		}
+		result[size] = value;
+		return result;
+	}
+
+	/** Contract all the nodes and build the upward and downward search graphs.
+	 */
+	void build() {
+		contractNodes();
+		this.sources = Arrays.copyOf(this.sources, this.edgeCount);
+		this.targets = Arrays.copyOf(this.targets, this.edgeCount);
+		this.costs = Arrays.copyOf(this.costs, this.edgeCount);
+		this.segments = Arrays.copyOf(this.segments, this.edgeCount);
+		this.firstChildren = Arrays.copyOf(this.firstChildren, this.edgeCount);
+		this.secondChildren = Arrays.copyOf(this.secondChildren, this.edgeCount);
+		buildSearchGraphs();
+	}
+
+	private void contractNodes() {
+		for (int node = 0; node < this.nodeCount; ++node) {
+			this.order.set(node, computePriority(node));
+		}
+		int rank = 0;
+		while (!this.order.isEmpty()) {
+			final int node = this.order.poll();
+			final double priority = computePriority(node);
+			if (!this.order.isEmpty() && priority > this.order.peekCost()) {
+				// Lazy update of the order
+				this.order.set(node, priority);
+			} else {
+				contractNode(node, false);
+				this.contracted[node] = true;
+				this.ranks[node] = rank;
+				++rank;
+				for (int i = 0; i < this.outSizes[node]; ++i) {
+					++this.contractedNeighbors[this.targets[this.outEdges[node][i]]];
+				}
+				for (int i = 0; i < this.inSizes[node]; ++i) {
+					++this.contractedNeighbors[this.sources[this.inEdges[node][i]]];
+				}
+			}
+		}
+		this.order.clear();
+	}
+
+	/** Compute the priority of the given node for the contraction.
+	 * The nodes with the lowest priorities are contracted first.
+	 *
+	 * @param node the node.
+	 * @return the priority.
+	 */
+	private double computePriority(int node) {
+		int removedEdges = 0;
+		for (int i = 0; i < this.outSizes[node]; ++i) {
+			if (!this.contracted[this.targets[this.outEdges[node][i]]]) {
+				++removedEdges;
+			}
+		}
+		for (int i = 0; i < this.inSizes[node]; ++i) {
+			if (!this.contracted[this.sources[this.inEdges[node][i]]]) {
+				++removedEdges;
+			}
+		}
+		return contractNode(node, true) - removedEdges + this.contractedNeighbors[node];
+	}
+
+	/** Contract the given node, or simulate its contraction.
+	 *
+	 * @param node the node to contract.
+	 * @param simulate <code>true</code> for counting the shortcuts without adding them.
+	 * @return the number of shortcuts.
+	 */
+	private int contractNode(int node, boolean simulate) {
+		int shortcuts = 0;
+		for (int i = 0; i < this.inSizes[node]; ++i) {
+			final int inEdge = this.inEdges[node][i];
+			final int source = this.sources[inEdge];
+			if (!this.contracted[source]) {
+				double maxCost = -1;
+				for (int j = 0; j < this.outSizes[node]; ++j) {
+					final int outEdge = this.outEdges[node][j];
+					final int target = this.targets[outEdge];
+					if (target != source && !this.contracted[target]) {
+						maxCost = Math.max(maxCost, this.costs[inEdge] + this.costs[outEdge]);
+					}
+				}
+				if (maxCost >= 0) {
+					searchWitnesses(source, node, maxCost);
+					for (int j = 0; j < this.outSizes[node]; ++j) {
+						final int outEdge = this.outEdges[node][j];
+						final int target = this.targets[outEdge];
+						final double cost = this.costs[inEdge] + this.costs[outEdge];
+						if (target != source && !this.contracted[target] && getWitnessCost(target) > cost) {
+							++shortcuts;
+							if (!simulate) {
+								addEdge(source, target, cost, -1, inEdge, outEdge);
+							}
+						}
+					}
+				}
+			}
+		}
+		return shortcuts;
+	}
+
+	/** Run a bounded Dijkstra search from the given source, without passing through
+	 * the contracted nodes and the excluded node.
+	 *
+	 * @param source the source of the search.
+	 * @param excludedNode the node to avoid.
+	 * @param maxCost the maximal cost to explore.
+	 */
+	private void searchWitnesses(int source, int excludedNode, double maxCost) {
+		++this.witnessStamp;
+		this.witnessHeap.clear();
+		this.witnessStamps[source] = this.witnessStamp;
+		this.witnessCosts[source] = 0;
+		this.witnessHeap.set(source, 0);
+		int settled = 0;
+		while (!this.witnessHeap.isEmpty() && settled < this.witnessSearchLimit && this.witnessHeap.peekCost() <= maxCost) {
+			final int node = this.witnessHeap.poll();
+			++settled;
+			final double nodeCost = this.witnessCosts[node];
+			for (int i = 0; i < this.outSizes[node]; ++i) {
+				final int edge = this.outEdges[node][i];
+				final int target = this.targets[edge];
+				if (target != excludedNode && !this.contracted[target]) {
+					final double cost = nodeCost + this.costs[edge];
+					if (cost < getWitnessCost(target)) {
+						this.witnessStamps[target] = this.witnessStamp;
+						this.witnessCosts[target] = cost;
+						this.witnessHeap.set(target, cost);
+					}
+				}
+			}
+		}
+		this.witnessHeap.clear();
+	}
+
+	private double getWitnessCost(int node) {
+		if (this.witnessStamps[node] == this.witnessStamp) {
+			return this.witnessCosts[node];
+		}
+		return Double.POSITIVE_INFINITY;
+	}
+
+	/** Build the compressed adjacency arrays of the upward search graph, which contains
+	 * the edges to higher-ranked nodes stored at their sources, and of the downward search
+	 * graph, which contains the edges from higher-ranked nodes stored at their targets.
+	 */
+	private void buildSearchGraphs() {
+		this.upwardOffsets = new int[this.nodeCount + 1];
+		this.downwardOffsets = new int[this.nodeCount + 1];
+		for (int edge = 0; edge < this.edgeCount; ++edge) {
+			if (isUpward(edge)) {
+				++this.upwardOffsets[this.sources[edge] + 1];
+			} else {
+				++this.downwardOffsets[this.targets[edge] + 1];
+			}
+		}
+		for (int node = 0; node < this.nodeCount; ++node) {
+			this.upwardOffsets[node + 1] += this.upwardOffsets[node];
+			this.downwardOffsets[node + 1] += this.downwardOffsets[node];
+		}
+		this.upwardEdges = new int[this.upwardOffsets[this.nodeCount]];
+		this.downwardEdges = new int[this.downwardOffsets[this.nodeCount]];
+		final int[] upwardCursors = Arrays.copyOf(this.upwardOffsets, this.nodeCount);
+		final int[] downwardCursors = Arrays.copyOf(this.downwardOffsets, this.nodeCount);
+		for (int edge = 0; edge < this.edgeCount; ++edge) {
+			if (isUpward(edge)) {
+				this.upwardEdges[upwardCursors[this.sources[edge]]++] = edge;
+			} else {
+				this.downwardEdges[downwardCursors[this.targets[edge]]++] = edge;
+			}
+		}
+	}
+
+	private boolean isUpward(int edge) {
+		return this.ranks[this.targets[edge]] > this.ranks[this.sources[edge]];
+	}
+
+}
@@ -0,0 +1,381 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.GraphPath;
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** Query engine on a {@link ContractionHierarchy contraction hierarchy}.
+ *
+ * <p>A query runs two Dijkstra searches: a forward search from the starting point
+ * that follows the edges to the more important points, and a backward search from
+ * the target point that follows the edges from the more important points. Each search
+ * stops when its smallest cost is greater than the best cost found at a point reached
+ * by the two searches. The shortcuts of the found path are unpacked for building
+ * the {@link GraphPath}.
+ *
+ * <p>The query engine reuses its internal arrays from one query to another. It is
+ * not thread-safe: each thread should create its own engine on the shared hierarchy.
+ *
+ * @param <GP> is the type of the graph graph itself.
+ * @param <ST> is the type of edge in the graph
+ * @param <PT> is the type of node in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see ContractionHierarchy
+ */
+public class ContractionHierarchyQuery<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST, PT>,
+		PT extends GraphPoint<PT, ST>> {
+
+	private static final int DEFAULT_STACK_SIZE = 16;
+
+	private final ContractionHierarchy<ST, PT> hierarchy;
+
+	private final AStarPathFactory<GP, ST, PT> pathFactory;
+
+	private final Direction forward;
+
+	private final Direction backward;
+
+	private int[] stack = new int[DEFAULT_STACK_SIZE];
+
+	private int meetingPoint = -1;
+
+	/**
+	 * @param hierarchy is the contraction hierarchy in which the paths are searched.
+	 * @param pathFactory is the factory to create new paths.
+	 */
+	public ContractionHierarchyQuery(ContractionHierarchy<ST, PT> hierarchy, AStarPathFactory<GP, ST, PT> pathFactory) {
+		assert hierarchy != null;
+		this.hierarchy = hierarchy;
+		this.pathFactory = pathFactory;
+		final int count = hierarchy.getPointCount();
+		this.forward = new Direction(count, hierarchy.upwardOffsets, hierarchy.upwardEdges, hierarchy.targets);
+		this.backward = new Direction(count, hierarchy.downwardOffsets, hierarchy.downwardEdges, hierarchy.sources);
+	}
+
+	/**
+	 * @param hierarchy is the contraction hierarchy in which the paths are searched.
+	 * @param pathType is the type of the path to create.
+	 */
+	public ContractionHierarchyQuery(ContractionHierarchy<ST, PT> hierarchy, Class<? extends GP> pathType) {
+		this(hierarchy, new AStar.AStarReflectionPathFactory<>(pathType));
+	}
+
+	/** Replies the contraction hierarchy in which the paths are searched.
+	 *
+	 * @return the hierarchy.
+	 */
+	@Pure
+	public ContractionHierarchy<ST, PT> getHierarchy() {
+		return this.hierarchy;
+	}
+
+	/** Replies the path factory used by the query engine.
+	 *
+	 * @return the path factory.
+	 */
+	@Pure
+	public AStarPathFactory<GP, ST, PT> getPathFactory() {
+		return this.pathFactory;
+	}
+
+	/** Compute the cost of the shortest path between the two given points.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param endPoint is the point to reach.
+	 * @return the cost of the shortest path, or {@link Double#POSITIVE_INFINITY} if
+	 *     the end point is not reachable.
+	 */
+	public double computeCost(PT startPoint, PT endPoint) {
+		assert startPoint != null && endPoint != null;
+		final int start = this.hierarchy.indexOf(startPoint);
+		final int end = this.hierarchy.indexOf(endPoint);
+		if (start < 0 || end < 0) {
+			return Double.POSITIVE_INFINITY;
+		}
+		return search(start, end);
+	}
+
+	/** Compute the shortest path between the two given points.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param endPoint is the point to reach.
+	 * @return the found path, or <code>null</code> if none found.
+	 */
+	public GP solve(PT startPoint, PT endPoint) {
+		assert startPoint != null && endPoint != null;
+		if (startPoint.equals(endPoint)) {
+			return null;
+		}
+		final double cost = computeCost(startPoint, endPoint);
+		if (Double.isInfinite(cost)) {
+			return null;
+		}
+		return createPath(startPoint);
+	}
+
+	/** Run the bidirectional search in the hierarchy.
+	 *
+	 * @param start the index of the starting point.
+	 * @param end the index of the end point.
+	 * @return the cost of the shortest path.
+	 */
+	private double search(int start, int end) {
+		final double[] costs = this.hierarchy.costs;
+		this.forward.reset(start);
+		this.backward.reset(end);
+		double best = Double.POSITIVE_INFINITY;
+		this.meetingPoint = -1;
+		if (start == end) {
+			this.meetingPoint = start;
+			best = 0;
+		}
+		while (!this.forward.heap.isEmpty() || !this.backward.heap.isEmpty()) {
+			final Direction current;
+			final Direction opposite;
+			if (this.backward.heap.isEmpty()
+					|| (!this.forward.heap.isEmpty() && this.forward.heap.peekCost() <= this.backward.heap.peekCost())) {
+				current = this.forward;
+				opposite = this.backward;
+			} else {
+				current = this.backward;
+				opposite = this.forward;
+			}
+			if (current.heap.peekCost() >= best) {
+				current.heap.clear();
+			} else {
+				final int node = current.heap.poll();
+				final double nodeCost = current.getCost(node);
+				final double meetingCost = nodeCost + opposite.getCost(node);
+				if (meetingCost < best) {
+					best = meetingCost;
+					this.meetingPoint = node;
+				}
+				for (int i = current.offsets[node]; i < current.offsets[node + 1]; ++i) {
+					final int edge = current.edges[i];
+					current.relax(current.nextNodes[edge], nodeCost + costs[edge], edge);
+				}
+			}
+		}
+		return best;
+	}
+
+	/** Create the path that corresponds to the last search.
+	 *
+	 * @param startPoint is the starting point.
+	 * @return the path, or <code>null</code> if the path is empty.
+	 */
+	private GP createPath(PT startPoint) {
+		final List<ST> pathSegments = new ArrayList<>();
+		// Forward part, from the meeting point to the starting point
+		int size = 0;
+		int node = this.meetingPoint;
+		int edge = this.forward.getPredecessor(node);
+		while (edge >= 0) {
+			size = push(size, edge);
+			node = this.hierarchy.sources[edge];
+			edge = this.forward.getPredecessor(node);
+		}
+		final int[] forwardEdges = Arrays.copyOf(this.stack, size);
+		for (int i = forwardEdges.length - 1; i >= 0; --i) {
+			unpack(forwardEdges[i], pathSegments);
+		}
+		// Backward part, from the meeting point to the end point
+		node = this.meetingPoint;
+		edge = this.backward.getPredecessor(node);
+		while (edge >= 0) {
+			unpack(edge, pathSegments);
+			node = this.hierarchy.targets[edge];
+			edge = this.backward.getPredecessor(node);
+		}
+
+		final Iterator<ST> iterator = pathSegments.iterator();
+		if (!iterator.hasNext()) {
+			return null;
+		}
+		final GP path = newPath(startPoint, iterator.next());
+		while (iterator.hasNext()) {
+			addToPath(path, iterator.next());
+		}
+		return path;
+	}
+
+	private int push(int size, int edge) {
+		if (size >= this.stack.length) {
+			this.stack = Arrays.copyOf(this.stack, this.stack.length * 2);
+		}
+		this.stack[size] = edge;
+		return size + 1;
+	}
+
+	/** Add the original segments that are replaced by the given edge.
+	 *
+	 * @param edge the edge to unpack.
+	 * @param pathSegments the list to fill.
+	 */
+	private void unpack(int edge, List<ST> pathSegments) {
+		int size = push(0, edge);
+		while (size > 0) {
+			--size;
+			final int current = this.stack[size];
+			if (this.hierarchy.segmentIndexes[current] >= 0) {
+				pathSegments.add(this.hierarchy.getSegment(current));
+			} else {
+				size = push(size, this.hierarchy.secondChildren[current]);
+				size = push(size, this.hierarchy.firstChildren[current]);
+			}
+		}
+	}
+
+	/** Create an empty path.
+	 *
+	 * <p>By default this function invokes the path factory
+	 * passed as parameter of the constructor.
+	 *
+	 * @param startPoint is the first point in the path.
+	 * @param segment is the first connection to follow.
+	 * @return the path instance.
+	 */
+	@Pure
+	protected GP newPath(PT startPoint, ST segment) {
+		return AStar.newPath(this.pathFactory, startPoint, segment);
+	}
+
+	/** Add the given segment into the given path.
+	 *
+	 * <p>By default this function invokes the path factory
+	 * passed as parameter of the constructor.
+	 *
+	 * @param path is the path to build.
+	 * @param segment is the segment to add.
+	 * @return <code>true</code> if the segment was added;
+	 *     otherwise <code>false</code>.
+	 */
+	protected boolean addToPath(GP path, ST segment) {
+		return AStar.addToPath(this.pathFactory, path, segment);
+	}
+
+	/** State of one of the two searches.
+	 *
+	 * <p>The labels of the points are invalidated by incrementing a stamp, which
+	 * avoids to clear the arrays between two queries.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class Direction {
+
+		final int[] offsets;
+
+		final int[] edges;
+
+		final int[] nextNodes;
+
+		final PrimitiveNodeHeap heap;
+
+		private final double[] costs;
+
+		private final int[] predecessors;
+
+		private final int[] stamps;
+
+		private int stamp;
+
+		/**
+		 * @param count the number of points.
+		 * @param offsets the offsets of the adjacency lists of the points.
+		 * @param edges the adjacency lists.
+		 * @param nextNodes the points that are reached by each edge in the direction of the search.
+		 */
+		Direction(int count, int[] offsets, int[] edges, int[] nextNodes) {
+			this.offsets = offsets;
+			this.edges = edges;
+			this.nextNodes = nextNodes;
+			this.heap = new PrimitiveNodeHeap(count);
+			this.costs = new double[count];
+			this.predecessors = new int[count];
+			this.stamps = new int[count];
+		}
+
+		/** Reset the search.
+		 *
+		 * @param source the source of the search.
+		 */
+		void reset(int source) {
+			++this.stamp;
+			this.heap.clear();
+			relax(source, 0, -1);
+		}
+
+		/** Replies the cost of the given point.
+		 *
+		 * @param node the point.
+		 * @return the cost, or {@link Double#POSITIVE_INFINITY} if the point was not reached.
+		 */
+		double getCost(int node) {
+			if (this.stamps[node] == this.stamp) {
+				return this.costs[node];
+			}
+			return Double.POSITIVE_INFINITY;
+		}
+
+		/** Replies the edge that was followed for reaching the given point.
+		 *
+		 * @param node the point.
+		 * @return the edge, or {@code -1} if the point is the source of the search.
+		 */
+		int getPredecessor(int node) {
+			return this.predecessors[node];
+		}
+
+		/** Update the cost of the given point if the given cost is lower.
+		 *
+		 * @param node the point.
+		 * @param cost the new cost.
+		 * @param edge the edge that permits to reach the point.
+		 */
+		void relax(int node, double cost, int edge) {
+			if (cost < getCost(node)) {
+				this.stamps[node] = this.stamp;
+				this.costs[node] = cost;
+				this.predecessors[node] = edge;
+				this.heap.set(node, cost);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,197 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.GraphPath;
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+import org.arakhne.afc.vmutil.locale.Locale;
+
+/** Matrix of the costs of the shortest paths between a set of starting points
+ * and a set of target points, computed by a {@link CostMatrixSolver}.
+ *
+ * <p>The costs are stored in one array, row by row: the row of a starting point
+ * contains the costs to all the target points. The cost of a path to an unreachable
+ * point is {@link Double#POSITIVE_INFINITY}.
+ *
+ * <p>If the {@link CostMatrixSolver#setPathReconstructionEnabled(boolean) path reconstruction}
+ * was enabled, the shortest paths are built on demand by {@link #getPath(int, int)}.
+ *
+ * @param <GP> is the type of the graph graph itself.
+ * @param <ST> is the type of edge in the graph
+ * @param <PT> is the type of node in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see CostMatrixSolver
+ */
+public class CostMatrix<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST, PT>,
+		PT extends GraphPoint<PT, ST>> {
+
+	private final CostMatrixSolver<GP, ST, PT> solver;
+
+	private final GraphArcIndex<ST, PT> arcs;
+
+	private final List<PT> startPoints;
+
+	private final List<PT> targets;
+
+	private final int[] targetIndexes;
+
+	private final double[] costs;
+
+	private final int[][] predecessors;
+
+	/**
+	 * @param solver the solver that has computed the matrix.
+	 * @param arcs the index of the segments that was used for computing the matrix.
+	 * @param startPoints the starting points.
+	 * @param targets the target points.
+	 * @param targetIndexes the indexes of the target points in the index of the segments.
+	 * @param costs the costs, row by row.
+	 * @param predecessors the predecessors for each starting point, or <code>null</code>.
+	 */
+	CostMatrix(CostMatrixSolver<GP, ST, PT> solver, GraphArcIndex<ST, PT> arcs, List<PT> startPoints,
+			List<PT> targets, int[] targetIndexes, double[] costs, int[][] predecessors) {
+		this.solver = solver;
+		this.arcs = arcs;
+		this.startPoints = Collections.unmodifiableList(startPoints);
+		this.targets = Collections.unmodifiableList(targets);
+		this.targetIndexes = targetIndexes;
+		this.costs = costs;
+		this.predecessors = predecessors;
+	}
+
+	/** Replies the starting points, ie. the rows of the matrix.
+	 *
+	 * @return the starting points.
+	 */
+	@Pure
+	public List<PT> getStartPoints() {
+		return this.startPoints;
+	}
+
+	/** Replies the target points, ie. the columns of the matrix.
+	 *
+	 * @return the target points.
+	 */
+	@Pure
+	public List<PT> getTargets() {
+		return this.targets;
+	}
+
+	/** Replies the number of rows.
+	 *
+	 * @return the number of starting points.
+	 */
+	@Pure
+	public int getRowCount() {
+		return this.startPoints.size();
+	}
+
+	/** Replies the number of columns.
+	 *
+	 * @return the number of target points.
+	 */
+	@Pure
+	public int getColumnCount() {
+		return this.targets.size();
+	}
+
+	/** Replies the cost of the shortest path from a starting point to a target point.
+	 *
+	 * @param row the index of the starting point.
+	 * @param column the index of the target point.
+	 * @return the cost, or {@link Double#POSITIVE_INFINITY} if the target point is not reachable.
+	 */
+	@Pure
+	public double getCost(int row, int column) {
+		return this.costs[index(row, column)];
+	}
+
+	/** Replies a copy of the costs, row by row.
+	 *
+	 * @return the costs.
+	 */
+	@Pure
+	public double[] toFlatArray() {
+		return this.costs.clone();
+	}
+
+	/** Replies a copy of the costs.
+	 *
+	 * @return the costs, indexed by row then by column.
+	 */
+	@Pure
+	public double[][] toArray() {
+		final int columns = getColumnCount();
+		final double[][] array = new double[getRowCount()][columns];
+		for (int row = 0; row < array.length; ++row) {
+			System.arraycopy(this.costs, row * columns, array[row], 0, columns);
+		}
+		return array;
+	}
+
+	/** Replies if the shortest paths could be built.
+	 *
+	 * @return <code>true</code> if {@link #getPath(int, int)} could be invoked.
+	 * @see CostMatrixSolver#setPathReconstructionEnabled(boolean)
+	 */
+	@Pure
+	public boolean isPathAvailable() {
+		return this.predecessors != null;
+	}
+
+	/** Build the shortest path from a starting point to a target point.
+	 *
+	 * @param row the index of the starting point.
+	 * @param column the index of the target point.
+	 * @return the path, or <code>null</code> if the target point is not reachable, or
+	 *     if it is the starting point.
+	 * @throws IllegalStateException if the path reconstruction was not enabled in the solver.
+	 */
+	@Pure
+	public GP getPath(int row, int column) {
+		if (this.predecessors == null) {
+			throw new IllegalStateException(Locale.getString(AStar.class, "E3")); //$NON-NLS-1$
+		}
+		if (Double.isInfinite(getCost(row, column))) {
+			return null;
+		}
+		return this.solver.createPath(this.arcs, this.startPoints.get(row), this.predecessors[row],
+				this.targetIndexes[column]);
+	}
+
+	private int index(int row, int column) {
+		if (row < 0 || row >= getRowCount() || column < 0 || column >= getColumnCount()) {
+			throw new IndexOutOfBoundsException();
+		}
+		return row * getColumnCount() + column;
+	}
+
+}
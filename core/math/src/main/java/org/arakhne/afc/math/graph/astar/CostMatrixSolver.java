@@ -0,0 +1,463 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.Graph;
+import org.arakhne.afc.math.graph.GraphPath;
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** This class computes the costs of the shortest paths from a set of
+ * starting points to a set of target points.
+ *
+ * <p>One Dijkstra search is run from each starting point. It stops when all the
+ * target points are reached, and replies the costs to all of them. It is
+ * faster than one {@link AStar A* search} per pair of points, because the
+ * explored points are shared by all the targets. The searches from the different
+ * starting points may be run in parallel, see {@link #setParallel(boolean)}.
+ *
+ * <p>The traversable segments and their costs are indexed in primitive arrays
+ * at the first search, and kept until {@link #clearSegmentIndex()} is invoked.
+ * This function must be invoked each time the graph has changed. Because the
+ * index does not know from which segment a point is reached, the
+ * {@link AStarSegmentOrientation segment orientation tool} is always invoked
+ * with a <code>null</code> entry segment.
+ *
+ * @param <GP> is the type of the graph graph itself.
+ * @param <ST> is the type of edge in the graph
+ * @param <PT> is the type of node in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see CostMatrix
+ */
+public class CostMatrixSolver<GP extends GraphPath<GP, ST, PT>, ST extends GraphSegment<ST, PT>,
+		PT extends GraphPoint<PT, ST>> {
+
+	private final Graph<ST, PT> graph;
+
+	private AStarPathFactory<GP, ST, PT> pathFactory;
+
+	private AStarSegmentOrientation<ST, PT> segmentOrientation;
+
+	private AStarCostComputer<? super ST, ? super PT> costComputer;
+
+	private boolean parallel;
+
+	private boolean pathReconstruction;
+
+	private GraphArcIndex<ST, PT> arcs;
+
+	/**
+	 * @param graph is the graph in which the paths are searched.
+	 * @param pathFactory is the factory to create new paths.
+	 */
+	public CostMatrixSolver(Graph<ST, PT> graph, AStarPathFactory<GP, ST, PT> pathFactory) {
+		assert graph != null;
+		this.graph = graph;
+		this.pathFactory = pathFactory;
+	}
+
+	/**
+	 * @param graph is the graph in which the paths are searched.
+	 * @param pathType is the type of the path to create.
+	 */
+	public CostMatrixSolver(Graph<ST, PT> graph, Class<? extends GP> pathType) {
+		this(graph, new AStar.AStarReflectionPathFactory<>(pathType));
+	}
+
+	/** Replies the graph in which the paths are searched.
+	 *
+	 * @return the graph.
+	 */
+	@Pure
+	public Graph<ST, PT> getGraph() {
+		return this.graph;
+	}
+
+	/** Set the path factory used by the algorithm.
+	 *
+	 * @param factory is the new factory.
+	 * @return the old factory
+	 * @see #setPathType(Class)
+	 */
+	public AStarPathFactory<GP, ST, PT> setPathFactory(AStarPathFactory<GP, ST, PT> factory) {
+		final AStarPathFactory<GP, ST, PT> old = this.pathFactory;
+		this.pathFactory = factory;
+		return old;
+	}
+
+	/** Set the path factory used by the algorithm.
+	 *
+	 * @param type is the type of path to instance with a reflection-based factory.
+	 * @return the old factory
+	 * @see #setPathFactory(AStarPathFactory)
+	 */
+	public AStarPathFactory<GP, ST, PT> setPathType(Class<? extends GP> type) {
+		final AStarPathFactory<GP, ST, PT> old = this.pathFactory;
+		this.pathFactory = new AStar.AStarReflectionPathFactory<>(type);
+		return old;
+	}
+
+	/** Replies the path factory used by the algorithm.
+	 *
+	 * @return the factory
+	 */
+	@Pure
+	public AStarPathFactory<GP, ST, PT> getPathFactory() {
+		return this.pathFactory;
+	}
+
+	/** Set the tool that permits to retreive the orinetation of the segments.
+	 *
+	 * <p>The index of the segments is cleared.
+	 *
+	 * @param tool the tool for retreiving the orientation of the segments.
+	 * @return the old tool.
+	 * @see #clearSegmentIndex()
+	 */
+	public AStarSegmentOrientation<ST, PT> setSegmentOrientationTool(AStarSegmentOrientation<ST, PT> tool) {
+		final AStarSegmentOrientation<ST, PT> old = this.segmentOrientation;
+		this.segmentOrientation = tool;
+		clearSegmentIndex();
+		return old;
+	}
+
+	/** Replies the tool that permits to retreive the orinetation of the segments.
+	 *
+	 * @return the tool.
+	 */
+	@Pure
+	public AStarSegmentOrientation<ST, PT> getSegmentOrientationTool() {
+		return this.segmentOrientation;
+	}
+
+	/** Set the tool that permits to compute the costs of the nodes and the edges.
+	 *
+	 * <p>The index of the segments is cleared.
+	 *
+	 * @param costComputer is the object that permits to compute the costs.
+	 * @return the old cost computer.
+	 * @see #clearSegmentIndex()
+	 */
+	public AStarCostComputer<? super ST, ? super PT> setCostComputer(AStarCostComputer<? super ST, ? super PT> costComputer) {
+		final AStarCostComputer<? super ST, ? super PT> old = this.costComputer;
+		this.costComputer = costComputer;
+		clearSegmentIndex();
+		return old;
+	}
+
+	/** Replies the tool that permits to compute the costs of the nodes and edges.
+	 *
+	 * @return the cost computer
+	 */
+	@Pure
+	public AStarCostComputer<? super ST, ? super PT> getCostComputer() {
+		return this.costComputer;
+	}
+
+	/** Set if the searches from the different starting points are run in parallel.
+	 *
+	 * @param parallel is <code>true</code> for running the searches in parallel.
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	/** Replies if the searches from the different starting points are run in parallel.
+	 *
+	 * @return <code>true</code> if the searches are run in parallel.
+	 */
+	@Pure
+	public boolean isParallel() {
+		return this.parallel;
+	}
+
+	/** Set if the {@link CostMatrix cost matrices} permit to build the shortest paths.
+	 *
+	 * <p>When enabled, the predecessors of the points are kept for each starting point,
+	 * which needs one integer per point of the graph and per starting point.
+	 *
+	 * @param enable is <code>true</code> for keeping the predecessors.
+	 * @see CostMatrix#getPath(int, int)
+	 */
+	public void setPathReconstructionEnabled(boolean enable) {
+		this.pathReconstruction = enable;
+	}
+
+	/** Replies if the {@link CostMatrix cost matrices} permit to build the shortest paths.
+	 *
+	 * @return <code>true</code> if the predecessors are kept.
+	 */
+	@Pure
+	public boolean isPathReconstructionEnabled() {
+		return this.pathReconstruction;
+	}
+
+	/** Clear the index of the traversable segments.
+	 *
+	 * <p>The index is rebuilt from the graph at the next search.
+	 * This function must be invoked when the graph has changed.
+	 */
+	public void clearSegmentIndex() {
+		this.arcs = null;
+	}
+
+	private GraphArcIndex<ST, PT> ensureSegmentIndex() {
+		GraphArcIndex<ST, PT> index = this.arcs;
+		if (index == null) {
+			index = new GraphArcIndex<ST, PT>(this.graph, getCostComputer(), getSegmentOrientationTool());
+			this.arcs = index;
+		}
+		return index;
+	}
+
+	/** Compute the costs of the shortest paths from the given starting point
+	 * to the given target points.
+	 *
+	 * @param startPoint is the starting point.
+	 * @param targets are the points to reach.
+	 * @return the costs of the shortest paths, in the order of the targets.
+	 *     The cost is {@link Double#POSITIVE_INFINITY} if the target is not reachable.
+	 */
+	public double[] solve(PT startPoint, List<? extends PT> targets) {
+		assert startPoint != null && targets != null;
+		final GraphArcIndex<ST, PT> index = ensureSegmentIndex();
+		final int[] targetIndexes = indexesOf(index, targets);
+		final Search search = new Search(index.getPointCount());
+		final double[] costs = new double[targetIndexes.length];
+		search.run(index, index.indexOf(startPoint), targetIndexes, costs, 0);
+		return costs;
+	}
+
+	/** Compute the costs of the shortest paths from each of the given starting points
+	 * to each of the given target points.
+	 *
+	 * @param startPoints are the starting points.
+	 * @param targets are the points to reach.
+	 * @return the matrix of the costs.
+	 */
+	public CostMatrix<GP, ST, PT> solve(List<? extends PT> startPoints, List<? extends PT> targets) {
+		assert startPoints != null && targets != null;
+		if ((long) startPoints.size() * targets.size() > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException();
+		}
+		final GraphArcIndex<ST, PT> index = ensureSegmentIndex();
+		final int[] sourceIndexes = indexesOf(index, startPoints);
+		final int[] targetIndexes = indexesOf(index, targets);
+		final double[] costs = new double[sourceIndexes.length * targetIndexes.length];
+		final int[][] predecessors = this.pathReconstruction ? new int[sourceIndexes.length][] : null;
+		if (this.parallel) {
+			final ThreadLocal<Search> searches = ThreadLocal.withInitial(() -> new Search(index.getPointCount()));
+			IntStream.range(0, sourceIndexes.length).parallel().forEach(row -> {
+				solveRow(index, searches.get(), sourceIndexes[row], targetIndexes, costs, row, predecessors);
+			});
+		} else {
+			final Search search = new Search(index.getPointCount());
+			for (int row = 0; row < sourceIndexes.length; ++row) {
+				solveRow(index, search, sourceIndexes[row], targetIndexes, costs, row, predecessors);
+			}
+		}
+		return new CostMatrix<>(this, index, new ArrayList<>(startPoints), new ArrayList<>(targets),
+				targetIndexes, costs, predecessors);
+	}
+
+	private static void solveRow(GraphArcIndex<?, ?> index, Search search, int source, int[] targetIndexes,
+			double[] costs, int row, int[][] predecessors) {
+		search.run(index, source, targetIndexes, costs, row * targetIndexes.length);
+		if (predecessors != null && source >= 0) {
+			predecessors[row] = search.getPredecessors();
+		}
+	}
+
+	private static <ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> int[] indexesOf(
+			GraphArcIndex<ST, PT> index, List<? extends PT> points) {
+		final int[] indexes = new int[points.size()];
+		int i = 0;
+		for (final PT point : points) {
+			indexes[i] = index.indexOf(point);
+			++i;
+		}
+		return indexes;
+	}
+
+	/** Create the path from the given starting point to the given target point.
+	 *
+	 * @param index the index of the segments that was used for computing the predecessors.
+	 * @param startPoint the starting point.
+	 * @param predecessors the arcs that were followed for reaching each point.
+	 * @param target the index of the target point.
+	 * @return the path, or <code>null</code> if the path is empty.
+	 */
+	GP createPath(GraphArcIndex<ST, PT> index, PT startPoint, int[] predecessors, int target) {
+		final List<ST> segments = new ArrayList<>();
+		int arc = predecessors[target];
+		while (arc >= 0) {
+			segments.add(index.getSegment(arc));
+			arc = predecessors[index.sources[arc]];
+		}
+		if (segments.isEmpty()) {
+			return null;
+		}
+		final GP path = newPath(startPoint, segments.get(segments.size() - 1));
+		for (int i = segments.size() - 2; i >= 0; --i) {
+			addToPath(path, segments.get(i));
+		}
+		return path;
+	}
+
+	/** Create an empty path.
+	 *
+	 * <p>By default this function invokes the path factory
+	 * passed as parameter of the constructor.
+	 *
+	 * @param startPoint is the first point in the path.
+	 * @param segment is the first connection to follow.
+	 * @return the path instance.
+	 */
+	@Pure
+	protected GP newPath(PT startPoint, ST segment) {
+		return AStar.newPath(this.pathFactory, startPoint, segment);
+	}
+
+	/** Add the given segment into the given path.
+	 *
+	 * <p>By default this function invokes the path factory
+	 * passed as parameter of the constructor.
+	 *
+	 * @param path is the path to build.
+	 * @param segment is the segment to add.
+	 * @return <code>true</code> if the segment was added;
+	 *     otherwise <code>false</code>.
+	 */
+	protected boolean addToPath(GP path, ST segment) {
+		return AStar.addToPath(this.pathFactory, path, segment);
+	}
+
+	/** Dijkstra search from one starting point.
+	 *
+	 * <p>The labels of the points are invalidated by incrementing a stamp, which
+	 * avoids to clear the arrays between two searches.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class Search {
+
+		private final double[] costs;
+
+		private final int[] predecessors;
+
+		private final int[] stamps;
+
+		private final int[] targetStamps;
+
+		private final PrimitiveNodeHeap heap;
+
+		private int stamp;
+
+		/**
+		 * @param count the number of points.
+		 */
+		Search(int count) {
+			this.costs = new double[count];
+			this.predecessors = new int[count];
+			this.stamps = new int[count];
+			this.targetStamps = new int[count];
+			this.heap = new PrimitiveNodeHeap(count);
+		}
+
+		/** Run the search.
+		 *
+		 * @param index the index of the segments.
+		 * @param source the index of the starting point, or {@code -1} if it is not in the graph.
+		 * @param targets the indexes of the target points, or {@code -1} if they are not in the graph.
+		 * @param result the array to fill with the costs to the targets.
+		 * @param offset the index of the first cell to fill in the result array.
+		 */
+		void run(GraphArcIndex<?, ?> index, int source, int[] targets, double[] result, int offset) {
+			++this.stamp;
+			this.heap.clear();
+			int remainingTargets = 0;
+			for (final int target : targets) {
+				if (target >= 0 && this.targetStamps[target] != this.stamp) {
+					this.targetStamps[target] = this.stamp;
+					++remainingTargets;
+				}
+			}
+			if (source >= 0) {
+				relax(source, 0, -1);
+			}
+			while (remainingTargets > 0 && !this.heap.isEmpty()) {
+				final int node = this.heap.poll();
+				if (this.targetStamps[node] == this.stamp) {
+					this.targetStamps[node] = 0;
+					--remainingTargets;
+				}
+				final double cost = this.costs[node];
+				for (int arc = index.offsets[node]; arc < index.offsets[node + 1]; ++arc) {
+					relax(index.targets[arc], cost + index.costs[arc], arc);
+				}
+			}
+			for (int i = 0; i < targets.length; ++i) {
+				result[offset + i] = targets[i] < 0 ? Double.POSITIVE_INFINITY : getCost(targets[i]);
+			}
+		}
+
+		private void relax(int node, double cost, int arc) {
+			if (cost < getCost(node)) {
+				this.stamps[node] = this.stamp;
+				this.costs[node] = cost;
+				this.predecessors[node] = arc;
+				this.heap.set(node, cost);
+			}
+		}
+
+		private double getCost(int node) {
+			if (this.stamps[node] == this.stamp) {
+				return this.costs[node];
+			}
+			return Double.POSITIVE_INFINITY;
+		}
+
+		/** Replies a copy of the arcs that were followed for reaching the points.
+		 * The values are meaningless for the points that were not reached.
+		 *
+		 * @return the predecessors.
+		 */
+		int[] getPredecessors() {
+			return this.predecessors.clone();
+		}
+
+	}
+
+}
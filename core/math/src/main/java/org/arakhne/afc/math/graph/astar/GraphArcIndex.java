@@ -0,0 +1,195 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.Graph;
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** Index of the traversable arcs of a graph, stored in primitive arrays.
+ *
+ * <p>The points of the graph are numbered in the order of their first occurence
+ * in the graph. The arcs that are leaving a point are contiguous in the arrays.
+ * The cost of an arc is the cost of its starting point plus the cost of its segment,
+ * as in the {@link AStar A* algorithm}.
+ *
+ * @param <ST> is the type of edge in the graph
+ * @param <PT> is the type of node in the graph
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+final class GraphArcIndex<ST extends GraphSegment<ST, PT>, PT extends GraphPoint<PT, ST>> {
+
+	/** Offsets of the arcs of each point.
+	 */
+	final int[] offsets;
+
+	/** Source points of the arcs.
+	 */
+	final int[] sources;
+
+	/** Target points of the arcs.
+	 */
+	final int[] targets;
+
+	/** Costs of the arcs.
+	 */
+	final double[] costs;
+
+	private final Map<PT, Integer> pointIndexes;
+
+	private final List<PT> points;
+
+	private final List<ST> segments;
+
+	/** Build the index.
+	 *
+	 * @param graph is the graph to index.
+	 * @param costComputer is the computer of the costs, or <code>null</code> for using the lengths of the segments.
+	 * @param orientationTool is the tool that indicates the traversable segments, or <code>null</code>
+	 *     if all the connected segments are traversable.
+	 */
+	GraphArcIndex(Graph<ST, PT> graph, AStarCostComputer<? super ST, ? super PT> costComputer,
+			AStarSegmentOrientation<ST, PT> orientationTool) {
+		final Set<PT> pointSet = new LinkedHashSet<>();
+		for (final ST segment : graph) {
+			pointSet.add(segment.getBeginPoint());
+			pointSet.add(segment.getEndPoint());
+		}
+		this.points = Collections.unmodifiableList(new ArrayList<>(pointSet));
+		this.pointIndexes = new HashMap<>();
+		for (int i = 0; i < this.points.size(); ++i) {
+			this.pointIndexes.put(this.points.get(i), i);
+		}
+
+		this.offsets = new int[this.points.size() + 1];
+		this.segments = new ArrayList<>();
+		int[] arcTargets = new int[this.points.size() * 2];
+		double[] arcCosts = new double[arcTargets.length];
+		final AStarCostComputer<? super ST, ? super PT> computer;
+		if (costComputer == null) {
+			computer = new AStarCostComputer<ST, PT>() {
+				//
+			};
+		} else {
+			computer = costComputer;
+		}
+		for (int i = 0; i < this.points.size(); ++i) {
+			final PT point = this.points.get(i);
+			final double pointCost = computer.computeCostFor(point);
+			for (final ST segment : AStar.getTraversableSegments(point, orientationTool)) {
+				final int target = getTarget(point, i, segment);
+				if (target >= 0) {
+					final int arc = this.segments.size();
+					if (arc >= arcTargets.length) {
+						arcTargets = Arrays.copyOf(arcTargets, arc * 2);
+						arcCosts = Arrays.copyOf(arcCosts, arc * 2);
+					}
+					arcTargets[arc] = target;
+					arcCosts[arc] = pointCost + computer.computeCostFor(segment);
+					this.segments.add(segment);
+				}
+			}
+			this.offsets[i + 1] = this.segments.size();
+		}
+		this.targets = Arrays.copyOf(arcTargets, this.segments.size());
+		this.sources = new int[this.targets.length];
+		for (int i = 0; i < this.points.size(); ++i) {
+			Arrays.fill(this.sources, this.offsets[i], this.offsets[i + 1], i);
+		}
+		this.costs = Arrays.copyOf(arcCosts, this.segments.size());
+	}
+
+	private int getTarget(PT point, int pointIndex, ST segment) {
+		final PT other = segment.getOtherSidePoint(point);
+		if (other != null) {
+			final int target = indexOf(other);
+			if (target != pointIndex) {
+				return target;
+			}
+		}
+		return -1;
+	}
+
+	/** Replies the number of points.
+	 *
+	 * @return the number of points.
+	 */
+	@Pure
+	int getPointCount() {
+		return this.points.size();
+	}
+
+	/** Replies the number of arcs.
+	 *
+	 * @return the number of arcs.
+	 */
+	@Pure
+	int getArcCount() {
+		return this.targets.length;
+	}
+
+	/** Replies the index of the given point.
+	 *
+	 * @param point the point.
+	 * @return the index, or {@code -1} if the point is not in the index.
+	 */
+	@Pure
+	int indexOf(PT point) {
+		final Integer index = this.pointIndexes.get(point);
+		return index == null ? -1 : index.intValue();
+	}
+
+	/** Replies the point at the given index.
+	 *
+	 * @param index the index.
+	 * @return the point.
+	 */
+	@Pure
+	PT getPoint(int index) {
+		return this.points.get(index);
+	}
+
+	/** Replies the segment of the given arc.
+	 *
+	 * @param arc the index of the arc.
+	 * @return the segment.
+	 */
+	@Pure
+	ST getSegment(int arc) {
+		return this.segments.get(arc);
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/** Indexed binary heap of node identifiers that are sorted by cost.
+ *
+ * <p>The node identifiers are integers in {@code [0; capacity)}. Each node
+ * is at most once in the heap, and its cost may be decreased or increased
+ * in a logarithmic time. The heap does not allocate any object after
+ * its construction.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+final class PrimitiveNodeHeap {
+
+	private final int[] heap;
+
+	private final int[] positions;
+
+	private final double[] costs;
+
+	private int size;
+
+	/** Construct an empty heap.
+	 *
+	 * @param capacity the number of nodes.
+	 */
+	PrimitiveNodeHeap(int capacity) {
+		this.heap = new int[capacity];
+		this.positions = new int[capacity];
+		this.costs = new double[capacity];
+		Arrays.fill(this.positions, -1);
+	}
+
+	/** Replies if the heap is empty.
+	 *
+	 * @return <code>true</code> if the heap is empty.
+	 */
+	@Pure
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/** Replies the number of nodes in the heap.
+	 *
+	 * @return the number of nodes.
+	 */
+	@Pure
+	public int size() {
+		return this.size;
+	}
+
+	/** Replies if the given node is in the heap.
+	 *
+	 * @param node the identifier of the node.
+	 * @return <code>true</code> if the node is in the heap.
+	 */
+	@Pure
+	public boolean contains(int node) {
+		return this.positions[node] >= 0;
+	}
+
+	/** Replies the lowest cost in the heap.
+	 *
+	 * @return the lowest cost, or {@link Double#POSITIVE_INFINITY} if the heap is empty.
+	 */
+	@Pure
+	public double peekCost() {
+		if (this.size == 0) {
+			return Double.POSITIVE_INFINITY;
+		}
+		return this.costs[this.heap[0]];
+	}
+
+	/** Add the given node, or change its cost if it is already in the heap.
+	 *
+	 * @param node the identifier of the node.
+	 * @param cost the cost of the node.
+	 */
+	public void set(int node, double cost) {
+		final int position = this.positions[node];
+		this.costs[node] = cost;
+		if (position < 0) {
+			this.heap[this.size] = node;
+			this.positions[node] = this.size;
+			++this.size;
+			siftUp(this.size - 1);
+		} else {
+			siftUp(position);
+			siftDown(this.positions[node]);
+		}
+	}
+
+	/** Remove and replies the node with the lowest cost.
+	 *
+	 * @return the identifier of the node.
+	 */
+	public int poll() {
+		if (this.size == 0) {
+			throw new NoSuchElementException();
+		}
+		final int first = this.heap[0];
+		--this.size;
+		if (this.size > 0) {
+			move(this.heap[this.size], 0);
+			siftDown(0);
+		}
+		this.positions[first] = -1;
+		return first;
+	}
+
+	/** Remove all the nodes from the heap.
+	 */
+	public void clear() {
+		for (int i = 0; i < this.size; ++i) {
+			this.positions[this.heap[i]] = -1;
+		}
+		this.size = 0;
+	}
+
+	private void move(int node, int position) {
+		this.heap[position] = node;
+		this.positions[node] = position;
+	}
+
+	private void siftUp(int position) {
+		final int node = this.heap[position];
+		final double cost = this.costs[node];
+		int idx = position;
+		while (idx > 0) {
+			final int parent = (idx - 1) >>> 1;
+			final int parentNode = this.heap[parent];
+			if (cost >= this.costs[parentNode]) {
+				break;
+			}
+			move(parentNode, idx);
+			idx = parent;
+		}
+		move(node, idx);
+	}
+
+	private void siftDown(int position) {
+		final int node = this.heap[position];
+		final double cost = this.costs[node];
+		final int half = this.size >>> 1;
+		int idx = position;
+		while (idx < half) {
+			int child = (idx << 1) + 1;
+			final int right = child + 1;
+			if (right < this.size && this.costs[this.heap[right]] < this.costs[this.heap[child]]) {
+				child = right;
+			}
+			final int childNode = this.heap[child];
+			if (cost <= this.costs[childNode]) {
+				break;
+			}
+			move(childNode, idx);
+			idx = child;
+		}
+		move(node, idx);
+	}
+
+}
@@ -0,0 +1,399 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.csr;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.DepthGraphIterator;
+import org.arakhne.afc.math.graph.Graph;
+import org.arakhne.afc.math.graph.GraphIterator;
+import org.arakhne.afc.math.graph.GraphPoint;
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** This class provides an immutable graph that is stored with
+ * the compressed sparse row (CSR) format.
+ *
+ * <p>The points and the segments are identified by their indexes. The end points
+ * and the lengths of the segments are stored in primitive arrays, and the
+ * segments that are connected to each point are stored in one array in which
+ * the connections of a point are contiguous. This representation is compact
+ * and does not need any reference between the elements of the graph.
+ *
+ * <p>The {@link CsrGraphPoint points} and the {@link CsrGraphSegment segments}
+ * are lightweight views on the arrays. One view per element is created by the
+ * constructor and kept by the graph: it costs one small object per point and per segment,
+ * but the views stay reachable while the graph is, which permits to use them with
+ * the algorithms that store weak references on the elements,
+ * eg. {@link org.arakhne.afc.math.graph.SubGraph}, and to share the graph between
+ * threads without synchronization. The functions that are working on the indexes,
+ * eg. {@link #getBeginPointIndex(int)}, do not use the views.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public class CsrGraph implements Graph<CsrGraphSegment, CsrGraphPoint> {
+
+	private final int pointCount;
+
+	private final int[] beginPoints;
+
+	private final int[] endPoints;
+
+	private final double[] lengths;
+
+	private final int[] connectionOffsets;
+
+	private final int[] connections;
+
+	private final CsrGraphPoint[] pointViews;
+
+	private final CsrGraphSegment[] segmentViews;
+
+	/** Construct a graph from the given arrays.
+	 * The arrays are copied.
+	 *
+	 * @param pointCount is the number of points in the graph.
+	 * @param beginPoints are the indexes of the begin points of the segments.
+	 * @param endPoints are the indexes of the end points of the segments.
+	 * @param lengths are the lengths of the segments.
+	 * @throws IllegalArgumentException if the arrays have not the same size, or if
+	 *     a point index is out of range.
+	 */
+	public CsrGraph(int pointCount, int[] beginPoints, int[] endPoints, double[] lengths) {
+		if (pointCount < 0 || beginPoints.length != endPoints.length || beginPoints.length != lengths.length
+				|| beginPoints.length > Integer.MAX_VALUE / 2) {
+			throw new IllegalArgumentException();
+		}
+		this.pointCount = pointCount;
+		this.beginPoints = beginPoints.clone();
+		this.endPoints = endPoints.clone();
+		this.lengths = lengths.clone();
+		this.connectionOffsets = new int[pointCount + 1];
+		for (int segment = 0; segment < this.beginPoints.length; ++segment) {
+			if (this.beginPoints[segment] < 0 || this.beginPoints[segment] >= pointCount
+					|| this.endPoints[segment] < 0 || this.endPoints[segment] >= pointCount) {
+				throw new IllegalArgumentException();
+			}
+			++this.connectionOffsets[this.beginPoints[segment] + 1];
+			++this.connectionOffsets[this.endPoints[segment] + 1];
+		}
+		for (int point = 0; point < pointCount; ++point) {
+			this.connectionOffsets[point + 1] += this.connectionOffsets[point];
+		}
+		this.connections = new int[this.beginPoints.length * 2];
+		final int[] cursors = Arrays.copyOf(this.connectionOffsets, pointCount);
+		for (int segment = 0; segment < this.beginPoints.length; ++segment) {
+			this.connections[cursors[this.beginPoints[segment]]++] = segment << 1;
+			this.connections[cursors[this.endPoints[segment]]++] = (segment << 1) | 1;
+		}
+		// The views are created once, so that they are safely published with the graph.
+		this.pointViews = new CsrGraphPoint[pointCount];
+		for (int point = 0; point < pointCount; ++point) {
+			this.pointViews[point] = new CsrGraphPoint(this, point);
+		}
+		this.segmentViews = new CsrGraphSegment[this.beginPoints.length];
+		for (int segment = 0; segment < this.beginPoints.length; ++segment) {
+			this.segmentViews[segment] = new CsrGraphSegment(this, segment);
+		}
+	}
+
+	/** Construct a graph with the same structure as the given graph,
+	 * eg. a {@link org.arakhne.afc.math.graph.simple.SGraph}.
+	 *
+	 * <p>The segments are indexed in the iteration order of the given graph.
+	 * The points are indexed in the order of their first occurence as
+	 * the begin point or the end point of a segment.
+	 *
+	 * @param graph is the graph to copy.
+	 */
+	public CsrGraph(Graph<?, ?> graph) {
+		this(new GraphExtractor(graph));
+	}
+
+	private CsrGraph(GraphExtractor extractor) {
+		this(extractor.pointCount, extractor.beginPoints, extractor.endPoints, extractor.lengths);
+	}
+
+	@Pure
+	@Override
+	public Iterator<CsrGraphSegment> iterator() {
+		return new SegmentIterator(this);
+	}
+
+	@Pure
+	@Override
+	public GraphIterator<CsrGraphSegment, CsrGraphPoint> iterator(
+			CsrGraphSegment startingSegment, CsrGraphPoint startingPoint,
+			boolean allowManyReplies, boolean assumeOrientedSegments) {
+		if (startingSegment.getGraph() != this
+				|| startingPoint.getGraph() != this) {
+			throw new IllegalArgumentException();
+		}
+		return new GraphIterator<>(
+				this,
+				startingSegment,
+				startingPoint,
+				allowManyReplies,
+				assumeOrientedSegments,
+				0);
+	}
+
+	@Pure
+	@Override
+	public GraphIterator<CsrGraphSegment, CsrGraphPoint> depthIterator(
+			CsrGraphSegment startingSegment, double depth,
+			double positionFromStartingPoint, CsrGraphPoint startingPoint,
+			boolean allowManyReplies, boolean assumeOrientedSegments) {
+		if (startingSegment.getGraph() != this
+				|| startingPoint.getGraph() != this) {
+			throw new IllegalArgumentException();
+		}
+		return new DepthGraphIterator<>(
+				this,
+				depth,
+				positionFromStartingPoint,
+				startingSegment,
+				startingPoint,
+				allowManyReplies,
+				assumeOrientedSegments);
+	}
+
+	@Pure
+	@Override
+	public int getSegmentCount() {
+		return this.beginPoints.length;
+	}
+
+	@Pure
+	@Override
+	public int getPointCount() {
+		return this.pointCount;
+	}
+
+	@Pure
+	@Override
+	public boolean isEmpty() {
+		return this.beginPoints.length == 0;
+	}
+
+	@Pure
+	@Override
+	public boolean contains(Object obj) {
+		return obj instanceof CsrGraphSegment && ((CsrGraphSegment) obj).getGraph() == this;
+	}
+
+	/** Replies the point at the given index.
+	 *
+	 * @param index the index of the point.
+	 * @return the point.
+	 */
+	@Pure
+	public CsrGraphPoint getPoint(int index) {
+		if (index < 0 || index >= this.pointCount) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.pointViews[index];
+	}
+
+	/** Replies the segment at the given index.
+	 *
+	 * @param index the index of the segment.
+	 * @return the segment.
+	 */
+	@Pure
+	public CsrGraphSegment getSegment(int index) {
+		if (index < 0 || index >= this.beginPoints.length) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.segmentViews[index];
+	}
+
+	/** Replies the index of the begin point of the given segment.
+	 *
+	 * @param segment the index of the segment.
+	 * @return the index of the begin point.
+	 */
+	@Pure
+	public int getBeginPointIndex(int segment) {
+		return this.beginPoints[segment];
+	}
+
+	/** Replies the index of the end point of the given segment.
+	 *
+	 * @param segment the index of the segment.
+	 * @return the index of the end point.
+	 */
+	@Pure
+	public int getEndPointIndex(int segment) {
+		return this.endPoints[segment];
+	}
+
+	/** Replies the length of the given segment.
+	 *
+	 * @param segment the index of the segment.
+	 * @return the length.
+	 */
+	@Pure
+	public double getLength(int segment) {
+		return this.lengths[segment];
+	}
+
+	/** Replies the number of connections of the given point.
+	 * A segment that starts and ends at the point has two connections.
+	 *
+	 * @param point the index of the point.
+	 * @return the number of connections.
+	 */
+	@Pure
+	public int getConnectionCount(int point) {
+		return this.connectionOffsets[point + 1] - this.connectionOffsets[point];
+	}
+
+	/** Replies the index of the segment of a connection.
+	 *
+	 * @param point the index of the point.
+	 * @param connection the index of the connection, between {@code 0} and
+	 *     {@link #getConnectionCount(int)} (exclusive).
+	 * @return the index of the connected segment.
+	 */
+	@Pure
+	public int getConnectedSegmentIndex(int point, int connection) {
+		return this.connections[connectionIndex(point, connection)] >>> 1;
+	}
+
+	/** Replies if the segment of a connection is connected by its begin point.
+	 *
+	 * @param point the index of the point.
+	 * @param connection the index of the connection, between {@code 0} and
+	 *     {@link #getConnectionCount(int)} (exclusive).
+	 * @return <code>true</code> if the segment is connected by its begin point;
+	 *     <code>false</code> if it is connected by its end point.
+	 */
+	@Pure
+	public boolean isSegmentStartConnected(int point, int connection) {
+		return (this.connections[connectionIndex(point, connection)] & 1) == 0;
+	}
+
+	private int connectionIndex(int point, int connection) {
+		if (connection < 0 || connection >= getConnectionCount(point)) {
+			throw new IndexOutOfBoundsException();
+		}
+		return this.connectionOffsets[point] + connection;
+	}
+
+	/** Iterator on the segments of the graph.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class SegmentIterator implements Iterator<CsrGraphSegment> {
+
+		private final CsrGraph graph;
+
+		private int index;
+
+		/**
+		 * @param graph the iterated graph.
+		 */
+		SegmentIterator(CsrGraph graph) {
+			this.graph = graph;
+		}
+
+		@Pure
+		@Override
+		public boolean hasNext() {
+			return this.index < this.graph.getSegmentCount();
+		}
+
+		@Override
+		public CsrGraphSegment next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			final CsrGraphSegment segment = this.graph.getSegment(this.index);
+			++this.index;
+			return segment;
+		}
+
+	}
+
+	/** Extractor of the structure of a graph.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class GraphExtractor {
+
+		final int pointCount;
+
+		final int[] beginPoints;
+
+		final int[] endPoints;
+
+		final double[] lengths;
+
+		/**
+		 * @param graph the graph to extract.
+		 */
+		GraphExtractor(Graph<?, ?> graph) {
+			final int segmentCount = graph.getSegmentCount();
+			this.beginPoints = new int[segmentCount];
+			this.endPoints = new int[segmentCount];
+			this.lengths = new double[segmentCount];
+			final Map<GraphPoint<?, ?>, Integer> points = new HashMap<>();
+			int index = 0;
+			for (final GraphSegment<?, ?> segment : graph) {
+				this.beginPoints[index] = indexOf(points, segment.getBeginPoint());
+				this.endPoints[index] = indexOf(points, segment.getEndPoint());
+				this.lengths[index] = segment.getLength();
+				++index;
+			}
+			this.pointCount = points.size();
+		}
+
+		private static int indexOf(Map<GraphPoint<?, ?>, Integer> points, GraphPoint<?, ?> point) {
+			final Integer index = points.get(point);
+			if (index != null) {
+				return index.intValue();
+			}
+			final int newIndex = points.size();
+			points.put(point, newIndex);
+			return newIndex;
+		}
+
+	}
+
+}
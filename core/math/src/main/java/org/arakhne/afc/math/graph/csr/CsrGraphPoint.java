@@ -0,0 +1,311 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.csr;
+
+import java.util.AbstractList;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.GraphPoint;
+
+/** This class provides a point of a {@link CsrGraph}.
+ *
+ * <p>The point is a view on the arrays of the graph.
+ * Two points are equal if they have the same index in the same graph.
+ * The lists of connected segments are views on the arrays of the graph too.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public final class CsrGraphPoint implements GraphPoint<CsrGraphPoint, CsrGraphSegment> {
+
+	private final CsrGraph graph;
+
+	private final int index;
+
+	/**
+	 * @param graph is the graph in which the point is.
+	 * @param index is the index of the point in the graph.
+	 */
+	CsrGraphPoint(CsrGraph graph, int index) {
+		this.graph = graph;
+		this.index = index;
+	}
+
+	/** Replies the graph in which this point is.
+	 *
+	 * @return the graph in which this point is.
+	 */
+	@Pure
+	public CsrGraph getGraph() {
+		return this.graph;
+	}
+
+	/** Replies the index of this point in the graph.
+	 *
+	 * @return the index of this point.
+	 */
+	@Pure
+	public int getIndex() {
+		return this.index;
+	}
+
+	@Pure
+	@Override
+	public int getConnectedSegmentCount() {
+		return this.graph.getConnectionCount(this.index);
+	}
+
+	@Pure
+	@Override
+	public Iterable<CsrGraphSegment> getConnectedSegments() {
+		return new SegmentList(this, 0);
+	}
+
+	@Pure
+	@Override
+	public Iterable<CsrGraphSegment> getConnectedSegmentsStartingFrom(CsrGraphSegment startingPoint) {
+		return new SegmentList(this, indexOf(startingPoint));
+	}
+
+	@Pure
+	@Override
+	public Iterable<? extends GraphPointConnection<CsrGraphPoint, CsrGraphSegment>> getConnections() {
+		return new ConnectionList(this, 0);
+	}
+
+	@Pure
+	@Override
+	public Iterable<? extends GraphPointConnection<CsrGraphPoint, CsrGraphSegment>> getConnectionsStartingFrom(
+			CsrGraphSegment startingPoint) {
+		return new ConnectionList(this, indexOf(startingPoint));
+	}
+
+	@Pure
+	@Override
+	public boolean isConnectedSegment(CsrGraphSegment segment) {
+		return segment != null && segment.getGraph() == this.graph
+				&& (this.graph.getBeginPointIndex(segment.getIndex()) == this.index
+				|| this.graph.getEndPointIndex(segment.getIndex()) == this.index);
+	}
+
+	@Pure
+	@Override
+	public boolean isFinalConnectionPoint() {
+		return getConnectedSegmentCount() <= 1;
+	}
+
+	@Pure
+	@Override
+	public int compareTo(GraphPoint<CsrGraphPoint, CsrGraphSegment> pt) {
+		if (pt == null) {
+			return Integer.MAX_VALUE;
+		}
+		if (pt instanceof CsrGraphPoint) {
+			final CsrGraphPoint point = (CsrGraphPoint) pt;
+			final int cmp = Integer.compare(this.index, point.index);
+			if (cmp != 0 || point.graph == this.graph) {
+				return cmp;
+			}
+			// The points with the same index in two graphs are not equal
+			return Integer.compare(System.identityHashCode(this.graph), System.identityHashCode(point.graph));
+		}
+		final int cmp = Integer.compare(hashCode(), pt.hashCode());
+		if (cmp != 0) {
+			return cmp;
+		}
+		return Integer.compare(System.identityHashCode(this), System.identityHashCode(pt));
+	}
+
+	@Pure
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (obj instanceof CsrGraphPoint) {
+			final CsrGraphPoint point = (CsrGraphPoint) obj;
+			return point.graph == this.graph && point.index == this.index;
+		}
+		return false;
+	}
+
+	@Pure
+	@Override
+	public int hashCode() {
+		return this.index;
+	}
+
+	@Pure
+	@Override
+	public String toString() {
+		return "point#" + this.index; //$NON-NLS-1$
+	}
+
+	/** Replies the index of the first connection to the given segment.
+	 *
+	 * @param segment the segment.
+	 * @return the index of the connection, or {@code 0} if the segment is not connected.
+	 */
+	@Pure
+	private int indexOf(CsrGraphSegment segment) {
+		if (segment != null && segment.getGraph() == this.graph) {
+			final int count = getConnectedSegmentCount();
+			for (int i = 0; i < count; ++i) {
+				if (this.graph.getConnectedSegmentIndex(this.index, i) == segment.getIndex()) {
+					return i;
+				}
+			}
+		}
+		return 0;
+	}
+
+	/** Read-only view on the connected segments.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class SegmentList extends AbstractList<CsrGraphSegment> {
+
+		private final CsrGraphPoint point;
+
+		private final int first;
+
+		/**
+		 * @param point the point.
+		 * @param first the index of the first connection in the list.
+		 */
+		SegmentList(CsrGraphPoint point, int first) {
+			this.point = point;
+			this.first = first;
+		}
+
+		@Pure
+		@Override
+		public CsrGraphSegment get(int index) {
+			final int size = size();
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException();
+			}
+			final CsrGraph graph = this.point.getGraph();
+			return graph.getSegment(graph.getConnectedSegmentIndex(this.point.getIndex(), (this.first + index) % size));
+		}
+
+		@Pure
+		@Override
+		public int size() {
+			return this.point.getConnectedSegmentCount();
+		}
+
+	}
+
+	/** Read-only view on the connections.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class ConnectionList extends AbstractList<PointConnection> {
+
+		private final CsrGraphPoint point;
+
+		private final int first;
+
+		/**
+		 * @param point the point.
+		 * @param first the index of the first connection in the list.
+		 */
+		ConnectionList(CsrGraphPoint point, int first) {
+			this.point = point;
+			this.first = first;
+		}
+
+		@Pure
+		@Override
+		public PointConnection get(int index) {
+			final int size = size();
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException();
+			}
+			return new PointConnection(this.point, (this.first + index) % size);
+		}
+
+		@Pure
+		@Override
+		public int size() {
+			return this.point.getConnectedSegmentCount();
+		}
+
+	}
+
+	/** Connection of a segment to a point.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class PointConnection implements GraphPointConnection<CsrGraphPoint, CsrGraphSegment> {
+
+		private final CsrGraphPoint point;
+
+		private final int connection;
+
+		/**
+		 * @param point the connected point.
+		 * @param connection the index of the connection.
+		 */
+		PointConnection(CsrGraphPoint point, int connection) {
+			this.point = point;
+			this.connection = connection;
+		}
+
+		@Pure
+		@Override
+		public CsrGraphSegment getGraphSegment() {
+			final CsrGraph graph = this.point.getGraph();
+			return graph.getSegment(graph.getConnectedSegmentIndex(this.point.getIndex(), this.connection));
+		}
+
+		@Pure
+		@Override
+		public CsrGraphPoint getGraphPoint() {
+			return this.point;
+		}
+
+		@Pure
+		@Override
+		public boolean isSegmentStartConnected() {
+			return this.point.getGraph().isSegmentStartConnected(this.point.getIndex(), this.connection);
+		}
+
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.csr;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.graph.GraphSegment;
+
+/** This class provides a segment of a {@link CsrGraph}.
+ *
+ * <p>The segment is a view on the arrays of the graph.
+ * Two segments are equal if they have the same index in the same graph.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public final class CsrGraphSegment implements GraphSegment<CsrGraphSegment, CsrGraphPoint> {
+
+	private final CsrGraph graph;
+
+	private final int index;
+
+	/**
+	 * @param graph is the graph in which the segment is.
+	 * @param index is the index of the segment in the graph.
+	 */
+	CsrGraphSegment(CsrGraph graph, int index) {
+		this.graph = graph;
+		this.index = index;
+	}
+
+	/** Replies the graph in which this segment is.
+	 *
+	 * @return the graph in which this segment is.
+	 */
+	@Pure
+	public CsrGraph getGraph() {
+		return this.graph;
+	}
+
+	/** Replies the index of this segment in the graph.
+	 *
+	 * @return the index of this segment.
+	 */
+	@Pure
+	public int getIndex() {
+		return this.index;
+	}
+
+	@Pure
+	@Override
+	public CsrGraphPoint getBeginPoint() {
+		return this.graph.getPoint(this.graph.getBeginPointIndex(this.index));
+	}
+
+	@Pure
+	@Override
+	public CsrGraphPoint getEndPoint() {
+		return this.graph.getPoint(this.graph.getEndPointIndex(this.index));
+	}
+
+	@Pure
+	@Override
+	public CsrGraphPoint getOtherSidePoint(CsrGraphPoint point) {
+		if (point != null && point.getGraph() == this.graph) {
+			final int begin = this.graph.getBeginPointIndex(this.index);
+			final int end = this.graph.getEndPointIndex(this.index);
+			if (point.getIndex() == begin) {
+				return this.graph.getPoint(end);
+			}
+			if (point.getIndex() == end) {
+				return this.graph.getPoint(begin);
+			}
+		}
+		return null;
+	}
+
+	@Pure
+	@Override
+	public double getLength() {
+		return this.graph.getLength(this.index);
+	}
+
+	@Pure
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (obj instanceof CsrGraphSegment) {
+			final CsrGraphSegment segment = (CsrGraphSegment) obj;
+			return segment.graph == this.graph && segment.index == this.index;
+		}
+		return false;
+	}
+
+	@Pure
+	@Override
+	public int hashCode() {
+		return this.index;
+	}
+
+	@Pure
+	@Override
+	public String toString() {
+		return "segment#" + this.index; //$NON-NLS-1$
+	}
+
+}
@@ -0,0 +1,205 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.matrix;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+import org.arakhne.afc.vmutil.locale.Locale;
+
+/**
+ * Cholesky decomposition of a symmetric positive definite matrix.
+ *
+ * <p>The decomposition is {@code A = L * L<sup>T</sup>}, where {@code L} is a lower
+ * triangular matrix. Only the lower triangle of {@code A} is read.
+ *
+ * <p>The decomposition is the fastest way for solving the normal equations
+ * {@code A<sup>T</sup>A * x = A<sup>T</sup>b} of the least squares problems.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see MatrixNd#cholesky()
+ */
+public class CholeskyDecomposition {
+
+    private final int size;
+
+    /** The elements of {@code L}, in row major order.
+     */
+    private final double[] lower;
+
+    private final boolean positiveDefinite;
+
+    /** Construct the decomposition of the given matrix.
+     *
+     * @param matrix the symmetric matrix to decompose.
+     */
+    CholeskyDecomposition(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.isSquare() : AssertMessages.invalidValue(0);
+        final int n = matrix.getRowCount();
+        final double[] source = matrix.getBuffer();
+        final double[] elements = new double[n * n];
+        boolean isPositiveDefinite = true;
+        for (int j = 0; j < n; ++j) {
+            final int joffset = j * n;
+            double sum = 0;
+            for (int k = 0; k < j; ++k) {
+                final int koffset = k * n;
+                // Both rows are read contiguously
+                double value = source[joffset + k];
+                for (int i = 0; i < k; ++i) {
+                    value -= elements[koffset + i] * elements[joffset + i];
+                }
+                value /= elements[koffset + k];
+                elements[joffset + k] = value;
+                sum += value * value;
+            }
+            final double diagonal = source[joffset + j] - sum;
+            if (diagonal > 0.) {
+                elements[joffset + j] = Math.sqrt(diagonal);
+            } else {
+                isPositiveDefinite = false;
+                break;
+            }
+        }
+        this.size = n;
+        this.lower = elements;
+        this.positiveDefinite = isPositiveDefinite;
+    }
+
+    /** Replies if the decomposed matrix is positive definite.
+     *
+     * @return {@code true} if the matrix is positive definite.
+     */
+    @Pure
+    public boolean isPositiveDefinite() {
+        return this.positiveDefinite;
+    }
+
+    /** Replies the lower triangular factor {@code L}.
+     *
+     * @return the matrix {@code L}.
+     */
+    @Pure
+    public MatrixNd getL() {
+        return new MatrixNd(this.size, this.size, this.lower);
+    }
+
+    /** Replies the determinant of the decomposed matrix.
+     *
+     * @return the determinant, or {@code 0} if the matrix is not positive definite.
+     */
+    @Pure
+    public double determinant() {
+        if (!this.positiveDefinite) {
+            return 0.;
+        }
+        double determinant = 1.;
+        for (int i = 0; i < this.size; ++i) {
+            final double value = this.lower[i * this.size + i];
+            determinant *= value * value;
+        }
+        return determinant;
+    }
+
+    /** Solves the system {@code A * X = B}.
+     *
+     * @param matrix the matrix {@code B}, with the same number of rows as {@code A}.
+     * @return the matrix {@code X}.
+     * @throws SingularMatrixException if the decomposed matrix is not positive definite.
+     */
+    @Pure
+    public MatrixNd solve(MatrixNd matrix) {
+        final MatrixNd result = new MatrixNd(matrix);
+        solveInPlace(result);
+        return result;
+    }
+
+    /** Solves the system {@code A * x = b}.
+     *
+     * @param vector the vector {@code b}, with a size equal to the size of {@code A}.
+     * @return the vector {@code x}.
+     * @throws SingularMatrixException if the decomposed matrix is not positive definite.
+     */
+    @Pure
+    public double[] solve(double[] vector) {
+        assert vector != null && vector.length == this.size : AssertMessages.invalidValue(0);
+        final MatrixNd result = new MatrixNd(this.size, 1, vector);
+        solveInPlace(result);
+        return result.getBuffer();
+    }
+
+    /** Solves the system {@code A * X = B}, and replace {@code B} by {@code X}.
+     *
+     * @param matrix the matrix {@code B}, with the same number of rows as {@code A}.
+     * @throws SingularMatrixException if the decomposed matrix is not positive definite.
+     */
+    @SuppressWarnings("checkstyle:npathcomplexity")
+    public void solveInPlace(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.getRowCount() == this.size : AssertMessages.invalidValue(0);
+        if (!this.positiveDefinite) {
+            throw new SingularMatrixException(Locale.getString("E1")); //$NON-NLS-1$
+        }
+        final int n = this.size;
+        final int columns = matrix.getColumnCount();
+        final double[] x = matrix.getBuffer();
+        // Solve L * Y = B
+        for (int k = 0; k < n; ++k) {
+            final int koffset = k * columns;
+            for (int i = 0; i < k; ++i) {
+                final double factor = this.lower[k * n + i];
+                if (factor != 0.) {
+                    final int ioffset = i * columns;
+                    for (int j = 0; j < columns; ++j) {
+                        x[koffset + j] -= factor * x[ioffset + j];
+                    }
+                }
+            }
+            final double diagonal = this.lower[k * n + k];
+            for (int j = 0; j < columns; ++j) {
+                x[koffset + j] /= diagonal;
+            }
+        }
+        // Solve L^T * X = Y
+        for (int k = n - 1; k >= 0; --k) {
+            final int koffset = k * columns;
+            final double diagonal = this.lower[k * n + k];
+            for (int j = 0; j < columns; ++j) {
+                x[koffset + j] /= diagonal;
+            }
+            for (int i = 0; i < k; ++i) {
+                final double factor = this.lower[k * n + i];
+                if (factor != 0.) {
+                    final int ioffset = i * columns;
+                    for (int j = 0; j < columns; ++j) {
+                        x[ioffset + j] -= factor * x[koffset + j];
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,268 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.matrix;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+import org.arakhne.afc.vmutil.locale.Locale;
+
+/**
+ * LU decomposition of a square matrix, with partial pivoting.
+ *
+ * <p>The decomposition is {@code P * A = L * U}, where {@code P} is a permutation matrix,
+ * {@code L} is a lower triangular matrix with a unit diagonal, and {@code U} is an upper
+ * triangular matrix.
+ *
+ * <p>The decomposition is computed once, and it may be used for solving several systems.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see MatrixNd#lu()
+ */
+public class LUDecomposition {
+
+    private final int size;
+
+    /** The elements of {@code L} (without its diagonal) and {@code U}, in row major order.
+     */
+    private final double[] lu;
+
+    private final int[] pivot;
+
+    private final boolean evenPermutation;
+
+    private final boolean singular;
+
+    /** Construct the decomposition of the given matrix.
+     *
+     * @param matrix the square matrix to decompose.
+     */
+    LUDecomposition(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.isSquare() : AssertMessages.invalidValue(0);
+        final int n = matrix.getRowCount();
+        final double[] elements = matrix.toArray();
+        final int[] permutation = new int[n];
+        for (int i = 0; i < n; ++i) {
+            permutation[i] = i;
+        }
+        boolean even = true;
+        boolean isSingular = false;
+        for (int k = 0; k < n; ++k) {
+            // Search of the pivot
+            int pivotRow = k;
+            double max = Math.abs(elements[k * n + k]);
+            for (int i = k + 1; i < n; ++i) {
+                final double value = Math.abs(elements[i * n + k]);
+                if (value > max) {
+                    max = value;
+                    pivotRow = i;
+                }
+            }
+            if (pivotRow != k) {
+                swapRows(elements, n, pivotRow, k);
+                final int tmp = permutation[pivotRow];
+                permutation[pivotRow] = permutation[k];
+                permutation[k] = tmp;
+                even = !even;
+            }
+            final double diagonal = elements[k * n + k];
+            if (diagonal == 0.) {
+                isSingular = true;
+            } else {
+                // Elimination below the pivot; the rows are contiguous in memory
+                final int pivotOffset = k * n;
+                for (int i = k + 1; i < n; ++i) {
+                    final int rowOffset = i * n;
+                    final double factor = elements[rowOffset + k] / diagonal;
+                    elements[rowOffset + k] = factor;
+                    if (factor != 0.) {
+                        for (int j = k + 1; j < n; ++j) {
+                            elements[rowOffset + j] -= factor * elements[pivotOffset + j];
+                        }
+                    }
+                }
+            }
+        }
+        this.size = n;
+        this.lu = elements;
+        this.pivot = permutation;
+        this.evenPermutation = even;
+        this.singular = isSingular;
+    }
+
+    private static void swapRows(double[] elements, int columns, int row1, int row2) {
+        final int offset1 = row1 * columns;
+        final int offset2 = row2 * columns;
+        for (int j = 0; j < columns; ++j) {
+            final double tmp = elements[offset1 + j];
+            elements[offset1 + j] = elements[offset2 + j];
+            elements[offset2 + j] = tmp;
+        }
+    }
+
+    /** Replies if the decomposed matrix is singular.
+     *
+     * @return {@code true} if the matrix is singular.
+     */
+    @Pure
+    public boolean isSingular() {
+        return this.singular;
+    }
+
+    /** Replies the lower triangular factor {@code L}.
+     *
+     * @return the matrix {@code L}.
+     */
+    @Pure
+    public MatrixNd getL() {
+        final int n = this.size;
+        final MatrixNd matrix = new MatrixNd(n, n);
+        final double[] elements = matrix.getBuffer();
+        for (int i = 0; i < n; ++i) {
+            System.arraycopy(this.lu, i * n, elements, i * n, i);
+            elements[i * n + i] = 1.;
+        }
+        return matrix;
+    }
+
+    /** Replies the upper triangular factor {@code U}.
+     *
+     * @return the matrix {@code U}.
+     */
+    @Pure
+    public MatrixNd getU() {
+        final int n = this.size;
+        final MatrixNd matrix = new MatrixNd(n, n);
+        final double[] elements = matrix.getBuffer();
+        for (int i = 0; i < n; ++i) {
+            System.arraycopy(this.lu, i * n + i, elements, i * n + i, n - i);
+        }
+        return matrix;
+    }
+
+    /** Replies the permutation of the rows: the row {@code i} of {@code P * A} is the
+     * row {@code pivot[i]} of {@code A}.
+     *
+     * @return the permutation.
+     */
+    @Pure
+    public int[] getPivot() {
+        return this.pivot.clone();
+    }
+
+    /** Replies the determinant of the decomposed matrix.
+     *
+     * @return the determinant.
+     */
+    @Pure
+    public double determinant() {
+        double determinant = this.evenPermutation ? 1. : -1.;
+        for (int i = 0; i < this.size; ++i) {
+            determinant *= this.lu[i * this.size + i];
+        }
+        return determinant;
+    }
+
+    /** Solves the system {@code A * X = B}.
+     *
+     * @param matrix the matrix {@code B}, with the same number of rows as {@code A}.
+     * @return the matrix {@code X}.
+     * @throws SingularMatrixException if the decomposed matrix is singular.
+     */
+    @Pure
+    public MatrixNd solve(MatrixNd matrix) {
+        final MatrixNd result = new MatrixNd(matrix);
+        solveInPlace(result);
+        return result;
+    }
+
+    /** Solves the system {@code A * x = b}.
+     *
+     * @param vector the vector {@code b}, with a size equal to the size of {@code A}.
+     * @return the vector {@code x}.
+     * @throws SingularMatrixException if the decomposed matrix is singular.
+     */
+    @Pure
+    public double[] solve(double[] vector) {
+        assert vector != null && vector.length == this.size : AssertMessages.invalidValue(0);
+        final MatrixNd result = new MatrixNd(this.size, 1, vector);
+        solveInPlace(result);
+        return result.getBuffer();
+    }
+
+    /** Solves the system {@code A * X = B}, and replace {@code B} by {@code X}.
+     *
+     * @param matrix the matrix {@code B}, with the same number of rows as {@code A}.
+     * @throws SingularMatrixException if the decomposed matrix is singular.
+     */
+    @SuppressWarnings("checkstyle:npathcomplexity")
+    public void solveInPlace(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.getRowCount() == this.size : AssertMessages.invalidValue(0);
+        if (this.singular) {
+            throw new SingularMatrixException(Locale.getString("E1")); //$NON-NLS-1$
+        }
+        final int n = this.size;
+        final int columns = matrix.getColumnCount();
+        final double[] source = matrix.getBuffer();
+        final double[] x = new double[source.length];
+        for (int i = 0; i < n; ++i) {
+            System.arraycopy(source, this.pivot[i] * columns, x, i * columns, columns);
+        }
+        // Solve L * Y = P * B
+        for (int k = 0; k < n; ++k) {
+            final int koffset = k * columns;
+            for (int i = k + 1; i < n; ++i) {
+                final double factor = this.lu[i * n + k];
+                if (factor != 0.) {
+                    final int ioffset = i * columns;
+                    for (int j = 0; j < columns; ++j) {
+                        x[ioffset + j] -= factor * x[koffset + j];
+                    }
+                }
+            }
+        }
+        // Solve U * X = Y
+        for (int k = n - 1; k >= 0; --k) {
+            final int koffset = k * columns;
+            final double diagonal = this.lu[k * n + k];
+            for (int j = 0; j < columns; ++j) {
+                x[koffset + j] /= diagonal;
+            }
+            for (int i = 0; i < k; ++i) {
+                final double factor = this.lu[i * n + k];
+                if (factor != 0.) {
+                    final int ioffset = i * columns;
+                    for (int j = 0; j < columns; ++j) {
+                        x[ioffset + j] -= factor * x[koffset + j];
+                    }
+                }
+            }
+        }
+        matrix.set(x);
+    }
+
+}
@@ -3542,6 +3542,54 @@ public class Matrix3d implements Serializable, Cloneable {
         add(-scalar);
     }
 
+    /** Multiply this matrix by the given matrix: {@code this *= matrix}.
+     *
+     * <p>This function is an implementation of the operator for
+     * the languages that defined or based on the
+     * <a href="https://www.eclipse.org/Xtext/">Xtext framework</a>.
+     *
+     * <p>Contrary to {@link #operator_multiply(Matrix3d)}, this operator does not allocate a new matrix.
+     *
+     * @param matrix the matrix.
+     * @see #mul(Matrix3d)
+     */
+    @XtextOperator("*=")
+    public void operator_multiplyAssign(Matrix3d matrix) {
+        mul(matrix);
+    }
+
+    /** Multiply this matrix by the given scalar: {@code this *= scalar}.
+     *
+     * <p>This function is an implementation of the operator for
+     * the languages that defined or based on the
+     * <a href="https://www.eclipse.org/Xtext/">Xtext framework</a>.
+     *
+     * <p>Contrary to {@link #operator_multiply(double)}, this operator does not allocate a new matrix.
+     *
+     * @param scalar the scalar.
+     * @see #mul(double)
+     */
+    @XtextOperator("*=")
+    public void operator_multiplyAssign(double scalar) {
+        mul(scalar);
+    }
+
+    /** Divide this matrix by the given scalar: {@code this /= scalar}.
+     *
+     * <p>This function is an implementation of the operator for
+     * the languages that defined or based on the
+     * <a href="https://www.eclipse.org/Xtext/">Xtext framework</a>.
+     *
+     * <p>Contrary to {@link #operator_divide(double)}, this operator does not allocate a new matrix.
+     *
+     * @param scalar the scalar.
+     * @see #mul(double)
+     */
+    @XtextOperator("/=")
+    public void operator_divideAssign(double scalar) {
+        mul(1. / scalar);
+    }
+
     /** Replies the addition of the given matrix to this matrix: {@code this + matrix}.
      *
      * <p>This function is an implementation of the operator for
@@ -30,6 +30,7 @@ import org.arakhne.afc.vmutil.ReflectionUtil;
 import org.arakhne.afc.vmutil.annotations.ScalaOperator;
 import org.arakhne.afc.vmutil.annotations.XtextOperator;
 import org.arakhne.afc.vmutil.asserts.AssertMessages;
+import org.arakhne.afc.vmutil.locale.Locale;
 
 /**
  * Is represented internally as a 4x4 floating point matrix. The mathematical
@@ -1202,6 +1203,63 @@ public class Matrix4d implements Serializable, Cloneable {
                         );
     }
 
+    /**
+     * Sets the value of this matrix to the matrix inverse of the passed matrix.
+     *
+     * @param matrix the matrix to be inverted
+     * @throws SingularMatrixException if the matrix cannot be inverted.
+     * @since 14.0
+     */
+    public void invert(Matrix4d matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        // Laplace expansion with the 2x2 sub-determinants of the two first rows
+        // and of the two last rows.
+        final double s0 = matrix.m00 * matrix.m11 - matrix.m10 * matrix.m01;
+        final double s1 = matrix.m00 * matrix.m12 - matrix.m10 * matrix.m02;
+        final double s2 = matrix.m00 * matrix.m13 - matrix.m10 * matrix.m03;
+        final double s3 = matrix.m01 * matrix.m12 - matrix.m11 * matrix.m02;
+        final double s4 = matrix.m01 * matrix.m13 - matrix.m11 * matrix.m03;
+        final double s5 = matrix.m02 * matrix.m13 - matrix.m12 * matrix.m03;
+        final double c5 = matrix.m22 * matrix.m33 - matrix.m32 * matrix.m23;
+        final double c4 = matrix.m21 * matrix.m33 - matrix.m31 * matrix.m23;
+        final double c3 = matrix.m21 * matrix.m32 - matrix.m31 * matrix.m22;
+        final double c2 = matrix.m20 * matrix.m33 - matrix.m30 * matrix.m23;
+        final double c1 = matrix.m20 * matrix.m32 - matrix.m30 * matrix.m22;
+        final double c0 = matrix.m20 * matrix.m31 - matrix.m30 * matrix.m21;
+        final double det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        if (det == 0. || Double.isNaN(det)) {
+            throw new SingularMatrixException(Locale.getString("E1", det)); //$NON-NLS-1$
+        }
+        final double inv = 1. / det;
+        set(
+                (matrix.m11 * c5 - matrix.m12 * c4 + matrix.m13 * c3) * inv,
+                (-matrix.m01 * c5 + matrix.m02 * c4 - matrix.m03 * c3) * inv,
+                (matrix.m31 * s5 - matrix.m32 * s4 + matrix.m33 * s3) * inv,
+                (-matrix.m21 * s5 + matrix.m22 * s4 - matrix.m23 * s3) * inv,
+                (-matrix.m10 * c5 + matrix.m12 * c2 - matrix.m13 * c1) * inv,
+                (matrix.m00 * c5 - matrix.m02 * c2 + matrix.m03 * c1) * inv,
+                (-matrix.m30 * s5 + matrix.m32 * s2 - matrix.m33 * s1) * inv,
+                (matrix.m20 * s5 - matrix.m22 * s2 + matrix.m23 * s1) * inv,
+                (matrix.m10 * c4 - matrix.m11 * c2 + matrix.m13 * c0) * inv,
+                (-matrix.m00 * c4 + matrix.m01 * c2 - matrix.m03 * c0) * inv,
+                (matrix.m30 * s4 - matrix.m31 * s2 + matrix.m33 * s0) * inv,
+                (-matrix.m20 * s4 + matrix.m21 * s2 - matrix.m23 * s0) * inv,
+                (-matrix.m10 * c3 + matrix.m11 * c1 - matrix.m12 * c0) * inv,
+                (matrix.m00 * c3 - matrix.m01 * c1 + matrix.m02 * c0) * inv,
+                (-matrix.m30 * s3 + matrix.m31 * s1 - matrix.m32 * s0) * inv,
+                (matrix.m20 * s3 - matrix.m21 * s1 + matrix.m22 * s0) * inv);
+    }
+
+    /**
+     * Inverts this matrix in place.
+     *
+     * @throws SingularMatrixException if the matrix cannot be inverted.
+     * @since 14.0
+     */
+    public void invert() {
+        invert(this);
+    }
+
     /**
      * Multiplies each element of this matrix by a scalar.
      *
@@ -2198,6 +2256,54 @@ public class Matrix4d implements Serializable, Cloneable {
         add(-scalar);
     }
 
+    /** Multiply this matrix by the given matrix: {@code this *= matrix}.
+     *
+     * <p>This function is an implementation of the operator for
+     * the languages that defined or based on the
+     * <a href="https://www.eclipse.org/Xtext/">Xtext framework</a>.
+     *
+     * <p>Contrary to {@link #operator_multiply(Matrix4d)}, this operator does not allocate a new matrix.
+     *
+     * @param matrix the matrix.
+     * @see #mul(Matrix4d)
+     */
+    @XtextOperator("*=")
+    public void operator_multiplyAssign(Matrix4d matrix) {
+        mul(matrix);
+    }
+
+    /** Multiply this matrix by the given scalar: {@code this *= scalar}.
+     *
+     * <p>This function is an implementation of the operator for
+     * the languages that defined or based on the
+     * <a href="https://www.eclipse.org/Xtext/">Xtext framework</a>.
+     *
+     * <p>Contrary to {@link #operator_multiply(double)}, this operator does not allocate a new matrix.
+     *
+     * @param scalar the scalar.
+     * @see #mul(double)
+     */
+    @XtextOperator("*=")
+    public void operator_multiplyAssign(double scalar) {
+        mul(scalar);
+    }
+
+    /** Divide this matrix by the given scalar: {@code this /= scalar}.
+     *
+     * <p>This function is an implementation of the operator for
+     * the languages that defined or based on the
+     * <a href="https://www.eclipse.org/Xtext/">Xtext framework</a>.
+     *
+     * <p>Contrary to {@link #operator_divide(double)}, this operator does not allocate a new matrix.
+     *
+     * @param scalar the scalar.
+     * @see #mul(double)
+     */
+    @XtextOperator("/=")
+    public void operator_divideAssign(double scalar) {
+        mul(1. / scalar);
+    }
+
     /** Replies the addition of the given matrix to this matrix: {@code this + matrix}.
      *
      * <p>This function is an implementation of the operator for
@@ -0,0 +1,776 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.matrix;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/**
+ * Dense matrix of arbitrary size.
+ *
+ * <p>The elements are stored in a single array, in row major order.
+ * The multiplication of matrices is blocked for fitting the cache memory,
+ * and it is run in parallel for the large matrices.
+ *
+ * <p>The matrix may be decomposed with {@link #lu()}, {@link #qr()}, {@link #cholesky()}
+ * and {@link #svd()}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+@SuppressWarnings("checkstyle:methodcount")
+public class MatrixNd implements Serializable, Cloneable {
+
+    /** Number of rows or columns in a block of the blocked algorithms.
+     */
+    static final int BLOCK_SIZE = 64;
+
+    /** Minimal number of multiplications for running a matrix product in parallel.
+     */
+    static final long PARALLEL_THRESHOLD = 8L * BLOCK_SIZE * BLOCK_SIZE * BLOCK_SIZE;
+
+    private static final long serialVersionUID = 2183526128374893522L;
+
+    private final int rows;
+
+    private final int columns;
+
+    /** The elements in row major order.
+     */
+    private double[] values;
+
+    /** Construct a matrix with all the elements equal to zero.
+     *
+     * @param rows the number of rows.
+     * @param columns the number of columns.
+     */
+    public MatrixNd(int rows, int columns) {
+        assert rows > 0 : AssertMessages.positiveStrictlyParameter(0);
+        assert columns > 0 : AssertMessages.positiveStrictlyParameter(1);
+        this.rows = rows;
+        this.columns = columns;
+        this.values = new double[rows * columns];
+    }
+
+    /** Construct a matrix from the given elements.
+     *
+     * @param rows the number of rows.
+     * @param columns the number of columns.
+     * @param values the elements in row major order. The array is copied.
+     */
+    public MatrixNd(int rows, int columns, double[] values) {
+        this(rows, columns);
+        assert values != null : AssertMessages.notNullParameter(2);
+        assert values.length >= rows * columns : AssertMessages.tooSmallArrayParameter(2, values.length, rows * columns);
+        System.arraycopy(values, 0, this.values, 0, this.values.length);
+    }
+
+    /** Construct a matrix from the given elements.
+     *
+     * @param values the rows of the matrix.
+     */
+    public MatrixNd(double[][] values) {
+        this(values.length, values[0].length);
+        for (int i = 0; i < this.rows; ++i) {
+            assert values[i].length == this.columns : AssertMessages.invalidValue();
+            System.arraycopy(values[i], 0, this.values, i * this.columns, this.columns);
+        }
+    }
+
+    /** Construct a copy of the given matrix.
+     *
+     * @param matrix the matrix to copy.
+     */
+    public MatrixNd(MatrixNd matrix) {
+        this(matrix.rows, matrix.columns, matrix.values);
+    }
+
+    /** Construct a copy of the given matrix.
+     *
+     * @param matrix the matrix to copy.
+     */
+    public MatrixNd(Matrix2d matrix) {
+        this(2, 2);
+        for (int i = 0; i < 2; ++i) {
+            for (int j = 0; j < 2; ++j) {
+                this.values[i * 2 + j] = matrix.getElement(i, j);
+            }
+        }
+    }
+
+    /** Construct a copy of the given matrix.
+     *
+     * @param matrix the matrix to copy.
+     */
+    public MatrixNd(Matrix3d matrix) {
+        this(3, 3);
+        for (int i = 0; i < 3; ++i) {
+            for (int j = 0; j < 3; ++j) {
+                this.values[i * 3 + j] = matrix.getElement(i, j);
+            }
+        }
+    }
+
+    /** Construct a copy of the given matrix.
+     *
+     * @param matrix the matrix to copy.
+     */
+    @SuppressWarnings("checkstyle:magicnumber")
+    public MatrixNd(Matrix4d matrix) {
+        this(4, 4);
+        for (int i = 0; i < 4; ++i) {
+            for (int j = 0; j < 4; ++j) {
+                this.values[i * 4 + j] = matrix.getElement(i, j);
+            }
+        }
+    }
+
+    /** Create an identity matrix.
+     *
+     * @param size the number of rows and columns.
+     * @return the identity matrix.
+     */
+    @Pure
+    public static MatrixNd identity(int size) {
+        final MatrixNd matrix = new MatrixNd(size, size);
+        matrix.setIdentity();
+        return matrix;
+    }
+
+    @Pure
+    @Override
+    public MatrixNd clone() {
+        try {
+            final MatrixNd matrix = (MatrixNd) super.clone();
+            matrix.values = this.values.clone();
+            return matrix;
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(e);
+        }
+    }
+
+    @Pure
+    @Override
+    public String toString() {
+        final StringBuilder buffer = new StringBuilder();
+        buffer.append('[');
+        for (int i = 0; i < this.rows; ++i) {
+            if (i > 0) {
+                buffer.append(",\n "); //$NON-NLS-1$
+            }
+            buffer.append('[');
+            for (int j = 0; j < this.columns; ++j) {
+                if (j > 0) {
+                    buffer.append(", "); //$NON-NLS-1$
+                }
+                buffer.append(this.values[i * this.columns + j]);
+            }
+            buffer.append(']');
+        }
+        buffer.append(']');
+        return buffer.toString();
+    }
+
+    /** Replies the number of rows.
+     *
+     * @return the number of rows.
+     */
+    @Pure
+    public int getRowCount() {
+        return this.rows;
+    }
+
+    /** Replies the number of columns.
+     *
+     * @return the number of columns.
+     */
+    @Pure
+    public int getColumnCount() {
+        return this.columns;
+    }
+
+    /** Replies if the matrix has the same number of rows and columns.
+     *
+     * @return {@code true} if the matrix is square.
+     */
+    @Pure
+    public boolean isSquare() {
+        return this.rows == this.columns;
+    }
+
+    /** Replies the array of the elements, in row major order.
+     *
+     * <p>The replied array is the internal storage of the matrix. Any change into
+     * the array changes the matrix.
+     *
+     * @return the elements.
+     */
+    @Pure
+    public double[] getBuffer() {
+        return this.values;
+    }
+
+    /** Replies a copy of the elements, in row major order.
+     *
+     * @return the elements.
+     */
+    @Pure
+    public double[] toArray() {
+        return this.values.clone();
+    }
+
+    /** Replies the element at the given position.
+     *
+     * @param row the row index.
+     * @param column the column index.
+     * @return the value of the element.
+     */
+    @Pure
+    public double getElement(int row, int column) {
+        assert row >= 0 && row < this.rows : AssertMessages.outsideRangeInclusiveParameter(0, row, 0, this.rows - 1);
+        assert column >= 0 && column < this.columns
+                : AssertMessages.outsideRangeInclusiveParameter(1, column, 0, this.columns - 1);
+        return this.values[row * this.columns + column];
+    }
+
+    /** Change the element at the given position.
+     *
+     * @param row the row index.
+     * @param column the column index.
+     * @param value the new value of the element.
+     */
+    public void setElement(int row, int column, double value) {
+        assert row >= 0 && row < this.rows : AssertMessages.outsideRangeInclusiveParameter(0, row, 0, this.rows - 1);
+        assert column >= 0 && column < this.columns
+                : AssertMessages.outsideRangeInclusiveParameter(1, column, 0, this.columns - 1);
+        this.values[row * this.columns + column] = value;
+    }
+
+    /** Copy the given row of this matrix into the given array.
+     *
+     * @param row the row index.
+     * @param vector the array to fill.
+     */
+    public void getRow(int row, double[] vector) {
+        assert row >= 0 && row < this.rows : AssertMessages.outsideRangeInclusiveParameter(0, row, 0, this.rows - 1);
+        assert vector != null && vector.length >= this.columns
+                : AssertMessages.tooSmallArrayParameter(1, vector == null ? 0 : vector.length, this.columns);
+        System.arraycopy(this.values, row * this.columns, vector, 0, this.columns);
+    }
+
+    /** Copy the given column of this matrix into the given array.
+     *
+     * @param column the column index.
+     * @param vector the array to fill.
+     */
+    public void getColumn(int column, double[] vector) {
+        assert column >= 0 && column < this.columns
+                : AssertMessages.outsideRangeInclusiveParameter(0, column, 0, this.columns - 1);
+        assert vector != null && vector.length >= this.rows
+                : AssertMessages.tooSmallArrayParameter(1, vector == null ? 0 : vector.length, this.rows);
+        for (int i = 0, k = column; i < this.rows; ++i, k += this.columns) {
+            vector[i] = this.values[k];
+        }
+    }
+
+    /** Change the given row of this matrix.
+     *
+     * @param row the row index.
+     * @param vector the new values of the row.
+     */
+    public void setRow(int row, double[] vector) {
+        assert row >= 0 && row < this.rows : AssertMessages.outsideRangeInclusiveParameter(0, row, 0, this.rows - 1);
+        assert vector != null && vector.length >= this.columns
+                : AssertMessages.tooSmallArrayParameter(1, vector == null ? 0 : vector.length, this.columns);
+        System.arraycopy(vector, 0, this.values, row * this.columns, this.columns);
+    }
+
+    /** Change the given column of this matrix.
+     *
+     * @param column the column index.
+     * @param vector the new values of the column.
+     */
+    public void setColumn(int column, double[] vector) {
+        assert column >= 0 && column < this.columns
+                : AssertMessages.outsideRangeInclusiveParameter(0, column, 0, this.columns - 1);
+        assert vector != null && vector.length >= this.rows
+                : AssertMessages.tooSmallArrayParameter(1, vector == null ? 0 : vector.length, this.rows);
+        for (int i = 0, k = column; i < this.rows; ++i, k += this.columns) {
+            this.values[k] = vector[i];
+        }
+    }
+
+    /** Set this matrix with the values of the given matrix.
+     *
+     * @param matrix the matrix to copy, with the same size as this matrix.
+     */
+    public void set(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.rows == this.rows && matrix.columns == this.columns : AssertMessages.invalidValue(0);
+        System.arraycopy(matrix.values, 0, this.values, 0, this.values.length);
+    }
+
+    /** Set this matrix with the values of the given array.
+     *
+     * @param matrix the elements in row major order.
+     */
+    public void set(double[] matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.length >= this.values.length : AssertMessages.tooSmallArrayParameter(matrix.length, this.values.length);
+        System.arraycopy(matrix, 0, this.values, 0, this.values.length);
+    }
+
+    /** Sets this matrix to all zeros.
+     */
+    public void setZero() {
+        Arrays.fill(this.values, 0.);
+    }
+
+    /** Sets this matrix to identity.
+     *
+     * <p>If the matrix is not square, the elements of the main diagonal are set to {@code 1}.
+     */
+    public void setIdentity() {
+        Arrays.fill(this.values, 0.);
+        final int size = Math.min(this.rows, this.columns);
+        for (int i = 0; i < size; ++i) {
+            this.values[i * this.columns + i] = 1.;
+        }
+    }
+
+    /** Adds a scalar to each element of this matrix.
+     *
+     * @param scalar the scalar.
+     */
+    public void add(double scalar) {
+        for (int i = 0; i < this.values.length; ++i) {
+            this.values[i] += scalar;
+        }
+    }
+
+    /** Adds the given matrix to this matrix.
+     *
+     * @param matrix the matrix to add, with the same size as this matrix.
+     */
+    public void add(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.rows == this.rows && matrix.columns == this.columns : AssertMessages.invalidValue(0);
+        final double[] other = matrix.values;
+        for (int i = 0; i < this.values.length; ++i) {
+            this.values[i] += other[i];
+        }
+    }
+
+    /** Adds the given matrix, multiplied by the given scalar, to this matrix.
+     *
+     * @param scalar the scalar.
+     * @param matrix the matrix to add, with the same size as this matrix.
+     */
+    public void add(double scalar, MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter(1);
+        assert matrix.rows == this.rows && matrix.columns == this.columns : AssertMessages.invalidValue(1);
+        final double[] other = matrix.values;
+        for (int i = 0; i < this.values.length; ++i) {
+            this.values[i] += scalar * other[i];
+        }
+    }
+
+    /** Subtracts the given matrix from this matrix.
+     *
+     * @param matrix the matrix to subtract, with the same size as this matrix.
+     */
+    public void sub(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.rows == this.rows && matrix.columns == this.columns : AssertMessages.invalidValue(0);
+        final double[] other = matrix.values;
+        for (int i = 0; i < this.values.length; ++i) {
+            this.values[i] -= other[i];
+        }
+    }
+
+    /** Negates the value of this matrix.
+     */
+    public void negate() {
+        for (int i = 0; i < this.values.length; ++i) {
+            this.values[i] = -this.values[i];
+        }
+    }
+
+    /** Multiplies each element of this matrix by a scalar.
+     *
+     * @param scalar the scalar.
+     */
+    public void mul(double scalar) {
+        for (int i = 0; i < this.values.length; ++i) {
+            this.values[i] *= scalar;
+        }
+    }
+
+    /** Sets the value of this matrix to the result of multiplying itself with the given matrix.
+     *
+     * @param matrix the right operand, a square matrix with a size equal to the number of columns of this matrix.
+     */
+    public void mul(MatrixNd matrix) {
+        mul(this, matrix);
+    }
+
+    /** Sets the value of this matrix to the result of multiplying the two given matrices.
+     *
+     * <p>This matrix may be one of the operands.
+     *
+     * @param left the left operand.
+     * @param right the right operand.
+     */
+    public void mul(MatrixNd left, MatrixNd right) {
+        assert left != null : AssertMessages.notNullParameter(0);
+        assert right != null : AssertMessages.notNullParameter(1);
+        assert left.columns == right.rows : AssertMessages.invalidValue(1);
+        assert left.rows == this.rows && right.columns == this.columns : AssertMessages.invalidValue(0);
+        multiply(left, left.columns, 1, right, left.rows, left.columns);
+    }
+
+    /** Sets the value of this matrix to the result of multiplying the transpose of the left matrix
+     * and the right matrix.
+     *
+     * <p>This function is used for building the normal equations {@code A<sup>T</sup>A} without
+     * the creation of the transpose: the columns of the left matrix are read in place.
+     *
+     * <p>This matrix may be one of the operands.
+     *
+     * @param left the left operand, that is transposed.
+     * @param right the right operand.
+     */
+    public void mulTransposeLeft(MatrixNd left, MatrixNd right) {
+        assert left != null : AssertMessages.notNullParameter(0);
+        assert right != null : AssertMessages.notNullParameter(1);
+        assert left.rows == right.rows : AssertMessages.invalidValue(1);
+        assert left.columns == this.rows && right.columns == this.columns : AssertMessages.invalidValue(0);
+        multiply(left, 1, left.columns, right, left.columns, left.rows);
+    }
+
+    /** Set this matrix to {@code left * right}, where the element {@code (i, k)} of the left operand
+     * is {@code left.values[i * leftRowStride + k * leftInnerStride]}.
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    private void multiply(MatrixNd left, int leftRowStride, int leftInnerStride, MatrixNd right, int rows, int inner) {
+        if (left == this || right == this) {
+            // The result is copied back for keeping the array replied by getBuffer()
+            final double[] result = new double[this.values.length];
+            multiply(left.values, leftRowStride, leftInnerStride, right.values, result, rows, inner, this.columns);
+            System.arraycopy(result, 0, this.values, 0, result.length);
+        } else {
+            Arrays.fill(this.values, 0.);
+            multiply(left.values, leftRowStride, leftInnerStride, right.values, this.values, rows, inner, this.columns);
+        }
+    }
+
+    /** Compute {@code result = left * right} with the blocked algorithm.
+     * The result array must be filled with zeros.
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    private static void multiply(double[] left, int leftRowStride, int leftInnerStride, double[] right,
+            double[] result, int rows, int inner, int columns) {
+        final int blocks = (rows + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        if (blocks > 1 && (long) rows * inner * columns >= PARALLEL_THRESHOLD) {
+            IntStream.range(0, blocks).parallel().forEach(block -> {
+                final int start = block * BLOCK_SIZE;
+                multiplyRows(left, leftRowStride, leftInnerStride, right, result,
+                        start, Math.min(rows, start + BLOCK_SIZE), inner, columns);
+            });
+        } else {
+            multiplyRows(left, leftRowStride, leftInnerStride, right, result, 0, rows, inner, columns);
+        }
+    }
+
+    /** Compute the rows {@code [startRow, endRow)} of {@code result = left * right}.
+     *
+     * <p>The zero factors of the left operand are not skipped, so that the infinite
+     * and NaN values of the right operand are propagated.
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    private static void multiplyRows(double[] left, int leftRowStride, int leftInnerStride, double[] right,
+            double[] result, int startRow, int endRow, int inner, int columns) {
+        for (int kk = 0; kk < inner; kk += BLOCK_SIZE) {
+            final int kend = Math.min(inner, kk + BLOCK_SIZE);
+            for (int jj = 0; jj < columns; jj += BLOCK_SIZE) {
+                final int jend = Math.min(columns, jj + BLOCK_SIZE);
+                for (int i = startRow; i < endRow; ++i) {
+                    final int leftRow = i * leftRowStride;
+                    final int resultRow = i * columns;
+                    for (int k = kk; k < kend; ++k) {
+                        final double factor = left[leftRow + k * leftInnerStride];
+                        final int rightRow = k * columns;
+                        for (int j = jj; j < jend; ++j) {
+                            result[resultRow + j] += factor * right[rightRow + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /** Multiply this matrix by the given vector: {@code result = this * vector}.
+     *
+     * @param vector the vector, with a size equal to the number of columns.
+     * @param result the result, with a size equal to the number of rows.
+     *     It must not be the same array as {@code vector}.
+     */
+    public void transform(double[] vector, double[] result) {
+        assert vector != null && vector.length >= this.columns
+                : AssertMessages.tooSmallArrayParameter(0, vector == null ? 0 : vector.length, this.columns);
+        assert result != null && result.length >= this.rows
+                : AssertMessages.tooSmallArrayParameter(1, result == null ? 0 : result.length, this.rows);
+        assert vector != result : AssertMessages.invalidValue(1);
+        for (int i = 0, k = 0; i < this.rows; ++i) {
+            double sum = 0;
+            for (int j = 0; j < this.columns; ++j, ++k) {
+                sum += this.values[k] * vector[j];
+            }
+            result[i] = sum;
+        }
+    }
+
+    /** Transposes this matrix in place. The matrix must be square.
+     */
+    public void transpose() {
+        assert isSquare() : AssertMessages.invalidValue();
+        final int size = this.rows;
+        for (int i = 0; i < size; ++i) {
+            for (int j = i + 1; j < size; ++j) {
+                final double tmp = this.values[i * size + j];
+                this.values[i * size + j] = this.values[j * size + i];
+                this.values[j * size + i] = tmp;
+            }
+        }
+    }
+
+    /** Sets the value of this matrix to the transpose of the given matrix.
+     *
+     * @param matrix the matrix to transpose. Its number of rows must be the number of columns of this matrix,
+     *     and its number of columns must be the number of rows of this matrix.
+     */
+    public void transpose(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.rows == this.columns && matrix.columns == this.rows : AssertMessages.invalidValue(0);
+        if (matrix == this) {
+            transpose();
+            return;
+        }
+        final double[] source = matrix.values;
+        final int sourceColumns = matrix.columns;
+        // Blocked transposition for limiting the cache misses on the strided accesses
+        for (int ii = 0; ii < matrix.rows; ii += BLOCK_SIZE) {
+            final int iend = Math.min(matrix.rows, ii + BLOCK_SIZE);
+            for (int jj = 0; jj < sourceColumns; jj += BLOCK_SIZE) {
+                final int jend = Math.min(sourceColumns, jj + BLOCK_SIZE);
+                for (int i = ii; i < iend; ++i) {
+                    for (int j = jj; j < jend; ++j) {
+                        this.values[j * this.columns + i] = source[i * sourceColumns + j];
+                    }
+                }
+            }
+        }
+    }
+
+    /** Computes the determinant of this matrix. The matrix must be square.
+     *
+     * @return the determinant.
+     */
+    @Pure
+    public double determinant() {
+        return lu().determinant();
+    }
+
+    /** Inverts this matrix in place. The matrix must be square.
+     *
+     * @throws SingularMatrixException if the matrix cannot be inverted.
+     */
+    public void invert() {
+        invert(this);
+    }
+
+    /** Sets the value of this matrix to the inverse of the given matrix.
+     *
+     * @param matrix the matrix to invert, with the same size as this matrix.
+     * @throws SingularMatrixException if the matrix cannot be inverted.
+     */
+    public void invert(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.rows == this.rows && matrix.columns == this.columns : AssertMessages.invalidValue(0);
+        final LUDecomposition decomposition = matrix.lu();
+        setIdentity();
+        decomposition.solveInPlace(this);
+    }
+
+    /** Solves the system {@code this * X = B}.
+     *
+     * <p>If the matrix is square, the system is solved with the LU decomposition.
+     * Otherwise, the least squares solution is computed with the QR decomposition.
+     *
+     * @param matrix the matrix {@code B}, with the same number of rows as this matrix.
+     * @return the matrix {@code X}.
+     * @throws SingularMatrixException if the matrix is singular or rank deficient.
+     */
+    @Pure
+    public MatrixNd solve(MatrixNd matrix) {
+        if (isSquare()) {
+            return lu().solve(matrix);
+        }
+        return qr().solve(matrix);
+    }
+
+    /** Replies the LU decomposition of this matrix. The matrix must be square.
+     *
+     * @return the decomposition.
+     */
+    @Pure
+    public LUDecomposition lu() {
+        return new LUDecomposition(this);
+    }
+
+    /** Replies the QR decomposition of this matrix. The number of rows must be
+     * greater than or equal to the number of columns.
+     *
+     * @return the decomposition.
+     */
+    @Pure
+    public QRDecomposition qr() {
+        return new QRDecomposition(this);
+    }
+
+    /** Replies the Cholesky decomposition of this matrix. The matrix must be symmetric.
+     *
+     * @return the decomposition.
+     */
+    @Pure
+    public CholeskyDecomposition cholesky() {
+        return new CholeskyDecomposition(this);
+    }
+
+    /** Replies the singular value decomposition of this matrix.
+     *
+     * @return the decomposition.
+     */
+    @Pure
+    public SingularValueDecomposition svd() {
+        return new SingularValueDecomposition(this);
+    }
+
+    /** Replies a copy of this matrix as a 2x2 matrix.
+     *
+     * @return the matrix.
+     */
+    @Pure
+    public Matrix2d toMatrix2d() {
+        assert this.rows == 2 && this.columns == 2 : AssertMessages.invalidValue();
+        return new Matrix2d(this.values);
+    }
+
+    /** Replies a copy of this matrix as a 3x3 matrix.
+     *
+     * @return the matrix.
+     */
+    @Pure
+    @SuppressWarnings("checkstyle:magicnumber")
+    public Matrix3d toMatrix3d() {
+        assert this.rows == 3 && this.columns == 3 : AssertMessages.invalidValue();
+        return new Matrix3d(this.values);
+    }
+
+    /** Replies a copy of this matrix as a 4x4 matrix.
+     *
+     * @return the matrix.
+     */
+    @Pure
+    @SuppressWarnings("checkstyle:magicnumber")
+    public Matrix4d toMatrix4d() {
+        assert this.rows == 4 && this.columns == 4 : AssertMessages.invalidValue();
+        return new Matrix4d(this.values);
+    }
+
+    /** Replies the Frobenius norm of this matrix.
+     *
+     * @return the square root of the sum of the squares of the elements.
+     */
+    @Pure
+    public double normFrobenius() {
+        double sum = 0;
+        for (final double value : this.values) {
+            sum += value * value;
+        }
+        return Math.sqrt(sum);
+    }
+
+    /** Returns true if the L-infinite distance between this matrix and the given matrix
+     * is less than or equal to the epsilon parameter, otherwise returns false.
+     *
+     * @param matrix the matrix to be compared to this matrix
+     * @param epsilon the threshold value
+     * @return <code>true</code> if this matrix is equals to the specified matrix at epsilon.
+     */
+    @Pure
+    public boolean epsilonEquals(MatrixNd matrix, double epsilon) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        if (matrix.rows != this.rows || matrix.columns != this.columns) {
+            return false;
+        }
+        for (int i = 0; i < this.values.length; ++i) {
+            final double diff = this.values[i] - matrix.values[i];
+            if (Math.abs(diff) > (Double.isNaN(epsilon) ? Math.ulp(diff) : epsilon)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Pure
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (object instanceof MatrixNd) {
+            final MatrixNd matrix = (MatrixNd) object;
+            return this.rows == matrix.rows && this.columns == matrix.columns
+                    && Arrays.equals(this.values, matrix.values);
+        }
+        return false;
+    }
+
+    @Pure
+    @Override
+    public int hashCode() {
+        int bits = 1;
+        bits = 31 * bits + this.rows;
+        bits = 31 * bits + this.columns;
+        bits = 31 * bits + Arrays.hashCode(this.values);
+        return bits ^ (bits >> 31);
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.matrix;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+import org.arakhne.afc.vmutil.locale.Locale;
+
+/**
+ * QR decomposition of a matrix with Householder reflections.
+ *
+ * <p>For a {@code m x n} matrix {@code A} with {@code m >= n}, the decomposition is
+ * {@code A = Q * R}, where {@code Q} is a {@code m x n} matrix with orthonormal columns,
+ * and {@code R} is a {@code n x n} upper triangular matrix.
+ *
+ * <p>The decomposition is used for computing the least squares solution of the
+ * overdetermined systems.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see MatrixNd#qr()
+ */
+public class QRDecomposition {
+
+    private final int rows;
+
+    private final int columns;
+
+    /** The Householder vectors and the upper part of {@code R}, stored by column:
+     * the element {@code (i, j)} is at index {@code j * rows + i}.
+     */
+    private final double[] qr;
+
+    /** The diagonal of {@code R}.
+     */
+    private final double[] diagonal;
+
+    /** Construct the decomposition of the given matrix.
+     *
+     * @param matrix the matrix to decompose, with at least as many rows as columns.
+     */
+    @SuppressWarnings("checkstyle:npathcomplexity")
+    QRDecomposition(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.getRowCount() >= matrix.getColumnCount() : AssertMessages.invalidValue(0);
+        final int m = matrix.getRowCount();
+        final int n = matrix.getColumnCount();
+        // The columns are stored contiguously because the Householder reflections are column operations
+        final double[] elements = new double[m * n];
+        final double[] source = matrix.getBuffer();
+        for (int i = 0; i < m; ++i) {
+            for (int j = 0; j < n; ++j) {
+                elements[j * m + i] = source[i * n + j];
+            }
+        }
+        final double[] rdiag = new double[n];
+        for (int k = 0; k < n; ++k) {
+            final int koffset = k * m;
+            double norm = 0;
+            for (int i = k; i < m; ++i) {
+                norm += elements[koffset + i] * elements[koffset + i];
+            }
+            norm = Math.sqrt(norm);
+            if (norm != 0.) {
+                if (elements[koffset + k] < 0.) {
+                    norm = -norm;
+                }
+                for (int i = k; i < m; ++i) {
+                    elements[koffset + i] /= norm;
+                }
+                elements[koffset + k] += 1.;
+                // Apply the reflection to the remaining columns
+                for (int j = k + 1; j < n; ++j) {
+                    final int joffset = j * m;
+                    double dot = 0;
+                    for (int i = k; i < m; ++i) {
+                        dot += elements[koffset + i] * elements[joffset + i];
+                    }
+                    dot = -dot / elements[koffset + k];
+                    for (int i = k; i < m; ++i) {
+                        elements[joffset + i] += dot * elements[koffset + i];
+                    }
+                }
+            }
+            rdiag[k] = -norm;
+        }
+        this.rows = m;
+        this.columns = n;
+        this.qr = elements;
+        this.diagonal = rdiag;
+    }
+
+    /** Replies if the decomposed matrix has full rank.
+     *
+     * @return {@code true} if the matrix has full rank.
+     */
+    @Pure
+    public boolean isFullRank() {
+        for (final double value : this.diagonal) {
+            if (value == 0.) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Replies the upper triangular factor {@code R}.
+     *
+     * @return the {@code n x n} matrix {@code R}.
+     */
+    @Pure
+    public MatrixNd getR() {
+        final int n = this.columns;
+        final MatrixNd matrix = new MatrixNd(n, n);
+        final double[] elements = matrix.getBuffer();
+        for (int i = 0; i < n; ++i) {
+            elements[i * n + i] = this.diagonal[i];
+            for (int j = i + 1; j < n; ++j) {
+                elements[i * n + j] = this.qr[j * this.rows + i];
+            }
+        }
+        return matrix;
+    }
+
+    /** Replies the factor {@code Q}.
+     *
+     * @return the {@code m x n} matrix {@code Q}, with orthonormal columns.
+     */
+    @Pure
+    public MatrixNd getQ() {
+        final int m = this.rows;
+        final int n = this.columns;
+        final MatrixNd matrix = new MatrixNd(m, n);
+        final double[] elements = matrix.getBuffer();
+        for (int k = n - 1; k >= 0; --k) {
+            final int koffset = k * m;
+            elements[k * n + k] = 1.;
+            for (int j = k; j < n; ++j) {
+                if (this.qr[koffset + k] != 0.) {
+                    double dot = 0;
+                    for (int i = k; i < m; ++i) {
+                        dot += this.qr[koffset + i] * elements[i * n + j];
+                    }
+                    dot = -dot / this.qr[koffset + k];
+                    for (int i = k; i < m; ++i) {
+                        elements[i * n + j] += dot * this.qr[koffset + i];
+                    }
+                }
+            }
+        }
+        return matrix;
+    }
+
+    /** Computes the least squares solution of {@code A * X = B}, i.e. the matrix {@code X} that
+     * minimizes the norm of {@code A * X - B}.
+     *
+     * @param matrix the matrix {@code B}, with the same number of rows as {@code A}.
+     * @return the {@code n x p} matrix {@code X}.
+     * @throws SingularMatrixException if the decomposed matrix is rank deficient.
+     */
+    @Pure
+    @SuppressWarnings("checkstyle:npathcomplexity")
+    public MatrixNd solve(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.getRowCount() == this.rows : AssertMessages.invalidValue(0);
+        if (!isFullRank()) {
+            throw new SingularMatrixException(Locale.getString("E1")); //$NON-NLS-1$
+        }
+        final int m = this.rows;
+        final int n = this.columns;
+        final int p = matrix.getColumnCount();
+        final double[] x = matrix.toArray();
+        final double[] dots = new double[p];
+        // Compute Q^T * B
+        for (int k = 0; k < n; ++k) {
+            final int koffset = k * m;
+            Arrays.fill(dots, 0.);
+            for (int i = k; i < m; ++i) {
+                final double factor = this.qr[koffset + i];
+                for (int j = 0; j < p; ++j) {
+                    dots[j] += factor * x[i * p + j];
+                }
+            }
+            final double householder = this.qr[koffset + k];
+            for (int j = 0; j < p; ++j) {
+                dots[j] = -dots[j] / householder;
+            }
+            for (int i = k; i < m; ++i) {
+                final double factor = this.qr[koffset + i];
+                for (int j = 0; j < p; ++j) {
+                    x[i * p + j] += dots[j] * factor;
+                }
+            }
+        }
+        // Solve R * X = Q^T * B
+        for (int k = n - 1; k >= 0; --k) {
+            final int koffset = k * p;
+            for (int j = 0; j < p; ++j) {
+                x[koffset + j] /= this.diagonal[k];
+            }
+            for (int i = 0; i < k; ++i) {
+                final double factor = this.qr[k * m + i];
+                for (int j = 0; j < p; ++j) {
+                    x[i * p + j] -= x[koffset + j] * factor;
+                }
+            }
+        }
+        return new MatrixNd(n, p, x);
+    }
+
+    /** Computes the least squares solution of {@code A * x = b}.
+     *
+     * @param vector the vector {@code b}, with a size equal to the number of rows of {@code A}.
+     * @return the vector {@code x}, with a size equal to the number of columns of {@code A}.
+     * @throws SingularMatrixException if the decomposed matrix is rank deficient.
+     */
+    @Pure
+    public double[] solve(double[] vector) {
+        assert vector != null && vector.length == this.rows : AssertMessages.invalidValue(0);
+        return solve(new MatrixNd(this.rows, 1, vector)).getBuffer();
+    }
+
+}
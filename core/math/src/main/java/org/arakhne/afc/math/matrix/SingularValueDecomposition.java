@@ -0,0 +1,303 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.matrix;
+
+import static org.arakhne.afc.math.MathConstants.JACOBI_EPSILON;
+import static org.arakhne.afc.math.MathConstants.JACOBI_MAX_SWEEPS;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/**
+ * Singular value decomposition of a matrix.
+ *
+ * <p>For a {@code m x n} matrix {@code A}, the decomposition is {@code A = U * S * V<sup>T</sup>},
+ * where {@code k = min(m, n)}, {@code U} is a {@code m x k} matrix with orthonormal columns,
+ * {@code S} is a {@code k x k} diagonal matrix with the singular values in decreasing order, and
+ * {@code V} is a {@code n x k} matrix with orthonormal columns.
+ *
+ * <p>The decomposition is computed with the one-sided Jacobi method of Hestenes: the columns
+ * of {@code A} are orthogonalized by plane rotations. The columns of {@code U} that correspond to a null
+ * singular value are null.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see MatrixNd#svd()
+ */
+public class SingularValueDecomposition {
+
+    private final MatrixNd left;
+
+    private final MatrixNd right;
+
+    private final double[] singularValues;
+
+    /** Construct the decomposition of the given matrix.
+     *
+     * @param matrix the matrix to decompose.
+     */
+    @SuppressWarnings("checkstyle:npathcomplexity")
+    SingularValueDecomposition(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        final boolean transposed = matrix.getRowCount() < matrix.getColumnCount();
+        final int m = Math.max(matrix.getRowCount(), matrix.getColumnCount());
+        final int n = Math.min(matrix.getRowCount(), matrix.getColumnCount());
+        // The decomposed matrix B is A, or its transpose when A has more columns than rows.
+        // The n columns of B (of size m) are stored contiguously.
+        final double[] columns;
+        if (transposed) {
+            columns = matrix.toArray();
+        } else {
+            columns = new double[m * n];
+            final double[] source = matrix.getBuffer();
+            for (int i = 0; i < m; ++i) {
+                for (int j = 0; j < n; ++j) {
+                    columns[j * m + i] = source[i * n + j];
+                }
+            }
+        }
+        // The columns of V, stored contiguously
+        final double[] rotations = new double[n * n];
+        for (int i = 0; i < n; ++i) {
+            rotations[i * n + i] = 1.;
+        }
+        orthogonalize(columns, m, rotations, n);
+
+        final double[] norms = new double[n];
+        final Integer[] order = new Integer[n];
+        for (int j = 0; j < n; ++j) {
+            norms[j] = Math.sqrt(dot(columns, j * m, j * m, m));
+            order[j] = Integer.valueOf(j);
+        }
+        Arrays.sort(order, (index1, index2) -> Double.compare(norms[index2.intValue()], norms[index1.intValue()]));
+
+        final MatrixNd matrixU = new MatrixNd(m, n);
+        final MatrixNd matrixV = new MatrixNd(n, n);
+        final double[] bufferU = matrixU.getBuffer();
+        final double[] bufferV = matrixV.getBuffer();
+        this.singularValues = new double[n];
+        for (int r = 0; r < n; ++r) {
+            final int column = order[r].intValue();
+            final double norm = norms[column];
+            this.singularValues[r] = norm;
+            if (norm != 0.) {
+                for (int i = 0; i < m; ++i) {
+                    bufferU[i * n + r] = columns[column * m + i] / norm;
+                }
+            }
+            for (int i = 0; i < n; ++i) {
+                bufferV[i * n + r] = rotations[column * n + i];
+            }
+        }
+        if (transposed) {
+            this.left = matrixV;
+            this.right = matrixU;
+        } else {
+            this.left = matrixU;
+            this.right = matrixV;
+        }
+    }
+
+    /** Orthogonalize the columns with the Jacobi rotations, and apply the same rotations
+     * to the columns of V.
+     */
+    private static void orthogonalize(double[] columns, int length, double[] rotations, int count) {
+        for (int sweep = 0; sweep < JACOBI_MAX_SWEEPS; ++sweep) {
+            boolean rotated = false;
+            for (int p = 0; p < count - 1; ++p) {
+                final int poffset = p * length;
+                for (int q = p + 1; q < count; ++q) {
+                    final int qoffset = q * length;
+                    final double alpha = dot(columns, poffset, poffset, length);
+                    final double beta = dot(columns, qoffset, qoffset, length);
+                    final double gamma = dot(columns, poffset, qoffset, length);
+                    if (gamma != 0. && Math.abs(gamma) > JACOBI_EPSILON * Math.sqrt(alpha * beta)) {
+                        rotated = true;
+                        final double zeta = (beta - alpha) / (2. * gamma);
+                        final double tangent = Math.signum(zeta) / (Math.abs(zeta) + Math.sqrt(1. + zeta * zeta));
+                        final double t = zeta == 0. ? 1. : tangent;
+                        final double cosine = 1. / Math.sqrt(1. + t * t);
+                        final double sine = cosine * t;
+                        rotate(columns, poffset, qoffset, length, cosine, sine);
+                        rotate(rotations, p * count, q * count, count, cosine, sine);
+                    }
+                }
+            }
+            if (!rotated) {
+                return;
+            }
+        }
+    }
+
+    private static double dot(double[] array, int offset1, int offset2, int length) {
+        double sum = 0;
+        for (int i = 0; i < length; ++i) {
+            sum += array[offset1 + i] * array[offset2 + i];
+        }
+        return sum;
+    }
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    private static void rotate(double[] array, int offset1, int offset2, int length, double cosine, double sine) {
+        for (int i = 0; i < length; ++i) {
+            final double value1 = array[offset1 + i];
+            final double value2 = array[offset2 + i];
+            array[offset1 + i] = cosine * value1 - sine * value2;
+            array[offset2 + i] = sine * value1 + cosine * value2;
+        }
+    }
+
+    /** Replies the left singular vectors.
+     *
+     * @return the matrix {@code U}.
+     */
+    @Pure
+    public MatrixNd getU() {
+        return this.left.clone();
+    }
+
+    /** Replies the right singular vectors.
+     *
+     * @return the matrix {@code V}.
+     */
+    @Pure
+    public MatrixNd getV() {
+        return this.right.clone();
+    }
+
+    /** Replies the diagonal matrix of the singular values.
+     *
+     * @return the matrix {@code S}.
+     */
+    @Pure
+    public MatrixNd getS() {
+        final int n = this.singularValues.length;
+        final MatrixNd matrix = new MatrixNd(n, n);
+        for (int i = 0; i < n; ++i) {
+            matrix.setElement(i, i, this.singularValues[i]);
+        }
+        return matrix;
+    }
+
+    /** Replies the singular values, in decreasing order.
+     *
+     * @return the singular values.
+     */
+    @Pure
+    public double[] getSingularValues() {
+        return this.singularValues.clone();
+    }
+
+    /** Replies the threshold under which a singular value is considered as null.
+     *
+     * @return the threshold.
+     */
+    @Pure
+    public double getTolerance() {
+        return Math.max(this.left.getRowCount(), this.right.getRowCount())
+                * this.singularValues[0] * Math.ulp(1.);
+    }
+
+    /** Replies the effective numerical rank of the decomposed matrix.
+     *
+     * @return the rank.
+     */
+    @Pure
+    public int rank() {
+        final double tolerance = getTolerance();
+        int rank = 0;
+        for (final double value : this.singularValues) {
+            if (value > tolerance) {
+                ++rank;
+            }
+        }
+        return rank;
+    }
+
+    /** Replies the two-norm of the decomposed matrix, i.e. its largest singular value.
+     *
+     * @return the two-norm.
+     */
+    @Pure
+    public double norm2() {
+        return this.singularValues[0];
+    }
+
+    /** Replies the two-norm condition number of the decomposed matrix.
+     *
+     * @return the ratio between the largest and the smallest singular values.
+     */
+    @Pure
+    public double getConditionNumber() {
+        return this.singularValues[0] / this.singularValues[this.singularValues.length - 1];
+    }
+
+    /** Replies the Moore-Penrose pseudo-inverse of the decomposed matrix.
+     *
+     * @return the {@code n x m} pseudo-inverse.
+     */
+    @Pure
+    public MatrixNd getPseudoInverse() {
+        final int m = this.left.getRowCount();
+        final int n = this.right.getRowCount();
+        final int k = this.singularValues.length;
+        final double tolerance = getTolerance();
+        // Scale the columns of V by the inverse of the singular values
+        final MatrixNd scaled = this.right.clone();
+        final double[] buffer = scaled.getBuffer();
+        for (int r = 0; r < k; ++r) {
+            final double value = this.singularValues[r];
+            final double factor = value > tolerance ? 1. / value : 0.;
+            for (int i = 0; i < n; ++i) {
+                buffer[i * k + r] *= factor;
+            }
+        }
+        final MatrixNd transposeU = new MatrixNd(k, m);
+        transposeU.transpose(this.left);
+        final MatrixNd result = new MatrixNd(n, m);
+        result.mul(scaled, transposeU);
+        return result;
+    }
+
+    /** Computes the minimum norm least squares solution of {@code A * X = B}.
+     *
+     * <p>This function supports the rank deficient matrices.
+     *
+     * @param matrix the matrix {@code B}, with the same number of rows as {@code A}.
+     * @return the matrix {@code X}.
+     */
+    @Pure
+    public MatrixNd solve(MatrixNd matrix) {
+        assert matrix != null : AssertMessages.notNullParameter();
+        assert matrix.getRowCount() == this.left.getRowCount() : AssertMessages.invalidValue(0);
+        final MatrixNd inverse = getPseudoInverse();
+        final MatrixNd result = new MatrixNd(inverse.getRowCount(), matrix.getColumnCount());
+        result.mul(inverse, matrix);
+        return result;
+    }
+
+}
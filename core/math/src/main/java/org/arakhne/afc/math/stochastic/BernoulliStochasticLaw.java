@@ -77,7 +77,9 @@ public class BernoulliStochasticLaw extends StochasticLaw {
      */
     @Pure
     public static double random(double p) throws MathException {
-        return StochasticGenerator.generateRandomValue(new BernoulliStochasticLaw(p));
+        // Same as inverseF(Random), without the creation of a law
+        final double u = 1. - StochasticGenerator.getRandomGenerator().nextDouble();
+        return (u <= p) ? 1. : 0.;
     }
 
     @Pure
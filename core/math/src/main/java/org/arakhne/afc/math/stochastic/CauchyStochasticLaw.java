@@ -89,8 +89,14 @@ public class CauchyStochasticLaw extends StochasticLaw {
      * @throws MathException when error in the math definition.
      */
     @Pure
+    @SuppressWarnings("checkstyle:magicnumber")
     public static double random(double k, double xmin) throws MathException {
-        return StochasticGenerator.generateRandomValue(new CauchyStochasticLaw(k, xmin));
+        if (xmin <= 0) {
+            throw new OutsideDomainException(xmin);
+        }
+        // Same as inverseF(Random), without the creation of a law
+        final double u = 1. - StochasticGenerator.getRandomGenerator().nextDouble();
+        return k + xmin * Math.tan(Math.PI * (u - .5));
     }
 
     @Pure
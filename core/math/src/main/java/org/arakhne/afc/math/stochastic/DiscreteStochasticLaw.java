@@ -0,0 +1,275 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.stochastic;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/**
+ * Law that representes a discrete density over weighted categories.
+ *
+ * <p>The category {@code i} is associated to the value {@code values[i]} and it is
+ * replied with a probability {@code weights[i] / sum(weights)}.
+ *
+ * <p>The random values are generated with the alias method of Walker, in the numerically
+ * stable version of Vose: the construction of the law is in {@code O(n)}, and the generation
+ * of a random value is in {@code O(1)}.
+ *
+ * <p>Reference:
+ * <a href="http://www.keithschwarz.com/darts-dice-coins/">Darts, Dice, and Coins: Sampling from
+ * a Discrete Distribution</a>.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see DynamicDiscreteStochasticLaw
+ */
+public class DiscreteStochasticLaw extends StochasticLaw {
+
+	private final double[] values;
+
+	private final double[] probabilities;
+
+	private final double[] thresholds;
+
+	private final int[] aliases;
+
+	/** Create a law in which the value of the category {@code i} is {@code i}.
+	 *
+	 * @param weights the weights of the categories.
+	 * @throws OutsideDomainException if a weight is negative, or if the sum of the weights is not positive.
+	 */
+	public DiscreteStochasticLaw(double... weights) throws OutsideDomainException {
+		this(createIndexes(weights.length), weights);
+	}
+
+	/** Create a law.
+	 *
+	 * @param values the values of the categories.
+	 * @param weights the weights of the categories.
+	 * @throws OutsideDomainException if a weight is negative, or if the sum of the weights is not positive.
+	 */
+	public DiscreteStochasticLaw(double[] values, double[] weights) throws OutsideDomainException {
+		assert values != null : AssertMessages.notNullParameter(0);
+		assert weights != null : AssertMessages.notNullParameter(1);
+		assert values.length == weights.length && values.length > 0 : AssertMessages.invalidValue(1);
+		final int size = weights.length;
+		final double total = computeTotal(weights);
+		this.values = Arrays.copyOf(values, size);
+		this.probabilities = new double[size];
+		this.thresholds = new double[size];
+		this.aliases = new int[size];
+
+		// Vose's construction: the categories are split in the "small" ones, with a scaled
+		// probability lower than 1, and the "large" ones. Each small category is completed
+		// by a part of a large category.
+		final double[] scaled = new double[size];
+		final int[] small = new int[size];
+		final int[] large = new int[size];
+		int smallCount = 0;
+		int largeCount = 0;
+		for (int i = 0; i < size; ++i) {
+			this.probabilities[i] = weights[i] / total;
+			scaled[i] = this.probabilities[i] * size;
+			if (scaled[i] < 1.) {
+				small[smallCount++] = i;
+			} else {
+				large[largeCount++] = i;
+			}
+		}
+		while (smallCount > 0 && largeCount > 0) {
+			final int less = small[--smallCount];
+			final int more = large[--largeCount];
+			this.thresholds[less] = scaled[less];
+			this.aliases[less] = more;
+			scaled[more] = (scaled[more] + scaled[less]) - 1.;
+			if (scaled[more] < 1.) {
+				small[smallCount++] = more;
+			} else {
+				large[largeCount++] = more;
+			}
+		}
+		// The remaining categories have a scaled probability of 1, up to the rounding errors.
+		while (largeCount > 0) {
+			final int index = large[--largeCount];
+			this.thresholds[index] = 1.;
+			this.aliases[index] = index;
+		}
+		while (smallCount > 0) {
+			final int index = small[--smallCount];
+			this.thresholds[index] = 1.;
+			this.aliases[index] = index;
+		}
+	}
+
+	private static double computeTotal(double[] weights) throws OutsideDomainException {
+		double total = 0;
+		for (final double weight : weights) {
+			// Test written for catching the NaN values
+			if (!(weight >= 0.)) {
+				throw new OutsideDomainException(weight);
+			}
+			total += weight;
+		}
+		if (!(total > 0.) || Double.isInfinite(total)) {
+			throw new OutsideDomainException(total);
+		}
+		return total;
+	}
+
+	private static double[] createIndexes(int size) {
+		final double[] indexes = new double[size];
+		for (int i = 0; i < size; ++i) {
+			indexes[i] = i;
+		}
+		return indexes;
+	}
+
+	/** Replies a random value that respect
+	 * the current stochastic law.
+	 *
+	 * @param weights the weights of the categories.
+	 * @return the index of a category.
+	 * @throws MathException when error in the math definition.
+	 */
+	@Pure
+	public static double random(double... weights) throws MathException {
+		return StochasticGenerator.generateRandomValue(new DiscreteStochasticLaw(weights));
+	}
+
+	/** Replies the number of categories.
+	 *
+	 * @return the number of categories.
+	 */
+	@Pure
+	public int size() {
+		return this.values.length;
+	}
+
+	/** Replies the value of the category at the given index.
+	 *
+	 * @param index the index of the category.
+	 * @return the value of the category.
+	 */
+	@Pure
+	public double getValue(int index) {
+		assert index >= 0 && index < this.values.length
+				: AssertMessages.outsideRangeInclusiveParameter(index, 0, this.values.length - 1);
+		return this.values[index];
+	}
+
+	/** Replies the probability of the category at the given index.
+	 *
+	 * @param index the index of the category.
+	 * @return the probability of the category.
+	 */
+	@Pure
+	public double getProbability(int index) {
+		assert index >= 0 && index < this.values.length
+				: AssertMessages.outsideRangeInclusiveParameter(index, 0, this.values.length - 1);
+		return this.probabilities[index];
+	}
+
+	/** Replies the index of a random category.
+	 *
+	 * @param generator the uniform random number generator.
+	 * @return the index of the category.
+	 */
+	public int randomIndex(Random generator) {
+		assert generator != null : AssertMessages.notNullParameter();
+		final int column = generator.nextInt(this.values.length);
+		return generator.nextDouble() < this.thresholds[column] ? column : this.aliases[column];
+	}
+
+	@Pure
+	@Override
+	public String toString() {
+		final StringBuilder b = new StringBuilder();
+		b.append("DISCRETE("); //$NON-NLS-1$
+		for (int i = 0; i < this.values.length; ++i) {
+			if (i > 0) {
+				b.append(';');
+			}
+			b.append("P("); //$NON-NLS-1$
+			b.append(this.values[i]);
+			b.append(")="); //$NON-NLS-1$
+			b.append(this.probabilities[i]);
+		}
+		b.append(')');
+		return b.toString();
+	}
+
+	@Pure
+	@Override
+	public double f(double x) throws MathException {
+		double probability = 0;
+		boolean found = false;
+		for (int i = 0; i < this.values.length; ++i) {
+			if (this.values[i] == x) {
+				probability += this.probabilities[i];
+				found = true;
+			}
+		}
+		if (!found) {
+			throw new OutsideDomainException(x);
+		}
+		return probability;
+	}
+
+	@Pure
+	@Override
+	public MathFunctionRange[] getRange() {
+		return MathFunctionRange.createDiscreteSet(this.values);
+	}
+
+	/** Replies the x according to the value of the distribution function.
+	 *
+	 * <p>The value {@code u} is mapped to a category with the alias table: the
+	 * distribution of the replied values is the law, but the function is not monotonic.
+	 *
+	 * @param u is a value given by the uniform random variable generator {@code U(0, 1)}.
+	 * @return {@code F<sup>-1</sup>(u)}
+	 * @throws MathException in case {@code F<sup>-1</sup>(u)} could not be computed
+	 */
+	@Pure
+	@Override
+	public double inverseF(double u) throws MathException {
+		if (u < 0. || u > 1.) {
+			throw new OutsideDomainException(u);
+		}
+		final double position = u * this.values.length;
+		final int column = Math.min((int) position, this.values.length - 1);
+		final int index = (position - column) < this.thresholds[column] ? column : this.aliases[column];
+		return this.values[index];
+	}
+
+	@Override
+	protected double inverseF(Random u) throws MathException {
+		return this.values[randomIndex(u)];
+	}
+
+}
@@ -0,0 +1,251 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.stochastic;
+
+import java.util.Random;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/**
+ * Law that representes a discrete density over weighted categories, with weights that may change.
+ *
+ * <p>The category {@code i} has the value {@code i}, and it is replied with a probability
+ * {@code weight(i) / sum(weights)}.
+ *
+ * <p>The weights are stored into a binary indexed tree (Fenwick tree): the change of a weight
+ * and the generation of a random value are in {@code O(log n)}. When the weights are not
+ * changing, {@link DiscreteStochasticLaw} provides a generation in {@code O(1)}.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see DiscreteStochasticLaw
+ */
+public class DynamicDiscreteStochasticLaw extends StochasticLaw {
+
+	private final double[] weights;
+
+	/** The Fenwick tree; the element at index {@code i} (from 1) is the sum of the
+	 * weights in the range {@code (i - lowestOneBit(i), i]}.
+	 */
+	private final double[] tree;
+
+	/** The highest power of two that is lower than or equal to the number of categories.
+	 */
+	private final int highestStep;
+
+	private double total;
+
+	/** Create a law.
+	 *
+	 * @param weights the weights of the categories.
+	 * @throws OutsideDomainException if a weight is negative.
+	 */
+	public DynamicDiscreteStochasticLaw(double... weights) throws OutsideDomainException {
+		assert weights != null : AssertMessages.notNullParameter();
+		assert weights.length > 0 : AssertMessages.invalidValue();
+		final int size = weights.length;
+		this.weights = new double[size];
+		this.tree = new double[size + 1];
+		this.highestStep = Integer.highestOneBit(size);
+		for (int i = 0; i < size; ++i) {
+			final double weight = weights[i];
+			// Test written for catching the NaN values
+			if (!(weight >= 0.) || Double.isInfinite(weight)) {
+				throw new OutsideDomainException(weight);
+			}
+			this.weights[i] = weight;
+			this.total += weight;
+		}
+		// Construction of the tree in O(n)
+		for (int i = 1; i <= size; ++i) {
+			this.tree[i] += this.weights[i - 1];
+			final int parent = i + (i & -i);
+			if (parent <= size) {
+				this.tree[parent] += this.tree[i];
+			}
+		}
+	}
+
+	/** Replies the number of categories.
+	 *
+	 * @return the number of categories.
+	 */
+	@Pure
+	public int size() {
+		return this.weights.length;
+	}
+
+	/** Replies the weight of a category.
+	 *
+	 * @param index the index of the category.
+	 * @return the weight.
+	 */
+	@Pure
+	public double getWeight(int index) {
+		assert index >= 0 && index < this.weights.length
+				: AssertMessages.outsideRangeInclusiveParameter(index, 0, this.weights.length - 1);
+		return this.weights[index];
+	}
+
+	/** Change the weight of a category.
+	 *
+	 * @param index the index of the category.
+	 * @param weight the new weight.
+	 * @throws OutsideDomainException if the weight is negative.
+	 */
+	public void setWeight(int index, double weight) throws OutsideDomainException {
+		assert index >= 0 && index < this.weights.length
+				: AssertMessages.outsideRangeInclusiveParameter(0, index, 0, this.weights.length - 1);
+		// Test written for catching the NaN values
+		if (!(weight >= 0.) || Double.isInfinite(weight)) {
+			throw new OutsideDomainException(weight);
+		}
+		final double delta = weight - this.weights[index];
+		this.weights[index] = weight;
+		this.total += delta;
+		for (int i = index + 1; i < this.tree.length; i += i & -i) {
+			this.tree[i] += delta;
+		}
+	}
+
+	/** Replies the sum of the weights.
+	 *
+	 * @return the sum of the weights.
+	 */
+	@Pure
+	public double getTotalWeight() {
+		return this.total;
+	}
+
+	/** Replies the sum of the weights of the categories with an index lower than or
+	 * equal to the given index.
+	 *
+	 * @param index the index of the last category in the sum.
+	 * @return the sum of the weights.
+	 */
+	@Pure
+	public double getCumulativeWeight(int index) {
+		assert index >= 0 && index < this.weights.length
+				: AssertMessages.outsideRangeInclusiveParameter(index, 0, this.weights.length - 1);
+		double sum = 0;
+		for (int i = index + 1; i > 0; i -= i & -i) {
+			sum += this.tree[i];
+		}
+		return sum;
+	}
+
+	/** Replies the index of the category that contains the given cumulative weight.
+	 *
+	 * @param target the cumulative weight, in {@code [0, total)}.
+	 * @return the index of the first category for which the cumulative weight is greater than the target.
+	 */
+	private int searchIndex(double target) {
+		int position = 0;
+		double remaining = target;
+		for (int step = this.highestStep; step > 0; step >>= 1) {
+			final int next = position + step;
+			if (next < this.tree.length && this.tree[next] <= remaining) {
+				position = next;
+				remaining -= this.tree[next];
+			}
+		}
+		// Because of the rounding errors, the search may go after the last category
+		// with a not-null weight.
+		while (position > 0 && (position >= this.weights.length || this.weights[position] == 0.)) {
+			--position;
+		}
+		return position;
+	}
+
+	/** Replies the index of a random category.
+	 *
+	 * @param generator the uniform random number generator.
+	 * @return the index of the category.
+	 * @throws MathException if the sum of the weights is not positive.
+	 */
+	public int randomIndex(Random generator) throws MathException {
+		assert generator != null : AssertMessages.notNullParameter();
+		if (!(this.total > 0.)) {
+			throw new OutsideDomainException(this.total);
+		}
+		return searchIndex(generator.nextDouble() * this.total);
+	}
+
+	@Pure
+	@Override
+	public String toString() {
+		final StringBuilder b = new StringBuilder();
+		b.append("DYNAMIC_DISCRETE(categories="); //$NON-NLS-1$
+		b.append(this.weights.length);
+		b.append(";total="); //$NON-NLS-1$
+		b.append(this.total);
+		b.append(')');
+		return b.toString();
+	}
+
+	@Pure
+	@Override
+	public double f(double x) throws MathException {
+		final int index = (int) x;
+		if (index != x || index < 0 || index >= this.weights.length || !(this.total > 0.)) {
+			throw new OutsideDomainException(x);
+		}
+		return this.weights[index] / this.total;
+	}
+
+	@Pure
+	@Override
+	public MathFunctionRange[] getRange() {
+		final MathFunctionRange[] range = new MathFunctionRange[this.weights.length];
+		for (int i = 0; i < range.length; ++i) {
+			range[i] = new MathFunctionRange(i);
+		}
+		return range;
+	}
+
+	/** Replies the x according to the value of the distribution function.
+	 *
+	 * @param u is a value given by the uniform random variable generator {@code U(0, 1)}.
+	 * @return {@code F<sup>-1</sup>(u)}
+	 * @throws MathException in case {@code F<sup>-1</sup>(u)} could not be computed
+	 */
+	@Pure
+	@Override
+	public double inverseF(double u) throws MathException {
+		if (u < 0. || u > 1. || !(this.total > 0.)) {
+			throw new OutsideDomainException(u);
+		}
+		return searchIndex(u * this.total);
+	}
+
+	@Override
+	protected double inverseF(Random u) throws MathException {
+		return randomIndex(u);
+	}
+
+}
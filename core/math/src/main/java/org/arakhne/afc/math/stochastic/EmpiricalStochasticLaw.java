@@ -0,0 +1,249 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.stochastic;
+
+import java.util.Arrays;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
+/**
+ * Law that representes a piecewise-linear empirical cumulative distribution.
+ *
+ * <p>The cumulative distribution function {@code F} is defined by a sequence of
+ * knots {@code (x[i], F(x[i]))}, and it is linearly interpolated between two
+ * consecutive knots. The density is constant between two consecutive knots.
+ *
+ * <p>When the law is built from observed data, the knots are the sorted observations
+ * {@code x[0] <= ... <= x[n-1]}, and {@code F(x[i]) = i / (n - 1)}.
+ *
+ * <p>The computation of {@code F<sup>-1</sup>(u)} is a binary search in {@code O(log n)}.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public class EmpiricalStochasticLaw extends StochasticLaw {
+
+	private final double[] knots;
+
+	private final double[] cumulativeProbabilities;
+
+	/** Create a law from observed data.
+	 *
+	 * @param observations the observed values. At least two values are expected.
+	 * @throws OutsideDomainException if there is less than two observations, or if
+	 *     an observation is not finite.
+	 */
+	public EmpiricalStochasticLaw(double[] observations) throws OutsideDomainException {
+		assert observations != null : AssertMessages.notNullParameter();
+		if (observations.length < 2) {
+			throw new OutsideDomainException(observations.length);
+		}
+		this.knots = Arrays.copyOf(observations, observations.length);
+		Arrays.sort(this.knots);
+		for (final double knot : this.knots) {
+			if (Double.isNaN(knot) || Double.isInfinite(knot)) {
+				throw new OutsideDomainException(knot);
+			}
+		}
+		final int last = this.knots.length - 1;
+		this.cumulativeProbabilities = new double[this.knots.length];
+		for (int i = 0; i < last; ++i) {
+			this.cumulativeProbabilities[i] = (double) i / last;
+		}
+		this.cumulativeProbabilities[last] = 1.;
+	}
+
+	/** Create a law from the knots of the cumulative distribution function.
+	 *
+	 * @param knots the values of the knots, in increasing order.
+	 * @param cumulativeProbabilities the values of the cumulative distribution function
+	 *     at the knots, in increasing order. The first value must be {@code 0} and the
+	 *     last value must be {@code 1}.
+	 * @throws OutsideDomainException if the knots or the probabilities are not in increasing
+	 *     order, or if the probabilities are not starting at {@code 0} and ending at {@code 1}.
+	 */
+	public EmpiricalStochasticLaw(double[] knots, double[] cumulativeProbabilities) throws OutsideDomainException {
+		assert knots != null : AssertMessages.notNullParameter(0);
+		assert cumulativeProbabilities != null : AssertMessages.notNullParameter(1);
+		assert knots.length == cumulativeProbabilities.length : AssertMessages.invalidValue(1);
+		if (knots.length < 2) {
+			throw new OutsideDomainException(knots.length);
+		}
+		final int last = knots.length - 1;
+		if (cumulativeProbabilities[0] != 0.) {
+			throw new OutsideDomainException(cumulativeProbabilities[0]);
+		}
+		if (cumulativeProbabilities[last] != 1.) {
+			throw new OutsideDomainException(cumulativeProbabilities[last]);
+		}
+		for (int i = 0; i <= last; ++i) {
+			if (Double.isNaN(knots[i]) || Double.isInfinite(knots[i]) || (i > 0 && knots[i] < knots[i - 1])) {
+				throw new OutsideDomainException(knots[i]);
+			}
+			// Test written for catching the NaN values
+			if (i > 0 && !(cumulativeProbabilities[i] >= cumulativeProbabilities[i - 1])) {
+				throw new OutsideDomainException(cumulativeProbabilities[i]);
+			}
+		}
+		this.knots = Arrays.copyOf(knots, knots.length);
+		this.cumulativeProbabilities = Arrays.copyOf(cumulativeProbabilities, cumulativeProbabilities.length);
+	}
+
+	/** Replies a random value that respect
+	 * the current stochastic law.
+	 *
+	 * @param observations the observed values.
+	 * @return a value depending of the stochastic law parameters
+	 * @throws MathException when error in the math definition.
+	 */
+	@Pure
+	public static double random(double[] observations) throws MathException {
+		return StochasticGenerator.generateRandomValue(new EmpiricalStochasticLaw(observations));
+	}
+
+	/** Replies the index of the first element in the given array that is strictly greater
+	 * than the given value.
+	 *
+	 * @param array the sorted array.
+	 * @param value the value to search for.
+	 * @return the index, or the length of the array.
+	 */
+	private static int upperBound(double[] array, double value) {
+		int low = 0;
+		int high = array.length;
+		while (low < high) {
+			final int middle = (low + high) >>> 1;
+			if (array[middle] <= value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/** Replies the index of the first element in the given array that is greater
+	 * than or equal to the given value.
+	 *
+	 * @param array the sorted array.
+	 * @param value the value to search for.
+	 * @return the index, or the length of the array.
+	 */
+	private static int lowerBound(double[] array, double value) {
+		int low = 0;
+		int high = array.length;
+		while (low < high) {
+			final int middle = (low + high) >>> 1;
+			if (array[middle] < value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/** Replies the cumulative distribution function at the given value.
+	 *
+	 * @param x the value.
+	 * @return {@code F(x)}
+	 */
+	@Pure
+	public double cumulativeF(double x) {
+		final int index = upperBound(this.knots, x);
+		if (index == 0) {
+			return 0.;
+		}
+		if (index == this.knots.length) {
+			return 1.;
+		}
+		final double x0 = this.knots[index - 1];
+		final double f0 = this.cumulativeProbabilities[index - 1];
+		return f0 + (x - x0) * (this.cumulativeProbabilities[index] - f0) / (this.knots[index] - x0);
+	}
+
+	@Pure
+	@Override
+	public String toString() {
+		final StringBuilder b = new StringBuilder();
+		b.append("EMPIRICAL(min="); //$NON-NLS-1$
+		b.append(this.knots[0]);
+		b.append(";max="); //$NON-NLS-1$
+		b.append(this.knots[this.knots.length - 1]);
+		b.append(";knots="); //$NON-NLS-1$
+		b.append(this.knots.length);
+		b.append(')');
+		return b.toString();
+	}
+
+	@Pure
+	@Override
+	public double f(double x) throws MathException {
+		final int last = this.knots.length - 1;
+		if (x < this.knots[0] || x > this.knots[last]) {
+			throw new OutsideDomainException(x);
+		}
+		int index = upperBound(this.knots, x);
+		if (index > last) {
+			// x is the maximum: use the last interval that has a not-null width
+			index = lowerBound(this.knots, x);
+			if (index == 0) {
+				return Double.POSITIVE_INFINITY;
+			}
+		}
+		return (this.cumulativeProbabilities[index] - this.cumulativeProbabilities[index - 1])
+				/ (this.knots[index] - this.knots[index - 1]);
+	}
+
+	@Pure
+	@Override
+	public MathFunctionRange[] getRange() {
+		return MathFunctionRange.createSet(this.knots[0], this.knots[this.knots.length - 1]);
+	}
+
+	/** Replies the x according to the value of the distribution function.
+	 *
+	 * @param u is a value given by the uniform random variable generator {@code U(0, 1)}.
+	 * @return {@code F<sup>-1</sup>(u)}
+	 * @throws MathException in case {@code F<sup>-1</sup>(u)} could not be computed
+	 */
+	@Pure
+	@Override
+	public double inverseF(double u) throws MathException {
+		if (u < 0. || u > 1.) {
+			throw new OutsideDomainException(u);
+		}
+		final int index = lowerBound(this.cumulativeProbabilities, u);
+		if (index == 0) {
+			return this.knots[0];
+		}
+		// cumulativeProbabilities[index - 1] < u <= cumulativeProbabilities[index]
+		final double f0 = this.cumulativeProbabilities[index - 1];
+		final double x0 = this.knots[index - 1];
+		return x0 + (u - f0) * (this.knots[index] - x0) / (this.cumulativeProbabilities[index] - f0);
+	}
+
+}
@@ -31,7 +31,8 @@ import org.eclipse.xtext.xbase.lib.Pure;
  * <p>Reference:
  * <a href="http://mathworld.wolfram.com/ExponentialDistribution.html">Exponential Distribution</a>.
  *
- * <p>This class uses the uniform random number distribution provided by {@link Random}.
+ * <p>This class uses the exponential random number distribution provided by the ziggurat method
+ * on a {@link Random}.
  *
  * @author $Author: cbohrhauer$
  * @version $FullVersion$
@@ -87,7 +88,11 @@ public class ExponentialStochasticLaw extends StochasticLaw {
      */
     @Pure
     public static double random(double lambda, double xmin) throws MathException {
-        return StochasticGenerator.generateRandomValue(new ExponentialStochasticLaw(lambda, xmin));
+        if (lambda <= 0) {
+            throw new OutsideDomainException(lambda);
+        }
+        // Same as inverseF(Random), without the creation of a law
+        return xmin + ZigguratSampler.nextExponential(StochasticGenerator.getRandomGenerator()) / lambda;
     }
 
     @Pure
@@ -129,4 +134,29 @@ public class ExponentialStochasticLaw extends StochasticLaw {
         return this.xmin - (Math.log(u) / this.lambda);
     }
 
+    /** Replies a random value with the ziggurat method.
+     *
+     * <p>The distribution of the values is the same as the one of {@code inverseF(U(0, 1))}.
+     *
+     * @param u is the uniform random variable generator {@code U(0, 1)}.
+     * @return the random value.
+     * @throws MathException in case the value could not be computed
+     */
+    @Override
+    protected double inverseF(Random u) throws MathException {
+        return this.xmin + ZigguratSampler.nextExponential(u) / this.lambda;
+    }
+
+    /** {@inheritDoc}
+     *
+     * <p>The values are generated with the ziggurat method.
+     */
+    @Override
+    protected void inverseF(Random u, double[] values, int start, int end) throws MathException {
+        final double scale = 1. / this.lambda;
+        for (int i = start; i < end; ++i) {
+            values[i] = this.xmin + ZigguratSampler.nextExponential(u) * scale;
+        }
+    }
+
 }
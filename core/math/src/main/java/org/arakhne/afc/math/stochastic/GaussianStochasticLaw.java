@@ -31,7 +31,8 @@ import org.eclipse.xtext.xbase.lib.Pure;
  * <p>Reference:
  * <a href="http://mathworld.wolfram.com/NormalDistribution.html">Normal Distribution</a>.
  *
- * <p>This class uses the gaussian random number distribution provided by {@link Random}.
+ * <p>This class uses the gaussian random number distribution provided by the ziggurat method
+ * on a {@link Random}.
  *
  * @author $Author: cbohrhauer$
  * @version $FullVersion$
@@ -89,7 +90,12 @@ public class GaussianStochasticLaw extends StochasticLaw {
      */
     @Pure
     public static double random(double mean, double standardDeviation) throws MathException {
-        return StochasticGenerator.generateRandomValue(new GaussianStochasticLaw(mean, standardDeviation));
+        if (standardDeviation <= 0) {
+            throw new OutsideDomainException(standardDeviation);
+        }
+        // Same as inverseF(Random), without the creation of a law
+        final double u = (ZigguratSampler.nextGaussian(StochasticGenerator.getRandomGenerator()) + 1) / 2.;
+        return standardDeviation * u + mean;
     }
 
     @Pure
@@ -141,8 +147,22 @@ public class GaussianStochasticLaw extends StochasticLaw {
      */
     @Override
     protected final double inverseF(Random rnd) throws MathException {
-        final double u = (rnd.nextGaussian() + 1) / 2.;
+        final double u = (ZigguratSampler.nextGaussian(rnd) + 1) / 2.;
         return inverseF(u);
     }
 
+    /** {@inheritDoc}
+     *
+     * <p>The gaussian values are generated with the ziggurat method.
+     */
+    @Override
+    protected void inverseF(Random u, double[] values, int start, int end) throws MathException {
+        // Same as inverseF(Random): deviation * (gaussian + 1) / 2 + mean
+        final double scale = this.standardDeviation / 2.;
+        final double shift = this.mean + scale;
+        for (int i = start; i < end; ++i) {
+            values[i] = scale * ZigguratSampler.nextGaussian(u) + shift;
+        }
+    }
+
 }
@@ -111,7 +111,14 @@ public class LinearStochasticLaw extends StochasticLaw {
      */
     @Pure
     public static double random(double minX, double maxX, boolean ascendent) throws MathException {
-        return StochasticGenerator.generateRandomValue(new LinearStochasticLaw(minX, maxX, ascendent));
+        // Same as inverseF(Random), without the creation of a law
+        final double i = Math.min(minX, maxX);
+        final double a = Math.max(minX, maxX);
+        final double u = 1. - StochasticGenerator.getRandomGenerator().nextDouble();
+        if (ascendent) {
+            return (a - i) * Math.sqrt(u) + i;
+        }
+        return (i - a) * Math.sqrt(u) + a;
     }
 
     /** Replies a random value that respect
@@ -126,7 +133,7 @@ public class LinearStochasticLaw extends StochasticLaw {
      */
     @Pure
     public static double random(double minX, double maxX) throws MathException {
-        return StochasticGenerator.generateRandomValue(new LinearStochasticLaw(minX, maxX));
+        return random(minX, maxX, true);
     }
 
     @Pure
@@ -31,7 +31,8 @@ import org.eclipse.xtext.xbase.lib.Pure;
  * <p>Reference:
  * <a href="http://en.wikipedia.org/wiki/Log-normal_distribution">Log-Normal Distribution</a>.
  *
- * <p>This class uses the gaussian random number distribution provided by {@link Random}.
+ * <p>This class uses the gaussian random number distribution provided by the ziggurat method
+ * on a {@link Random}.
  *
  * @author $Author: cbohrhauer$
  * @version $FullVersion$
@@ -89,7 +90,12 @@ public class LogNormalStochasticLaw extends StochasticLaw {
      */
     @Pure
     public static double random(double mean, double standardDeviation) throws MathException {
-        return StochasticGenerator.generateRandomValue(new LogNormalStochasticLaw(mean, standardDeviation));
+        if (standardDeviation <= 0) {
+            throw new OutsideDomainException(standardDeviation);
+        }
+        // Same as inverseF(Random), without the creation of a law
+        final double u = (ZigguratSampler.nextGaussian(StochasticGenerator.getRandomGenerator()) + 1) / 2.;
+        return Math.exp(standardDeviation * u + mean);
     }
 
     @Pure
@@ -144,8 +150,22 @@ public class LogNormalStochasticLaw extends StochasticLaw {
      */
     @Override
     protected final double inverseF(Random u) throws MathException {
-        final double uvalue = (u.nextGaussian() + 1) / 2.;
+        final double uvalue = (ZigguratSampler.nextGaussian(u) + 1) / 2.;
         return inverseF(uvalue);
     }
 
+    /** {@inheritDoc}
+     *
+     * <p>The gaussian values are generated with the ziggurat method.
+     */
+    @Override
+    protected void inverseF(Random u, double[] values, int start, int end) throws MathException {
+        // Same as inverseF(Random): exp(deviation * (gaussian + 1) / 2 + mean)
+        final double scale = this.standardDeviation / 2.;
+        final double shift = this.mean + scale;
+        for (int i = start; i < end; ++i) {
+            values[i] = Math.exp(scale * ZigguratSampler.nextGaussian(u) + shift);
+        }
+    }
+
 }
@@ -87,7 +87,12 @@ public class LogisticStochasticLaw extends StochasticLaw {
      */
     @Pure
     public static double random(double mu, double scale) throws MathException {
-        return StochasticGenerator.generateRandomValue(new LogisticStochasticLaw(mu, scale));
+        if (scale <= 0) {
+            throw new OutsideDomainException(scale);
+        }
+        // Same as inverseF(Random), without the creation of a law
+        final double u = 1. - StochasticGenerator.getRandomGenerator().nextDouble();
+        return mu + scale * Math.log(u / (1. - u));
     }
 
     @Pure
@@ -94,7 +94,15 @@ public class ParetoStochasticLaw extends StochasticLaw {
      */
     @Pure
     public static double random(double k, double xmin) throws MathException {
-        return StochasticGenerator.generateRandomValue(new ParetoStochasticLaw(k, xmin));
+        if (xmin <= 0) {
+            throw new OutsideDomainException(xmin);
+        }
+        if (k <= 0) {
+            throw new OutsideDomainException(k);
+        }
+        // Same as inverseF(Random), without the creation of a law
+        final double u = 1. - StochasticGenerator.getRandomGenerator().nextDouble();
+        return xmin / Math.pow(u, 1. / k);
     }
 
     @Pure
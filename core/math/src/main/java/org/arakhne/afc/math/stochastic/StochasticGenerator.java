@@ -21,12 +21,21 @@
 package org.arakhne.afc.math.stochastic;
 
 import java.util.Random;
+import java.util.function.Supplier;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
 /**
  * Generator of random values according to stochastic laws.
  *
+ * <p>Each thread has its own uniform random number generator, that is replied by
+ * {@link #getRandomGenerator()}. By default, the generator of a thread is a {@link Xoshiro256Random}
+ * that is split from a root generator when the thread uses it for the first time. The root generator
+ * may be seeded with {@link #setSeed(long)}. For reproducible parallel computations, each worker should
+ * set its own stream with {@link #setRandomGenerator(Random)}, e.g. with
+ * {@link Xoshiro256Random#createStream(long, int)}, because the order in which the threads split
+ * the root generator is not deterministic.
+ *
  * @author $Author: cbohrhauer$
  * @version $FullVersion$
  * @mavengroupid $GroupId$
@@ -35,16 +44,87 @@ import org.eclipse.xtext.xbase.lib.Pure;
  */
 public final class StochasticGenerator {
 
-    private static Random uniformRandomVariableList;
+    private static final Object LOCK = new Object();
+
+    private static final ThreadLocal<Random> GENERATORS = new ThreadLocal<>();
+
+    private static Xoshiro256Random root;
+
+    private static Supplier<? extends Random> provider;
 
     private StochasticGenerator() {
         //
     }
 
-    private static void initRandomNumberList() {
-        if (uniformRandomVariableList == null) {
-            uniformRandomVariableList = new Random();
+    /** Replies the uniform random number generator of the current thread.
+     *
+     * <p>The generator is created when it is used for the first time by the thread,
+     * by the {@link #setRandomGeneratorProvider(Supplier) provider} if one was given,
+     * or by splitting the root generator.
+     *
+     * @return the generator of the current thread.
+     * @since 14.0
+     */
+    public static Random getRandomGenerator() {
+        Random generator = GENERATORS.get();
+        if (generator == null) {
+            synchronized (LOCK) {
+                if (provider != null) {
+                    generator = provider.get();
+                } else {
+                    if (root == null) {
+                        root = new Xoshiro256Random();
+                    }
+                    generator = root.split();
+                }
+            }
+            GENERATORS.set(generator);
         }
+        return generator;
+    }
+
+    /** Change the uniform random number generator of the current thread.
+     *
+     * <p>The given generator should not be shared with another thread.
+     *
+     * @param generator the generator, or {@code null} for creating a new one
+     *     at the next use.
+     * @since 14.0
+     */
+    public static void setRandomGenerator(Random generator) {
+        if (generator == null) {
+            GENERATORS.remove();
+        } else {
+            GENERATORS.set(generator);
+        }
+    }
+
+    /** Change the provider of the uniform random number generators of the threads.
+     *
+     * <p>The provider is invoked when a thread uses a generator for the first time.
+     * The generators that were already created are not changed.
+     *
+     * @param generatorProvider the provider, or {@code null} for splitting the root generator.
+     * @since 14.0
+     */
+    public static void setRandomGeneratorProvider(Supplier<? extends Random> generatorProvider) {
+        synchronized (LOCK) {
+            provider = generatorProvider;
+        }
+    }
+
+    /** Change the seed of the root generator, and reset the generator of the current thread.
+     *
+     * <p>The generators that were already created by the other threads are not changed.
+     *
+     * @param seed the seed.
+     * @since 14.0
+     */
+    public static void setSeed(long seed) {
+        synchronized (LOCK) {
+            root = new Xoshiro256Random(seed);
+        }
+        GENERATORS.remove();
     }
 
     /** Generate a stochastic value according to the given law.
@@ -53,7 +133,7 @@ public final class StochasticGenerator {
      * The returned value
      * is when a randomly selected value inside the set of available values.
      *
-     * <p>This method uses a {@link UniformStochasticLaw uniform distribution random number generation}.
+     * <p>This method uses the {@link #getRandomGenerator() generator of the current thread}.
      *
      * @param law is the stochastic law to use.
      * @return a value which was randomly selected according to a stochastic law.
@@ -61,8 +141,19 @@ public final class StochasticGenerator {
      */
     @Pure
     public static double generateRandomValue(StochasticLaw law) throws MathException {
-        initRandomNumberList();
-        return law.inverseF(uniformRandomVariableList);
+        return law.inverseF(getRandomGenerator());
+    }
+
+    /** Generate a stochastic value according to the given law with the given uniform random number generator.
+     *
+     * @param law is the stochastic law to use.
+     * @param generator the uniform random number generator.
+     * @return a value which was randomly selected according to a stochastic law.
+     * @throws MathException in case the value could not be computed.
+     * @since 14.0
+     */
+    public static double generateRandomValue(StochasticLaw law, Random generator) throws MathException {
+        return law.inverseF(generator);
     }
 
     /** Add a noise to the specified value.
@@ -73,7 +164,7 @@ public final class StochasticGenerator {
      * The {@code noise} is randomly selected according to the
      * given random number list.
      *
-     * <p>This method uses a {@link UniformStochasticLaw uniform distribution random number generation}.
+     * <p>This method uses the {@link #getRandomGenerator() generator of the current thread}.
      *
      * @param value is the value to noise
      * @param noiseLaw is the law used to selected tyhe noise amount.
@@ -84,9 +175,9 @@ public final class StochasticGenerator {
     public static double noiseValue(double value, MathFunction noiseLaw) throws MathException {
         try {
             double noise = Math.abs(noiseLaw.f(value));
-            initRandomNumberList();
-            noise *= uniformRandomVariableList.nextFloat();
-            if (uniformRandomVariableList.nextBoolean()) {
+            final Random generator = getRandomGenerator();
+            noise *= generator.nextDouble();
+            if (generator.nextBoolean()) {
                 noise = -noise;
             }
             return value + noise;
@@ -22,9 +22,16 @@ package org.arakhne.afc.math.stochastic;
 
 import java.util.Map;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
+import org.arakhne.afc.vmutil.asserts.AssertMessages;
+
 /**
  * Abstract implementation of a stochastic law that
  * provides the bounds of a law.
@@ -99,16 +106,111 @@ public abstract class StochasticLaw implements MathInversableFunction {
 		return StochasticGenerator.generateRandomValue(this);
 	}
 
+	/** Replies a random value that respect
+	 * the current stochastic law, with the given uniform random number generator.
+	 *
+	 * @param generator is the uniform random number generator {@code U(0, 1)}.
+	 * @return a value depending of the stochastic law parameters
+	 * @throws MathException when error in math definition.
+	 * @since 14.0
+	 */
+	public double generateRandomValue(Random generator) throws MathException {
+		return StochasticGenerator.generateRandomValue(this, generator);
+	}
+
+	/** Fill the given array with random values that respect the current stochastic law.
+	 *
+	 * <p>This method uses the {@link StochasticGenerator#getRandomGenerator() generator of the current thread}.
+	 *
+	 * @param values the array to fill.
+	 * @throws MathException when error in math definition.
+	 * @since 14.0
+	 */
+	public void generateRandomValues(double[] values) throws MathException {
+		assert values != null : AssertMessages.notNullParameter();
+		generateRandomValues(values, 0, values.length, StochasticGenerator.getRandomGenerator());
+	}
+
+	/** Fill a part of the given array with random values that respect the current stochastic law.
+	 *
+	 * @param values the array to fill.
+	 * @param offset the index of the first value to set.
+	 * @param length the number of values to set.
+	 * @param generator is the uniform random number generator {@code U(0, 1)}.
+	 * @throws MathException when error in math definition.
+	 * @since 14.0
+	 */
+	public void generateRandomValues(double[] values, int offset, int length, Random generator) throws MathException {
+		assert values != null : AssertMessages.notNullParameter(0);
+		assert offset >= 0 && length >= 0 && offset + length <= values.length
+				: AssertMessages.tooSmallArrayParameter(0, values.length, offset + length);
+		assert generator != null : AssertMessages.notNullParameter(3);
+		inverseF(generator, values, offset, offset + length);
+	}
+
+	/** Replies a sequential stream of random values that respect the current stochastic law.
+	 *
+	 * <p>This method uses the {@link StochasticGenerator#getRandomGenerator() generator of the current thread}.
+	 * The stream should be consumed by the current thread.
+	 *
+	 * @param count the number of values in the stream.
+	 * @return the stream of values.
+	 * @since 14.0
+	 * @see #randomValues(long, Random)
+	 */
+	public DoubleStream randomValues(long count) {
+		return randomValues(count, StochasticGenerator.getRandomGenerator());
+	}
+
+	/** Replies a sequential stream of random values that respect the current stochastic law.
+	 *
+	 * <p>The values are generated by blocks with {@link #generateRandomValues(double[], int, int, Random)}.
+	 * If a value cannot be computed, the stream throws an {@link IllegalStateException} that has the
+	 * {@link MathException} as cause.
+	 *
+	 * @param count the number of values in the stream.
+	 * @param generator is the uniform random number generator {@code U(0, 1)}.
+	 * @return the stream of values.
+	 * @since 14.0
+	 */
+	public DoubleStream randomValues(long count, Random generator) {
+		assert count >= 0 : AssertMessages.positiveOrZeroParameter(0);
+		assert generator != null : AssertMessages.notNullParameter(1);
+		return StreamSupport.doubleStream(new RandomValueSpliterator(this, count, generator), false);
+	}
+
 	/** Replies the x according to the value of the inverted
 	 * cummulative distribution function {@code F<sup>-1</sup>(u)}
 	 * where {@code u = U(0, 1)}.
 	 *
+	 * <p>The value of {@code u} has the full precision of a double, and it is in {@code (0, 1]}.
+	 *
 	 * @param u is the uniform random variable generator {@code U(0, 1)}.
 	 * @return {@code F<sup>-1</sup>(u)}
 	 * @throws MathException in case {@code F<sup>-1</sup>(u)} could not be computed
 	 */
 	protected double inverseF(Random u) throws MathException {
-		return inverseF(1. - u.nextFloat());
+		return inverseF(1. - u.nextDouble());
+	}
+
+	/** Fill a part of the given array with values of the inverted
+	 * cummulative distribution function {@code F<sup>-1</sup>(u)}
+	 * where {@code u = U(0, 1)}.
+	 *
+	 * <p>The default implementation invokes {@link #inverseF(Random)} for each value. The laws
+	 * may override this function with a faster algorithm that replies values with the same distribution.
+	 *
+	 * @param u is the uniform random variable generator {@code U(0, 1)}.
+	 * @param values the array to fill.
+	 * @param start the index of the first value to set.
+	 * @param end the index after the last value to set.
+	 * @throws MathException in case {@code F<sup>-1</sup>(u)} could not be computed
+	 * @since 14.0
+	 */
+	protected void inverseF(Random u, double[] values, int start, int end) throws MathException {
+		for (int i = start; i < end; ++i) {
+			values[i] = inverseF(u);
+		}
 	}
 
 	/** Replies the x according to the value of the inverted
@@ -123,4 +225,62 @@ public abstract class StochasticLaw implements MathInversableFunction {
 	@Override
 	public abstract double inverseF(double u) throws MathException;
 
+	/** Spliterator on random values that are generated by blocks.
+	 *
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 * @since 14.0
+	 */
+	private static final class RandomValueSpliterator extends Spliterators.AbstractDoubleSpliterator {
+
+		private static final int BLOCK_SIZE = 256;
+
+		private final StochasticLaw law;
+
+		private final Random generator;
+
+		private final double[] buffer;
+
+		private long remaining;
+
+		private int size;
+
+		private int index;
+
+		/**
+		 * @param law the law of the values.
+		 * @param count the number of values.
+		 * @param generator the uniform random number generator.
+		 */
+		RandomValueSpliterator(StochasticLaw law, long count, Random generator) {
+			super(count, Spliterator.SIZED | Spliterator.ORDERED | Spliterator.NONNULL);
+			this.law = law;
+			this.generator = generator;
+			this.remaining = count;
+			this.buffer = new double[(int) Math.min(BLOCK_SIZE, count)];
+		}
+
+		@Override
+		public boolean tryAdvance(DoubleConsumer action) {
+			if (this.index >= this.size) {
+				if (this.remaining <= 0) {
+					return false;
+				}
+				this.size = (int) Math.min(this.buffer.length, this.remaining);
+				this.index = 0;
+				this.remaining -= this.size;
+				try {
+					this.law.generateRandomValues(this.buffer, 0, this.size, this.generator);
+				} catch (MathException exception) {
+					throw new IllegalStateException(exception);
+				}
+			}
+			action.accept(this.buffer[this.index++]);
+			return true;
+		}
+
+	}
+
 }
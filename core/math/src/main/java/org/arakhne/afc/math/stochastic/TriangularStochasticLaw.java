@@ -116,10 +116,49 @@ public class TriangularStochasticLaw extends StochasticLaw {
      * @throws MathException when math definition error.
      */
     @Pure
-    @Inline(value = "StochasticGenerator.generateRandomValue(new TriangularStochasticLaw(($1), ($2), ($3)))",
+    @Inline(value = "TriangularStochasticLaw.random(($1), ($2), ($3), StochasticGenerator.getRandomGenerator())",
             imported = {StochasticGenerator.class, TriangularStochasticLaw.class})
     public static double random(double minX, double mode, double maxX) throws MathException {
-        return StochasticGenerator.generateRandomValue(new TriangularStochasticLaw(minX, mode, maxX));
+        return random(minX, mode, maxX, StochasticGenerator.getRandomGenerator());
+    }
+
+    /** Replies a random value that respect
+     * the current stochastic law.
+     *
+     * @param minX is the lower bound where {@code f(minX) = 0}
+     * @param mode is the maxima point of the distribution {@code f(mode) = max(f(x))}
+     * @param maxX is the upper bound where {@code f(maxX) = 0}
+     * @param generator the uniform random number generator.
+     * @return a value depending of the stochastic law parameters
+     * @throws MathException when math definition error.
+     * @since 14.0
+     */
+    public static double random(double minX, double mode, double maxX, Random generator) throws MathException {
+        // Same as inverseF(Random), without the creation of a law
+        double i = minX;
+        double a = maxX;
+        double mod = mode;
+        if (i > a) {
+            final double t = a;
+            a = i;
+            i = t;
+        }
+        if (i > mod) {
+            final double t = mod;
+            mod = i;
+            i = t;
+        }
+        if (mod > a) {
+            final double t = a;
+            a = mod;
+            mod = t;
+        }
+        final double u = 1. - generator.nextDouble();
+        final double range = a - i;
+        if (u < (mod - i) / range) {
+            return Math.sqrt(u * (range * (mod - i))) + i;
+        }
+        return a - Math.sqrt((1 - u) * (range * (a - mod)));
     }
 
     @Pure
@@ -181,4 +220,17 @@ public class TriangularStochasticLaw extends StochasticLaw {
         return this.maxX - Math.sqrt((1 - u) * this.delta2);
     }
 
+    @Override
+    protected void inverseF(Random u, double[] values, int start, int end) throws MathException {
+        for (int i = start; i < end; ++i) {
+            // Same as inverseF(1 - nextDouble()), without the test of the domain
+            final double uvalue = 1. - u.nextDouble();
+            if (uvalue < this.dxmode) {
+                values[i] = Math.sqrt(uvalue * this.delta1) + this.minX;
+            } else {
+                values[i] = this.maxX - Math.sqrt((1 - uvalue) * this.delta2);
+            }
+        }
+    }
+
 }
@@ -95,10 +95,29 @@ public class UniformStochasticLaw extends StochasticLaw {
 	 * @throws MathException when math definition error.
 	 */
 	@Pure
-	@Inline(value = "StochasticGenerator.generateRandomValue(new UniformStochasticLaw(($1), ($2)))",
+	@Inline(value = "UniformStochasticLaw.random(($1), ($2), StochasticGenerator.getRandomGenerator())",
 			imported = {StochasticGenerator.class, UniformStochasticLaw.class})
 	public static double random(double minX, double maxX) throws MathException {
-		return StochasticGenerator.generateRandomValue(new UniformStochasticLaw(minX, maxX));
+		return random(minX, maxX, StochasticGenerator.getRandomGenerator());
+	}
+
+	/** Replies a random value that respect
+	 * the current stochastic law.
+	 *
+	 * @param minX is the lower bound
+	 * @param maxX is the upper bound
+	 * @param generator the uniform random number generator.
+	 * @return a value depending of the stochastic law parameters
+	 * @throws MathException when math definition error.
+	 * @since 14.0
+	 */
+	public static double random(double minX, double maxX, Random generator) throws MathException {
+		// Same as inverseF(Random), without the creation of a law
+		final double u = 1. - generator.nextDouble();
+		if (minX < maxX) {
+			return (maxX - minX) * u + minX;
+		}
+		return (minX - maxX) * u + maxX;
 	}
 
 	@Pure
@@ -128,4 +147,11 @@ public class UniformStochasticLaw extends StochasticLaw {
 		return this.delta * u + this.minX;
 	}
 
+	@Override
+	protected void inverseF(Random u, double[] values, int start, int end) throws MathException {
+		for (int i = start; i < end; ++i) {
+			values[i] = this.delta * (1. - u.nextDouble()) + this.minX;
+		}
+	}
+
 }
@@ -0,0 +1,267 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.stochastic;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator of uniform random numbers with the xoshiro256** algorithm of Blackman and Vigna.
+ *
+ * <p>This generator has a period of {@code 2^256 - 1}. Its state is initialized from the seed
+ * with the SplitMix64 generator. The generator may be split into independent streams: each call to
+ * {@link #split()} replies a copy of the generator, and moves this generator {@code 2^128} steps
+ * forward. The streams that are created by successive splits from the same seed are deterministic,
+ * and they do not overlap.
+ *
+ * <p>This generator is not thread-safe. It is designed for being confined to a thread, see
+ * {@link StochasticGenerator#getRandomGenerator()}. The doubles replied by {@link #nextDouble()}
+ * have the full 53-bit precision.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+@SuppressWarnings("checkstyle:magicnumber")
+public class Xoshiro256Random extends Random {
+
+	private static final long serialVersionUID = -3372155702356357347L;
+
+	/** The odd constant that is the increment of SplitMix64, derived from the golden ratio.
+	 */
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private static final long[] JUMP = {
+		0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL,
+	};
+
+	private static final long[] LONG_JUMP = {
+		0x76e15d3efefdcbbfL, 0xc5004e441c522fb3L, 0x77710069854ee241L, 0x39109bb02acbe635L,
+	};
+
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+	private static final float FLOAT_UNIT = 0x1.0p-24f;
+
+	private static final AtomicLong SEED_UNIQUIFIER = new AtomicLong(System.nanoTime());
+
+	private long s0;
+
+	private long s1;
+
+	private long s2;
+
+	private long s3;
+
+	private double nextNextGaussian;
+
+	private boolean haveNextNextGaussian;
+
+	/** Construct a generator with a seed that is different at each invocation.
+	 */
+	public Xoshiro256Random() {
+		this(SEED_UNIQUIFIER.addAndGet(GOLDEN_GAMMA) ^ System.nanoTime());
+	}
+
+	/** Construct a generator with the given seed.
+	 *
+	 * @param seed the seed.
+	 */
+	public Xoshiro256Random(long seed) {
+		super(seed);
+	}
+
+	private Xoshiro256Random(Xoshiro256Random generator) {
+		super(0);
+		this.s0 = generator.s0;
+		this.s1 = generator.s1;
+		this.s2 = generator.s2;
+		this.s3 = generator.s3;
+	}
+
+	/** Replies the value of the SplitMix64 mixing function.
+	 *
+	 * <p>The successive values of SplitMix64 are given by {@code splitMix64(seed + k * 0x9e3779b97f4a7c15L)}
+	 * for {@code k >= 1}.
+	 *
+	 * @param value the value to mix.
+	 * @return the mixed value.
+	 */
+	public static long splitMix64(long value) {
+		long z = value;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	/** Create the generator of the stream at the given index.
+	 *
+	 * <p>The generator is initialized with the given seed, and moved {@code index * 2^128}
+	 * steps forward. The streams with the same seed and different indexes do not overlap.
+	 * This function is convenient for giving a deterministic stream to each worker of a
+	 * parallel computation.
+	 *
+	 * @param seed the seed that is shared by all the streams.
+	 * @param index the index of the stream.
+	 * @return the generator.
+	 */
+	public static Xoshiro256Random createStream(long seed, int index) {
+		assert index >= 0;
+		final Xoshiro256Random generator = new Xoshiro256Random(seed);
+		for (int i = 0; i < index; ++i) {
+			generator.jump();
+		}
+		return generator;
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		// Invoked by the constructor of Random
+		long value = seed;
+		value += GOLDEN_GAMMA;
+		this.s0 = splitMix64(value);
+		value += GOLDEN_GAMMA;
+		this.s1 = splitMix64(value);
+		value += GOLDEN_GAMMA;
+		this.s2 = splitMix64(value);
+		value += GOLDEN_GAMMA;
+		this.s3 = splitMix64(value);
+		this.haveNextNextGaussian = false;
+	}
+
+	@Override
+	public long nextLong() {
+		final long result = Long.rotateLeft(this.s1 * 5, 7) * 9;
+		final long t = this.s1 << 17;
+		this.s2 ^= this.s0;
+		this.s3 ^= this.s1;
+		this.s1 ^= this.s2;
+		this.s0 ^= this.s3;
+		this.s2 ^= t;
+		this.s3 = Long.rotateLeft(this.s3, 45);
+		return result;
+	}
+
+	@Override
+	protected int next(int bits) {
+		return (int) (nextLong() >>> (Long.SIZE - bits));
+	}
+
+	@Override
+	public int nextInt() {
+		return (int) (nextLong() >>> Integer.SIZE);
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return nextLong() < 0;
+	}
+
+	/** {@inheritDoc}
+	 *
+	 * <p>The replied value has 53 random bits.
+	 */
+	@Override
+	public double nextDouble() {
+		return (nextLong() >>> 11) * DOUBLE_UNIT;
+	}
+
+	@Override
+	public float nextFloat() {
+		return (nextLong() >>> 40) * FLOAT_UNIT;
+	}
+
+	@Override
+	public double nextGaussian() {
+		// Polar method, as in Random. The cache is not synchronized, as the rest of the state
+		if (this.haveNextNextGaussian) {
+			this.haveNextNextGaussian = false;
+			return this.nextNextGaussian;
+		}
+		double v1;
+		double v2;
+		double norm;
+		do {
+			v1 = 2 * nextDouble() - 1;
+			v2 = 2 * nextDouble() - 1;
+			norm = v1 * v1 + v2 * v2;
+		} while (norm >= 1 || norm == 0);
+		final double multiplier = StrictMath.sqrt(-2 * StrictMath.log(norm) / norm);
+		this.nextNextGaussian = v2 * multiplier;
+		this.haveNextNextGaussian = true;
+		return v1 * multiplier;
+	}
+
+	/** Move this generator {@code 2^128} steps forward.
+	 *
+	 * <p>It is equivalent to {@code 2^128} calls to {@link #nextLong()}.
+	 */
+	public void jump() {
+		jumpPolynomial(JUMP);
+	}
+
+	/** Move this generator {@code 2^192} steps forward.
+	 *
+	 * <p>It is equivalent to {@code 2^192} calls to {@link #nextLong()}.
+	 */
+	public void longJump() {
+		jumpPolynomial(LONG_JUMP);
+	}
+
+	private void jumpPolynomial(long[] polynomial) {
+		long t0 = 0;
+		long t1 = 0;
+		long t2 = 0;
+		long t3 = 0;
+		for (final long word : polynomial) {
+			for (int b = 0; b < Long.SIZE; ++b) {
+				if ((word & (1L << b)) != 0) {
+					t0 ^= this.s0;
+					t1 ^= this.s1;
+					t2 ^= this.s2;
+					t3 ^= this.s3;
+				}
+				nextLong();
+			}
+		}
+		this.s0 = t0;
+		this.s1 = t1;
+		this.s2 = t2;
+		this.s3 = t3;
+		this.haveNextNextGaussian = false;
+	}
+
+	/** Split this generator.
+	 *
+	 * <p>The replied generator starts at the current state of this generator, and this generator
+	 * is moved {@code 2^128} steps forward. The two generators reply independent streams.
+	 *
+	 * @return the new generator.
+	 */
+	public Xoshiro256Random split() {
+		final Xoshiro256Random generator = new Xoshiro256Random(this);
+		jump();
+		return generator;
+	}
+
+}
@@ -0,0 +1,205 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.stochastic;
+
+import java.util.Random;
+
+/**
+ * Generator of normal and exponential random values with the ziggurat method.
+ *
+ * <p>This is the method of Marsaglia and Tsang, with 128 layers for the normal distribution,
+ * and 256 layers for the exponential distribution. Most of the values are obtained with one
+ * random long integer, one table lookup and one multiplication. The index of the layer and the
+ * value in the layer are taken from different bits of the random long integer.
+ *
+ * <p>Reference: G. Marsaglia and W. W. Tsang, <i>The Ziggurat Method for Generating Random
+ * Variables</i>, Journal of Statistical Software 5(8), 2000.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+@SuppressWarnings("checkstyle:magicnumber")
+final class ZigguratSampler {
+
+	/** Start of the right tail of the normal distribution.
+	 */
+	private static final double NORMAL_R = 3.442619855899;
+
+	/** Area of each layer of the normal distribution.
+	 */
+	private static final double NORMAL_V = 9.91256303526217e-3;
+
+	/** Start of the right tail of the exponential distribution.
+	 */
+	private static final double EXPONENTIAL_R = 7.697117470131487;
+
+	/** Area of each layer of the exponential distribution.
+	 */
+	private static final double EXPONENTIAL_V = 3.949659822581572e-3;
+
+	private static final int NORMAL_LAYERS = 128;
+
+	private static final int EXPONENTIAL_LAYERS = 256;
+
+	private static final double TWO_POWER_31 = 2147483648.;
+
+	private static final double TWO_POWER_32 = 4294967296.;
+
+	private static final long[] KN = new long[NORMAL_LAYERS];
+
+	private static final double[] WN = new double[NORMAL_LAYERS];
+
+	private static final double[] FN = new double[NORMAL_LAYERS];
+
+	private static final long[] KE = new long[EXPONENTIAL_LAYERS];
+
+	private static final double[] WE = new double[EXPONENTIAL_LAYERS];
+
+	private static final double[] FE = new double[EXPONENTIAL_LAYERS];
+
+	static {
+		double dn = NORMAL_R;
+		double tn = dn;
+		double area = NORMAL_V / Math.exp(-.5 * dn * dn);
+		KN[0] = (long) ((dn / area) * TWO_POWER_31);
+		KN[1] = 0;
+		WN[0] = area / TWO_POWER_31;
+		WN[NORMAL_LAYERS - 1] = dn / TWO_POWER_31;
+		FN[0] = 1.;
+		FN[NORMAL_LAYERS - 1] = Math.exp(-.5 * dn * dn);
+		for (int i = NORMAL_LAYERS - 2; i >= 1; --i) {
+			dn = Math.sqrt(-2. * Math.log(NORMAL_V / dn + Math.exp(-.5 * dn * dn)));
+			KN[i + 1] = (long) ((dn / tn) * TWO_POWER_31);
+			tn = dn;
+			FN[i] = Math.exp(-.5 * dn * dn);
+			WN[i] = dn / TWO_POWER_31;
+		}
+
+		double de = EXPONENTIAL_R;
+		double te = de;
+		area = EXPONENTIAL_V / Math.exp(-de);
+		KE[0] = (long) ((de / area) * TWO_POWER_32);
+		KE[1] = 0;
+		WE[0] = area / TWO_POWER_32;
+		WE[EXPONENTIAL_LAYERS - 1] = de / TWO_POWER_32;
+		FE[0] = 1.;
+		FE[EXPONENTIAL_LAYERS - 1] = Math.exp(-de);
+		for (int i = EXPONENTIAL_LAYERS - 2; i >= 1; --i) {
+			de = -Math.log(EXPONENTIAL_V / de + Math.exp(-de));
+			KE[i + 1] = (long) ((de / te) * TWO_POWER_32);
+			te = de;
+			FE[i] = Math.exp(-de);
+			WE[i] = de / TWO_POWER_32;
+		}
+	}
+
+	private ZigguratSampler() {
+		//
+	}
+
+	/** Replies a uniform random value in {@code (0, 1]}.
+	 */
+	private static double nextPositiveUniform(Random generator) {
+		return 1. - generator.nextDouble();
+	}
+
+	/** Replies a random value according to the standard normal distribution.
+	 *
+	 * @param generator the uniform random number generator.
+	 * @return the value.
+	 */
+	static double nextGaussian(Random generator) {
+		final long bits = generator.nextLong();
+		final int layer = (int) bits & (NORMAL_LAYERS - 1);
+		final int value = (int) (bits >> Integer.SIZE);
+		if (Math.abs((long) value) < KN[layer]) {
+			return value * WN[layer];
+		}
+		return nextGaussianSlowPath(generator, layer, value);
+	}
+
+	private static double nextGaussianSlowPath(Random generator, int initialLayer, int initialValue) {
+		int layer = initialLayer;
+		int value = initialValue;
+		while (true) {
+			if (layer == 0) {
+				// Sample from the tail, beyond NORMAL_R
+				double x;
+				double y;
+				do {
+					x = -Math.log(nextPositiveUniform(generator)) / NORMAL_R;
+					y = -Math.log(nextPositiveUniform(generator));
+				} while (y + y < x * x);
+				return value > 0 ? NORMAL_R + x : -NORMAL_R - x;
+			}
+			final double x = value * WN[layer];
+			if (FN[layer] + generator.nextDouble() * (FN[layer - 1] - FN[layer]) < Math.exp(-.5 * x * x)) {
+				return x;
+			}
+			final long bits = generator.nextLong();
+			layer = (int) bits & (NORMAL_LAYERS - 1);
+			value = (int) (bits >> Integer.SIZE);
+			if (Math.abs((long) value) < KN[layer]) {
+				return value * WN[layer];
+			}
+		}
+	}
+
+	/** Replies a random value according to the exponential distribution with a rate of {@code 1}.
+	 *
+	 * @param generator the uniform random number generator.
+	 * @return the value.
+	 */
+	static double nextExponential(Random generator) {
+		final long bits = generator.nextLong();
+		final int layer = (int) bits & (EXPONENTIAL_LAYERS - 1);
+		final long value = bits >>> Integer.SIZE;
+		if (value < KE[layer]) {
+			return value * WE[layer];
+		}
+		return nextExponentialSlowPath(generator, layer, value);
+	}
+
+	private static double nextExponentialSlowPath(Random generator, int initialLayer, long initialValue) {
+		int layer = initialLayer;
+		long value = initialValue;
+		while (true) {
+			if (layer == 0) {
+				// The tail of the exponential distribution is an exponential distribution
+				return EXPONENTIAL_R - Math.log(nextPositiveUniform(generator));
+			}
+			final double x = value * WE[layer];
+			if (FE[layer] + generator.nextDouble() * (FE[layer - 1] - FE[layer]) < Math.exp(-x)) {
+				return x;
+			}
+			final long bits = generator.nextLong();
+			layer = (int) bits & (EXPONENTIAL_LAYERS - 1);
+			value = bits >>> Integer.SIZE;
+			if (value < KE[layer]) {
+				return value * WE[layer];
+			}
+		}
+	}
+
+}
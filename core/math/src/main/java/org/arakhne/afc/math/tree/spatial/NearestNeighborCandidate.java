@@ -0,0 +1,95 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree.spatial;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+/**
+ * Candidate of a best-first k-nearest-neighbor search inside a spatial tree.
+ * A candidate is either a tree node or a user data.
+ *
+ * @param <N> is the type of the tree nodes.
+ * @param <D> is the type of the data inside the tree.
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+final class NearestNeighborCandidate<N, D> implements Comparable<NearestNeighborCandidate<N, D>> {
+
+	/** The node, or <code>null</code> if the candidate is a data.
+	 */
+	final N node;
+
+	/** The data, or <code>null</code> if the candidate is a node.
+	 */
+	final D data;
+
+	/** Squared distance to the candidate. For the nodes, it is a lower bound of the distances
+	 * to the data inside the node.
+	 */
+	final double distance;
+
+	/** Indicates if the data of the node may be outside the region of the node.
+	 */
+	final boolean unbounded;
+
+	/** Construct a candidate for a node.
+	 *
+	 * @param node the node.
+	 * @param distance the squared distance to the region of the node.
+	 * @param unbounded indicates if the data of the node may be outside the region of the node.
+	 */
+	NearestNeighborCandidate(N node, double distance, boolean unbounded) {
+		this.node = node;
+		this.data = null;
+		this.distance = distance;
+		this.unbounded = unbounded;
+	}
+
+	/** Construct a candidate for a data.
+	 *
+	 * @param data the data.
+	 * @param distance the squared distance to the data.
+	 */
+	NearestNeighborCandidate(D data, double distance) {
+		this.node = null;
+		this.data = data;
+		this.distance = distance;
+		this.unbounded = false;
+	}
+
+	@Pure
+	@Override
+	public int compareTo(NearestNeighborCandidate<N, D> other) {
+		final int cmp = Double.compare(this.distance, other.distance);
+		if (cmp != 0) {
+			return cmp;
+		}
+		// Data are replied before the nodes at the same distance
+		if (this.data != null) {
+			return other.data != null ? 0 : -1;
+		}
+		return other.data != null ? 1 : 0;
+	}
+
+}
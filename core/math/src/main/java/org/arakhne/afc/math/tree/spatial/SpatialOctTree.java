@@ -0,0 +1,468 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree.spatial;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d3.Point3D;
+import org.arakhne.afc.math.geometry.d3.afp.RectangularPrism3afp;
+import org.arakhne.afc.math.geometry.d3.afp.Shape3afp;
+import org.arakhne.afc.math.geometry.d3.afp.Sphere3afp;
+import org.arakhne.afc.math.tree.LinkedTree;
+import org.arakhne.afc.math.tree.node.IcosepOctTreeNode.IcosepOctTreeZone;
+
+/**
+ * Point-region octree that is indexing 3D shapes.
+ *
+ * <p>The tree covers a fixed box of the space. A leaf node is split into eight
+ * octants when it contains more objects than the {@link #getSplittingCount() splitting count},
+ * and when its depth is lower than the {@link #getMaxDepth() maximal depth}. The objects that
+ * are intersecting the split planes of a node are stored into the icosep child of the node. The
+ * objects that are not entirely inside the region of the tree are stored into the root node
+ * or into its icosep child.
+ *
+ * <p>The objects are indexed according to their bounding boxes. When the geometry of an object
+ * is changed, {@link #move(Shape3afp)} must be invoked for updating the index.
+ *
+ * @param <D> is the type of the data inside the tree
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see SpatialOctTreeBuilder
+ */
+public class SpatialOctTree<D extends Shape3afp<?, ?, ?, ?, ?, ?>> extends LinkedTree<D, SpatialOctTreeNode<D>> {
+
+	/** Default count of objects in a leaf over which the leaf is split.
+	 */
+	public static final int DEFAULT_SPLITTING_COUNT = 16;
+
+	/** Default maximal depth of the tree.
+	 */
+	public static final int DEFAULT_MAX_DEPTH = 16;
+
+	private static final long serialVersionUID = -4726391158203917741L;
+
+	private final int splittingCount;
+
+	private final int maxDepth;
+
+	private final Map<D, SpatialOctTreeNode<D>> locations = new IdentityHashMap<>();
+
+	/** Construct an empty tree with the default splitting count and maximal depth.
+	 *
+	 * @param region is the region covered by the tree.
+	 */
+	public SpatialOctTree(RectangularPrism3afp<?, ?, ?, ?, ?, ?> region) {
+		this(region.getMinX(), region.getMinY(), region.getMinZ(), region.getMaxX(), region.getMaxY(), region.getMaxZ(),
+				DEFAULT_SPLITTING_COUNT, DEFAULT_MAX_DEPTH);
+	}
+
+	/** Construct an empty tree.
+	 *
+	 * @param minX is the lower x coordinate of the region covered by the tree.
+	 * @param minY is the lower y coordinate of the region covered by the tree.
+	 * @param minZ is the lower z coordinate of the region covered by the tree.
+	 * @param maxX is the upper x coordinate of the region covered by the tree.
+	 * @param maxY is the upper y coordinate of the region covered by the tree.
+	 * @param maxZ is the upper z coordinate of the region covered by the tree.
+	 * @param splittingCount1 is the count of objects in a leaf over which the leaf is split.
+	 * @param maxDepth1 is the maximal depth of the tree.
+	 */
+	public SpatialOctTree(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+			int splittingCount1, int maxDepth1) {
+		super(new SpatialOctTreeNode<>(minX, minY, minZ, maxX, maxY, maxZ, false));
+		assert splittingCount1 > 0;
+		assert maxDepth1 >= 0;
+		this.splittingCount = splittingCount1;
+		this.maxDepth = maxDepth1;
+	}
+
+	/** Replies the count of objects in a leaf over which the leaf is split.
+	 *
+	 * @return the splitting count.
+	 */
+	@Pure
+	public int getSplittingCount() {
+		return this.splittingCount;
+	}
+
+	/** Replies the maximal depth of the tree.
+	 *
+	 * @return the maximal depth.
+	 */
+	@Pure
+	public int getMaxDepth() {
+		return this.maxDepth;
+	}
+
+	/** Remove all the objects from the tree. The region covered by the tree is unchanged.
+	 */
+	@Override
+	public void clear() {
+		final SpatialOctTreeNode<D> root = getRoot();
+		super.clear();
+		this.locations.clear();
+		setRoot(new SpatialOctTreeNode<>(root.getMinX(), root.getMinY(), root.getMinZ(),
+				root.getMaxX(), root.getMaxY(), root.getMaxZ(), false));
+	}
+
+	/** Replies if the given object is inside the tree.
+	 *
+	 * @param data the object.
+	 * @return <code>true</code> if the object is inside the tree.
+	 */
+	@Pure
+	public boolean contains(D data) {
+		return this.locations.containsKey(data);
+	}
+
+	/** Replies the node that contains the given object.
+	 *
+	 * @param data the object.
+	 * @return the node, or <code>null</code> if the object is not inside the tree.
+	 */
+	@Pure
+	public SpatialOctTreeNode<D> getNodeFor(D data) {
+		return this.locations.get(data);
+	}
+
+	/** Add an object into the tree.
+	 *
+	 * @param data the object to add.
+	 * @return <code>true</code> if the object was added, <code>false</code> if it
+	 *     is already inside the tree.
+	 */
+	public boolean add(D data) {
+		assert data != null;
+		if (this.locations.containsKey(data)) {
+			return false;
+		}
+		insert(data, data.toBoundingBox());
+		return true;
+	}
+
+	/** Remove an object from the tree.
+	 *
+	 * @param data the object to remove.
+	 * @return <code>true</code> if the object was removed, <code>false</code> if it
+	 *     is not inside the tree.
+	 */
+	public boolean remove(D data) {
+		final SpatialOctTreeNode<D> node = this.locations.remove(data);
+		if (node == null) {
+			return false;
+		}
+		removeFromNode(node, data);
+		prune(node);
+		return true;
+	}
+
+	/** Update the location of the given object in the tree after a change of its geometry.
+	 *
+	 * @param data the object that has moved.
+	 * @return <code>true</code> if the object is inside the tree, <code>false</code> otherwise.
+	 */
+	public boolean move(D data) {
+		final SpatialOctTreeNode<D> node = this.locations.get(data);
+		if (node == null) {
+			return false;
+		}
+		final RectangularPrism3afp<?, ?, ?, ?, ?, ?> box = data.toBoundingBox();
+		if (isInsertionNode(node, box)) {
+			return true;
+		}
+		removeFromNode(node, data);
+		prune(node);
+		insert(data, box);
+		return true;
+	}
+
+	/** Replies the objects that are intersecting the given box.
+	 *
+	 * @param area the box.
+	 * @return the objects intersecting the box.
+	 */
+	@Pure
+	public List<D> getDataIntersecting(RectangularPrism3afp<?, ?, ?, ?, ?, ?> area) {
+		final List<D> result = new ArrayList<>();
+		final double[] bounds = {area.getMinX(), area.getMinY(), area.getMinZ(), area.getMaxX(), area.getMaxY(), area.getMaxZ()};
+		collectIntersecting(getRoot(), true, area, bounds, result);
+		return result;
+	}
+
+	/** Replies the objects that are intersecting the given sphere.
+	 *
+	 * @param area the sphere.
+	 * @return the objects intersecting the sphere.
+	 */
+	@Pure
+	public List<D> getDataIntersecting(Sphere3afp<?, ?, ?, ?, ?, ?> area) {
+		final List<D> result = new ArrayList<>();
+		final double radius = area.getRadius();
+		collectIntersecting(getRoot(), true, area, area.getX(), area.getY(), area.getZ(), radius * radius, result);
+		return result;
+	}
+
+	@SuppressWarnings("checkstyle:magicnumber")
+	private void collectIntersecting(SpatialOctTreeNode<D> node, boolean unbounded,
+			RectangularPrism3afp<?, ?, ?, ?, ?, ?> area, double[] bounds, List<D> result) {
+		final int count = node.getUserDataCount();
+		for (int i = 0; i < count; ++i) {
+			final D data = node.getUserDataAt(i);
+			if (data.intersects(area)) {
+				result.add(data);
+			}
+		}
+		final int childCount = node.getChildCount();
+		for (int i = 0; i < childCount; ++i) {
+			final SpatialOctTreeNode<D> child = node.getChildAt(i);
+			if (child != null) {
+				final boolean unboundedChild = unbounded && child.isIcosepNode();
+				if (unboundedChild || child.intersectsRegion(bounds[0], bounds[1], bounds[2], bounds[3], bounds[4], bounds[5])) {
+					collectIntersecting(child, unboundedChild, area, bounds, result);
+				}
+			}
+		}
+	}
+
+	private void collectIntersecting(SpatialOctTreeNode<D> node, boolean unbounded,
+			Sphere3afp<?, ?, ?, ?, ?, ?> area, double x, double y, double z, double squaredRadius, List<D> result) {
+		final int count = node.getUserDataCount();
+		for (int i = 0; i < count; ++i) {
+			final D data = node.getUserDataAt(i);
+			if (data.intersects(area)) {
+				result.add(data);
+			}
+		}
+		final int childCount = node.getChildCount();
+		for (int i = 0; i < childCount; ++i) {
+			final SpatialOctTreeNode<D> child = node.getChildAt(i);
+			if (child != null) {
+				final boolean unboundedChild = unbounded && child.isIcosepNode();
+				if (unboundedChild || child.getRegionDistanceSquared(x, y, z) <= squaredRadius) {
+					collectIntersecting(child, unboundedChild, area, x, y, z, squaredRadius, result);
+				}
+			}
+		}
+	}
+
+	/** Replies the objects that are the nearest to the given point.
+	 *
+	 * <p>The search is a best-first traversal of the tree: the nodes are explored according
+	 * to the distance between their regions and the point.
+	 *
+	 * @param point the point.
+	 * @param count the maximal count of objects to reply.
+	 * @return the nearest objects, sorted by increasing distances.
+	 */
+	@Pure
+	public List<D> getNearestData(Point3D<?, ?> point, int count) {
+		final List<D> result = new ArrayList<>(Math.max(0, count));
+		final PriorityQueue<NearestNeighborCandidate<SpatialOctTreeNode<D>, D>> queue = new PriorityQueue<>();
+		queue.add(new NearestNeighborCandidate<>(getRoot(), 0., true));
+		final double x = point.getX();
+		final double y = point.getY();
+		final double z = point.getZ();
+		while (result.size() < count && !queue.isEmpty()) {
+			final NearestNeighborCandidate<SpatialOctTreeNode<D>, D> candidate = queue.poll();
+			if (candidate.data != null) {
+				result.add(candidate.data);
+			} else {
+				final SpatialOctTreeNode<D> node = candidate.node;
+				final int dataCount = node.getUserDataCount();
+				for (int i = 0; i < dataCount; ++i) {
+					final D data = node.getUserDataAt(i);
+					queue.add(new NearestNeighborCandidate<>(data, data.getDistanceSquared(point)));
+				}
+				final int childCount = node.getChildCount();
+				for (int i = 0; i < childCount; ++i) {
+					final SpatialOctTreeNode<D> child = node.getChildAt(i);
+					if (child != null) {
+						final boolean unboundedChild = candidate.unbounded && child.isIcosepNode();
+						final double distance = unboundedChild ? 0. : child.getRegionDistanceSquared(x, y, z);
+						queue.add(new NearestNeighborCandidate<>(child, distance, unboundedChild));
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/** Load the given objects into the tree by partitioning them from the root.
+	 * The tree must be empty.
+	 *
+	 * @param data the objects to load.
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	void load(List<? extends D> data) {
+		assert getRoot().isLeaf() && getRoot().getUserDataCount() == 0;
+		final int size = data.size();
+		final List<D> objects = new ArrayList<>(size);
+		final double[] boxes = new double[size * 6];
+		int j = 0;
+		for (final D object : data) {
+			if (!this.locations.containsKey(object)) {
+				final RectangularPrism3afp<?, ?, ?, ?, ?, ?> box = object.toBoundingBox();
+				boxes[j++] = box.getMinX();
+				boxes[j++] = box.getMinY();
+				boxes[j++] = box.getMinZ();
+				boxes[j++] = box.getMaxX();
+				boxes[j++] = box.getMaxY();
+				boxes[j++] = box.getMaxZ();
+				// Register the object for ignoring the duplicates
+				this.locations.put(object, getRoot());
+				objects.add(object);
+			}
+		}
+		final int[] indexes = new int[objects.size()];
+		for (int i = 0; i < indexes.length; ++i) {
+			indexes[i] = i;
+		}
+		load(getRoot(), 0, objects, boxes, indexes);
+	}
+
+	@SuppressWarnings("checkstyle:magicnumber")
+	private void load(SpatialOctTreeNode<D> node, int depth, List<D> objects, double[] boxes, int[] indexes) {
+		if (indexes.length <= this.splittingCount || depth >= this.maxDepth) {
+			for (final int index : indexes) {
+				addToNode(node, objects.get(index));
+			}
+			return;
+		}
+		final int zoneCount = IcosepOctTreeZone.values().length;
+		final int[] zones = new int[indexes.length];
+		final int[] counts = new int[zoneCount];
+		for (int i = 0; i < indexes.length; ++i) {
+			final int offset = indexes[i] * 6;
+			zones[i] = node.getZoneFor(boxes[offset], boxes[offset + 1], boxes[offset + 2],
+					boxes[offset + 3], boxes[offset + 4], boxes[offset + 5]);
+			++counts[zones[i]];
+		}
+		for (int zone = 0; zone < zoneCount; ++zone) {
+			if (counts[zone] > 0) {
+				final int[] subset = new int[counts[zone]];
+				int k = 0;
+				for (int i = 0; i < indexes.length; ++i) {
+					if (zones[i] == zone) {
+						subset[k++] = indexes[i];
+					}
+				}
+				final SpatialOctTreeNode<D> child = node.newChild(zone);
+				if (child.isIcosepNode()) {
+					load(child, this.maxDepth, objects, boxes, subset);
+				} else {
+					load(child, depth + 1, objects, boxes, subset);
+				}
+				node.setChildAt(zone, child);
+			}
+		}
+	}
+
+	private void insert(D data, RectangularPrism3afp<?, ?, ?, ?, ?, ?> box) {
+		SpatialOctTreeNode<D> node = getRoot();
+		int depth = 0;
+		while (!node.isLeaf()) {
+			node = node.getOrCreateChild(node.getZoneFor(box));
+			++depth;
+		}
+		addToNode(node, data);
+		if (!node.isIcosepNode() && node.getUserDataCount() > this.splittingCount && depth < this.maxDepth) {
+			split(node, depth);
+		}
+	}
+
+	private void split(SpatialOctTreeNode<D> node, int depth) {
+		final List<D> objects = new ArrayList<>(node.getAllUserData());
+		node.removeAllUserData();
+		for (final D data : objects) {
+			addToNode(node.getOrCreateChild(node.getZoneFor(data.toBoundingBox())), data);
+		}
+		final int childCount = node.getChildCount();
+		for (int i = 0; i < childCount; ++i) {
+			final SpatialOctTreeNode<D> child = node.getChildAt(i);
+			if (child != null && !child.isIcosepNode() && child.getUserDataCount() > this.splittingCount
+					&& depth + 1 < this.maxDepth) {
+				split(child, depth + 1);
+			}
+		}
+	}
+
+	/** Replies if the given node is the node in which an object with the given box is inserted.
+	 *
+	 * @param node the node that is containing data.
+	 * @param box the box of the object.
+	 * @return <code>true</code> if the object would be inserted into the node.
+	 */
+	@Pure
+	private boolean isInsertionNode(SpatialOctTreeNode<D> node, RectangularPrism3afp<?, ?, ?, ?, ?, ?> box) {
+		if (!node.isLeaf()) {
+			return false;
+		}
+		final SpatialOctTreeNode<D> parent = node.getParentNode();
+		if (parent == null) {
+			return true;
+		}
+		final boolean inside = node.containsBox(box.getMinX(), box.getMinY(), box.getMinZ(),
+				box.getMaxX(), box.getMaxY(), box.getMaxZ());
+		if (node.isIcosepNode()) {
+			return parent.getZoneFor(box) == IcosepOctTreeZone.ICOSEP.ordinal() && (inside || parent == getRoot());
+		}
+		return inside;
+	}
+
+	private void addToNode(SpatialOctTreeNode<D> node, D data) {
+		node.addUserData(data);
+		this.locations.put(data, node);
+	}
+
+	private static <D> void removeFromNode(SpatialOctTreeNode<?> node, D data) {
+		final int count = node.getUserDataCount();
+		for (int i = 0; i < count; ++i) {
+			if (node.getUserDataAt(i) == data) {
+				node.removeUserData(i);
+				return;
+			}
+		}
+	}
+
+	/** Remove the empty nodes from the given node to the root.
+	 *
+	 * @param node the node to start from.
+	 */
+	private void prune(SpatialOctTreeNode<D> node) {
+		final SpatialOctTreeNode<D> root = getRoot();
+		SpatialOctTreeNode<D> current = node;
+		while (current != root && current.isLeaf() && current.getUserDataCount() == 0) {
+			final SpatialOctTreeNode<D> parent = current.getParentNode();
+			parent.removeChild(current);
+			current = parent;
+		}
+	}
+
+}
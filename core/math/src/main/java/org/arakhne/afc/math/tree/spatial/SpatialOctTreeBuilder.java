@@ -0,0 +1,108 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree.spatial;
+
+import java.util.List;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d3.afp.RectangularPrism3afp;
+import org.arakhne.afc.math.geometry.d3.afp.Shape3afp;
+import org.arakhne.afc.math.tree.builder.TreeBuilder;
+import org.arakhne.afc.math.tree.builder.TreeBuilderException;
+
+/**
+ * Builder of {@link SpatialOctTree}.
+ *
+ * <p>The region of the built tree is the bounding box of the given objects. The objects
+ * are loaded in bulk: they are recursively partitioned from the root, so that the leaves are
+ * not split many times as when the objects are added one by one.
+ *
+ * @param <D> is the type of the data inside the tree
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public class SpatialOctTreeBuilder<D extends Shape3afp<?, ?, ?, ?, ?, ?>> implements TreeBuilder<D, SpatialOctTree<D>> {
+
+	private int splittingCount = SpatialOctTree.DEFAULT_SPLITTING_COUNT;
+
+	private int maxDepth = SpatialOctTree.DEFAULT_MAX_DEPTH;
+
+	@Override
+	public SpatialOctTree<D> buildTree(List<? extends D> worldEntities) throws TreeBuilderException {
+		if (worldEntities == null || worldEntities.isEmpty()) {
+			throw new TreeBuilderException.EmptyBoundingBoxException();
+		}
+		double minx = Double.POSITIVE_INFINITY;
+		double miny = Double.POSITIVE_INFINITY;
+		double minz = Double.POSITIVE_INFINITY;
+		double maxx = Double.NEGATIVE_INFINITY;
+		double maxy = Double.NEGATIVE_INFINITY;
+		double maxz = Double.NEGATIVE_INFINITY;
+		for (final D entity : worldEntities) {
+			final RectangularPrism3afp<?, ?, ?, ?, ?, ?> box = entity.toBoundingBox();
+			minx = Math.min(minx, box.getMinX());
+			miny = Math.min(miny, box.getMinY());
+			minz = Math.min(minz, box.getMinZ());
+			maxx = Math.max(maxx, box.getMaxX());
+			maxy = Math.max(maxy, box.getMaxY());
+			maxz = Math.max(maxz, box.getMaxZ());
+		}
+		final SpatialOctTree<D> tree = new SpatialOctTree<>(minx, miny, minz, maxx, maxy, maxz,
+				this.splittingCount, this.maxDepth);
+		tree.load(worldEntities);
+		return tree;
+	}
+
+	@Override
+	public void setSplittingCount(int count) {
+		assert count > 0;
+		this.splittingCount = count;
+	}
+
+	@Pure
+	@Override
+	public int getSplittingCount() {
+		return this.splittingCount;
+	}
+
+	/** Set the maximal depth of the built trees.
+	 *
+	 * @param depth the maximal depth.
+	 */
+	public void setMaxDepth(int depth) {
+		assert depth >= 0;
+		this.maxDepth = depth;
+	}
+
+	/** Replies the maximal depth of the built trees.
+	 *
+	 * @return the maximal depth.
+	 */
+	@Pure
+	public int getMaxDepth() {
+		return this.maxDepth;
+	}
+
+}
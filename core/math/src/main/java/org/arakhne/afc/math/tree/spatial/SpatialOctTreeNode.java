@@ -0,0 +1,280 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree.spatial;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d3.afp.RectangularPrism3afp;
+import org.arakhne.afc.math.geometry.d3.afp.Shape3afp;
+import org.arakhne.afc.math.tree.node.IcosepOctTreeNode;
+
+/**
+ * Node of a {@link SpatialOctTree}.
+ *
+ * <p>Each node covers a box of the space. The eight octants of the node split its box
+ * at its center. The icosep child of the node has the same box as the node, and it contains
+ * the objects that are intersecting the split planes.
+ *
+ * <p>The north octants are the octants with the highest y coordinates, the east octants
+ * are the octants with the highest x coordinates, and the back octants are the octants
+ * with the highest z coordinates.
+ *
+ * @param <D> is the type of the data inside the tree
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public class SpatialOctTreeNode<D extends Shape3afp<?, ?, ?, ?, ?, ?>>
+		extends IcosepOctTreeNode<D, SpatialOctTreeNode<D>> {
+
+	private static final long serialVersionUID = 6001416418834419557L;
+
+	private final double minX;
+
+	private final double minY;
+
+	private final double minZ;
+
+	private final double maxX;
+
+	private final double maxY;
+
+	private final double maxZ;
+
+	private final boolean icosep;
+
+	/** Construct a node.
+	 *
+	 * @param minX1 is the lower x coordinate of the box covered by the node.
+	 * @param minY1 is the lower y coordinate of the box covered by the node.
+	 * @param minZ1 is the lower z coordinate of the box covered by the node.
+	 * @param maxX1 is the upper x coordinate of the box covered by the node.
+	 * @param maxY1 is the upper y coordinate of the box covered by the node.
+	 * @param maxZ1 is the upper z coordinate of the box covered by the node.
+	 * @param icosep1 indicates if the node is an icosep node.
+	 */
+	SpatialOctTreeNode(double minX1, double minY1, double minZ1, double maxX1, double maxY1, double maxZ1,
+			boolean icosep1) {
+		super(false);
+		assert minX1 <= maxX1 && minY1 <= maxY1 && minZ1 <= maxZ1;
+		this.minX = minX1;
+		this.minY = minY1;
+		this.minZ = minZ1;
+		this.maxX = maxX1;
+		this.maxY = maxY1;
+		this.maxZ = maxZ1;
+		this.icosep = icosep1;
+	}
+
+	/** Replies the lower x coordinate of the box covered by this node.
+	 *
+	 * @return the lower x coordinate.
+	 */
+	@Pure
+	public double getMinX() {
+		return this.minX;
+	}
+
+	/** Replies the lower y coordinate of the box covered by this node.
+	 *
+	 * @return the lower y coordinate.
+	 */
+	@Pure
+	public double getMinY() {
+		return this.minY;
+	}
+
+	/** Replies the lower z coordinate of the box covered by this node.
+	 *
+	 * @return the lower z coordinate.
+	 */
+	@Pure
+	public double getMinZ() {
+		return this.minZ;
+	}
+
+	/** Replies the upper x coordinate of the box covered by this node.
+	 *
+	 * @return the upper x coordinate.
+	 */
+	@Pure
+	public double getMaxX() {
+		return this.maxX;
+	}
+
+	/** Replies the upper y coordinate of the box covered by this node.
+	 *
+	 * @return the upper y coordinate.
+	 */
+	@Pure
+	public double getMaxY() {
+		return this.maxY;
+	}
+
+	/** Replies the upper z coordinate of the box covered by this node.
+	 *
+	 * @return the upper z coordinate.
+	 */
+	@Pure
+	public double getMaxZ() {
+		return this.maxZ;
+	}
+
+	/** Replies if this node is the icosep child of its parent.
+	 *
+	 * @return <code>true</code> if this node contains the objects intersecting the split planes
+	 *     of its parent.
+	 */
+	@Pure
+	public boolean isIcosepNode() {
+		return this.icosep;
+	}
+
+	/** Replies the zone of this node in which a box must be stored.
+	 *
+	 * @param box the box.
+	 * @return the ordinal value of the zone.
+	 */
+	@Pure
+	int getZoneFor(RectangularPrism3afp<?, ?, ?, ?, ?, ?> box) {
+		return getZoneFor(box.getMinX(), box.getMinY(), box.getMinZ(), box.getMaxX(), box.getMaxY(), box.getMaxZ());
+	}
+
+	/** Replies the zone of this node in which a box must be stored.
+	 *
+	 * @param bminx the lower x coordinate of the box.
+	 * @param bminy the lower y coordinate of the box.
+	 * @param bminz the lower z coordinate of the box.
+	 * @param bmaxx the upper x coordinate of the box.
+	 * @param bmaxy the upper y coordinate of the box.
+	 * @param bmaxz the upper z coordinate of the box.
+	 * @return the ordinal value of the zone.
+	 */
+	@Pure
+	@SuppressWarnings("checkstyle:magicnumber")
+	int getZoneFor(double bminx, double bminy, double bminz, double bmaxx, double bmaxy, double bmaxz) {
+		if (!containsBox(bminx, bminy, bminz, bmaxx, bmaxy, bmaxz)) {
+			return IcosepOctTreeZone.ICOSEP.ordinal();
+		}
+		final double cx = (this.minX + this.maxX) / 2.;
+		final double cy = (this.minY + this.maxY) / 2.;
+		final double cz = (this.minZ + this.maxZ) / 2.;
+		final boolean west = bmaxx <= cx;
+		final boolean north = bminy >= cy;
+		final boolean back = bminz >= cz;
+		if ((!west && bminx < cx) || (!north && bmaxy > cy) || (!back && bmaxz > cz)) {
+			return IcosepOctTreeZone.ICOSEP.ordinal();
+		}
+		// The octree zones are ordered as: north/south, then west/east, then front/back.
+		return (north ? 0 : 4) + (west ? 0 : 2) + (back ? 1 : 0);
+	}
+
+	/** Create the child node for the given zone. The child is not attached to this node.
+	 *
+	 * @param zone the ordinal value of the zone.
+	 * @return the new child.
+	 */
+	@SuppressWarnings({"checkstyle:magicnumber", "checkstyle:npathcomplexity"})
+	SpatialOctTreeNode<D> newChild(int zone) {
+		if (zone == IcosepOctTreeZone.ICOSEP.ordinal()) {
+			return new SpatialOctTreeNode<>(this.minX, this.minY, this.minZ, this.maxX, this.maxY, this.maxZ, true);
+		}
+		if (zone < 0 || zone > IcosepOctTreeZone.ICOSEP.ordinal()) {
+			throw new IllegalArgumentException();
+		}
+		final double cx = (this.minX + this.maxX) / 2.;
+		final double cy = (this.minY + this.maxY) / 2.;
+		final double cz = (this.minZ + this.maxZ) / 2.;
+		final boolean south = (zone & 4) != 0;
+		final boolean east = (zone & 2) != 0;
+		final boolean back = (zone & 1) != 0;
+		return new SpatialOctTreeNode<>(
+				east ? cx : this.minX, south ? this.minY : cy, back ? cz : this.minZ,
+				east ? this.maxX : cx, south ? cy : this.maxY, back ? this.maxZ : cz,
+				false);
+	}
+
+	/** Replies the child for the given zone, and create it if it does not exist.
+	 *
+	 * @param zone the ordinal value of the zone.
+	 * @return the child.
+	 */
+	SpatialOctTreeNode<D> getOrCreateChild(int zone) {
+		SpatialOctTreeNode<D> child = getChildAt(zone);
+		if (child == null) {
+			child = newChild(zone);
+			setChildAt(zone, child);
+		}
+		return child;
+	}
+
+	/** Replies if the box of this node is intersecting the given box.
+	 * The borders of the boxes are included.
+	 *
+	 * @param bminx the lower x coordinate of the box.
+	 * @param bminy the lower y coordinate of the box.
+	 * @param bminz the lower z coordinate of the box.
+	 * @param bmaxx the upper x coordinate of the box.
+	 * @param bmaxy the upper y coordinate of the box.
+	 * @param bmaxz the upper z coordinate of the box.
+	 * @return <code>true</code> if the boxes are intersecting.
+	 */
+	@Pure
+	boolean intersectsRegion(double bminx, double bminy, double bminz, double bmaxx, double bmaxy, double bmaxz) {
+		return bmaxx >= this.minX && bminx <= this.maxX && bmaxy >= this.minY && bminy <= this.maxY
+				&& bmaxz >= this.minZ && bminz <= this.maxZ;
+	}
+
+	/** Replies if the box of this node is containing the given box.
+	 * The borders of the boxes are included.
+	 *
+	 * @param bminx the lower x coordinate of the box.
+	 * @param bminy the lower y coordinate of the box.
+	 * @param bminz the lower z coordinate of the box.
+	 * @param bmaxx the upper x coordinate of the box.
+	 * @param bmaxy the upper y coordinate of the box.
+	 * @param bmaxz the upper z coordinate of the box.
+	 * @return <code>true</code> if the box of this node is containing the given box.
+	 */
+	@Pure
+	boolean containsBox(double bminx, double bminy, double bminz, double bmaxx, double bmaxy, double bmaxz) {
+		return bminx >= this.minX && bmaxx <= this.maxX && bminy >= this.minY && bmaxy <= this.maxY
+				&& bminz >= this.minZ && bmaxz <= this.maxZ;
+	}
+
+	/** Replies the squared distance between the box of this node and the given point.
+	 *
+	 * @param x the x coordinate of the point.
+	 * @param y the y coordinate of the point.
+	 * @param z the z coordinate of the point.
+	 * @return the squared distance.
+	 */
+	@Pure
+	double getRegionDistanceSquared(double x, double y, double z) {
+		final double dx = Math.max(0., Math.max(this.minX - x, x - this.maxX));
+		final double dy = Math.max(0., Math.max(this.minY - y, y - this.maxY));
+		final double dz = Math.max(0., Math.max(this.minZ - z, z - this.maxZ));
+		return dx * dx + dy * dy + dz * dz;
+	}
+
+}
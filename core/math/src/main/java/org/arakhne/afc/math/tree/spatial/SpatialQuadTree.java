@@ -0,0 +1,457 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree.spatial;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d2.Point2D;
+import org.arakhne.afc.math.geometry.d2.afp.Circle2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Shape2afp;
+import org.arakhne.afc.math.tree.LinkedTree;
+import org.arakhne.afc.math.tree.node.IcosepQuadTreeNode.IcosepQuadTreeZone;
+
+/**
+ * Point-region quadtree that is indexing 2D shapes.
+ *
+ * <p>The tree covers a fixed rectangular region of the space. A leaf node is split into four
+ * quadrants when it contains more objects than the {@link #getSplittingCount() splitting count},
+ * and when its depth is lower than the {@link #getMaxDepth() maximal depth}. The objects that
+ * are intersecting the split lines of a node are stored into the icosep child of the node. The
+ * objects that are not entirely inside the region of the tree are stored into the root node
+ * or into its icosep child.
+ *
+ * <p>The objects are indexed according to their bounding boxes. When the geometry of an object
+ * is changed, {@link #move(Shape2afp)} must be invoked for updating the index.
+ *
+ * @param <D> is the type of the data inside the tree
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ * @see SpatialQuadTreeBuilder
+ */
+public class SpatialQuadTree<D extends Shape2afp<?, ?, ?, ?, ?, ?>> extends LinkedTree<D, SpatialQuadTreeNode<D>> {
+
+	/** Default count of objects in a leaf over which the leaf is split.
+	 */
+	public static final int DEFAULT_SPLITTING_COUNT = 16;
+
+	/** Default maximal depth of the tree.
+	 */
+	public static final int DEFAULT_MAX_DEPTH = 16;
+
+	private static final long serialVersionUID = 1318216539024358316L;
+
+	private final int splittingCount;
+
+	private final int maxDepth;
+
+	private final Map<D, SpatialQuadTreeNode<D>> locations = new IdentityHashMap<>();
+
+	/** Construct an empty tree with the default splitting count and maximal depth.
+	 *
+	 * @param region is the region covered by the tree.
+	 */
+	public SpatialQuadTree(Rectangle2afp<?, ?, ?, ?, ?, ?> region) {
+		this(region.getMinX(), region.getMinY(), region.getMaxX(), region.getMaxY(),
+				DEFAULT_SPLITTING_COUNT, DEFAULT_MAX_DEPTH);
+	}
+
+	/** Construct an empty tree.
+	 *
+	 * @param minX is the lower x coordinate of the region covered by the tree.
+	 * @param minY is the lower y coordinate of the region covered by the tree.
+	 * @param maxX is the upper x coordinate of the region covered by the tree.
+	 * @param maxY is the upper y coordinate of the region covered by the tree.
+	 * @param splittingCount1 is the count of objects in a leaf over which the leaf is split.
+	 * @param maxDepth1 is the maximal depth of the tree.
+	 */
+	public SpatialQuadTree(double minX, double minY, double maxX, double maxY, int splittingCount1, int maxDepth1) {
+		super(new SpatialQuadTreeNode<>(minX, minY, maxX, maxY, false));
+		assert splittingCount1 > 0;
+		assert maxDepth1 >= 0;
+		this.splittingCount = splittingCount1;
+		this.maxDepth = maxDepth1;
+	}
+
+	/** Replies the count of objects in a leaf over which the leaf is split.
+	 *
+	 * @return the splitting count.
+	 */
+	@Pure
+	public int getSplittingCount() {
+		return this.splittingCount;
+	}
+
+	/** Replies the maximal depth of the tree.
+	 *
+	 * @return the maximal depth.
+	 */
+	@Pure
+	public int getMaxDepth() {
+		return this.maxDepth;
+	}
+
+	/** Remove all the objects from the tree. The region covered by the tree is unchanged.
+	 */
+	@Override
+	public void clear() {
+		final SpatialQuadTreeNode<D> root = getRoot();
+		super.clear();
+		this.locations.clear();
+		setRoot(new SpatialQuadTreeNode<>(root.getMinX(), root.getMinY(), root.getMaxX(), root.getMaxY(), false));
+	}
+
+	/** Replies if the given object is inside the tree.
+	 *
+	 * @param data the object.
+	 * @return <code>true</code> if the object is inside the tree.
+	 */
+	@Pure
+	public boolean contains(D data) {
+		return this.locations.containsKey(data);
+	}
+
+	/** Replies the node that contains the given object.
+	 *
+	 * @param data the object.
+	 * @return the node, or <code>null</code> if the object is not inside the tree.
+	 */
+	@Pure
+	public SpatialQuadTreeNode<D> getNodeFor(D data) {
+		return this.locations.get(data);
+	}
+
+	/** Add an object into the tree.
+	 *
+	 * @param data the object to add.
+	 * @return <code>true</code> if the object was added, <code>false</code> if it
+	 *     is already inside the tree.
+	 */
+	public boolean add(D data) {
+		assert data != null;
+		if (this.locations.containsKey(data)) {
+			return false;
+		}
+		insert(data, data.toBoundingBox());
+		return true;
+	}
+
+	/** Remove an object from the tree.
+	 *
+	 * @param data the object to remove.
+	 * @return <code>true</code> if the object was removed, <code>false</code> if it
+	 *     is not inside the tree.
+	 */
+	public boolean remove(D data) {
+		final SpatialQuadTreeNode<D> node = this.locations.remove(data);
+		if (node == null) {
+			return false;
+		}
+		removeFromNode(node, data);
+		prune(node);
+		return true;
+	}
+
+	/** Update the location of the given object in the tree after a change of its geometry.
+	 *
+	 * @param data the object that has moved.
+	 * @return <code>true</code> if the object is inside the tree, <code>false</code> otherwise.
+	 */
+	public boolean move(D data) {
+		final SpatialQuadTreeNode<D> node = this.locations.get(data);
+		if (node == null) {
+			return false;
+		}
+		final Rectangle2afp<?, ?, ?, ?, ?, ?> box = data.toBoundingBox();
+		if (isInsertionNode(node, box)) {
+			return true;
+		}
+		removeFromNode(node, data);
+		prune(node);
+		insert(data, box);
+		return true;
+	}
+
+	/** Replies the objects that are intersecting the given rectangle.
+	 *
+	 * @param area the rectangle.
+	 * @return the objects intersecting the rectangle.
+	 */
+	@Pure
+	public List<D> getDataIntersecting(Rectangle2afp<?, ?, ?, ?, ?, ?> area) {
+		final List<D> result = new ArrayList<>();
+		collectIntersecting(getRoot(), true, area, area.getMinX(), area.getMinY(), area.getMaxX(), area.getMaxY(), result);
+		return result;
+	}
+
+	/** Replies the objects that are intersecting the given circle.
+	 *
+	 * @param area the circle.
+	 * @return the objects intersecting the circle.
+	 */
+	@Pure
+	public List<D> getDataIntersecting(Circle2afp<?, ?, ?, ?, ?, ?> area) {
+		final List<D> result = new ArrayList<>();
+		final double radius = area.getRadius();
+		collectIntersecting(getRoot(), true, area, area.getX(), area.getY(), radius * radius, result);
+		return result;
+	}
+
+	private void collectIntersecting(SpatialQuadTreeNode<D> node, boolean unbounded,
+			Rectangle2afp<?, ?, ?, ?, ?, ?> area, double minx, double miny, double maxx, double maxy, List<D> result) {
+		final int count = node.getUserDataCount();
+		for (int i = 0; i < count; ++i) {
+			final D data = node.getUserDataAt(i);
+			if (data.intersects(area)) {
+				result.add(data);
+			}
+		}
+		final int childCount = node.getChildCount();
+		for (int i = 0; i < childCount; ++i) {
+			final SpatialQuadTreeNode<D> child = node.getChildAt(i);
+			if (child != null) {
+				final boolean unboundedChild = unbounded && child.isIcosepNode();
+				if (unboundedChild || child.intersectsRegion(minx, miny, maxx, maxy)) {
+					collectIntersecting(child, unboundedChild, area, minx, miny, maxx, maxy, result);
+				}
+			}
+		}
+	}
+
+	private void collectIntersecting(SpatialQuadTreeNode<D> node, boolean unbounded,
+			Circle2afp<?, ?, ?, ?, ?, ?> area, double x, double y, double squaredRadius, List<D> result) {
+		final int count = node.getUserDataCount();
+		for (int i = 0; i < count; ++i) {
+			final D data = node.getUserDataAt(i);
+			if (data.intersects(area)) {
+				result.add(data);
+			}
+		}
+		final int childCount = node.getChildCount();
+		for (int i = 0; i < childCount; ++i) {
+			final SpatialQuadTreeNode<D> child = node.getChildAt(i);
+			if (child != null) {
+				final boolean unboundedChild = unbounded && child.isIcosepNode();
+				if (unboundedChild || child.getRegionDistanceSquared(x, y) <= squaredRadius) {
+					collectIntersecting(child, unboundedChild, area, x, y, squaredRadius, result);
+				}
+			}
+		}
+	}
+
+	/** Replies the objects that are the nearest to the given point.
+	 *
+	 * <p>The search is a best-first traversal of the tree: the nodes are explored according
+	 * to the distance between their regions and the point.
+	 *
+	 * @param point the point.
+	 * @param count the maximal count of objects to reply.
+	 * @return the nearest objects, sorted by increasing distances.
+	 */
+	@Pure
+	public List<D> getNearestData(Point2D<?, ?> point, int count) {
+		final List<D> result = new ArrayList<>(Math.max(0, count));
+		final PriorityQueue<NearestNeighborCandidate<SpatialQuadTreeNode<D>, D>> queue = new PriorityQueue<>();
+		queue.add(new NearestNeighborCandidate<>(getRoot(), 0., true));
+		final double x = point.getX();
+		final double y = point.getY();
+		while (result.size() < count && !queue.isEmpty()) {
+			final NearestNeighborCandidate<SpatialQuadTreeNode<D>, D> candidate = queue.poll();
+			if (candidate.data != null) {
+				result.add(candidate.data);
+			} else {
+				final SpatialQuadTreeNode<D> node = candidate.node;
+				final int dataCount = node.getUserDataCount();
+				for (int i = 0; i < dataCount; ++i) {
+					final D data = node.getUserDataAt(i);
+					queue.add(new NearestNeighborCandidate<>(data, data.getDistanceSquared(point)));
+				}
+				final int childCount = node.getChildCount();
+				for (int i = 0; i < childCount; ++i) {
+					final SpatialQuadTreeNode<D> child = node.getChildAt(i);
+					if (child != null) {
+						final boolean unboundedChild = candidate.unbounded && child.isIcosepNode();
+						final double distance = unboundedChild ? 0. : child.getRegionDistanceSquared(x, y);
+						queue.add(new NearestNeighborCandidate<>(child, distance, unboundedChild));
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/** Load the given objects into the tree by partitioning them from the root.
+	 * The tree must be empty.
+	 *
+	 * @param data the objects to load.
+	 */
+	@SuppressWarnings("checkstyle:magicnumber")
+	void load(List<? extends D> data) {
+		assert getRoot().isLeaf() && getRoot().getUserDataCount() == 0;
+		final int size = data.size();
+		final List<D> objects = new ArrayList<>(size);
+		final double[] boxes = new double[size * 4];
+		int j = 0;
+		for (final D object : data) {
+			if (!this.locations.containsKey(object)) {
+				final Rectangle2afp<?, ?, ?, ?, ?, ?> box = object.toBoundingBox();
+				boxes[j++] = box.getMinX();
+				boxes[j++] = box.getMinY();
+				boxes[j++] = box.getMaxX();
+				boxes[j++] = box.getMaxY();
+				// Register the object for ignoring the duplicates
+				this.locations.put(object, getRoot());
+				objects.add(object);
+			}
+		}
+		final int[] indexes = new int[objects.size()];
+		for (int i = 0; i < indexes.length; ++i) {
+			indexes[i] = i;
+		}
+		load(getRoot(), 0, objects, boxes, indexes);
+	}
+
+	@SuppressWarnings("checkstyle:magicnumber")
+	private void load(SpatialQuadTreeNode<D> node, int depth, List<D> objects, double[] boxes, int[] indexes) {
+		if (indexes.length <= this.splittingCount || depth >= this.maxDepth) {
+			for (final int index : indexes) {
+				addToNode(node, objects.get(index));
+			}
+			return;
+		}
+		final int zoneCount = IcosepQuadTreeZone.values().length;
+		final int[] zones = new int[indexes.length];
+		final int[] counts = new int[zoneCount];
+		for (int i = 0; i < indexes.length; ++i) {
+			final int offset = indexes[i] * 4;
+			zones[i] = node.getZoneFor(boxes[offset], boxes[offset + 1], boxes[offset + 2], boxes[offset + 3]);
+			++counts[zones[i]];
+		}
+		for (int zone = 0; zone < zoneCount; ++zone) {
+			if (counts[zone] > 0) {
+				final int[] subset = new int[counts[zone]];
+				int k = 0;
+				for (int i = 0; i < indexes.length; ++i) {
+					if (zones[i] == zone) {
+						subset[k++] = indexes[i];
+					}
+				}
+				final SpatialQuadTreeNode<D> child = node.newChild(zone);
+				if (child.isIcosepNode()) {
+					load(child, this.maxDepth, objects, boxes, subset);
+				} else {
+					load(child, depth + 1, objects, boxes, subset);
+				}
+				node.setChildAt(zone, child);
+			}
+		}
+	}
+
+	private void insert(D data, Rectangle2afp<?, ?, ?, ?, ?, ?> box) {
+		SpatialQuadTreeNode<D> node = getRoot();
+		int depth = 0;
+		while (!node.isLeaf()) {
+			node = node.getOrCreateChild(node.getZoneFor(box));
+			++depth;
+		}
+		addToNode(node, data);
+		if (!node.isIcosepNode() && node.getUserDataCount() > this.splittingCount && depth < this.maxDepth) {
+			split(node, depth);
+		}
+	}
+
+	private void split(SpatialQuadTreeNode<D> node, int depth) {
+		final List<D> objects = new ArrayList<>(node.getAllUserData());
+		node.removeAllUserData();
+		for (final D data : objects) {
+			addToNode(node.getOrCreateChild(node.getZoneFor(data.toBoundingBox())), data);
+		}
+		final int childCount = node.getChildCount();
+		for (int i = 0; i < childCount; ++i) {
+			final SpatialQuadTreeNode<D> child = node.getChildAt(i);
+			if (child != null && !child.isIcosepNode() && child.getUserDataCount() > this.splittingCount
+					&& depth + 1 < this.maxDepth) {
+				split(child, depth + 1);
+			}
+		}
+	}
+
+	/** Replies if the given node is the node in which an object with the given box is inserted.
+	 *
+	 * @param node the node that is containing data.
+	 * @param box the box of the object.
+	 * @return <code>true</code> if the object would be inserted into the node.
+	 */
+	@Pure
+	private boolean isInsertionNode(SpatialQuadTreeNode<D> node, Rectangle2afp<?, ?, ?, ?, ?, ?> box) {
+		if (!node.isLeaf()) {
+			return false;
+		}
+		final SpatialQuadTreeNode<D> parent = node.getParentNode();
+		if (parent == null) {
+			return true;
+		}
+		final boolean inside = node.containsBox(box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY());
+		if (node.isIcosepNode()) {
+			return parent.getZoneFor(box) == IcosepQuadTreeZone.ICOSEP.ordinal() && (inside || parent == getRoot());
+		}
+		return inside;
+	}
+
+	private void addToNode(SpatialQuadTreeNode<D> node, D data) {
+		node.addUserData(data);
+		this.locations.put(data, node);
+	}
+
+	private static <D> void removeFromNode(SpatialQuadTreeNode<?> node, D data) {
+		final int count = node.getUserDataCount();
+		for (int i = 0; i < count; ++i) {
+			if (node.getUserDataAt(i) == data) {
+				node.removeUserData(i);
+				return;
+			}
+		}
+	}
+
+	/** Remove the empty nodes from the given node to the root.
+	 *
+	 * @param node the node to start from.
+	 */
+	private void prune(SpatialQuadTreeNode<D> node) {
+		final SpatialQuadTreeNode<D> root = getRoot();
+		SpatialQuadTreeNode<D> current = node;
+		while (current != root && current.isLeaf() && current.getUserDataCount() == 0) {
+			final SpatialQuadTreeNode<D> parent = current.getParentNode();
+			parent.removeChild(current);
+			current = parent;
+		}
+	}
+
+}
@@ -0,0 +1,239 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree.spatial;
+
+import org.eclipse.xtext.xbase.lib.Pure;
+
+import org.arakhne.afc.math.geometry.d2.afp.Rectangle2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Shape2afp;
+import org.arakhne.afc.math.tree.node.IcosepQuadTreeNode;
+
+/**
+ * Node of a {@link SpatialQuadTree}.
+ *
+ * <p>Each node covers a rectangular region of the space. The four quadrants of the
+ * node split its region at its center. The icosep child of the node has the same region
+ * as the node, and it contains the objects that are intersecting the split lines.
+ *
+ * <p>The north quadrants are the upper quadrants, i.e. with the highest y coordinates.
+ *
+ * @param <D> is the type of the data inside the tree
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ * @since 14.0
+ */
+public class SpatialQuadTreeNode<D extends Shape2afp<?, ?, ?, ?, ?, ?>>
+		extends IcosepQuadTreeNode<D, SpatialQuadTreeNode<D>> {
+
+	private static final long serialVersionUID = -2862140373447302384L;
+
+	private final double minX;
+
+	private final double minY;
+
+	private final double maxX;
+
+	private final double maxY;
+
+	private final boolean icosep;
+
+	/** Construct a node.
+	 *
+	 * @param minX1 is the lower x coordinate of the region covered by the node.
+	 * @param minY1 is the lower y coordinate of the region covered by the node.
+	 * @param maxX1 is the upper x coordinate of the region covered by the node.
+	 * @param maxY1 is the upper y coordinate of the region covered by the node.
+	 * @param icosep1 indicates if the node is an icosep node.
+	 */
+	SpatialQuadTreeNode(double minX1, double minY1, double maxX1, double maxY1, boolean icosep1) {
+		super(false);
+		assert minX1 <= maxX1 && minY1 <= maxY1;
+		this.minX = minX1;
+		this.minY = minY1;
+		this.maxX = maxX1;
+		this.maxY = maxY1;
+		this.icosep = icosep1;
+	}
+
+	/** Replies the lower x coordinate of the region covered by this node.
+	 *
+	 * @return the lower x coordinate.
+	 */
+	@Pure
+	public double getMinX() {
+		return this.minX;
+	}
+
+	/** Replies the lower y coordinate of the region covered by this node.
+	 *
+	 * @return the lower y coordinate.
+	 */
+	@Pure
+	public double getMinY() {
+		return this.minY;
+	}
+
+	/** Replies the upper x coordinate of the region covered by this node.
+	 *
+	 * @return the upper x coordinate.
+	 */
+	@Pure
+	public double getMaxX() {
+		return this.maxX;
+	}
+
+	/** Replies the upper y coordinate of the region covered by this node.
+	 *
+	 * @return the upper y coordinate.
+	 */
+	@Pure
+	public double getMaxY() {
+		return this.maxY;
+	}
+
+	/** Replies if this node is the icosep child of its parent.
+	 *
+	 * @return <code>true</code> if this node contains the objects intersecting the split lines
+	 *     of its parent.
+	 */
+	@Pure
+	public boolean isIcosepNode() {
+		return this.icosep;
+	}
+
+	/** Replies the zone of this node in which a box must be stored.
+	 *
+	 * @param box the box.
+	 * @return the ordinal value of the zone.
+	 */
+	@Pure
+	int getZoneFor(Rectangle2afp<?, ?, ?, ?, ?, ?> box) {
+		return getZoneFor(box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY());
+	}
+
+	/** Replies the zone of this node in which a box must be stored.
+	 *
+	 * @param bminx the lower x coordinate of the box.
+	 * @param bminy the lower y coordinate of the box.
+	 * @param bmaxx the upper x coordinate of the box.
+	 * @param bmaxy the upper y coordinate of the box.
+	 * @return the ordinal value of the zone.
+	 */
+	@Pure
+	int getZoneFor(double bminx, double bminy, double bmaxx, double bmaxy) {
+		if (!containsBox(bminx, bminy, bmaxx, bmaxy)) {
+			return IcosepQuadTreeZone.ICOSEP.ordinal();
+		}
+		final double cx = (this.minX + this.maxX) / 2.;
+		final double cy = (this.minY + this.maxY) / 2.;
+		final boolean west = bmaxx <= cx;
+		final boolean north = bminy >= cy;
+		if ((!west && bminx < cx) || (!north && bmaxy > cy)) {
+			return IcosepQuadTreeZone.ICOSEP.ordinal();
+		}
+		if (north) {
+			return west ? IcosepQuadTreeZone.NORTH_WEST.ordinal() : IcosepQuadTreeZone.NORTH_EAST.ordinal();
+		}
+		return west ? IcosepQuadTreeZone.SOUTH_WEST.ordinal() : IcosepQuadTreeZone.SOUTH_EAST.ordinal();
+	}
+
+	/** Create the child node for the given zone. The child is not attached to this node.
+	 *
+	 * @param zone the ordinal value of the zone.
+	 * @return the new child.
+	 */
+	SpatialQuadTreeNode<D> newChild(int zone) {
+		final double cx = (this.minX + this.maxX) / 2.;
+		final double cy = (this.minY + this.maxY) / 2.;
+		switch (IcosepQuadTreeZone.fromInteger(zone)) {
+		case NORTH_WEST:
+			return new SpatialQuadTreeNode<>(this.minX, cy, cx, this.maxY, false);
+		case NORTH_EAST:
+			return new SpatialQuadTreeNode<>(cx, cy, this.maxX, this.maxY, false);
+		case SOUTH_WEST:
+			return new SpatialQuadTreeNode<>(this.minX, this.minY, cx, cy, false);
+		case SOUTH_EAST:
+			return new SpatialQuadTreeNode<>(cx, this.minY, this.maxX, cy, false);
+		case ICOSEP:
+			return new SpatialQuadTreeNode<>(this.minX, this.minY, this.maxX, this.maxY, true);
+		default:
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/** Replies the child for the given zone, and create it if it does not exist.
+	 *
+	 * @param zone the ordinal value of the zone.
+	 * @return the child.
+	 */
+	SpatialQuadTreeNode<D> getOrCreateChild(int zone) {
+		SpatialQuadTreeNode<D> child = getChildAt(zone);
+		if (child == null) {
+			child = newChild(zone);
+			setChildAt(zone, child);
+		}
+		return child;
+	}
+
+	/** Replies if the region of this node is intersecting the given rectangle.
+	 * The borders of the region are included.
+	 *
+	 * @param bminx the lower x coordinate of the rectangle.
+	 * @param bminy the lower y coordinate of the rectangle.
+	 * @param bmaxx the upper x coordinate of the rectangle.
+	 * @param bmaxy the upper y coordinate of the rectangle.
+	 * @return <code>true</code> if the region is intersecting the rectangle.
+	 */
+	@Pure
+	boolean intersectsRegion(double bminx, double bminy, double bmaxx, double bmaxy) {
+		return bmaxx >= this.minX && bminx <= this.maxX && bmaxy >= this.minY && bminy <= this.maxY;
+	}
+
+	/** Replies if the region of this node is containing the given rectangle.
+	 * The borders of the region are included.
+	 *
+	 * @param bminx the lower x coordinate of the rectangle.
+	 * @param bminy the lower y coordinate of the rectangle.
+	 * @param bmaxx the upper x coordinate of the rectangle.
+	 * @param bmaxy the upper y coordinate of the rectangle.
+	 * @return <code>true</code> if the region is containing the rectangle.
+	 */
+	@Pure
+	boolean containsBox(double bminx, double bminy, double bmaxx, double bmaxy) {
+		return bminx >= this.minX && bmaxx <= this.maxX && bminy >= this.minY && bmaxy <= this.maxY;
+	}
+
+	/** Replies the squared distance between the region of this node and the given point.
+	 *
+	 * @param x the x coordinate of the point.
+	 * @param y the y coordinate of the point.
+	 * @return the squared distance.
+	 */
+	@Pure
+	double getRegionDistanceSquared(double x, double y) {
+		final double dx = Math.max(0., Math.max(this.minX - x, x - this.maxX));
+		final double dy = Math.max(0., Math.max(this.minY - y, y - this.maxY));
+		return dx * dx + dy * dy;
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class BoundingVolumeHierarchyTest extends AbstractMathTestCase {
+
+	private static final int COUNT = 500;
+
+	private double[] createBoxes(int dimension, int count) {
+		final double[] bounds = new double[count * 2 * dimension];
+		for (int i = 0; i < count; ++i) {
+			for (int axis = 0; axis < dimension; ++axis) {
+				final double min = getRandom().nextDouble() * 1000;
+				bounds[i * 2 * dimension + axis] = min;
+				bounds[i * 2 * dimension + dimension + axis] = min + getRandom().nextDouble() * 20;
+			}
+		}
+		return bounds;
+	}
+
+	private static boolean intersects(double[] bounds, int index, int dimension, double[] query) {
+		for (int axis = 0; axis < dimension; ++axis) {
+			if (bounds[index * 2 * dimension + dimension + axis] < query[axis]
+					|| bounds[index * 2 * dimension + axis] > query[dimension + axis]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static double distance(double[] bounds, int index, int dimension, double[] point) {
+		double distance = 0;
+		for (int axis = 0; axis < dimension; ++axis) {
+			final double min = bounds[index * 2 * dimension + axis];
+			final double max = bounds[index * 2 * dimension + dimension + axis];
+			final double gap = point[axis] < min ? min - point[axis] : (point[axis] > max ? point[axis] - max : 0);
+			distance += gap * gap;
+		}
+		return distance;
+	}
+
+	private void testGetIndexesInBounds(int dimension) {
+		final double[] bounds = createBoxes(dimension, COUNT);
+		final BoundingVolumeHierarchy bvh = new BoundingVolumeHierarchy(dimension, bounds, COUNT);
+		assertEquals(COUNT, bvh.size());
+		assertEquals(dimension, bvh.getDimension());
+		for (int q = 0; q < 100; ++q) {
+			final double[] query = createBoxes(dimension, 1);
+			for (int axis = 0; axis < dimension; ++axis) {
+				query[dimension + axis] += 50;
+			}
+			final int[] expected = new int[COUNT];
+			int size = 0;
+			for (int i = 0; i < COUNT; ++i) {
+				if (intersects(bounds, i, dimension, query)) {
+					expected[size++] = i;
+				}
+			}
+			assertArrayEquals(Arrays.copyOf(expected, size), bvh.getIndexesInBounds(query));
+		}
+	}
+
+	@Test
+	public void getIndexesInBounds_2d() {
+		testGetIndexesInBounds(2);
+	}
+
+	@Test
+	public void getIndexesInBounds_3d() {
+		testGetIndexesInBounds(3);
+	}
+
+	@Test
+	public void getIndexesInBounds_empty() {
+		final BoundingVolumeHierarchy bvh = new BoundingVolumeHierarchy(2, new double[0], 0);
+		assertEquals(0, bvh.getIndexesInBounds(0, 0, 10, 10).length);
+		assertEquals(-1, bvh.findNearest(it -> 0, 0, 0, 10, 10));
+	}
+
+	private void testFindNearest(int dimension) {
+		final double[] bounds = createBoxes(dimension, COUNT);
+		final BoundingVolumeHierarchy bvh = new BoundingVolumeHierarchy(dimension, bounds, COUNT);
+		for (int q = 0; q < 100; ++q) {
+			final double[] point = createBoxes(dimension, 1);
+			System.arraycopy(point, 0, point, dimension, dimension);
+			int expected = -1;
+			double min = Double.POSITIVE_INFINITY;
+			for (int i = 0; i < COUNT; ++i) {
+				final double d = distance(bounds, i, dimension, point);
+				if (d < min) {
+					min = d;
+					expected = i;
+				}
+			}
+			final int[] calls = new int[1];
+			final int actual = bvh.findNearest(it -> {
+				++calls[0];
+				return distance(bounds, it, dimension, point);
+			}, point);
+			assertEquals(expected, actual);
+			assertEquals(true, calls[0] < COUNT);
+		}
+	}
+
+	@Test
+	public void findNearest_2d() {
+		testFindNearest(2);
+	}
+
+	@Test
+	public void findNearest_3d() {
+		testFindNearest(3);
+	}
+
+	@Test
+	public void findNearest_ties() {
+		// All the boxes are identical: the lowest index must be replied.
+		final double[] bounds = new double[COUNT * 4];
+		for (int i = 0; i < COUNT; ++i) {
+			bounds[i * 4 + 2] = 1;
+			bounds[i * 4 + 3] = 1;
+		}
+		final BoundingVolumeHierarchy bvh = new BoundingVolumeHierarchy(2, bounds, COUNT);
+		assertEquals(0, bvh.findNearest(it -> 8, 3, 3, 3, 3));
+	}
+
+}
@@ -796,4 +796,36 @@ public abstract class AbstractUnmodifiableVector2DTest<V extends Vector2D<? supe
 		vect.operator_remove(vector);
 	}
 
+	@Override
+	@Test(expected = UnsupportedOperationException.class)
+	public final void operator_multiplyAssignDouble_iffp() {
+		Assume.assumeFalse(isIntCoordinates());
+		Vector2D vect = createTuple(1, -2);
+		vect.operator_multiplyAssign(2);
+	}
+
+	@Override
+	@Test(expected = UnsupportedOperationException.class)
+	public final void operator_multiplyAssignDouble_ifi() {
+		Assume.assumeTrue(isIntCoordinates());
+		Vector2D vect = createTuple(1, -2);
+		vect.operator_multiplyAssign(2);
+	}
+
+	@Override
+	@Test(expected = UnsupportedOperationException.class)
+	public final void operator_divideAssignDouble_iffp() {
+		Assume.assumeFalse(isIntCoordinates());
+		Vector2D vect = createTuple(1, -2);
+		vect.operator_divideAssign(2);
+	}
+
+	@Override
+	@Test(expected = UnsupportedOperationException.class)
+	public final void operator_divideAssignDouble_ifi() {
+		Assume.assumeTrue(isIntCoordinates());
+		Vector2D vect = createTuple(1, -2);
+		vect.operator_divideAssign(2);
+	}
+
 }
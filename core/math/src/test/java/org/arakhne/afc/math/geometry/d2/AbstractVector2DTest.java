@@ -1969,4 +1969,40 @@ public abstract class AbstractVector2DTest<V extends Vector2D<? super V, ? super
 		assertIntVectorEquals(1, 1, vect2);
 	}
 
+	@Test
+	public void operator_multiplyAssignDouble_iffp() {
+		Assume.assumeFalse(isIntCoordinates());
+		Vector2D vect = createVector(1.5, -2);
+
+		vect.operator_multiplyAssign(2.5);
+		assertFpVectorEquals(3.75, -5, vect);
+	}
+
+	@Test
+	public void operator_multiplyAssignDouble_ifi() {
+		Assume.assumeTrue(isIntCoordinates());
+		Vector2D vect = createVector(1, -2);
+
+		vect.operator_multiplyAssign(3);
+		assertIntVectorEquals(3, -6, vect);
+	}
+
+	@Test
+	public void operator_divideAssignDouble_iffp() {
+		Assume.assumeFalse(isIntCoordinates());
+		Vector2D vect = createVector(1.5, -2);
+
+		vect.operator_divideAssign(2);
+		assertFpVectorEquals(.75, -1, vect);
+	}
+
+	@Test
+	public void operator_divideAssignDouble_ifi() {
+		Assume.assumeTrue(isIntCoordinates());
+		Vector2D vect = createVector(4, -6);
+
+		vect.operator_divideAssign(2);
+		assertIntVectorEquals(2, -3, vect);
+	}
+
 }
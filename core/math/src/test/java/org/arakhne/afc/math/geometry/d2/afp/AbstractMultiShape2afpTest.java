@@ -1300,4 +1300,114 @@ public abstract class AbstractMultiShape2afpTest<T extends MultiShape2afp<?, T,
 		assertEpsilonEquals(0, this.shape.getDistanceSquared(createTestMultiShape(-10, 20)));
 	}
 
+	private MultiShape2afp createLargeMultiShape() {
+		final MultiShape2afp multishape = createMultiShape();
+		for (int i = 0; i < 200; ++i) {
+			final double x = getRandom().nextDouble() * 1000;
+			final double y = getRandom().nextDouble() * 1000;
+			if (i % 2 == 0) {
+				multishape.add(createCircle(x, y, 1 + getRandom().nextDouble() * 20));
+			} else {
+				multishape.add(createRectangle(x, y, 1 + getRandom().nextDouble() * 30, 1 + getRandom().nextDouble() * 30));
+			}
+		}
+		return multishape;
+	}
+
+	private void assertSpatialQueries(MultiShape2afp multishape) {
+		final java.util.List<Shape2afp> list = multishape.getBackendDataList();
+		for (int i = 0; i < 200; ++i) {
+			final Point2D point = createPoint(getRandom().nextDouble() * 1000, getRandom().nextDouble() * 1000);
+			Shape2afp first = null;
+			final java.util.List<Shape2afp> containing = new java.util.ArrayList<>();
+			for (final Shape2afp shape : list) {
+				if (shape.contains(point)) {
+					if (first == null) {
+						first = shape;
+					}
+					containing.add(shape);
+				}
+			}
+			assertSame(first, multishape.getFirstShapeContaining(point));
+			assertEquals(containing, multishape.getShapesContaining(point));
+			assertEquals(first != null, multishape.contains(point.getX(), point.getY()));
+
+			final Circle2afp circle = createCircle(point.getX(), point.getY(), getRandom().nextDouble() * 50);
+			final java.util.List<Shape2afp> intersecting = new java.util.ArrayList<>();
+			double min = Double.POSITIVE_INFINITY;
+			Point2D closest = null;
+			for (final Shape2afp shape : list) {
+				if (shape.intersects(circle)) {
+					intersecting.add(shape);
+				}
+				final Point2D p = shape.getClosestPointTo(circle);
+				final double d = circle.getDistanceSquared(p);
+				if (d < min) {
+					min = d;
+					closest = p;
+				}
+			}
+			assertEquals(!intersecting.isEmpty(), multishape.intersects(circle));
+			assertEquals(intersecting, multishape.getShapesIntersecting(circle));
+			assertSame(intersecting.isEmpty() ? null : intersecting.get(0), multishape.getFirstShapeIntersecting(circle));
+			assertEpsilonEquals(closest, multishape.getClosestPointTo(circle));
+
+			double minDist = Double.POSITIVE_INFINITY;
+			double minL1 = Double.POSITIVE_INFINITY;
+			double minLinf = Double.POSITIVE_INFINITY;
+			Point2D closestToPoint = null;
+			for (final Shape2afp shape : list) {
+				final double d = shape.getDistanceSquared(point);
+				if (d < minDist) {
+					minDist = d;
+					closestToPoint = shape.getClosestPointTo(point);
+				}
+				minL1 = Math.min(minL1, shape.getDistanceL1(point));
+				minLinf = Math.min(minLinf, shape.getDistanceLinf(point));
+			}
+			assertEpsilonEquals(closestToPoint, multishape.getClosestPointTo(point));
+			assertEpsilonEquals(minDist, multishape.getDistanceSquared(point));
+			assertEpsilonEquals(minL1, multishape.getDistanceL1(point));
+			assertEpsilonEquals(minLinf, multishape.getDistanceLinf(point));
+
+			final Segment2afp segment = createSegment(point.getX(), point.getY(),
+					point.getX() + getRandom().nextDouble() * 100 - 50, point.getY() + getRandom().nextDouble() * 100 - 50);
+			boolean pathIntersection = false;
+			for (final Shape2afp shape : list) {
+				if (shape.intersects((PathIterator2afp) segment.getPathIterator())) {
+					pathIntersection = true;
+					break;
+				}
+			}
+			assertEquals(pathIntersection, multishape.intersects((PathIterator2afp) segment.getPathIterator()));
+		}
+	}
+
+	@Test
+	public void spatialIndex() {
+		final MultiShape2afp multishape = createLargeMultiShape();
+		assertNotNull(multishape.getSpatialIndex());
+		assertSame(multishape.getSpatialIndex(), multishape.getSpatialIndex());
+		assertSpatialQueries(multishape);
+	}
+
+	@Test
+	public void spatialIndex_changes() {
+		final MultiShape2afp multishape = createLargeMultiShape();
+		assertSpatialQueries(multishape);
+		multishape.translate(10, -10);
+		assertSpatialQueries(multishape);
+		((Shape2afp) multishape.getBackendDataList().get(5)).translate(200, 200);
+		assertSpatialQueries(multishape);
+		multishape.remove(multishape.getBackendDataList().get(0));
+		multishape.add(createRectangle(500, 500, 100, 100));
+		assertSpatialQueries(multishape);
+	}
+
+	@Test
+	public void spatialIndex_smallMultiShape() {
+		assertNull(this.shape.getSpatialIndex());
+		assertNotNull(this.shape.createSpatialIndex());
+	}
+
 }
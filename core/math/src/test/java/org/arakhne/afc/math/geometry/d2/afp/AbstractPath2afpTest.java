@@ -3122,4 +3122,58 @@ extends AbstractShape2afpTest<T, B> {
 		assertFpPointEquals(154, 485, this.shape.getCurrentPoint());
 	}
 
+	private static double distanceToPolyline(java.util.List<double[]> polyline, double x, double y) {
+		double min = Double.POSITIVE_INFINITY;
+		for (int i = 1; i < polyline.size(); ++i) {
+			final double[] p0 = polyline.get(i - 1);
+			final double[] p1 = polyline.get(i);
+			min = Math.min(min, Segment2afp.calculatesDistanceSegmentPoint(p0[0], p0[1], p1[0], p1[1], x, y));
+		}
+		return min;
+	}
+
+	@Test
+	public void getParametricFlatteningPathIterator() {
+		final double flatness = .05;
+		final PathIterator2afp pi = this.shape.getParametricFlatteningPathIterator(null, flatness);
+		assertFalse(pi.isCurved());
+		final java.util.List<double[]> points = new java.util.ArrayList<>();
+		assertElement(pi, PathElementType.MOVE_TO, 0, 0);
+		points.add(new double[] {0, 0});
+		final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+		while (pi.hasNext()) {
+			assertEquals(PathElementType.LINE_TO, pi.next(coords));
+			points.add(new double[] {coords[0], coords[1]});
+		}
+		assertEpsilonEquals(1, points.get(1)[0]);
+		assertEpsilonEquals(1, points.get(1)[1]);
+		assertEpsilonEquals(7, points.get(points.size() - 1)[0]);
+		assertEpsilonEquals(-5, points.get(points.size() - 1)[1]);
+		for (int i = 0; i <= 100; ++i) {
+			final double t = i / 100.;
+			final double u = 1 - t;
+			final double qx = u * u * 1 + 2 * u * t * 3 + t * t * 4;
+			final double qy = u * u * 1 + 2 * u * t * 0 + t * t * 3;
+			assertTrue(distanceToPolyline(points, qx, qy) <= flatness + 1e-9);
+			final double cx = u * u * u * 4 + 3 * u * u * t * 5 + 3 * u * t * t * 6 + t * t * t * 7;
+			final double cy = u * u * u * 3 + 3 * u * u * t * -1 + 3 * u * t * t * 5 + t * t * t * -5;
+			assertTrue(distanceToPolyline(points, cx, cy) <= flatness + 1e-9);
+		}
+	}
+
+	@Test
+	public void getParametricFlatteningPathIterator_close() {
+		this.shape.closePath();
+		final PathIterator2afp pi = this.shape.getParametricFlatteningPathIterator(null, 1);
+		PathElement2afp element = (PathElement2afp) pi.next();
+		while (pi.hasNext()) {
+			element = (PathElement2afp) pi.next();
+		}
+		assertEquals(PathElementType.CLOSE, element.getType());
+		assertEpsilonEquals(7, element.getFromX());
+		assertEpsilonEquals(-5, element.getFromY());
+		assertEpsilonEquals(0, element.getToX());
+		assertEpsilonEquals(0, element.getToY());
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,158 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.d2.Point2D;
+import org.arakhne.afc.math.geometry.d2.Vector2D;
+import org.arakhne.afc.math.geometry.d2.d.OrientedRectangle2d;
+import org.arakhne.afc.math.geometry.d2.d.Parallelogram2d;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.math.geometry.d2.d.Vector2d;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class InnerComputationScratch2afpTest extends AbstractMathTestCase {
+
+	private static long getAllocationCount() {
+		try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+			return scratch.getAllocationCount();
+		}
+	}
+
+	@Test
+	public void reuseAfterClose() {
+		final Point2D<?, ?> p1;
+		final Vector2D<?, ?> v1;
+		try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+			p1 = scratch.point(1, 2);
+			v1 = scratch.vector();
+		}
+		try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+			final Point2D<?, ?> p2 = scratch.point();
+			assertSame(p1, p2);
+			assertEpsilonEquals(0, p2.getX());
+			assertEpsilonEquals(0, p2.getY());
+			assertSame(v1, scratch.vector());
+		}
+	}
+
+	@Test
+	public void nestedScopes() {
+		try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+			final Point2D<?, ?> p1 = scratch.point();
+			final Point2D<?, ?> p2;
+			try (InnerComputationScratch2afp inner = InnerComputationScratch2afp.open()) {
+				assertSame(scratch, inner);
+				p2 = inner.point();
+				assertNotSame(p1, p2);
+			}
+			assertSame(p2, scratch.point());
+		}
+	}
+
+	@Test
+	public void capacityExhausted() {
+		try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+			for (int i = 0; i < InnerComputationScratch2afp.POINT_CAPACITY; ++i) {
+				scratch.point();
+			}
+			final long count = scratch.getAllocationCount();
+			assertNotSame(scratch.point(), scratch.point());
+			assertEquals(count + 2, scratch.getAllocationCount());
+		}
+		final long count = getAllocationCount();
+		try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+			for (int i = 0; i < InnerComputationScratch2afp.POINT_CAPACITY; ++i) {
+				scratch.point();
+			}
+		}
+		assertEquals(count, getAllocationCount());
+	}
+
+	@Test
+	public void threadConfinement() throws Exception {
+		final AtomicReference<InnerComputationScratch2afp> other = new AtomicReference<>();
+		final Thread thread = new Thread(() -> {
+			try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+				other.set(scratch);
+			}
+		});
+		thread.start();
+		thread.join();
+		try (InnerComputationScratch2afp scratch = InnerComputationScratch2afp.open()) {
+			assertNotSame(other.get(), scratch);
+		}
+	}
+
+	@Test
+	public void noAllocationInSteadyState() {
+		final Parallelogram2d parallelogram = new Parallelogram2d(
+				new Point2d(6, 9), new Vector2d(2, 1).toUnitVector(), 4, new Vector2d(-1, 2).toUnitVector(), 2);
+		final OrientedRectangle2d orientedRectangle = new OrientedRectangle2d(
+				new Point2d(6, 9), new Vector2d(2, 1).toUnitVector(), 4, 2);
+		final Point2d result = new Point2d();
+		final Rectangle2d box = new Rectangle2d();
+		final double[] values = new double[64];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = getRandom().nextDouble() * 50;
+		}
+		// The first run fills the pool
+		runQueries(parallelogram, orientedRectangle, result, box, values, 0);
+		final long count = getAllocationCount();
+		for (int i = 1; i < 1000; ++i) {
+			runQueries(parallelogram, orientedRectangle, result, box, values, i);
+		}
+		assertEquals(count, getAllocationCount());
+	}
+
+	private static void runQueries(Parallelogram2d parallelogram, OrientedRectangle2d orientedRectangle,
+			Point2d result, Rectangle2d box, double[] values, int index) {
+		final double x = values[index % values.length];
+		final double y = values[(index + 1) % values.length];
+		result.set(x, y);
+		parallelogram.getDistanceSquared(result);
+		parallelogram.rotate(values[(index + 2) % values.length]);
+		orientedRectangle.getDistanceSquared(result);
+		orientedRectangle.getDistanceL1(result);
+		orientedRectangle.getDistanceLinf(result);
+		orientedRectangle.rotate(values[(index + 3) % values.length]);
+		orientedRectangle.toBoundingBox(box);
+		OrientedRectangle2afp.intersectsOrientedRectangleCircle(6, 9, 1, 0, 4, 2, x, y, 3);
+		Ellipse2afp.intersectsEllipseCircle(5, 5, 10, 4, x, y, 3);
+		Segment2afp.findsClosestPointSegmentRectangle(x, y, 10, 10, 5, 5, 2, 3, result);
+	}
+
+}
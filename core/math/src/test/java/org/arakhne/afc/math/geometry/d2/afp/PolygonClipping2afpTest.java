@@ -0,0 +1,371 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.math.geometry.d2.afp.PolygonClipping2afp.Operation;
+import org.arakhne.afc.math.geometry.d2.ai.PathElement2ai;
+import org.arakhne.afc.math.geometry.d2.ai.PathIterator2ai;
+import org.arakhne.afc.math.geometry.d2.d.Path2d;
+import org.arakhne.afc.math.geometry.d2.i.Path2i;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class PolygonClipping2afpTest extends AbstractMathTestCase {
+
+	private static final int QUERIES = 2000;
+
+	private static Path2d createRectangle(double x, double y, double width, double height) {
+		final Path2d path = new Path2d();
+		addRectangle(path, x, y, width, height);
+		return path;
+	}
+
+	private static void addRectangle(Path2d path, double x, double y, double width, double height) {
+		path.moveTo(x, y);
+		path.lineTo(x + width, y);
+		path.lineTo(x + width, y + height);
+		path.lineTo(x, y + height);
+		path.closePath();
+	}
+
+	private Path2d createStar(PathWindingRule rule, double cx, double cy, int count, boolean shuffle) {
+		final Path2d path = new Path2d(rule);
+		for (int i = 0; i < count; ++i) {
+			final double angle = 2 * Math.PI * (shuffle ? getRandom().nextInt(count) : i) / count;
+			final double radius = 10 + getRandom().nextDouble() * 40;
+			final double x = cx + Math.cos(angle) * radius;
+			final double y = cy + Math.sin(angle) * radius;
+			if (i == 0) {
+				path.moveTo(x, y);
+			} else {
+				path.lineTo(x, y);
+			}
+		}
+		path.closePath();
+		return path;
+	}
+
+	private Path2d createFlower(double cx, double cy, int count) {
+		final Path2d path = new Path2d();
+		for (int i = 0; i < count; ++i) {
+			final double angle = 2 * Math.PI * i / count;
+			final double radius = 30 + 8 * Math.sin(5 * angle);
+			final double x = cx + Math.cos(angle) * radius;
+			final double y = cy + Math.sin(angle) * radius;
+			if (i == 0) {
+				path.moveTo(x, y);
+			} else {
+				path.lineTo(x, y);
+			}
+		}
+		path.closePath();
+		return path;
+	}
+
+	private static int countPolygons(Path2afp<?, ?, ?, ?, ?, ?> path) {
+		int count = 0;
+		final PathIterator2afp<?> iterator = path.getPathIterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().getType() == PathElementType.MOVE_TO) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	private void assertOperation(Path2d first, Path2d second, Operation operation) {
+		final Path2d result = new Path2d();
+		PolygonClipping2afp.clip(first, second, operation, result);
+		for (int i = 0; i < QUERIES; ++i) {
+			final double x = getRandom().nextDouble() * 120 - 10;
+			final double y = getRandom().nextDouble() * 120 - 10;
+			assertEquals(operation.evaluate(first.contains(x, y), second.contains(x, y)), result.contains(x, y));
+		}
+	}
+
+	@Test
+	public void clip_union() {
+		final Path2d result = new Path2d();
+		PolygonClipping2afp.clip(createRectangle(0, 0, 10, 10), createRectangle(5, 5, 10, 10), Operation.UNION, result);
+		assertEquals(1, countPolygons(result));
+		assertEquals(8, result.size());
+		assertTrue(result.contains(2, 2));
+		assertTrue(result.contains(12, 12));
+		assertFalse(result.contains(12, 2));
+		assertFalse(result.contains(2, 12));
+	}
+
+	@Test
+	public void clip_unionSharedEdge() {
+		final Path2d result = new Path2d();
+		PolygonClipping2afp.clip(createRectangle(0, 0, 10, 10), createRectangle(10, 0, 10, 10), Operation.UNION, result);
+		assertEquals(1, countPolygons(result));
+		assertEquals(4, result.size());
+		assertTrue(result.contains(10, 5));
+		assertEpsilonEquals(0, result.toBoundingBox().getMinX());
+		assertEpsilonEquals(20, result.toBoundingBox().getMaxX());
+	}
+
+	@Test
+	public void clip_intersection() {
+		final Path2d result = new Path2d();
+		PolygonClipping2afp.clip(createRectangle(0, 0, 10, 10), createRectangle(5, 5, 10, 10), Operation.INTERSECTION,
+				result);
+		assertEquals(1, countPolygons(result));
+		assertEquals(4, result.size());
+		assertEpsilonEquals(5, result.toBoundingBox().getMinX());
+		assertEpsilonEquals(5, result.toBoundingBox().getMinY());
+		assertEpsilonEquals(10, result.toBoundingBox().getMaxX());
+		assertEpsilonEquals(10, result.toBoundingBox().getMaxY());
+	}
+
+	@Test
+	public void clip_intersectionDisjoint() {
+		final Path2d result = createRectangle(0, 0, 1, 1);
+		PolygonClipping2afp.clip(createRectangle(0, 0, 10, 10), createRectangle(20, 20, 10, 10), Operation.INTERSECTION,
+				result);
+		assertTrue(result.isEmpty());
+	}
+
+	@Test
+	public void clip_differenceHole() {
+		final Path2d result = new Path2d(PathWindingRule.EVEN_ODD);
+		PolygonClipping2afp.clip(createRectangle(0, 0, 10, 10), createRectangle(2, 2, 6, 6), Operation.DIFFERENCE, result);
+		assertEquals(2, countPolygons(result));
+		assertTrue(result.contains(1, 1));
+		assertFalse(result.contains(5, 5));
+		result.setWindingRule(PathWindingRule.NON_ZERO);
+		assertTrue(result.contains(1, 1));
+		assertFalse(result.contains(5, 5));
+	}
+
+	@Test
+	public void clip_resultIsOperand() {
+		final Path2d first = createRectangle(0, 0, 10, 10);
+		PolygonClipping2afp.clip(first, createRectangle(5, 0, 10, 10), Operation.DIFFERENCE, first);
+		assertEquals(4, first.size());
+		assertEpsilonEquals(5, first.toBoundingBox().getMaxX());
+	}
+
+	@Test
+	public void clip_rectangles() {
+		for (final Operation operation : Operation.values()) {
+			final Path2d first = new Path2d();
+			final Path2d second = new Path2d();
+			for (int i = 0; i < 10; ++i) {
+				addRectangle(first, getRandom().nextInt(80), getRandom().nextInt(80), 1 + getRandom().nextInt(20),
+						1 + getRandom().nextInt(20));
+				addRectangle(second, getRandom().nextInt(80), getRandom().nextInt(80), 1 + getRandom().nextInt(20),
+						1 + getRandom().nextInt(20));
+			}
+			assertOperation(first, second, operation);
+		}
+	}
+
+	@Test
+	public void clip_stars() {
+		for (final Operation operation : Operation.values()) {
+			for (final PathWindingRule rule : PathWindingRule.values()) {
+				final Path2d first = createStar(rule, 40, 50, 50, true);
+				final Path2d second = createStar(PathWindingRule.NON_ZERO, 60, 50, 30, false);
+				assertOperation(first, second, operation);
+			}
+		}
+	}
+
+	@Test
+	public void clip_curves() {
+		final Path2d first = new Path2d();
+		first.moveTo(0, 0);
+		first.curveTo(50, 100, 80, -20, 100, 50);
+		first.quadTo(50, 120, 0, 80);
+		first.closePath();
+		final Path2d second = createStar(PathWindingRule.EVEN_ODD, 50, 50, 40, true);
+		final Path2d result = new Path2d();
+		PolygonClipping2afp.clip(first, second, Operation.UNION, result);
+		final Path2d flatFirst = new Path2d();
+		flatFirst.add(first.getPathIterator(0.1));
+		for (int i = 0; i < QUERIES; ++i) {
+			final double x = getRandom().nextDouble() * 120 - 10;
+			final double y = getRandom().nextDouble() * 120 - 10;
+			assertEquals(flatFirst.contains(x, y) || second.contains(x, y), result.contains(x, y));
+		}
+	}
+
+	@Test
+	public void clip_largePolygons() {
+		final Path2d first = createFlower(45, 50, 10000);
+		final Path2d second = createFlower(55, 50, 10000);
+		assertOperation(first, second, Operation.INTERSECTION);
+		assertOperation(first, second, Operation.EXCLUSIVE_OR);
+	}
+
+	@Test
+	public void clip_integerPaths() {
+		final Path2i first = new Path2i();
+		first.moveTo(0, 0);
+		first.lineTo(10, 0);
+		first.lineTo(10, 10);
+		first.lineTo(0, 10);
+		first.closePath();
+		final Path2i second = new Path2i();
+		second.moveTo(5, 5);
+		second.lineTo(15, 5);
+		second.lineTo(15, 15);
+		second.lineTo(5, 15);
+		second.closePath();
+		final Path2i result = new Path2i();
+		PolygonClipping2afp.clip(first, second, Operation.UNION, result);
+		final List<Integer> coordinates = new ArrayList<>();
+		final PathIterator2ai<?> iterator = result.getPathIterator();
+		while (iterator.hasNext()) {
+			final PathElement2ai element = iterator.next();
+			if (element.getType() != PathElementType.CLOSE) {
+				coordinates.add(element.getToX());
+				coordinates.add(element.getToY());
+			}
+		}
+		assertEquals(16, coordinates.size());
+		assertTrue(coordinates.contains(15));
+	}
+
+	private static double getBorderDistance(Path2d path, double x, double y) {
+		double distance = Double.POSITIVE_INFINITY;
+		final PathIterator2afp<?> iterator = path.getPathIterator(0.1);
+		double mx = 0;
+		double my = 0;
+		double px = 0;
+		double py = 0;
+		while (iterator.hasNext()) {
+			final PathElement2afp element = iterator.next();
+			if (element.getType() == PathElementType.MOVE_TO) {
+				mx = element.getToX();
+				my = element.getToY();
+			} else {
+				distance = Math.min(distance, Segment2afp.calculatesDistanceSegmentPoint(px, py,
+						element.getToX(), element.getToY(), x, y));
+			}
+			px = element.getToX();
+			py = element.getToY();
+		}
+		return Math.min(distance, Segment2afp.calculatesDistanceSegmentPoint(px, py, mx, my, x, y));
+	}
+
+	private void assertOffset(Path2d path, double distance) {
+		final Path2d result = new Path2d();
+		PolygonClipping2afp.offset(path, distance, result);
+		// The border of the normalized path does not contain the parts of the path without area
+		final Path2d normalized = new Path2d();
+		PolygonClipping2afp.clip(path, new Path2d(), Operation.UNION, normalized);
+		final double margin = 0.2;
+		for (int i = 0; i < QUERIES; ++i) {
+			final double x = getRandom().nextDouble() * 140 - 20;
+			final double y = getRandom().nextDouble() * 140 - 20;
+			final double border = getBorderDistance(normalized, x, y);
+			if (Math.abs(border - Math.abs(distance)) > margin) {
+				final boolean expected = distance >= 0
+						? (path.contains(x, y) || border < distance)
+						: (path.contains(x, y) && border > -distance);
+				assertEquals(expected, result.contains(x, y));
+			}
+		}
+	}
+
+	@Test
+	public void offset_rectangle() {
+		final Path2d result = new Path2d();
+		PolygonClipping2afp.offset(createRectangle(0, 0, 10, 10), 2, result);
+		assertEquals(1, countPolygons(result));
+		assertTrue(result.contains(-1.9, 5));
+		assertFalse(result.contains(-2.1, 5));
+		assertTrue(result.contains(-1.3, -1.3));
+		assertFalse(result.contains(-1.5, -1.5));
+		assertEpsilonEquals(-2, result.toBoundingBox().getMinX());
+		assertEpsilonEquals(12, result.toBoundingBox().getMaxY());
+	}
+
+	@Test
+	public void offset_rectangleNegative() {
+		final Path2d result = new Path2d();
+		PolygonClipping2afp.offset(createRectangle(0, 0, 10, 10), -2, result);
+		assertEquals(1, countPolygons(result));
+		assertEquals(4, result.size());
+		assertEpsilonEquals(2, result.toBoundingBox().getMinX());
+		assertEpsilonEquals(8, result.toBoundingBox().getMaxY());
+	}
+
+	@Test
+	public void offset_rectangleNegativeVanishing() {
+		final Path2d result = new Path2d();
+		PolygonClipping2afp.offset(createRectangle(0, 0, 10, 10), -6, result);
+		assertTrue(result.isEmpty());
+	}
+
+	@Test
+	public void offset_zero() {
+		final Path2d result = new Path2d();
+		PolygonClipping2afp.offset(createRectangle(0, 0, 10, 10), 0, result);
+		assertEquals(4, result.size());
+	}
+
+	@Test
+	public void offset_stars() {
+		for (final PathWindingRule rule : PathWindingRule.values()) {
+			assertOffset(createStar(rule, 50, 50, 40, false), 3);
+			assertOffset(createStar(rule, 50, 50, 40, false), -3);
+			assertOffset(createStar(rule, 50, 50, 40, true), 5);
+			assertOffset(createStar(rule, 50, 50, 40, true), -3);
+		}
+	}
+
+	@Test
+	public void offset_largePolygon() {
+		assertOffset(createFlower(50, 50, 10000), 2);
+	}
+
+	@Test
+	public void offset_noArea() {
+		final Path2d path = new Path2d();
+		path.moveTo(0, 0);
+		path.lineTo(50, 50);
+		final Path2d result = new Path2d();
+		PolygonClipping2afp.offset(path, 4, result);
+		assertTrue(result.isEmpty());
+	}
+
+}
@@ -0,0 +1,148 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.PathWindingRule;
+import org.arakhne.afc.math.geometry.d2.d.Path2d;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class PreparedPath2afpTest extends AbstractMathTestCase {
+
+	private static final int QUERIES = 2000;
+
+	private void addStar(Path2d path, double cx, double cy, int count, boolean curves, boolean close) {
+		for (int i = 0; i < count; ++i) {
+			final double angle = 2 * Math.PI * i / count;
+			final double radius = 10 + getRandom().nextDouble() * 40;
+			final double x = cx + Math.cos(angle) * radius;
+			final double y = cy + Math.sin(angle) * radius;
+			if (i == 0) {
+				path.moveTo(x, y);
+			} else if (curves && i % 5 == 0) {
+				path.quadTo(x + 5, y - 5, x, y);
+			} else if (curves && i % 7 == 0) {
+				path.curveTo(x - 5, y + 5, x + 5, y + 3, x, y);
+			} else {
+				path.lineTo(x, y);
+			}
+		}
+		if (close) {
+			path.closePath();
+		}
+	}
+
+	private void assertSameResults(Path2d path) {
+		final PreparedPath2afp prepared = new PreparedPath2afp(path);
+		final Rectangle2d bounds = path.toBoundingBox();
+		for (int i = 0; i < QUERIES; ++i) {
+			final double x = bounds.getMinX() - 10 + getRandom().nextDouble() * (bounds.getWidth() + 20);
+			final double y = bounds.getMinY() - 10 + getRandom().nextDouble() * (bounds.getHeight() + 20);
+			assertEquals(path.contains(x, y), prepared.contains(x, y));
+			final Point2d point = new Point2d(x, y);
+			assertEquals(path.getDistanceSquared(point), prepared.getDistanceSquared(point), 0.);
+			final Rectangle2d rectangle = new Rectangle2d(x, y, getRandom().nextDouble() * 20, getRandom().nextDouble() * 20);
+			assertEquals(path.intersects(rectangle), prepared.intersects(rectangle));
+		}
+		for (int i = 0; i < path.size(); ++i) {
+			final Point2d point = path.getPointAt(i);
+			assertEquals(path.contains(point), prepared.contains(point));
+			assertEquals(path.getDistanceSquared(point), prepared.getDistanceSquared(point), 0.);
+		}
+	}
+
+	@Test
+	public void polygon() {
+		final Path2d path = new Path2d();
+		addStar(path, 0, 0, 200, false, true);
+		assertSameResults(path);
+	}
+
+	@Test
+	public void curvedPolygon() {
+		final Path2d path = new Path2d();
+		addStar(path, 0, 0, 100, true, true);
+		assertSameResults(path);
+	}
+
+	@Test
+	public void multiPartsNonZero() {
+		final Path2d path = new Path2d(PathWindingRule.NON_ZERO);
+		addStar(path, 0, 0, 60, false, true);
+		addStar(path, 10, 5, 40, true, true);
+		addStar(path, 100, 80, 50, false, true);
+		assertSameResults(path);
+	}
+
+	@Test
+	public void multiPartsEvenOdd() {
+		final Path2d path = new Path2d(PathWindingRule.EVEN_ODD);
+		addStar(path, 0, 0, 60, false, true);
+		addStar(path, 10, 5, 40, true, true);
+		addStar(path, 100, 80, 50, false, true);
+		assertSameResults(path);
+	}
+
+	@Test
+	public void openPath() {
+		final Path2d path = new Path2d();
+		addStar(path, 0, 0, 60, false, true);
+		addStar(path, 50, 50, 50, true, false);
+		assertSameResults(path);
+	}
+
+	@Test
+	public void emptyPath() {
+		final PreparedPath2afp prepared = new PreparedPath2afp(new Path2d());
+		assertTrue(prepared.isEmpty());
+		assertFalse(prepared.contains(0, 0));
+		assertFalse(prepared.intersects(new Rectangle2d(-1, -1, 2, 2)));
+	}
+
+	@Test
+	public void getSegmentCount() {
+		final Path2d path = new Path2d();
+		path.moveTo(0, 0);
+		path.lineTo(10, 0);
+		path.lineTo(10, 10);
+		path.closePath();
+		final PreparedPath2afp prepared = new PreparedPath2afp(path);
+		assertEquals(3, prepared.getSegmentCount());
+		final Rectangle2d box = new Rectangle2d();
+		prepared.toBoundingBox(box);
+		assertEquals(new Rectangle2d(0, 0, 10, 10), box);
+	}
+
+}
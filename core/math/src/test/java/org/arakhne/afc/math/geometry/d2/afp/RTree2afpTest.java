@@ -0,0 +1,225 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.d2.d.Circle2d;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.math.geometry.d2.d.Segment2d;
+import org.arakhne.afc.math.geometry.d2.d.Shape2d;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class RTree2afpTest extends AbstractMathTestCase {
+
+	private static final int COUNT = 500;
+
+	private List<Shape2d<?>> shapes;
+
+	private RTree2afp<Shape2d<?>> tree;
+
+	@Before
+	public void setUp() {
+		this.shapes = new ArrayList<>();
+		for (int i = 0; i < COUNT; ++i) {
+			this.shapes.add(randomShape());
+		}
+		this.tree = new RTree2afp<>(8, this.shapes);
+	}
+
+	private Shape2d<?> randomShape() {
+		final double x = getRandom().nextDouble() * 1000;
+		final double y = getRandom().nextDouble() * 1000;
+		switch (getRandom().nextInt(3)) {
+		case 0:
+			return new Rectangle2d(x, y, getRandom().nextDouble() * 20, getRandom().nextDouble() * 20);
+		case 1:
+			return new Segment2d(x, y, x + getRandom().nextDouble() * 40 - 20, y + getRandom().nextDouble() * 40 - 20);
+		default:
+			return new Circle2d(x, y, getRandom().nextDouble() * 10);
+		}
+	}
+
+	private static Map<Shape2d<?>, Boolean> toIdentitySet(List<Shape2d<?>> list) {
+		final Map<Shape2d<?>, Boolean> set = new IdentityHashMap<>();
+		for (final Shape2d<?> shape : list) {
+			assertNull(set.put(shape, Boolean.TRUE));
+		}
+		return set;
+	}
+
+	private void assertQueries(RTree2afp<Shape2d<?>> tree, List<Shape2d<?>> shapes) {
+		assertEquals(shapes.size(), tree.size());
+		for (int i = 0; i < 30; ++i) {
+			final double x = getRandom().nextDouble() * 1000;
+			final double y = getRandom().nextDouble() * 1000;
+			final List<Shape2afp<?, ?, ?, ?, ?, ?>> windows = new ArrayList<>();
+			windows.add(new Rectangle2d(x, y, 80, 50));
+			windows.add(new Circle2d(x, y, 40));
+			windows.add(new Segment2d(x, y, x + 100, y - 70));
+			for (final Shape2afp<?, ?, ?, ?, ?, ?> window : windows) {
+				final List<Shape2d<?>> expected = new ArrayList<>();
+				for (final Shape2d<?> shape : shapes) {
+					if (shape.intersects(window)) {
+						expected.add(shape);
+					}
+				}
+				assertEquals(toIdentitySet(expected).keySet(), toIdentitySet(tree.getShapesIntersecting(window)).keySet());
+				final Shape2d<?> first = tree.getFirstShapeIntersecting(window);
+				if (expected.isEmpty()) {
+					assertNull(first);
+				} else {
+					assertTrue(toIdentitySet(expected).containsKey(first));
+				}
+			}
+
+			final Point2d point = new Point2d(x, y);
+			final List<Shape2d<?>> sorted = new ArrayList<>(shapes);
+			Collections.sort(sorted, Comparator.comparingDouble((s) -> s.getDistanceSquared(point)));
+			final List<Shape2d<?>> nearest = tree.getNearestShapes(point, 5);
+			assertEquals(Math.min(5, shapes.size()), nearest.size());
+			for (int j = 0; j < nearest.size(); ++j) {
+				assertEpsilonEquals(sorted.get(j).getDistanceSquared(point), nearest.get(j).getDistanceSquared(point));
+			}
+		}
+	}
+
+	@Test
+	public void bulkLoad() {
+		assertEquals(8, this.tree.getNodeCapacity());
+		assertEquals(COUNT, this.tree.size());
+		assertFalse(this.tree.isEmpty());
+		assertTrue(this.tree.getHeight() > 1);
+		for (final Shape2d<?> shape : this.shapes) {
+			assertTrue(this.tree.contains(shape));
+		}
+		assertQueries(this.tree, this.shapes);
+	}
+
+	@Test
+	public void add() {
+		final RTree2afp<Shape2d<?>> tree = new RTree2afp<>(4);
+		assertTrue(tree.isEmpty());
+		for (final Shape2d<?> shape : this.shapes) {
+			assertTrue(tree.add(shape));
+			assertFalse(tree.add(shape));
+		}
+		assertTrue(tree.getHeight() > 1);
+		assertQueries(tree, this.shapes);
+		final List<Shape2d<?>> others = new ArrayList<>();
+		for (int i = 0; i < 100; ++i) {
+			others.add(randomShape());
+		}
+		tree.addAll(others);
+		final List<Shape2d<?>> all = new ArrayList<>(this.shapes);
+		all.addAll(others);
+		assertQueries(tree, all);
+	}
+
+	@Test
+	public void remove() {
+		for (int i = 0; i < COUNT - 10; ++i) {
+			final Shape2d<?> shape = this.shapes.remove(getRandom().nextInt(this.shapes.size()));
+			assertTrue(this.tree.remove(shape));
+			assertFalse(this.tree.remove(shape));
+			assertFalse(this.tree.contains(shape));
+			if (i % 50 == 0) {
+				assertQueries(this.tree, this.shapes);
+			}
+		}
+		assertQueries(this.tree, this.shapes);
+		for (final Shape2d<?> shape : new ArrayList<>(this.shapes)) {
+			assertTrue(this.tree.remove(shape));
+		}
+		assertTrue(this.tree.isEmpty());
+		assertEquals(1, this.tree.getHeight());
+		assertNull(this.tree.getNearestShape(new Point2d(0, 0)));
+	}
+
+	@Test
+	public void update() {
+		for (final Shape2d<?> shape : this.shapes) {
+			if (shape instanceof Rectangle2d) {
+				final Rectangle2d rectangle = (Rectangle2d) shape;
+				rectangle.translate(getRandom().nextDouble() * 200 - 100, getRandom().nextDouble() * 200 - 100);
+				assertTrue(this.tree.update(rectangle));
+			}
+		}
+		assertFalse(this.tree.update(new Rectangle2d(0, 0, 1, 1)));
+		assertQueries(this.tree, this.shapes);
+	}
+
+	@Test
+	public void getShapesInBounds() {
+		final List<Shape2d<?>> expected = new ArrayList<>();
+		for (final Shape2d<?> shape : this.shapes) {
+			final Rectangle2d box = shape.toBoundingBox();
+			if (box.getMaxX() >= 100 && box.getMinX() <= 300 && box.getMaxY() >= 200 && box.getMinY() <= 250) {
+				expected.add(shape);
+			}
+		}
+		assertEquals(toIdentitySet(expected).keySet(),
+				toIdentitySet(this.tree.getShapesInBounds(100, 200, 300, 250)).keySet());
+	}
+
+	@Test
+	public void getNearestShape() {
+		final Point2d point = new Point2d(500, 500);
+		final Shape2d<?> nearest = this.tree.getNearestShape(point);
+		assertNotNull(nearest);
+		for (final Shape2d<?> shape : this.shapes) {
+			assertTrue(nearest.getDistanceSquared(point) <= shape.getDistanceSquared(point));
+		}
+	}
+
+	@Test
+	public void clear() {
+		this.tree.clear();
+		assertTrue(this.tree.isEmpty());
+		assertFalse(this.tree.contains(this.shapes.get(0)));
+		assertTrue(this.tree.getShapesInBounds(-1000, -1000, 2000, 2000).isEmpty());
+		this.tree.addAll(this.shapes);
+		assertEquals(this.shapes.size(), this.tree.size());
+	}
+
+}
@@ -0,0 +1,209 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.MathConstants;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class SegmentArrays2afpTest extends AbstractMathTestCase {
+
+	private static final int COUNT = 300;
+
+	private double[] x1;
+
+	private double[] y1;
+
+	private double[] x2;
+
+	private double[] y2;
+
+	@Before
+	public void setUp() {
+		this.x1 = new double[COUNT];
+		this.y1 = new double[COUNT];
+		this.x2 = new double[COUNT];
+		this.y2 = new double[COUNT];
+		for (int i = 0; i < COUNT; ++i) {
+			this.x1[i] = getRandom().nextDouble() * 100;
+			this.y1[i] = getRandom().nextDouble() * 100;
+			if (i % 10 == 0) {
+				// Degenerated segment
+				this.x2[i] = this.x1[i];
+				this.y2[i] = this.y1[i];
+			} else {
+				this.x2[i] = this.x1[i] + getRandom().nextDouble() * 20 - 10;
+				this.y2[i] = this.y1[i] + getRandom().nextDouble() * 20 - 10;
+			}
+		}
+	}
+
+	@Test
+	public void calculatesDistanceSquaredSegmentPoints() {
+		final double[] distances = new double[COUNT];
+		for (int s = 0; s < 20; ++s) {
+			SegmentArrays2afp.calculatesDistanceSquaredSegmentPoints(this.x1[s], this.y1[s], this.x2[s], this.y2[s],
+					this.x1, this.y2, COUNT, distances);
+			for (int i = 0; i < COUNT; ++i) {
+				assertEpsilonEquals(Segment2afp.calculatesDistanceSquaredSegmentPoint(
+						this.x1[s], this.y1[s], this.x2[s], this.y2[s], this.x1[i], this.y2[i]), distances[i]);
+			}
+		}
+	}
+
+	@Test
+	public void calculatesDistanceSquaredSegmentsPoint() {
+		final double[] distances = new double[COUNT];
+		for (int p = 0; p < 20; ++p) {
+			final double px = getRandom().nextDouble() * 100;
+			final double py = getRandom().nextDouble() * 100;
+			SegmentArrays2afp.calculatesDistanceSquaredSegmentsPoint(this.x1, this.y1, this.x2, this.y2, COUNT,
+					px, py, distances);
+			for (int i = 0; i < COUNT; ++i) {
+				assertEpsilonEquals(Segment2afp.calculatesDistanceSquaredSegmentPoint(
+						this.x1[i], this.y1[i], this.x2[i], this.y2[i], px, py), distances[i]);
+			}
+		}
+	}
+
+	@Test
+	public void findsNearestSegmentPoint() {
+		assertEquals(-1, SegmentArrays2afp.findsNearestSegmentPoint(this.x1, this.y1, this.x2, this.y2, 0, 0, 0));
+		for (int p = 0; p < 20; ++p) {
+			final double px = getRandom().nextDouble() * 100;
+			final double py = getRandom().nextDouble() * 100;
+			double best = Double.POSITIVE_INFINITY;
+			for (int i = 0; i < COUNT; ++i) {
+				best = Math.min(best, Segment2afp.calculatesDistanceSquaredSegmentPoint(
+						this.x1[i], this.y1[i], this.x2[i], this.y2[i], px, py));
+			}
+			final int nearest = SegmentArrays2afp.findsNearestSegmentPoint(this.x1, this.y1, this.x2, this.y2, COUNT, px, py);
+			assertEpsilonEquals(best, Segment2afp.calculatesDistanceSquaredSegmentPoint(
+					this.x1[nearest], this.y1[nearest], this.x2[nearest], this.y2[nearest], px, py));
+		}
+	}
+
+	@Test
+	public void findsSideLinePoints() {
+		final int[] sides = new int[COUNT + 1];
+		final double[] px = Arrays.copyOf(this.x1, COUNT + 1);
+		final double[] py = Arrays.copyOf(this.y1, COUNT + 1);
+		// Point on the line
+		px[COUNT] = (this.x1[1] + this.x2[1]) / 2.;
+		py[COUNT] = (this.y1[1] + this.y2[1]) / 2.;
+		for (final double epsilon : new double[] {0., 0.1, 10., Double.NaN}) {
+			SegmentArrays2afp.findsSideLinePoints(this.x1[1], this.y1[1], this.x2[1], this.y2[1],
+					px, py, COUNT + 1, epsilon, sides);
+			for (int i = 0; i <= COUNT; ++i) {
+				assertEquals(Segment2afp.findsSideLinePoint(this.x1[1], this.y1[1], this.x2[1], this.y2[1],
+						px[i], py[i], epsilon), sides[i]);
+			}
+		}
+	}
+
+	@Test
+	public void calculatesCrossingsRectangleShadowSegments() {
+		for (int r = 0; r < 50; ++r) {
+			final double rx = getRandom().nextDouble() * 100;
+			final double ry = getRandom().nextDouble() * 100;
+			final double rw = getRandom().nextDouble() * 10;
+			final double rh = getRandom().nextDouble() * 10;
+			int expected = 0;
+			for (int i = 0; i < COUNT && expected != MathConstants.SHAPE_INTERSECTS; ++i) {
+				expected = Segment2afp.calculatesCrossingsRectangleShadowSegment(expected, rx, ry, rx + rw, ry + rh,
+						this.x1[i], this.y1[i], this.x2[i], this.y2[i]);
+			}
+			assertEquals(expected, SegmentArrays2afp.calculatesCrossingsRectangleShadowSegments(0,
+					rx, ry, rx + rw, ry + rh, this.x1, this.y1, this.x2, this.y2, COUNT));
+		}
+	}
+
+	@Test
+	public void intersectsSegmentsSegmentWithEnds() {
+		final boolean[] intersections = new boolean[COUNT];
+		for (int s = 0; s < 20; ++s) {
+			final int n = SegmentArrays2afp.intersectsSegmentsSegmentWithEnds(this.x1, this.y1, this.x2, this.y2, COUNT,
+					this.x1[s], this.y1[s], this.x2[s], this.y2[s], intersections);
+			int expectedCount = 0;
+			for (int i = 0; i < COUNT; ++i) {
+				final boolean expected = Segment2afp.intersectsSegmentSegmentWithEnds(this.x1[i], this.y1[i], this.x2[i], this.y2[i],
+						this.x1[s], this.y1[s], this.x2[s], this.y2[s]);
+				assertEquals(expected, intersections[i]);
+				if (expected) {
+					++expectedCount;
+				}
+			}
+			assertEquals(expectedCount, n);
+		}
+	}
+
+	@Test
+	public void findsIntersectingSegmentPairs() {
+		final int[] pairs = SegmentArrays2afp.findsIntersectingSegmentPairs(this.x1, this.y1, this.x2, this.y2, COUNT);
+		int k = 0;
+		for (int i = 0; i < COUNT; ++i) {
+			for (int j = i + 1; j < COUNT; ++j) {
+				if (Segment2afp.intersectsSegmentSegmentWithEnds(this.x1[i], this.y1[i], this.x2[i], this.y2[i],
+						this.x1[j], this.y1[j], this.x2[j], this.y2[j])) {
+					assertEquals(i, pairs[k++]);
+					assertEquals(j, pairs[k++]);
+				}
+			}
+		}
+		assertEquals(k, pairs.length);
+	}
+
+	@Test
+	public void findsIntersectingSegmentPairsSweepLine() {
+		final int[] expected = SegmentArrays2afp.findsIntersectingSegmentPairs(this.x1, this.y1, this.x2, this.y2, COUNT);
+		final int[] actual = SegmentArrays2afp.findsIntersectingSegmentPairsSweepLine(this.x1, this.y1, this.x2, this.y2, COUNT);
+		assertArrayEquals(sortPairs(expected), sortPairs(actual));
+	}
+
+	@Test
+	public void findsIntersectingSegmentPairsSweepLine_empty() {
+		assertEquals(0, SegmentArrays2afp.findsIntersectingSegmentPairsSweepLine(this.x1, this.y1, this.x2, this.y2, 0).length);
+	}
+
+	private static long[] sortPairs(int[] pairs) {
+		final long[] keys = new long[pairs.length / 2];
+		for (int i = 0; i < keys.length; ++i) {
+			keys[i] = ((long) pairs[i * 2] << 32) | pairs[i * 2 + 1];
+		}
+		Arrays.sort(keys);
+		return keys;
+	}
+
+}
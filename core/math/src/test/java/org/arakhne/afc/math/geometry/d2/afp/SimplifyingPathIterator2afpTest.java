@@ -0,0 +1,164 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.afp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.d2.d.Path2d;
+import org.arakhne.afc.math.geometry.d2.d.PathElement2d;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class SimplifyingPathIterator2afpTest extends AbstractMathTestCase {
+
+	private void addTrace(Path2d path, List<Point2d> points, double x, double y, int count) {
+		double px = x;
+		double py = y;
+		double angle = getRandom().nextDouble() * 2 * Math.PI;
+		for (int i = 0; i < count; ++i) {
+			points.add(new Point2d(px, py));
+			if (i == 0) {
+				path.moveTo(px, py);
+			} else {
+				path.lineTo(px, py);
+			}
+			angle += (getRandom().nextDouble() - .5) * .5;
+			px += Math.cos(angle);
+			py += Math.sin(angle);
+		}
+	}
+
+	private static double getDistance(Path2d path, Point2d point) {
+		double distance = Double.POSITIVE_INFINITY;
+		final PathIterator2afp<PathElement2d> iterator = path.getPathIterator();
+		while (iterator.hasNext()) {
+			final PathElement2d element = iterator.next();
+			if (element.getType() == PathElementType.MOVE_TO) {
+				distance = Math.min(distance, Math.hypot(point.getX() - element.getToX(), point.getY() - element.getToY()));
+			} else {
+				distance = Math.min(distance, Segment2afp.calculatesDistanceSegmentPoint(
+						element.getFromX(), element.getFromY(), element.getToX(), element.getToY(),
+						point.getX(), point.getY()));
+			}
+		}
+		return distance;
+	}
+
+	@Test
+	public void line() {
+		final Path2d path = new Path2d();
+		path.moveTo(0, 0);
+		for (int i = 1; i <= 100; ++i) {
+			path.lineTo(i, (getRandom().nextDouble() - .5) * .1);
+		}
+		final Path2d simplified = new Path2d(new SimplifyingPathIterator2afp<>(path.getPathIterator(), .1));
+		assertEquals(2, simplified.size());
+		assertEquals(path.getPointAt(0), simplified.getPointAt(0));
+		assertEquals(path.getPointAt(100), simplified.getPointAt(1));
+	}
+
+	@Test
+	public void traces() {
+		final Path2d path = new Path2d();
+		final List<Point2d> points = new ArrayList<>();
+		addTrace(path, points, 0, 0, 5000);
+		addTrace(path, points, 100, 100, 5000);
+		final double tolerance = .5;
+		final Path2d simplified = new Path2d(new SimplifyingPathIterator2afp<>(path.getPathIterator(), tolerance));
+		assertTrue(simplified.size() < points.size() / 2);
+		assertEquals(2, simplified.getPathElementCount() - simplified.size() + 2);
+		assertEquals(points.get(0), simplified.getPointAt(0));
+		assertEquals(points.get(points.size() - 1), simplified.getPointAt(simplified.size() - 1));
+		for (final Point2d point : points) {
+			assertTrue(getDistance(simplified, point) <= tolerance + 1e-9);
+		}
+	}
+
+	@Test
+	public void closedPolygon() {
+		final Path2d path = new Path2d();
+		for (int i = 0; i < 400; ++i) {
+			final double x = i < 100 ? i : (i < 200 ? 100 : (i < 300 ? 300 - i : 0));
+			final double y = i < 100 ? 0 : (i < 200 ? i - 100 : (i < 300 ? 100 : 400 - i));
+			if (i == 0) {
+				path.moveTo(x, y);
+			} else {
+				path.lineTo(x, y);
+			}
+		}
+		path.closePath();
+		final SimplifyingPathIterator2afp<PathElement2d> iterator =
+				new SimplifyingPathIterator2afp<>(path.getPathIterator(), .1);
+		final List<PathElementType> types = new ArrayList<>();
+		final List<Point2d> points = new ArrayList<>();
+		while (iterator.hasNext()) {
+			final PathElement2d element = iterator.next();
+			types.add(element.getType());
+			points.add(new Point2d(element.getToX(), element.getToY()));
+		}
+		assertEquals(6, types.size());
+		assertEquals(PathElementType.MOVE_TO, types.get(0));
+		assertEquals(PathElementType.CLOSE, types.get(5));
+		assertEquals(new Point2d(0, 0), points.get(0));
+		assertEquals(new Point2d(100, 0), points.get(1));
+		assertEquals(new Point2d(100, 100), points.get(2));
+		assertEquals(new Point2d(0, 100), points.get(3));
+		assertEquals(new Point2d(0, 1), points.get(4));
+		assertEquals(new Point2d(0, 0), points.get(5));
+	}
+
+	@Test
+	public void restartIterations() {
+		final Path2d path = new Path2d();
+		addTrace(path, new ArrayList<>(), 0, 0, 1000);
+		final PathIterator2afp<PathElement2d> iterator = new SimplifyingPathIterator2afp<>(path.getPathIterator(), .5);
+		final Path2d simplified = new Path2d(iterator);
+		assertFalse(iterator.hasNext());
+		assertEquals(simplified, new Path2d(iterator.restartIterations()));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void curves() {
+		final Path2d path = new Path2d();
+		path.moveTo(0, 0);
+		path.quadTo(5, 5, 10, 0);
+		final PathIterator2afp<PathElement2d> iterator = new SimplifyingPathIterator2afp<>(path.getPathIterator(), .5);
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.ai;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.d2.Point2D;
+import org.arakhne.afc.math.geometry.d2.i.Point2i;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class InnerComputationScratch2aiTest extends AbstractMathTestCase {
+
+	private static long getAllocationCount() {
+		try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+			return scratch.getAllocationCount();
+		}
+	}
+
+	@Test
+	public void nestedScopes() {
+		try (InnerComputationScratch2ai scratch = InnerComputationScratch2ai.open()) {
+			final Point2D<?, ?> p1 = scratch.point();
+			final Point2D<?, ?> p2;
+			try (InnerComputationScratch2ai inner = InnerComputationScratch2ai.open()) {
+				assertSame(scratch, inner);
+				p2 = inner.point();
+				assertNotSame(p1, p2);
+			}
+			assertSame(p2, scratch.point());
+		}
+	}
+
+	@Test
+	public void noAllocationInSteadyState() {
+		final Point2i result = new Point2i();
+		// The first run fills the pool
+		runQueries(result, 0);
+		final long count = getAllocationCount();
+		for (int i = 1; i < 1000; ++i) {
+			runQueries(result, i);
+		}
+		assertEquals(count, getAllocationCount());
+	}
+
+	private static void runQueries(Point2i result, int index) {
+		final int x = index % 50;
+		final int y = (index * 7) % 50;
+		Segment2ai.findsClosestPointSegmentPoint(0, 0, 40, 17, x, y, result);
+		Segment2ai.calculatesCrossingsRectangleShadowSegment(0, 5, 5, 10, 12, x, y, 40, 17);
+		Segment2ai.intersectsSegmentSegment(0, 0, 40, 17, x, y, 40 - x, 17 - y, true, true, result);
+	}
+
+}
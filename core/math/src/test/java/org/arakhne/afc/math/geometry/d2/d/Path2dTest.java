@@ -20,7 +20,16 @@
 
 package org.arakhne.afc.math.geometry.d2.d;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.geometry.PathWindingRule;
 import org.arakhne.afc.math.geometry.d2.afp.AbstractPath2afpTest;
+import org.arakhne.afc.math.geometry.d2.afp.Path2afp;
+import org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp;
 
 @SuppressWarnings("all")
 public class Path2dTest extends AbstractPath2afpTest<Path2d, Rectangle2d> {
@@ -30,4 +39,114 @@ public class Path2dTest extends AbstractPath2afpTest<Path2d, Rectangle2d> {
 		return TestShapeFactory2d.SINGLETON;
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void addPolyline() {
+		final Path2d path = new Path2d();
+		path.moveTo(-1, -1);
+		path.lineTo(-2, -2);
+		path.moveTo(0, 0);
+		path.addPolyline(new double[] {0, 1, 2, 4, 5, 7, 8, 10, 11}, 1, 4);
+		final Path2d expected = new Path2d();
+		expected.moveTo(-1, -1);
+		expected.lineTo(-2, -2);
+		expected.moveTo(1, 2);
+		expected.lineTo(4, 5);
+		expected.lineTo(7, 8);
+		expected.lineTo(10, 11);
+		assertEquals(expected.getPathElementCount(), path.getPathElementCount());
+		for (int i = 0; i < expected.getPathElementCount(); ++i) {
+			assertEquals(expected.getPathElementTypeAt(i), path.getPathElementTypeAt(i));
+		}
+		assertEquals(expected.size(), path.size());
+		for (int i = 0; i < expected.size() * 2; ++i) {
+			assertEpsilonEquals(expected.getCoordAt(i), path.getCoordAt(i));
+		}
+		assertTrue(path.isMultiParts());
+		assertFalse(path.isPolyline());
+		assertFalse(path.isEmpty());
+		assertEquals(expected.hashCode(), path.hashCode());
+	}
+
+	@Test
+	public void ensureCapacity_trimToSize() {
+		final Path2d path = new Path2d(PathWindingRule.NON_ZERO, 1);
+		path.ensureCapacity(1000);
+		path.moveTo(0, 0);
+		for (int i = 1; i < 1000; ++i) {
+			path.lineTo(i, i);
+		}
+		path.trimToSize();
+		path.closePath();
+		assertEquals(1001, path.getPathElementCount());
+		assertEquals(1000, path.size());
+		assertTrue(path.isPolygon());
+		path.removeLast();
+		path.removeLast();
+		assertEquals(998, path.getCurrentX(), 0);
+	}
+
+	@Test
+	public void remove_lastElements() {
+		final Path2d path = new Path2d(PathWindingRule.NON_ZERO, 3);
+		path.moveTo(0, 0);
+		path.lineTo(1, 1);
+		path.lineTo(2, 2);
+		assertTrue(path.remove(2, 2));
+		assertEquals(2, path.getPathElementCount());
+		assertEquals(2, path.size());
+	}
+
+	private static void assertSameIterators(PathIterator2afp<PathElement2d> expected, PathIterator2afp<PathElement2d> actual) {
+		while (expected.hasNext()) {
+			assertTrue(actual.hasNext());
+			assertEquals(expected.next(), actual.next());
+		}
+		assertFalse(actual.hasNext());
+	}
+
+	private static PathIterator2afp<PathElement2d> flatten(Path2d path, double flatness) {
+		return new Path2afp.FlatteningPathIterator<>(path.getPathIterator(null), flatness, Path2afp.DEFAULT_FLATTENING_LIMIT);
+	}
+
+	@Test
+	public void getPathIteratorDouble_cached() {
+		final Path2d path = new Path2d();
+		path.moveTo(0, 0);
+		path.quadTo(3, 0, 4, 3);
+		path.curveTo(5, -1, 6, 5, 7, -5);
+		assertSameIterators(flatten(path, .1), path.getPathIterator(.1));
+		assertSameIterators(flatten(path, .1), path.getPathIterator(.1));
+		assertSameIterators(flatten(path, 1), path.getPathIterator(1));
+		path.translate(2, 3);
+		assertSameIterators(flatten(path, 1), path.getPathIterator(1));
+		path.closePath();
+		assertSameIterators(flatten(path, 1), path.getPathIterator(1));
+		path.setWindingRule(PathWindingRule.EVEN_ODD);
+		assertEquals(PathWindingRule.EVEN_ODD, path.getPathIterator(1).getWindingRule());
+		final Path2d clone = path.clone();
+		clone.lineTo(10, 10);
+		assertSameIterators(flatten(path, 1), path.getPathIterator(1));
+		assertSameIterators(flatten(clone, 1), clone.getPathIterator(1));
+	}
+
+	@Test
+	public void getPathIteratorDouble_cachedCursor() {
+		final Path2d path = new Path2d();
+		path.moveTo(0, 0);
+		path.curveTo(5, -1, 6, 5, 7, -5);
+		path.closePath();
+		final PathIterator2afp<PathElement2d> expected = flatten(path, .1);
+		final PathIterator2afp<PathElement2d> actual = path.getPathIterator(.1);
+		final double[] expectedCoords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+		final double[] actualCoords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+		while (expected.hasNext()) {
+			assertEquals(expected.next(expectedCoords), actual.next(actualCoords));
+			assertEpsilonEquals(expectedCoords[0], actualCoords[0]);
+			assertEpsilonEquals(expectedCoords[1], actualCoords[1]);
+		}
+		assertFalse(actual.hasNext());
+		assertEquals(expected.isPolygon(), actual.isPolygon());
+		assertEquals(expected.isPolyline(), actual.isPolyline());
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.d2.Transform2D;
+import org.arakhne.afc.math.geometry.d2.afp.PathElement2afp;
+import org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class PathIterator2dCursorTest extends AbstractMathTestCase {
+
+	private static Path2d createPath() {
+		final Path2d path = new Path2d();
+		path.moveTo(1, 1);
+		path.lineTo(2, 2);
+		path.quadTo(3, 0, 4, 3);
+		path.curveTo(5, -1, 6, 5, 7, -3);
+		path.closePath();
+		path.moveTo(-5, -5);
+		path.lineTo(-6, 0);
+		return path;
+	}
+
+	private static Transform2D createTransform() {
+		final Transform2D transform = new Transform2D();
+		transform.setTranslation(3, -4);
+		transform.setRotation(Math.PI / 3);
+		return transform;
+	}
+
+	private void assertSameIterations(PathIterator2afp<?> expected, PathIterator2afp<?> actual) {
+		final double[] expectedCoords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+		final double[] coords = new double[PathIterator2afp.CURSOR_ARRAY_SIZE];
+		while (expected.hasNext()) {
+			assertTrue(actual.hasNext());
+			final PathElement2afp element = expected.next();
+			element.toArray(expectedCoords);
+			final PathElementType type = actual.next(coords);
+			assertEquals(element.getType(), type);
+			final int n;
+			switch (type) {
+			case QUAD_TO:
+				n = 4;
+				break;
+			case CURVE_TO:
+				n = 6;
+				break;
+			//$CASES-OMITTED$
+			default:
+				n = 2;
+				break;
+			}
+			for (int i = 0; i < n; ++i) {
+				assertEpsilonEquals(expectedCoords[i], coords[i]);
+			}
+		}
+		assertFalse(actual.hasNext());
+	}
+
+	@Test
+	public void pathIterator() {
+		final Path2d path = createPath();
+		assertSameIterations(path.getPathIterator(), path.getPathIterator());
+	}
+
+	@Test
+	public void transformedPathIterator() {
+		final Path2d path = createPath();
+		final Transform2D transform = createTransform();
+		assertSameIterations(path.getPathIterator(transform), path.getPathIterator(transform));
+	}
+
+	@Test
+	public void flatteningPathIterator() {
+		final Path2d path = createPath();
+		assertSameIterations(path.getPathIterator(.01), path.getPathIterator(.01));
+		final Transform2D transform = createTransform();
+		assertSameIterations(path.getPathIterator(transform, .01), path.getPathIterator(transform, .01));
+	}
+
+	@Test
+	public void rectanglePathIterator() {
+		final Rectangle2d rectangle = new Rectangle2d(1, 2, 3, 4);
+		assertSameIterations(rectangle.getPathIterator(), rectangle.getPathIterator());
+		final Transform2D transform = createTransform();
+		assertSameIterations(rectangle.getPathIterator(transform), rectangle.getPathIterator(transform));
+	}
+
+	@Test
+	public void segmentPathIterator() {
+		final Segment2d segment = new Segment2d(1, 2, -3, 4);
+		assertSameIterations(segment.getPathIterator(), segment.getPathIterator());
+		final Transform2D transform = createTransform();
+		assertSameIterations(segment.getPathIterator(transform), segment.getPathIterator(transform));
+	}
+
+	@Test
+	public void defaultCursor() {
+		final Circle2d circle = new Circle2d(1, 2, 3);
+		assertSameIterations(circle.getPathIterator(), circle.getPathIterator());
+	}
+
+	@Test
+	public void polylineLength() {
+		final Path2d path = new Path2d();
+		path.moveTo(0, 0);
+		path.lineTo(3, 4);
+		path.lineTo(3, 0);
+		path.closePath();
+		path.moveTo(10, 10);
+		path.lineTo(10, 12);
+		assertEpsilonEquals(14, path.getLength());
+	}
+
+}
@@ -0,0 +1,214 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d2.d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.d2.afp.PathIterator2afp;
+import org.arakhne.afc.math.geometry.d2.afp.Segment2afp;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class PathSimplification2dTest extends AbstractMathTestCase {
+
+	private List<Point2d> createTrace(int count) {
+		final List<Point2d> points = new ArrayList<>();
+		double x = 0;
+		double y = 0;
+		double angle = 0;
+		for (int i = 0; i < count; ++i) {
+			points.add(new Point2d(x, y));
+			angle += (getRandom().nextDouble() - .5) * .5;
+			x += Math.cos(angle);
+			y += Math.sin(angle);
+		}
+		return points;
+	}
+
+	private static List<Point2d> getPoints(Path2d path) {
+		final List<Point2d> points = new ArrayList<>();
+		final PathIterator2afp<PathElement2d> iterator = path.getPathIterator();
+		while (iterator.hasNext()) {
+			final PathElement2d element = iterator.next();
+			if (element.getType() != PathElementType.CLOSE) {
+				points.add(new Point2d(element.getToX(), element.getToY()));
+			}
+		}
+		return points;
+	}
+
+	private static double getDistance(List<Point2d> polyline, Point2d point) {
+		double distance = Double.POSITIVE_INFINITY;
+		for (int i = 1; i < polyline.size(); ++i) {
+			distance = Math.min(distance, Segment2afp.calculatesDistanceSegmentPoint(
+					polyline.get(i - 1).getX(), polyline.get(i - 1).getY(),
+					polyline.get(i).getX(), polyline.get(i).getY(),
+					point.getX(), point.getY()));
+		}
+		return distance;
+	}
+
+	@Test
+	public void convexHull_square() {
+		final List<Point2d> points = new ArrayList<>();
+		points.add(new Point2d(5, 5));
+		points.add(new Point2d(10, 0));
+		points.add(new Point2d(0, 0));
+		points.add(new Point2d(5, 0));
+		points.add(new Point2d(10, 10));
+		points.add(new Point2d(2, 8));
+		points.add(new Point2d(0, 10));
+		final Path2d hull = PathSimplification2d.convexHull(points);
+		final List<Point2d> vertices = getPoints(hull);
+		assertEquals(4, vertices.size());
+		assertEquals(new Point2d(0, 0), vertices.get(0));
+		assertEquals(new Point2d(10, 0), vertices.get(1));
+		assertEquals(new Point2d(10, 10), vertices.get(2));
+		assertEquals(new Point2d(0, 10), vertices.get(3));
+		assertEquals(PathElementType.CLOSE, hull.getPathElementTypeAt(hull.getPathElementCount() - 1));
+	}
+
+	@Test
+	public void convexHull_random() {
+		final List<Point2d> points = new ArrayList<>();
+		for (int i = 0; i < 5000; ++i) {
+			final double angle = getRandom().nextDouble() * 2 * Math.PI;
+			final double radius = Math.sqrt(getRandom().nextDouble()) * 50;
+			points.add(new Point2d(Math.cos(angle) * radius, Math.sin(angle) * radius));
+		}
+		final List<Point2d> vertices = getPoints(PathSimplification2d.convexHull(points));
+		final int count = vertices.size();
+		assertTrue(count > 3);
+		for (int i = 0; i < count; ++i) {
+			final Point2d first = vertices.get(i);
+			final Point2d second = vertices.get((i + 1) % count);
+			assertTrue(points.contains(first));
+			// All the points are on the left side of each edge of the hull
+			for (final Point2d point : points) {
+				final double cross = (second.getX() - first.getX()) * (point.getY() - first.getY())
+						- (second.getY() - first.getY()) * (point.getX() - first.getX());
+				assertTrue(cross >= -1e-9);
+			}
+		}
+	}
+
+	@Test
+	public void convexHull_degenerated() {
+		final List<Point2d> points = new ArrayList<>();
+		assertTrue(PathSimplification2d.convexHull(points).isEmpty());
+		points.add(new Point2d(1, 2));
+		assertEquals(1, PathSimplification2d.convexHull(points).size());
+		points.add(new Point2d(3, 4));
+		points.add(new Point2d(2, 3));
+		final Path2d hull = PathSimplification2d.convexHull(points);
+		assertEquals(2, hull.size());
+		assertFalse(hull.isPolygon());
+		assertEquals(new Point2d(1, 2), hull.getPointAt(0));
+		assertEquals(new Point2d(3, 4), hull.getPointAt(1));
+	}
+
+	@Test
+	public void convexHull_nearlyCollinear() {
+		final List<Point2d> points = new ArrayList<>();
+		points.add(new Point2d(62.1, 186.3));
+		points.add(new Point2d(69.9, 209.7));
+		points.add(new Point2d(23.4, 70.2));
+		points.add(new Point2d(1.9, 5.7));
+		final List<Point2d> vertices = getPoints(PathSimplification2d.convexHull(points));
+		assertFalse(vertices.isEmpty());
+		assertTrue(vertices.contains(new Point2d(1.9, 5.7)));
+		assertTrue(vertices.contains(new Point2d(69.9, 209.7)));
+		for (final Point2d vertex : vertices) {
+			assertTrue(points.contains(vertex));
+		}
+	}
+
+	@Test
+	public void simplifyDouglasPeucker_line() {
+		final List<Point2d> points = new ArrayList<>();
+		for (int i = 0; i <= 100; ++i) {
+			points.add(new Point2d(i, (getRandom().nextDouble() - .5) * .1));
+		}
+		final Path2d path = PathSimplification2d.simplifyDouglasPeucker(points, .1);
+		assertEquals(2, path.size());
+		assertEquals(points.get(0), path.getPointAt(0));
+		assertEquals(points.get(100), path.getPointAt(1));
+	}
+
+	@Test
+	public void simplifyDouglasPeucker_trace() {
+		final List<Point2d> points = createTrace(5000);
+		final double tolerance = .5;
+		final Path2d path = PathSimplification2d.simplifyDouglasPeucker(points, tolerance);
+		final List<Point2d> vertices = getPoints(path);
+		assertTrue(vertices.size() < points.size() / 2);
+		assertEquals(points.get(0), vertices.get(0));
+		assertEquals(points.get(points.size() - 1), vertices.get(vertices.size() - 1));
+		for (final Point2d point : points) {
+			assertTrue(getDistance(vertices, point) <= tolerance);
+		}
+		assertEquals(points.size(), PathSimplification2d.simplifyDouglasPeucker(points, 0).size());
+	}
+
+	@Test
+	public void simplifyVisvalingamWhyatt_collinear() {
+		final List<Point2d> points = new ArrayList<>();
+		for (int i = 0; i <= 10; ++i) {
+			points.add(new Point2d(i, 2 * i));
+		}
+		points.add(new Point2d(11, 0));
+		final Path2d path = PathSimplification2d.simplifyVisvalingamWhyatt(points, 1e-6);
+		assertEquals(3, path.size());
+		assertEquals(new Point2d(0, 0), path.getPointAt(0));
+		assertEquals(new Point2d(10, 20), path.getPointAt(1));
+		assertEquals(new Point2d(11, 0), path.getPointAt(2));
+	}
+
+	@Test
+	public void simplifyVisvalingamWhyatt_trace() {
+		final List<Point2d> points = createTrace(5000);
+		int previousSize = points.size();
+		for (final double area : new double[] {0, .1, 1, 10, 1000}) {
+			final List<Point2d> vertices = getPoints(PathSimplification2d.simplifyVisvalingamWhyatt(points, area));
+			assertTrue(vertices.size() <= previousSize);
+			assertEquals(points.get(0), vertices.get(0));
+			assertEquals(points.get(points.size() - 1), vertices.get(vertices.size() - 1));
+			assertTrue(points.containsAll(vertices));
+			previousSize = vertices.size();
+		}
+		assertTrue(previousSize < 100);
+	}
+
+}
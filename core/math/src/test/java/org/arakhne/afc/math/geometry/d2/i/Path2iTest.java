@@ -20,6 +20,13 @@
 
 package org.arakhne.afc.math.geometry.d2.i;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.geometry.PathWindingRule;
 import org.arakhne.afc.math.geometry.d2.ai.AbstractPath2aiTest;
 
 @SuppressWarnings("all")
@@ -30,4 +37,61 @@ public class Path2iTest extends AbstractPath2aiTest<Path2i, Rectangle2i> {
 		return TestShapeFactory2i.SINGLETON;
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void addPolyline() {
+		final Path2i path = new Path2i();
+		path.moveTo(-1, -1);
+		path.lineTo(-2, -2);
+		path.moveTo(0, 0);
+		path.addPolyline(new int[] {0, 1, 2, 4, 5, 7, 8, 10, 11}, 1, 4);
+		final Path2i expected = new Path2i();
+		expected.moveTo(-1, -1);
+		expected.lineTo(-2, -2);
+		expected.moveTo(1, 2);
+		expected.lineTo(4, 5);
+		expected.lineTo(7, 8);
+		expected.lineTo(10, 11);
+		assertEquals(expected.getPathElementCount(), path.getPathElementCount());
+		for (int i = 0; i < expected.getPathElementCount(); ++i) {
+			assertEquals(expected.getPathElementTypeAt(i), path.getPathElementTypeAt(i));
+		}
+		assertEquals(expected.size(), path.size());
+		for (int i = 0; i < expected.size() * 2; ++i) {
+			assertEpsilonEquals(expected.getCoordAt(i), path.getCoordAt(i));
+		}
+		assertTrue(path.isMultiParts());
+		assertFalse(path.isPolyline());
+		assertFalse(path.isEmpty());
+		assertEquals(expected.hashCode(), path.hashCode());
+	}
+
+	@Test
+	public void ensureCapacity_trimToSize() {
+		final Path2i path = new Path2i(PathWindingRule.NON_ZERO, 1);
+		path.ensureCapacity(1000);
+		path.moveTo(0, 0);
+		for (int i = 1; i < 1000; ++i) {
+			path.lineTo(i, i);
+		}
+		path.trimToSize();
+		path.closePath();
+		assertEquals(1001, path.getPathElementCount());
+		assertEquals(1000, path.size());
+		assertTrue(path.isPolygon());
+		path.removeLast();
+		path.removeLast();
+		assertEquals(998, path.getCurrentX(), 0);
+	}
+
+	@Test
+	public void remove_lastElements() {
+		final Path2i path = new Path2i(PathWindingRule.NON_ZERO, 3);
+		path.moveTo(0, 0);
+		path.lineTo(1, 1);
+		path.lineTo(2, 2);
+		assertTrue(path.remove(2, 2));
+		assertEquals(2, path.getPathElementCount());
+		assertEquals(2, path.size());
+	}
+
+}
@@ -661,4 +661,36 @@ public abstract class AbstractUnmodifiableVector3DTest<V extends Vector3D<? supe
 		vect.operator_remove(vector);
 	}
 
+	@Override
+	@Test(expected = UnsupportedOperationException.class)
+	public final void operator_multiplyAssignDouble_iffp() {
+		Assume.assumeFalse(isIntCoordinates());
+		Vector3D vect = createTuple(1, -2, 0);
+		vect.operator_multiplyAssign(2);
+	}
+
+	@Override
+	@Test(expected = UnsupportedOperationException.class)
+	public final void operator_multiplyAssignDouble_ifi() {
+		Assume.assumeTrue(isIntCoordinates());
+		Vector3D vect = createTuple(1, -2, 0);
+		vect.operator_multiplyAssign(2);
+	}
+
+	@Override
+	@Test(expected = UnsupportedOperationException.class)
+	public final void operator_divideAssignDouble_iffp() {
+		Assume.assumeFalse(isIntCoordinates());
+		Vector3D vect = createTuple(1, -2, 0);
+		vect.operator_divideAssign(2);
+	}
+
+	@Override
+	@Test(expected = UnsupportedOperationException.class)
+	public final void operator_divideAssignDouble_ifi() {
+		Assume.assumeTrue(isIntCoordinates());
+		Vector3D vect = createTuple(1, -2, 0);
+		vect.operator_divideAssign(2);
+	}
+
 }
@@ -1215,4 +1215,40 @@ public abstract class AbstractVector3DTest<V extends Vector3D<? super V, ? super
 		assertIntVectorEquals(1, 1, 0, vect2);
 	}
 
+	@Test
+	public void operator_multiplyAssignDouble_iffp() {
+		Assume.assumeFalse(isIntCoordinates());
+		Vector3D vect = createVector(1.5, -2, 0);
+
+		vect.operator_multiplyAssign(2.5);
+		assertFpVectorEquals(3.75, -5, 0, vect);
+	}
+
+	@Test
+	public void operator_multiplyAssignDouble_ifi() {
+		Assume.assumeTrue(isIntCoordinates());
+		Vector3D vect = createVector(1, -2, 0);
+
+		vect.operator_multiplyAssign(3);
+		assertIntVectorEquals(3, -6, 0, vect);
+	}
+
+	@Test
+	public void operator_divideAssignDouble_iffp() {
+		Assume.assumeFalse(isIntCoordinates());
+		Vector3D vect = createVector(1.5, -2, 0);
+
+		vect.operator_divideAssign(2);
+		assertFpVectorEquals(.75, -1, 0, vect);
+	}
+
+	@Test
+	public void operator_divideAssignDouble_ifi() {
+		Assume.assumeTrue(isIntCoordinates());
+		Vector3D vect = createVector(4, -6, 0);
+
+		vect.operator_divideAssign(2);
+		assertIntVectorEquals(2, -3, 0, vect);
+	}
+
 }
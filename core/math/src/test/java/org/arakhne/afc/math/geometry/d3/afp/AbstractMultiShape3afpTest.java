@@ -1020,4 +1020,118 @@ public abstract class AbstractMultiShape3afpTest<T extends MultiShape3afp<?, T,
 		assertEpsilonEquals(9, box.getMaxZ());
 	}
 
+	private MultiShape3afp createLargeMultiShape() {
+		final MultiShape3afp multishape = createMultiShape();
+		for (int i = 0; i < 200; ++i) {
+			final double x = getRandom().nextDouble() * 1000;
+			final double y = getRandom().nextDouble() * 1000;
+			final double z = getRandom().nextDouble() * 1000;
+			if (i % 2 == 0) {
+				multishape.add(createSphere(x, y, z, 1 + getRandom().nextDouble() * 50));
+			} else {
+				multishape.add(createRectangularPrism(x, y, z, 1 + getRandom().nextDouble() * 80,
+						1 + getRandom().nextDouble() * 80, 1 + getRandom().nextDouble() * 80));
+			}
+		}
+		return multishape;
+	}
+
+	private void assertSpatialQueries(MultiShape3afp multishape) {
+		final java.util.List<Shape3afp> list = multishape.getBackendDataList();
+		for (int i = 0; i < 200; ++i) {
+			final Point3D point = createPoint(getRandom().nextDouble() * 1000, getRandom().nextDouble() * 1000,
+					getRandom().nextDouble() * 1000);
+			Shape3afp first = null;
+			final java.util.List<Shape3afp> containing = new java.util.ArrayList<>();
+			for (final Shape3afp shape : list) {
+				if (shape.contains(point)) {
+					if (first == null) {
+						first = shape;
+					}
+					containing.add(shape);
+				}
+			}
+			assertSame(first, multishape.getFirstShapeContaining(point));
+			assertEquals(containing, multishape.getShapesContaining(point));
+			assertEquals(first != null, multishape.contains(point.getX(), point.getY(), point.getZ()));
+
+			final Sphere3afp sphere = createSphere(point.getX(), point.getY(), point.getZ(), getRandom().nextDouble() * 100);
+			final java.util.List<Shape3afp> intersecting = new java.util.ArrayList<>();
+			double min = Double.POSITIVE_INFINITY;
+			Point3D closest = null;
+			for (final Shape3afp shape : list) {
+				if (shape.intersects(sphere)) {
+					intersecting.add(shape);
+				}
+				final Point3D p = shape.getClosestPointTo(sphere);
+				final double d = sphere.getDistanceSquared(p);
+				if (d < min) {
+					min = d;
+					closest = p;
+				}
+			}
+			assertEquals(!intersecting.isEmpty(), multishape.intersects(sphere));
+			assertEquals(intersecting, multishape.getShapesIntersecting(sphere));
+			assertSame(intersecting.isEmpty() ? null : intersecting.get(0), multishape.getFirstShapeIntersecting(sphere));
+			assertEpsilonEquals(closest, multishape.getClosestPointTo(sphere));
+
+			double minDist = Double.POSITIVE_INFINITY;
+			double minL1 = Double.POSITIVE_INFINITY;
+			double minLinf = Double.POSITIVE_INFINITY;
+			Point3D closestToPoint = null;
+			for (final Shape3afp shape : list) {
+				final double d = shape.getDistanceSquared(point);
+				if (d < minDist) {
+					minDist = d;
+					closestToPoint = shape.getClosestPointTo(point);
+				}
+				minL1 = Math.min(minL1, shape.getDistanceL1(point));
+				minLinf = Math.min(minLinf, shape.getDistanceLinf(point));
+			}
+			assertEpsilonEquals(closestToPoint, multishape.getClosestPointTo(point));
+			assertEpsilonEquals(minDist, multishape.getDistanceSquared(point));
+			assertEpsilonEquals(minL1, multishape.getDistanceL1(point));
+			assertEpsilonEquals(minLinf, multishape.getDistanceLinf(point));
+
+			final Segment3afp segment = createSegment(point.getX(), point.getY(), point.getZ(),
+					point.getX() + getRandom().nextDouble() * 200 - 100, point.getY() + getRandom().nextDouble() * 200 - 100,
+					point.getZ() + getRandom().nextDouble() * 200 - 100);
+			boolean pathIntersection = false;
+			for (final Shape3afp shape : list) {
+				if (shape.intersects((PathIterator3afp) segment.getPathIterator())) {
+					pathIntersection = true;
+					break;
+				}
+			}
+			assertEquals(pathIntersection, multishape.intersects((PathIterator3afp) segment.getPathIterator()));
+		}
+	}
+
+	@Test
+	public void spatialIndex() {
+		final MultiShape3afp multishape = createLargeMultiShape();
+		assertNotNull(multishape.getSpatialIndex());
+		assertSame(multishape.getSpatialIndex(), multishape.getSpatialIndex());
+		assertSpatialQueries(multishape);
+	}
+
+	@Test
+	public void spatialIndex_changes() {
+		final MultiShape3afp multishape = createLargeMultiShape();
+		assertSpatialQueries(multishape);
+		multishape.translate(10, -10, 5);
+		assertSpatialQueries(multishape);
+		((Shape3afp) multishape.getBackendDataList().get(5)).translate(200, 200, 200);
+		assertSpatialQueries(multishape);
+		multishape.remove(multishape.getBackendDataList().get(0));
+		multishape.add(createRectangularPrism(500, 500, 500, 100, 100, 100));
+		assertSpatialQueries(multishape);
+	}
+
+	@Test
+	public void spatialIndex_smallMultiShape() {
+		assertNull(this.shape.getSpatialIndex());
+		assertNotNull(this.shape.createSpatialIndex());
+	}
+
 }
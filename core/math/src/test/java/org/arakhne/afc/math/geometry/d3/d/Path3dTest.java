@@ -20,6 +20,13 @@
 
 package org.arakhne.afc.math.geometry.d3.d;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.geometry.PathWindingRule;
 import org.arakhne.afc.math.geometry.d3.afp.AbstractPath3afpTest;
 
 @SuppressWarnings("all")
@@ -30,4 +37,61 @@ public class Path3dTest extends AbstractPath3afpTest<Path3d, RectangularPrism3d>
 		return TestShapeFactory3d.SINGLETON;
 	}
 
+	@Test
+	public void addPolyline() {
+		final Path3d path = new Path3d();
+		path.moveTo(-1, -1, -1);
+		path.lineTo(-2, -2, -2);
+		path.moveTo(0, 0, 0);
+		path.addPolyline(new double[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12}, 1, 4);
+		final Path3d expected = new Path3d();
+		expected.moveTo(-1, -1, -1);
+		expected.lineTo(-2, -2, -2);
+		expected.moveTo(1, 2, 3);
+		expected.lineTo(4, 5, 6);
+		expected.lineTo(7, 8, 9);
+		expected.lineTo(10, 11, 12);
+		assertEquals(expected.getPathElementCount(), path.getPathElementCount());
+		for (int i = 0; i < expected.getPathElementCount(); ++i) {
+			assertEquals(expected.getPathElementTypeAt(i), path.getPathElementTypeAt(i));
+		}
+		assertEquals(expected.size(), path.size());
+		for (int i = 0; i < expected.size() * 3; ++i) {
+			assertEpsilonEquals(expected.getCoordAt(i), path.getCoordAt(i));
+		}
+		assertTrue(path.isMultiParts());
+		assertFalse(path.isPolyline());
+		assertFalse(path.isEmpty());
+		assertEquals(expected.hashCode(), path.hashCode());
+	}
+
+	@Test
+	public void ensureCapacity_trimToSize() {
+		final Path3d path = new Path3d(PathWindingRule.NON_ZERO, 1);
+		path.ensureCapacity(1000);
+		path.moveTo(0, 0, 0);
+		for (int i = 1; i < 1000; ++i) {
+			path.lineTo(i, i, i);
+		}
+		path.trimToSize();
+		path.closePath();
+		assertEquals(1001, path.getPathElementCount());
+		assertEquals(1000, path.size());
+		assertTrue(path.isPolygon());
+		path.removeLast();
+		path.removeLast();
+		assertEquals(998, path.getCurrentX(), 0);
+	}
+
+	@Test
+	public void remove_lastElements() {
+		final Path3d path = new Path3d(PathWindingRule.NON_ZERO, 3);
+		path.moveTo(0, 0, 0);
+		path.lineTo(1, 1, 1);
+		path.lineTo(2, 2, 2);
+		assertTrue(path.remove(2, 2, 2));
+		assertEquals(2, path.getPathElementCount());
+		assertEquals(2, path.size());
+	}
+
 }
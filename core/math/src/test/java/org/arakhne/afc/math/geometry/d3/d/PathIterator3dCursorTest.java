@@ -0,0 +1,167 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d3.d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.d3.Transform3D;
+import org.arakhne.afc.math.geometry.d3.afp.Path3afp;
+import org.arakhne.afc.math.geometry.d3.afp.PathElement3afp;
+import org.arakhne.afc.math.geometry.d3.afp.PathIterator3afp;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class PathIterator3dCursorTest extends AbstractMathTestCase {
+
+	private static Path3d createPath() {
+		final Path3d path = new Path3d();
+		path.moveTo(1, 1, 1);
+		path.lineTo(2, 2, 0);
+		path.quadTo(3, 0, 1, 4, 3, 2);
+		path.curveTo(5, -1, 0, 6, 5, 1, 7, -3, 2);
+		path.closePath();
+		path.moveTo(-5, -5, -5);
+		path.lineTo(-6, 0, 4);
+		return path;
+	}
+
+	private static Transform3D createTransform() {
+		final Transform3D transform = new Transform3D();
+		transform.setTranslation(3, -4, 5);
+		return transform;
+	}
+
+	private void assertSameIterations(PathIterator3afp<?> expected, PathIterator3afp<?> actual) {
+		final double[] expectedCoords = new double[PathIterator3afp.CURSOR_ARRAY_SIZE];
+		final double[] coords = new double[PathIterator3afp.CURSOR_ARRAY_SIZE];
+		while (expected.hasNext()) {
+			assertTrue(actual.hasNext());
+			final PathElement3afp element = expected.next();
+			element.toArray(expectedCoords);
+			final PathElementType type = actual.next(coords);
+			assertEquals(element.getType(), type);
+			final int n;
+			switch (type) {
+			case QUAD_TO:
+				n = 6;
+				break;
+			case CURVE_TO:
+				n = 9;
+				break;
+			//$CASES-OMITTED$
+			default:
+				n = 3;
+				break;
+			}
+			for (int i = 0; i < n; ++i) {
+				assertEpsilonEquals(expectedCoords[i], coords[i]);
+			}
+		}
+		assertFalse(actual.hasNext());
+	}
+
+	@Test
+	public void pathIterator() {
+		final Path3d path = createPath();
+		assertSameIterations(path.getPathIterator(), path.getPathIterator());
+	}
+
+	@Test
+	public void transformedPathIterator() {
+		final Path3d path = createPath();
+		final Transform3D transform = createTransform();
+		assertSameIterations(path.getPathIterator(transform), path.getPathIterator(transform));
+	}
+
+	@Test
+	public void flatteningPathIterator() {
+		final Path3d path = new Path3d();
+		path.moveTo(1, 1, 1);
+		path.lineTo(2, 2, 0);
+		path.lineTo(3, 0, 1);
+		path.closePath();
+		path.moveTo(-5, -5, -5);
+		path.lineTo(-6, 0, 4);
+		assertSameIterations(path.getPathIterator(.01), path.getPathIterator(.01));
+	}
+
+	@Test
+	public void polylineLength() {
+		final Path3d path = new Path3d();
+		path.moveTo(0, 0, 0);
+		path.lineTo(3, 4, 0);
+		path.lineTo(3, 4, 2);
+		path.moveTo(10, 10, 10);
+		path.lineTo(10, 12, 10);
+		assertEpsilonEquals(9, path.getLength());
+	}
+
+	@Test
+	public void controlPointBoundingBox() {
+		final RectangularPrism3d box = new RectangularPrism3d();
+		assertTrue(Path3afp.computeControlPointBoundingBox(createPath().getPathIterator(), box));
+		assertEpsilonEquals(-6, box.getMinX());
+		assertEpsilonEquals(-5, box.getMinY());
+		assertEpsilonEquals(-5, box.getMinZ());
+		assertEpsilonEquals(7, box.getMaxX());
+		assertEpsilonEquals(5, box.getMaxY());
+		assertEpsilonEquals(4, box.getMaxZ());
+	}
+
+	@Test
+	public void drawableElementBoundingBox() {
+		final Path3d path = new Path3d();
+		path.moveTo(1, 1, 1);
+		path.lineTo(2, -2, 0);
+		path.closePath();
+		path.moveTo(10, 10, 10);
+		final RectangularPrism3d box = new RectangularPrism3d();
+		assertTrue(Path3afp.computeDrawableElementBoundingBox(path.getPathIterator(), box));
+		assertEpsilonEquals(1, box.getMinX());
+		assertEpsilonEquals(-2, box.getMinY());
+		assertEpsilonEquals(0, box.getMinZ());
+		assertEpsilonEquals(2, box.getMaxX());
+		assertEpsilonEquals(1, box.getMaxY());
+		assertEpsilonEquals(1, box.getMaxZ());
+	}
+
+	@Test
+	public void lineElementToArray() {
+		final PathElement3d element = new PathElement3d.LinePathElement3d(1, 2, 3, 4, 5, 6);
+		final double[] coords = new double[3];
+		element.toArray(coords);
+		assertEpsilonEquals(4, coords[0]);
+		assertEpsilonEquals(5, coords[1]);
+		assertEpsilonEquals(6, coords[2]);
+	}
+
+}
@@ -0,0 +1,108 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d3.d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.d3.afp.PathIterator3afp;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class PathSimplification3dTest extends AbstractMathTestCase {
+
+	private List<Point3d> createHelix(int count) {
+		final List<Point3d> points = new ArrayList<>();
+		for (int i = 0; i < count; ++i) {
+			final double angle = i * .01;
+			points.add(new Point3d(Math.cos(angle) * 10, Math.sin(angle) * 10, i * .01));
+		}
+		return points;
+	}
+
+	private static List<Point3d> getPoints(Path3d path) {
+		final List<Point3d> points = new ArrayList<>();
+		final PathIterator3afp<PathElement3d> iterator = path.getPathIterator();
+		while (iterator.hasNext()) {
+			final PathElement3d element = iterator.next();
+			points.add(new Point3d(element.getToX(), element.getToY(), element.getToZ()));
+		}
+		return points;
+	}
+
+	@Test
+	public void simplifyDouglasPeucker_line() {
+		final List<Point3d> points = new ArrayList<>();
+		for (int i = 0; i <= 100; ++i) {
+			points.add(new Point3d(i, (getRandom().nextDouble() - .5) * .04, 2 * i + (getRandom().nextDouble() - .5) * .04));
+		}
+		final List<Point3d> vertices = getPoints(PathSimplification3d.simplifyDouglasPeucker(points, .1));
+		assertEquals(2, vertices.size());
+		assertEquals(points.get(0), vertices.get(0));
+		assertEquals(points.get(100), vertices.get(1));
+	}
+
+	@Test
+	public void simplifyDouglasPeucker_helix() {
+		final List<Point3d> points = createHelix(2000);
+		final List<Point3d> vertices = getPoints(PathSimplification3d.simplifyDouglasPeucker(points, .1));
+		assertTrue(vertices.size() < 100);
+		assertTrue(vertices.size() > 4);
+		assertEquals(points.get(0), vertices.get(0));
+		assertEquals(points.get(1999), vertices.get(vertices.size() - 1));
+		assertEquals(points.size(), PathSimplification3d.simplifyDouglasPeucker(points, 0).size());
+	}
+
+	@Test
+	public void simplifyVisvalingamWhyatt_collinear() {
+		final List<Point3d> points = new ArrayList<>();
+		for (int i = 0; i <= 10; ++i) {
+			points.add(new Point3d(i, 2 * i, -i));
+		}
+		points.add(new Point3d(11, 0, 0));
+		final List<Point3d> vertices = getPoints(PathSimplification3d.simplifyVisvalingamWhyatt(points, 1e-6));
+		assertEquals(3, vertices.size());
+		assertEquals(new Point3d(0, 0, 0), vertices.get(0));
+		assertEquals(new Point3d(10, 20, -10), vertices.get(1));
+		assertEquals(new Point3d(11, 0, 0), vertices.get(2));
+	}
+
+	@Test
+	public void simplifyVisvalingamWhyatt_helix() {
+		final List<Point3d> points = createHelix(2000);
+		final List<Point3d> vertices = getPoints(PathSimplification3d.simplifyVisvalingamWhyatt(points, .05));
+		assertTrue(vertices.size() < 200);
+		assertEquals(points.get(0), vertices.get(0));
+		assertEquals(points.get(1999), vertices.get(vertices.size() - 1));
+	}
+
+}
@@ -0,0 +1,335 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.geometry.d3.d;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.PathElementType;
+import org.arakhne.afc.math.geometry.d3.afp.PathIterator3afp;
+import org.arakhne.afc.math.geometry.d3.afp.Segment3afp;
+import org.arakhne.afc.math.geometry.d3.afp.TriangleMesh3afp;
+import org.arakhne.afc.math.geometry.d3.afp.TriangleMeshBvh3afp;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class TriangleMesh3dTest extends AbstractMathTestCase {
+
+	private static final int TRIANGLE_COUNT = 300;
+
+	private TriangleMesh3d createRandomMesh() {
+		final double[] vertices = new double[TRIANGLE_COUNT * 9];
+		final int[] indexes = new int[TRIANGLE_COUNT * 3];
+		for (int i = 0; i < TRIANGLE_COUNT; ++i) {
+			final double x = getRandom().nextDouble() * 100;
+			final double y = getRandom().nextDouble() * 100;
+			final double z = getRandom().nextDouble() * 100;
+			for (int k = 0; k < 3; ++k) {
+				vertices[i * 9 + k * 3] = x + getRandom().nextDouble() * 10;
+				vertices[i * 9 + k * 3 + 1] = y + getRandom().nextDouble() * 10;
+				vertices[i * 9 + k * 3 + 2] = z + getRandom().nextDouble() * 10;
+				indexes[i * 3 + k] = i * 3 + k;
+			}
+		}
+		return new TriangleMesh3d(vertices, indexes);
+	}
+
+	private static double[] triangle(TriangleMesh3d mesh, int index) {
+		final double[] coordinates = new double[9];
+		for (int k = 0; k < 3; ++k) {
+			final int vertex = mesh.getTriangleVertex(index, k);
+			coordinates[k * 3] = mesh.getVertexX(vertex);
+			coordinates[k * 3 + 1] = mesh.getVertexY(vertex);
+			coordinates[k * 3 + 2] = mesh.getVertexZ(vertex);
+		}
+		return coordinates;
+	}
+
+	private Point3d randomPoint() {
+		return new Point3d(getRandom().nextDouble() * 120 - 10, getRandom().nextDouble() * 120 - 10,
+				getRandom().nextDouble() * 120 - 10);
+	}
+
+	@Test
+	public void computeRayTriangleIntersectionFactor() {
+		assertEpsilonEquals(2., TriangleMesh3afp.computeRayTriangleIntersectionFactor(.2, .2, -2, 0, 0, 1,
+				0, 0, 0, 1, 0, 0, 0, 1, 0));
+		assertEpsilonEquals(-2., TriangleMesh3afp.computeRayTriangleIntersectionFactor(.2, .2, 2, 0, 0, 1,
+				0, 0, 0, 1, 0, 0, 0, 1, 0));
+		assertTrue(Double.isNaN(TriangleMesh3afp.computeRayTriangleIntersectionFactor(.8, .8, -2, 0, 0, 1,
+				0, 0, 0, 1, 0, 0, 0, 1, 0)));
+		assertTrue(Double.isNaN(TriangleMesh3afp.computeRayTriangleIntersectionFactor(.2, .2, 0, 1, 0, 0,
+				0, 0, 0, 1, 0, 0, 0, 1, 0)));
+	}
+
+	@Test
+	public void computeClosestPointTrianglePoint() {
+		final Point3d result = new Point3d();
+		assertEpsilonEquals(4., TriangleMesh3afp.computeClosestPointTrianglePoint(0, 0, 0, 1, 0, 0, 0, 1, 0,
+				.2, .2, 2, result));
+		assertEpsilonEquals(new Point3d(.2, .2, 0), result);
+		assertEpsilonEquals(2., TriangleMesh3afp.computeClosestPointTrianglePoint(0, 0, 0, 1, 0, 0, 0, 1, 0,
+				-1, -1, 0, result));
+		assertEpsilonEquals(new Point3d(0, 0, 0), result);
+		assertEpsilonEquals(1., TriangleMesh3afp.computeClosestPointTrianglePoint(0, 0, 0, 1, 0, 0, 0, 1, 0,
+				.5, -1, 0, result));
+		assertEpsilonEquals(new Point3d(.5, 0, 0), result);
+		assertEpsilonEquals(.5, TriangleMesh3afp.computeClosestPointTrianglePoint(0, 0, 0, 1, 0, 0, 0, 1, 0,
+				1, 1, 0, result));
+		assertEpsilonEquals(new Point3d(.5, .5, 0), result);
+		// Degenerated triangle
+		assertEpsilonEquals(1., TriangleMesh3afp.computeClosestPointTrianglePoint(0, 0, 0, 1, 0, 0, 2, 0, 0,
+				1, 1, 0, result));
+		assertEpsilonEquals(new Point3d(1, 0, 0), result);
+	}
+
+	@Test
+	public void intersectsTrianglePrism() {
+		assertTrue(TriangleMesh3afp.intersectsTrianglePrism(0, 0, 0, 10, 0, 0, 0, 10, 0, 1, 1, -1, 2, 2, 1));
+		assertFalse(TriangleMesh3afp.intersectsTrianglePrism(0, 0, 0, 10, 0, 0, 0, 10, 0, 1, 1, 1, 2, 2, 2));
+		assertFalse(TriangleMesh3afp.intersectsTrianglePrism(0, 0, 0, 10, 0, 0, 0, 10, 0, 6, 6, -1, 7, 7, 1));
+		// The prism crosses the plane of the triangle outside of the triangle, near its hypotenuse
+		assertFalse(TriangleMesh3afp.intersectsTrianglePrism(0, 0, 0, 10, 0, 0, 0, 10, 0, 5.5, 5.5, -1, 6, 6, 1));
+		assertTrue(TriangleMesh3afp.intersectsTrianglePrism(0, 0, 0, 10, 0, 0, 0, 10, 0, 4.5, 4.5, -1, 6, 6, 1));
+		// A large prism that encloses the triangle
+		assertTrue(TriangleMesh3afp.intersectsTrianglePrism(0, 0, 0, 10, 0, 0, 0, 10, 0, -5, -5, -5, 20, 20, 20));
+	}
+
+	@Test
+	public void computeTrianglePrismIntersectionPoint() {
+		final Point3d result = new Point3d();
+		for (int i = 0; i < 200; ++i) {
+			final Point3d a = randomPoint();
+			final Point3d b = randomPoint();
+			final Point3d c = randomPoint();
+			final Point3d min = randomPoint();
+			final double size = getRandom().nextDouble() * 40;
+			final boolean intersects = TriangleMesh3afp.intersectsTrianglePrism(a.getX(), a.getY(), a.getZ(),
+					b.getX(), b.getY(), b.getZ(), c.getX(), c.getY(), c.getZ(),
+					min.getX(), min.getY(), min.getZ(), min.getX() + size, min.getY() + size, min.getZ() + size);
+			assertEquals(intersects, TriangleMesh3afp.computeTrianglePrismIntersectionPoint(a.getX(), a.getY(), a.getZ(),
+					b.getX(), b.getY(), b.getZ(), c.getX(), c.getY(), c.getZ(),
+					min.getX(), min.getY(), min.getZ(), min.getX() + size, min.getY() + size, min.getZ() + size, result));
+			if (intersects) {
+				assertEpsilonEquals(0., TriangleMesh3afp.computeClosestPointTrianglePoint(a.getX(), a.getY(), a.getZ(),
+						b.getX(), b.getY(), b.getZ(), c.getX(), c.getY(), c.getZ(),
+						result.getX(), result.getY(), result.getZ(), new Point3d()));
+				assertTrue(result.getX() >= min.getX() - 1e-9 && result.getX() <= min.getX() + size + 1e-9);
+				assertTrue(result.getY() >= min.getY() - 1e-9 && result.getY() <= min.getY() + size + 1e-9);
+				assertTrue(result.getZ() >= min.getZ() - 1e-9 && result.getZ() <= min.getZ() + size + 1e-9);
+			}
+		}
+	}
+
+	@Test
+	public void getBoundingVolumeHierarchy() {
+		final TriangleMesh3d mesh = createRandomMesh();
+		final TriangleMeshBvh3afp hierarchy = mesh.getBoundingVolumeHierarchy();
+		assertEquals(TRIANGLE_COUNT, hierarchy.getTriangleCount());
+		assertTrue(hierarchy.getNodeCount() < 2 * TRIANGLE_COUNT);
+		assertSame(hierarchy, mesh.getBoundingVolumeHierarchy());
+		final boolean[] found = new boolean[TRIANGLE_COUNT];
+		for (int i = 0; i < TRIANGLE_COUNT; ++i) {
+			final int index = hierarchy.getTriangleIndex(i);
+			assertFalse(found[index]);
+			found[index] = true;
+			final double[] triangle = triangle(mesh, index);
+			for (int k = 0; k < 3; ++k) {
+				for (int axis = 0; axis < 3; ++axis) {
+					assertEquals(triangle[k * 3 + axis], hierarchy.getTriangleCoordinate(i, k, axis), 0.);
+				}
+			}
+		}
+		mesh.translate(1, 2, 3);
+		assertNotSame(hierarchy, mesh.getBoundingVolumeHierarchy());
+		assertEpsilonEquals(hierarchy.getMinX() + 1, mesh.getBoundingVolumeHierarchy().getMinX());
+		assertEpsilonEquals(hierarchy.getMaxZ() + 3, mesh.getBoundingVolumeHierarchy().getMaxZ());
+	}
+
+	@Test
+	public void castRay() {
+		final TriangleMesh3d mesh = createRandomMesh();
+		final Point3d hit = new Point3d();
+		for (int i = 0; i < 200; ++i) {
+			final Point3d origin = randomPoint();
+			final Vector3d direction = new Vector3d(randomPoint().getX() - origin.getX(),
+					randomPoint().getY() - origin.getY(), randomPoint().getZ() - origin.getZ());
+			double expected = Double.POSITIVE_INFINITY;
+			int expectedTriangle = -1;
+			for (int j = 0; j < TRIANGLE_COUNT; ++j) {
+				final double[] t = triangle(mesh, j);
+				final double factor = TriangleMesh3afp.computeRayTriangleIntersectionFactor(
+						origin.getX(), origin.getY(), origin.getZ(), direction.getX(), direction.getY(), direction.getZ(),
+						t[0], t[1], t[2], t[3], t[4], t[5], t[6], t[7], t[8]);
+				if (factor >= 0 && factor < expected) {
+					expected = factor;
+					expectedTriangle = j;
+				}
+			}
+			assertEquals(expected, mesh.castRay(origin, direction, Double.POSITIVE_INFINITY), 0.);
+			assertEquals(expected <= 1., mesh.intersectsRay(origin, direction, 1.));
+			assertEquals(expected <= 1., mesh.intersects(new Segment3d(origin.getX(), origin.getY(), origin.getZ(),
+					origin.getX() + direction.getX(), origin.getY() + direction.getY(), origin.getZ() + direction.getZ())));
+			assertEquals(expectedTriangle, mesh.getBoundingVolumeHierarchy().castRay(
+					origin.getX(), origin.getY(), origin.getZ(), direction.getX(), direction.getY(), direction.getZ(),
+					Double.POSITIVE_INFINITY, hit));
+			if (expectedTriangle >= 0) {
+				assertEpsilonEquals(origin.getX() + expected * direction.getX(), hit.getX());
+				assertEpsilonEquals(origin.getY() + expected * direction.getY(), hit.getY());
+				assertEpsilonEquals(origin.getZ() + expected * direction.getZ(), hit.getZ());
+			}
+		}
+	}
+
+	@Test
+	public void getClosestPointToPoint() {
+		final TriangleMesh3d mesh = createRandomMesh();
+		final Point3d tmp = new Point3d();
+		for (int i = 0; i < 200; ++i) {
+			final Point3d point = randomPoint();
+			double expected = Double.POSITIVE_INFINITY;
+			for (int j = 0; j < TRIANGLE_COUNT; ++j) {
+				final double[] t = triangle(mesh, j);
+				expected = Math.min(expected, TriangleMesh3afp.computeClosestPointTrianglePoint(
+						t[0], t[1], t[2], t[3], t[4], t[5], t[6], t[7], t[8], point.getX(), point.getY(), point.getZ(), tmp));
+			}
+			assertEpsilonEquals(expected, mesh.getDistanceSquared(point));
+			final Point3d closest = mesh.getClosestPointTo(point);
+			assertEpsilonEquals(expected, closest.getDistanceSquared(point));
+			final double radius = Math.sqrt(expected);
+			assertTrue(mesh.intersects(new Sphere3d(point, radius + .01)));
+			assertFalse(mesh.intersects(new Sphere3d(point, radius * .99)));
+		}
+	}
+
+	@Test
+	public void getClosestPointToSegment() {
+		final TriangleMesh3d mesh = createRandomMesh();
+		final Point3d tmp = new Point3d();
+		for (int i = 0; i < 100; ++i) {
+			final Point3d p1 = randomPoint();
+			final Point3d p2 = new Point3d(p1.getX() + getRandom().nextDouble() * 20, p1.getY() + getRandom().nextDouble() * 20,
+					p1.getZ() - getRandom().nextDouble() * 20);
+			double expected = Double.POSITIVE_INFINITY;
+			for (int j = 0; j < TRIANGLE_COUNT; ++j) {
+				final double[] t = triangle(mesh, j);
+				expected = Math.min(expected, TriangleMesh3afp.computeClosestPointTriangleSegment(
+						t[0], t[1], t[2], t[3], t[4], t[5], t[6], t[7], t[8],
+						p1.getX(), p1.getY(), p1.getZ(), p2.getX(), p2.getY(), p2.getZ(), tmp));
+			}
+			final Segment3d segment = new Segment3d(p1, p2);
+			assertEpsilonEquals(expected, mesh.getDistanceSquared(segment));
+			final Point3d closest = mesh.getClosestPointTo(segment);
+			final double distance = Segment3afp.computeDistanceSegmentPoint(p1.getX(), p1.getY(), p1.getZ(),
+					p2.getX(), p2.getY(), p2.getZ(), closest.getX(), closest.getY(), closest.getZ());
+			assertEpsilonEquals(expected, distance * distance);
+			// Dispatch from the generic shape functions
+			assertEpsilonEquals(expected, segment.getDistanceSquared(mesh));
+			assertEquals(mesh.intersects(segment), segment.intersects(mesh));
+		}
+	}
+
+	@Test
+	public void getClosestPointToPrism() {
+		final TriangleMesh3d mesh = createRandomMesh();
+		final Point3d tmp = new Point3d();
+		for (int i = 0; i < 100; ++i) {
+			final Point3d min = randomPoint();
+			final double size = getRandom().nextDouble() * 10;
+			final RectangularPrism3d prism = new RectangularPrism3d(min.getX(), min.getY(), min.getZ(), size, size, size);
+			double expected = Double.POSITIVE_INFINITY;
+			boolean intersects = false;
+			for (int j = 0; j < TRIANGLE_COUNT; ++j) {
+				final double[] t = triangle(mesh, j);
+				expected = Math.min(expected, TriangleMesh3afp.computeClosestPointTrianglePrism(
+						t[0], t[1], t[2], t[3], t[4], t[5], t[6], t[7], t[8],
+						prism.getMinX(), prism.getMinY(), prism.getMinZ(), prism.getMaxX(), prism.getMaxY(), prism.getMaxZ(), tmp));
+				intersects |= TriangleMesh3afp.intersectsTrianglePrism(t[0], t[1], t[2], t[3], t[4], t[5], t[6], t[7], t[8],
+						prism.getMinX(), prism.getMinY(), prism.getMinZ(), prism.getMaxX(), prism.getMaxY(), prism.getMaxZ());
+			}
+			assertEpsilonEquals(expected, mesh.getDistanceSquared(prism));
+			assertEpsilonEquals(expected, prism.getDistanceSquared(mesh.getClosestPointTo(prism)));
+			assertEquals(intersects, mesh.intersects(prism));
+			assertEquals(intersects, prism.intersects(mesh));
+		}
+	}
+
+	@Test
+	public void intersectsTriangleMesh() {
+		final TriangleMesh3d mesh1 = new TriangleMesh3d(new double[] {0, 0, 0, 10, 0, 0, 0, 10, 0}, new int[] {0, 1, 2});
+		final TriangleMesh3d mesh2 = new TriangleMesh3d(new float[] {1, 1, -1, 2, 1, 5, 1, 2, 5}, new int[] {0, 1, 2});
+		assertTrue(mesh2.isSinglePrecision());
+		assertTrue(mesh1.intersects(mesh2));
+		assertTrue(mesh2.intersects((Shape3d<?>) mesh1));
+		assertEpsilonEquals(0., mesh1.getDistanceSquared(mesh2));
+		mesh2.translate(0, 0, 2);
+		assertFalse(mesh1.intersects(mesh2));
+		assertEpsilonEquals(1., mesh1.getDistanceSquared(mesh2));
+		assertEpsilonEquals(new Point3d(1, 1, 0), mesh1.getClosestPointTo((Shape3d<?>) mesh2));
+	}
+
+	@Test
+	public void getPathIterator() {
+		final TriangleMesh3d mesh = new TriangleMesh3d(new double[] {0, 0, 0, 1, 0, 0, 0, 1, 0, 1, 1, 0},
+				new int[] {0, 1, 2, 2, 1, 3});
+		final PathIterator3afp<PathElement3d> iterator = mesh.getPathIterator();
+		final PathElementType[] types = {PathElementType.MOVE_TO, PathElementType.LINE_TO, PathElementType.LINE_TO,
+			PathElementType.CLOSE, PathElementType.MOVE_TO, PathElementType.LINE_TO, PathElementType.LINE_TO,
+			PathElementType.CLOSE};
+		for (final PathElementType type : types) {
+			assertTrue(iterator.hasNext());
+			assertEquals(type, iterator.next().getType());
+		}
+		assertFalse(iterator.hasNext());
+		final RectangularPrism3d box = mesh.toBoundingBox();
+		assertEpsilonEquals(1., box.getMaxX());
+		assertEpsilonEquals(0., box.getMaxZ());
+		assertEpsilonEquals(new Point3d(1, 1, 0), mesh.getFarthestPointTo(new Point3d(-1, -1, 0)));
+		assertTrue(mesh.contains(.75, .5, 0));
+		assertFalse(mesh.contains(.75, .5, .1));
+		assertFalse(mesh.contains(new RectangularPrism3d(0, 0, 0, .5, .5, .5)));
+	}
+
+	@Test
+	public void cloneAndEquals() {
+		final TriangleMesh3d mesh = createRandomMesh();
+		final TriangleMesh3d clone = mesh.clone();
+		assertTrue(mesh.equalsToShape(clone));
+		assertEquals(mesh.hashCode(), clone.hashCode());
+		clone.translate(1, 0, 0);
+		assertFalse(mesh.equalsToShape(clone));
+		clone.clear();
+		assertTrue(clone.isEmpty());
+		assertEquals(Double.POSITIVE_INFINITY, clone.getDistanceSquared(new Point3d()), 0.);
+	}
+
+}
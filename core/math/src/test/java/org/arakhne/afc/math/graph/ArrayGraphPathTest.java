@@ -0,0 +1,63 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/** Run the tests of {@link GraphPathTest} on the array storage of the paths.
+ *
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class ArrayGraphPathTest extends GraphPathTest {
+
+	@Override
+	protected GraphPathStub createPath() {
+		return new GraphPathStub(true);
+	}
+
+	/**
+	 */
+	@Test
+	public void isArrayStorage() {
+		assertTrue(createPath().isArrayStorage());
+	}
+
+	/**
+	 */
+	@Test
+	public void isArrayStorage_initialSegment() {
+		final ConnectionStub c1 = new ConnectionStub("c1[s1]");  //$NON-NLS-1$
+		final ConnectionStub c2 = new ConnectionStub("c2[s1]");  //$NON-NLS-1$
+		final SegmentStub s1 = new SegmentStub("s1", c1, c2);  //$NON-NLS-1$
+		final GraphPathStub path = new GraphPathStub(s1, c1, true);
+		assertTrue(path.isArrayStorage());
+		assertSame(s1, path.get(0));
+		assertSame(c2, path.getLastPoint());
+	}
+
+}
@@ -34,5 +34,21 @@ class GraphPathStub extends GraphPath<GraphPathStub,SegmentStub,ConnectionStub>
 	public GraphPathStub() {
 		//
 	}
+
+	/**
+	 * @param arrayStorage
+	 */
+	public GraphPathStub(boolean arrayStorage) {
+		super(arrayStorage);
+	}
+
+	/**
+	 * @param segment
+	 * @param startingPoint
+	 * @param arrayStorage
+	 */
+	public GraphPathStub(SegmentStub segment, ConnectionStub startingPoint, boolean arrayStorage) {
+		super(segment, startingPoint, arrayStorage);
+	}
 	
 }
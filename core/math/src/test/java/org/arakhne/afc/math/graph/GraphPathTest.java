@@ -67,7 +67,7 @@ public class GraphPathTest {
 	 */
 	@Before
 	public void setUp() throws Exception {
-		this.path = new GraphPathStub();
+		this.path = createPath();
 		
 		this.c1 = new ConnectionStub("c1[s1,s4]");  //$NON-NLS-1$
 		this.c2 = new ConnectionStub("c2[s1,s2]");  //$NON-NLS-1$
@@ -85,6 +85,14 @@ public class GraphPathTest {
 		this.s6 = new SegmentStub("s6", this.c6, this.c7);  //$NON-NLS-1$
 	}
 	
+	/** Create the tested path.
+	 *
+	 * @return the path.
+	 */
+	protected GraphPathStub createPath() {
+		return new GraphPathStub();
+	}
+
 	/**
 	 * @throws Exception
 	 */
@@ -1660,6 +1668,32 @@ public class GraphPathTest {
 		assertFalse(iterator.hasNext());
 	}
 
+	/**
+	 */
+	@Test
+	public void subListIntegerInteger_unmodifiable() {
+		this.path.add(this.s1); // c1 - 1 - c2
+		this.path.add(this.s2); // c1 - 1 2 - c3
+		this.path.add(this.s3); // c1 - 1 2 3 - c4
+		final List<SegmentStub> subList = this.path.subList(0, 2);
+		try {
+			subList.set(1, this.s4);
+			fail("expecting UnsupportedOperationException"); //$NON-NLS-1$
+		} catch (UnsupportedOperationException e) {
+			//
+		}
+		try {
+			subList.clear();
+			fail("expecting UnsupportedOperationException"); //$NON-NLS-1$
+		} catch (UnsupportedOperationException e) {
+			//
+		}
+		assertEquals(3, this.path.size());
+		assertEquals(3., this.path.getLength(), 0.);
+		assertEquals(2., this.path.getDistanceToSegment(2), 0.);
+		assertEquals(2, this.path.getSegmentIndexAt(2.5));
+	}
+
 	/**
 	 */
 	@Test
@@ -3923,5 +3957,55 @@ public class GraphPathTest {
 		assertSame(this.c5, sp.getLastPoint());
 	}
 
-}
+	/**
+	 */
+	@Test
+	public void getDistanceToSegment() {
+		this.path.add(this.s1); // c1 - 1 - c2
+		this.path.add(this.s2); // c1 - 1 2 - c3
+		this.path.add(this.s3); // c1 - 1 2 3 - c4
+		this.path.add(this.s5); // c1 - 1 2 3 5 - c5
+		assertEquals(0., this.path.getDistanceToSegment(0), 0.);
+		assertEquals(1., this.path.getDistanceToSegment(1), 0.);
+		assertEquals(3., this.path.getDistanceToSegment(3), 0.);
+		assertEquals(4., this.path.getDistanceToSegment(4), 0.);
+		try {
+			this.path.getDistanceToSegment(5);
+			fail("expecting IndexOutOfBoundsException");  //$NON-NLS-1$
+		}
+		catch(IndexOutOfBoundsException e) {
+			//
+		}
+	}
 
+	/**
+	 */
+	@Test
+	public void getSegmentIndexAt() {
+		assertEquals(-1, this.path.getSegmentIndexAt(0.));
+		this.path.add(this.s1); // c1 - 1 - c2
+		this.path.add(this.s2); // c1 - 1 2 - c3
+		this.path.add(this.s3); // c1 - 1 2 3 - c4
+		this.path.add(this.s5); // c1 - 1 2 3 5 - c5
+		assertEquals(-1, this.path.getSegmentIndexAt(-.1));
+		assertEquals(0, this.path.getSegmentIndexAt(0.));
+		assertEquals(0, this.path.getSegmentIndexAt(.5));
+		assertEquals(1, this.path.getSegmentIndexAt(1.));
+		assertEquals(2, this.path.getSegmentIndexAt(2.7));
+		assertEquals(3, this.path.getSegmentIndexAt(3.5));
+		assertEquals(3, this.path.getSegmentIndexAt(4.));
+		assertEquals(-1, this.path.getSegmentIndexAt(4.1));
+		assertSame(this.s3, this.path.getSegmentAt(2.7));
+		assertNull(this.path.getSegmentAt(4.1));
+
+		// The cached lengths must follow the changes of the path
+		this.path.invert(); // c5 - 5 3 2 1 - c1
+		assertSame(this.s5, this.path.getSegmentAt(.5));
+		this.path.removeUntil(this.s3); // c3 - 2 1 - c1
+		assertSame(this.s1, this.path.getSegmentAt(1.5));
+		assertEquals(-1, this.path.getSegmentIndexAt(2.5));
+		this.path.set(1, this.s4);
+		assertEquals(2., this.path.getDistanceToSegment(2), 0.);
+	}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.graph.csr.CsrGraph;
+import org.arakhne.afc.math.graph.csr.CsrGraphPoint;
+import org.arakhne.afc.math.graph.csr.CsrGraphSegment;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class ReusableGraphIteratorTest extends AbstractMathTestCase {
+
+	private static final int SIZE = 5;
+
+	private CsrGraph graph;
+
+	/**
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		// Grid of SIZE x SIZE points with random segment lengths
+		List<int[]> segments = new ArrayList<>();
+		for (int y = 0; y < SIZE; ++y) {
+			for (int x = 0; x < SIZE; ++x) {
+				int p = y * SIZE + x;
+				if (x + 1 < SIZE) {
+					segments.add(new int[] {p, p + 1});
+				}
+				if (y + 1 < SIZE) {
+					segments.add(new int[] {p, p + SIZE});
+				}
+			}
+		}
+		int count = segments.size();
+		int[] begins = new int[count];
+		int[] ends = new int[count];
+		double[] lengths = new double[count];
+		for (int i = 0; i < count; ++i) {
+			begins[i] = segments.get(i)[0];
+			ends[i] = segments.get(i)[1];
+			lengths[i] = 1 + getRandom().nextInt(20);
+		}
+		this.graph = new CsrGraph(SIZE * SIZE, begins, ends, lengths);
+	}
+
+	/**
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		this.graph = null;
+	}
+
+	private static List<Integer> collect(GraphIterator<CsrGraphSegment, CsrGraphPoint> iterator) {
+		List<Integer> result = new ArrayList<>();
+		while (iterator.hasNext()) {
+			GraphIterationElement<CsrGraphSegment, CsrGraphPoint> element = iterator.nextElement();
+			result.add(element.getSegment().getIndex() * 1000 + element.getPoint().getIndex());
+		}
+		return result;
+	}
+
+	private static List<Integer> collect(ReusableGraphIterator<CsrGraphSegment, CsrGraphPoint> iterator) {
+		List<Integer> result = new ArrayList<>();
+		while (iterator.hasNext()) {
+			GraphIterationElement<CsrGraphSegment, CsrGraphPoint> element = iterator.nextElement();
+			result.add(element.getSegment().getIndex() * 1000 + element.getPoint().getIndex());
+		}
+		return result;
+	}
+
+	private void assertSameCourse(GraphCourseModel<CsrGraphSegment, CsrGraphPoint> reference,
+			GraphCourseModel<CsrGraphSegment, CsrGraphPoint> model, boolean oriented) {
+		ReusableGraphIterator<CsrGraphSegment, CsrGraphPoint> iterator = new ReusableGraphIterator<>(model, false, oriented);
+		for (int i = 0; i < 5; ++i) {
+			CsrGraphSegment segment = this.graph.getSegment(getRandom().nextInt(this.graph.getSegmentCount()));
+			CsrGraphPoint point = segment.getBeginPoint();
+			List<Integer> expected = collect(new GraphIterator<>(this.graph, reference, segment, point, false, oriented, 0));
+			iterator.reset(segment, point);
+			assertEquals(expected, collect(iterator));
+		}
+	}
+
+	/**
+	 */
+	@Test
+	public void breadthFirst() {
+		assertSameCourse(new BreadthFirstGraphCourseModel<>(), new BreadthFirstGraphCourseModel<>(), false);
+		assertSameCourse(new BreadthFirstGraphCourseModel<>(), new BreadthFirstGraphCourseModel<>(), true);
+	}
+
+	/**
+	 */
+	@Test
+	public void depthFirst() {
+		assertSameCourse(new DepthFirstGraphCourseModel<>(), new DepthFirstGraphCourseModel<>(), false);
+		assertSameCourse(new DepthFirstGraphCourseModel<>(), new DepthFirstGraphCourseModel<>(), true);
+	}
+
+	/**
+	 */
+	@Test
+	public void shortestSegmentFirst() {
+		assertSameCourse(new ShortestSegmentFirstGraphCourseModel<>(), new ShortestSegmentFirstGraphCourseModel<>(), false);
+		assertSameCourse(new ShortestSegmentFirstGraphCourseModel<>(), new ShortestSegmentFirstGraphCourseModel<>(), true);
+	}
+
+	/**
+	 */
+	@Test
+	public void resetWithDepth() {
+		ReusableGraphIterator<CsrGraphSegment, CsrGraphPoint> iterator = new ReusableGraphIterator<>(false, false);
+		for (int i = 0; i < 5; ++i) {
+			CsrGraphSegment segment = this.graph.getSegment(getRandom().nextInt(this.graph.getSegmentCount()));
+			CsrGraphPoint point = segment.getEndPoint();
+			double depth = 5 + getRandom().nextInt(30);
+			double position = getRandom().nextDouble() * segment.getLength();
+			List<Integer> expected = collect(this.graph.depthIterator(segment, depth, position, point, false, false));
+			iterator.reset(segment, point, position, depth);
+			assertEquals(expected, collect(iterator));
+		}
+	}
+
+	/**
+	 */
+	@Test
+	public void ignoreElementsAfter() {
+		CsrGraphSegment segment = this.graph.getSegment(0);
+		CsrGraphPoint point = segment.getBeginPoint();
+		GraphIterator<CsrGraphSegment, CsrGraphPoint> reference = new GraphIterator<>(this.graph, segment, point, false, false, 0);
+		ReusableGraphIterator<CsrGraphSegment, CsrGraphPoint> iterator = new ReusableGraphIterator<>(false, false);
+		iterator.reset(segment, point);
+		List<Integer> expected = new ArrayList<>();
+		List<Integer> actual = new ArrayList<>();
+		int index = 0;
+		while (reference.hasNext()) {
+			assertTrue(iterator.hasNext());
+			expected.add(reference.next().getIndex());
+			actual.add(iterator.next().getIndex());
+			if (index % 3 == 1) {
+				reference.ignoreElementsAfter();
+				iterator.ignoreElementsAfter();
+			}
+			++index;
+		}
+		assertFalse(iterator.hasNext());
+		assertEquals(expected, actual);
+		assertTrue(actual.size() < this.graph.getSegmentCount());
+	}
+
+	/**
+	 */
+	@Test
+	public void elementRecycling() {
+		CsrGraphSegment segment = this.graph.getSegment(0);
+		ReusableGraphIterator<CsrGraphSegment, CsrGraphPoint> iterator = new ReusableGraphIterator<>(false, false);
+		Set<GraphIterationElement<CsrGraphSegment, CsrGraphPoint>> allocated = Collections.newSetFromMap(new IdentityHashMap<>());
+		iterator.reset(segment, segment.getBeginPoint());
+		while (iterator.hasNext()) {
+			allocated.add(iterator.nextElement());
+		}
+		iterator.reset(segment, segment.getBeginPoint());
+		GraphIterationElement<CsrGraphSegment, CsrGraphPoint> first = iterator.nextElement();
+		assertSame(segment, first.getSegment());
+		assertSame(segment.getBeginPoint(), first.getPoint());
+		assertTrue(allocated.contains(first));
+		while (iterator.hasNext()) {
+			assertTrue(allocated.contains(iterator.nextElement()));
+		}
+	}
+
+	/**
+	 */
+	@Test(expected = NoSuchElementException.class)
+	public void nextWithoutReset() {
+		new ReusableGraphIterator<CsrGraphSegment, CsrGraphPoint>(false, false).next();
+	}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.graph.csr.CsrGraph;
+import org.arakhne.afc.math.graph.csr.CsrGraphPoint;
+import org.arakhne.afc.math.graph.csr.CsrGraphSegment;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class SubGraphTest extends AbstractMathTestCase {
+
+	private CsrGraph graph;
+
+	/**
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		// Chain of 10 segments of length 10: 0 - 1 - 2 - ... - 10
+		int count = 10;
+		int[] begins = new int[count];
+		int[] ends = new int[count];
+		double[] lengths = new double[count];
+		for (int i = 0; i < count; ++i) {
+			begins[i] = i;
+			ends[i] = i + 1;
+			lengths[i] = 10;
+		}
+		this.graph = new CsrGraph(count + 1, begins, ends, lengths);
+	}
+
+	/**
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		this.graph = null;
+	}
+
+	private static SubGraph<CsrGraphSegment, CsrGraphPoint, ?> newSubGraph() {
+		return new SubGraph<>(
+				new GraphIterationElementComparator<CsrGraphSegment, CsrGraphPoint>(true),
+				new GraphIterationElementComparator<CsrGraphSegment, CsrGraphPoint>(false));
+	}
+
+	private GraphIterator<CsrGraphSegment, CsrGraphPoint> window(int segment, double depth) {
+		return this.graph.depthIterator(this.graph.getSegment(segment), depth, 0,
+				this.graph.getPoint(segment), false, false);
+	}
+
+	private static Set<Integer> indexes(SubGraph<CsrGraphSegment, CsrGraphPoint, ?> subgraph) {
+		Set<Integer> indexes = new HashSet<>();
+		for (CsrGraphSegment segment : subgraph) {
+			indexes.add(segment.getIndex());
+		}
+		return indexes;
+	}
+
+	/**
+	 */
+	@Test
+	public void updateEmpty() {
+		SubGraph<CsrGraphSegment, CsrGraphPoint, ?> expected = newSubGraph();
+		expected.build(window(2, 25));
+		SubGraph<CsrGraphSegment, CsrGraphPoint, ?> actual = newSubGraph();
+		actual.update(window(2, 25), null);
+		assertEquals(indexes(expected), indexes(actual));
+		assertEquals(expected.getSegmentCount(), actual.getSegmentCount());
+		assertEquals(expected.getPointCount(), actual.getPointCount());
+	}
+
+	/**
+	 */
+	@Test
+	public void updateMovingWindow() {
+		SubGraph<CsrGraphSegment, CsrGraphPoint, ?> subgraph = newSubGraph();
+		subgraph.build(window(2, 25));
+		Set<Integer> before = indexes(subgraph);
+
+		List<Integer> added = new ArrayList<>();
+		List<Integer> removed = new ArrayList<>();
+		subgraph.update(window(5, 25), new SubGraphBuildListener<CsrGraphSegment, CsrGraphPoint>() {
+			@Override
+			public void segmentAdded(SubGraph<CsrGraphSegment, CsrGraphPoint, ?> graph,
+					GraphIterationElement<CsrGraphSegment, CsrGraphPoint> elementDescription) {
+				added.add(elementDescription.getSegment().getIndex());
+			}
+			@Override
+			public void segmentRemoved(SubGraph<CsrGraphSegment, CsrGraphPoint, ?> graph, CsrGraphSegment segment) {
+				removed.add(segment.getIndex());
+			}
+		});
+
+		SubGraph<CsrGraphSegment, CsrGraphPoint, ?> expected = newSubGraph();
+		expected.build(window(5, 25));
+		Set<Integer> after = indexes(expected);
+
+		assertEquals(after, indexes(subgraph));
+		assertEquals(expected.getPointCount(), subgraph.getPointCount());
+		assertFalse(added.isEmpty());
+		assertFalse(removed.isEmpty());
+		for (Integer index : added) {
+			assertTrue(after.contains(index));
+			assertFalse(before.contains(index));
+		}
+		for (Integer index : removed) {
+			assertTrue(before.contains(index));
+			assertFalse(after.contains(index));
+		}
+		assertEquals(after.size(), before.size() + added.size() - removed.size());
+	}
+
+	/**
+	 */
+	@Test
+	public void updateUnchanged() {
+		SubGraph<CsrGraphSegment, CsrGraphPoint, ?> subgraph = newSubGraph();
+		subgraph.build(window(4, 15));
+		int[] events = new int[1];
+		subgraph.update(window(4, 15), new SubGraphBuildListener<CsrGraphSegment, CsrGraphPoint>() {
+			@Override
+			public void segmentAdded(SubGraph<CsrGraphSegment, CsrGraphPoint, ?> graph,
+					GraphIterationElement<CsrGraphSegment, CsrGraphPoint> elementDescription) {
+				++events[0];
+			}
+			@Override
+			public void segmentRemoved(SubGraph<CsrGraphSegment, CsrGraphPoint, ?> graph, CsrGraphSegment segment) {
+				++events[0];
+			}
+		});
+		assertEquals(0, events[0]);
+	}
+
+	/**
+	 */
+	@Test
+	public void updateShrinkingWindow() {
+		SubGraph<CsrGraphSegment, CsrGraphPoint, ?> subgraph = newSubGraph();
+		subgraph.build(window(4, 45));
+		List<Integer> removed = new ArrayList<>();
+		subgraph.update(window(4, 15), new SubGraphBuildListener<CsrGraphSegment, CsrGraphPoint>() {
+			@Override
+			public void segmentAdded(SubGraph<CsrGraphSegment, CsrGraphPoint, ?> graph,
+					GraphIterationElement<CsrGraphSegment, CsrGraphPoint> elementDescription) {
+				fail("No segment should be added"); //$NON-NLS-1$
+			}
+			@Override
+			public void segmentRemoved(SubGraph<CsrGraphSegment, CsrGraphPoint, ?> graph, CsrGraphSegment segment) {
+				removed.add(segment.getIndex());
+			}
+		});
+
+		SubGraph<CsrGraphSegment, CsrGraphPoint, ?> expected = newSubGraph();
+		expected.build(window(4, 15));
+		assertEquals(indexes(expected), indexes(subgraph));
+		assertEquals(expected.getSegmentCount(), subgraph.getSegmentCount());
+		assertEquals(expected.getPointCount(), subgraph.getPointCount());
+		assertFalse(removed.isEmpty());
+		for (Integer index : removed) {
+			assertFalse(subgraph.contains(this.graph.getSegment(index)));
+		}
+	}
+
+	/**
+	 */
+	@Test
+	public void updateAll() {
+		List<SubGraph<CsrGraphSegment, CsrGraphPoint, ?>> subgraphs = new ArrayList<>();
+		for (int i = 0; i < 10; ++i) {
+			subgraphs.add(newSubGraph());
+		}
+		SubGraph.updateAll(subgraphs, it -> window(subgraphs.indexOf(it), 15), null);
+		for (int i = 0; i < 10; ++i) {
+			SubGraph<CsrGraphSegment, CsrGraphPoint, ?> expected = newSubGraph();
+			expected.build(window(i, 15));
+			assertEquals(indexes(expected), indexes(subgraphs.get(i)));
+			assertEquals(expected.getPointCount(), subgraphs.get(i).getPointCount());
+		}
+	}
+
+}
@@ -219,6 +219,70 @@ public class AStarOrientedTest extends AbstractMathTestCase {
 		assertTrue(list.contains(this.E));
 	}
 
+	/**
+	 */
+	@Test
+	public void findPathIndexedPTPT() {
+		List<AStarNode<AStarEdgeStub,AStarNodeStub>> list;
+		
+		reset();
+		this.A.setCost(0f);
+		this.A.setEstimatedCost(this.h.evaluate(this.A, this.B));
+		list = this.astar.findPathIndexed(this.A, this.B);
+		
+		assertNotNull(list);
+		assertEquals(2, list.size());
+		assertTrue(list.contains(this.A));
+		assertTrue(list.contains(this.B));
+
+		reset();
+		this.A.setCost(0f);
+		this.A.setEstimatedCost(this.h.evaluate(this.A, this.C));
+		list = this.astar.findPathIndexed(this.A, this.C);
+		
+		assertNotNull(list);
+		assertEquals(4, list.size());
+		assertTrue(list.contains(this.A));
+		assertTrue(list.contains(this.B));
+		assertTrue(list.contains(this.D));
+		assertTrue(list.contains(this.C));
+
+		reset();
+		this.A.setCost(0f);
+		this.A.setEstimatedCost(this.h.evaluate(this.A, this.D));
+		list = this.astar.findPathIndexed(this.A, this.D);
+		
+		assertNotNull(list);
+		assertEquals(3, list.size());
+		assertTrue(list.contains(this.A));
+		assertTrue(list.contains(this.B));
+		assertTrue(list.contains(this.D));
+
+		reset();
+		this.A.setCost(0f);
+		this.A.setEstimatedCost(this.h.evaluate(this.A, this.E));
+		list = this.astar.findPathIndexed(this.A, this.E);
+		
+		assertNotNull(list);
+		assertEquals(4, list.size());
+		assertTrue(list.contains(this.A));
+		assertTrue(list.contains(this.B));
+		assertTrue(list.contains(this.D));
+		assertTrue(list.contains(this.E));
+
+		reset();
+		this.B.setCost(0f);
+		this.B.setEstimatedCost(this.h.evaluate(this.B, this.A));
+		list = this.astar.findPathIndexed(this.B, this.A);
+		
+		assertNotNull(list);
+		assertEquals(4, list.size());
+		assertTrue(list.contains(this.B));
+		assertTrue(list.contains(this.D));
+		assertTrue(list.contains(this.C));
+		assertTrue(list.contains(this.E));
+	}
+
 	/**
 	 */
 	@Test
@@ -323,4 +387,41 @@ public class AStarOrientedTest extends AbstractMathTestCase {
 		assertSame(this.DC, path.get(2));
 	}
 
+	/**
+	 */
+	@Test
+	public void solvePTPTIndexed() {
+		AStarPathStub path;
+		this.astar.setIndexedSearchEnabled(true);
+		
+		reset();
+		path = this.astar.solve(this.A, this.B);
+		assertNotNull(path);
+		assertEquals(1, path.size());
+		assertSame(this.AB, path.get(0));
+
+		reset();
+		path = this.astar.solve(this.A, this.E);
+		assertNotNull(path);
+		assertEquals(3, path.size());
+		assertSame(this.AB, path.get(0));
+		assertSame(this.BD, path.get(1));
+		assertSame(this.DE, path.get(2));
+
+		reset();
+		path = this.astar.solve(this.A, this.D);
+		assertNotNull(path);
+		assertEquals(2, path.size());
+		assertSame(this.AB, path.get(0));
+		assertSame(this.BD, path.get(1));
+
+		reset();
+		path = this.astar.solve(this.A, this.C);
+		assertNotNull(path);
+		assertEquals(3, path.size());
+		assertSame(this.AB, path.get(0));
+		assertSame(this.BD, path.get(1));
+		assertSame(this.DC, path.get(2));
+	}
+
 }
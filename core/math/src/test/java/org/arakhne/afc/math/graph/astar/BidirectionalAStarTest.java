@@ -0,0 +1,222 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class BidirectionalAStarTest extends AbstractMathTestCase {
+
+	private AStarNodeStub A, B, C, D, E;
+	private AStarEdgeStub AB, BD, DE, DC;
+	private AStarGraphStub graph;
+	private BidirectionalAStar<AStarPathStub,AStarEdgeStub,AStarNodeStub> astar;
+	private BidirectionalDijkstra<AStarPathStub,AStarEdgeStub,AStarNodeStub> dijkstra;
+	
+	/**
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.A = new AStarNodeStub("A", 0, 0);  //$NON-NLS-1$
+		this.B = new AStarNodeStub("B", 20, 0);  //$NON-NLS-1$
+		this.C = new AStarNodeStub("C", 0, 20);  //$NON-NLS-1$
+		this.D = new AStarNodeStub("D", 20, 20);  //$NON-NLS-1$
+		this.E = new AStarNodeStub("E", 10, 40);  //$NON-NLS-1$
+		this.AB = new AStarEdgeStub("A-B", this.A, this.B, true);  //$NON-NLS-1$
+		this.BD = new AStarEdgeStub("B-D", this.B, this.D, true);  //$NON-NLS-1$
+		this.DC = new AStarEdgeStub("D-C", this.D, this.C, true);  //$NON-NLS-1$
+		this.DE = new AStarEdgeStub("D-E", this.D, this.E, true);  //$NON-NLS-1$
+		this.graph = new AStarGraphStub(this.AB, this.BD, this.DC, this.DE);
+		this.astar = new BidirectionalAStar<>(this.graph, new AStarHeuristicStub(), AStarPathStub.class);
+		this.dijkstra = new BidirectionalDijkstra<>(this.graph, AStarPathStub.class);
+	}
+	
+	/**
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		this.astar = null;
+		this.dijkstra = null;
+		this.graph = null;
+		this.AB = this.BD = this.DE = this.DC = null;
+		this.A = this.B = this.C = this.D = this.E = null;
+	}
+
+	private void assertOrientedPaths(BidirectionalAStar<AStarPathStub,AStarEdgeStub,AStarNodeStub> algo) {
+		AStarPathStub path;
+
+		path = algo.solve(this.A, this.B);
+		assertNotNull(path);
+		assertEquals(1, path.size());
+		assertSame(this.AB, path.get(0));
+
+		path = algo.solve(this.A, this.E);
+		assertNotNull(path);
+		assertEquals(3, path.size());
+		assertSame(this.AB, path.get(0));
+		assertSame(this.BD, path.get(1));
+		assertSame(this.DE, path.get(2));
+
+		path = algo.solve(this.A, this.D);
+		assertNotNull(path);
+		assertEquals(2, path.size());
+		assertSame(this.AB, path.get(0));
+		assertSame(this.BD, path.get(1));
+
+		path = algo.solve(this.A, this.C);
+		assertNotNull(path);
+		assertEquals(3, path.size());
+		assertSame(this.AB, path.get(0));
+		assertSame(this.BD, path.get(1));
+		assertSame(this.DC, path.get(2));
+
+		assertNull(algo.solve(this.B, this.A));
+		assertNull(algo.solve(this.E, this.D));
+		assertNull(algo.solve(this.A, this.A));
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPTAStar() {
+		assertOrientedPaths(this.astar);
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPTDijkstra() {
+		assertOrientedPaths(this.dijkstra);
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPTOrientationTool() {
+		AStarNodeStub a = new AStarNodeStub("a", 0, 0);  //$NON-NLS-1$
+		AStarNodeStub b = new AStarNodeStub("b", 20, 0);  //$NON-NLS-1$
+		AStarNodeStub c = new AStarNodeStub("c", 20, 20);  //$NON-NLS-1$
+		AStarEdgeStub ab = new AStarEdgeStub("a-b", a, b, false);  //$NON-NLS-1$
+		AStarEdgeStub cb = new AStarEdgeStub("c-b", c, b, false);  //$NON-NLS-1$
+		AStarEdgeStub ac = new AStarEdgeStub("a-c", a, c, false);  //$NON-NLS-1$
+		BidirectionalAStar<AStarPathStub,AStarEdgeStub,AStarNodeStub> algo = new BidirectionalAStar<>(
+				new AStarGraphStub(ab, cb, ac), new AStarHeuristicStub(), AStarPathStub.class);
+
+		AStarPathStub path = algo.solve(a, b);
+		assertNotNull(path);
+		assertEquals(1, path.size());
+		assertSame(ab, path.get(0));
+
+		algo.setSegmentOrientationTool(new AStarSegmentOrientation<AStarEdgeStub, AStarNodeStub>() {
+			//
+		});
+		path = algo.solve(a, b);
+		assertNotNull(path);
+		assertEquals(1, path.size());
+		assertSame(ab, path.get(0));
+
+		path = algo.solve(b, a);
+		assertNull(path);
+
+		path = algo.solve(c, a);
+		assertNull(path);
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPTRandomGrid() {
+		Random random = getRandom();
+		int size = 12;
+		AStarNodeStub[][] nodes = new AStarNodeStub[size][size];
+		for (int i = 0; i < size; ++i) {
+			for (int j = 0; j < size; ++j) {
+				nodes[i][j] = new AStarNodeStub("n" + i + "_" + j,  //$NON-NLS-1$ //$NON-NLS-2$
+						i * 10 + random.nextDouble() * 5, j * 10 + random.nextDouble() * 5);
+			}
+		}
+		AStarGraphStub grid = new AStarGraphStub();
+		for (int i = 0; i < size; ++i) {
+			for (int j = 0; j < size; ++j) {
+				if (i + 1 < size && random.nextDouble() < .8) {
+					grid.add(newRandomEdge(random, nodes[i][j], nodes[i + 1][j]));
+				}
+				if (j + 1 < size && random.nextDouble() < .8) {
+					grid.add(newRandomEdge(random, nodes[i][j], nodes[i][j + 1]));
+				}
+			}
+		}
+		AStar<AStarPathStub,AStarEdgeStub,AStarNodeStub> reference = new AStar<>(new AStarHeuristicStub(), AStarPathStub.class);
+		BidirectionalAStar<AStarPathStub,AStarEdgeStub,AStarNodeStub> bastar = new BidirectionalAStar<>(
+				grid, new AStarHeuristicStub(), AStarPathStub.class);
+		BidirectionalDijkstra<AStarPathStub,AStarEdgeStub,AStarNodeStub> bdijkstra = new BidirectionalDijkstra<>(
+				grid, AStarPathStub.class);
+		for (int k = 0; k < 50; ++k) {
+			AStarNodeStub start = nodes[random.nextInt(size)][random.nextInt(size)];
+			AStarNodeStub end = nodes[random.nextInt(size)][random.nextInt(size)];
+			AStarPathStub expected = reference.solve(start, end);
+			assertSamePathLength(start, end, expected, bastar.solve(start, end));
+			assertSamePathLength(start, end, expected, bdijkstra.solve(start, end));
+		}
+	}
+
+	private static AStarEdgeStub newRandomEdge(Random random, AStarNodeStub n1, AStarNodeStub n2) {
+		double r = random.nextDouble();
+		String id = n1.toString() + "-" + n2.toString(); //$NON-NLS-1$
+		if (r < .2) {
+			return new AStarEdgeStub(id, n1, n2, true);
+		}
+		if (r < .4) {
+			return new AStarEdgeStub(id, n2, n1, true);
+		}
+		return new AStarEdgeStub(id, n1, n2, false);
+	}
+
+	private void assertSamePathLength(AStarNodeStub start, AStarNodeStub end, AStarPathStub expected, AStarPathStub actual) {
+		if (expected == null) {
+			assertNull(actual);
+		} else {
+			assertNotNull(actual);
+			assertSame(start, actual.getFirstPoint());
+			assertSame(end, actual.getLastPoint());
+			assertEpsilonEquals(expected.getLength(), actual.getLength());
+		}
+	}
+
+}
@@ -0,0 +1,206 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class ContractionHierarchyTest extends AbstractMathTestCase {
+
+	private AStarNodeStub A, B, C, D, E;
+	private AStarEdgeStub AB, BD, DE, DC;
+	private ContractionHierarchy<AStarEdgeStub,AStarNodeStub> hierarchy;
+	private ContractionHierarchyQuery<AStarPathStub,AStarEdgeStub,AStarNodeStub> query;
+	
+	/**
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.A = new AStarNodeStub("A", 0, 0);  //$NON-NLS-1$
+		this.B = new AStarNodeStub("B", 20, 0);  //$NON-NLS-1$
+		this.C = new AStarNodeStub("C", 0, 20);  //$NON-NLS-1$
+		this.D = new AStarNodeStub("D", 20, 20);  //$NON-NLS-1$
+		this.E = new AStarNodeStub("E", 10, 40);  //$NON-NLS-1$
+		this.AB = new AStarEdgeStub("A-B", this.A, this.B, true);  //$NON-NLS-1$
+		this.BD = new AStarEdgeStub("B-D", this.B, this.D, true);  //$NON-NLS-1$
+		this.DC = new AStarEdgeStub("D-C", this.D, this.C, true);  //$NON-NLS-1$
+		this.DE = new AStarEdgeStub("D-E", this.D, this.E, true);  //$NON-NLS-1$
+		this.hierarchy = new ContractionHierarchy<>(new AStarGraphStub(this.AB, this.BD, this.DC, this.DE));
+		this.query = new ContractionHierarchyQuery<>(this.hierarchy, AStarPathStub.class);
+	}
+	
+	/**
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		this.query = null;
+		this.hierarchy = null;
+		this.AB = this.BD = this.DE = this.DC = null;
+		this.A = this.B = this.C = this.D = this.E = null;
+	}
+
+	/**
+	 */
+	@Test
+	public void getPointCount() {
+		assertEquals(5, this.hierarchy.getPointCount());
+	}
+
+	/**
+	 */
+	@Test
+	public void getEdgeCount() {
+		assertEquals(4 + this.hierarchy.getShortcutCount(), this.hierarchy.getEdgeCount());
+	}
+
+	/**
+	 */
+	@Test
+	public void getRank() {
+		boolean[] ranks = new boolean[5];
+		for (AStarNodeStub node : new AStarNodeStub[] {this.A, this.B, this.C, this.D, this.E}) {
+			int rank = this.hierarchy.getRank(node);
+			assertTrue(rank >= 0 && rank < 5);
+			assertTrue(!ranks[rank]);
+			ranks[rank] = true;
+		}
+		assertEquals(-1, this.hierarchy.getRank(new AStarNodeStub("F", 100, 100))); //$NON-NLS-1$
+	}
+
+	/**
+	 */
+	@Test
+	public void computeCostPTPT() {
+		assertEpsilonEquals(20, this.query.computeCost(this.A, this.B));
+		assertEpsilonEquals(40, this.query.computeCost(this.A, this.D));
+		assertEpsilonEquals(60, this.query.computeCost(this.A, this.C));
+		assertEpsilonEquals(40 + Math.sqrt(500), this.query.computeCost(this.A, this.E));
+		assertEpsilonEquals(0, this.query.computeCost(this.A, this.A));
+		assertEquals(Double.POSITIVE_INFINITY, this.query.computeCost(this.B, this.A), 0);
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPT() {
+		AStarPathStub path;
+
+		path = this.query.solve(this.A, this.B);
+		assertNotNull(path);
+		assertEquals(1, path.size());
+		assertSame(this.AB, path.get(0));
+
+		path = this.query.solve(this.A, this.E);
+		assertNotNull(path);
+		assertEquals(3, path.size());
+		assertSame(this.AB, path.get(0));
+		assertSame(this.BD, path.get(1));
+		assertSame(this.DE, path.get(2));
+
+		path = this.query.solve(this.A, this.C);
+		assertNotNull(path);
+		assertEquals(3, path.size());
+		assertSame(this.AB, path.get(0));
+		assertSame(this.BD, path.get(1));
+		assertSame(this.DC, path.get(2));
+
+		assertNull(this.query.solve(this.B, this.A));
+		assertNull(this.query.solve(this.E, this.D));
+		assertNull(this.query.solve(this.A, this.A));
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTPTRandomGrid() {
+		Random random = getRandom();
+		int size = 20;
+		AStarNodeStub[][] nodes = new AStarNodeStub[size][size];
+		for (int i = 0; i < size; ++i) {
+			for (int j = 0; j < size; ++j) {
+				nodes[i][j] = new AStarNodeStub("n" + i + "_" + j,  //$NON-NLS-1$ //$NON-NLS-2$
+						i * 10 + random.nextDouble() * 5, j * 10 + random.nextDouble() * 5);
+			}
+		}
+		AStarGraphStub grid = new AStarGraphStub();
+		for (int i = 0; i < size; ++i) {
+			for (int j = 0; j < size; ++j) {
+				if (i + 1 < size && random.nextDouble() < .8) {
+					grid.add(newRandomEdge(random, nodes[i][j], nodes[i + 1][j]));
+				}
+				if (j + 1 < size && random.nextDouble() < .8) {
+					grid.add(newRandomEdge(random, nodes[i][j], nodes[i][j + 1]));
+				}
+			}
+		}
+		AStar<AStarPathStub,AStarEdgeStub,AStarNodeStub> reference = new AStar<>(new AStarHeuristicStub(), AStarPathStub.class);
+		ContractionHierarchy<AStarEdgeStub,AStarNodeStub> ch = new ContractionHierarchy<>(grid);
+		ContractionHierarchyQuery<AStarPathStub,AStarEdgeStub,AStarNodeStub> chQuery = new ContractionHierarchyQuery<>(
+				ch, AStarPathStub.class);
+		for (int k = 0; k < 100; ++k) {
+			AStarNodeStub start = nodes[random.nextInt(size)][random.nextInt(size)];
+			AStarNodeStub end = nodes[random.nextInt(size)][random.nextInt(size)];
+			AStarPathStub expected = reference.solve(start, end);
+			AStarPathStub actual = chQuery.solve(start, end);
+			if (expected == null) {
+				assertNull(actual);
+			} else {
+				assertNotNull(actual);
+				assertSame(start, actual.getFirstPoint());
+				assertSame(end, actual.getLastPoint());
+				assertEpsilonEquals(expected.getLength(), actual.getLength());
+				assertEpsilonEquals(expected.getLength(), chQuery.computeCost(start, end));
+			}
+		}
+	}
+
+	private static AStarEdgeStub newRandomEdge(Random random, AStarNodeStub n1, AStarNodeStub n2) {
+		double r = random.nextDouble();
+		String id = n1.toString() + "-" + n2.toString(); //$NON-NLS-1$
+		if (r < .2) {
+			return new AStarEdgeStub(id, n1, n2, true);
+		}
+		if (r < .4) {
+			return new AStarEdgeStub(id, n2, n1, true);
+		}
+		return new AStarEdgeStub(id, n1, n2, false);
+	}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.astar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class CostMatrixSolverTest extends AbstractMathTestCase {
+
+	private AStarNodeStub A, B, C, D, E;
+	private AStarEdgeStub AB, BD, DE, DC;
+	private CostMatrixSolver<AStarPathStub,AStarEdgeStub,AStarNodeStub> solver;
+	
+	/**
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		this.A = new AStarNodeStub("A", 0, 0);  //$NON-NLS-1$
+		this.B = new AStarNodeStub("B", 20, 0);  //$NON-NLS-1$
+		this.C = new AStarNodeStub("C", 0, 20);  //$NON-NLS-1$
+		this.D = new AStarNodeStub("D", 20, 20);  //$NON-NLS-1$
+		this.E = new AStarNodeStub("E", 10, 40);  //$NON-NLS-1$
+		this.AB = new AStarEdgeStub("A-B", this.A, this.B, true);  //$NON-NLS-1$
+		this.BD = new AStarEdgeStub("B-D", this.B, this.D, true);  //$NON-NLS-1$
+		this.DC = new AStarEdgeStub("D-C", this.D, this.C, true);  //$NON-NLS-1$
+		this.DE = new AStarEdgeStub("D-E", this.D, this.E, true);  //$NON-NLS-1$
+		this.solver = new CostMatrixSolver<>(new AStarGraphStub(this.AB, this.BD, this.DC, this.DE), AStarPathStub.class);
+	}
+	
+	/**
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		this.solver = null;
+		this.AB = this.BD = this.DE = this.DC = null;
+		this.A = this.B = this.C = this.D = this.E = null;
+	}
+
+	/**
+	 */
+	@Test
+	public void solvePTList() {
+		double[] costs = this.solver.solve(this.A, Arrays.asList(this.B, this.C, this.A, this.E));
+		assertEquals(4, costs.length);
+		assertEpsilonEquals(20, costs[0]);
+		assertEpsilonEquals(60, costs[1]);
+		assertEpsilonEquals(0, costs[2]);
+		assertEpsilonEquals(40 + Math.sqrt(500), costs[3]);
+
+		costs = this.solver.solve(this.D, Arrays.asList(this.A, new AStarNodeStub("F", 100, 100))); //$NON-NLS-1$
+		assertEquals(Double.POSITIVE_INFINITY, costs[0], 0);
+		assertEquals(Double.POSITIVE_INFINITY, costs[1], 0);
+	}
+
+	/**
+	 */
+	@Test
+	public void solveListList() {
+		CostMatrix<AStarPathStub,AStarEdgeStub,AStarNodeStub> matrix = this.solver.solve(
+				Arrays.asList(this.A, this.D), Arrays.asList(this.C, this.B));
+		assertEquals(2, matrix.getRowCount());
+		assertEquals(2, matrix.getColumnCount());
+		assertEpsilonEquals(60, matrix.getCost(0, 0));
+		assertEpsilonEquals(20, matrix.getCost(0, 1));
+		assertEpsilonEquals(20, matrix.getCost(1, 0));
+		assertEquals(Double.POSITIVE_INFINITY, matrix.getCost(1, 1), 0);
+		assertFalse(matrix.isPathAvailable());
+
+		double[][] array = matrix.toArray();
+		assertEpsilonEquals(60, array[0][0]);
+		assertEpsilonEquals(20, array[1][0]);
+		double[] flat = matrix.toFlatArray();
+		assertEpsilonEquals(20, flat[1]);
+		assertEpsilonEquals(20, flat[2]);
+	}
+
+	/**
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void getPathDisabled() {
+		this.solver.solve(Arrays.asList(this.A), Arrays.asList(this.C)).getPath(0, 0);
+	}
+
+	/**
+	 */
+	@Test
+	public void getPath() {
+		this.solver.setPathReconstructionEnabled(true);
+		CostMatrix<AStarPathStub,AStarEdgeStub,AStarNodeStub> matrix = this.solver.solve(
+				Arrays.asList(this.A, this.D), Arrays.asList(this.C, this.B, this.A));
+		assertTrue(matrix.isPathAvailable());
+
+		AStarPathStub path = matrix.getPath(0, 0);
+		assertNotNull(path);
+		assertEquals(3, path.size());
+		assertSame(this.AB, path.get(0));
+		assertSame(this.BD, path.get(1));
+		assertSame(this.DC, path.get(2));
+
+		path = matrix.getPath(1, 0);
+		assertNotNull(path);
+		assertEquals(1, path.size());
+		assertSame(this.DC, path.get(0));
+
+		assertNull(matrix.getPath(1, 1));
+		assertNull(matrix.getPath(0, 2));
+	}
+
+	/**
+	 */
+	@Test
+	public void solveListListRandomGrid() {
+		Random random = getRandom();
+		int size = 15;
+		AStarNodeStub[][] nodes = new AStarNodeStub[size][size];
+		for (int i = 0; i < size; ++i) {
+			for (int j = 0; j < size; ++j) {
+				nodes[i][j] = new AStarNodeStub("n" + i + "_" + j,  //$NON-NLS-1$ //$NON-NLS-2$
+						i * 10 + random.nextDouble() * 5, j * 10 + random.nextDouble() * 5);
+			}
+		}
+		AStarGraphStub grid = new AStarGraphStub();
+		for (int i = 0; i < size; ++i) {
+			for (int j = 0; j < size; ++j) {
+				if (i + 1 < size && random.nextDouble() < .8) {
+					grid.add(newRandomEdge(random, nodes[i][j], nodes[i + 1][j]));
+				}
+				if (j + 1 < size && random.nextDouble() < .8) {
+					grid.add(newRandomEdge(random, nodes[i][j], nodes[i][j + 1]));
+				}
+			}
+		}
+		List<AStarNodeStub> sources = new ArrayList<>();
+		List<AStarNodeStub> targets = new ArrayList<>();
+		for (int k = 0; k < 10; ++k) {
+			sources.add(nodes[random.nextInt(size)][random.nextInt(size)]);
+			targets.add(nodes[random.nextInt(size)][random.nextInt(size)]);
+		}
+		AStar<AStarPathStub,AStarEdgeStub,AStarNodeStub> reference = new AStar<>(new AStarHeuristicStub(), AStarPathStub.class);
+		CostMatrixSolver<AStarPathStub,AStarEdgeStub,AStarNodeStub> matrixSolver = new CostMatrixSolver<>(
+				grid, AStarPathStub.class);
+		matrixSolver.setPathReconstructionEnabled(true);
+		CostMatrix<AStarPathStub,AStarEdgeStub,AStarNodeStub> sequential = matrixSolver.solve(sources, targets);
+		matrixSolver.setParallel(true);
+		CostMatrix<AStarPathStub,AStarEdgeStub,AStarNodeStub> parallel = matrixSolver.solve(sources, targets);
+		for (int i = 0; i < sources.size(); ++i) {
+			for (int j = 0; j < targets.size(); ++j) {
+				AStarNodeStub start = sources.get(i);
+				AStarNodeStub end = targets.get(j);
+				AStarPathStub expected = reference.solve(start, end);
+				AStarPathStub actual = parallel.getPath(i, j);
+				assertEpsilonEquals(sequential.getCost(i, j), parallel.getCost(i, j));
+				if (expected == null) {
+					assertNull(actual);
+					assertTrue(start.equals(end) || Double.isInfinite(parallel.getCost(i, j)));
+				} else {
+					assertNotNull(actual);
+					assertSame(start, actual.getFirstPoint());
+					assertSame(end, actual.getLastPoint());
+					assertEpsilonEquals(expected.getLength(), actual.getLength());
+				}
+			}
+		}
+	}
+
+	private static AStarEdgeStub newRandomEdge(Random random, AStarNodeStub n1, AStarNodeStub n2) {
+		double r = random.nextDouble();
+		String id = n1.toString() + "-" + n2.toString(); //$NON-NLS-1$
+		if (r < .2) {
+			return new AStarEdgeStub(id, n1, n2, true);
+		}
+		if (r < .4) {
+			return new AStarEdgeStub(id, n2, n1, true);
+		}
+		return new AStarEdgeStub(id, n1, n2, false);
+	}
+
+}
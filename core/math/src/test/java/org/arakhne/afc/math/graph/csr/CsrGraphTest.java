@@ -0,0 +1,338 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.graph.csr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.graph.GraphIterationElementComparator;
+import org.arakhne.afc.math.graph.GraphIterator;
+import org.arakhne.afc.math.graph.GraphPath;
+import org.arakhne.afc.math.graph.GraphPoint.GraphPointConnection;
+import org.arakhne.afc.math.graph.SubGraph;
+import org.arakhne.afc.math.graph.astar.AStar;
+import org.arakhne.afc.math.graph.simple.SGraph;
+import org.arakhne.afc.math.graph.simple.SGraphSegment;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class CsrGraphTest extends AbstractMathTestCase {
+
+	private CsrGraph graph;
+
+	/**
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		// 0 -s0- 1 -s1- 2 -s2- 3, 0 -s3- 3, 1 -s4- 4
+		this.graph = new CsrGraph(5,
+				new int[] {0, 1, 2, 0, 1},
+				new int[] {1, 2, 3, 3, 4},
+				new double[] {1, 1, 1, 5, 2});
+	}
+
+	/**
+	 * @throws Exception
+	 */
+	@After
+	public void tearDown() throws Exception {
+		this.graph = null;
+	}
+
+	/**
+	 */
+	@Test
+	public void getPointCount() {
+		assertEquals(5, this.graph.getPointCount());
+	}
+
+	/**
+	 */
+	@Test
+	public void getSegmentCount() {
+		assertEquals(5, this.graph.getSegmentCount());
+	}
+
+	/**
+	 */
+	@Test
+	public void isEmpty() {
+		assertFalse(this.graph.isEmpty());
+		assertTrue(new CsrGraph(0, new int[0], new int[0], new double[0]).isEmpty());
+	}
+
+	/**
+	 */
+	@Test
+	public void contains() {
+		assertTrue(this.graph.contains(this.graph.getSegment(2)));
+		assertFalse(this.graph.contains(new CsrGraph(this.graph).getSegment(2)));
+		assertFalse(this.graph.contains(null));
+	}
+
+	/**
+	 */
+	@Test
+	public void iterator() {
+		Iterator<CsrGraphSegment> iterator = this.graph.iterator();
+		for (int i = 0; i < 5; ++i) {
+			assertTrue(iterator.hasNext());
+			CsrGraphSegment segment = iterator.next();
+			assertEquals(i, segment.getIndex());
+			assertSame(segment, this.graph.getSegment(i));
+		}
+		assertFalse(iterator.hasNext());
+	}
+
+	/**
+	 */
+	@Test
+	public void compareTo() {
+		CsrGraph other = new CsrGraph(this.graph);
+		assertEquals(0, this.graph.getPoint(2).compareTo(this.graph.getPoint(2)));
+		assertTrue(this.graph.getPoint(1).compareTo(this.graph.getPoint(3)) < 0);
+		assertTrue(this.graph.getPoint(3).compareTo(other.getPoint(1)) > 0);
+		assertTrue(other.getPoint(1).compareTo(this.graph.getPoint(3)) < 0);
+		final int cmp = this.graph.getPoint(2).compareTo(other.getPoint(2));
+		assertTrue(cmp != 0);
+		assertEquals(-Integer.signum(cmp), Integer.signum(other.getPoint(2).compareTo(this.graph.getPoint(2))));
+	}
+
+	/**
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void newCsrGraphInvalidPoint() {
+		assertNotNull(new CsrGraph(2, new int[] {0}, new int[] {2}, new double[] {1}));
+	}
+
+	/**
+	 */
+	@Test
+	public void getBeginPointEndPoint() {
+		CsrGraphSegment segment = this.graph.getSegment(3);
+		assertEquals(0, segment.getBeginPoint().getIndex());
+		assertEquals(3, segment.getEndPoint().getIndex());
+		assertEpsilonEquals(5, segment.getLength());
+	}
+
+	/**
+	 */
+	@Test
+	public void getOtherSidePoint() {
+		CsrGraphSegment segment = this.graph.getSegment(4);
+		assertSame(this.graph.getPoint(4), segment.getOtherSidePoint(this.graph.getPoint(1)));
+		assertSame(this.graph.getPoint(1), segment.getOtherSidePoint(this.graph.getPoint(4)));
+		assertNull(segment.getOtherSidePoint(this.graph.getPoint(0)));
+		assertNull(segment.getOtherSidePoint(null));
+	}
+
+	/**
+	 */
+	@Test
+	public void getConnectedSegments() {
+		CsrGraphPoint point = this.graph.getPoint(1);
+		assertEquals(3, point.getConnectedSegmentCount());
+		assertFalse(point.isFinalConnectionPoint());
+		List<Integer> indexes = new ArrayList<>();
+		for (CsrGraphSegment segment : point.getConnectedSegments()) {
+			indexes.add(segment.getIndex());
+		}
+		assertEquals(3, indexes.size());
+		assertTrue(indexes.contains(0));
+		assertTrue(indexes.contains(1));
+		assertTrue(indexes.contains(4));
+		assertTrue(this.graph.getPoint(4).isFinalConnectionPoint());
+	}
+
+	/**
+	 */
+	@Test
+	public void getConnectedSegmentsStartingFrom() {
+		CsrGraphPoint point = this.graph.getPoint(1);
+		CsrGraphSegment start = this.graph.getSegment(4);
+		Iterator<CsrGraphSegment> iterator = point.getConnectedSegmentsStartingFrom(start).iterator();
+		assertSame(start, iterator.next());
+		assertTrue(iterator.hasNext());
+		iterator.next();
+		assertTrue(iterator.hasNext());
+		iterator.next();
+		assertFalse(iterator.hasNext());
+	}
+
+	/**
+	 */
+	@Test
+	public void getConnections() {
+		CsrGraphPoint point = this.graph.getPoint(3);
+		int count = 0;
+		for (GraphPointConnection<CsrGraphPoint, CsrGraphSegment> connection : point.getConnections()) {
+			assertSame(point, connection.getGraphPoint());
+			assertFalse(connection.isSegmentStartConnected());
+			assertTrue(point.isConnectedSegment(connection.getGraphSegment()));
+			++count;
+		}
+		assertEquals(2, count);
+	}
+
+	/**
+	 */
+	@Test
+	public void getConnectionsLoop() {
+		CsrGraph loop = new CsrGraph(1, new int[] {0}, new int[] {0}, new double[] {1});
+		CsrGraphPoint point = loop.getPoint(0);
+		assertEquals(2, point.getConnectedSegmentCount());
+		Iterator<? extends GraphPointConnection<CsrGraphPoint, CsrGraphSegment>> iterator = point.getConnections().iterator();
+		assertTrue(iterator.next().isSegmentStartConnected());
+		assertFalse(iterator.next().isSegmentStartConnected());
+		assertFalse(iterator.hasNext());
+	}
+
+	/**
+	 */
+	@Test
+	public void equalsHashCode() {
+		CsrGraph copy = new CsrGraph(this.graph);
+		assertEquals(this.graph.getPoint(2), this.graph.getPoint(2));
+		assertFalse(this.graph.getPoint(2).equals(this.graph.getPoint(3)));
+		assertFalse(this.graph.getPoint(2).equals(copy.getPoint(2)));
+		assertFalse(this.graph.getSegment(2).equals(copy.getSegment(2)));
+		assertEquals(this.graph.getSegment(2).hashCode(), this.graph.getSegment(2).hashCode());
+	}
+
+	/**
+	 */
+	@Test
+	public void iteratorSegmentPoint() {
+		GraphIterator<CsrGraphSegment, CsrGraphPoint> iterator = this.graph.iterator(
+				this.graph.getSegment(0), this.graph.getPoint(0), false, false);
+		Set<CsrGraphSegment> segments = new HashSet<>();
+		while (iterator.hasNext()) {
+			assertTrue(segments.add(iterator.next()));
+		}
+		assertEquals(5, segments.size());
+	}
+
+	/**
+	 */
+	@Test
+	public void depthIterator() {
+		GraphIterator<CsrGraphSegment, CsrGraphPoint> iterator = this.graph.depthIterator(
+				this.graph.getSegment(0), 1.5, 0, this.graph.getPoint(0), false, false);
+		Set<Integer> segments = new HashSet<>();
+		while (iterator.hasNext()) {
+			segments.add(iterator.next().getIndex());
+		}
+		assertTrue(segments.contains(0));
+		assertFalse(segments.contains(2));
+	}
+
+	/**
+	 */
+	@Test
+	public void subGraph() {
+		SubGraph<CsrGraphSegment, CsrGraphPoint, PathStub> subgraph = new SubGraph<>(
+				new GraphIterationElementComparator<CsrGraphSegment, CsrGraphPoint>(true),
+				new GraphIterationElementComparator<CsrGraphSegment, CsrGraphPoint>(false));
+		subgraph.build(this.graph.depthIterator(
+				this.graph.getSegment(0), 1.5, 0, this.graph.getPoint(0), false, false));
+		assertTrue(subgraph.getSegmentCount() > 0);
+		assertTrue(subgraph.getSegmentCount() < this.graph.getSegmentCount());
+		for (CsrGraphSegment segment : subgraph) {
+			assertNotNull(segment);
+			assertTrue(this.graph.contains(segment));
+		}
+	}
+
+	/**
+	 */
+	@Test
+	public void aStar() {
+		AStar<PathStub, CsrGraphSegment, CsrGraphPoint> astar = new AStar<>(
+				(p1, p2) -> 0., (point, segment) -> new PathStub(segment, point));
+		PathStub path = astar.solve(this.graph.getPoint(0), this.graph.getPoint(3));
+		assertNotNull(path);
+		assertEquals(3, path.size());
+		assertSame(this.graph.getSegment(0), path.get(0));
+		assertSame(this.graph.getSegment(1), path.get(1));
+		assertSame(this.graph.getSegment(2), path.get(2));
+	}
+
+	/**
+	 */
+	@Test
+	public void newCsrGraphSGraph() {
+		SGraph sgraph = new SGraph();
+		SGraphSegment s1 = new SGraphSegment(sgraph, 10);
+		SGraphSegment s2 = new SGraphSegment(sgraph, 20);
+		SGraphSegment s3 = new SGraphSegment(sgraph, 30);
+		s1.connectEndToBegin(s2);
+		s2.connectEndToBegin(s3);
+
+		CsrGraph csr = new CsrGraph(sgraph);
+		assertEquals(sgraph.getSegmentCount(), csr.getSegmentCount());
+		assertEquals(sgraph.getPointCount(), csr.getPointCount());
+		assertEpsilonEquals(10, csr.getLength(0));
+		assertEpsilonEquals(20, csr.getLength(1));
+		assertEpsilonEquals(30, csr.getLength(2));
+		assertEquals(csr.getEndPointIndex(0), csr.getBeginPointIndex(1));
+		assertEquals(csr.getEndPointIndex(1), csr.getBeginPointIndex(2));
+		assertEquals(2, csr.getPoint(csr.getEndPointIndex(0)).getConnectedSegmentCount());
+	}
+
+	/**
+	 * @author $Author: sgalland$
+	 * @version $FullVersion$
+	 * @mavengroupid $GroupId$
+	 * @mavenartifactid $ArtifactId$
+	 */
+	private static class PathStub extends GraphPath<PathStub, CsrGraphSegment, CsrGraphPoint> {
+
+		/**
+		 * @param segment
+		 * @param point
+		 */
+		PathStub(CsrGraphSegment segment, CsrGraphPoint point) {
+			super(segment, point);
+		}
+
+	}
+
+}
@@ -642,6 +642,39 @@ public class Matrix2dTest extends AbstractMathTestCase {
 		assertEpsilonEquals(m2, m1);
 	}
 
+	@Test
+	public void operator_multiplyAssignMatrix2d() {
+		Matrix2d m1 = this.randomMatrix2f();
+		Matrix2d m2 = this.randomMatrix2f();
+		Matrix2d m3 = m1.operator_multiply(m2);
+
+		m1.operator_multiplyAssign(m2);
+
+		assertEpsilonEquals(m3, m1);
+	}
+
+	@Test
+	public void operator_multiplyAssignDouble() {
+		Matrix2d m1 = this.randomMatrix2f();
+		double s = getRandom().nextDouble() * 100;
+		Matrix2d m2 = m1.operator_multiply(s);
+
+		m1.operator_multiplyAssign(s);
+
+		assertEpsilonEquals(m2, m1);
+	}
+
+	@Test
+	public void operator_divideAssignDouble() {
+		Matrix2d m1 = this.randomMatrix2f();
+		double s = getRandom().nextDouble() * 100 + 1;
+		Matrix2d m2 = m1.operator_divide(s);
+
+		m1.operator_divideAssign(s);
+
+		assertEpsilonEquals(m2, m1);
+	}
+
 	@Test
 	public void operator_plusMatrix2f() {
 		Matrix2d m1 = this.randomMatrix2f();
@@ -23,6 +23,10 @@ package org.arakhne.afc.math.matrix;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.junit.Assume;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -915,6 +919,73 @@ public class Matrix3dTest extends AbstractMathTestCase {
 		assertEpsilonEquals(m2, m1);
 	}
 
+	@Test
+	public void operator_multiplyAssignMatrix3d() {
+		Matrix3d m1 = this.randomMatrix3f();
+		Matrix3d m2 = this.randomMatrix3f();
+		Matrix3d m3 = m1.operator_multiply(m2);
+
+		m1.operator_multiplyAssign(m2);
+
+		assertEpsilonEquals(m3, m1);
+	}
+
+	@Test
+	public void operator_multiplyAssignDouble() {
+		Matrix3d m1 = this.randomMatrix3f();
+		double s = getRandom().nextDouble() * 100;
+		Matrix3d m2 = m1.operator_multiply(s);
+
+		m1.operator_multiplyAssign(s);
+
+		assertEpsilonEquals(m2, m1);
+	}
+
+	@Test
+	public void operator_divideAssignDouble() {
+		Matrix3d m1 = this.randomMatrix3f();
+		double s = getRandom().nextDouble() * 100 + 1;
+		Matrix3d m2 = m1.operator_divide(s);
+
+		m1.operator_divideAssign(s);
+
+		assertEpsilonEquals(m2, m1);
+	}
+
+	@Test
+	public void compoundAssignmentOperators_noAllocation() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+		Assume.assumeTrue(sunBean.isThreadAllocatedMemorySupported());
+		Assume.assumeTrue(sunBean.isThreadAllocatedMemoryEnabled());
+		long threadId = Thread.currentThread().getId();
+		Matrix3d m1 = this.randomMatrix3f();
+		Matrix3d m2 = this.randomMatrix3f();
+		Vector3d v = new Vector3d(getRandom().nextDouble(), getRandom().nextDouble(), getRandom().nextDouble());
+		Vector3d r = new Vector3d();
+		// Warm up the JIT and the allocated-bytes counter
+		for (int i = 0; i < 20000; ++i) {
+			m1.setIdentity();
+			m1.operator_multiplyAssign(m2);
+			m1.operator_add(m2);
+			m1.operator_divideAssign(2.);
+			m1.mul(v, r);
+			sunBean.getThreadAllocatedBytes(threadId);
+		}
+		long before = sunBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < 100000; ++i) {
+			m1.setIdentity();
+			m1.operator_multiplyAssign(m2);
+			m1.operator_add(m2);
+			m1.operator_divideAssign(2.);
+			m1.mul(v, r);
+		}
+		long allocated = sunBean.getThreadAllocatedBytes(threadId) - before;
+		// The in-place operators must not allocate a single object per iteration
+		assertTrue("Allocated bytes: " + allocated, allocated < 100000); //$NON-NLS-1$
+	}
+
 	@Test
 	public void operator_plusMatrix3d() {
 		Matrix3d m1 = new Matrix3d(getRandom().nextDouble(),getRandom().nextDouble(),getRandom().nextDouble(),getRandom().nextDouble(),getRandom().nextDouble(),getRandom().nextDouble(),getRandom().nextDouble(),getRandom().nextDouble(),getRandom().nextDouble());
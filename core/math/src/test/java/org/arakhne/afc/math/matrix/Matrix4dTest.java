@@ -22,6 +22,7 @@ package org.arakhne.afc.math.matrix;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -524,6 +525,39 @@ public class Matrix4dTest extends AbstractMathTestCase{
 		assertEpsilonEquals(m2, m1);
 	}
 
+	@Test
+	public void operator_multiplyAssignMatrix4d() {
+		Matrix4d m1 = this.randomMatrix4f();
+		Matrix4d m2 = this.randomMatrix4f();
+		Matrix4d m3 = m1.operator_multiply(m2);
+
+		m1.operator_multiplyAssign(m2);
+
+		assertEpsilonEquals(m3, m1);
+	}
+
+	@Test
+	public void operator_multiplyAssignDouble() {
+		Matrix4d m1 = this.randomMatrix4f();
+		double s = getRandom().nextDouble() * 100;
+		Matrix4d m2 = m1.operator_multiply(s);
+
+		m1.operator_multiplyAssign(s);
+
+		assertEpsilonEquals(m2, m1);
+	}
+
+	@Test
+	public void operator_divideAssignDouble() {
+		Matrix4d m1 = this.randomMatrix4f();
+		double s = getRandom().nextDouble() * 100 + 1;
+		Matrix4d m2 = m1.operator_divide(s);
+
+		m1.operator_divideAssign(s);
+
+		assertEpsilonEquals(m2, m1);
+	}
+
 	@Test
 	public void operator_plusMatrix4f() {
 		Matrix4d m1 = this.randomMatrix4f();
@@ -741,4 +775,34 @@ public class Matrix4dTest extends AbstractMathTestCase{
 		assertEpsilonEquals(m2, r);
 	}
 
-}
\ No newline at end of file
+	@Test
+	public void invert() {
+		Matrix4d m1 = this.randomMatrix4f();
+		Matrix4d m2 = m1.clone();
+		m2.invert();
+		Matrix4d m3 = new Matrix4d();
+		m3.invert(m1);
+		assertTrue(m2.epsilonEquals(m3, 0.));
+
+		m2.mul(m1);
+		Matrix4d identity = new Matrix4d();
+		identity.setIdentity();
+		assertTrue(identity.epsilonEquals(m2, 1e-8));
+	}
+
+	@Test(expected = SingularMatrixException.class)
+	public void invert_singular() {
+		new Matrix4d(1, 2, 3, 4, 2, 4, 6, 8, 0, 1, 0, 1, 1, 0, 0, 0).invert();
+	}
+
+	@Test
+	public void invert_singularMessage() {
+		try {
+			new Matrix4d(1, 2, 3, 4, 2, 4, 6, 8, 0, 1, 0, 1, 1, 0, 0, 0).invert();
+			fail("Expecting SingularMatrixException"); //$NON-NLS-1$
+		} catch (SingularMatrixException ex) {
+			assertFalse("E1".equals(ex.getMessage())); //$NON-NLS-1$
+		}
+	}
+
+}
@@ -0,0 +1,310 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.matrix;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+
+@SuppressWarnings("all")
+public class MatrixNdTest extends AbstractMathTestCase {
+
+	private MatrixNd randomMatrix(int rows, int columns) {
+		final MatrixNd matrix = new MatrixNd(rows, columns);
+		for (int i = 0; i < rows; ++i) {
+			for (int j = 0; j < columns; ++j) {
+				matrix.setElement(i, j, getRandom().nextDouble() * 20 - 10);
+			}
+		}
+		return matrix;
+	}
+
+	private static MatrixNd naiveMul(MatrixNd a, MatrixNd b) {
+		final MatrixNd result = new MatrixNd(a.getRowCount(), b.getColumnCount());
+		for (int i = 0; i < a.getRowCount(); ++i) {
+			for (int j = 0; j < b.getColumnCount(); ++j) {
+				double sum = 0;
+				for (int k = 0; k < a.getColumnCount(); ++k) {
+					sum += a.getElement(i, k) * b.getElement(k, j);
+				}
+				result.setElement(i, j, sum);
+			}
+		}
+		return result;
+	}
+
+	private static MatrixNd transpose(MatrixNd matrix) {
+		final MatrixNd result = new MatrixNd(matrix.getColumnCount(), matrix.getRowCount());
+		result.transpose(matrix);
+		return result;
+	}
+
+	@Test
+	public void mul_small() {
+		final MatrixNd a = new MatrixNd(new double[][] {{1, 2, 3}, {4, 5, 6}});
+		final MatrixNd b = new MatrixNd(new double[][] {{7, 8}, {9, 10}, {11, 12}});
+		final MatrixNd c = new MatrixNd(2, 2);
+		c.mul(a, b);
+		assertEquals(new MatrixNd(new double[][] {{58, 64}, {139, 154}}), c);
+	}
+
+	@Test
+	public void mul_blocked() {
+		final MatrixNd a = randomMatrix(150, 97);
+		final MatrixNd b = randomMatrix(97, 131);
+		final MatrixNd c = new MatrixNd(150, 131);
+		c.mul(a, b);
+		assertTrue(naiveMul(a, b).epsilonEquals(c, 1e-9));
+	}
+
+	@Test
+	public void mul_parallel() {
+		final MatrixNd a = randomMatrix(200, 160);
+		final MatrixNd b = randomMatrix(160, 90);
+		final MatrixNd c = new MatrixNd(200, 90);
+		c.mul(a, b);
+		assertTrue(naiveMul(a, b).epsilonEquals(c, 1e-9));
+	}
+
+	@Test
+	public void mul_inPlace() {
+		final MatrixNd a = randomMatrix(5, 5);
+		final MatrixNd b = randomMatrix(5, 5);
+		final MatrixNd expected = naiveMul(a, b);
+		final double[] buffer = a.getBuffer();
+		a.mul(b);
+		assertTrue(expected.epsilonEquals(a, 1e-12));
+		assertSame(buffer, a.getBuffer());
+	}
+
+	@Test
+	public void mul_nanPropagation() {
+		final MatrixNd a = new MatrixNd(new double[][] {{0, 1}, {1, 0}});
+		final MatrixNd b = new MatrixNd(new double[][] {{Double.NaN, Double.POSITIVE_INFINITY}, {2, 3}});
+		final MatrixNd c = new MatrixNd(2, 2);
+		c.mul(a, b);
+		assertTrue(Double.isNaN(c.getElement(0, 0)));
+		assertTrue(Double.isNaN(c.getElement(0, 1)));
+		assertTrue(Double.isNaN(c.getElement(1, 0)));
+		assertEquals(Double.POSITIVE_INFINITY, c.getElement(1, 1), 0.);
+	}
+
+	@Test
+	public void mulTransposeLeft() {
+		final MatrixNd a = randomMatrix(170, 90);
+		final MatrixNd b = randomMatrix(170, 70);
+		final MatrixNd c = new MatrixNd(90, 70);
+		c.mulTransposeLeft(a, b);
+		assertTrue(naiveMul(transpose(a), b).epsilonEquals(c, 1e-9));
+	}
+
+	@Test
+	public void mulTransposeLeft_inPlace() {
+		final MatrixNd a = randomMatrix(6, 6);
+		final MatrixNd b = randomMatrix(6, 6);
+		final MatrixNd expected = naiveMul(transpose(a), b);
+		final double[] buffer = b.getBuffer();
+		b.mulTransposeLeft(a, b);
+		assertTrue(expected.epsilonEquals(b, 1e-12));
+		assertSame(buffer, b.getBuffer());
+	}
+
+	@Test
+	public void transpose() {
+		final MatrixNd a = randomMatrix(70, 130);
+		final MatrixNd t = transpose(a);
+		for (int i = 0; i < 70; ++i) {
+			for (int j = 0; j < 130; ++j) {
+				assertEquals(a.getElement(i, j), t.getElement(j, i), 0);
+			}
+		}
+		final MatrixNd square = randomMatrix(6, 6);
+		final MatrixNd copy = square.clone();
+		square.transpose();
+		assertEquals(transpose(copy), square);
+	}
+
+	@Test
+	public void transform() {
+		final MatrixNd a = new MatrixNd(new double[][] {{1, 2}, {3, 4}, {5, 6}});
+		final double[] result = new double[3];
+		a.transform(new double[] {1, -1}, result);
+		assertArrayEquals(new double[] {-1, -1, -1}, result, 0);
+	}
+
+	@Test
+	public void lu() {
+		final MatrixNd a = randomMatrix(40, 40);
+		final LUDecomposition lu = a.lu();
+		assertFalse(lu.isSingular());
+		final int[] pivot = lu.getPivot();
+		final MatrixNd permuted = new MatrixNd(40, 40);
+		final double[] row = new double[40];
+		for (int i = 0; i < 40; ++i) {
+			a.getRow(pivot[i], row);
+			permuted.setRow(i, row);
+		}
+		final MatrixNd product = new MatrixNd(40, 40);
+		product.mul(lu.getL(), lu.getU());
+		assertTrue(permuted.epsilonEquals(product, 1e-9));
+	}
+
+	@Test
+	public void determinant() {
+		final Matrix3d matrix3 = randomMatrix3f();
+		assertEpsilonEquals(matrix3.determinant(), new MatrixNd(matrix3).determinant());
+		final Matrix4d matrix4 = randomMatrix4f();
+		assertEquals(matrix4.determinant(), new MatrixNd(matrix4).determinant(), Math.abs(matrix4.determinant()) * 1e-10);
+		assertEpsilonEquals(0, new MatrixNd(new double[][] {{1, 2}, {2, 4}}).determinant());
+	}
+
+	@Test
+	public void invert() {
+		final MatrixNd a = randomMatrix(30, 30);
+		final MatrixNd inverse = a.clone();
+		inverse.invert();
+		final MatrixNd product = new MatrixNd(30, 30);
+		product.mul(a, inverse);
+		assertTrue(MatrixNd.identity(30).epsilonEquals(product, 1e-9));
+	}
+
+	@Test(expected = SingularMatrixException.class)
+	public void invert_singular() {
+		new MatrixNd(new double[][] {{1, 2}, {2, 4}}).invert();
+	}
+
+	@Test
+	public void solve_square() {
+		final MatrixNd a = randomMatrix(25, 25);
+		final MatrixNd x = randomMatrix(25, 3);
+		final MatrixNd b = naiveMul(a, x);
+		assertTrue(x.epsilonEquals(a.solve(b), 1e-8));
+		final double[] vector = new double[25];
+		x.getColumn(0, vector);
+		final double[] rhs = new double[25];
+		a.transform(vector, rhs);
+		assertArrayEquals(vector, a.lu().solve(rhs), 1e-8);
+	}
+
+	@Test
+	public void qr() {
+		final MatrixNd a = randomMatrix(30, 12);
+		final QRDecomposition qr = a.qr();
+		assertTrue(qr.isFullRank());
+		final MatrixNd q = qr.getQ();
+		final MatrixNd r = qr.getR();
+		for (int i = 1; i < 12; ++i) {
+			for (int j = 0; j < i; ++j) {
+				assertEquals(0, r.getElement(i, j), 0);
+			}
+		}
+		assertTrue(a.epsilonEquals(naiveMul(q, r), 1e-9));
+		assertTrue(MatrixNd.identity(12).epsilonEquals(naiveMul(transpose(q), q), 1e-12));
+	}
+
+	@Test
+	public void qr_leastSquares() {
+		// Fit of y = 2 + 3x - x^2 with noise-free data
+		final MatrixNd a = new MatrixNd(20, 3);
+		final MatrixNd b = new MatrixNd(20, 1);
+		for (int i = 0; i < 20; ++i) {
+			final double x = i * .5;
+			a.setRow(i, new double[] {1, x, x * x});
+			b.setElement(i, 0, 2 + 3 * x - x * x);
+		}
+		final MatrixNd solution = a.solve(b);
+		assertEquals(3, solution.getRowCount());
+		assertEpsilonEquals(2, solution.getElement(0, 0));
+		assertEpsilonEquals(3, solution.getElement(1, 0));
+		assertEpsilonEquals(-1, solution.getElement(2, 0));
+	}
+
+	@Test
+	public void cholesky() {
+		final MatrixNd a = randomMatrix(40, 20);
+		final MatrixNd normal = new MatrixNd(20, 20);
+		normal.mulTransposeLeft(a, a);
+		final CholeskyDecomposition cholesky = normal.cholesky();
+		assertTrue(cholesky.isPositiveDefinite());
+		final MatrixNd l = cholesky.getL();
+		assertTrue(normal.epsilonEquals(naiveMul(l, transpose(l)), 1e-8));
+		final MatrixNd x = randomMatrix(20, 2);
+		assertTrue(x.epsilonEquals(cholesky.solve(naiveMul(normal, x)), 1e-8));
+		assertEquals(normal.determinant(), cholesky.determinant(), Math.abs(cholesky.determinant()) * 1e-8);
+	}
+
+	@Test
+	public void cholesky_notPositiveDefinite() {
+		final MatrixNd a = new MatrixNd(new double[][] {{1, 2}, {2, 1}});
+		assertFalse(a.cholesky().isPositiveDefinite());
+	}
+
+	@Test
+	public void svd() {
+		for (final int[] size : new int[][] {{15, 8}, {8, 15}, {10, 10}}) {
+			final MatrixNd a = randomMatrix(size[0], size[1]);
+			final SingularValueDecomposition svd = a.svd();
+			final MatrixNd u = svd.getU();
+			final MatrixNd v = svd.getV();
+			final int k = Math.min(size[0], size[1]);
+			assertEquals(size[0], u.getRowCount());
+			assertEquals(size[1], v.getRowCount());
+			final double[] values = svd.getSingularValues();
+			for (int i = 1; i < k; ++i) {
+				assertTrue(values[i - 1] >= values[i]);
+			}
+			assertTrue(a.epsilonEquals(naiveMul(naiveMul(u, svd.getS()), transpose(v)), 1e-9));
+			assertTrue(MatrixNd.identity(k).epsilonEquals(naiveMul(transpose(u), u), 1e-9));
+			assertTrue(MatrixNd.identity(k).epsilonEquals(naiveMul(transpose(v), v), 1e-9));
+			assertEquals(k, svd.rank());
+		}
+	}
+
+	@Test
+	public void svd_rankDeficient() {
+		final MatrixNd a = new MatrixNd(new double[][] {{1, 2, 3}, {2, 4, 6}, {1, 0, 1}, {0, 1, 1}});
+		final SingularValueDecomposition svd = a.svd();
+		assertEquals(2, svd.rank());
+		// The pseudo-inverse satisfies A * A+ * A = A
+		final MatrixNd pseudoInverse = svd.getPseudoInverse();
+		assertTrue(a.epsilonEquals(naiveMul(naiveMul(a, pseudoInverse), a), 1e-9));
+	}
+
+	@Test
+	public void conversions() {
+		final Matrix3d matrix3 = randomMatrix3f();
+		assertEpsilonEquals(matrix3, new MatrixNd(matrix3).toMatrix3d());
+		final Matrix4d matrix4 = randomMatrix4f();
+		assertEpsilonEquals(matrix4, new MatrixNd(matrix4).toMatrix4d());
+		final Matrix2d matrix2 = new Matrix2d(1, 2, 3, 4);
+		final MatrixNd matrixN = new MatrixNd(matrix2);
+		assertEquals(2, matrixN.getElement(0, 1), 0);
+		assertEquals(3, matrixN.getElement(1, 0), 0);
+		assertTrue(matrix2.equals(matrixN.toMatrix2d()));
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.stochastic;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+
+@SuppressWarnings("all")
+public class DiscreteStochasticLawTest extends AbstractMathTestCase {
+
+	@Test
+	public void f() throws Exception {
+		final DiscreteStochasticLaw law = new DiscreteStochasticLaw(new double[] {10, 20, 10}, new double[] {1, 2, 1});
+		assertEpsilonEquals(.5, law.f(10));
+		assertEpsilonEquals(.5, law.f(20));
+		assertEpsilonEquals(.25, law.getProbability(2));
+		assertEquals(3, law.size());
+	}
+
+	@Test(expected = OutsideDomainException.class)
+	public void f_outside() throws Exception {
+		new DiscreteStochasticLaw(1, 2).f(5);
+	}
+
+	@Test(expected = OutsideDomainException.class)
+	public void negativeWeight() throws Exception {
+		new DiscreteStochasticLaw(1, -2).toString();
+	}
+
+	@Test(expected = OutsideDomainException.class)
+	public void zeroWeights() throws Exception {
+		new DiscreteStochasticLaw(0, 0).toString();
+	}
+
+	@Test
+	public void randomIndex() throws Exception {
+		final double[] weights = {5, 0, 1, 3, 1};
+		final DiscreteStochasticLaw law = new DiscreteStochasticLaw(weights);
+		final Random generator = new Xoshiro256Random(getRandom().nextLong());
+		final int[] counts = new int[weights.length];
+		for (int i = 0; i < 100000; ++i) {
+			++counts[law.randomIndex(generator)];
+		}
+		assertEquals(0, counts[1]);
+		for (int i = 0; i < weights.length; ++i) {
+			assertEquals(weights[i] / 10, counts[i] / 100000., .01);
+		}
+	}
+
+	@Test
+	public void inverseF() throws Exception {
+		final double[] weights = {5, 0, 1, 3, 1};
+		final DiscreteStochasticLaw law = new DiscreteStochasticLaw(weights);
+		final int[] counts = new int[weights.length];
+		for (int i = 0; i <= 10000; ++i) {
+			++counts[(int) law.inverseF(i / 10000.)];
+		}
+		assertEquals(0, counts[1]);
+		for (int i = 0; i < weights.length; ++i) {
+			assertEquals(weights[i] / 10, counts[i] / 10000., .001);
+		}
+	}
+
+	@Test
+	public void generateRandomValue() throws Exception {
+		final DiscreteStochasticLaw law = new DiscreteStochasticLaw(new double[] {-1, 7}, new double[] {0, 4});
+		for (int i = 0; i < 100; ++i) {
+			assertEpsilonEquals(7, StochasticGenerator.generateRandomValue(law));
+		}
+	}
+
+}
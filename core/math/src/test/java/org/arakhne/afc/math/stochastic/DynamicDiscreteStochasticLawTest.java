@@ -0,0 +1,103 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.stochastic;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+
+@SuppressWarnings("all")
+public class DynamicDiscreteStochasticLawTest extends AbstractMathTestCase {
+
+	@Test
+	public void weights() throws Exception {
+		final DynamicDiscreteStochasticLaw law = new DynamicDiscreteStochasticLaw(1, 2, 3, 4, 5);
+		assertEpsilonEquals(15, law.getTotalWeight());
+		assertEpsilonEquals(6, law.getCumulativeWeight(2));
+		law.setWeight(1, 7);
+		assertEpsilonEquals(7, law.getWeight(1));
+		assertEpsilonEquals(20, law.getTotalWeight());
+		assertEpsilonEquals(11, law.getCumulativeWeight(2));
+		assertEpsilonEquals(20, law.getCumulativeWeight(4));
+		assertEpsilonEquals(.25, law.f(4));
+	}
+
+	@Test
+	public void inverseF() throws Exception {
+		final DynamicDiscreteStochasticLaw law = new DynamicDiscreteStochasticLaw(1, 0, 3, 0, 4, 0, 0);
+		assertEpsilonEquals(0, law.inverseF(0));
+		assertEpsilonEquals(0, law.inverseF(.1));
+		assertEpsilonEquals(2, law.inverseF(.125));
+		assertEpsilonEquals(2, law.inverseF(.4));
+		assertEpsilonEquals(4, law.inverseF(.5));
+		assertEpsilonEquals(4, law.inverseF(1));
+		law.setWeight(0, 0);
+		assertEpsilonEquals(2, law.inverseF(0));
+	}
+
+	@Test(expected = OutsideDomainException.class)
+	public void setWeight_negative() throws Exception {
+		new DynamicDiscreteStochasticLaw(1, 2).setWeight(0, -1);
+	}
+
+	@Test(expected = OutsideDomainException.class)
+	public void randomIndex_noWeight() throws Exception {
+		new DynamicDiscreteStochasticLaw(0, 0).randomIndex(new Random());
+	}
+
+	@Test
+	public void randomIndex() throws Exception {
+		final Random random = getRandom();
+		final double[] weights = new double[37];
+		for (int i = 0; i < weights.length; ++i) {
+			weights[i] = random.nextInt(5);
+		}
+		weights[3] = 1;
+		final DynamicDiscreteStochasticLaw law = new DynamicDiscreteStochasticLaw(weights);
+		for (int i = 0; i < 200; ++i) {
+			final int index = random.nextInt(weights.length);
+			weights[index] = random.nextInt(5);
+			law.setWeight(index, weights[index]);
+		}
+		double total = 0;
+		for (final double weight : weights) {
+			total += weight;
+		}
+		assertEpsilonEquals(total, law.getTotalWeight());
+		final Random generator = new Xoshiro256Random(random.nextLong());
+		final int[] counts = new int[weights.length];
+		for (int i = 0; i < 200000; ++i) {
+			++counts[law.randomIndex(generator)];
+		}
+		for (int i = 0; i < weights.length; ++i) {
+			if (weights[i] == 0) {
+				assertEquals(0, counts[i]);
+			} else {
+				assertEquals(weights[i] / total, counts[i] / 200000., .01);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.stochastic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+
+@SuppressWarnings("all")
+public class EmpiricalStochasticLawTest extends AbstractMathTestCase {
+
+	@Test
+	public void observations() throws Exception {
+		final EmpiricalStochasticLaw law = new EmpiricalStochasticLaw(new double[] {4, 0, 2});
+		assertEpsilonEquals(0, law.inverseF(0));
+		assertEpsilonEquals(1, law.inverseF(.25));
+		assertEpsilonEquals(2, law.inverseF(.5));
+		assertEpsilonEquals(4, law.inverseF(1));
+		assertEpsilonEquals(.25, law.f(1));
+		assertEpsilonEquals(.25, law.f(4));
+		assertEpsilonEquals(.75, law.cumulativeF(3));
+		assertEpsilonEquals(0, law.cumulativeF(-1));
+		assertEpsilonEquals(1, law.cumulativeF(5));
+	}
+
+	@Test
+	public void knots() throws Exception {
+		final EmpiricalStochasticLaw law = new EmpiricalStochasticLaw(
+				new double[] {0, 1, 1, 5}, new double[] {0, .2, .6, 1});
+		assertEpsilonEquals(.5, law.inverseF(.1));
+		// The knot 1 is an atom
+		assertEpsilonEquals(1, law.inverseF(.4));
+		assertEpsilonEquals(3, law.inverseF(.8));
+		assertEpsilonEquals(.2, law.f(.5));
+		assertEpsilonEquals(.1, law.f(3));
+		assertEpsilonEquals(.6, law.cumulativeF(1));
+	}
+
+	@Test(expected = OutsideDomainException.class)
+	public void knots_notIncreasing() throws Exception {
+		new EmpiricalStochasticLaw(new double[] {0, 2, 1}, new double[] {0, .5, 1}).toString();
+	}
+
+	@Test(expected = OutsideDomainException.class)
+	public void f_outside() throws Exception {
+		new EmpiricalStochasticLaw(new double[] {0, 1}).f(2);
+	}
+
+	@Test
+	public void inverseFIsInverseOfCumulativeF() throws Exception {
+		final Random random = getRandom();
+		final double[] observations = new double[500];
+		for (int i = 0; i < observations.length; ++i) {
+			observations[i] = random.nextGaussian();
+		}
+		final EmpiricalStochasticLaw law = new EmpiricalStochasticLaw(observations);
+		for (int i = 0; i < 100; ++i) {
+			final double u = random.nextDouble();
+			assertEquals(u, law.cumulativeF(law.inverseF(u)), 1e-9);
+		}
+		final double[] values = new double[1000];
+		law.generateRandomValues(values, 0, values.length, new Xoshiro256Random(random.nextLong()));
+		for (final double value : values) {
+			assertTrue(law.cumulativeF(value) > 0 || value == law.inverseF(0));
+		}
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.arakhne.afc.math.stochastic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+
+@SuppressWarnings("all")
+public class StochasticLawSamplingTest extends AbstractMathTestCase {
+
+	private static final int COUNT = 100000;
+
+	private static void assertSameRandomValues(StochasticLaw law, Sampler sampler) throws Exception {
+		final double[] expected = new double[64];
+		final Random generator = Xoshiro256Random.createStream(13, 5);
+		for (int i = 0; i < expected.length; ++i) {
+			expected[i] = law.generateRandomValue(generator);
+		}
+		final double[] actual = new double[expected.length];
+		StochasticGenerator.setRandomGenerator(Xoshiro256Random.createStream(13, 5));
+		try {
+			for (int i = 0; i < actual.length; ++i) {
+				actual[i] = sampler.sample();
+			}
+		} finally {
+			StochasticGenerator.setRandomGenerator(null);
+		}
+		assertArrayEquals(expected, actual, 0);
+	}
+
+	private static double mean(double[] values) {
+		double sum = 0;
+		for (final double value : values) {
+			sum += value;
+		}
+		return sum / values.length;
+	}
+
+	private static double variance(double[] values) {
+		final double mean = mean(values);
+		double sum = 0;
+		for (final double value : values) {
+			sum += (value - mean) * (value - mean);
+		}
+		return sum / values.length;
+	}
+
+	@Test
+	public void zigguratGaussian() {
+		final Random generator = new Xoshiro256Random(getRandom().nextLong());
+		final double[] values = new double[COUNT];
+		for (int i = 0; i < COUNT; ++i) {
+			values[i] = ZigguratSampler.nextGaussian(generator);
+		}
+		assertEquals(0, mean(values), .02);
+		assertEquals(1, variance(values), .03);
+	}
+
+	@Test
+	public void zigguratExponential() {
+		final Random generator = new Xoshiro256Random(getRandom().nextLong());
+		final double[] values = new double[COUNT];
+		for (int i = 0; i < COUNT; ++i) {
+			values[i] = ZigguratSampler.nextExponential(generator);
+			assertTrue(values[i] >= 0);
+		}
+		assertEquals(1, mean(values), .02);
+		assertEquals(1, variance(values), .05);
+	}
+
+	@Test
+	public void generateRandomValues_gaussian() throws Exception {
+		final GaussianStochasticLaw law = new GaussianStochasticLaw(5, 2);
+		final double[] values = new double[COUNT];
+		law.generateRandomValues(values, 0, COUNT, new Xoshiro256Random(getRandom().nextLong()));
+		// The law replies deviation * (gaussian + 1) / 2 + mean
+		assertEquals(6, mean(values), .02);
+		assertEquals(1, variance(values), .03);
+	}
+
+	@Test
+	public void generateRandomValues_exponential() throws Exception {
+		final ExponentialStochasticLaw law = new ExponentialStochasticLaw(2, 1);
+		final double[] values = new double[COUNT];
+		law.generateRandomValues(values, 0, COUNT, new Xoshiro256Random(getRandom().nextLong()));
+		for (final double value : values) {
+			assertTrue(value >= 1);
+		}
+		assertEquals(1.5, mean(values), .01);
+	}
+
+	@Test
+	public void generateRandomValues_triangular() throws Exception {
+		final TriangularStochasticLaw law = new TriangularStochasticLaw(0, 3, 6);
+		final double[] values = new double[COUNT + 20];
+		law.generateRandomValues(values, 10, COUNT, new Xoshiro256Random(getRandom().nextLong()));
+		for (int i = 0; i < 10; ++i) {
+			assertEquals(0, values[i], 0);
+			assertEquals(0, values[COUNT + 10 + i], 0);
+		}
+		double sum = 0;
+		for (int i = 10; i < COUNT + 10; ++i) {
+			assertTrue(values[i] >= 0 && values[i] <= 6);
+			sum += values[i];
+		}
+		assertEquals(3, sum / COUNT, .03);
+	}
+
+	@Test
+	public void generateRandomValues_reproducibility() throws Exception {
+		final UniformStochasticLaw law = new UniformStochasticLaw(-5, 5);
+		final double[] values1 = new double[64];
+		final double[] values2 = new double[64];
+		law.generateRandomValues(values1, 0, values1.length, Xoshiro256Random.createStream(7, 3));
+		final Random generator = Xoshiro256Random.createStream(7, 3);
+		for (int i = 0; i < values2.length; ++i) {
+			values2[i] = law.generateRandomValue(generator);
+		}
+		assertArrayEquals(values2, values1, 0);
+	}
+
+	@Test
+	public void randomValues() throws Exception {
+		final LogNormalStochasticLaw law = new LogNormalStochasticLaw(0, 1);
+		assertEquals(1000, law.randomValues(1000).count());
+		final double[] values1 = law.randomValues(1000, Xoshiro256Random.createStream(11, 0)).toArray();
+		final double[] values2 = law.randomValues(1000, Xoshiro256Random.createStream(11, 0)).toArray();
+		assertEquals(1000, values1.length);
+		assertArrayEquals(values1, values2, 0);
+		for (final double value : values1) {
+			assertTrue(value > 0);
+		}
+	}
+
+	@Test
+	public void staticRandom() throws Exception {
+		assertSameRandomValues(new UniformStochasticLaw(5, -5), () -> UniformStochasticLaw.random(5, -5));
+		assertSameRandomValues(new TriangularStochasticLaw(6, 0, 2), () -> TriangularStochasticLaw.random(6, 0, 2));
+		assertSameRandomValues(new CauchyStochasticLaw(1, 3), () -> CauchyStochasticLaw.random(1, 3));
+		assertSameRandomValues(new ParetoStochasticLaw(2, 1.5), () -> ParetoStochasticLaw.random(2, 1.5));
+		assertSameRandomValues(new LogisticStochasticLaw(-1, 2), () -> LogisticStochasticLaw.random(-1, 2));
+		assertSameRandomValues(new BernoulliStochasticLaw(.3), () -> BernoulliStochasticLaw.random(.3));
+		assertSameRandomValues(new LinearStochasticLaw(4, 1), () -> LinearStochasticLaw.random(4, 1));
+		assertSameRandomValues(new LinearStochasticLaw(4, 1, false), () -> LinearStochasticLaw.random(4, 1, false));
+	}
+
+	/** Sampler of random values.
+	 */
+	@FunctionalInterface
+	private interface Sampler {
+
+		double sample() throws MathException;
+
+	}
+
+}
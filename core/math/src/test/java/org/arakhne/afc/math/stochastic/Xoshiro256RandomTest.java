@@ -0,0 +1,115 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.stochastic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+
+@SuppressWarnings("all")
+public class Xoshiro256RandomTest extends AbstractMathTestCase {
+
+	@Test
+	public void splitMix64() {
+		assertEquals(0xe220a8397b1dcdafL, Xoshiro256Random.splitMix64(0x9e3779b97f4a7c15L));
+	}
+
+	@Test
+	public void nextLong() {
+		final Xoshiro256Random generator = new Xoshiro256Random(42);
+		assertEquals(1546998764402558742L, generator.nextLong());
+		assertEquals(6990951692964543102L, generator.nextLong());
+		assertEquals(-5902157311460992607L, generator.nextLong());
+		generator.setSeed(42);
+		assertEquals(1546998764402558742L, generator.nextLong());
+	}
+
+	@Test
+	public void nextDouble() {
+		final Xoshiro256Random generator = new Xoshiro256Random(getRandom().nextLong());
+		double sum = 0;
+		boolean lowBits = false;
+		for (int i = 0; i < 10000; ++i) {
+			final double value = generator.nextDouble();
+			assertTrue(value >= 0 && value < 1);
+			// A float has 24 bits of mantissa
+			lowBits |= value != (float) value;
+			sum += value;
+		}
+		assertTrue(lowBits);
+		assertEquals(.5, sum / 10000, .02);
+	}
+
+	@Test
+	public void split() {
+		final Xoshiro256Random generator1 = new Xoshiro256Random(42);
+		final Xoshiro256Random generator2 = new Xoshiro256Random(42);
+		final Xoshiro256Random split = generator1.split();
+		assertEquals(1546998764402558742L, split.nextLong());
+		generator2.jump();
+		assertEquals(generator2.nextLong(), generator1.nextLong());
+		final Xoshiro256Random generator3 = new Xoshiro256Random(42);
+		generator3.split();
+		assertEquals(Xoshiro256Random.createStream(42, 1).nextLong(), generator3.split().nextLong());
+		assertTrue(Xoshiro256Random.createStream(42, 1).nextLong() != Xoshiro256Random.createStream(42, 2).nextLong());
+	}
+
+	@Test
+	public void stochasticGeneratorThreadConfinement() throws Exception {
+		final Random generator = StochasticGenerator.getRandomGenerator();
+		assertSame(generator, StochasticGenerator.getRandomGenerator());
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<Random> other = executor.submit(() -> StochasticGenerator.getRandomGenerator());
+			assertNotSame(generator, other.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void stochasticGeneratorReproducibility() throws Exception {
+		final UniformStochasticLaw law = new UniformStochasticLaw(-5, 5);
+		try {
+			StochasticGenerator.setRandomGenerator(Xoshiro256Random.createStream(123, 4));
+			final double value1 = law.generateRandomValue();
+			final double value2 = StochasticGenerator.generateRandomValue(law);
+			StochasticGenerator.setSeed(123);
+			StochasticGenerator.setRandomGenerator(Xoshiro256Random.createStream(123, 4));
+			assertEquals(value1, law.generateRandomValue(), 0.);
+			assertEquals(value2, law.generateRandomValue(), 0.);
+			assertEquals(value1, law.generateRandomValue(Xoshiro256Random.createStream(123, 4)), 0.);
+		} finally {
+			StochasticGenerator.setRandomGenerator(null);
+		}
+	}
+
+}
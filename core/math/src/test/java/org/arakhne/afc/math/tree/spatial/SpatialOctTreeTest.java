@@ -0,0 +1,220 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree.spatial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.d3.d.Sphere3d;
+import org.arakhne.afc.math.geometry.d3.d.Point3d;
+import org.arakhne.afc.math.geometry.d3.d.RectangularPrism3d;
+import org.arakhne.afc.math.tree.builder.TreeBuilderException;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class SpatialOctTreeTest extends AbstractMathTestCase {
+
+	private static final int COUNT = 300;
+
+	private List<RectangularPrism3d> objects;
+
+	private SpatialOctTree<RectangularPrism3d> tree;
+
+	@Before
+	public void setUp() {
+		this.objects = new ArrayList<>();
+		this.tree = new SpatialOctTree<>(0, 0, 0, 100, 100, 100, 4, 8);
+		for (int i = 0; i < COUNT; ++i) {
+			final RectangularPrism3d r = randomRectangle();
+			this.objects.add(r);
+			assertTrue(this.tree.add(r));
+		}
+	}
+
+	private RectangularPrism3d randomRectangle() {
+		// Some of the rectangles are outside the region of the tree
+		return new RectangularPrism3d(
+				getRandom().nextDouble() * 120 - 10,
+				getRandom().nextDouble() * 120 - 10,
+				getRandom().nextDouble() * 120 - 10,
+				getRandom().nextDouble() * 10,
+				getRandom().nextDouble() * 10,
+				getRandom().nextDouble() * 10);
+	}
+
+	private static Map<RectangularPrism3d, Boolean> toIdentitySet(List<RectangularPrism3d> list) {
+		final Map<RectangularPrism3d, Boolean> set = new IdentityHashMap<>();
+		for (final RectangularPrism3d r : list) {
+			assertTrue(set.put(r, Boolean.TRUE) == null);
+		}
+		return set;
+	}
+
+	private void assertRangeQueries(SpatialOctTree<RectangularPrism3d> tree, List<RectangularPrism3d> objects) {
+		for (int i = 0; i < 50; ++i) {
+			final RectangularPrism3d area = randomRectangle();
+			area.setWidth(area.getWidth() * 3);
+			area.setHeight(area.getHeight() * 3);
+			area.setDepth(area.getDepth() * 3);
+			final List<RectangularPrism3d> expected = new ArrayList<>();
+			for (final RectangularPrism3d r : objects) {
+				if (r.intersects(area)) {
+					expected.add(r);
+				}
+			}
+			assertEquals(toIdentitySet(expected).keySet(), toIdentitySet(tree.getDataIntersecting(area)).keySet());
+
+			final Sphere3d circle = new Sphere3d(area.getCenterX(), area.getCenterY(), area.getCenterZ(), area.getWidth());
+			expected.clear();
+			for (final RectangularPrism3d r : objects) {
+				if (r.intersects(circle)) {
+					expected.add(r);
+				}
+			}
+			assertEquals(toIdentitySet(expected).keySet(), toIdentitySet(tree.getDataIntersecting(circle)).keySet());
+		}
+	}
+
+	private void assertNearestQueries(SpatialOctTree<RectangularPrism3d> tree, List<RectangularPrism3d> objects) {
+		for (int i = 0; i < 20; ++i) {
+			final Point3d point = new Point3d(getRandom().nextDouble() * 140 - 20, getRandom().nextDouble() * 140 - 20,
+					getRandom().nextDouble() * 140 - 20);
+			final List<RectangularPrism3d> sorted = new ArrayList<>(objects);
+			Collections.sort(sorted, Comparator.comparingDouble((r) -> r.getDistanceSquared(point)));
+			final List<RectangularPrism3d> nearest = tree.getNearestData(point, 10);
+			assertEquals(10, nearest.size());
+			for (int j = 0; j < nearest.size(); ++j) {
+				assertEpsilonEquals(sorted.get(j).getDistanceSquared(point), nearest.get(j).getDistanceSquared(point));
+			}
+		}
+	}
+
+	@Test
+	public void getUserDataCount() {
+		assertEquals(COUNT, this.tree.getUserDataCount());
+		assertFalse(this.tree.add(this.objects.get(0)));
+		assertEquals(COUNT, this.tree.getUserDataCount());
+	}
+
+	@Test
+	public void contains() {
+		for (final RectangularPrism3d r : this.objects) {
+			assertTrue(this.tree.contains(r));
+			assertNotNull(this.tree.getNodeFor(r));
+		}
+		assertFalse(this.tree.contains(new RectangularPrism3d(1, 1, 1, 1, 1, 1)));
+	}
+
+	@Test
+	public void getDataIntersecting() {
+		assertRangeQueries(this.tree, this.objects);
+	}
+
+	@Test
+	public void getNearestData() {
+		assertNearestQueries(this.tree, this.objects);
+	}
+
+	@Test
+	public void remove() {
+		for (int i = 0; i < COUNT / 2; ++i) {
+			final RectangularPrism3d r = this.objects.remove(getRandom().nextInt(this.objects.size()));
+			assertTrue(this.tree.remove(r));
+			assertFalse(this.tree.remove(r));
+			assertFalse(this.tree.contains(r));
+		}
+		assertEquals(this.objects.size(), this.tree.getUserDataCount());
+		assertRangeQueries(this.tree, this.objects);
+		for (final RectangularPrism3d r : new ArrayList<>(this.objects)) {
+			assertTrue(this.tree.remove(r));
+		}
+		assertEquals(0, this.tree.getUserDataCount());
+		assertEquals(1, this.tree.getNodeCount());
+	}
+
+	@Test
+	public void move() {
+		for (final RectangularPrism3d r : this.objects) {
+			final RectangularPrism3d nr = randomRectangle();
+			r.set(nr.getMinX(), nr.getMinY(), nr.getMinZ(), nr.getWidth(), nr.getHeight(), nr.getDepth());
+			assertTrue(this.tree.move(r));
+		}
+		assertFalse(this.tree.move(new RectangularPrism3d(1, 1, 1, 1, 1, 1)));
+		assertEquals(COUNT, this.tree.getUserDataCount());
+		assertRangeQueries(this.tree, this.objects);
+		assertNearestQueries(this.tree, this.objects);
+	}
+
+	@Test
+	public void clear() {
+		this.tree.clear();
+		assertEquals(0, this.tree.getUserDataCount());
+		assertFalse(this.tree.contains(this.objects.get(0)));
+		assertTrue(this.tree.getDataIntersecting(new RectangularPrism3d(-100, -100, -100, 300, 300, 300)).isEmpty());
+		assertTrue(this.tree.add(this.objects.get(0)));
+		assertSame(this.objects.get(0), this.tree.getNearestData(new Point3d(0, 0, 0), 1).get(0));
+	}
+
+	@Test
+	public void builder() throws Exception {
+		final SpatialOctTreeBuilder<RectangularPrism3d> builder = new SpatialOctTreeBuilder<>();
+		assertEquals(SpatialOctTree.DEFAULT_SPLITTING_COUNT, builder.getSplittingCount());
+		builder.setSplittingCount(4);
+		builder.setMaxDepth(6);
+		final SpatialOctTree<RectangularPrism3d> built = builder.buildTree(this.objects);
+		assertEquals(4, built.getSplittingCount());
+		assertEquals(6, built.getMaxDepth());
+		assertEquals(COUNT, built.getUserDataCount());
+		assertTrue(built.getNodeCount() > 1);
+		assertRangeQueries(built, this.objects);
+		assertNearestQueries(built, this.objects);
+
+		final RectangularPrism3d r = this.objects.get(0);
+		assertTrue(built.remove(r));
+		assertTrue(built.add(r));
+		assertEquals(COUNT, built.getUserDataCount());
+	}
+
+	@Test(expected = TreeBuilderException.EmptyBoundingBoxException.class)
+	public void builderEmpty() throws Exception {
+		new SpatialOctTreeBuilder<RectangularPrism3d>().buildTree(Collections.<RectangularPrism3d>emptyList());
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.math.tree.spatial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.arakhne.afc.math.AbstractMathTestCase;
+import org.arakhne.afc.math.geometry.d2.d.Circle2d;
+import org.arakhne.afc.math.geometry.d2.d.Point2d;
+import org.arakhne.afc.math.geometry.d2.d.Rectangle2d;
+import org.arakhne.afc.math.tree.builder.TreeBuilderException;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class SpatialQuadTreeTest extends AbstractMathTestCase {
+
+	private static final int COUNT = 300;
+
+	private List<Rectangle2d> objects;
+
+	private SpatialQuadTree<Rectangle2d> tree;
+
+	@Before
+	public void setUp() {
+		this.objects = new ArrayList<>();
+		this.tree = new SpatialQuadTree<>(0, 0, 100, 100, 4, 8);
+		for (int i = 0; i < COUNT; ++i) {
+			final Rectangle2d r = randomRectangle();
+			this.objects.add(r);
+			assertTrue(this.tree.add(r));
+		}
+	}
+
+	private Rectangle2d randomRectangle() {
+		// Some of the rectangles are outside the region of the tree
+		return new Rectangle2d(
+				getRandom().nextDouble() * 120 - 10,
+				getRandom().nextDouble() * 120 - 10,
+				getRandom().nextDouble() * 10,
+				getRandom().nextDouble() * 10);
+	}
+
+	private static Map<Rectangle2d, Boolean> toIdentitySet(List<Rectangle2d> list) {
+		final Map<Rectangle2d, Boolean> set = new IdentityHashMap<>();
+		for (final Rectangle2d r : list) {
+			assertTrue(set.put(r, Boolean.TRUE) == null);
+		}
+		return set;
+	}
+
+	private void assertRangeQueries(SpatialQuadTree<Rectangle2d> tree, List<Rectangle2d> objects) {
+		for (int i = 0; i < 50; ++i) {
+			final Rectangle2d area = randomRectangle();
+			area.setWidth(area.getWidth() * 3);
+			area.setHeight(area.getHeight() * 3);
+			final List<Rectangle2d> expected = new ArrayList<>();
+			for (final Rectangle2d r : objects) {
+				if (r.intersects(area)) {
+					expected.add(r);
+				}
+			}
+			assertEquals(toIdentitySet(expected).keySet(), toIdentitySet(tree.getDataIntersecting(area)).keySet());
+
+			final Circle2d circle = new Circle2d(area.getCenterX(), area.getCenterY(), area.getWidth());
+			expected.clear();
+			for (final Rectangle2d r : objects) {
+				if (r.intersects(circle)) {
+					expected.add(r);
+				}
+			}
+			assertEquals(toIdentitySet(expected).keySet(), toIdentitySet(tree.getDataIntersecting(circle)).keySet());
+		}
+	}
+
+	private void assertNearestQueries(SpatialQuadTree<Rectangle2d> tree, List<Rectangle2d> objects) {
+		for (int i = 0; i < 20; ++i) {
+			final Point2d point = new Point2d(getRandom().nextDouble() * 140 - 20, getRandom().nextDouble() * 140 - 20);
+			final List<Rectangle2d> sorted = new ArrayList<>(objects);
+			Collections.sort(sorted, Comparator.comparingDouble((r) -> r.getDistanceSquared(point)));
+			final List<Rectangle2d> nearest = tree.getNearestData(point, 10);
+			assertEquals(10, nearest.size());
+			for (int j = 0; j < nearest.size(); ++j) {
+				assertEpsilonEquals(sorted.get(j).getDistanceSquared(point), nearest.get(j).getDistanceSquared(point));
+			}
+		}
+	}
+
+	@Test
+	public void getUserDataCount() {
+		assertEquals(COUNT, this.tree.getUserDataCount());
+		assertFalse(this.tree.add(this.objects.get(0)));
+		assertEquals(COUNT, this.tree.getUserDataCount());
+	}
+
+	@Test
+	public void contains() {
+		for (final Rectangle2d r : this.objects) {
+			assertTrue(this.tree.contains(r));
+			assertNotNull(this.tree.getNodeFor(r));
+		}
+		assertFalse(this.tree.contains(new Rectangle2d(1, 1, 1, 1)));
+	}
+
+	@Test
+	public void getDataIntersecting() {
+		assertRangeQueries(this.tree, this.objects);
+	}
+
+	@Test
+	public void getNearestData() {
+		assertNearestQueries(this.tree, this.objects);
+	}
+
+	@Test
+	public void remove() {
+		for (int i = 0; i < COUNT / 2; ++i) {
+			final Rectangle2d r = this.objects.remove(getRandom().nextInt(this.objects.size()));
+			assertTrue(this.tree.remove(r));
+			assertFalse(this.tree.remove(r));
+			assertFalse(this.tree.contains(r));
+		}
+		assertEquals(this.objects.size(), this.tree.getUserDataCount());
+		assertRangeQueries(this.tree, this.objects);
+		for (final Rectangle2d r : new ArrayList<>(this.objects)) {
+			assertTrue(this.tree.remove(r));
+		}
+		assertEquals(0, this.tree.getUserDataCount());
+		assertEquals(1, this.tree.getNodeCount());
+	}
+
+	@Test
+	public void move() {
+		for (final Rectangle2d r : this.objects) {
+			final Rectangle2d nr = randomRectangle();
+			r.set(nr.getMinX(), nr.getMinY(), nr.getWidth(), nr.getHeight());
+			assertTrue(this.tree.move(r));
+		}
+		assertFalse(this.tree.move(new Rectangle2d(1, 1, 1, 1)));
+		assertEquals(COUNT, this.tree.getUserDataCount());
+		assertRangeQueries(this.tree, this.objects);
+		assertNearestQueries(this.tree, this.objects);
+	}
+
+	@Test
+	public void clear() {
+		this.tree.clear();
+		assertEquals(0, this.tree.getUserDataCount());
+		assertFalse(this.tree.contains(this.objects.get(0)));
+		assertTrue(this.tree.getDataIntersecting(new Rectangle2d(-100, -100, 300, 300)).isEmpty());
+		assertTrue(this.tree.add(this.objects.get(0)));
+		assertSame(this.objects.get(0), this.tree.getNearestData(new Point2d(0, 0), 1).get(0));
+	}
+
+	@Test
+	public void builder() throws Exception {
+		final SpatialQuadTreeBuilder<Rectangle2d> builder = new SpatialQuadTreeBuilder<>();
+		assertEquals(SpatialQuadTree.DEFAULT_SPLITTING_COUNT, builder.getSplittingCount());
+		builder.setSplittingCount(4);
+		builder.setMaxDepth(6);
+		final SpatialQuadTree<Rectangle2d> built = builder.buildTree(this.objects);
+		assertEquals(4, built.getSplittingCount());
+		assertEquals(6, built.getMaxDepth());
+		assertEquals(COUNT, built.getUserDataCount());
+		assertTrue(built.getNodeCount() > 1);
+		assertRangeQueries(built, this.objects);
+		assertNearestQueries(built, this.objects);
+
+		final Rectangle2d r = this.objects.get(0);
+		assertTrue(built.remove(r));
+		assertTrue(built.add(r));
+		assertEquals(COUNT, built.getUserDataCount());
+	}
+
+	@Test(expected = TreeBuilderException.EmptyBoundingBoxException.class)
+	public void builderEmpty() throws Exception {
+		new SpatialQuadTreeBuilder<Rectangle2d>().buildTree(Collections.<Rectangle2d>emptyList());
+	}
+
+}
@@ -28,6 +28,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.eclipse.xtext.xbase.lib.Pure;
 
@@ -346,6 +347,47 @@ public class WeakArrayList<T> extends AbstractList<T> {
 		return unmaskNull(oldValue);
 	}
 
+	/** {@inheritDoc}
+	 *
+	 * <p>The elements are removed in a single pass over the array, whatever the number of
+	 * removed elements.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean removeIf(Predicate<? super T> filter) {
+		assert filter != null : AssertMessages.notNullParameter();
+		expurge();
+		int released = 0;
+		boolean removed = false;
+		int j = 0;
+		for (int i = 0; i < this.size; ++i) {
+			final Reference<T> ref = (Reference<T>) this.data[i];
+			final T value = ref.get();
+			if (value == null) {
+				++released;
+				this.data[i] = null;
+			} else if (filter.test(unmaskNull(value))) {
+				ref.clear();
+				removed = true;
+				this.data[i] = null;
+			} else {
+				if (i != j) {
+					this.data[j] = ref;
+					this.data[i] = null;
+				}
+				++j;
+			}
+		}
+		if (j < this.size) {
+			this.size = j;
+			this.modCount++;
+		}
+		if (released > 0) {
+			fireReferenceRelease(released);
+		}
+		return removed;
+	}
+
 	/** Add listener on reference's release.
 	 *
 	 * @param listener the listener.
@@ -0,0 +1,96 @@
+/*
+ * $Id$
+ * This file is a part of the Arakhne Foundation Classes, http://www.arakhne.org/afc
+ *
+ * Copyright (c) 2000-2012 Stephane GALLAND.
+ * Copyright (c) 2005-10, Multiagent Team, Laboratoire Systemes et Transports,
+ *                        Universite de Technologie de Belfort-Montbeliard.
+ * Copyright (c) 2013-2016 The original authors, and other authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.arakhne.afc.references;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author $Author: sgalland$
+ * @version $FullVersion$
+ * @mavengroupid $GroupId$
+ * @mavenartifactid $ArtifactId$
+ */
+@SuppressWarnings("all")
+public class WeakArrayListTest extends AbstractCollectionTestCase<List<String>> {
+
+	/**
+	 */
+	public WeakArrayListTest() {
+		super();
+	}
+
+	@Override
+	protected List<String> createCollection() {
+		return new WeakArrayList<>();
+	}
+
+	/**
+	 */
+	@Test
+	public void testRemoveIf() {
+		initCollectionWith(this.reference);
+		Assert.assertTrue(this.collection.removeIf(it -> it.endsWith("1") || it.endsWith("3"))); //$NON-NLS-1$ //$NON-NLS-2$
+		this.reference.removeIf(it -> it.endsWith("1") || it.endsWith("3")); //$NON-NLS-1$ //$NON-NLS-2$
+		Assert.assertEquals(this.reference, this.collection);
+		Assert.assertFalse(this.collection.removeIf(it -> it.startsWith("UNREF_"))); //$NON-NLS-1$
+		Assert.assertEquals(this.reference, this.collection);
+	}
+
+	/**
+	 */
+	@Test
+	public void testRemoveIfReleasedReferences() {
+		initCollectionWith(this.reference);
+		final List<WeakReference<String>> probes = new ArrayList<>();
+		for (int i = 0; i < 5; ++i) {
+			final String released = new String("RELEASED_" + i); //$NON-NLS-1$
+			probes.add(new WeakReference<>(released));
+			this.collection.add(2 * i, released);
+		}
+		final int[] releaseCount = new int[1];
+		((WeakArrayList<String>) this.collection).addReferenceListener(released -> releaseCount[0] += released);
+
+		for (int i = 0; i < 10 && !isReleased(probes); ++i) {
+			AbstractReferencableValueMapTestCase.freeMemory();
+		}
+		Assert.assertTrue(isReleased(probes));
+
+		Assert.assertTrue(this.collection.removeIf(it -> it.endsWith("0"))); //$NON-NLS-1$
+		this.reference.removeIf(it -> it.endsWith("0")); //$NON-NLS-1$
+		Assert.assertEquals(this.reference, this.collection);
+		Assert.assertEquals(probes.size(), releaseCount[0]);
+	}
+
+	private static boolean isReleased(List<WeakReference<String>> probes) {
+		for (final WeakReference<String> probe : probes) {
+			if (probe.get() != null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}